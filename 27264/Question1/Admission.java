@@ -0,0 +1,58 @@
+class Admission extends Patient {
+    private int admissionDay;
+    private String admissionDateText;
+    private int roomNumber;
+    private double roomCharges;
+
+    public Admission(int id, String createdDate, String updatedDate, String hospitalName,
+                    String address, String phoneNumber, String email, String departmentName,
+                    String departmentCode, String doctorName, String specialization,
+                    String doctorEmail, String phone, String nurseName, String shift,
+                    int yearsOfExperience, String patientName, int age, String gender,
+                    String contactNumber, String admissionDate, int roomNumber,
+                    double roomCharges) throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
+              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
+              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber);
+        
+        if (admissionDate == null || admissionDate.trim().isEmpty()) 
+            throw new HospitalDataException("Admission.admissionDate", "Admission date cannot be null");
+        if (roomCharges <= 0) 
+            throw new HospitalDataException("Admission.roomCharges", "Room charges must be > 0");
+        
+        this.admissionDay = Dates.parse(admissionDate);
+        this.admissionDateText = Dates.unparsed(admissionDate, admissionDay);
+        this.roomNumber = roomNumber;
+        this.roomCharges = roomCharges;
+    }
+
+    Admission(RowSource source, int row) {
+        super(source, row);
+        String admissionDate = source.getString(row, HospitalColumns.ADMISSION_DATE);
+        this.admissionDay = Dates.parse(admissionDate);
+        this.admissionDateText = Dates.unparsed(admissionDate, admissionDay);
+        this.roomNumber = source.getInt(row, HospitalColumns.ROOM_NUMBER);
+        this.roomCharges = source.getDouble(row, HospitalColumns.ROOM_CHARGES);
+    }
+
+    public String getAdmissionDate() { return Dates.text(admissionDay, admissionDateText); }
+    public int getAdmissionDay() { return admissionDay; }
+    public void setAdmissionDate(String admissionDate) {
+        changing(HospitalColumns.ADMISSION_DATE);
+        this.admissionDay = Dates.parse(admissionDate);
+        this.admissionDateText = Dates.unparsed(admissionDate, admissionDay);
+        changed(HospitalColumns.ADMISSION_DATE);
+    }
+    public int getRoomNumber() { return roomNumber; }
+    public void setRoomNumber(int roomNumber) {
+        changing(HospitalColumns.ROOM_NUMBER);
+        this.roomNumber = roomNumber;
+        changed(HospitalColumns.ROOM_NUMBER);
+    }
+    public double getRoomCharges() { return roomCharges; }
+    public void setRoomCharges(double roomCharges) {
+        changing(HospitalColumns.ROOM_CHARGES);
+        this.roomCharges = roomCharges;
+        changed(HospitalColumns.ROOM_CHARGES);
+    }
+}
@@ -0,0 +1,53 @@
+class Bill extends Treatment {
+    private double doctorFee;
+    private double medicineCost;
+    private double totalBill;
+
+    public Bill(int id, String createdDate, String updatedDate, String hospitalName,
+               String address, String phoneNumber, String email, String departmentName,
+               String departmentCode, String doctorName, String specialization,
+               String doctorEmail, String phone, String nurseName, String shift,
+               int yearsOfExperience, String patientName, int age, String gender,
+               String contactNumber, String admissionDate, int roomNumber,
+               double roomCharges, String diagnosis, String treatmentGiven,
+               double treatmentCost, double doctorFee, double medicineCost) 
+               throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
+              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
+              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber,
+              admissionDate, roomNumber, roomCharges, diagnosis, treatmentGiven, treatmentCost);
+        
+        if (doctorFee <= 0) throw new HospitalDataException("Bill.doctorFee", "Doctor fee must be > 0");
+        if (medicineCost <= 0) throw new HospitalDataException("Bill.medicineCost", "Medicine cost must be > 0");
+        
+        this.doctorFee = doctorFee;
+        this.medicineCost = medicineCost;
+        this.totalBill = 0;
+    }
+
+    Bill(RowSource source, int row) {
+        super(source, row);
+        this.doctorFee = source.getDouble(row, HospitalColumns.DOCTOR_FEE);
+        this.medicineCost = source.getDouble(row, HospitalColumns.MEDICINE_COST);
+        this.totalBill = source.getDouble(row, HospitalColumns.TOTAL_BILL);
+    }
+
+    public double getDoctorFee() { return doctorFee; }
+    public void setDoctorFee(double doctorFee) {
+        changing(HospitalColumns.DOCTOR_FEE);
+        this.doctorFee = doctorFee;
+        changed(HospitalColumns.DOCTOR_FEE);
+    }
+    public double getMedicineCost() { return medicineCost; }
+    public void setMedicineCost(double medicineCost) {
+        changing(HospitalColumns.MEDICINE_COST);
+        this.medicineCost = medicineCost;
+        changed(HospitalColumns.MEDICINE_COST);
+    }
+    public double getTotalBill() { return totalBill; }
+    public void setTotalBill(double totalBill) {
+        changing(HospitalColumns.TOTAL_BILL);
+        this.totalBill = totalBill;
+        changed(HospitalColumns.TOTAL_BILL);
+    }
+}
@@ -0,0 +1,31 @@
+class Department extends Hospital {
+    private DepartmentProfile profile;
+
+    public Department(int id, String createdDate, String updatedDate, String hospitalName,
+                     String address, String phoneNumber, String email, String departmentName,
+                     String departmentCode) throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email);
+        
+        this.profile = DepartmentProfile.of(departmentName, departmentCode);
+    }
+
+    Department(RowSource source, int row) {
+        super(source, row);
+        String departmentName = source.getString(row, HospitalColumns.DEPARTMENT_NAME);
+        String departmentCode = source.getString(row, HospitalColumns.DEPARTMENT_CODE);
+        this.profile = DepartmentProfile.restore(departmentName, departmentCode);
+    }
+
+    public String getDepartmentName() { return profile.getDepartmentName(); }
+    public void setDepartmentName(String departmentName) {
+        changing(HospitalColumns.DEPARTMENT_NAME);
+        profile = profile.withDepartmentName(departmentName);
+        changed(HospitalColumns.DEPARTMENT_NAME);
+    }
+    public String getDepartmentCode() { return profile.getDepartmentCode(); }
+    public void setDepartmentCode(String departmentCode) {
+        changing(HospitalColumns.DEPARTMENT_CODE);
+        profile = profile.withDepartmentCode(departmentCode);
+        changed(HospitalColumns.DEPARTMENT_CODE);
+    }
+}
@@ -0,0 +1,59 @@
+class Doctor extends Department {
+    private String doctorName;
+    private String specialization;
+    private String doctorEmail;
+    private String phone;
+
+    public Doctor(int id, String createdDate, String updatedDate, String hospitalName,
+                 String address, String phoneNumber, String email, String departmentName,
+                 String departmentCode, String doctorName, String specialization,
+                 String doctorEmail, String phone) throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
+              departmentName, departmentCode);
+        
+        if (specialization == null || specialization.trim().isEmpty()) 
+            throw new HospitalDataException("Doctor.specialization", "Specialization cannot be empty");
+        if (!FieldRules.isEmail(doctorEmail)) 
+            throw new HospitalDataException("Doctor.doctorEmail", "Invalid doctor email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new HospitalDataException("Doctor.phone", "Doctor phone must be exactly 10 digits");
+        
+        this.doctorName = doctorName;
+        this.specialization = specialization;
+        this.doctorEmail = doctorEmail;
+        this.phone = phone;
+    }
+
+    Doctor(RowSource source, int row) {
+        super(source, row);
+        this.doctorName = source.getString(row, HospitalColumns.DOCTOR_NAME);
+        this.specialization = source.getString(row, HospitalColumns.SPECIALIZATION);
+        this.doctorEmail = source.getString(row, HospitalColumns.DOCTOR_EMAIL);
+        this.phone = source.getString(row, HospitalColumns.PHONE);
+    }
+
+    public String getDoctorName() { return doctorName; }
+    public void setDoctorName(String doctorName) {
+        changing(HospitalColumns.DOCTOR_NAME);
+        this.doctorName = doctorName;
+        changed(HospitalColumns.DOCTOR_NAME);
+    }
+    public String getSpecialization() { return specialization; }
+    public void setSpecialization(String specialization) {
+        changing(HospitalColumns.SPECIALIZATION);
+        this.specialization = specialization;
+        changed(HospitalColumns.SPECIALIZATION);
+    }
+    public String getDoctorEmail() { return doctorEmail; }
+    public void setDoctorEmail(String doctorEmail) {
+        changing(HospitalColumns.DOCTOR_EMAIL);
+        this.doctorEmail = doctorEmail;
+        changed(HospitalColumns.DOCTOR_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(HospitalColumns.PHONE);
+        this.phone = phone;
+        changed(HospitalColumns.PHONE);
+    }
+}
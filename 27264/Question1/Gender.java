@@ -0,0 +1,18 @@
+enum Gender {
+    MALE("Male"),
+    FEMALE("Female"),
+    OTHER("Other");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    Gender(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
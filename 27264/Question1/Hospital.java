@@ -0,0 +1,44 @@
+class Hospital extends Entity {
+    private HospitalProfile profile;
+
+    public Hospital(int id, String createdDate, String updatedDate, String hospitalName, 
+                   String address, String phoneNumber, String email) throws HospitalDataException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = HospitalProfile.of(hospitalName, address, phoneNumber, email);
+    }
+
+    Hospital(RowSource source, int row) {
+        super(source, row);
+        String hospitalName = source.getString(row, HospitalColumns.HOSPITAL_NAME);
+        String address = source.getString(row, HospitalColumns.ADDRESS);
+        String phoneNumber = source.getString(row, HospitalColumns.PHONE_NUMBER);
+        String email = source.getString(row, HospitalColumns.EMAIL);
+        this.profile = HospitalProfile.restore(hospitalName, address, phoneNumber, email);
+    }
+
+    public String getHospitalName() { return profile.getHospitalName(); }
+    public void setHospitalName(String hospitalName) {
+        changing(HospitalColumns.HOSPITAL_NAME);
+        profile = profile.withHospitalName(hospitalName);
+        changed(HospitalColumns.HOSPITAL_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(HospitalColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(HospitalColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(HospitalColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(HospitalColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(HospitalColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(HospitalColumns.EMAIL);
+    }
+}
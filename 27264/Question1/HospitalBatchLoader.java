@@ -0,0 +1,235 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class HospitalBatchLoader implements ParallelBatch.Row {
+    public static final char DELIMITER = '|';
+    public static final int FIELD_COUNT = 28;
+
+    // The constructor's parameter names, in the order of the fields on a line
+    static final String[] FIELDS = {
+        "id", "createdDate", "updatedDate", "hospitalName", "address", "phoneNumber", "email",
+        "departmentName", "departmentCode", "doctorName", "specialization", "doctorEmail",
+        "phone", "nurseName", "shift", "yearsOfExperience", "patientName", "age", "gender",
+        "contactNumber", "admissionDate", "roomNumber", "roomCharges", "diagnosis",
+        "treatmentGiven", "treatmentCost", "doctorFee", "medicineCost"
+    };
+
+    private static final LatencyHistogram PARSE = Metrics.histogram("Hospital.parse");
+    private static final LatencyHistogram VALIDATE = Metrics.histogram("Hospital.validate");
+    private static final LatencyHistogram CONSTRUCT = Metrics.histogram("Hospital.construct");
+    private static final LatencyHistogram COMPUTE = Metrics.histogram("Hospital.compute");
+    private static final LatencyHistogram RENDER = Metrics.histogram("Hospital.render");
+
+    private final String[] fields = new String[FIELD_COUNT];
+    private final ValidationResult result = new ValidationResult();
+    private long time;
+    private int id;
+
+    public static ParallelBatch.Summary run(Path input, Path output, ParallelBatch batch) throws IOException {
+        Path rejects = Paths.get(output.toString() + ".rejects");
+        ParallelBatch.Summary summary = batch.run(input, output, rejects, HospitalBatchLoader::new);
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Batch complete: " + summary.getTotal()
+            + " rows (" + summary.getAccepted() + " accepted, " + summary.getRejected() + " rejected) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + batch.getParallelism() + " threads");
+        if (summary.getDuplicates() > 0)
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Duplicate ids: "
+                + summary.getDuplicates() + " rows repeated an earlier id (" + summary.getDuplicateIds() + ")");
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Throughput: "
+            + summary.rowsPerSecond() + " rows/s");
+        Metrics.dumpIfRequested();
+        return summary;
+    }
+
+    // The batch file's valid records by id, in file order; rows a batch run would reject are left out.
+    static Map<Integer, HospitalRecord> load(Path input) throws IOException {
+        Map<Integer, HospitalRecord> records = new LinkedHashMap<>();
+        read(input, record -> records.put(record.getId(), record));
+        return records;
+    }
+
+    // Every valid row of the batch file as columns, in file order, with the computed column filled
+    // in; the source for a Query.
+    static ColumnTable loadTable(Path input) throws IOException {
+        ColumnTable table = new ColumnTable(HospitalColumns.SCHEMA);
+        read(input, record -> HospitalColumns.append(table, record));
+        HospitalColumns.generateBill(table);
+        return table;
+    }
+
+    // Passes each valid record of the batch file to action, in file order. A row with the id of an
+    // earlier record is left out, as a batch run rejects it.
+    static void read(Path input, Consumer<HospitalRecord> action) throws IOException {
+        HospitalBatchLoader loader = new HospitalBatchLoader();
+        IdBitmap ids = new IdBitmap();
+        try (BufferedReader lines = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                if (line.isEmpty() || line.charAt(0) == '#') continue;
+                loader.time = Metrics.now();
+                try {
+                    HospitalRecord record = loader.toRecord(line);
+                    if (record != null && ids.add(record.getId())) action.accept(record);
+                } catch (HospitalDataException | NumberFormatException e) {
+                    // rejected, as in a batch run
+                }
+            }
+        }
+    }
+
+    // Rebuilds the records as they were when the journal was last written: the batch file's
+    // records with every journaled change applied on top.
+    public static Map<Integer, HospitalRecord> replay(Path input, Path journal) throws IOException {
+        Map<Integer, HospitalRecord> records = load(input);
+        ChangeJournal.Summary summary = ChangeJournal.replay(journal, HospitalColumns.ACCESSORS, records);
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Replayed " + summary.getEntries()
+            + " changes onto " + records.size() + " records in " + (summary.getElapsedNanos() / 1_000_000) + " ms ("
+            + summary.getMissing() + " for unknown records, " + summary.getMismatched() + " not matching)");
+        return records;
+    }
+
+    // Writes the batch file's valid records to a snapshot for restore to start from.
+    public static RecordSnapshot.Summary snapshot(Path input, Path snapshot) throws IOException {
+        Map<Integer, HospitalRecord> records = load(input);
+        RecordSnapshot.Summary summary = RecordSnapshot.write(snapshot, HospitalColumns.SCHEMA, records.values(),
+            HospitalColumns::append);
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Snapshot of " + summary.getRows() + " records written in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms (" + (summary.getBytes() / 1024) + " KB)");
+        return summary;
+    }
+
+    // Rebuilds the records from a snapshot, reading the mapped rows without parsing or validating
+    // them again, then applies the changes journaled since the snapshot was started. The journal
+    // may be null.
+    public static Map<Integer, HospitalRecord> restore(Path snapshot, Path journal) throws IOException {
+        long start = System.nanoTime();
+        Map<Integer, HospitalRecord> records = new LinkedHashMap<>();
+        try (RecordSnapshot rows = RecordSnapshot.open(snapshot, HospitalColumns.SCHEMA)) {
+            if (rows == null)
+                throw new IOException("No complete snapshot at " + snapshot);
+            for (HospitalRecord record : rows.records(HospitalColumns::record)) {
+                records.put(record.getId(), record);
+            }
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Restored " + records.size()
+                + " records from the snapshot in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+            if (journal != null) {
+                ChangeJournal.Summary summary = rows.replay(journal, HospitalColumns.ACCESSORS, records);
+                System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Replayed " + summary.getApplied()
+                    + " changes onto " + records.size() + " records in " + (summary.getElapsedNanos() / 1_000_000)
+                    + " ms (" + summary.getMissing() + " for unknown records, " + summary.getMismatched()
+                    + " not matching)");
+            }
+        }
+        return records;
+    }
+
+    // The ids of the batch file's valid records.
+    static IdBitmap ids(Path input) throws IOException {
+        IdBitmap ids = new IdBitmap();
+        read(input, record -> ids.add(record.getId()));
+        return ids;
+    }
+
+    // Compares the ids of two batch files' valid records, such as two loads to reconcile.
+    public static void reconcile(Path first, Path second) throws IOException {
+        long start = System.nanoTime();
+        IdBitmap firstIds = ids(first);
+        IdBitmap secondIds = ids(second);
+        IdBitmap both = IdBitmap.and(firstIds, secondIds);
+        IdBitmap onlyFirst = IdBitmap.andNot(firstIds, secondIds);
+        IdBitmap onlySecond = IdBitmap.andNot(secondIds, firstIds);
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - " + first + ": " + firstIds.size() + " ids, " + second + ": "
+            + secondIds.size() + " ids, compared in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - In both: " + both.size());
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Only in " + first + ": " + onlyFirst.size()
+            + (onlyFirst.isEmpty() ? "" : " (" + onlyFirst + ")"));
+        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Only in " + second + ": " + onlySecond.size()
+            + (onlySecond.isEmpty() ? "" : " (" + onlySecond + ")"));
+    }
+
+    @Override
+    public int id() { return id; }
+
+    @Override
+    public String process(String line, StringBuilder out) {
+        time = Metrics.now();
+        try {
+            HospitalRecord record = toRecord(line);
+            if (record == null) {
+                Metrics.countRules(result);
+                return result.toString();
+            }
+            id = record.getId();
+            double total = record.generateBill();
+            time = COMPUTE.recordSince(time);
+            out.append(record.getId()).append(DELIMITER).append(record.getPatientName()).append(DELIMITER)
+                .append(total);
+            RENDER.recordSince(time);
+            return null;
+        } catch (HospitalDataException e) {
+            Metrics.countException(e);
+            return e.getMessage();
+        } catch (NumberFormatException e) {
+            Metrics.countException(e);
+            // The one rule this loader checks itself, while parsing
+            ValidationFailureEvent.emit("Hospital", "Row.number", "Invalid number format");
+            return "Invalid number format";
+        }
+    }
+
+    // Returns null when the row breaks any rule; every violation is left in result.
+    private HospitalRecord toRecord(String line) throws HospitalDataException {
+        int count = split(line);
+        if (count != FIELD_COUNT)
+            throw new HospitalDataException("Row.fieldCount", "Expected " + FIELD_COUNT + " fields but found " + count);
+
+        int id = Integer.parseInt(fields[0]);
+        int yearsOfExperience = Integer.parseInt(fields[15]);
+        int age = Integer.parseInt(fields[17]);
+        int roomNumber = Integer.parseInt(fields[21]);
+        double roomCharges = Double.parseDouble(fields[22]);
+        double treatmentCost = Double.parseDouble(fields[25]);
+        double doctorFee = Double.parseDouble(fields[26]);
+        double medicineCost = Double.parseDouble(fields[27]);
+        time = PARSE.recordSince(time);
+
+        boolean valid = HospitalValidator.validate(id, fields[1], fields[2], fields[3], fields[4],
+            fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11],
+            fields[12], fields[13], fields[14], yearsOfExperience, fields[16], age, fields[18],
+            fields[19], fields[20], roomNumber, roomCharges, fields[23], fields[24], treatmentCost,
+            doctorFee, medicineCost, result);
+        time = VALIDATE.recordSince(time);
+        if (!valid) return null;
+
+        RecordConstructionEvent construction = new RecordConstructionEvent();
+        construction.begin();
+        HospitalRecord record = new HospitalRecord(id, fields[1], fields[2], fields[3],
+            fields[4], fields[5], fields[6], fields[7], fields[8], fields[9],
+            fields[10], fields[11], fields[12], fields[13], fields[14], yearsOfExperience,
+            fields[16], age, fields[18], fields[19], fields[20],
+            roomNumber, roomCharges, fields[23], fields[24], treatmentCost,
+            doctorFee, medicineCost);
+        construction.finish("Hospital", record, id);
+        time = CONSTRUCT.recordSince(time);
+        return record;
+    }
+
+    private int split(String line) {
+        int count = 0;
+        int from = 0;
+        int length = line.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line.charAt(i) == DELIMITER) {
+                if (count < FIELD_COUNT) fields[count] = line.substring(from, i).trim();
+                count++;
+                from = i + 1;
+            }
+        }
+        return count;
+    }
+}
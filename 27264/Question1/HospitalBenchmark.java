@@ -0,0 +1,182 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public class HospitalBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        HospitalRecord record = newRecord(1);
+
+        bench.header("HospitalRecord");
+        bench.run("new Entity", i -> new Entity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new HospitalRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("generateBill", i -> record.generateBill());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            HospitalReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            HospitalReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("HospitalRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by HospitalValidator", i -> HospitalValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "City Hospital", "12 Main Street", "0781234567", "info@cityhospital.org",
+            "Cardiology", "CAR01", "Dr. Grace Uwase", "Cardiology", "grace@cityhospital.org",
+            "0789876543", "Alice", "Day", 5, "John Doe", 42, "Male", "0781112223", "2024-03-01",
+            101, 150.0, "Hypertension", "Medication", 300.0, 120.0, 75.5, result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("HospitalRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        HospitalRecord[] records = new HospitalRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(HospitalColumns.SCHEMA, rows);
+        for (HospitalRecord r : records) HospitalColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        HospitalView view = new HospitalView(table);
+        bench.runDouble("generateBill over records", i -> {
+            double sum = 0;
+            for (HospitalRecord r : records) sum += r.generateBill();
+            return sum;
+        });
+        bench.runDouble("generateBill over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).generateBill();
+            return sum;
+        });
+        bench.run("generateBill column kernel", i -> {
+            HospitalColumns.generateBill(table);
+            return table;
+        });
+        Path file = Files.createTempFile("HospitalRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, HospitalColumns.SCHEMA)) {
+            for (HospitalRecord r : records) HospitalColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, HospitalColumns.SCHEMA)) {
+            HospitalView mapped = new HospitalView(reader);
+            bench.runDouble("generateBill over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).generateBill();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<HospitalRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            HospitalReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            HospitalReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+        String queryFile = System.getProperty("bench.queryFile");
+        if (queryFile != null) queries(Paths.get(queryFile));
+    }
+
+    // Total bill per department for March admissions over a batch file's records: a hand-written
+    // loop over the records, then a Query over their columns on one thread and on several.
+    static void queries(Path input) throws Exception {
+        Map<Integer, HospitalRecord> records = HospitalBatchLoader.load(input);
+        ColumnTable table = HospitalColumns.table(records.values());
+        MicroBench bench = new MicroBench();
+        bench.header("March bills by department x " + table.size() + " rows");
+        bench.run("loop over records", i -> {
+            Map<String, double[]> bills = new HashMap<>();
+            for (HospitalRecord r : records.values()) {
+                String day = r.getAdmissionDate();
+                if (day.compareTo("2024-03-01") < 0 || day.compareTo("2024-03-31") > 0) continue;
+                bills.computeIfAbsent(r.getDepartmentCode(), key -> new double[1])[0] += r.generateBill();
+            }
+            return bills;
+        });
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads : new TreeSet<>(Arrays.asList(1, 4, processors))) {
+            Query query = Query.from(table)
+                .where(Condition.between("admissionDate", "2024-03-01", "2024-03-31"))
+                .groupBy("departmentCode").sum("totalBill").parallelism(threads);
+            bench.run("query on " + threads + " threads", i -> query.run());
+        }
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws HospitalDataException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        HospitalRecord[] records = new HospitalRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (HospitalDataException e) {
+            return e;
+        }
+    }
+
+    static HospitalRecord newRecord(int id) throws HospitalDataException {
+        return new HospitalRecord(id, "2024-01-01", "2024-01-02", "City Hospital", "12 Main Street",
+            "0781234567", "info@cityhospital.org", "Cardiology", "CAR01", "Dr. Grace Uwase",
+            "Cardiology", "grace@cityhospital.org", "0789876543", "Alice", "Day", 5, "John Doe", 42,
+            "Male", "0781112223", "2024-03-01", 101, 150.0, "Hypertension", "Medication", 300.0,
+            120.0, 75.5);
+    }
+
+    static HospitalRecord newParsedRecord(int id, int organization) throws HospitalDataException {
+        return new HospitalRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "City Hospital" + organization, fresh("12 Main Street"), fresh("0781234567"),
+            fresh("info@cityhospital.org"), fresh("Cardiology"), fresh("CAR01"),
+            fresh("Dr. Grace Uwase"), fresh("Cardiology"), fresh("grace@cityhospital.org"),
+            fresh("0789876543"), fresh("Alice"), fresh("Day"), 5, fresh("John Doe"), 42,
+            fresh("Male"), fresh("0781112223"), fresh("2024-03-01"), 101, 150.0,
+            fresh("Hypertension"), fresh("Medication"), 300.0, 120.0, 75.5);
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,146 @@
+import java.util.Collection;
+
+final class HospitalColumns {
+    static final Schema SCHEMA = new Schema("HospitalRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int HOSPITAL_NAME = SCHEMA.add("hospitalName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int DEPARTMENT_NAME = SCHEMA.add("departmentName", ColumnType.DICT);
+    static final int DEPARTMENT_CODE = SCHEMA.add("departmentCode", ColumnType.DICT);
+    static final int DOCTOR_NAME = SCHEMA.add("doctorName", ColumnType.DICT);
+    static final int SPECIALIZATION = SCHEMA.add("specialization", ColumnType.DICT);
+    static final int DOCTOR_EMAIL = SCHEMA.add("doctorEmail", ColumnType.DICT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.DICT);
+    static final int NURSE_NAME = SCHEMA.add("nurseName", ColumnType.DICT);
+    static final int SHIFT = SCHEMA.add("shift", Shift.CODES);
+    static final int YEARS_OF_EXPERIENCE = SCHEMA.add("yearsOfExperience", ColumnType.INT);
+    static final int PATIENT_NAME = SCHEMA.add("patientName", ColumnType.TEXT);
+    static final int AGE = SCHEMA.add("age", ColumnType.INT);
+    static final int GENDER = SCHEMA.add("gender", Gender.CODES);
+    static final int CONTACT_NUMBER = SCHEMA.add("contactNumber", ColumnType.TEXT);
+    static final int ADMISSION_DATE = SCHEMA.add("admissionDate", ColumnType.DATE);
+    static final int ROOM_NUMBER = SCHEMA.add("roomNumber", ColumnType.INT);
+    static final int ROOM_CHARGES = SCHEMA.add("roomCharges", ColumnType.MONEY);
+    static final int DIAGNOSIS = SCHEMA.add("diagnosis", ColumnType.DICT);
+    static final int TREATMENT_GIVEN = SCHEMA.add("treatmentGiven", ColumnType.DICT);
+    static final int TREATMENT_COST = SCHEMA.add("treatmentCost", ColumnType.MONEY);
+    static final int DOCTOR_FEE = SCHEMA.add("doctorFee", ColumnType.MONEY);
+    static final int MEDICINE_COST = SCHEMA.add("medicineCost", ColumnType.MONEY);
+    static final int TOTAL_BILL = SCHEMA.add("totalBill", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<HospitalRecord> ACCESSORS = new ColumnAccessors<HospitalRecord>(SCHEMA)
+        .addInt(ID, HospitalRecord::getId, HospitalRecord::setId)
+        .addString(CREATED_DATE, HospitalRecord::getCreatedDate, HospitalRecord::setCreatedDate)
+        .addString(UPDATED_DATE, HospitalRecord::getUpdatedDate, HospitalRecord::setUpdatedDate)
+        .addString(HOSPITAL_NAME, HospitalRecord::getHospitalName, HospitalRecord::setHospitalName)
+        .addString(ADDRESS, HospitalRecord::getAddress, HospitalRecord::setAddress)
+        .addString(PHONE_NUMBER, HospitalRecord::getPhoneNumber, HospitalRecord::setPhoneNumber)
+        .addString(EMAIL, HospitalRecord::getEmail, HospitalRecord::setEmail)
+        .addString(DEPARTMENT_NAME, HospitalRecord::getDepartmentName, HospitalRecord::setDepartmentName)
+        .addString(DEPARTMENT_CODE, HospitalRecord::getDepartmentCode, HospitalRecord::setDepartmentCode)
+        .addString(DOCTOR_NAME, HospitalRecord::getDoctorName, HospitalRecord::setDoctorName)
+        .addString(SPECIALIZATION, HospitalRecord::getSpecialization, HospitalRecord::setSpecialization)
+        .addString(DOCTOR_EMAIL, HospitalRecord::getDoctorEmail, HospitalRecord::setDoctorEmail)
+        .addString(PHONE, HospitalRecord::getPhone, HospitalRecord::setPhone)
+        .addString(NURSE_NAME, HospitalRecord::getNurseName, HospitalRecord::setNurseName)
+        .addString(SHIFT, HospitalRecord::getShift, HospitalRecord::setShift)
+        .addInt(YEARS_OF_EXPERIENCE, HospitalRecord::getYearsOfExperience, HospitalRecord::setYearsOfExperience)
+        .addString(PATIENT_NAME, HospitalRecord::getPatientName, HospitalRecord::setPatientName)
+        .addInt(AGE, HospitalRecord::getAge, HospitalRecord::setAge)
+        .addString(GENDER, HospitalRecord::getGender, HospitalRecord::setGender)
+        .addString(CONTACT_NUMBER, HospitalRecord::getContactNumber, HospitalRecord::setContactNumber)
+        .addString(ADMISSION_DATE, HospitalRecord::getAdmissionDate, HospitalRecord::setAdmissionDate)
+        .addInt(ROOM_NUMBER, HospitalRecord::getRoomNumber, HospitalRecord::setRoomNumber)
+        .addDouble(ROOM_CHARGES, HospitalRecord::getRoomCharges, HospitalRecord::setRoomCharges)
+        .addString(DIAGNOSIS, HospitalRecord::getDiagnosis, HospitalRecord::setDiagnosis)
+        .addString(TREATMENT_GIVEN, HospitalRecord::getTreatmentGiven, HospitalRecord::setTreatmentGiven)
+        .addDouble(TREATMENT_COST, HospitalRecord::getTreatmentCost, HospitalRecord::setTreatmentCost)
+        .addDouble(DOCTOR_FEE, HospitalRecord::getDoctorFee, HospitalRecord::setDoctorFee)
+        .addDouble(MEDICINE_COST, HospitalRecord::getMedicineCost, HospitalRecord::setMedicineCost)
+        .addDouble(TOTAL_BILL, HospitalRecord::getTotalBill, HospitalRecord::setTotalBill)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "contactNumber" };
+
+    static RecordIndexes<HospitalRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, HospitalRecord::indexedBy, expectedSize, columns);
+    }
+
+    private HospitalColumns() {
+    }
+
+    static int append(RowSink table, HospitalRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, HOSPITAL_NAME, record.getHospitalName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, DEPARTMENT_NAME, record.getDepartmentName());
+        table.setString(row, DEPARTMENT_CODE, record.getDepartmentCode());
+        table.setString(row, DOCTOR_NAME, record.getDoctorName());
+        table.setString(row, SPECIALIZATION, record.getSpecialization());
+        table.setString(row, DOCTOR_EMAIL, record.getDoctorEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, NURSE_NAME, record.getNurseName());
+        table.setString(row, SHIFT, record.getShift());
+        table.setInt(row, YEARS_OF_EXPERIENCE, record.getYearsOfExperience());
+        table.setString(row, PATIENT_NAME, record.getPatientName());
+        table.setInt(row, AGE, record.getAge());
+        table.setString(row, GENDER, record.getGender());
+        table.setString(row, CONTACT_NUMBER, record.getContactNumber());
+        table.setString(row, ADMISSION_DATE, record.getAdmissionDate());
+        table.setInt(row, ROOM_NUMBER, record.getRoomNumber());
+        table.setDouble(row, ROOM_CHARGES, record.getRoomCharges());
+        table.setString(row, DIAGNOSIS, record.getDiagnosis());
+        table.setString(row, TREATMENT_GIVEN, record.getTreatmentGiven());
+        table.setDouble(row, TREATMENT_COST, record.getTreatmentCost());
+        table.setDouble(row, DOCTOR_FEE, record.getDoctorFee());
+        table.setDouble(row, MEDICINE_COST, record.getMedicineCost());
+        table.setDouble(row, TOTAL_BILL, record.getTotalBill());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static HospitalRecord record(RowSource source, int row) {
+        return new HospitalRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<HospitalRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (HospitalRecord record : records) append(table, record);
+        generateBill(table);
+        return table;
+    }
+
+    static void generateBill(ColumnTable table) {
+        long[] roomCharges = table.cents(ROOM_CHARGES);
+        long[] treatmentCost = table.cents(TREATMENT_COST);
+        long[] doctorFee = table.cents(DOCTOR_FEE);
+        long[] medicineCost = table.cents(MEDICINE_COST);
+        long[] totalBill = table.cents(TOTAL_BILL);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalBill[row] = roomCharges[row] + treatmentCost[row] + doctorFee[row] + medicineCost[row];
+        }
+    }
+
+    static int[] admittedBetween(ColumnTable table, int fromDay, int toDay) {
+        return table.rowsBetween(ADMISSION_DATE, fromDay, toDay);
+    }
+
+    // Total bill per shift, indexed by Shift.code().
+    static long[] billsByShift(ColumnTable table) {
+        return Shift.CODES.sum(table.bytes(SHIFT), table.cents(TOTAL_BILL), table.size());
+    }
+}
@@ -0,0 +1,88 @@
+import java.io.IOException;
+
+class HospitalGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address; the first entries are the busiest
+    private static final String[][] HOSPITALS = {
+        { "City Hospital", "cityhospital.org", "12 Main Street" },
+        { "King Faisal Hospital", "kfh.rw", "KG 544 St" },
+        { "Kibagabaga Hospital", "kibagabaga.rw", "KG 19 Ave" },
+        { "Muhima Hospital", "muhima.rw", "KN 2 Ave" },
+        { "Kacyiru Hospital", "kacyiru.rw", "KG 7 Ave" },
+        { "Masaka Hospital", "masaka.rw", "KK 737 St" }
+    };
+    private static final String[][] DEPARTMENTS = {
+        { "Cardiology", "CAR" }, { "Pediatrics", "PED" }, { "Neurology", "NEU" }, { "Orthopedics", "ORT" },
+        { "Oncology", "ONC" }, { "Radiology", "RAD" }, { "Dermatology", "DER" }, { "Surgery", "SUR" }
+    };
+    private static final String[] DIAGNOSES = {
+        "Hypertension", "Malaria", "Fracture", "Diabetes", "Pneumonia", "Migraine", "Asthma", "Appendicitis"
+    };
+    private static final String[] TREATMENTS = { "Medication", "Surgery", "Physiotherapy", "Observation", "Therapy" };
+    private static final Shift[] SHIFTS = Shift.values();
+    private static final Gender[] GENDERS = Gender.values();
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.empty(10), SyntheticData.email(11),
+        SyntheticData.phone(12), SyntheticData.unknown(14), SyntheticData.negative(15),
+        SyntheticData.notPositive(17), SyntheticData.unknown(18), SyntheticData.empty(20),
+        SyntheticData.notPositive(22), SyntheticData.empty(23), SyntheticData.empty(24),
+        SyntheticData.notPositive(25), SyntheticData.notPositive(26), SyntheticData.notPositive(27)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new HospitalGenerator(), rows, output);
+        SyntheticData.log(output).println(Question1_HospitalManagement.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return HospitalBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] hospital = source.pickSkewed(HOSPITALS);
+        String[] department = source.pickSkewed(DEPARTMENTS);
+        String doctor = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        long roomCharges = source.cents(5_000, 60_000);
+        int nights = source.between(1, 14);
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = hospital[0];
+        fields[4] = hospital[2];
+        fields[5] = source.phone();
+        fields[6] = "info@" + hospital[1];
+        fields[7] = department[0];
+        fields[8] = department[1] + "0" + source.between(1, 9);
+        fields[9] = "Dr. " + doctor;
+        fields[10] = department[0];
+        fields[11] = source.email(doctor, hospital[1]);
+        fields[12] = source.phone();
+        fields[13] = source.name();
+        fields[14] = source.pick(SHIFTS).toString();
+        fields[15] = Integer.toString(source.nextInt(31));
+        fields[16] = source.name();
+        fields[17] = Integer.toString(source.between(1, 95));
+        fields[18] = source.pick(GENDERS).toString();
+        fields[19] = source.phone();
+        fields[20] = SyntheticData.date(created + source.nextInt(60));
+        fields[21] = Integer.toString(source.between(100, 499));
+        fields[22] = SyntheticData.money(roomCharges * nights);
+        fields[23] = source.pick(DIAGNOSES);
+        fields[24] = source.pick(TREATMENTS);
+        fields[25] = source.money(2_000, 200_000);
+        fields[26] = source.money(5_000, 50_000);
+        fields[27] = source.money(500, 30_000);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class HospitalProfile {
+    private static final Interner<HospitalProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<HospitalProfile> RESTORED = new Interner<>();
+
+    private final String hospitalName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private HospitalProfile(String hospitalName, String address, String phoneNumber, String email) {
+        this.hospitalName = hospitalName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(hospitalName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static HospitalProfile of(String hospitalName, String address, String phoneNumber, String email)
+            throws HospitalDataException {
+        HospitalProfile candidate = new HospitalProfile(hospitalName, address, phoneNumber, email);
+        HospitalProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new HospitalDataException("Hospital.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new HospitalDataException("Hospital.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static HospitalProfile restore(String hospitalName, String address, String phoneNumber, String email) {
+        HospitalProfile candidate = new HospitalProfile(hospitalName, address, phoneNumber, email);
+        HospitalProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getHospitalName() { return hospitalName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    HospitalProfile withHospitalName(String hospitalName) {
+        return new HospitalProfile(hospitalName, address, phoneNumber, email);
+    }
+
+    HospitalProfile withAddress(String address) {
+        return new HospitalProfile(hospitalName, address, phoneNumber, email);
+    }
+
+    HospitalProfile withPhoneNumber(String phoneNumber) {
+        return new HospitalProfile(hospitalName, address, phoneNumber, email);
+    }
+
+    HospitalProfile withEmail(String email) {
+        return new HospitalProfile(hospitalName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof HospitalProfile)) return false;
+        HospitalProfile that = (HospitalProfile) other;
+        return hash == that.hash
+            && Objects.equals(hospitalName, that.hospitalName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,102 @@
+final class HospitalRecord extends Bill {
+    // The columns the total bill is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS = 1L << HospitalColumns.ROOM_CHARGES | 1L << HospitalColumns.TREATMENT_COST
+        | 1L << HospitalColumns.DOCTOR_FEE | 1L << HospitalColumns.MEDICINE_COST;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<HospitalRecord> indexes;
+
+    public HospitalRecord(int id, String createdDate, String updatedDate, String hospitalName,
+                         String address, String phoneNumber, String email, String departmentName,
+                         String departmentCode, String doctorName, String specialization,
+                         String doctorEmail, String phone, String nurseName, String shift,
+                         int yearsOfExperience, String patientName, int age, String gender,
+                         String contactNumber, String admissionDate, int roomNumber,
+                         double roomCharges, String diagnosis, String treatmentGiven,
+                         double treatmentCost, double doctorFee, double medicineCost) 
+                         throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
+              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
+              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber,
+              admissionDate, roomNumber, roomCharges, diagnosis, treatmentGiven, treatmentCost,
+              doctorFee, medicineCost);
+    }
+
+    // Restores a record for HospitalColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    HospitalRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double generateBill() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double total = bill();
+        setTotalBill(total);
+        computed = true;
+        event.finish("Hospital", "generateBill", getId(), total);
+        return total;
+    }
+
+    // Counts this record's total bill in one group of totals and keeps the group's sum current as the
+    // record changes, computing the total bill first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) generateBill();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getTotalBill()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != HospitalColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of Hospital records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<HospitalRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = HospitalColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == HospitalColumns.ID ? (Integer) before : getId(), column, before,
+                HospitalColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == HospitalColumns.TOTAL_BILL) {
+            if (tracked != null) tracked.set(Money.of(getTotalBill()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setTotalBill(bill());
+        }
+    }
+
+    private double bill() {
+        return Money.toDouble(Money.add(Money.of(getRoomCharges()), Money.of(getTreatmentCost()),
+            Money.of(getDoctorFee()), Money.of(getMedicineCost())));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        HospitalReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
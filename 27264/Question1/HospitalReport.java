@@ -0,0 +1,131 @@
+import java.util.List;
+
+class HospitalReport {
+    private static final String ID = Question1_HospitalManagement.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== HOSPITAL MANAGEMENT SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] HOSPITAL_DETAILS = ReportWriter.label("\n" + ID + " - --- Hospital Details ---");
+    private static final byte[] HOSPITAL_NAME = ReportWriter.label(ID + " - Hospital Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] DEPARTMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Department Details ---");
+    private static final byte[] DEPARTMENT = ReportWriter.label(ID + " - Department: ");
+    private static final byte[] DEPARTMENT_CODE = ReportWriter.label(ID + " - Department Code: ");
+    private static final byte[] DOCTOR_DETAILS = ReportWriter.label("\n" + ID + " - --- Doctor Details ---");
+    private static final byte[] DOCTOR_NAME = ReportWriter.label(ID + " - Doctor Name: ");
+    private static final byte[] SPECIALIZATION = ReportWriter.label(ID + " - Specialization: ");
+    private static final byte[] DOCTOR_EMAIL = ReportWriter.label(ID + " - Doctor Email: ");
+    private static final byte[] DOCTOR_PHONE = ReportWriter.label(ID + " - Doctor Phone: ");
+    private static final byte[] NURSE_DETAILS = ReportWriter.label("\n" + ID + " - --- Nurse Details ---");
+    private static final byte[] NURSE_NAME = ReportWriter.label(ID + " - Nurse Name: ");
+    private static final byte[] SHIFT = ReportWriter.label(ID + " - Shift: ");
+    private static final byte[] YEARS_OF_EXPERIENCE = ReportWriter.label(ID + " - Years of Experience: ");
+    private static final byte[] PATIENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Patient Details ---");
+    private static final byte[] PATIENT_NAME = ReportWriter.label(ID + " - Patient Name: ");
+    private static final byte[] AGE = ReportWriter.label(ID + " - Age: ");
+    private static final byte[] GENDER = ReportWriter.label(ID + " - Gender: ");
+    private static final byte[] CONTACT_NUMBER = ReportWriter.label(ID + " - Contact Number: ");
+    private static final byte[] ADMISSION_DETAILS = ReportWriter.label("\n" + ID + " - --- Admission Details ---");
+    private static final byte[] ADMISSION_DATE = ReportWriter.label(ID + " - Admission Date: ");
+    private static final byte[] ROOM_NUMBER = ReportWriter.label(ID + " - Room Number: ");
+    private static final byte[] ROOM_CHARGES = ReportWriter.label(ID + " - Room Charges: $");
+    private static final byte[] TREATMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Treatment Details ---");
+    private static final byte[] DIAGNOSIS = ReportWriter.label(ID + " - Diagnosis: ");
+    private static final byte[] TREATMENT_GIVEN = ReportWriter.label(ID + " - Treatment Given: ");
+    private static final byte[] TREATMENT_COST = ReportWriter.label(ID + " - Treatment Cost: $");
+    private static final byte[] BILLING_DETAILS = ReportWriter.label("\n" + ID + " - --- Billing Details ---");
+    private static final byte[] DOCTOR_FEE = ReportWriter.label(ID + " - Doctor Fee: $");
+    private static final byte[] MEDICINE_COST = ReportWriter.label(ID + " - Medicine Cost: $");
+    private static final byte[] TOTAL_BILL = ReportWriter.label(ID + " - Total Bill: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ===============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(HospitalRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(HOSPITAL_DETAILS).newLine();
+        out.write(HOSPITAL_NAME).write(record.getHospitalName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(DEPARTMENT_DETAILS).newLine();
+        out.write(DEPARTMENT).write(record.getDepartmentName()).newLine();
+        out.write(DEPARTMENT_CODE).write(record.getDepartmentCode()).newLine();
+        out.write(DOCTOR_DETAILS).newLine();
+        out.write(DOCTOR_NAME).write(record.getDoctorName()).newLine();
+        out.write(SPECIALIZATION).write(record.getSpecialization()).newLine();
+        out.write(DOCTOR_EMAIL).write(record.getDoctorEmail()).newLine();
+        out.write(DOCTOR_PHONE).write(record.getPhone()).newLine();
+        out.write(NURSE_DETAILS).newLine();
+        out.write(NURSE_NAME).write(record.getNurseName()).newLine();
+        out.write(SHIFT).write(record.getShift()).newLine();
+        out.write(YEARS_OF_EXPERIENCE).write(record.getYearsOfExperience()).newLine();
+        out.write(PATIENT_DETAILS).newLine();
+        out.write(PATIENT_NAME).write(record.getPatientName()).newLine();
+        out.write(AGE).write(record.getAge()).newLine();
+        out.write(GENDER).write(record.getGender()).newLine();
+        out.write(CONTACT_NUMBER).write(record.getContactNumber()).newLine();
+        out.write(ADMISSION_DETAILS).newLine();
+        out.write(ADMISSION_DATE).write(record.getAdmissionDate()).newLine();
+        out.write(ROOM_NUMBER).write(record.getRoomNumber()).newLine();
+        out.write(ROOM_CHARGES).write(record.getRoomCharges()).newLine();
+        out.write(TREATMENT_DETAILS).newLine();
+        out.write(DIAGNOSIS).write(record.getDiagnosis()).newLine();
+        out.write(TREATMENT_GIVEN).write(record.getTreatmentGiven()).newLine();
+        out.write(TREATMENT_COST).write(record.getTreatmentCost()).newLine();
+        out.write(BILLING_DETAILS).newLine();
+        out.write(DOCTOR_FEE).write(record.getDoctorFee()).newLine();
+        out.write(MEDICINE_COST).write(record.getMedicineCost()).newLine();
+        out.write(TOTAL_BILL).write(record.getTotalBill()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(HospitalRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getHospitalName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getDepartmentName()).write(SEPARATOR);
+        out.write(record.getDepartmentCode()).write(SEPARATOR);
+        out.write(record.getDoctorName()).write(SEPARATOR);
+        out.write(record.getSpecialization()).write(SEPARATOR);
+        out.write(record.getDoctorEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getNurseName()).write(SEPARATOR);
+        out.write(record.getShift()).write(SEPARATOR);
+        out.write(record.getYearsOfExperience()).write(SEPARATOR);
+        out.write(record.getPatientName()).write(SEPARATOR);
+        out.write(record.getAge()).write(SEPARATOR);
+        out.write(record.getGender()).write(SEPARATOR);
+        out.write(record.getContactNumber()).write(SEPARATOR);
+        out.write(record.getAdmissionDate()).write(SEPARATOR);
+        out.write(record.getRoomNumber()).write(SEPARATOR);
+        out.write(record.getRoomCharges()).write(SEPARATOR);
+        out.write(record.getDiagnosis()).write(SEPARATOR);
+        out.write(record.getTreatmentGiven()).write(SEPARATOR);
+        out.write(record.getTreatmentCost()).write(SEPARATOR);
+        out.write(record.getDoctorFee()).write(SEPARATOR);
+        out.write(record.getMedicineCost()).write(SEPARATOR);
+        out.write(record.getTotalBill()).newLine();
+    }
+
+    static void writeAll(List<HospitalRecord> records, ReportWriter out, boolean compact) {
+        for (HospitalRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,54 @@
+class HospitalValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String hospitalName,
+            String address, String phoneNumber, String email, String departmentName,
+            String departmentCode, String doctorName, String specialization, String doctorEmail,
+            String phone, String nurseName, String shift, int yearsOfExperience, String patientName,
+            int age, String gender, String contactNumber, String admissionDate, int roomNumber,
+            double roomCharges, String diagnosis, String treatmentGiven, double treatmentCost,
+            double doctorFee, double medicineCost, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("Entity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("Entity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("Hospital.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("Hospital.email", "Invalid email format");
+        if (!FieldRules.isCode(departmentCode))
+            result.add("Department.departmentCode", "Department code must be alphanumeric and at least 3 characters");
+        if (specialization == null || specialization.trim().isEmpty())
+            result.add("Doctor.specialization", "Specialization cannot be empty");
+        if (!FieldRules.isEmail(doctorEmail))
+            result.add("Doctor.doctorEmail", "Invalid doctor email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("Doctor.phone", "Doctor phone must be exactly 10 digits");
+        if (!Shift.CODES.contains(shift))
+            result.add("Nurse.shift", "Shift must be 'Day' or 'Night'");
+        if (yearsOfExperience < 0)
+            result.add("Nurse.yearsOfExperience", "Years of experience must be >= 0");
+        if (age <= 0)
+            result.add("Patient.age", "Age must be > 0");
+        if (!Gender.CODES.contains(gender))
+            result.add("Patient.gender", "Gender must be 'Male', 'Female', or 'Other'");
+        if (admissionDate == null || admissionDate.trim().isEmpty())
+            result.add("Admission.admissionDate", "Admission date cannot be null");
+        if (roomCharges <= 0)
+            result.add("Admission.roomCharges", "Room charges must be > 0");
+        if (treatmentCost <= 0)
+            result.add("Treatment.treatmentCost", "Treatment cost must be > 0");
+        if (diagnosis == null || diagnosis.trim().isEmpty())
+            result.add("Treatment.diagnosis", "Diagnosis cannot be empty");
+        if (treatmentGiven == null || treatmentGiven.trim().isEmpty())
+            result.add("Treatment.treatmentGiven", "Treatment given cannot be empty");
+        if (doctorFee <= 0)
+            result.add("Bill.doctorFee", "Doctor fee must be > 0");
+        if (medicineCost <= 0)
+            result.add("Bill.medicineCost", "Medicine cost must be > 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Hospital", result);
+        return false;
+    }
+}
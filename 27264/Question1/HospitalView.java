@@ -0,0 +1,59 @@
+final class HospitalView {
+    private final RowSource source;
+    private int row;
+
+    HospitalView(RowSource source) {
+        this.source = source;
+    }
+
+    public HospitalView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, HospitalColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, HospitalColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, HospitalColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, HospitalColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, HospitalColumns.UPDATED_DATE); }
+    public String getHospitalName() { return source.getString(row, HospitalColumns.HOSPITAL_NAME); }
+    public String getAddress() { return source.getString(row, HospitalColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, HospitalColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, HospitalColumns.EMAIL); }
+    public String getDepartmentName() { return source.getString(row, HospitalColumns.DEPARTMENT_NAME); }
+    public String getDepartmentCode() { return source.getString(row, HospitalColumns.DEPARTMENT_CODE); }
+    public String getDoctorName() { return source.getString(row, HospitalColumns.DOCTOR_NAME); }
+    public String getSpecialization() { return source.getString(row, HospitalColumns.SPECIALIZATION); }
+    public String getDoctorEmail() { return source.getString(row, HospitalColumns.DOCTOR_EMAIL); }
+    public String getPhone() { return source.getString(row, HospitalColumns.PHONE); }
+    public String getNurseName() { return source.getString(row, HospitalColumns.NURSE_NAME); }
+    public String getShift() { return source.getString(row, HospitalColumns.SHIFT); }
+    public byte getShiftCode() { return (byte) source.getInt(row, HospitalColumns.SHIFT); }
+    public int getYearsOfExperience() { return source.getInt(row, HospitalColumns.YEARS_OF_EXPERIENCE); }
+    public String getPatientName() { return source.getString(row, HospitalColumns.PATIENT_NAME); }
+    public int getAge() { return source.getInt(row, HospitalColumns.AGE); }
+    public String getGender() { return source.getString(row, HospitalColumns.GENDER); }
+    public byte getGenderCode() { return (byte) source.getInt(row, HospitalColumns.GENDER); }
+    public String getContactNumber() { return source.getString(row, HospitalColumns.CONTACT_NUMBER); }
+    public String getAdmissionDate() { return source.getString(row, HospitalColumns.ADMISSION_DATE); }
+    public int getAdmissionDay() { return source.getInt(row, HospitalColumns.ADMISSION_DATE); }
+    public int getRoomNumber() { return source.getInt(row, HospitalColumns.ROOM_NUMBER); }
+    public double getRoomCharges() { return source.getDouble(row, HospitalColumns.ROOM_CHARGES); }
+    public String getDiagnosis() { return source.getString(row, HospitalColumns.DIAGNOSIS); }
+    public String getTreatmentGiven() { return source.getString(row, HospitalColumns.TREATMENT_GIVEN); }
+    public double getTreatmentCost() { return source.getDouble(row, HospitalColumns.TREATMENT_COST); }
+    public double getDoctorFee() { return source.getDouble(row, HospitalColumns.DOCTOR_FEE); }
+    public double getMedicineCost() { return source.getDouble(row, HospitalColumns.MEDICINE_COST); }
+    public double getTotalBill() { return source.getDouble(row, HospitalColumns.TOTAL_BILL); }
+
+    public double generateBill() {
+        return Money.toDouble(Money.add(cents(HospitalColumns.ROOM_CHARGES), cents(HospitalColumns.TREATMENT_COST),
+            cents(HospitalColumns.DOCTOR_FEE), cents(HospitalColumns.MEDICINE_COST)));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
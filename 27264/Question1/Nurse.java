@@ -0,0 +1,54 @@
+class Nurse extends Doctor {
+    private String nurseName;
+    private byte shift;
+    private String shiftText;
+    private int yearsOfExperience;
+
+    public Nurse(int id, String createdDate, String updatedDate, String hospitalName,
+                String address, String phoneNumber, String email, String departmentName,
+                String departmentCode, String doctorName, String specialization,
+                String doctorEmail, String phone, String nurseName, String shift,
+                int yearsOfExperience) throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
+              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone);
+        
+        if (!Shift.CODES.contains(shift)) 
+            throw new HospitalDataException("Nurse.shift", "Shift must be 'Day' or 'Night'");
+        if (yearsOfExperience < 0) 
+            throw new HospitalDataException("Nurse.yearsOfExperience", "Years of experience must be >= 0");
+        
+        this.nurseName = nurseName;
+        this.shift = Shift.CODES.parse(shift);
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    Nurse(RowSource source, int row) {
+        super(source, row);
+        String shift = source.getString(row, HospitalColumns.SHIFT);
+        this.nurseName = source.getString(row, HospitalColumns.NURSE_NAME);
+        this.shift = Shift.CODES.parse(shift);
+        this.shiftText = Shift.CODES.unparsed(shift, this.shift);
+        this.yearsOfExperience = source.getInt(row, HospitalColumns.YEARS_OF_EXPERIENCE);
+    }
+
+    public String getNurseName() { return nurseName; }
+    public void setNurseName(String nurseName) {
+        changing(HospitalColumns.NURSE_NAME);
+        this.nurseName = nurseName;
+        changed(HospitalColumns.NURSE_NAME);
+    }
+    public String getShift() { return Shift.CODES.text(shift, shiftText); }
+    public byte getShiftCode() { return shift; }
+    public void setShift(String shift) {
+        changing(HospitalColumns.SHIFT);
+        this.shift = Shift.CODES.parse(shift);
+        this.shiftText = Shift.CODES.unparsed(shift, this.shift);
+        changed(HospitalColumns.SHIFT);
+    }
+    public int getYearsOfExperience() { return yearsOfExperience; }
+    public void setYearsOfExperience(int yearsOfExperience) {
+        changing(HospitalColumns.YEARS_OF_EXPERIENCE);
+        this.yearsOfExperience = yearsOfExperience;
+        changed(HospitalColumns.YEARS_OF_EXPERIENCE);
+    }
+}
@@ -0,0 +1,64 @@
+class Patient extends Nurse {
+    private String patientName;
+    private int age;
+    private byte gender;
+    private String genderText;
+    private String contactNumber;
+
+    public Patient(int id, String createdDate, String updatedDate, String hospitalName,
+                  String address, String phoneNumber, String email, String departmentName,
+                  String departmentCode, String doctorName, String specialization,
+                  String doctorEmail, String phone, String nurseName, String shift,
+                  int yearsOfExperience, String patientName, int age, String gender,
+                  String contactNumber) throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
+              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
+              nurseName, shift, yearsOfExperience);
+        
+        if (age <= 0) throw new HospitalDataException("Patient.age", "Age must be > 0");
+        if (!Gender.CODES.contains(gender)) 
+            throw new HospitalDataException("Patient.gender", "Gender must be 'Male', 'Female', or 'Other'");
+        
+        this.patientName = patientName;
+        this.age = age;
+        this.gender = Gender.CODES.parse(gender);
+        this.contactNumber = contactNumber;
+    }
+
+    Patient(RowSource source, int row) {
+        super(source, row);
+        String gender = source.getString(row, HospitalColumns.GENDER);
+        this.patientName = source.getString(row, HospitalColumns.PATIENT_NAME);
+        this.age = source.getInt(row, HospitalColumns.AGE);
+        this.gender = Gender.CODES.parse(gender);
+        this.genderText = Gender.CODES.unparsed(gender, this.gender);
+        this.contactNumber = source.getString(row, HospitalColumns.CONTACT_NUMBER);
+    }
+
+    public String getPatientName() { return patientName; }
+    public void setPatientName(String patientName) {
+        changing(HospitalColumns.PATIENT_NAME);
+        this.patientName = patientName;
+        changed(HospitalColumns.PATIENT_NAME);
+    }
+    public int getAge() { return age; }
+    public void setAge(int age) {
+        changing(HospitalColumns.AGE);
+        this.age = age;
+        changed(HospitalColumns.AGE);
+    }
+    public String getGender() { return Gender.CODES.text(gender, genderText); }
+    public byte getGenderCode() { return gender; }
+    public void setGender(String gender) {
+        changing(HospitalColumns.GENDER);
+        this.gender = Gender.CODES.parse(gender);
+        this.genderText = Gender.CODES.unparsed(gender, this.gender);
+        changed(HospitalColumns.GENDER);
+    }
+    public String getContactNumber() { return contactNumber; }
+    public void setContactNumber(String contactNumber) {
+        changing(HospitalColumns.CONTACT_NUMBER);
+        this.contactNumber = contactNumber;
+        changed(HospitalColumns.CONTACT_NUMBER);
+    }
+}
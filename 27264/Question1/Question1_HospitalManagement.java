@@ -1,369 +1,36 @@
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
-class HospitalDataException extends Exception {
-    public HospitalDataException(String message) {
-        super(message);
-    }
-}
-
-class Entity {
-    private int id;
-    private String createdDate;
-    private String updatedDate;
-
-    public Entity(int id, String createdDate, String updatedDate) throws HospitalDataException {
-        if (id <= 0) throw new HospitalDataException("ID must be greater than 0");
-        if (createdDate == null || createdDate.trim().isEmpty()) 
-            throw new HospitalDataException("Created date cannot be null or empty");
-        if (updatedDate == null || updatedDate.trim().isEmpty()) 
-            throw new HospitalDataException("Updated date cannot be null or empty");
-        
-        this.id = id;
-        this.createdDate = createdDate;
-        this.updatedDate = updatedDate;
-    }
-
-    public int getId() { return id; }
-    public void setId(int id) { this.id = id; }
-    public String getCreatedDate() { return createdDate; }
-    public void setCreatedDate(String createdDate) { this.createdDate = createdDate; }
-    public String getUpdatedDate() { return updatedDate; }
-    public void setUpdatedDate(String updatedDate) { this.updatedDate = updatedDate; }
-}
-
-class Hospital extends Entity {
-    private String hospitalName;
-    private String address;
-    private String phoneNumber;
-    private String email;
-
-    public Hospital(int id, String createdDate, String updatedDate, String hospitalName, 
-                   String address, String phoneNumber, String email) throws HospitalDataException {
-        super(id, createdDate, updatedDate);
-        
-        if (!phoneNumber.matches("\\d{10}")) 
-            throw new HospitalDataException("Phone number must be exactly 10 digits");
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new HospitalDataException("Invalid email format");
-        
-        this.hospitalName = hospitalName;
-        this.address = address;
-        this.phoneNumber = phoneNumber;
-        this.email = email;
-    }
-
-    public String getHospitalName() { return hospitalName; }
-    public void setHospitalName(String hospitalName) { this.hospitalName = hospitalName; }
-    public String getAddress() { return address; }
-    public void setAddress(String address) { this.address = address; }
-    public String getPhoneNumber() { return phoneNumber; }
-    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
-    public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
-}
-
-class Department extends Hospital {
-    private String departmentName;
-    private String departmentCode;
-
-    public Department(int id, String createdDate, String updatedDate, String hospitalName,
-                     String address, String phoneNumber, String email, String departmentName,
-                     String departmentCode) throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email);
-        
-        if (departmentCode.length() < 3 || !departmentCode.matches("^[a-zA-Z0-9]+$")) 
-            throw new HospitalDataException("Department code must be alphanumeric and at least 3 characters");
-        
-        this.departmentName = departmentName;
-        this.departmentCode = departmentCode;
-    }
-
-    public String getDepartmentName() { return departmentName; }
-    public void setDepartmentName(String departmentName) { this.departmentName = departmentName; }
-    public String getDepartmentCode() { return departmentCode; }
-    public void setDepartmentCode(String departmentCode) { this.departmentCode = departmentCode; }
-}
-
-class Doctor extends Department {
-    private String doctorName;
-    private String specialization;
-    private String doctorEmail;
-    private String phone;
-
-    public Doctor(int id, String createdDate, String updatedDate, String hospitalName,
-                 String address, String phoneNumber, String email, String departmentName,
-                 String departmentCode, String doctorName, String specialization,
-                 String doctorEmail, String phone) throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
-              departmentName, departmentCode);
-        
-        if (specialization == null || specialization.trim().isEmpty()) 
-            throw new HospitalDataException("Specialization cannot be empty");
-        if (!doctorEmail.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new HospitalDataException("Invalid doctor email format");
-        if (!phone.matches("\\d{10}")) 
-            throw new HospitalDataException("Doctor phone must be exactly 10 digits");
-        
-        this.doctorName = doctorName;
-        this.specialization = specialization;
-        this.doctorEmail = doctorEmail;
-        this.phone = phone;
-    }
-
-    public String getDoctorName() { return doctorName; }
-    public void setDoctorName(String doctorName) { this.doctorName = doctorName; }
-    public String getSpecialization() { return specialization; }
-    public void setSpecialization(String specialization) { this.specialization = specialization; }
-    public String getDoctorEmail() { return doctorEmail; }
-    public void setDoctorEmail(String doctorEmail) { this.doctorEmail = doctorEmail; }
-    public String getPhone() { return phone; }
-    public void setPhone(String phone) { this.phone = phone; }
-}
-
-class Nurse extends Doctor {
-    private String nurseName;
-    private String shift;
-    private int yearsOfExperience;
-
-    public Nurse(int id, String createdDate, String updatedDate, String hospitalName,
-                String address, String phoneNumber, String email, String departmentName,
-                String departmentCode, String doctorName, String specialization,
-                String doctorEmail, String phone, String nurseName, String shift,
-                int yearsOfExperience) throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
-              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone);
-        
-        if (!shift.equals("Day") && !shift.equals("Night")) 
-            throw new HospitalDataException("Shift must be 'Day' or 'Night'");
-        if (yearsOfExperience < 0) 
-            throw new HospitalDataException("Years of experience must be >= 0");
-        
-        this.nurseName = nurseName;
-        this.shift = shift;
-        this.yearsOfExperience = yearsOfExperience;
-    }
-
-    public String getNurseName() { return nurseName; }
-    public void setNurseName(String nurseName) { this.nurseName = nurseName; }
-    public String getShift() { return shift; }
-    public void setShift(String shift) { this.shift = shift; }
-    public int getYearsOfExperience() { return yearsOfExperience; }
-    public void setYearsOfExperience(int yearsOfExperience) { this.yearsOfExperience = yearsOfExperience; }
-}
-
-class Patient extends Nurse {
-    private String patientName;
-    private int age;
-    private String gender;
-    private String contactNumber;
-
-    public Patient(int id, String createdDate, String updatedDate, String hospitalName,
-                  String address, String phoneNumber, String email, String departmentName,
-                  String departmentCode, String doctorName, String specialization,
-                  String doctorEmail, String phone, String nurseName, String shift,
-                  int yearsOfExperience, String patientName, int age, String gender,
-                  String contactNumber) throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
-              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
-              nurseName, shift, yearsOfExperience);
-        
-        if (age <= 0) throw new HospitalDataException("Age must be > 0");
-        if (!gender.equals("Male") && !gender.equals("Female") && !gender.equals("Other")) 
-            throw new HospitalDataException("Gender must be 'Male', 'Female', or 'Other'");
-        
-        this.patientName = patientName;
-        this.age = age;
-        this.gender = gender;
-        this.contactNumber = contactNumber;
-    }
-
-    public String getPatientName() { return patientName; }
-    public void setPatientName(String patientName) { this.patientName = patientName; }
-    public int getAge() { return age; }
-    public void setAge(int age) { this.age = age; }
-    public String getGender() { return gender; }
-    public void setGender(String gender) { this.gender = gender; }
-    public String getContactNumber() { return contactNumber; }
-    public void setContactNumber(String contactNumber) { this.contactNumber = contactNumber; }
-}
-
-class Admission extends Patient {
-    private String admissionDate;
-    private int roomNumber;
-    private double roomCharges;
-
-    public Admission(int id, String createdDate, String updatedDate, String hospitalName,
-                    String address, String phoneNumber, String email, String departmentName,
-                    String departmentCode, String doctorName, String specialization,
-                    String doctorEmail, String phone, String nurseName, String shift,
-                    int yearsOfExperience, String patientName, int age, String gender,
-                    String contactNumber, String admissionDate, int roomNumber,
-                    double roomCharges) throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
-              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
-              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber);
-        
-        if (admissionDate == null || admissionDate.trim().isEmpty()) 
-            throw new HospitalDataException("Admission date cannot be null");
-        if (roomCharges <= 0) 
-            throw new HospitalDataException("Room charges must be > 0");
-        
-        this.admissionDate = admissionDate;
-        this.roomNumber = roomNumber;
-        this.roomCharges = roomCharges;
-    }
-
-    public String getAdmissionDate() { return admissionDate; }
-    public void setAdmissionDate(String admissionDate) { this.admissionDate = admissionDate; }
-    public int getRoomNumber() { return roomNumber; }
-    public void setRoomNumber(int roomNumber) { this.roomNumber = roomNumber; }
-    public double getRoomCharges() { return roomCharges; }
-    public void setRoomCharges(double roomCharges) { this.roomCharges = roomCharges; }
-}
-
-class Treatment extends Admission {
-    private String diagnosis;
-    private String treatmentGiven;
-    private double treatmentCost;
-
-    public Treatment(int id, String createdDate, String updatedDate, String hospitalName,
-                    String address, String phoneNumber, String email, String departmentName,
-                    String departmentCode, String doctorName, String specialization,
-                    String doctorEmail, String phone, String nurseName, String shift,
-                    int yearsOfExperience, String patientName, int age, String gender,
-                    String contactNumber, String admissionDate, int roomNumber,
-                    double roomCharges, String diagnosis, String treatmentGiven,
-                    double treatmentCost) throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
-              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
-              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber,
-              admissionDate, roomNumber, roomCharges);
-        
-        if (treatmentCost <= 0) 
-            throw new HospitalDataException("Treatment cost must be > 0");
-        if (diagnosis == null || diagnosis.trim().isEmpty()) 
-            throw new HospitalDataException("Diagnosis cannot be empty");
-        if (treatmentGiven == null || treatmentGiven.trim().isEmpty()) 
-            throw new HospitalDataException("Treatment given cannot be empty");
-        
-        this.diagnosis = diagnosis;
-        this.treatmentGiven = treatmentGiven;
-        this.treatmentCost = treatmentCost;
-    }
-
-    public String getDiagnosis() { return diagnosis; }
-    public void setDiagnosis(String diagnosis) { this.diagnosis = diagnosis; }
-    public String getTreatmentGiven() { return treatmentGiven; }
-    public void setTreatmentGiven(String treatmentGiven) { this.treatmentGiven = treatmentGiven; }
-    public double getTreatmentCost() { return treatmentCost; }
-    public void setTreatmentCost(double treatmentCost) { this.treatmentCost = treatmentCost; }
-}
-
-class Bill extends Treatment {
-    private double doctorFee;
-    private double medicineCost;
-    private double totalBill;
-
-    public Bill(int id, String createdDate, String updatedDate, String hospitalName,
-               String address, String phoneNumber, String email, String departmentName,
-               String departmentCode, String doctorName, String specialization,
-               String doctorEmail, String phone, String nurseName, String shift,
-               int yearsOfExperience, String patientName, int age, String gender,
-               String contactNumber, String admissionDate, int roomNumber,
-               double roomCharges, String diagnosis, String treatmentGiven,
-               double treatmentCost, double doctorFee, double medicineCost) 
-               throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
-              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
-              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber,
-              admissionDate, roomNumber, roomCharges, diagnosis, treatmentGiven, treatmentCost);
-        
-        if (doctorFee <= 0) throw new HospitalDataException("Doctor fee must be > 0");
-        if (medicineCost <= 0) throw new HospitalDataException("Medicine cost must be > 0");
-        
-        this.doctorFee = doctorFee;
-        this.medicineCost = medicineCost;
-        this.totalBill = 0;
-    }
-
-    public double getDoctorFee() { return doctorFee; }
-    public void setDoctorFee(double doctorFee) { this.doctorFee = doctorFee; }
-    public double getMedicineCost() { return medicineCost; }
-    public void setMedicineCost(double medicineCost) { this.medicineCost = medicineCost; }
-    public double getTotalBill() { return totalBill; }
-    public void setTotalBill(double totalBill) { this.totalBill = totalBill; }
-}
-
-final class HospitalRecord extends Bill {
-    public HospitalRecord(int id, String createdDate, String updatedDate, String hospitalName,
-                         String address, String phoneNumber, String email, String departmentName,
-                         String departmentCode, String doctorName, String specialization,
-                         String doctorEmail, String phone, String nurseName, String shift,
-                         int yearsOfExperience, String patientName, int age, String gender,
-                         String contactNumber, String admissionDate, int roomNumber,
-                         double roomCharges, String diagnosis, String treatmentGiven,
-                         double treatmentCost, double doctorFee, double medicineCost) 
-                         throws HospitalDataException {
-        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
-              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
-              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber,
-              admissionDate, roomNumber, roomCharges, diagnosis, treatmentGiven, treatmentCost,
-              doctorFee, medicineCost);
-    }
-
-    public double generateBill() {
-        double total = getRoomCharges() + getTreatmentCost() + getDoctorFee() + getMedicineCost();
-        setTotalBill(total);
-        return total;
-    }
-
-    public void displayRecord() {
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - ========== HOSPITAL MANAGEMENT SYSTEM ==========");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Record ID: " + getId());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Created Date: " + getCreatedDate());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Updated Date: " + getUpdatedDate());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Hospital Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Hospital Name: " + getHospitalName());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Address: " + getAddress());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Phone: " + getPhoneNumber());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Email: " + getEmail());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Department Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Department: " + getDepartmentName());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Department Code: " + getDepartmentCode());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Doctor Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Doctor Name: " + getDoctorName());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Specialization: " + getSpecialization());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Doctor Email: " + getDoctorEmail());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Doctor Phone: " + getPhone());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Nurse Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Nurse Name: " + getNurseName());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Shift: " + getShift());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Years of Experience: " + getYearsOfExperience());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Patient Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Patient Name: " + getPatientName());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Age: " + getAge());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Gender: " + getGender());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Contact Number: " + getContactNumber());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Admission Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Admission Date: " + getAdmissionDate());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Room Number: " + getRoomNumber());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Room Charges: $" + getRoomCharges());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Treatment Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Diagnosis: " + getDiagnosis());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Treatment Given: " + getTreatmentGiven());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Treatment Cost: $" + getTreatmentCost());
-        System.out.println("\n" + Question1_HospitalManagement.STUDENT_ID + " - --- Billing Details ---");
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Doctor Fee: $" + getDoctorFee());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Medicine Cost: $" + getMedicineCost());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Total Bill: $" + getTotalBill());
-        System.out.println(Question1_HospitalManagement.STUDENT_ID + " - ===============================================\n");
-    }
-}
-
 public class Question1_HospitalManagement {
     public static final String STUDENT_ID = "27264";
     
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--generate")) {
+            runGenerate(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replay")) {
+            runReplay(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--snapshot")) {
+            runSnapshot(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--restore")) {
+            runRestore(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--reconcile")) {
+            runReconcile(args);
+            return;
+        }
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         
         try {
@@ -474,4 +141,108 @@ public class Question1_HospitalManagement {
             scanner.close();
         }
     }
+
+    private static void runBatch(String[] args) {
+        if ((args.length != 3 && args.length != 4) || !args[0].equals("--batch")) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Usage: java Question1_HospitalManagement --batch <input file> <output file> [threads]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        ParallelBatch.DuplicateIds duplicateIds;
+        try {
+            duplicateIds = ParallelBatch.duplicateIdsProperty();
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - " + e.getMessage());
+            return;
+        }
+        try {
+            ParallelBatch batch = args.length == 4
+                ? new ParallelBatch(Integer.parseInt(args[3]), ParallelBatch.DEFAULT_CHUNK_BYTES)
+                : new ParallelBatch();
+            batch.duplicateIds(duplicateIds);
+            HospitalBatchLoader.run(Paths.get(args[1]), Paths.get(args[2]), batch);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Threads must be a positive number");
+        } catch (IOException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runGenerate(String[] args) {
+        if (args.length != 3 && args.length != 4) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Usage: java Question1_HospitalManagement --generate <output file or -> <rows> [seed]");
+            return;
+        }
+
+        try {
+            int rows = Integer.parseInt(args[2]);
+            long seed = args.length == 4 ? Long.parseLong(args[3]) : 1;
+            HospitalGenerator.run(args[1], rows, new SyntheticData(seed));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Rows, seed and generator settings must be valid numbers");
+        } catch (IOException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReplay(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Usage: java Question1_HospitalManagement --replay <batch file> <journal file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            HospitalBatchLoader.replay(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runSnapshot(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Usage: java Question1_HospitalManagement --snapshot <batch file> <snapshot file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            HospitalBatchLoader.snapshot(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runRestore(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Usage: java Question1_HospitalManagement --restore <snapshot file> [journal file]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            HospitalBatchLoader.restore(Paths.get(args[1]), args.length == 3 ? Paths.get(args[2]) : null);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReconcile(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - Usage: java Question1_HospitalManagement --reconcile <batch file> <batch file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            HospitalBatchLoader.reconcile(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question1_HospitalManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,17 @@
+enum Shift {
+    DAY("Day"),
+    NIGHT("Night");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    Shift(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
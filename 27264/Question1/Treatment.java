@@ -0,0 +1,56 @@
+class Treatment extends Admission {
+    private String diagnosis;
+    private String treatmentGiven;
+    private double treatmentCost;
+
+    public Treatment(int id, String createdDate, String updatedDate, String hospitalName,
+                    String address, String phoneNumber, String email, String departmentName,
+                    String departmentCode, String doctorName, String specialization,
+                    String doctorEmail, String phone, String nurseName, String shift,
+                    int yearsOfExperience, String patientName, int age, String gender,
+                    String contactNumber, String admissionDate, int roomNumber,
+                    double roomCharges, String diagnosis, String treatmentGiven,
+                    double treatmentCost) throws HospitalDataException {
+        super(id, createdDate, updatedDate, hospitalName, address, phoneNumber, email,
+              departmentName, departmentCode, doctorName, specialization, doctorEmail, phone,
+              nurseName, shift, yearsOfExperience, patientName, age, gender, contactNumber,
+              admissionDate, roomNumber, roomCharges);
+        
+        if (treatmentCost <= 0) 
+            throw new HospitalDataException("Treatment.treatmentCost", "Treatment cost must be > 0");
+        if (diagnosis == null || diagnosis.trim().isEmpty()) 
+            throw new HospitalDataException("Treatment.diagnosis", "Diagnosis cannot be empty");
+        if (treatmentGiven == null || treatmentGiven.trim().isEmpty()) 
+            throw new HospitalDataException("Treatment.treatmentGiven", "Treatment given cannot be empty");
+        
+        this.diagnosis = diagnosis;
+        this.treatmentGiven = treatmentGiven;
+        this.treatmentCost = treatmentCost;
+    }
+
+    Treatment(RowSource source, int row) {
+        super(source, row);
+        this.diagnosis = source.getString(row, HospitalColumns.DIAGNOSIS);
+        this.treatmentGiven = source.getString(row, HospitalColumns.TREATMENT_GIVEN);
+        this.treatmentCost = source.getDouble(row, HospitalColumns.TREATMENT_COST);
+    }
+
+    public String getDiagnosis() { return diagnosis; }
+    public void setDiagnosis(String diagnosis) {
+        changing(HospitalColumns.DIAGNOSIS);
+        this.diagnosis = diagnosis;
+        changed(HospitalColumns.DIAGNOSIS);
+    }
+    public String getTreatmentGiven() { return treatmentGiven; }
+    public void setTreatmentGiven(String treatmentGiven) {
+        changing(HospitalColumns.TREATMENT_GIVEN);
+        this.treatmentGiven = treatmentGiven;
+        changed(HospitalColumns.TREATMENT_GIVEN);
+    }
+    public double getTreatmentCost() { return treatmentCost; }
+    public void setTreatmentCost(double treatmentCost) {
+        changing(HospitalColumns.TREATMENT_COST);
+        this.treatmentCost = treatmentCost;
+        changed(HospitalColumns.TREATMENT_COST);
+    }
+}
@@ -0,0 +1,31 @@
+class Category extends Store {
+    private CategoryProfile profile;
+
+    public Category(int id, String createdDate, String updatedDate, String storeName,
+                  String address, String phoneNumber, String email, String categoryName,
+                  String categoryCode) throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email);
+        
+        this.profile = CategoryProfile.of(categoryName, categoryCode);
+    }
+
+    Category(RowSource source, int row) {
+        super(source, row);
+        String categoryName = source.getString(row, ShoppingColumns.CATEGORY_NAME);
+        String categoryCode = source.getString(row, ShoppingColumns.CATEGORY_CODE);
+        this.profile = CategoryProfile.restore(categoryName, categoryCode);
+    }
+
+    public String getCategoryName() { return profile.getCategoryName(); }
+    public void setCategoryName(String categoryName) {
+        changing(ShoppingColumns.CATEGORY_NAME);
+        profile = profile.withCategoryName(categoryName);
+        changed(ShoppingColumns.CATEGORY_NAME);
+    }
+    public String getCategoryCode() { return profile.getCategoryCode(); }
+    public void setCategoryCode(String categoryCode) {
+        changing(ShoppingColumns.CATEGORY_CODE);
+        profile = profile.withCategoryCode(categoryCode);
+        changed(ShoppingColumns.CATEGORY_CODE);
+    }
+}
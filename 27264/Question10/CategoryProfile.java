@@ -0,0 +1,63 @@
+import java.util.Objects;
+
+final class CategoryProfile {
+    private static final Interner<CategoryProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<CategoryProfile> RESTORED = new Interner<>();
+
+    private final String categoryName;
+    private final String categoryCode;
+    private final int hash;
+
+    private CategoryProfile(String categoryName, String categoryCode) {
+        this.categoryName = categoryName;
+        this.categoryCode = categoryCode;
+        int hash = Objects.hashCode(categoryName);
+        hash = 31 * hash + Objects.hashCode(categoryCode);
+        this.hash = hash;
+    }
+
+    static CategoryProfile of(String categoryName, String categoryCode) throws ShoppingException {
+        CategoryProfile candidate = new CategoryProfile(categoryName, categoryCode);
+        CategoryProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isCode(categoryCode)) 
+            throw new ShoppingException("Category.categoryCode", "Category code must be alphanumeric and at least 3 characters");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static CategoryProfile restore(String categoryName, String categoryCode) {
+        CategoryProfile candidate = new CategoryProfile(categoryName, categoryCode);
+        CategoryProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getCategoryName() { return categoryName; }
+    public String getCategoryCode() { return categoryCode; }
+
+    CategoryProfile withCategoryName(String categoryName) {
+        return new CategoryProfile(categoryName, categoryCode);
+    }
+
+    CategoryProfile withCategoryCode(String categoryCode) {
+        return new CategoryProfile(categoryName, categoryCode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof CategoryProfile)) return false;
+        CategoryProfile that = (CategoryProfile) other;
+        return hash == that.hash
+            && Objects.equals(categoryName, that.categoryName)
+            && Objects.equals(categoryCode, that.categoryCode);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,17 @@
+enum CustomerType {
+    REGULAR("Regular"),
+    PREMIUM("Premium");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    CustomerType(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
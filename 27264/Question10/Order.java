@@ -0,0 +1,64 @@
+class Order extends ShoppingCustomer {
+    private String orderNumber;
+    private int quantity;
+    private byte orderStatus;
+    private String orderStatusText;
+    private String contactNumber;
+
+    public Order(int id, String createdDate, String updatedDate, String storeName,
+                  String address, String phoneNumber, String email, String categoryName,
+                  String categoryCode, String productName, String brand,
+                  String productEmail, String phone, String customerName, String customerType,
+                  int yearsOfMembership, String orderNumber, int quantity, String orderStatus,
+                  String contactNumber) throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email,
+              categoryName, categoryCode, productName, brand, productEmail, phone,
+              customerName, customerType, yearsOfMembership);
+        
+        if (quantity <= 0) throw new ShoppingException("Order.quantity", "Quantity must be > 0");
+        if (!OrderStatus.CODES.contains(orderStatus)) 
+            throw new ShoppingException("Order.orderStatus", "Order status must be 'Processing', 'Shipped', or 'Delivered'");
+        
+        this.orderNumber = orderNumber;
+        this.quantity = quantity;
+        this.orderStatus = OrderStatus.CODES.parse(orderStatus);
+        this.contactNumber = contactNumber;
+    }
+
+    Order(RowSource source, int row) {
+        super(source, row);
+        String orderStatus = source.getString(row, ShoppingColumns.ORDER_STATUS);
+        this.orderNumber = source.getString(row, ShoppingColumns.ORDER_NUMBER);
+        this.quantity = source.getInt(row, ShoppingColumns.QUANTITY);
+        this.orderStatus = OrderStatus.CODES.parse(orderStatus);
+        this.orderStatusText = OrderStatus.CODES.unparsed(orderStatus, this.orderStatus);
+        this.contactNumber = source.getString(row, ShoppingColumns.CONTACT_NUMBER);
+    }
+
+    public String getOrderNumber() { return orderNumber; }
+    public void setOrderNumber(String orderNumber) {
+        changing(ShoppingColumns.ORDER_NUMBER);
+        this.orderNumber = orderNumber;
+        changed(ShoppingColumns.ORDER_NUMBER);
+    }
+    public int getQuantity() { return quantity; }
+    public void setQuantity(int quantity) {
+        changing(ShoppingColumns.QUANTITY);
+        this.quantity = quantity;
+        changed(ShoppingColumns.QUANTITY);
+    }
+    public String getOrderStatus() { return OrderStatus.CODES.text(orderStatus, orderStatusText); }
+    public byte getOrderStatusCode() { return orderStatus; }
+    public void setOrderStatus(String orderStatus) {
+        changing(ShoppingColumns.ORDER_STATUS);
+        this.orderStatus = OrderStatus.CODES.parse(orderStatus);
+        this.orderStatusText = OrderStatus.CODES.unparsed(orderStatus, this.orderStatus);
+        changed(ShoppingColumns.ORDER_STATUS);
+    }
+    public String getContactNumber() { return contactNumber; }
+    public void setContactNumber(String contactNumber) {
+        changing(ShoppingColumns.CONTACT_NUMBER);
+        this.contactNumber = contactNumber;
+        changed(ShoppingColumns.CONTACT_NUMBER);
+    }
+}
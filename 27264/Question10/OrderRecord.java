@@ -0,0 +1,100 @@
+final class OrderRecord extends ShoppingInvoice {
+    // The columns the total amount is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS = 1L << ShoppingColumns.PRICE | 1L << ShoppingColumns.SHIPPING_COST;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<OrderRecord> indexes;
+
+    public OrderRecord(int id, String createdDate, String updatedDate, String storeName,
+                         String address, String phoneNumber, String email, String categoryName,
+                         String categoryCode, String productName, String brand,
+                         String productEmail, String phone, String customerName, String customerType,
+                         int yearsOfMembership, String orderNumber, int quantity, String orderStatus,
+                         String contactNumber, String paymentMethod, String transactionId,
+                         double price, String shippingAddress, String carrier,
+                         double shippingCost, double taxAmount, double discount) 
+                         throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email,
+              categoryName, categoryCode, productName, brand, productEmail, phone,
+              customerName, customerType, yearsOfMembership, orderNumber, quantity, orderStatus, contactNumber,
+              paymentMethod, transactionId, price, shippingAddress, carrier, shippingCost,
+              taxAmount, discount);
+    }
+
+    // Restores a record for ShoppingColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    OrderRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double calculateTotalAmount() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double total = amount();
+        setTotalAmount(total);
+        computed = true;
+        event.finish("Shopping", "calculateTotalAmount", getId(), total);
+        return total;
+    }
+
+    // Counts this record's total amount in one group of totals and keeps the group's sum current as the
+    // record changes, computing the total amount first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) calculateTotalAmount();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getTotalAmount()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != ShoppingColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of Shopping records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<OrderRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = ShoppingColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == ShoppingColumns.ID ? (Integer) before : getId(), column, before,
+                ShoppingColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == ShoppingColumns.TOTAL_AMOUNT) {
+            if (tracked != null) tracked.set(Money.of(getTotalAmount()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setTotalAmount(amount());
+        }
+    }
+
+    private double amount() {
+        return Money.toDouble(Money.add(Money.of(getPrice()), Money.of(getShippingCost())));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        ShoppingReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
@@ -0,0 +1,18 @@
+enum OrderStatus {
+    PROCESSING("Processing"),
+    SHIPPED("Shipped"),
+    DELIVERED("Delivered");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    OrderStatus(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
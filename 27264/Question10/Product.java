@@ -0,0 +1,59 @@
+class Product extends Category {
+    private String productName;
+    private String brand;
+    private String productEmail;
+    private String phone;
+
+    public Product(int id, String createdDate, String updatedDate, String storeName,
+                  String address, String phoneNumber, String email, String categoryName,
+                  String categoryCode, String productName, String brand,
+                  String productEmail, String phone) throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email,
+              categoryName, categoryCode);
+        
+        if (brand == null || brand.trim().isEmpty()) 
+            throw new ShoppingException("Product.brand", "Brand cannot be empty");
+        if (!FieldRules.isEmail(productEmail)) 
+            throw new ShoppingException("Product.productEmail", "Invalid product email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new ShoppingException("Product.phone", "Product phone must be exactly 10 digits");
+        
+        this.productName = productName;
+        this.brand = brand;
+        this.productEmail = productEmail;
+        this.phone = phone;
+    }
+
+    Product(RowSource source, int row) {
+        super(source, row);
+        this.productName = source.getString(row, ShoppingColumns.PRODUCT_NAME);
+        this.brand = source.getString(row, ShoppingColumns.BRAND);
+        this.productEmail = source.getString(row, ShoppingColumns.PRODUCT_EMAIL);
+        this.phone = source.getString(row, ShoppingColumns.PHONE);
+    }
+
+    public String getProductName() { return productName; }
+    public void setProductName(String productName) {
+        changing(ShoppingColumns.PRODUCT_NAME);
+        this.productName = productName;
+        changed(ShoppingColumns.PRODUCT_NAME);
+    }
+    public String getBrand() { return brand; }
+    public void setBrand(String brand) {
+        changing(ShoppingColumns.BRAND);
+        this.brand = brand;
+        changed(ShoppingColumns.BRAND);
+    }
+    public String getProductEmail() { return productEmail; }
+    public void setProductEmail(String productEmail) {
+        changing(ShoppingColumns.PRODUCT_EMAIL);
+        this.productEmail = productEmail;
+        changed(ShoppingColumns.PRODUCT_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(ShoppingColumns.PHONE);
+        this.phone = phone;
+        changed(ShoppingColumns.PHONE);
+    }
+}
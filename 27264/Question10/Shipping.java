@@ -0,0 +1,54 @@
+class Shipping extends ShoppingPayment {
+    private String shippingAddress;
+    private String carrier;
+    private double shippingCost;
+
+    public Shipping(int id, String createdDate, String updatedDate, String storeName,
+                    String address, String phoneNumber, String email, String categoryName,
+                    String categoryCode, String productName, String brand,
+                    String productEmail, String phone, String customerName, String customerType,
+                    int yearsOfMembership, String orderNumber, int quantity, String orderStatus,
+                    String contactNumber, String paymentMethod, String transactionId,
+                    double price, String shippingAddress, String carrier,
+                    double shippingCost) throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email,
+              categoryName, categoryCode, productName, brand, productEmail, phone,
+              customerName, customerType, yearsOfMembership, orderNumber, quantity, orderStatus, contactNumber,
+              paymentMethod, transactionId, price);
+        
+        if (shippingAddress == null || shippingAddress.trim().isEmpty()) 
+            throw new ShoppingException("Shipping.shippingAddress", "Shipping address cannot be null");
+        if (shippingCost < 0) 
+            throw new ShoppingException("Shipping.shippingCost", "Shipping cost must be >= 0");
+        
+        this.shippingAddress = shippingAddress;
+        this.carrier = carrier;
+        this.shippingCost = shippingCost;
+    }
+
+    Shipping(RowSource source, int row) {
+        super(source, row);
+        this.shippingAddress = source.getString(row, ShoppingColumns.SHIPPING_ADDRESS);
+        this.carrier = source.getString(row, ShoppingColumns.CARRIER);
+        this.shippingCost = source.getDouble(row, ShoppingColumns.SHIPPING_COST);
+    }
+
+    public String getShippingAddress() { return shippingAddress; }
+    public void setShippingAddress(String shippingAddress) {
+        changing(ShoppingColumns.SHIPPING_ADDRESS);
+        this.shippingAddress = shippingAddress;
+        changed(ShoppingColumns.SHIPPING_ADDRESS);
+    }
+    public String getCarrier() { return carrier; }
+    public void setCarrier(String carrier) {
+        changing(ShoppingColumns.CARRIER);
+        this.carrier = carrier;
+        changed(ShoppingColumns.CARRIER);
+    }
+    public double getShippingCost() { return shippingCost; }
+    public void setShippingCost(double shippingCost) {
+        changing(ShoppingColumns.SHIPPING_COST);
+        this.shippingCost = shippingCost;
+        changed(ShoppingColumns.SHIPPING_COST);
+    }
+}
@@ -0,0 +1,175 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class ShoppingBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        OrderRecord record = newRecord(1);
+
+        bench.header("OrderRecord");
+        bench.run("new ShoppingEntity", i -> new ShoppingEntity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new OrderRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("calculateTotalAmount", i -> record.calculateTotalAmount());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            ShoppingReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            ShoppingReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("OrderRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by ShoppingValidator", i -> ShoppingValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "Kigali Mart", "KG 9 Ave", "0781234567", "shop@kigalimart.rw",
+            "Electronics", "ELE01", "Headphones", "Sony", "sales@kigalimart.rw", "0789876543",
+            "Eric Nshuti", "Regular", 2, "ORD-1001", 2, "Processing", "0781112223", "Card",
+            "TX9001", 120.0, "KG 12 St", "DHL", 10.0, 5.0, 2.0, result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("OrderRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        OrderRecord[] records = new OrderRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(ShoppingColumns.SCHEMA, rows);
+        for (OrderRecord r : records) ShoppingColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        ShoppingView view = new ShoppingView(table);
+        bench.runDouble("calculateTotalAmount over records", i -> {
+            double sum = 0;
+            for (OrderRecord r : records) sum += r.calculateTotalAmount();
+            return sum;
+        });
+        bench.runDouble("calculateTotalAmount over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateTotalAmount();
+            return sum;
+        });
+        bench.run("calculateTotalAmount column kernel", i -> {
+            ShoppingColumns.calculateTotalAmount(table);
+            return table;
+        });
+        Path file = Files.createTempFile("OrderRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, ShoppingColumns.SCHEMA)) {
+            for (OrderRecord r : records) ShoppingColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, ShoppingColumns.SCHEMA)) {
+            ShoppingView mapped = new ShoppingView(reader);
+            bench.runDouble("calculateTotalAmount over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).calculateTotalAmount();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<OrderRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            ShoppingReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            ShoppingReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+        offHeap(Integer.getInteger("bench.arenaRows", 1_000_000));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws ShoppingException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        OrderRecord[] records = new OrderRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    // Fills an arena from records built one at a time, so the row count is not bounded by the heap,
+    // then scans it through a view and with the column kernel.
+    static void offHeap(int rows) throws Exception {
+        long start = System.nanoTime();
+        RecordArena arena = new RecordArena(ShoppingColumns.SCHEMA);
+        for (int i = 0; i < rows; i++) ShoppingColumns.append(arena, newRecord(i + 1));
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%n%d rows off-heap in %d ms: %d MB direct, %d MB heap in use%n", rows,
+            elapsed / 1_000_000, arena.offHeapBytes() >> 20, MicroBench.usedHeapAfterGc() >> 20);
+
+        ShoppingView view = new ShoppingView(arena);
+        double sum = 0;
+        for (int pass = 0; pass < 5; pass++) {
+            start = System.nanoTime();
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateTotalAmount();
+            long viewNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            ShoppingColumns.calculateTotalAmount(arena);
+            long kernelNanos = System.nanoTime() - start;
+            System.out.printf("pass %d: calculateTotalAmount over view %d ms, column kernel %d ms%n", pass + 1,
+                viewNanos / 1_000_000, kernelNanos / 1_000_000);
+        }
+        System.out.println("checksum " + sum);
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (ShoppingException e) {
+            return e;
+        }
+    }
+
+    static OrderRecord newRecord(int id) throws ShoppingException {
+        return new OrderRecord(id, "2024-01-01", "2024-01-02", "Kigali Mart", "KG 9 Ave",
+            "0781234567", "shop@kigalimart.rw", "Electronics", "ELE01", "Headphones", "Sony",
+            "sales@kigalimart.rw", "0789876543", "Eric Nshuti", "Regular", 2, "ORD-1001", 2,
+            "Processing", "0781112223", "Card", "TX9001", 120.0, "KG 12 St", "DHL", 10.0, 5.0, 2.0);
+    }
+
+    static OrderRecord newParsedRecord(int id, int organization) throws ShoppingException {
+        return new OrderRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "Kigali Mart" + organization, fresh("KG 9 Ave"), fresh("0781234567"),
+            fresh("shop@kigalimart.rw"), fresh("Electronics"), fresh("ELE01"), fresh("Headphones"),
+            fresh("Sony"), fresh("sales@kigalimart.rw"), fresh("0789876543"), fresh("Eric Nshuti"),
+            fresh("Regular"), 2, fresh("ORD-1001"), 2, fresh("Processing"), fresh("0781112223"),
+            fresh("Card"), fresh("TX9001"), 120.0, fresh("KG 12 St"), fresh("DHL"), 10.0, 5.0, 2.0);
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,151 @@
+import java.util.Collection;
+
+final class ShoppingColumns {
+    static final Schema SCHEMA = new Schema("OrderRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int STORE_NAME = SCHEMA.add("storeName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int CATEGORY_NAME = SCHEMA.add("categoryName", ColumnType.DICT);
+    static final int CATEGORY_CODE = SCHEMA.add("categoryCode", ColumnType.DICT);
+    static final int PRODUCT_NAME = SCHEMA.add("productName", ColumnType.DICT);
+    static final int BRAND = SCHEMA.add("brand", ColumnType.DICT);
+    static final int PRODUCT_EMAIL = SCHEMA.add("productEmail", ColumnType.DICT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.DICT);
+    static final int CUSTOMER_NAME = SCHEMA.add("customerName", ColumnType.TEXT);
+    static final int CUSTOMER_TYPE = SCHEMA.add("customerType", CustomerType.CODES);
+    static final int YEARS_OF_MEMBERSHIP = SCHEMA.add("yearsOfMembership", ColumnType.INT);
+    static final int ORDER_NUMBER = SCHEMA.add("orderNumber", ColumnType.TEXT);
+    static final int QUANTITY = SCHEMA.add("quantity", ColumnType.INT);
+    static final int ORDER_STATUS = SCHEMA.add("orderStatus", OrderStatus.CODES);
+    static final int CONTACT_NUMBER = SCHEMA.add("contactNumber", ColumnType.TEXT);
+    static final int PAYMENT_METHOD = SCHEMA.add("paymentMethod", ColumnType.DICT);
+    static final int TRANSACTION_ID = SCHEMA.add("transactionId", ColumnType.TEXT);
+    static final int PRICE = SCHEMA.add("price", ColumnType.MONEY);
+    static final int SHIPPING_ADDRESS = SCHEMA.add("shippingAddress", ColumnType.TEXT);
+    static final int CARRIER = SCHEMA.add("carrier", ColumnType.DICT);
+    static final int SHIPPING_COST = SCHEMA.add("shippingCost", ColumnType.MONEY);
+    static final int TAX_AMOUNT = SCHEMA.add("taxAmount", ColumnType.MONEY);
+    static final int DISCOUNT = SCHEMA.add("discount", ColumnType.MONEY);
+    static final int TOTAL_AMOUNT = SCHEMA.add("totalAmount", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<OrderRecord> ACCESSORS = new ColumnAccessors<OrderRecord>(SCHEMA)
+        .addInt(ID, OrderRecord::getId, OrderRecord::setId)
+        .addString(CREATED_DATE, OrderRecord::getCreatedDate, OrderRecord::setCreatedDate)
+        .addString(UPDATED_DATE, OrderRecord::getUpdatedDate, OrderRecord::setUpdatedDate)
+        .addString(STORE_NAME, OrderRecord::getStoreName, OrderRecord::setStoreName)
+        .addString(ADDRESS, OrderRecord::getAddress, OrderRecord::setAddress)
+        .addString(PHONE_NUMBER, OrderRecord::getPhoneNumber, OrderRecord::setPhoneNumber)
+        .addString(EMAIL, OrderRecord::getEmail, OrderRecord::setEmail)
+        .addString(CATEGORY_NAME, OrderRecord::getCategoryName, OrderRecord::setCategoryName)
+        .addString(CATEGORY_CODE, OrderRecord::getCategoryCode, OrderRecord::setCategoryCode)
+        .addString(PRODUCT_NAME, OrderRecord::getProductName, OrderRecord::setProductName)
+        .addString(BRAND, OrderRecord::getBrand, OrderRecord::setBrand)
+        .addString(PRODUCT_EMAIL, OrderRecord::getProductEmail, OrderRecord::setProductEmail)
+        .addString(PHONE, OrderRecord::getPhone, OrderRecord::setPhone)
+        .addString(CUSTOMER_NAME, OrderRecord::getCustomerName, OrderRecord::setCustomerName)
+        .addString(CUSTOMER_TYPE, OrderRecord::getCustomerType, OrderRecord::setCustomerType)
+        .addInt(YEARS_OF_MEMBERSHIP, OrderRecord::getYearsOfMembership, OrderRecord::setYearsOfMembership)
+        .addString(ORDER_NUMBER, OrderRecord::getOrderNumber, OrderRecord::setOrderNumber)
+        .addInt(QUANTITY, OrderRecord::getQuantity, OrderRecord::setQuantity)
+        .addString(ORDER_STATUS, OrderRecord::getOrderStatus, OrderRecord::setOrderStatus)
+        .addString(CONTACT_NUMBER, OrderRecord::getContactNumber, OrderRecord::setContactNumber)
+        .addString(PAYMENT_METHOD, OrderRecord::getPaymentMethod, OrderRecord::setPaymentMethod)
+        .addString(TRANSACTION_ID, OrderRecord::getTransactionId, OrderRecord::setTransactionId)
+        .addDouble(PRICE, OrderRecord::getPrice, OrderRecord::setPrice)
+        .addString(SHIPPING_ADDRESS, OrderRecord::getShippingAddress, OrderRecord::setShippingAddress)
+        .addString(CARRIER, OrderRecord::getCarrier, OrderRecord::setCarrier)
+        .addDouble(SHIPPING_COST, OrderRecord::getShippingCost, OrderRecord::setShippingCost)
+        .addDouble(TAX_AMOUNT, OrderRecord::getTaxAmount, OrderRecord::setTaxAmount)
+        .addDouble(DISCOUNT, OrderRecord::getDiscount, OrderRecord::setDiscount)
+        .addDouble(TOTAL_AMOUNT, OrderRecord::getTotalAmount, OrderRecord::setTotalAmount)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "orderNumber", "contactNumber", "transactionId" };
+
+    static RecordIndexes<OrderRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, OrderRecord::indexedBy, expectedSize, columns);
+    }
+
+    private ShoppingColumns() {
+    }
+
+    static int append(RowSink table, OrderRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, STORE_NAME, record.getStoreName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, CATEGORY_NAME, record.getCategoryName());
+        table.setString(row, CATEGORY_CODE, record.getCategoryCode());
+        table.setString(row, PRODUCT_NAME, record.getProductName());
+        table.setString(row, BRAND, record.getBrand());
+        table.setString(row, PRODUCT_EMAIL, record.getProductEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, CUSTOMER_NAME, record.getCustomerName());
+        table.setString(row, CUSTOMER_TYPE, record.getCustomerType());
+        table.setInt(row, YEARS_OF_MEMBERSHIP, record.getYearsOfMembership());
+        table.setString(row, ORDER_NUMBER, record.getOrderNumber());
+        table.setInt(row, QUANTITY, record.getQuantity());
+        table.setString(row, ORDER_STATUS, record.getOrderStatus());
+        table.setString(row, CONTACT_NUMBER, record.getContactNumber());
+        table.setString(row, PAYMENT_METHOD, record.getPaymentMethod());
+        table.setString(row, TRANSACTION_ID, record.getTransactionId());
+        table.setDouble(row, PRICE, record.getPrice());
+        table.setString(row, SHIPPING_ADDRESS, record.getShippingAddress());
+        table.setString(row, CARRIER, record.getCarrier());
+        table.setDouble(row, SHIPPING_COST, record.getShippingCost());
+        table.setDouble(row, TAX_AMOUNT, record.getTaxAmount());
+        table.setDouble(row, DISCOUNT, record.getDiscount());
+        table.setDouble(row, TOTAL_AMOUNT, record.getTotalAmount());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static OrderRecord record(RowSource source, int row) {
+        return new OrderRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<OrderRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (OrderRecord record : records) append(table, record);
+        calculateTotalAmount(table);
+        return table;
+    }
+
+    static void calculateTotalAmount(ColumnTable table) {
+        long[] price = table.cents(PRICE);
+        long[] shippingCost = table.cents(SHIPPING_COST);
+        long[] totalAmount = table.cents(TOTAL_AMOUNT);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalAmount[row] = price[row] + shippingCost[row];
+        }
+    }
+
+    // The same over off-heap rows, reading and writing the cents in place.
+    static void calculateTotalAmount(RecordArena arena) {
+        for (int row = 0, n = arena.size(); row < n; row++) {
+            arena.setLong(row, TOTAL_AMOUNT, arena.getLong(row, PRICE) + arena.getLong(row, SHIPPING_COST));
+        }
+    }
+
+    // Total amount per order status, indexed by OrderStatus.code().
+    static long[] totalsByOrderStatus(ColumnTable table) {
+        return OrderStatus.CODES.sum(table.bytes(ORDER_STATUS), table.cents(TOTAL_AMOUNT), table.size());
+    }
+
+    static int[] ordersByStatus(ColumnTable table) {
+        return OrderStatus.CODES.count(table.bytes(ORDER_STATUS), table.size());
+    }
+}
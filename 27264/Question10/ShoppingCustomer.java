@@ -0,0 +1,54 @@
+class ShoppingCustomer extends Product {
+    private String customerName;
+    private byte customerType;
+    private String customerTypeText;
+    private int yearsOfMembership;
+
+    public ShoppingCustomer(int id, String createdDate, String updatedDate, String storeName,
+                String address, String phoneNumber, String email, String categoryName,
+                String categoryCode, String productName, String brand,
+                String productEmail, String phone, String customerName, String customerType,
+                int yearsOfMembership) throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email,
+              categoryName, categoryCode, productName, brand, productEmail, phone);
+        
+        if (!CustomerType.CODES.contains(customerType)) 
+            throw new ShoppingException("ShoppingCustomer.customerType", "Customer type must be 'Regular' or 'Premium'");
+        if (yearsOfMembership < 0) 
+            throw new ShoppingException("ShoppingCustomer.yearsOfMembership", "Years of membership must be >= 0");
+        
+        this.customerName = customerName;
+        this.customerType = CustomerType.CODES.parse(customerType);
+        this.yearsOfMembership = yearsOfMembership;
+    }
+
+    ShoppingCustomer(RowSource source, int row) {
+        super(source, row);
+        String customerType = source.getString(row, ShoppingColumns.CUSTOMER_TYPE);
+        this.customerName = source.getString(row, ShoppingColumns.CUSTOMER_NAME);
+        this.customerType = CustomerType.CODES.parse(customerType);
+        this.customerTypeText = CustomerType.CODES.unparsed(customerType, this.customerType);
+        this.yearsOfMembership = source.getInt(row, ShoppingColumns.YEARS_OF_MEMBERSHIP);
+    }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) {
+        changing(ShoppingColumns.CUSTOMER_NAME);
+        this.customerName = customerName;
+        changed(ShoppingColumns.CUSTOMER_NAME);
+    }
+    public String getCustomerType() { return CustomerType.CODES.text(customerType, customerTypeText); }
+    public byte getCustomerTypeCode() { return customerType; }
+    public void setCustomerType(String customerType) {
+        changing(ShoppingColumns.CUSTOMER_TYPE);
+        this.customerType = CustomerType.CODES.parse(customerType);
+        this.customerTypeText = CustomerType.CODES.unparsed(customerType, this.customerType);
+        changed(ShoppingColumns.CUSTOMER_TYPE);
+    }
+    public int getYearsOfMembership() { return yearsOfMembership; }
+    public void setYearsOfMembership(int yearsOfMembership) {
+        changing(ShoppingColumns.YEARS_OF_MEMBERSHIP);
+        this.yearsOfMembership = yearsOfMembership;
+        changed(ShoppingColumns.YEARS_OF_MEMBERSHIP);
+    }
+}
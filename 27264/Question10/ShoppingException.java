@@ -0,0 +1,12 @@
+class ShoppingException extends Exception {
+    private final String rule;
+
+    // rule names the failed check as the validator does, such as "Entity.id".
+    public ShoppingException(String rule, String message) {
+        super(message, null, true, DomainExceptions.stackTraces());
+        this.rule = rule;
+        ValidationFailureEvent.emit("Shopping", rule, message);
+    }
+
+    public String getRule() { return rule; }
+}
@@ -0,0 +1,92 @@
+import java.io.IOException;
+
+class ShoppingGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address
+    private static final String[][] STORES = {
+        { "Kigali Mart", "kigalimart.rw", "KG 9 Ave" },
+        { "Simba Online", "simba.rw", "KN 4 Ave" },
+        { "Kasha Shop", "kasha.rw", "KG 622 St" }
+    };
+    // category, code prefix, product, brand, price in cents; the first entries are the most popular
+    private static final Object[][] PRODUCTS = {
+        { "Electronics", "ELE", "Headphones", "Sony", 12_000L },
+        { "Electronics", "ELE", "Smartphone", "Samsung", 45_000L },
+        { "Groceries", "GRO", "Coffee Beans", "Gorilla's Coffee", 1_500L },
+        { "Clothing", "CLO", "Sneakers", "Nike", 9_000L },
+        { "Electronics", "ELE", "Laptop", "Lenovo", 85_000L },
+        { "Home", "HOM", "Blender", "Philips", 6_000L },
+        { "Beauty", "BEA", "Body Lotion", "Nivea", 800L },
+        { "Books", "BOO", "Notebook Set", "Moleskine", 2_500L },
+        { "Clothing", "CLO", "Rain Jacket", "Columbia", 11_000L },
+        { "Home", "HOM", "Water Filter", "Brita", 4_000L }
+    };
+    private static final String[] PAYMENT_METHODS = { "Card", "Mobile Money", "Cash on Delivery" };
+    private static final String[] CARRIERS = { "DHL", "Vuba Vuba", "Rwanda Post", "In-store Pickup" };
+    private static final CustomerType[] CUSTOMER_TYPES = CustomerType.values();
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.empty(10), SyntheticData.email(11),
+        SyntheticData.phone(12), SyntheticData.unknown(14), SyntheticData.negative(15),
+        SyntheticData.notPositive(17), SyntheticData.unknown(18), SyntheticData.empty(20),
+        SyntheticData.empty(21), SyntheticData.notPositive(22), SyntheticData.empty(23),
+        SyntheticData.negative(25), SyntheticData.negative(26), SyntheticData.negative(27)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new ShoppingGenerator(), rows, output);
+        SyntheticData.log(output).println(Question10_OnlineShopping.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return ShoppingBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] store = source.pick(STORES);
+        Object[] product = source.pickSkewed(PRODUCTS);
+        String customer = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        int quantity = source.chance(0.7) ? 1 : source.between(2, 6);
+        long price = (Long) product[4] * quantity;
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = store[0];
+        fields[4] = store[2];
+        fields[5] = source.phone();
+        fields[6] = "shop@" + store[1];
+        fields[7] = (String) product[0];
+        fields[8] = product[1] + "0" + source.between(1, 9);
+        fields[9] = (String) product[2];
+        fields[10] = (String) product[3];
+        fields[11] = "sales@" + store[1];
+        fields[12] = source.phone();
+        fields[13] = customer;
+        fields[14] = source.pick(CUSTOMER_TYPES).toString();
+        fields[15] = Integer.toString(source.nextInt(10));
+        fields[16] = "ORD-" + id;
+        fields[17] = Integer.toString(quantity);
+        fields[18] = source.pick(ORDER_STATUSES).toString();
+        fields[19] = source.phone();
+        fields[20] = source.pick(PAYMENT_METHODS);
+        fields[21] = source.code("TX", 6);
+        fields[22] = SyntheticData.money(price);
+        fields[23] = "KG " + source.between(1, 700) + " St";
+        fields[24] = source.pick(CARRIERS);
+        fields[25] = source.money(0, 1_500);
+        fields[26] = SyntheticData.money(price * 18 / 100);
+        fields[27] = SyntheticData.money(source.chance(0.2) ? price / 10 : 0);
+    }
+}
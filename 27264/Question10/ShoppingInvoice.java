@@ -0,0 +1,53 @@
+class ShoppingInvoice extends Shipping {
+    private double taxAmount;
+    private double discount;
+    private double totalAmount;
+
+    public ShoppingInvoice(int id, String createdDate, String updatedDate, String storeName,
+               String address, String phoneNumber, String email, String categoryName,
+               String categoryCode, String productName, String brand,
+               String productEmail, String phone, String customerName, String customerType,
+               int yearsOfMembership, String orderNumber, int quantity, String orderStatus,
+               String contactNumber, String paymentMethod, String transactionId,
+               double price, String shippingAddress, String carrier,
+               double shippingCost, double taxAmount, double discount) 
+               throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email,
+              categoryName, categoryCode, productName, brand, productEmail, phone,
+              customerName, customerType, yearsOfMembership, orderNumber, quantity, orderStatus, contactNumber,
+              paymentMethod, transactionId, price, shippingAddress, carrier, shippingCost);
+        
+        if (taxAmount < 0) throw new ShoppingException("ShoppingInvoice.taxAmount", "Tax amount must be >= 0");
+        if (discount < 0) throw new ShoppingException("ShoppingInvoice.discount", "Discount must be >= 0");
+        
+        this.taxAmount = taxAmount;
+        this.discount = discount;
+        this.totalAmount = 0;
+    }
+
+    ShoppingInvoice(RowSource source, int row) {
+        super(source, row);
+        this.taxAmount = source.getDouble(row, ShoppingColumns.TAX_AMOUNT);
+        this.discount = source.getDouble(row, ShoppingColumns.DISCOUNT);
+        this.totalAmount = source.getDouble(row, ShoppingColumns.TOTAL_AMOUNT);
+    }
+
+    public double getTaxAmount() { return taxAmount; }
+    public void setTaxAmount(double taxAmount) {
+        changing(ShoppingColumns.TAX_AMOUNT);
+        this.taxAmount = taxAmount;
+        changed(ShoppingColumns.TAX_AMOUNT);
+    }
+    public double getDiscount() { return discount; }
+    public void setDiscount(double discount) {
+        changing(ShoppingColumns.DISCOUNT);
+        this.discount = discount;
+        changed(ShoppingColumns.DISCOUNT);
+    }
+    public double getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(double totalAmount) {
+        changing(ShoppingColumns.TOTAL_AMOUNT);
+        this.totalAmount = totalAmount;
+        changed(ShoppingColumns.TOTAL_AMOUNT);
+    }
+}
@@ -0,0 +1,54 @@
+class ShoppingPayment extends Order {
+    private String paymentMethod;
+    private String transactionId;
+    private double price;
+
+    public ShoppingPayment(int id, String createdDate, String updatedDate, String storeName,
+                    String address, String phoneNumber, String email, String categoryName,
+                    String categoryCode, String productName, String brand,
+                    String productEmail, String phone, String customerName, String customerType,
+                    int yearsOfMembership, String orderNumber, int quantity, String orderStatus,
+                    String contactNumber, String paymentMethod, String transactionId,
+                    double price) throws ShoppingException {
+        super(id, createdDate, updatedDate, storeName, address, phoneNumber, email,
+              categoryName, categoryCode, productName, brand, productEmail, phone,
+              customerName, customerType, yearsOfMembership, orderNumber, quantity, orderStatus, contactNumber);
+        
+        if (price <= 0) 
+            throw new ShoppingException("ShoppingPayment.price", "Price must be > 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
+            throw new ShoppingException("ShoppingPayment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty()) 
+            throw new ShoppingException("ShoppingPayment.transactionId", "Transaction ID cannot be empty");
+        
+        this.paymentMethod = paymentMethod;
+        this.transactionId = transactionId;
+        this.price = price;
+    }
+
+    ShoppingPayment(RowSource source, int row) {
+        super(source, row);
+        this.paymentMethod = source.getString(row, ShoppingColumns.PAYMENT_METHOD);
+        this.transactionId = source.getString(row, ShoppingColumns.TRANSACTION_ID);
+        this.price = source.getDouble(row, ShoppingColumns.PRICE);
+    }
+
+    public String getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(String paymentMethod) {
+        changing(ShoppingColumns.PAYMENT_METHOD);
+        this.paymentMethod = paymentMethod;
+        changed(ShoppingColumns.PAYMENT_METHOD);
+    }
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) {
+        changing(ShoppingColumns.TRANSACTION_ID);
+        this.transactionId = transactionId;
+        changed(ShoppingColumns.TRANSACTION_ID);
+    }
+    public double getPrice() { return price; }
+    public void setPrice(double price) {
+        changing(ShoppingColumns.PRICE);
+        this.price = price;
+        changed(ShoppingColumns.PRICE);
+    }
+}
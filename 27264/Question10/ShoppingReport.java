@@ -0,0 +1,131 @@
+import java.util.List;
+
+class ShoppingReport {
+    private static final String ID = Question10_OnlineShopping.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== ONLINE SHOPPING SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] STORE_DETAILS = ReportWriter.label("\n" + ID + " - --- Store Details ---");
+    private static final byte[] STORE_NAME = ReportWriter.label(ID + " - Store Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] CATEGORY_DETAILS = ReportWriter.label("\n" + ID + " - --- Category Details ---");
+    private static final byte[] CATEGORY_NAME = ReportWriter.label(ID + " - Category Name: ");
+    private static final byte[] CATEGORY_CODE = ReportWriter.label(ID + " - Category Code: ");
+    private static final byte[] PRODUCT_DETAILS = ReportWriter.label("\n" + ID + " - --- Product Details ---");
+    private static final byte[] PRODUCT_NAME = ReportWriter.label(ID + " - Product Name: ");
+    private static final byte[] BRAND = ReportWriter.label(ID + " - Brand: ");
+    private static final byte[] PRODUCT_EMAIL = ReportWriter.label(ID + " - Product Email: ");
+    private static final byte[] PRODUCT_PHONE = ReportWriter.label(ID + " - Product Phone: ");
+    private static final byte[] CUSTOMER_DETAILS = ReportWriter.label("\n" + ID + " - --- Customer Details ---");
+    private static final byte[] CUSTOMER_NAME = ReportWriter.label(ID + " - Customer Name: ");
+    private static final byte[] CUSTOMER_TYPE = ReportWriter.label(ID + " - Customer Type: ");
+    private static final byte[] YEARS_OF_MEMBERSHIP = ReportWriter.label(ID + " - Years of Membership: ");
+    private static final byte[] ORDER_DETAILS = ReportWriter.label("\n" + ID + " - --- Order Details ---");
+    private static final byte[] ORDER_NUMBER = ReportWriter.label(ID + " - Order Number: ");
+    private static final byte[] QUANTITY = ReportWriter.label(ID + " - Quantity: ");
+    private static final byte[] ORDER_STATUS = ReportWriter.label(ID + " - Order Status: ");
+    private static final byte[] CONTACT_NUMBER = ReportWriter.label(ID + " - Contact Number: ");
+    private static final byte[] PAYMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Payment Details ---");
+    private static final byte[] PAYMENT_METHOD = ReportWriter.label(ID + " - Payment Method: ");
+    private static final byte[] TRANSACTION_ID = ReportWriter.label(ID + " - Transaction ID: ");
+    private static final byte[] PRICE = ReportWriter.label(ID + " - Price: $");
+    private static final byte[] SHIPPING_DETAILS = ReportWriter.label("\n" + ID + " - --- Shipping Details ---");
+    private static final byte[] SHIPPING_ADDRESS = ReportWriter.label(ID + " - Shipping Address: ");
+    private static final byte[] CARRIER = ReportWriter.label(ID + " - Carrier: ");
+    private static final byte[] SHIPPING_COST = ReportWriter.label(ID + " - Shipping Cost: $");
+    private static final byte[] INVOICE_DETAILS = ReportWriter.label("\n" + ID + " - --- Invoice Details ---");
+    private static final byte[] TAX_AMOUNT = ReportWriter.label(ID + " - Tax Amount: $");
+    private static final byte[] DISCOUNT = ReportWriter.label(ID + " - Discount: $");
+    private static final byte[] TOTAL_AMOUNT = ReportWriter.label(ID + " - Total Amount: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(OrderRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(STORE_DETAILS).newLine();
+        out.write(STORE_NAME).write(record.getStoreName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(CATEGORY_DETAILS).newLine();
+        out.write(CATEGORY_NAME).write(record.getCategoryName()).newLine();
+        out.write(CATEGORY_CODE).write(record.getCategoryCode()).newLine();
+        out.write(PRODUCT_DETAILS).newLine();
+        out.write(PRODUCT_NAME).write(record.getProductName()).newLine();
+        out.write(BRAND).write(record.getBrand()).newLine();
+        out.write(PRODUCT_EMAIL).write(record.getProductEmail()).newLine();
+        out.write(PRODUCT_PHONE).write(record.getPhone()).newLine();
+        out.write(CUSTOMER_DETAILS).newLine();
+        out.write(CUSTOMER_NAME).write(record.getCustomerName()).newLine();
+        out.write(CUSTOMER_TYPE).write(record.getCustomerType()).newLine();
+        out.write(YEARS_OF_MEMBERSHIP).write(record.getYearsOfMembership()).newLine();
+        out.write(ORDER_DETAILS).newLine();
+        out.write(ORDER_NUMBER).write(record.getOrderNumber()).newLine();
+        out.write(QUANTITY).write(record.getQuantity()).newLine();
+        out.write(ORDER_STATUS).write(record.getOrderStatus()).newLine();
+        out.write(CONTACT_NUMBER).write(record.getContactNumber()).newLine();
+        out.write(PAYMENT_DETAILS).newLine();
+        out.write(PAYMENT_METHOD).write(record.getPaymentMethod()).newLine();
+        out.write(TRANSACTION_ID).write(record.getTransactionId()).newLine();
+        out.write(PRICE).write(record.getPrice()).newLine();
+        out.write(SHIPPING_DETAILS).newLine();
+        out.write(SHIPPING_ADDRESS).write(record.getShippingAddress()).newLine();
+        out.write(CARRIER).write(record.getCarrier()).newLine();
+        out.write(SHIPPING_COST).write(record.getShippingCost()).newLine();
+        out.write(INVOICE_DETAILS).newLine();
+        out.write(TAX_AMOUNT).write(record.getTaxAmount()).newLine();
+        out.write(DISCOUNT).write(record.getDiscount()).newLine();
+        out.write(TOTAL_AMOUNT).write(record.getTotalAmount()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(OrderRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getStoreName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getCategoryName()).write(SEPARATOR);
+        out.write(record.getCategoryCode()).write(SEPARATOR);
+        out.write(record.getProductName()).write(SEPARATOR);
+        out.write(record.getBrand()).write(SEPARATOR);
+        out.write(record.getProductEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getCustomerName()).write(SEPARATOR);
+        out.write(record.getCustomerType()).write(SEPARATOR);
+        out.write(record.getYearsOfMembership()).write(SEPARATOR);
+        out.write(record.getOrderNumber()).write(SEPARATOR);
+        out.write(record.getQuantity()).write(SEPARATOR);
+        out.write(record.getOrderStatus()).write(SEPARATOR);
+        out.write(record.getContactNumber()).write(SEPARATOR);
+        out.write(record.getPaymentMethod()).write(SEPARATOR);
+        out.write(record.getTransactionId()).write(SEPARATOR);
+        out.write(record.getPrice()).write(SEPARATOR);
+        out.write(record.getShippingAddress()).write(SEPARATOR);
+        out.write(record.getCarrier()).write(SEPARATOR);
+        out.write(record.getShippingCost()).write(SEPARATOR);
+        out.write(record.getTaxAmount()).write(SEPARATOR);
+        out.write(record.getDiscount()).write(SEPARATOR);
+        out.write(record.getTotalAmount()).newLine();
+    }
+
+    static void writeAll(List<OrderRecord> records, ReportWriter out, boolean compact) {
+        for (OrderRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
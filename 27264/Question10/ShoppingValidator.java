@@ -0,0 +1,54 @@
+class ShoppingValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String storeName,
+            String address, String phoneNumber, String email, String categoryName, String categoryCode,
+            String productName, String brand, String productEmail, String phone, String customerName,
+            String customerType, int yearsOfMembership, String orderNumber, int quantity,
+            String orderStatus, String contactNumber, String paymentMethod, String transactionId,
+            double price, String shippingAddress, String carrier, double shippingCost, double taxAmount,
+            double discount, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("ShoppingEntity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("ShoppingEntity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("ShoppingEntity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("Store.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("Store.email", "Invalid email format");
+        if (!FieldRules.isCode(categoryCode))
+            result.add("Category.categoryCode", "Category code must be alphanumeric and at least 3 characters");
+        if (brand == null || brand.trim().isEmpty())
+            result.add("Product.brand", "Brand cannot be empty");
+        if (!FieldRules.isEmail(productEmail))
+            result.add("Product.productEmail", "Invalid product email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("Product.phone", "Product phone must be exactly 10 digits");
+        if (!CustomerType.CODES.contains(customerType))
+            result.add("ShoppingCustomer.customerType", "Customer type must be 'Regular' or 'Premium'");
+        if (yearsOfMembership < 0)
+            result.add("ShoppingCustomer.yearsOfMembership", "Years of membership must be >= 0");
+        if (quantity <= 0)
+            result.add("Order.quantity", "Quantity must be > 0");
+        if (!OrderStatus.CODES.contains(orderStatus))
+            result.add("Order.orderStatus", "Order status must be 'Processing', 'Shipped', or 'Delivered'");
+        if (price <= 0)
+            result.add("ShoppingPayment.price", "Price must be > 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty())
+            result.add("ShoppingPayment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty())
+            result.add("ShoppingPayment.transactionId", "Transaction ID cannot be empty");
+        if (shippingAddress == null || shippingAddress.trim().isEmpty())
+            result.add("Shipping.shippingAddress", "Shipping address cannot be null");
+        if (shippingCost < 0)
+            result.add("Shipping.shippingCost", "Shipping cost must be >= 0");
+        if (taxAmount < 0)
+            result.add("ShoppingInvoice.taxAmount", "Tax amount must be >= 0");
+        if (discount < 0)
+            result.add("ShoppingInvoice.discount", "Discount must be >= 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Shopping", result);
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+final class ShoppingView {
+    private final RowSource source;
+    private int row;
+
+    ShoppingView(RowSource source) {
+        this.source = source;
+    }
+
+    public ShoppingView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, ShoppingColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, ShoppingColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, ShoppingColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, ShoppingColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, ShoppingColumns.UPDATED_DATE); }
+    public String getStoreName() { return source.getString(row, ShoppingColumns.STORE_NAME); }
+    public String getAddress() { return source.getString(row, ShoppingColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, ShoppingColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, ShoppingColumns.EMAIL); }
+    public String getCategoryName() { return source.getString(row, ShoppingColumns.CATEGORY_NAME); }
+    public String getCategoryCode() { return source.getString(row, ShoppingColumns.CATEGORY_CODE); }
+    public String getProductName() { return source.getString(row, ShoppingColumns.PRODUCT_NAME); }
+    public String getBrand() { return source.getString(row, ShoppingColumns.BRAND); }
+    public String getProductEmail() { return source.getString(row, ShoppingColumns.PRODUCT_EMAIL); }
+    public String getPhone() { return source.getString(row, ShoppingColumns.PHONE); }
+    public String getCustomerName() { return source.getString(row, ShoppingColumns.CUSTOMER_NAME); }
+    public String getCustomerType() { return source.getString(row, ShoppingColumns.CUSTOMER_TYPE); }
+    public byte getCustomerTypeCode() { return (byte) source.getInt(row, ShoppingColumns.CUSTOMER_TYPE); }
+    public int getYearsOfMembership() { return source.getInt(row, ShoppingColumns.YEARS_OF_MEMBERSHIP); }
+    public String getOrderNumber() { return source.getString(row, ShoppingColumns.ORDER_NUMBER); }
+    public int getQuantity() { return source.getInt(row, ShoppingColumns.QUANTITY); }
+    public String getOrderStatus() { return source.getString(row, ShoppingColumns.ORDER_STATUS); }
+    public byte getOrderStatusCode() { return (byte) source.getInt(row, ShoppingColumns.ORDER_STATUS); }
+    public String getContactNumber() { return source.getString(row, ShoppingColumns.CONTACT_NUMBER); }
+    public String getPaymentMethod() { return source.getString(row, ShoppingColumns.PAYMENT_METHOD); }
+    public String getTransactionId() { return source.getString(row, ShoppingColumns.TRANSACTION_ID); }
+    public double getPrice() { return source.getDouble(row, ShoppingColumns.PRICE); }
+    public String getShippingAddress() { return source.getString(row, ShoppingColumns.SHIPPING_ADDRESS); }
+    public String getCarrier() { return source.getString(row, ShoppingColumns.CARRIER); }
+    public double getShippingCost() { return source.getDouble(row, ShoppingColumns.SHIPPING_COST); }
+    public double getTaxAmount() { return source.getDouble(row, ShoppingColumns.TAX_AMOUNT); }
+    public double getDiscount() { return source.getDouble(row, ShoppingColumns.DISCOUNT); }
+    public double getTotalAmount() { return source.getDouble(row, ShoppingColumns.TOTAL_AMOUNT); }
+
+    public double calculateTotalAmount() {
+        return Money.toDouble(Money.add(cents(ShoppingColumns.PRICE), cents(ShoppingColumns.SHIPPING_COST)));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,44 @@
+class Store extends ShoppingEntity {
+    private StoreProfile profile;
+
+    public Store(int id, String createdDate, String updatedDate, String storeName, 
+                   String address, String phoneNumber, String email) throws ShoppingException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = StoreProfile.of(storeName, address, phoneNumber, email);
+    }
+
+    Store(RowSource source, int row) {
+        super(source, row);
+        String storeName = source.getString(row, ShoppingColumns.STORE_NAME);
+        String address = source.getString(row, ShoppingColumns.ADDRESS);
+        String phoneNumber = source.getString(row, ShoppingColumns.PHONE_NUMBER);
+        String email = source.getString(row, ShoppingColumns.EMAIL);
+        this.profile = StoreProfile.restore(storeName, address, phoneNumber, email);
+    }
+
+    public String getStoreName() { return profile.getStoreName(); }
+    public void setStoreName(String storeName) {
+        changing(ShoppingColumns.STORE_NAME);
+        profile = profile.withStoreName(storeName);
+        changed(ShoppingColumns.STORE_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(ShoppingColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(ShoppingColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(ShoppingColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(ShoppingColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(ShoppingColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(ShoppingColumns.EMAIL);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class StoreProfile {
+    private static final Interner<StoreProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<StoreProfile> RESTORED = new Interner<>();
+
+    private final String storeName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private StoreProfile(String storeName, String address, String phoneNumber, String email) {
+        this.storeName = storeName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(storeName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static StoreProfile of(String storeName, String address, String phoneNumber, String email)
+            throws ShoppingException {
+        StoreProfile candidate = new StoreProfile(storeName, address, phoneNumber, email);
+        StoreProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new ShoppingException("Store.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new ShoppingException("Store.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static StoreProfile restore(String storeName, String address, String phoneNumber, String email) {
+        StoreProfile candidate = new StoreProfile(storeName, address, phoneNumber, email);
+        StoreProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getStoreName() { return storeName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    StoreProfile withStoreName(String storeName) {
+        return new StoreProfile(storeName, address, phoneNumber, email);
+    }
+
+    StoreProfile withAddress(String address) {
+        return new StoreProfile(storeName, address, phoneNumber, email);
+    }
+
+    StoreProfile withPhoneNumber(String phoneNumber) {
+        return new StoreProfile(storeName, address, phoneNumber, email);
+    }
+
+    StoreProfile withEmail(String email) {
+        return new StoreProfile(storeName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof StoreProfile)) return false;
+        StoreProfile that = (StoreProfile) other;
+        return hash == that.hash
+            && Objects.equals(storeName, that.storeName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
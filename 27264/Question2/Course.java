@@ -0,0 +1,51 @@
+class Course extends Student {
+    private String courseName;
+    private String courseCode;
+    private int creditHours;
+
+    public Course(int id, String createdDate, String updatedDate, String schoolName,
+                 String address, String phoneNumber, String email, String departmentName,
+                 String departmentCode, String teacherName, String subject,
+                 String teacherEmail, String phone, String studentName, int studentAge,
+                 String studentGrade, String studentContact, String courseName,
+                 String courseCode, int creditHours) throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email,
+              departmentName, departmentCode, teacherName, subject, teacherEmail, phone,
+              studentName, studentAge, studentGrade, studentContact);
+        
+        if (courseCode == null || courseCode.trim().isEmpty()) 
+            throw new SchoolDataException("Course.courseCode", "Course code cannot be empty");
+        if (creditHours <= 0) 
+            throw new SchoolDataException("Course.creditHours", "Credit hours must be > 0");
+        
+        this.courseName = courseName;
+        this.courseCode = courseCode;
+        this.creditHours = creditHours;
+    }
+
+    Course(RowSource source, int row) {
+        super(source, row);
+        this.courseName = source.getString(row, SchoolColumns.COURSE_NAME);
+        this.courseCode = source.getString(row, SchoolColumns.COURSE_CODE);
+        this.creditHours = source.getInt(row, SchoolColumns.CREDIT_HOURS);
+    }
+
+    public String getCourseName() { return courseName; }
+    public void setCourseName(String courseName) {
+        changing(SchoolColumns.COURSE_NAME);
+        this.courseName = courseName;
+        changed(SchoolColumns.COURSE_NAME);
+    }
+    public String getCourseCode() { return courseCode; }
+    public void setCourseCode(String courseCode) {
+        changing(SchoolColumns.COURSE_CODE);
+        this.courseCode = courseCode;
+        changed(SchoolColumns.COURSE_CODE);
+    }
+    public int getCreditHours() { return creditHours; }
+    public void setCreditHours(int creditHours) {
+        changing(SchoolColumns.CREDIT_HOURS);
+        this.creditHours = creditHours;
+        changed(SchoolColumns.CREDIT_HOURS);
+    }
+}
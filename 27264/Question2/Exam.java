@@ -0,0 +1,59 @@
+class Exam extends Course {
+    private int examDay;
+    private String examDateText;
+    private String examType;
+    private int duration;
+
+    public Exam(int id, String createdDate, String updatedDate, String schoolName,
+               String address, String phoneNumber, String email, String departmentName,
+               String departmentCode, String teacherName, String subject,
+               String teacherEmail, String phone, String studentName, int studentAge,
+               String studentGrade, String studentContact, String courseName,
+               String courseCode, int creditHours, String examDate, String examType,
+               int duration) throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email,
+              departmentName, departmentCode, teacherName, subject, teacherEmail, phone,
+              studentName, studentAge, studentGrade, studentContact, courseName, courseCode,
+              creditHours);
+        
+        if (examDate == null || examDate.trim().isEmpty()) 
+            throw new SchoolDataException("Exam.examDate", "Exam date cannot be empty");
+        if (duration <= 0) 
+            throw new SchoolDataException("Exam.duration", "Exam duration must be > 0");
+        
+        this.examDay = Dates.parse(examDate);
+        this.examDateText = Dates.unparsed(examDate, examDay);
+        this.examType = examType;
+        this.duration = duration;
+    }
+
+    Exam(RowSource source, int row) {
+        super(source, row);
+        String examDate = source.getString(row, SchoolColumns.EXAM_DATE);
+        this.examDay = Dates.parse(examDate);
+        this.examDateText = Dates.unparsed(examDate, examDay);
+        this.examType = source.getString(row, SchoolColumns.EXAM_TYPE);
+        this.duration = source.getInt(row, SchoolColumns.DURATION);
+    }
+
+    public String getExamDate() { return Dates.text(examDay, examDateText); }
+    public int getExamDay() { return examDay; }
+    public void setExamDate(String examDate) {
+        changing(SchoolColumns.EXAM_DATE);
+        this.examDay = Dates.parse(examDate);
+        this.examDateText = Dates.unparsed(examDate, examDay);
+        changed(SchoolColumns.EXAM_DATE);
+    }
+    public String getExamType() { return examType; }
+    public void setExamType(String examType) {
+        changing(SchoolColumns.EXAM_TYPE);
+        this.examType = examType;
+        changed(SchoolColumns.EXAM_TYPE);
+    }
+    public int getDuration() { return duration; }
+    public void setDuration(int duration) {
+        changing(SchoolColumns.DURATION);
+        this.duration = duration;
+        changed(SchoolColumns.DURATION);
+    }
+}
@@ -0,0 +1,52 @@
+class Fee extends Result {
+    private double tutionFee;
+    private double libraryFee;
+    private double totalFee;
+
+    public Fee(int id, String createdDate, String updatedDate, String schoolName,
+              String address, String phoneNumber, String email, String departmentName,
+              String departmentCode, String teacherName, String subject,
+              String teacherEmail, String phone, String studentName, int studentAge,
+              String studentGrade, String studentContact, String courseName,
+              String courseCode, int creditHours, String examDate, String examType,
+              int duration, double obtainedMarks, double maxMarks, double tutionFee,
+              double libraryFee) throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email,
+              departmentName, departmentCode, teacherName, subject, teacherEmail, phone,
+              studentName, studentAge, studentGrade, studentContact, courseName, courseCode,
+              creditHours, examDate, examType, duration, obtainedMarks, maxMarks);
+        
+        if (tutionFee <= 0) throw new SchoolDataException("Fee.tutionFee", "Tution fee must be > 0");
+        if (libraryFee < 0) throw new SchoolDataException("Fee.libraryFee", "Library fee must be >= 0");
+        
+        this.tutionFee = tutionFee;
+        this.libraryFee = libraryFee;
+        this.totalFee = 0;
+    }
+
+    Fee(RowSource source, int row) {
+        super(source, row);
+        this.tutionFee = source.getDouble(row, SchoolColumns.TUTION_FEE);
+        this.libraryFee = source.getDouble(row, SchoolColumns.LIBRARY_FEE);
+        this.totalFee = source.getDouble(row, SchoolColumns.TOTAL_FEE);
+    }
+
+    public double getTutionFee() { return tutionFee; }
+    public void setTutionFee(double tutionFee) {
+        changing(SchoolColumns.TUTION_FEE);
+        this.tutionFee = tutionFee;
+        changed(SchoolColumns.TUTION_FEE);
+    }
+    public double getLibraryFee() { return libraryFee; }
+    public void setLibraryFee(double libraryFee) {
+        changing(SchoolColumns.LIBRARY_FEE);
+        this.libraryFee = libraryFee;
+        changed(SchoolColumns.LIBRARY_FEE);
+    }
+    public double getTotalFee() { return totalFee; }
+    public void setTotalFee(double totalFee) {
+        changing(SchoolColumns.TOTAL_FEE);
+        this.totalFee = totalFee;
+        changed(SchoolColumns.TOTAL_FEE);
+    }
+}
@@ -0,0 +1,54 @@
+class Result extends Exam {
+    private double obtainedMarks;
+    private double maxMarks;
+    private double percentage;
+
+    public Result(int id, String createdDate, String updatedDate, String schoolName,
+                 String address, String phoneNumber, String email, String departmentName,
+                 String departmentCode, String teacherName, String subject,
+                 String teacherEmail, String phone, String studentName, int studentAge,
+                 String studentGrade, String studentContact, String courseName,
+                 String courseCode, int creditHours, String examDate, String examType,
+                 int duration, double obtainedMarks, double maxMarks) 
+                 throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email,
+              departmentName, departmentCode, teacherName, subject, teacherEmail, phone,
+              studentName, studentAge, studentGrade, studentContact, courseName, courseCode,
+              creditHours, examDate, examType, duration);
+        
+        if (obtainedMarks < 0) throw new SchoolDataException("Result.obtainedMarks", "Obtained marks must be >= 0");
+        if (maxMarks <= 0) throw new SchoolDataException("Result.maxMarks", "Max marks must be > 0");
+        if (obtainedMarks > maxMarks) 
+            throw new SchoolDataException("Result.obtainedMarks", "Obtained marks cannot exceed max marks");
+        
+        this.obtainedMarks = obtainedMarks;
+        this.maxMarks = maxMarks;
+        this.percentage = 0;
+    }
+
+    Result(RowSource source, int row) {
+        super(source, row);
+        this.obtainedMarks = source.getDouble(row, SchoolColumns.OBTAINED_MARKS);
+        this.maxMarks = source.getDouble(row, SchoolColumns.MAX_MARKS);
+        this.percentage = source.getDouble(row, SchoolColumns.PERCENTAGE);
+    }
+
+    public double getObtainedMarks() { return obtainedMarks; }
+    public void setObtainedMarks(double obtainedMarks) {
+        changing(SchoolColumns.OBTAINED_MARKS);
+        this.obtainedMarks = obtainedMarks;
+        changed(SchoolColumns.OBTAINED_MARKS);
+    }
+    public double getMaxMarks() { return maxMarks; }
+    public void setMaxMarks(double maxMarks) {
+        changing(SchoolColumns.MAX_MARKS);
+        this.maxMarks = maxMarks;
+        changed(SchoolColumns.MAX_MARKS);
+    }
+    public double getPercentage() { return percentage; }
+    public void setPercentage(double percentage) {
+        changing(SchoolColumns.PERCENTAGE);
+        this.percentage = percentage;
+        changed(SchoolColumns.PERCENTAGE);
+    }
+}
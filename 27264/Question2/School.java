@@ -0,0 +1,44 @@
+class School extends SchoolEntity {
+    private SchoolProfile profile;
+
+    public School(int id, String createdDate, String updatedDate, String schoolName, 
+                   String address, String phoneNumber, String email) throws SchoolDataException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = SchoolProfile.of(schoolName, address, phoneNumber, email);
+    }
+
+    School(RowSource source, int row) {
+        super(source, row);
+        String schoolName = source.getString(row, SchoolColumns.SCHOOL_NAME);
+        String address = source.getString(row, SchoolColumns.ADDRESS);
+        String phoneNumber = source.getString(row, SchoolColumns.PHONE_NUMBER);
+        String email = source.getString(row, SchoolColumns.EMAIL);
+        this.profile = SchoolProfile.restore(schoolName, address, phoneNumber, email);
+    }
+
+    public String getSchoolName() { return profile.getSchoolName(); }
+    public void setSchoolName(String schoolName) {
+        changing(SchoolColumns.SCHOOL_NAME);
+        profile = profile.withSchoolName(schoolName);
+        changed(SchoolColumns.SCHOOL_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(SchoolColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(SchoolColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(SchoolColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(SchoolColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(SchoolColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(SchoolColumns.EMAIL);
+    }
+}
@@ -0,0 +1,234 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class SchoolBatchLoader implements ParallelBatch.Row {
+    public static final char DELIMITER = '|';
+    public static final int FIELD_COUNT = 27;
+
+    // The constructor's parameter names, in the order of the fields on a line
+    static final String[] FIELDS = {
+        "id", "createdDate", "updatedDate", "schoolName", "address", "phoneNumber", "email",
+        "departmentName", "departmentCode", "teacherName", "subject", "teacherEmail", "phone",
+        "studentName", "studentAge", "studentGrade", "studentContact", "courseName",
+        "courseCode", "creditHours", "examDate", "examType", "duration", "obtainedMarks",
+        "maxMarks", "tutionFee", "libraryFee"
+    };
+
+    private static final LatencyHistogram PARSE = Metrics.histogram("School.parse");
+    private static final LatencyHistogram VALIDATE = Metrics.histogram("School.validate");
+    private static final LatencyHistogram CONSTRUCT = Metrics.histogram("School.construct");
+    private static final LatencyHistogram COMPUTE = Metrics.histogram("School.compute");
+    private static final LatencyHistogram RENDER = Metrics.histogram("School.render");
+
+    private final String[] fields = new String[FIELD_COUNT];
+    private final ValidationResult result = new ValidationResult();
+    private long time;
+    private int id;
+
+    public static ParallelBatch.Summary run(Path input, Path output, ParallelBatch batch) throws IOException {
+        Path rejects = Paths.get(output.toString() + ".rejects");
+        ParallelBatch.Summary summary = batch.run(input, output, rejects, SchoolBatchLoader::new);
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Batch complete: " + summary.getTotal()
+            + " rows (" + summary.getAccepted() + " accepted, " + summary.getRejected() + " rejected) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + batch.getParallelism() + " threads");
+        if (summary.getDuplicates() > 0)
+            System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Duplicate ids: "
+                + summary.getDuplicates() + " rows repeated an earlier id (" + summary.getDuplicateIds() + ")");
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Throughput: "
+            + summary.rowsPerSecond() + " rows/s");
+        Metrics.dumpIfRequested();
+        return summary;
+    }
+
+    // The batch file's valid records by id, in file order; rows a batch run would reject are left out.
+    static Map<Integer, StudentRecord> load(Path input) throws IOException {
+        Map<Integer, StudentRecord> records = new LinkedHashMap<>();
+        read(input, record -> records.put(record.getId(), record));
+        return records;
+    }
+
+    // Every valid row of the batch file as columns, in file order, with the computed column filled
+    // in; the source for a Query.
+    static ColumnTable loadTable(Path input) throws IOException {
+        ColumnTable table = new ColumnTable(SchoolColumns.SCHEMA);
+        read(input, record -> SchoolColumns.append(table, record));
+        SchoolColumns.calculateAverageMarks(table);
+        return table;
+    }
+
+    // Passes each valid record of the batch file to action, in file order. A row with the id of an
+    // earlier record is left out, as a batch run rejects it.
+    static void read(Path input, Consumer<StudentRecord> action) throws IOException {
+        SchoolBatchLoader loader = new SchoolBatchLoader();
+        IdBitmap ids = new IdBitmap();
+        try (BufferedReader lines = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                if (line.isEmpty() || line.charAt(0) == '#') continue;
+                loader.time = Metrics.now();
+                try {
+                    StudentRecord record = loader.toRecord(line);
+                    if (record != null && ids.add(record.getId())) action.accept(record);
+                } catch (SchoolDataException | NumberFormatException e) {
+                    // rejected, as in a batch run
+                }
+            }
+        }
+    }
+
+    // Rebuilds the records as they were when the journal was last written: the batch file's
+    // records with every journaled change applied on top.
+    public static Map<Integer, StudentRecord> replay(Path input, Path journal) throws IOException {
+        Map<Integer, StudentRecord> records = load(input);
+        ChangeJournal.Summary summary = ChangeJournal.replay(journal, SchoolColumns.ACCESSORS, records);
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Replayed " + summary.getEntries()
+            + " changes onto " + records.size() + " records in " + (summary.getElapsedNanos() / 1_000_000) + " ms ("
+            + summary.getMissing() + " for unknown records, " + summary.getMismatched() + " not matching)");
+        return records;
+    }
+
+    // Writes the batch file's valid records to a snapshot for restore to start from.
+    public static RecordSnapshot.Summary snapshot(Path input, Path snapshot) throws IOException {
+        Map<Integer, StudentRecord> records = load(input);
+        RecordSnapshot.Summary summary = RecordSnapshot.write(snapshot, SchoolColumns.SCHEMA, records.values(),
+            SchoolColumns::append);
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Snapshot of " + summary.getRows() + " records written in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms (" + (summary.getBytes() / 1024) + " KB)");
+        return summary;
+    }
+
+    // Rebuilds the records from a snapshot, reading the mapped rows without parsing or validating
+    // them again, then applies the changes journaled since the snapshot was started. The journal
+    // may be null.
+    public static Map<Integer, StudentRecord> restore(Path snapshot, Path journal) throws IOException {
+        long start = System.nanoTime();
+        Map<Integer, StudentRecord> records = new LinkedHashMap<>();
+        try (RecordSnapshot rows = RecordSnapshot.open(snapshot, SchoolColumns.SCHEMA)) {
+            if (rows == null)
+                throw new IOException("No complete snapshot at " + snapshot);
+            for (StudentRecord record : rows.records(SchoolColumns::record)) {
+                records.put(record.getId(), record);
+            }
+            System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Restored " + records.size()
+                + " records from the snapshot in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+            if (journal != null) {
+                ChangeJournal.Summary summary = rows.replay(journal, SchoolColumns.ACCESSORS, records);
+                System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Replayed " + summary.getApplied()
+                    + " changes onto " + records.size() + " records in " + (summary.getElapsedNanos() / 1_000_000)
+                    + " ms (" + summary.getMissing() + " for unknown records, " + summary.getMismatched()
+                    + " not matching)");
+            }
+        }
+        return records;
+    }
+
+    // The ids of the batch file's valid records.
+    static IdBitmap ids(Path input) throws IOException {
+        IdBitmap ids = new IdBitmap();
+        read(input, record -> ids.add(record.getId()));
+        return ids;
+    }
+
+    // Compares the ids of two batch files' valid records, such as two loads to reconcile.
+    public static void reconcile(Path first, Path second) throws IOException {
+        long start = System.nanoTime();
+        IdBitmap firstIds = ids(first);
+        IdBitmap secondIds = ids(second);
+        IdBitmap both = IdBitmap.and(firstIds, secondIds);
+        IdBitmap onlyFirst = IdBitmap.andNot(firstIds, secondIds);
+        IdBitmap onlySecond = IdBitmap.andNot(secondIds, firstIds);
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - " + first + ": " + firstIds.size() + " ids, " + second + ": "
+            + secondIds.size() + " ids, compared in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - In both: " + both.size());
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Only in " + first + ": " + onlyFirst.size()
+            + (onlyFirst.isEmpty() ? "" : " (" + onlyFirst + ")"));
+        System.out.println(Question2_SchoolManagement.STUDENT_ID + " - Only in " + second + ": " + onlySecond.size()
+            + (onlySecond.isEmpty() ? "" : " (" + onlySecond + ")"));
+    }
+
+    @Override
+    public int id() { return id; }
+
+    @Override
+    public String process(String line, StringBuilder out) {
+        time = Metrics.now();
+        try {
+            StudentRecord record = toRecord(line);
+            if (record == null) {
+                Metrics.countRules(result);
+                return result.toString();
+            }
+            id = record.getId();
+            double total = record.calculateAverageMarks();
+            time = COMPUTE.recordSince(time);
+            out.append(record.getId()).append(DELIMITER).append(record.getStudentName()).append(DELIMITER)
+                .append(total);
+            RENDER.recordSince(time);
+            return null;
+        } catch (SchoolDataException e) {
+            Metrics.countException(e);
+            return e.getMessage();
+        } catch (NumberFormatException e) {
+            Metrics.countException(e);
+            // The one rule this loader checks itself, while parsing
+            ValidationFailureEvent.emit("School", "Row.number", "Invalid number format");
+            return "Invalid number format";
+        }
+    }
+
+    // Returns null when the row breaks any rule; every violation is left in result.
+    private StudentRecord toRecord(String line) throws SchoolDataException {
+        int count = split(line);
+        if (count != FIELD_COUNT)
+            throw new SchoolDataException("Row.fieldCount", "Expected " + FIELD_COUNT + " fields but found " + count);
+
+        int id = Integer.parseInt(fields[0]);
+        int studentAge = Integer.parseInt(fields[14]);
+        int creditHours = Integer.parseInt(fields[19]);
+        int duration = Integer.parseInt(fields[22]);
+        double obtainedMarks = Double.parseDouble(fields[23]);
+        double maxMarks = Double.parseDouble(fields[24]);
+        double tutionFee = Double.parseDouble(fields[25]);
+        double libraryFee = Double.parseDouble(fields[26]);
+        time = PARSE.recordSince(time);
+
+        boolean valid = SchoolValidator.validate(id, fields[1], fields[2], fields[3], fields[4],
+            fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11],
+            fields[12], fields[13], studentAge, fields[15], fields[16], fields[17], fields[18],
+            creditHours, fields[20], fields[21], duration, obtainedMarks, maxMarks, tutionFee,
+            libraryFee, result);
+        time = VALIDATE.recordSince(time);
+        if (!valid) return null;
+
+        RecordConstructionEvent construction = new RecordConstructionEvent();
+        construction.begin();
+        StudentRecord record = new StudentRecord(id, fields[1], fields[2], fields[3], fields[4],
+            fields[5], fields[6], fields[7], fields[8], fields[9], fields[10], fields[11],
+            fields[12], fields[13], studentAge, fields[15], fields[16], fields[17], fields[18],
+            creditHours, fields[20], fields[21], duration, obtainedMarks, maxMarks, tutionFee,
+            libraryFee);
+        construction.finish("School", record, id);
+        time = CONSTRUCT.recordSince(time);
+        return record;
+    }
+
+    private int split(String line) {
+        int count = 0;
+        int from = 0;
+        int length = line.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line.charAt(i) == DELIMITER) {
+                if (count < FIELD_COUNT) fields[count] = line.substring(from, i).trim();
+                count++;
+                from = i + 1;
+            }
+        }
+        return count;
+    }
+}
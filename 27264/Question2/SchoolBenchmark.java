@@ -0,0 +1,149 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class SchoolBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        StudentRecord record = newRecord(1);
+
+        bench.header("StudentRecord");
+        bench.run("new SchoolEntity", i -> new SchoolEntity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new StudentRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("calculateAverageMarks", i -> record.calculateAverageMarks());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            SchoolReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            SchoolReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("StudentRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by SchoolValidator", i -> SchoolValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "Green Hills Academy", "KG 7 Ave", "0781234567", "info@greenhills.ac.rw",
+            "Science", "SCI01", "Eric Mugisha", "Physics", "eric@greenhills.ac.rw", "0789876543",
+            "Jane Uwimana", 16, "S4", "0781112223", "Mechanics", "PHY101", 3, "2024-06-10", "Final",
+            120, 78.5, 100.0, 500.0, 25.0, result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("StudentRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        StudentRecord[] records = new StudentRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(SchoolColumns.SCHEMA, rows);
+        for (StudentRecord r : records) SchoolColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        SchoolView view = new SchoolView(table);
+        bench.runDouble("calculateAverageMarks over records", i -> {
+            double sum = 0;
+            for (StudentRecord r : records) sum += r.calculateAverageMarks();
+            return sum;
+        });
+        bench.runDouble("calculateAverageMarks over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateAverageMarks();
+            return sum;
+        });
+        bench.run("calculateAverageMarks column kernel", i -> {
+            SchoolColumns.calculateAverageMarks(table);
+            return table;
+        });
+        Path file = Files.createTempFile("StudentRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, SchoolColumns.SCHEMA)) {
+            for (StudentRecord r : records) SchoolColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, SchoolColumns.SCHEMA)) {
+            SchoolView mapped = new SchoolView(reader);
+            bench.runDouble("calculateAverageMarks over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).calculateAverageMarks();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<StudentRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            SchoolReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            SchoolReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws SchoolDataException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        StudentRecord[] records = new StudentRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (SchoolDataException e) {
+            return e;
+        }
+    }
+
+    static StudentRecord newRecord(int id) throws SchoolDataException {
+        return new StudentRecord(id, "2024-01-01", "2024-01-02", "Green Hills Academy", "KG 7 Ave",
+            "0781234567", "info@greenhills.ac.rw", "Science", "SCI01", "Eric Mugisha", "Physics",
+            "eric@greenhills.ac.rw", "0789876543", "Jane Uwimana", 16, "S4", "0781112223",
+            "Mechanics", "PHY101", 3, "2024-06-10", "Final", 120, 78.5, 100.0, 500.0, 25.0);
+    }
+
+    static StudentRecord newParsedRecord(int id, int organization) throws SchoolDataException {
+        return new StudentRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "Green Hills Academy" + organization, fresh("KG 7 Ave"), fresh("0781234567"),
+            fresh("info@greenhills.ac.rw"), fresh("Science"), fresh("SCI01"), fresh("Eric Mugisha"),
+            fresh("Physics"), fresh("eric@greenhills.ac.rw"), fresh("0789876543"),
+            fresh("Jane Uwimana"), 16, fresh("S4"), fresh("0781112223"), fresh("Mechanics"),
+            fresh("PHY101"), 3, fresh("2024-06-10"), fresh("Final"), 120, 78.5, 100.0, 500.0, 25.0);
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,135 @@
+import java.util.Collection;
+
+final class SchoolColumns {
+    static final Schema SCHEMA = new Schema("StudentRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int SCHOOL_NAME = SCHEMA.add("schoolName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int DEPARTMENT_NAME = SCHEMA.add("departmentName", ColumnType.DICT);
+    static final int DEPARTMENT_CODE = SCHEMA.add("departmentCode", ColumnType.DICT);
+    static final int TEACHER_NAME = SCHEMA.add("teacherName", ColumnType.DICT);
+    static final int SUBJECT = SCHEMA.add("subject", ColumnType.DICT);
+    static final int TEACHER_EMAIL = SCHEMA.add("teacherEmail", ColumnType.DICT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.DICT);
+    static final int STUDENT_NAME = SCHEMA.add("studentName", ColumnType.TEXT);
+    static final int STUDENT_AGE = SCHEMA.add("studentAge", ColumnType.INT);
+    static final int STUDENT_GRADE = SCHEMA.add("studentGrade", ColumnType.DICT);
+    static final int STUDENT_CONTACT = SCHEMA.add("studentContact", ColumnType.TEXT);
+    static final int COURSE_NAME = SCHEMA.add("courseName", ColumnType.DICT);
+    static final int COURSE_CODE = SCHEMA.add("courseCode", ColumnType.DICT);
+    static final int CREDIT_HOURS = SCHEMA.add("creditHours", ColumnType.INT);
+    static final int EXAM_DATE = SCHEMA.add("examDate", ColumnType.DATE);
+    static final int EXAM_TYPE = SCHEMA.add("examType", ColumnType.DICT);
+    static final int DURATION = SCHEMA.add("duration", ColumnType.INT);
+    static final int OBTAINED_MARKS = SCHEMA.add("obtainedMarks", ColumnType.DOUBLE);
+    static final int MAX_MARKS = SCHEMA.add("maxMarks", ColumnType.DOUBLE);
+    static final int PERCENTAGE = SCHEMA.add("percentage", ColumnType.DOUBLE);
+    static final int TUTION_FEE = SCHEMA.add("tutionFee", ColumnType.MONEY);
+    static final int LIBRARY_FEE = SCHEMA.add("libraryFee", ColumnType.MONEY);
+    static final int TOTAL_FEE = SCHEMA.add("totalFee", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<StudentRecord> ACCESSORS = new ColumnAccessors<StudentRecord>(SCHEMA)
+        .addInt(ID, StudentRecord::getId, StudentRecord::setId)
+        .addString(CREATED_DATE, StudentRecord::getCreatedDate, StudentRecord::setCreatedDate)
+        .addString(UPDATED_DATE, StudentRecord::getUpdatedDate, StudentRecord::setUpdatedDate)
+        .addString(SCHOOL_NAME, StudentRecord::getSchoolName, StudentRecord::setSchoolName)
+        .addString(ADDRESS, StudentRecord::getAddress, StudentRecord::setAddress)
+        .addString(PHONE_NUMBER, StudentRecord::getPhoneNumber, StudentRecord::setPhoneNumber)
+        .addString(EMAIL, StudentRecord::getEmail, StudentRecord::setEmail)
+        .addString(DEPARTMENT_NAME, StudentRecord::getDepartmentName, StudentRecord::setDepartmentName)
+        .addString(DEPARTMENT_CODE, StudentRecord::getDepartmentCode, StudentRecord::setDepartmentCode)
+        .addString(TEACHER_NAME, StudentRecord::getTeacherName, StudentRecord::setTeacherName)
+        .addString(SUBJECT, StudentRecord::getSubject, StudentRecord::setSubject)
+        .addString(TEACHER_EMAIL, StudentRecord::getTeacherEmail, StudentRecord::setTeacherEmail)
+        .addString(PHONE, StudentRecord::getPhone, StudentRecord::setPhone)
+        .addString(STUDENT_NAME, StudentRecord::getStudentName, StudentRecord::setStudentName)
+        .addInt(STUDENT_AGE, StudentRecord::getStudentAge, StudentRecord::setStudentAge)
+        .addString(STUDENT_GRADE, StudentRecord::getStudentGrade, StudentRecord::setStudentGrade)
+        .addString(STUDENT_CONTACT, StudentRecord::getStudentContact, StudentRecord::setStudentContact)
+        .addString(COURSE_NAME, StudentRecord::getCourseName, StudentRecord::setCourseName)
+        .addString(COURSE_CODE, StudentRecord::getCourseCode, StudentRecord::setCourseCode)
+        .addInt(CREDIT_HOURS, StudentRecord::getCreditHours, StudentRecord::setCreditHours)
+        .addString(EXAM_DATE, StudentRecord::getExamDate, StudentRecord::setExamDate)
+        .addString(EXAM_TYPE, StudentRecord::getExamType, StudentRecord::setExamType)
+        .addInt(DURATION, StudentRecord::getDuration, StudentRecord::setDuration)
+        .addDouble(OBTAINED_MARKS, StudentRecord::getObtainedMarks, StudentRecord::setObtainedMarks)
+        .addDouble(MAX_MARKS, StudentRecord::getMaxMarks, StudentRecord::setMaxMarks)
+        .addDouble(PERCENTAGE, StudentRecord::getPercentage, StudentRecord::setPercentage)
+        .addDouble(TUTION_FEE, StudentRecord::getTutionFee, StudentRecord::setTutionFee)
+        .addDouble(LIBRARY_FEE, StudentRecord::getLibraryFee, StudentRecord::setLibraryFee)
+        .addDouble(TOTAL_FEE, StudentRecord::getTotalFee, StudentRecord::setTotalFee)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "studentContact" };
+
+    static RecordIndexes<StudentRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, StudentRecord::indexedBy, expectedSize, columns);
+    }
+
+    private SchoolColumns() {
+    }
+
+    static int append(RowSink table, StudentRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, SCHOOL_NAME, record.getSchoolName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, DEPARTMENT_NAME, record.getDepartmentName());
+        table.setString(row, DEPARTMENT_CODE, record.getDepartmentCode());
+        table.setString(row, TEACHER_NAME, record.getTeacherName());
+        table.setString(row, SUBJECT, record.getSubject());
+        table.setString(row, TEACHER_EMAIL, record.getTeacherEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, STUDENT_NAME, record.getStudentName());
+        table.setInt(row, STUDENT_AGE, record.getStudentAge());
+        table.setString(row, STUDENT_GRADE, record.getStudentGrade());
+        table.setString(row, STUDENT_CONTACT, record.getStudentContact());
+        table.setString(row, COURSE_NAME, record.getCourseName());
+        table.setString(row, COURSE_CODE, record.getCourseCode());
+        table.setInt(row, CREDIT_HOURS, record.getCreditHours());
+        table.setString(row, EXAM_DATE, record.getExamDate());
+        table.setString(row, EXAM_TYPE, record.getExamType());
+        table.setInt(row, DURATION, record.getDuration());
+        table.setDouble(row, OBTAINED_MARKS, record.getObtainedMarks());
+        table.setDouble(row, MAX_MARKS, record.getMaxMarks());
+        table.setDouble(row, PERCENTAGE, record.getPercentage());
+        table.setDouble(row, TUTION_FEE, record.getTutionFee());
+        table.setDouble(row, LIBRARY_FEE, record.getLibraryFee());
+        table.setDouble(row, TOTAL_FEE, record.getTotalFee());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static StudentRecord record(RowSource source, int row) {
+        return new StudentRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<StudentRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (StudentRecord record : records) append(table, record);
+        calculateAverageMarks(table);
+        return table;
+    }
+
+    static void calculateAverageMarks(ColumnTable table) {
+        double[] obtainedMarks = table.doubles(OBTAINED_MARKS);
+        double[] maxMarks = table.doubles(MAX_MARKS);
+        double[] percentage = table.doubles(PERCENTAGE);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            percentage[row] = (obtainedMarks[row] / maxMarks[row]) * 100;
+        }
+    }
+}
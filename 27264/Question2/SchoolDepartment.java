@@ -0,0 +1,31 @@
+class SchoolDepartment extends School {
+    private SchoolDepartmentProfile profile;
+
+    public SchoolDepartment(int id, String createdDate, String updatedDate, String schoolName,
+                     String address, String phoneNumber, String email, String departmentName,
+                     String departmentCode) throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email);
+        
+        this.profile = SchoolDepartmentProfile.of(departmentName, departmentCode);
+    }
+
+    SchoolDepartment(RowSource source, int row) {
+        super(source, row);
+        String departmentName = source.getString(row, SchoolColumns.DEPARTMENT_NAME);
+        String departmentCode = source.getString(row, SchoolColumns.DEPARTMENT_CODE);
+        this.profile = SchoolDepartmentProfile.restore(departmentName, departmentCode);
+    }
+
+    public String getDepartmentName() { return profile.getDepartmentName(); }
+    public void setDepartmentName(String departmentName) {
+        changing(SchoolColumns.DEPARTMENT_NAME);
+        profile = profile.withDepartmentName(departmentName);
+        changed(SchoolColumns.DEPARTMENT_NAME);
+    }
+    public String getDepartmentCode() { return profile.getDepartmentCode(); }
+    public void setDepartmentCode(String departmentCode) {
+        changing(SchoolColumns.DEPARTMENT_CODE);
+        profile = profile.withDepartmentCode(departmentCode);
+        changed(SchoolColumns.DEPARTMENT_CODE);
+    }
+}
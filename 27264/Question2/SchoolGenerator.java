@@ -0,0 +1,91 @@
+import java.io.IOException;
+
+class SchoolGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address; the first entries are the busiest
+    private static final String[][] SCHOOLS = {
+        { "Green Hills Academy", "greenhills.ac.rw", "KG 7 Ave" },
+        { "Riviera High School", "riviera.ac.rw", "KG 9 Ave" },
+        { "Lycee de Kigali", "ldk.ac.rw", "KN 8 Ave" },
+        { "King David Academy", "kda.ac.rw", "KG 278 St" },
+        { "Wellspring Academy", "wellspring.ac.rw", "KG 11 Ave" }
+    };
+    // department, code prefix, course, course code prefix
+    private static final String[][] COURSES = {
+        { "Science", "SCI", "Mechanics", "PHY" }, { "Science", "SCI", "Organic Chemistry", "CHE" },
+        { "Mathematics", "MAT", "Algebra", "MAT" }, { "Mathematics", "MAT", "Statistics", "STA" },
+        { "Languages", "LAN", "English Literature", "ENG" }, { "Humanities", "HUM", "History", "HIS" },
+        { "Computing", "COM", "Programming", "CSC" }, { "Science", "SCI", "Genetics", "BIO" }
+    };
+    private static final String[] GRADES = { "S1", "S2", "S3", "S4", "S5", "S6" };
+    private static final String[] EXAM_TYPES = { "Final", "Midterm", "Quiz", "Practical" };
+    private static final long[] MAX_MARKS = { 5_000, 10_000, 10_000, 10_000, 20_000 };
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.empty(10), SyntheticData.email(11),
+        SyntheticData.phone(12), SyntheticData.notPositive(14), SyntheticData.empty(15), SyntheticData.empty(18),
+        SyntheticData.notPositive(19), SyntheticData.empty(20), SyntheticData.notPositive(22),
+        SyntheticData.negative(23),
+        (source, fields) -> {
+            fields[23] = "0";
+            fields[24] = "0";
+        },
+        (source, fields) -> fields[23] = SyntheticData.money(Money.parse(fields[24]) + source.between(1, 2_000)),
+        SyntheticData.notPositive(25), SyntheticData.negative(26)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new SchoolGenerator(), rows, output);
+        SyntheticData.log(output).println(Question2_SchoolManagement.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return SchoolBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] school = source.pickSkewed(SCHOOLS);
+        String[] course = source.pickSkewed(COURSES);
+        String teacher = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        int grade = source.nextInt(GRADES.length);
+        long maxMarks = MAX_MARKS[source.nextInt(MAX_MARKS.length)];
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = school[0];
+        fields[4] = school[2];
+        fields[5] = source.phone();
+        fields[6] = "info@" + school[1];
+        fields[7] = course[0];
+        fields[8] = course[1] + "0" + source.between(1, 9);
+        fields[9] = teacher;
+        fields[10] = course[2];
+        fields[11] = source.email(teacher, school[1]);
+        fields[12] = source.phone();
+        fields[13] = source.name();
+        fields[14] = Integer.toString(13 + grade + source.nextInt(2));
+        fields[15] = GRADES[grade];
+        fields[16] = source.phone();
+        fields[17] = course[2];
+        fields[18] = course[3] + (100 * (grade / 2 + 1) + source.nextInt(20));
+        fields[19] = Integer.toString(source.between(1, 6));
+        fields[20] = SyntheticData.date(created + source.nextInt(180));
+        fields[21] = source.pick(EXAM_TYPES);
+        fields[22] = Integer.toString(30 * source.between(1, 6));
+        fields[23] = source.money(maxMarks / 5, maxMarks);
+        fields[24] = SyntheticData.money(maxMarks);
+        fields[25] = source.money(20_000, 150_000);
+        fields[26] = source.money(0, 5_000);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class SchoolProfile {
+    private static final Interner<SchoolProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<SchoolProfile> RESTORED = new Interner<>();
+
+    private final String schoolName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private SchoolProfile(String schoolName, String address, String phoneNumber, String email) {
+        this.schoolName = schoolName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(schoolName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static SchoolProfile of(String schoolName, String address, String phoneNumber, String email)
+            throws SchoolDataException {
+        SchoolProfile candidate = new SchoolProfile(schoolName, address, phoneNumber, email);
+        SchoolProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new SchoolDataException("School.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new SchoolDataException("School.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static SchoolProfile restore(String schoolName, String address, String phoneNumber, String email) {
+        SchoolProfile candidate = new SchoolProfile(schoolName, address, phoneNumber, email);
+        SchoolProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getSchoolName() { return schoolName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    SchoolProfile withSchoolName(String schoolName) {
+        return new SchoolProfile(schoolName, address, phoneNumber, email);
+    }
+
+    SchoolProfile withAddress(String address) {
+        return new SchoolProfile(schoolName, address, phoneNumber, email);
+    }
+
+    SchoolProfile withPhoneNumber(String phoneNumber) {
+        return new SchoolProfile(schoolName, address, phoneNumber, email);
+    }
+
+    SchoolProfile withEmail(String email) {
+        return new SchoolProfile(schoolName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof SchoolProfile)) return false;
+        SchoolProfile that = (SchoolProfile) other;
+        return hash == that.hash
+            && Objects.equals(schoolName, that.schoolName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,132 @@
+import java.util.List;
+
+class SchoolReport {
+    private static final String ID = Question2_SchoolManagement.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== SCHOOL MANAGEMENT SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] SCHOOL_DETAILS = ReportWriter.label("\n" + ID + " - --- School Details ---");
+    private static final byte[] SCHOOL_NAME = ReportWriter.label(ID + " - School Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] DEPARTMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Department Details ---");
+    private static final byte[] DEPARTMENT = ReportWriter.label(ID + " - Department: ");
+    private static final byte[] DEPARTMENT_CODE = ReportWriter.label(ID + " - Department Code: ");
+    private static final byte[] TEACHER_DETAILS = ReportWriter.label("\n" + ID + " - --- Teacher Details ---");
+    private static final byte[] TEACHER_NAME = ReportWriter.label(ID + " - Teacher Name: ");
+    private static final byte[] SUBJECT = ReportWriter.label(ID + " - Subject: ");
+    private static final byte[] TEACHER_EMAIL = ReportWriter.label(ID + " - Teacher Email: ");
+    private static final byte[] TEACHER_PHONE = ReportWriter.label(ID + " - Teacher Phone: ");
+    private static final byte[] STUDENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Student Details ---");
+    private static final byte[] STUDENT_NAME = ReportWriter.label(ID + " - Student Name: ");
+    private static final byte[] AGE = ReportWriter.label(ID + " - Age: ");
+    private static final byte[] GRADE = ReportWriter.label(ID + " - Grade: ");
+    private static final byte[] CONTACT = ReportWriter.label(ID + " - Contact: ");
+    private static final byte[] COURSE_DETAILS = ReportWriter.label("\n" + ID + " - --- Course Details ---");
+    private static final byte[] COURSE_NAME = ReportWriter.label(ID + " - Course Name: ");
+    private static final byte[] COURSE_CODE = ReportWriter.label(ID + " - Course Code: ");
+    private static final byte[] CREDIT_HOURS = ReportWriter.label(ID + " - Credit Hours: ");
+    private static final byte[] EXAM_DETAILS = ReportWriter.label("\n" + ID + " - --- Exam Details ---");
+    private static final byte[] EXAM_DATE = ReportWriter.label(ID + " - Exam Date: ");
+    private static final byte[] EXAM_TYPE = ReportWriter.label(ID + " - Exam Type: ");
+    private static final byte[] DURATION_MINUTES = ReportWriter.label(ID + " - Duration (minutes): ");
+    private static final byte[] RESULT_DETAILS = ReportWriter.label("\n" + ID + " - --- Result Details ---");
+    private static final byte[] OBTAINED_MARKS = ReportWriter.label(ID + " - Obtained Marks: ");
+    private static final byte[] MAX_MARKS = ReportWriter.label(ID + " - Max Marks: ");
+    private static final byte[] PERCENTAGE = ReportWriter.label(ID + " - Percentage: ");
+    private static final byte[] PERCENT = ReportWriter.label("%");
+    private static final byte[] FEE_DETAILS = ReportWriter.label("\n" + ID + " - --- Fee Details ---");
+    private static final byte[] TUTION_FEE = ReportWriter.label(ID + " - Tution Fee: $");
+    private static final byte[] LIBRARY_FEE = ReportWriter.label(ID + " - Library Fee: $");
+    private static final byte[] TOTAL_FEE = ReportWriter.label(ID + " - Total Fee: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ===============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(StudentRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(SCHOOL_DETAILS).newLine();
+        out.write(SCHOOL_NAME).write(record.getSchoolName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(DEPARTMENT_DETAILS).newLine();
+        out.write(DEPARTMENT).write(record.getDepartmentName()).newLine();
+        out.write(DEPARTMENT_CODE).write(record.getDepartmentCode()).newLine();
+        out.write(TEACHER_DETAILS).newLine();
+        out.write(TEACHER_NAME).write(record.getTeacherName()).newLine();
+        out.write(SUBJECT).write(record.getSubject()).newLine();
+        out.write(TEACHER_EMAIL).write(record.getTeacherEmail()).newLine();
+        out.write(TEACHER_PHONE).write(record.getPhone()).newLine();
+        out.write(STUDENT_DETAILS).newLine();
+        out.write(STUDENT_NAME).write(record.getStudentName()).newLine();
+        out.write(AGE).write(record.getStudentAge()).newLine();
+        out.write(GRADE).write(record.getStudentGrade()).newLine();
+        out.write(CONTACT).write(record.getStudentContact()).newLine();
+        out.write(COURSE_DETAILS).newLine();
+        out.write(COURSE_NAME).write(record.getCourseName()).newLine();
+        out.write(COURSE_CODE).write(record.getCourseCode()).newLine();
+        out.write(CREDIT_HOURS).write(record.getCreditHours()).newLine();
+        out.write(EXAM_DETAILS).newLine();
+        out.write(EXAM_DATE).write(record.getExamDate()).newLine();
+        out.write(EXAM_TYPE).write(record.getExamType()).newLine();
+        out.write(DURATION_MINUTES).write(record.getDuration()).newLine();
+        out.write(RESULT_DETAILS).newLine();
+        out.write(OBTAINED_MARKS).write(record.getObtainedMarks()).newLine();
+        out.write(MAX_MARKS).write(record.getMaxMarks()).newLine();
+        out.write(PERCENTAGE).writeFixed(record.getPercentage(), 2).write(PERCENT).newLine();
+        out.write(FEE_DETAILS).newLine();
+        out.write(TUTION_FEE).write(record.getTutionFee()).newLine();
+        out.write(LIBRARY_FEE).write(record.getLibraryFee()).newLine();
+        out.write(TOTAL_FEE).write(record.getTotalFee()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(StudentRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getSchoolName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getDepartmentName()).write(SEPARATOR);
+        out.write(record.getDepartmentCode()).write(SEPARATOR);
+        out.write(record.getTeacherName()).write(SEPARATOR);
+        out.write(record.getSubject()).write(SEPARATOR);
+        out.write(record.getTeacherEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getStudentName()).write(SEPARATOR);
+        out.write(record.getStudentAge()).write(SEPARATOR);
+        out.write(record.getStudentGrade()).write(SEPARATOR);
+        out.write(record.getStudentContact()).write(SEPARATOR);
+        out.write(record.getCourseName()).write(SEPARATOR);
+        out.write(record.getCourseCode()).write(SEPARATOR);
+        out.write(record.getCreditHours()).write(SEPARATOR);
+        out.write(record.getExamDate()).write(SEPARATOR);
+        out.write(record.getExamType()).write(SEPARATOR);
+        out.write(record.getDuration()).write(SEPARATOR);
+        out.write(record.getObtainedMarks()).write(SEPARATOR);
+        out.write(record.getMaxMarks()).write(SEPARATOR);
+        out.writeFixed(record.getPercentage(), 2).write(SEPARATOR);
+        out.write(record.getTutionFee()).write(SEPARATOR);
+        out.write(record.getLibraryFee()).write(SEPARATOR);
+        out.write(record.getTotalFee()).newLine();
+    }
+
+    static void writeAll(List<StudentRecord> records, ReportWriter out, boolean compact) {
+        for (StudentRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
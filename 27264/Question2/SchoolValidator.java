@@ -0,0 +1,54 @@
+class SchoolValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String schoolName,
+            String address, String phoneNumber, String email, String departmentName,
+            String departmentCode, String teacherName, String subject, String teacherEmail,
+            String phone, String studentName, int studentAge, String studentGrade,
+            String studentContact, String courseName, String courseCode, int creditHours,
+            String examDate, String examType, int duration, double obtainedMarks, double maxMarks,
+            double tutionFee, double libraryFee, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("SchoolEntity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("SchoolEntity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("SchoolEntity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("School.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("School.email", "Invalid email format");
+        if (!FieldRules.isCode(departmentCode))
+            result.add("SchoolDepartment.departmentCode", "Department code must be alphanumeric and at least 3 characters");
+        if (subject == null || subject.trim().isEmpty())
+            result.add("Teacher.subject", "Subject cannot be empty");
+        if (!FieldRules.isEmail(teacherEmail))
+            result.add("Teacher.teacherEmail", "Invalid teacher email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("Teacher.phone", "Teacher phone must be exactly 10 digits");
+        if (studentAge <= 0)
+            result.add("Student.studentAge", "Student age must be > 0");
+        if (studentGrade == null || studentGrade.trim().isEmpty())
+            result.add("Student.studentGrade", "Student grade cannot be empty");
+        if (courseCode == null || courseCode.trim().isEmpty())
+            result.add("Course.courseCode", "Course code cannot be empty");
+        if (creditHours <= 0)
+            result.add("Course.creditHours", "Credit hours must be > 0");
+        if (examDate == null || examDate.trim().isEmpty())
+            result.add("Exam.examDate", "Exam date cannot be empty");
+        if (duration <= 0)
+            result.add("Exam.duration", "Exam duration must be > 0");
+        if (obtainedMarks < 0)
+            result.add("Result.obtainedMarks", "Obtained marks must be >= 0");
+        if (maxMarks <= 0)
+            result.add("Result.maxMarks", "Max marks must be > 0");
+        if (obtainedMarks > maxMarks)
+            result.add("Result.obtainedMarks", "Obtained marks cannot exceed max marks");
+        if (tutionFee <= 0)
+            result.add("Fee.tutionFee", "Tution fee must be > 0");
+        if (libraryFee < 0)
+            result.add("Fee.libraryFee", "Library fee must be >= 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("School", result);
+        return false;
+    }
+}
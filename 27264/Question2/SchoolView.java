@@ -0,0 +1,52 @@
+final class SchoolView {
+    private final RowSource source;
+    private int row;
+
+    SchoolView(RowSource source) {
+        this.source = source;
+    }
+
+    public SchoolView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, SchoolColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, SchoolColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, SchoolColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, SchoolColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, SchoolColumns.UPDATED_DATE); }
+    public String getSchoolName() { return source.getString(row, SchoolColumns.SCHOOL_NAME); }
+    public String getAddress() { return source.getString(row, SchoolColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, SchoolColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, SchoolColumns.EMAIL); }
+    public String getDepartmentName() { return source.getString(row, SchoolColumns.DEPARTMENT_NAME); }
+    public String getDepartmentCode() { return source.getString(row, SchoolColumns.DEPARTMENT_CODE); }
+    public String getTeacherName() { return source.getString(row, SchoolColumns.TEACHER_NAME); }
+    public String getSubject() { return source.getString(row, SchoolColumns.SUBJECT); }
+    public String getTeacherEmail() { return source.getString(row, SchoolColumns.TEACHER_EMAIL); }
+    public String getPhone() { return source.getString(row, SchoolColumns.PHONE); }
+    public String getStudentName() { return source.getString(row, SchoolColumns.STUDENT_NAME); }
+    public int getStudentAge() { return source.getInt(row, SchoolColumns.STUDENT_AGE); }
+    public String getStudentGrade() { return source.getString(row, SchoolColumns.STUDENT_GRADE); }
+    public String getStudentContact() { return source.getString(row, SchoolColumns.STUDENT_CONTACT); }
+    public String getCourseName() { return source.getString(row, SchoolColumns.COURSE_NAME); }
+    public String getCourseCode() { return source.getString(row, SchoolColumns.COURSE_CODE); }
+    public int getCreditHours() { return source.getInt(row, SchoolColumns.CREDIT_HOURS); }
+    public String getExamDate() { return source.getString(row, SchoolColumns.EXAM_DATE); }
+    public int getExamDay() { return source.getInt(row, SchoolColumns.EXAM_DATE); }
+    public String getExamType() { return source.getString(row, SchoolColumns.EXAM_TYPE); }
+    public int getDuration() { return source.getInt(row, SchoolColumns.DURATION); }
+    public double getObtainedMarks() { return source.getDouble(row, SchoolColumns.OBTAINED_MARKS); }
+    public double getMaxMarks() { return source.getDouble(row, SchoolColumns.MAX_MARKS); }
+    public double getPercentage() { return source.getDouble(row, SchoolColumns.PERCENTAGE); }
+    public double getTutionFee() { return source.getDouble(row, SchoolColumns.TUTION_FEE); }
+    public double getLibraryFee() { return source.getDouble(row, SchoolColumns.LIBRARY_FEE); }
+    public double getTotalFee() { return source.getDouble(row, SchoolColumns.TOTAL_FEE); }
+
+    public double calculateAverageMarks() {
+        return (getObtainedMarks() / getMaxMarks()) * 100;
+    }
+}
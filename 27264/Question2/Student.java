@@ -0,0 +1,57 @@
+class Student extends Teacher {
+    private String studentName;
+    private int studentAge;
+    private String studentGrade;
+    private String studentContact;
+
+    public Student(int id, String createdDate, String updatedDate, String schoolName,
+                  String address, String phoneNumber, String email, String departmentName,
+                  String departmentCode, String teacherName, String subject,
+                  String teacherEmail, String phone, String studentName, int studentAge,
+                  String studentGrade, String studentContact) throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email,
+              departmentName, departmentCode, teacherName, subject, teacherEmail, phone);
+        
+        if (studentAge <= 0) throw new SchoolDataException("Student.studentAge", "Student age must be > 0");
+        if (studentGrade == null || studentGrade.trim().isEmpty()) 
+            throw new SchoolDataException("Student.studentGrade", "Student grade cannot be empty");
+        
+        this.studentName = studentName;
+        this.studentAge = studentAge;
+        this.studentGrade = studentGrade;
+        this.studentContact = studentContact;
+    }
+
+    Student(RowSource source, int row) {
+        super(source, row);
+        this.studentName = source.getString(row, SchoolColumns.STUDENT_NAME);
+        this.studentAge = source.getInt(row, SchoolColumns.STUDENT_AGE);
+        this.studentGrade = source.getString(row, SchoolColumns.STUDENT_GRADE);
+        this.studentContact = source.getString(row, SchoolColumns.STUDENT_CONTACT);
+    }
+
+    public String getStudentName() { return studentName; }
+    public void setStudentName(String studentName) {
+        changing(SchoolColumns.STUDENT_NAME);
+        this.studentName = studentName;
+        changed(SchoolColumns.STUDENT_NAME);
+    }
+    public int getStudentAge() { return studentAge; }
+    public void setStudentAge(int studentAge) {
+        changing(SchoolColumns.STUDENT_AGE);
+        this.studentAge = studentAge;
+        changed(SchoolColumns.STUDENT_AGE);
+    }
+    public String getStudentGrade() { return studentGrade; }
+    public void setStudentGrade(String studentGrade) {
+        changing(SchoolColumns.STUDENT_GRADE);
+        this.studentGrade = studentGrade;
+        changed(SchoolColumns.STUDENT_GRADE);
+    }
+    public String getStudentContact() { return studentContact; }
+    public void setStudentContact(String studentContact) {
+        changing(SchoolColumns.STUDENT_CONTACT);
+        this.studentContact = studentContact;
+        changed(SchoolColumns.STUDENT_CONTACT);
+    }
+}
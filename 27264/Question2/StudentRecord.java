@@ -0,0 +1,102 @@
+final class StudentRecord extends Fee {
+    // Percentages are not money: they are summed in millionths of a percent, so totals for this
+    // record are made with new RunningTotals(name, PERCENTAGE_SCALE).
+    static final int PERCENTAGE_SCALE = 6;
+    // The columns the percentage is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS = 1L << SchoolColumns.OBTAINED_MARKS | 1L << SchoolColumns.MAX_MARKS;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<StudentRecord> indexes;
+
+    public StudentRecord(int id, String createdDate, String updatedDate, String schoolName,
+                        String address, String phoneNumber, String email, String departmentName,
+                        String departmentCode, String teacherName, String subject,
+                        String teacherEmail, String phone, String studentName, int studentAge,
+                        String studentGrade, String studentContact, String courseName,
+                        String courseCode, int creditHours, String examDate, String examType,
+                        int duration, double obtainedMarks, double maxMarks, double tutionFee,
+                        double libraryFee) throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email,
+              departmentName, departmentCode, teacherName, subject, teacherEmail, phone,
+              studentName, studentAge, studentGrade, studentContact, courseName, courseCode,
+              creditHours, examDate, examType, duration, obtainedMarks, maxMarks, tutionFee,
+              libraryFee);
+    }
+
+    // Restores a record for SchoolColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    StudentRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double calculateAverageMarks() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double percentage = percentage();
+        setPercentage(percentage);
+        computed = true;
+        event.finish("School", "calculateAverageMarks", getId(), percentage);
+        return percentage;
+    }
+
+    // Counts this record's percentage in one group of totals of PERCENTAGE_SCALE and keeps the group's
+    // sum current as the record changes, computing the percentage first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) calculateAverageMarks();
+        if (tracked == null) tracked = new TrackedTotal(TrackedTotal.units(getPercentage(), PERCENTAGE_SCALE), PERCENTAGE_SCALE);
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != SchoolColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of School records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<StudentRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = SchoolColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == SchoolColumns.ID ? (Integer) before : getId(), column, before,
+                SchoolColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == SchoolColumns.PERCENTAGE) {
+            if (tracked != null) tracked.set(TrackedTotal.units(getPercentage(), PERCENTAGE_SCALE));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setPercentage(percentage());
+        }
+    }
+
+    private double percentage() {
+        return (getObtainedMarks() / getMaxMarks()) * 100;
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        SchoolReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
@@ -0,0 +1,59 @@
+class Teacher extends SchoolDepartment {
+    private String teacherName;
+    private String subject;
+    private String teacherEmail;
+    private String phone;
+
+    public Teacher(int id, String createdDate, String updatedDate, String schoolName,
+                 String address, String phoneNumber, String email, String departmentName,
+                 String departmentCode, String teacherName, String subject,
+                 String teacherEmail, String phone) throws SchoolDataException {
+        super(id, createdDate, updatedDate, schoolName, address, phoneNumber, email,
+              departmentName, departmentCode);
+        
+        if (subject == null || subject.trim().isEmpty()) 
+            throw new SchoolDataException("Teacher.subject", "Subject cannot be empty");
+        if (!FieldRules.isEmail(teacherEmail)) 
+            throw new SchoolDataException("Teacher.teacherEmail", "Invalid teacher email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new SchoolDataException("Teacher.phone", "Teacher phone must be exactly 10 digits");
+        
+        this.teacherName = teacherName;
+        this.subject = subject;
+        this.teacherEmail = teacherEmail;
+        this.phone = phone;
+    }
+
+    Teacher(RowSource source, int row) {
+        super(source, row);
+        this.teacherName = source.getString(row, SchoolColumns.TEACHER_NAME);
+        this.subject = source.getString(row, SchoolColumns.SUBJECT);
+        this.teacherEmail = source.getString(row, SchoolColumns.TEACHER_EMAIL);
+        this.phone = source.getString(row, SchoolColumns.PHONE);
+    }
+
+    public String getTeacherName() { return teacherName; }
+    public void setTeacherName(String teacherName) {
+        changing(SchoolColumns.TEACHER_NAME);
+        this.teacherName = teacherName;
+        changed(SchoolColumns.TEACHER_NAME);
+    }
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) {
+        changing(SchoolColumns.SUBJECT);
+        this.subject = subject;
+        changed(SchoolColumns.SUBJECT);
+    }
+    public String getTeacherEmail() { return teacherEmail; }
+    public void setTeacherEmail(String teacherEmail) {
+        changing(SchoolColumns.TEACHER_EMAIL);
+        this.teacherEmail = teacherEmail;
+        changed(SchoolColumns.TEACHER_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(SchoolColumns.PHONE);
+        this.phone = phone;
+        changed(SchoolColumns.PHONE);
+    }
+}
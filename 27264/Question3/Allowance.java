@@ -0,0 +1,51 @@
+class Allowance extends Attendance {
+    private double houseRentAllowance;
+    private double transportAllowance;
+    private double totalAllowance;
+
+    public Allowance(int id, String createdDate, String updatedDate, String companyName,
+                    String address, String phoneNumber, String email, String departmentName,
+                    String departmentCode, String managerName, String managerEmail,
+                    String phone, int yearsOfExperience, String employeeName,
+                    String designation, String employeeEmail, String employeePhone,
+                    int totalDays, int presentDays, int absentDays, double houseRentAllowance,
+                    double transportAllowance) throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              departmentName, departmentCode, managerName, managerEmail, phone,
+              yearsOfExperience, employeeName, designation, employeeEmail, employeePhone,
+              totalDays, presentDays, absentDays);
+        
+        if (houseRentAllowance < 0) throw new EmployeeDataException("Allowance.houseRentAllowance", "HRA must be >= 0");
+        if (transportAllowance < 0) throw new EmployeeDataException("Allowance.transportAllowance", "Transport allowance must be >= 0");
+        
+        this.houseRentAllowance = houseRentAllowance;
+        this.transportAllowance = transportAllowance;
+        this.totalAllowance = 0;
+    }
+
+    Allowance(RowSource source, int row) {
+        super(source, row);
+        this.houseRentAllowance = source.getDouble(row, PayrollColumns.HOUSE_RENT_ALLOWANCE);
+        this.transportAllowance = source.getDouble(row, PayrollColumns.TRANSPORT_ALLOWANCE);
+        this.totalAllowance = source.getDouble(row, PayrollColumns.TOTAL_ALLOWANCE);
+    }
+
+    public double getHouseRentAllowance() { return houseRentAllowance; }
+    public void setHouseRentAllowance(double houseRentAllowance) {
+        changing(PayrollColumns.HOUSE_RENT_ALLOWANCE);
+        this.houseRentAllowance = houseRentAllowance;
+        changed(PayrollColumns.HOUSE_RENT_ALLOWANCE);
+    }
+    public double getTransportAllowance() { return transportAllowance; }
+    public void setTransportAllowance(double transportAllowance) {
+        changing(PayrollColumns.TRANSPORT_ALLOWANCE);
+        this.transportAllowance = transportAllowance;
+        changed(PayrollColumns.TRANSPORT_ALLOWANCE);
+    }
+    public double getTotalAllowance() { return totalAllowance; }
+    public void setTotalAllowance(double totalAllowance) {
+        changing(PayrollColumns.TOTAL_ALLOWANCE);
+        this.totalAllowance = totalAllowance;
+        changed(PayrollColumns.TOTAL_ALLOWANCE);
+    }
+}
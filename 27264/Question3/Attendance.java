@@ -0,0 +1,53 @@
+class Attendance extends Employee {
+    private int totalDays;
+    private int presentDays;
+    private int absentDays;
+
+    public Attendance(int id, String createdDate, String updatedDate, String companyName,
+                     String address, String phoneNumber, String email, String departmentName,
+                     String departmentCode, String managerName, String managerEmail,
+                     String phone, int yearsOfExperience, String employeeName,
+                     String designation, String employeeEmail, String employeePhone,
+                     int totalDays, int presentDays, int absentDays) 
+                     throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              departmentName, departmentCode, managerName, managerEmail, phone,
+              yearsOfExperience, employeeName, designation, employeeEmail, employeePhone);
+        
+        if (totalDays <= 0) throw new EmployeeDataException("Attendance.totalDays", "Total days must be > 0");
+        if (presentDays < 0) throw new EmployeeDataException("Attendance.presentDays", "Present days must be >= 0");
+        if (absentDays < 0) throw new EmployeeDataException("Attendance.absentDays", "Absent days must be >= 0");
+        if (presentDays + absentDays != totalDays) 
+            throw new EmployeeDataException("Attendance.presentDays", "Present + Absent days must equal Total days");
+        
+        this.totalDays = totalDays;
+        this.presentDays = presentDays;
+        this.absentDays = absentDays;
+    }
+
+    Attendance(RowSource source, int row) {
+        super(source, row);
+        this.totalDays = source.getInt(row, PayrollColumns.TOTAL_DAYS);
+        this.presentDays = source.getInt(row, PayrollColumns.PRESENT_DAYS);
+        this.absentDays = source.getInt(row, PayrollColumns.ABSENT_DAYS);
+    }
+
+    public int getTotalDays() { return totalDays; }
+    public void setTotalDays(int totalDays) {
+        changing(PayrollColumns.TOTAL_DAYS);
+        this.totalDays = totalDays;
+        changed(PayrollColumns.TOTAL_DAYS);
+    }
+    public int getPresentDays() { return presentDays; }
+    public void setPresentDays(int presentDays) {
+        changing(PayrollColumns.PRESENT_DAYS);
+        this.presentDays = presentDays;
+        changed(PayrollColumns.PRESENT_DAYS);
+    }
+    public int getAbsentDays() { return absentDays; }
+    public void setAbsentDays(int absentDays) {
+        changing(PayrollColumns.ABSENT_DAYS);
+        this.absentDays = absentDays;
+        changed(PayrollColumns.ABSENT_DAYS);
+    }
+}
@@ -0,0 +1,44 @@
+class Company extends Entity {
+    private CompanyProfile profile;
+
+    public Company(int id, String createdDate, String updatedDate, String companyName, 
+                   String address, String phoneNumber, String email) throws EmployeeDataException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = CompanyProfile.of(companyName, address, phoneNumber, email);
+    }
+
+    Company(RowSource source, int row) {
+        super(source, row);
+        String companyName = source.getString(row, PayrollColumns.COMPANY_NAME);
+        String address = source.getString(row, PayrollColumns.ADDRESS);
+        String phoneNumber = source.getString(row, PayrollColumns.PHONE_NUMBER);
+        String email = source.getString(row, PayrollColumns.EMAIL);
+        this.profile = CompanyProfile.restore(companyName, address, phoneNumber, email);
+    }
+
+    public String getCompanyName() { return profile.getCompanyName(); }
+    public void setCompanyName(String companyName) {
+        changing(PayrollColumns.COMPANY_NAME);
+        profile = profile.withCompanyName(companyName);
+        changed(PayrollColumns.COMPANY_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(PayrollColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(PayrollColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(PayrollColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(PayrollColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(PayrollColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(PayrollColumns.EMAIL);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class CompanyProfile {
+    private static final Interner<CompanyProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<CompanyProfile> RESTORED = new Interner<>();
+
+    private final String companyName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private CompanyProfile(String companyName, String address, String phoneNumber, String email) {
+        this.companyName = companyName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(companyName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static CompanyProfile of(String companyName, String address, String phoneNumber, String email)
+            throws EmployeeDataException {
+        CompanyProfile candidate = new CompanyProfile(companyName, address, phoneNumber, email);
+        CompanyProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new EmployeeDataException("Company.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new EmployeeDataException("Company.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static CompanyProfile restore(String companyName, String address, String phoneNumber, String email) {
+        CompanyProfile candidate = new CompanyProfile(companyName, address, phoneNumber, email);
+        CompanyProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getCompanyName() { return companyName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    CompanyProfile withCompanyName(String companyName) {
+        return new CompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    CompanyProfile withAddress(String address) {
+        return new CompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    CompanyProfile withPhoneNumber(String phoneNumber) {
+        return new CompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    CompanyProfile withEmail(String email) {
+        return new CompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof CompanyProfile)) return false;
+        CompanyProfile that = (CompanyProfile) other;
+        return hash == that.hash
+            && Objects.equals(companyName, that.companyName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,52 @@
+class Deduction extends Allowance {
+    private double tax;
+    private double providentFund;
+    private double totalDeduction;
+
+    public Deduction(int id, String createdDate, String updatedDate, String companyName,
+                    String address, String phoneNumber, String email, String departmentName,
+                    String departmentCode, String managerName, String managerEmail,
+                    String phone, int yearsOfExperience, String employeeName,
+                    String designation, String employeeEmail, String employeePhone,
+                    int totalDays, int presentDays, int absentDays, double houseRentAllowance,
+                    double transportAllowance, double tax, double providentFund) 
+                    throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              departmentName, departmentCode, managerName, managerEmail, phone,
+              yearsOfExperience, employeeName, designation, employeeEmail, employeePhone,
+              totalDays, presentDays, absentDays, houseRentAllowance, transportAllowance);
+        
+        if (tax < 0) throw new EmployeeDataException("Deduction.tax", "Tax must be >= 0");
+        if (providentFund < 0) throw new EmployeeDataException("Deduction.providentFund", "Provident fund must be >= 0");
+        
+        this.tax = tax;
+        this.providentFund = providentFund;
+        this.totalDeduction = 0;
+    }
+
+    Deduction(RowSource source, int row) {
+        super(source, row);
+        this.tax = source.getDouble(row, PayrollColumns.TAX);
+        this.providentFund = source.getDouble(row, PayrollColumns.PROVIDENT_FUND);
+        this.totalDeduction = source.getDouble(row, PayrollColumns.TOTAL_DEDUCTION);
+    }
+
+    public double getTax() { return tax; }
+    public void setTax(double tax) {
+        changing(PayrollColumns.TAX);
+        this.tax = tax;
+        changed(PayrollColumns.TAX);
+    }
+    public double getProvidentFund() { return providentFund; }
+    public void setProvidentFund(double providentFund) {
+        changing(PayrollColumns.PROVIDENT_FUND);
+        this.providentFund = providentFund;
+        changed(PayrollColumns.PROVIDENT_FUND);
+    }
+    public double getTotalDeduction() { return totalDeduction; }
+    public void setTotalDeduction(double totalDeduction) {
+        changing(PayrollColumns.TOTAL_DEDUCTION);
+        this.totalDeduction = totalDeduction;
+        changed(PayrollColumns.TOTAL_DEDUCTION);
+    }
+}
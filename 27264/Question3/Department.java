@@ -0,0 +1,31 @@
+class Department extends Company {
+    private DepartmentProfile profile;
+
+    public Department(int id, String createdDate, String updatedDate, String companyName,
+                     String address, String phoneNumber, String email, String departmentName,
+                     String departmentCode) throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email);
+        
+        this.profile = DepartmentProfile.of(departmentName, departmentCode);
+    }
+
+    Department(RowSource source, int row) {
+        super(source, row);
+        String departmentName = source.getString(row, PayrollColumns.DEPARTMENT_NAME);
+        String departmentCode = source.getString(row, PayrollColumns.DEPARTMENT_CODE);
+        this.profile = DepartmentProfile.restore(departmentName, departmentCode);
+    }
+
+    public String getDepartmentName() { return profile.getDepartmentName(); }
+    public void setDepartmentName(String departmentName) {
+        changing(PayrollColumns.DEPARTMENT_NAME);
+        profile = profile.withDepartmentName(departmentName);
+        changed(PayrollColumns.DEPARTMENT_NAME);
+    }
+    public String getDepartmentCode() { return profile.getDepartmentCode(); }
+    public void setDepartmentCode(String departmentCode) {
+        changing(PayrollColumns.DEPARTMENT_CODE);
+        profile = profile.withDepartmentCode(departmentCode);
+        changed(PayrollColumns.DEPARTMENT_CODE);
+    }
+}
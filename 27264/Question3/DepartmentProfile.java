@@ -0,0 +1,64 @@
+import java.util.Objects;
+
+final class DepartmentProfile {
+    private static final Interner<DepartmentProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<DepartmentProfile> RESTORED = new Interner<>();
+
+    private final String departmentName;
+    private final String departmentCode;
+    private final int hash;
+
+    private DepartmentProfile(String departmentName, String departmentCode) {
+        this.departmentName = departmentName;
+        this.departmentCode = departmentCode;
+        int hash = Objects.hashCode(departmentName);
+        hash = 31 * hash + Objects.hashCode(departmentCode);
+        this.hash = hash;
+    }
+
+    static DepartmentProfile of(String departmentName, String departmentCode)
+            throws EmployeeDataException {
+        DepartmentProfile candidate = new DepartmentProfile(departmentName, departmentCode);
+        DepartmentProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isCode(departmentCode)) 
+            throw new EmployeeDataException("Department.departmentCode", "Department code must be alphanumeric and at least 3 characters");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static DepartmentProfile restore(String departmentName, String departmentCode) {
+        DepartmentProfile candidate = new DepartmentProfile(departmentName, departmentCode);
+        DepartmentProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getDepartmentName() { return departmentName; }
+    public String getDepartmentCode() { return departmentCode; }
+
+    DepartmentProfile withDepartmentName(String departmentName) {
+        return new DepartmentProfile(departmentName, departmentCode);
+    }
+
+    DepartmentProfile withDepartmentCode(String departmentCode) {
+        return new DepartmentProfile(departmentName, departmentCode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof DepartmentProfile)) return false;
+        DepartmentProfile that = (DepartmentProfile) other;
+        return hash == that.hash
+            && Objects.equals(departmentName, that.departmentName)
+            && Objects.equals(departmentCode, that.departmentCode);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
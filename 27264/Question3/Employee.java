@@ -0,0 +1,62 @@
+class Employee extends Manager {
+    private String employeeName;
+    private String designation;
+    private String employeeEmail;
+    private String employeePhone;
+
+    public Employee(int id, String createdDate, String updatedDate, String companyName,
+                   String address, String phoneNumber, String email, String departmentName,
+                   String departmentCode, String managerName, String managerEmail,
+                   String phone, int yearsOfExperience, String employeeName,
+                   String designation, String employeeEmail, String employeePhone) 
+                   throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              departmentName, departmentCode, managerName, managerEmail, phone,
+              yearsOfExperience);
+        
+        if (designation == null || designation.trim().isEmpty()) 
+            throw new EmployeeDataException("Employee.designation", "Designation cannot be empty");
+        if (!FieldRules.isEmail(employeeEmail)) 
+            throw new EmployeeDataException("Employee.employeeEmail", "Invalid employee email format");
+        if (!FieldRules.isPhone(employeePhone)) 
+            throw new EmployeeDataException("Employee.employeePhone", "Employee phone must be exactly 10 digits");
+        
+        this.employeeName = employeeName;
+        this.designation = designation;
+        this.employeeEmail = employeeEmail;
+        this.employeePhone = employeePhone;
+    }
+
+    Employee(RowSource source, int row) {
+        super(source, row);
+        this.employeeName = source.getString(row, PayrollColumns.EMPLOYEE_NAME);
+        this.designation = source.getString(row, PayrollColumns.DESIGNATION);
+        this.employeeEmail = source.getString(row, PayrollColumns.EMPLOYEE_EMAIL);
+        this.employeePhone = source.getString(row, PayrollColumns.EMPLOYEE_PHONE);
+    }
+
+    public String getEmployeeName() { return employeeName; }
+    public void setEmployeeName(String employeeName) {
+        changing(PayrollColumns.EMPLOYEE_NAME);
+        this.employeeName = employeeName;
+        changed(PayrollColumns.EMPLOYEE_NAME);
+    }
+    public String getDesignation() { return designation; }
+    public void setDesignation(String designation) {
+        changing(PayrollColumns.DESIGNATION);
+        this.designation = designation;
+        changed(PayrollColumns.DESIGNATION);
+    }
+    public String getEmployeeEmail() { return employeeEmail; }
+    public void setEmployeeEmail(String employeeEmail) {
+        changing(PayrollColumns.EMPLOYEE_EMAIL);
+        this.employeeEmail = employeeEmail;
+        changed(PayrollColumns.EMPLOYEE_EMAIL);
+    }
+    public String getEmployeePhone() { return employeePhone; }
+    public void setEmployeePhone(String employeePhone) {
+        changing(PayrollColumns.EMPLOYEE_PHONE);
+        this.employeePhone = employeePhone;
+        changed(PayrollColumns.EMPLOYEE_PHONE);
+    }
+}
@@ -0,0 +1,69 @@
+class Entity {
+    private int id;
+    private int createdDay;
+    private String createdDateText;
+    private int updatedDay;
+    private String updatedDateText;
+
+    // Columns changed through a setter since the last clearDirty(), one bit per Schema column
+    private long dirtyColumns;
+
+    public Entity(int id, String createdDate, String updatedDate) throws EmployeeDataException {
+        if (id <= 0) throw new EmployeeDataException("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty()) 
+            throw new EmployeeDataException("Entity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty()) 
+            throw new EmployeeDataException("Entity.updatedDate", "Updated date cannot be null or empty");
+        
+        this.id = id;
+        this.createdDay = Dates.parse(createdDate);
+        this.createdDateText = Dates.unparsed(createdDate, createdDay);
+        this.updatedDay = Dates.parse(updatedDate);
+        this.updatedDateText = Dates.unparsed(updatedDate, updatedDay);
+    }
+
+    // Reads a snapshot row as PayrollColumns.append stored it, without validating it again.
+    Entity(RowSource source, int row) {
+        String createdDate = source.getString(row, PayrollColumns.CREATED_DATE);
+        String updatedDate = source.getString(row, PayrollColumns.UPDATED_DATE);
+        this.id = source.getInt(row, PayrollColumns.ID);
+        this.createdDay = Dates.parse(createdDate);
+        this.createdDateText = Dates.unparsed(createdDate, createdDay);
+        this.updatedDay = Dates.parse(updatedDate);
+        this.updatedDateText = Dates.unparsed(updatedDate, updatedDay);
+    }
+
+    public int getId() { return id; }
+    public void setId(int id) {
+        changingId(id);
+        changing(PayrollColumns.ID);
+        this.id = id;
+        changed(PayrollColumns.ID);
+    }
+    public String getCreatedDate() { return Dates.text(createdDay, createdDateText); }
+    public int getCreatedDay() { return createdDay; }
+    public void setCreatedDate(String createdDate) {
+        changing(PayrollColumns.CREATED_DATE);
+        this.createdDay = Dates.parse(createdDate);
+        this.createdDateText = Dates.unparsed(createdDate, createdDay);
+        changed(PayrollColumns.CREATED_DATE);
+    }
+    public String getUpdatedDate() { return Dates.text(updatedDay, updatedDateText); }
+    public int getUpdatedDay() { return updatedDay; }
+    public void setUpdatedDate(String updatedDate) {
+        changing(PayrollColumns.UPDATED_DATE);
+        this.updatedDay = Dates.parse(updatedDate);
+        this.updatedDateText = Dates.unparsed(updatedDate, updatedDay);
+        changed(PayrollColumns.UPDATED_DATE);
+    }
+
+    // Called by setId before anything changes, so an id that cannot be used leaves no trace.
+    void changingId(int id) { }
+    // Called by every setter with its column, before and after the change.
+    void changing(int column) { }
+    void changed(int column) { dirtyColumns |= 1L << column; }
+    public boolean isDirty() { return dirtyColumns != 0; }
+    public boolean isDirty(int column) { return (dirtyColumns & (1L << column)) != 0; }
+    public long getDirtyColumns() { return dirtyColumns; }
+    public void clearDirty() { dirtyColumns = 0; }
+}
@@ -0,0 +1,59 @@
+class Manager extends Department {
+    private String managerName;
+    private String managerEmail;
+    private String phone;
+    private int yearsOfExperience;
+
+    public Manager(int id, String createdDate, String updatedDate, String companyName,
+                  String address, String phoneNumber, String email, String departmentName,
+                  String departmentCode, String managerName, String managerEmail,
+                  String phone, int yearsOfExperience) throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              departmentName, departmentCode);
+        
+        if (!FieldRules.isEmail(managerEmail)) 
+            throw new EmployeeDataException("Manager.managerEmail", "Invalid manager email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new EmployeeDataException("Manager.phone", "Manager phone must be exactly 10 digits");
+        if (yearsOfExperience < 0) 
+            throw new EmployeeDataException("Manager.yearsOfExperience", "Years of experience must be >= 0");
+        
+        this.managerName = managerName;
+        this.managerEmail = managerEmail;
+        this.phone = phone;
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    Manager(RowSource source, int row) {
+        super(source, row);
+        this.managerName = source.getString(row, PayrollColumns.MANAGER_NAME);
+        this.managerEmail = source.getString(row, PayrollColumns.MANAGER_EMAIL);
+        this.phone = source.getString(row, PayrollColumns.PHONE);
+        this.yearsOfExperience = source.getInt(row, PayrollColumns.YEARS_OF_EXPERIENCE);
+    }
+
+    public String getManagerName() { return managerName; }
+    public void setManagerName(String managerName) {
+        changing(PayrollColumns.MANAGER_NAME);
+        this.managerName = managerName;
+        changed(PayrollColumns.MANAGER_NAME);
+    }
+    public String getManagerEmail() { return managerEmail; }
+    public void setManagerEmail(String managerEmail) {
+        changing(PayrollColumns.MANAGER_EMAIL);
+        this.managerEmail = managerEmail;
+        changed(PayrollColumns.MANAGER_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(PayrollColumns.PHONE);
+        this.phone = phone;
+        changed(PayrollColumns.PHONE);
+    }
+    public int getYearsOfExperience() { return yearsOfExperience; }
+    public void setYearsOfExperience(int yearsOfExperience) {
+        changing(PayrollColumns.YEARS_OF_EXPERIENCE);
+        this.yearsOfExperience = yearsOfExperience;
+        changed(PayrollColumns.YEARS_OF_EXPERIENCE);
+    }
+}
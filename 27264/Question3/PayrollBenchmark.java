@@ -0,0 +1,148 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class PayrollBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        PayrollRecord record = newRecord(1);
+
+        bench.header("PayrollRecord");
+        bench.run("new Entity", i -> new Entity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new PayrollRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("calculateNetSalary", i -> record.calculateNetSalary());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            PayrollReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            PayrollReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("PayrollRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by PayrollValidator", i -> PayrollValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "Acme Ltd", "KN 3 Rd", "0781234567", "hr@acme.co", "Finance", "FIN01",
+            "Paul Kagame", "paul@acme.co", "0789876543", 10, "Mary Ingabire", "Accountant",
+            "mary@acme.co", "0781112223", 22, 20, 2, 200.0, 50.0, 120.0, 80.0, 1500.0, result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("PayrollRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        PayrollRecord[] records = new PayrollRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(PayrollColumns.SCHEMA, rows);
+        for (PayrollRecord r : records) PayrollColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        PayrollView view = new PayrollView(table);
+        bench.runDouble("calculateNetSalary over records", i -> {
+            double sum = 0;
+            for (PayrollRecord r : records) sum += r.calculateNetSalary();
+            return sum;
+        });
+        bench.runDouble("calculateNetSalary over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateNetSalary();
+            return sum;
+        });
+        bench.run("calculateNetSalary column kernel", i -> {
+            PayrollColumns.calculateNetSalary(table);
+            return table;
+        });
+        Path file = Files.createTempFile("PayrollRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, PayrollColumns.SCHEMA)) {
+            for (PayrollRecord r : records) PayrollColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, PayrollColumns.SCHEMA)) {
+            PayrollView mapped = new PayrollView(reader);
+            bench.runDouble("calculateNetSalary over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).calculateNetSalary();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<PayrollRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            PayrollReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            PayrollReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws EmployeeDataException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        PayrollRecord[] records = new PayrollRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (EmployeeDataException e) {
+            return e;
+        }
+    }
+
+    static PayrollRecord newRecord(int id) throws EmployeeDataException {
+        return new PayrollRecord(id, "2024-01-01", "2024-01-02", "Acme Ltd", "KN 3 Rd",
+            "0781234567", "hr@acme.co", "Finance", "FIN01", "Paul Kagame", "paul@acme.co",
+            "0789876543", 10, "Mary Ingabire", "Accountant", "mary@acme.co", "0781112223", 22, 20,
+            2, 200.0, 50.0, 120.0, 80.0, 1500.0);
+    }
+
+    static PayrollRecord newParsedRecord(int id, int organization) throws EmployeeDataException {
+        return new PayrollRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "Acme Ltd" + organization, fresh("KN 3 Rd"), fresh("0781234567"), fresh("hr@acme.co"),
+            fresh("Finance"), fresh("FIN01"), fresh("Paul Kagame"), fresh("paul@acme.co"),
+            fresh("0789876543"), 10, fresh("Mary Ingabire"), fresh("Accountant"),
+            fresh("mary@acme.co"), fresh("0781112223"), 22, 20, 2, 200.0, 50.0, 120.0, 80.0,
+            1500.0);
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.Collection;
+
+final class PayrollColumns {
+    static final Schema SCHEMA = new Schema("PayrollRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int COMPANY_NAME = SCHEMA.add("companyName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int DEPARTMENT_NAME = SCHEMA.add("departmentName", ColumnType.DICT);
+    static final int DEPARTMENT_CODE = SCHEMA.add("departmentCode", ColumnType.DICT);
+    static final int MANAGER_NAME = SCHEMA.add("managerName", ColumnType.DICT);
+    static final int MANAGER_EMAIL = SCHEMA.add("managerEmail", ColumnType.DICT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.DICT);
+    static final int YEARS_OF_EXPERIENCE = SCHEMA.add("yearsOfExperience", ColumnType.INT);
+    static final int EMPLOYEE_NAME = SCHEMA.add("employeeName", ColumnType.TEXT);
+    static final int DESIGNATION = SCHEMA.add("designation", ColumnType.DICT);
+    static final int EMPLOYEE_EMAIL = SCHEMA.add("employeeEmail", ColumnType.TEXT);
+    static final int EMPLOYEE_PHONE = SCHEMA.add("employeePhone", ColumnType.TEXT);
+    static final int TOTAL_DAYS = SCHEMA.add("totalDays", ColumnType.INT);
+    static final int PRESENT_DAYS = SCHEMA.add("presentDays", ColumnType.INT);
+    static final int ABSENT_DAYS = SCHEMA.add("absentDays", ColumnType.INT);
+    static final int HOUSE_RENT_ALLOWANCE = SCHEMA.add("houseRentAllowance", ColumnType.MONEY);
+    static final int TRANSPORT_ALLOWANCE = SCHEMA.add("transportAllowance", ColumnType.MONEY);
+    static final int TOTAL_ALLOWANCE = SCHEMA.add("totalAllowance", ColumnType.MONEY);
+    static final int TAX = SCHEMA.add("tax", ColumnType.MONEY);
+    static final int PROVIDENT_FUND = SCHEMA.add("providentFund", ColumnType.MONEY);
+    static final int TOTAL_DEDUCTION = SCHEMA.add("totalDeduction", ColumnType.MONEY);
+    static final int BASIC_SALARY = SCHEMA.add("basicSalary", ColumnType.MONEY);
+    static final int NET_SALARY = SCHEMA.add("netSalary", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<PayrollRecord> ACCESSORS = new ColumnAccessors<PayrollRecord>(SCHEMA)
+        .addInt(ID, PayrollRecord::getId, PayrollRecord::setId)
+        .addString(CREATED_DATE, PayrollRecord::getCreatedDate, PayrollRecord::setCreatedDate)
+        .addString(UPDATED_DATE, PayrollRecord::getUpdatedDate, PayrollRecord::setUpdatedDate)
+        .addString(COMPANY_NAME, PayrollRecord::getCompanyName, PayrollRecord::setCompanyName)
+        .addString(ADDRESS, PayrollRecord::getAddress, PayrollRecord::setAddress)
+        .addString(PHONE_NUMBER, PayrollRecord::getPhoneNumber, PayrollRecord::setPhoneNumber)
+        .addString(EMAIL, PayrollRecord::getEmail, PayrollRecord::setEmail)
+        .addString(DEPARTMENT_NAME, PayrollRecord::getDepartmentName, PayrollRecord::setDepartmentName)
+        .addString(DEPARTMENT_CODE, PayrollRecord::getDepartmentCode, PayrollRecord::setDepartmentCode)
+        .addString(MANAGER_NAME, PayrollRecord::getManagerName, PayrollRecord::setManagerName)
+        .addString(MANAGER_EMAIL, PayrollRecord::getManagerEmail, PayrollRecord::setManagerEmail)
+        .addString(PHONE, PayrollRecord::getPhone, PayrollRecord::setPhone)
+        .addInt(YEARS_OF_EXPERIENCE, PayrollRecord::getYearsOfExperience, PayrollRecord::setYearsOfExperience)
+        .addString(EMPLOYEE_NAME, PayrollRecord::getEmployeeName, PayrollRecord::setEmployeeName)
+        .addString(DESIGNATION, PayrollRecord::getDesignation, PayrollRecord::setDesignation)
+        .addString(EMPLOYEE_EMAIL, PayrollRecord::getEmployeeEmail, PayrollRecord::setEmployeeEmail)
+        .addString(EMPLOYEE_PHONE, PayrollRecord::getEmployeePhone, PayrollRecord::setEmployeePhone)
+        .addInt(TOTAL_DAYS, PayrollRecord::getTotalDays, PayrollRecord::setTotalDays)
+        .addInt(PRESENT_DAYS, PayrollRecord::getPresentDays, PayrollRecord::setPresentDays)
+        .addInt(ABSENT_DAYS, PayrollRecord::getAbsentDays, PayrollRecord::setAbsentDays)
+        .addDouble(HOUSE_RENT_ALLOWANCE, PayrollRecord::getHouseRentAllowance, PayrollRecord::setHouseRentAllowance)
+        .addDouble(TRANSPORT_ALLOWANCE, PayrollRecord::getTransportAllowance, PayrollRecord::setTransportAllowance)
+        .addDouble(TOTAL_ALLOWANCE, PayrollRecord::getTotalAllowance, PayrollRecord::setTotalAllowance)
+        .addDouble(TAX, PayrollRecord::getTax, PayrollRecord::setTax)
+        .addDouble(PROVIDENT_FUND, PayrollRecord::getProvidentFund, PayrollRecord::setProvidentFund)
+        .addDouble(TOTAL_DEDUCTION, PayrollRecord::getTotalDeduction, PayrollRecord::setTotalDeduction)
+        .addDouble(BASIC_SALARY, PayrollRecord::getBasicSalary, PayrollRecord::setBasicSalary)
+        .addDouble(NET_SALARY, PayrollRecord::getNetSalary, PayrollRecord::setNetSalary)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "employeeEmail", "employeePhone" };
+
+    static RecordIndexes<PayrollRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, PayrollRecord::indexedBy, expectedSize, columns);
+    }
+
+    private PayrollColumns() {
+    }
+
+    static int append(RowSink table, PayrollRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, COMPANY_NAME, record.getCompanyName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, DEPARTMENT_NAME, record.getDepartmentName());
+        table.setString(row, DEPARTMENT_CODE, record.getDepartmentCode());
+        table.setString(row, MANAGER_NAME, record.getManagerName());
+        table.setString(row, MANAGER_EMAIL, record.getManagerEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setInt(row, YEARS_OF_EXPERIENCE, record.getYearsOfExperience());
+        table.setString(row, EMPLOYEE_NAME, record.getEmployeeName());
+        table.setString(row, DESIGNATION, record.getDesignation());
+        table.setString(row, EMPLOYEE_EMAIL, record.getEmployeeEmail());
+        table.setString(row, EMPLOYEE_PHONE, record.getEmployeePhone());
+        table.setInt(row, TOTAL_DAYS, record.getTotalDays());
+        table.setInt(row, PRESENT_DAYS, record.getPresentDays());
+        table.setInt(row, ABSENT_DAYS, record.getAbsentDays());
+        table.setDouble(row, HOUSE_RENT_ALLOWANCE, record.getHouseRentAllowance());
+        table.setDouble(row, TRANSPORT_ALLOWANCE, record.getTransportAllowance());
+        table.setDouble(row, TOTAL_ALLOWANCE, record.getTotalAllowance());
+        table.setDouble(row, TAX, record.getTax());
+        table.setDouble(row, PROVIDENT_FUND, record.getProvidentFund());
+        table.setDouble(row, TOTAL_DEDUCTION, record.getTotalDeduction());
+        table.setDouble(row, BASIC_SALARY, record.getBasicSalary());
+        table.setDouble(row, NET_SALARY, record.getNetSalary());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static PayrollRecord record(RowSource source, int row) {
+        return new PayrollRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<PayrollRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (PayrollRecord record : records) append(table, record);
+        calculateNetSalary(table);
+        return table;
+    }
+
+    static void calculateNetSalary(ColumnTable table) {
+        long[] houseRentAllowance = table.cents(HOUSE_RENT_ALLOWANCE);
+        long[] transportAllowance = table.cents(TRANSPORT_ALLOWANCE);
+        long[] tax = table.cents(TAX);
+        long[] providentFund = table.cents(PROVIDENT_FUND);
+        long[] basicSalary = table.cents(BASIC_SALARY);
+        long[] totalAllowance = table.cents(TOTAL_ALLOWANCE);
+        long[] totalDeduction = table.cents(TOTAL_DEDUCTION);
+        long[] netSalary = table.cents(NET_SALARY);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalAllowance[row] = houseRentAllowance[row] + transportAllowance[row];
+            totalDeduction[row] = tax[row] + providentFund[row];
+            netSalary[row] = basicSalary[row] + totalAllowance[row] - totalDeduction[row];
+        }
+    }
+}
@@ -0,0 +1,95 @@
+import java.io.IOException;
+
+class PayrollGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address; the first entries are the busiest
+    private static final String[][] COMPANIES = {
+        { "Acme Ltd", "acme.co", "KN 3 Rd" },
+        { "Kigali Logistics", "kglogistics.rw", "KK 15 Rd" },
+        { "Inyange Industries", "inyange.rw", "KK 500 St" },
+        { "BrightSoft", "brightsoft.io", "KG 5 Ave" },
+        { "Umucyo Energy", "umucyo.rw", "KN 78 St" },
+        { "Volcano Foods", "volcanofoods.rw", "NR 4 Rd" }
+    };
+    // department, code prefix, designations
+    private static final String[][] DEPARTMENTS = {
+        { "Finance", "FIN", "Accountant", "Auditor", "Analyst" },
+        { "Engineering", "ENG", "Developer", "Tester", "Architect" },
+        { "Sales", "SAL", "Sales Agent", "Account Manager" },
+        { "Human Resources", "HRM", "Recruiter", "HR Officer" },
+        { "Operations", "OPS", "Supervisor", "Technician", "Driver" }
+    };
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.email(10), SyntheticData.phone(11),
+        SyntheticData.negative(12), SyntheticData.empty(14), SyntheticData.email(15), SyntheticData.phone(16),
+        (source, fields) -> {
+            fields[17] = "0";
+            fields[18] = "0";
+            fields[19] = "0";
+        },
+        (source, fields) -> {
+            int shift = source.between(1, 5);
+            fields[18] = Integer.toString(-shift);
+            fields[19] = Integer.toString(Integer.parseInt(fields[17]) + shift);
+        },
+        (source, fields) -> fields[19] = Integer.toString(Integer.parseInt(fields[19]) + source.between(1, 3)),
+        SyntheticData.negative(20), SyntheticData.negative(21), SyntheticData.negative(22),
+        SyntheticData.negative(23), SyntheticData.notPositive(24)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new PayrollGenerator(), rows, output);
+        SyntheticData.log(output).println(Question3_EmployeePayroll.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return PayrollBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] company = source.pickSkewed(COMPANIES);
+        String[] department = source.pickSkewed(DEPARTMENTS);
+        String manager = source.name();
+        String employee = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        int totalDays = source.between(20, 23);
+        int absentDays = source.chance(0.6) ? 0 : source.between(1, 4);
+        long basicSalary = source.cents(30_000, 500_000);
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = company[0];
+        fields[4] = company[2];
+        fields[5] = source.phone();
+        fields[6] = "hr@" + company[1];
+        fields[7] = department[0];
+        fields[8] = department[1] + "0" + source.between(1, 9);
+        fields[9] = manager;
+        fields[10] = source.email(manager, company[1]);
+        fields[11] = source.phone();
+        fields[12] = Integer.toString(source.between(2, 30));
+        fields[13] = employee;
+        fields[14] = department[source.between(2, department.length - 1)];
+        fields[15] = source.email(employee, company[1]);
+        fields[16] = source.phone();
+        fields[17] = Integer.toString(totalDays);
+        fields[18] = Integer.toString(totalDays - absentDays);
+        fields[19] = Integer.toString(absentDays);
+        fields[20] = SyntheticData.money(basicSalary / 100 * source.between(5, 20));
+        fields[21] = source.money(0, 15_000);
+        fields[22] = SyntheticData.money(basicSalary / 100 * source.between(5, 30));
+        fields[23] = SyntheticData.money(basicSalary / 100 * 5);
+        fields[24] = SyntheticData.money(basicSalary);
+    }
+}
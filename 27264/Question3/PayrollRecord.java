@@ -0,0 +1,107 @@
+final class PayrollRecord extends Salary {
+    // The columns the net salary is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS = 1L << PayrollColumns.BASIC_SALARY | 1L << PayrollColumns.HOUSE_RENT_ALLOWANCE
+        | 1L << PayrollColumns.TRANSPORT_ALLOWANCE | 1L << PayrollColumns.TAX | 1L << PayrollColumns.PROVIDENT_FUND;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<PayrollRecord> indexes;
+
+    public PayrollRecord(int id, String createdDate, String updatedDate, String companyName,
+                        String address, String phoneNumber, String email, String departmentName,
+                        String departmentCode, String managerName, String managerEmail,
+                        String phone, int yearsOfExperience, String employeeName,
+                        String designation, String employeeEmail, String employeePhone,
+                        int totalDays, int presentDays, int absentDays, double houseRentAllowance,
+                        double transportAllowance, double tax, double providentFund,
+                        double basicSalary) throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              departmentName, departmentCode, managerName, managerEmail, phone,
+              yearsOfExperience, employeeName, designation, employeeEmail, employeePhone,
+              totalDays, presentDays, absentDays, houseRentAllowance, transportAllowance,
+              tax, providentFund, basicSalary);
+    }
+
+    // Restores a record for PayrollColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    PayrollRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double calculateNetSalary() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double netSalary = netSalary();
+        setNetSalary(netSalary);
+        computed = true;
+        event.finish("Payroll", "calculateNetSalary", getId(), netSalary);
+        return netSalary;
+    }
+
+    // Counts this record's net salary in one group of totals and keeps the group's sum current as the
+    // record changes, computing the net salary first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) calculateNetSalary();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getNetSalary()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != PayrollColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of Payroll records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<PayrollRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = PayrollColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == PayrollColumns.ID ? (Integer) before : getId(), column, before,
+                PayrollColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == PayrollColumns.NET_SALARY) {
+            if (tracked != null) tracked.set(Money.of(getNetSalary()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setNetSalary(netSalary());
+        }
+    }
+
+    // Also brings the total allowance and total deduction up to date.
+    private double netSalary() {
+        long allowances = Money.add(Money.of(getHouseRentAllowance()), Money.of(getTransportAllowance()));
+        setTotalAllowance(Money.toDouble(allowances));
+        
+        long deductions = Money.add(Money.of(getTax()), Money.of(getProvidentFund()));
+        setTotalDeduction(Money.toDouble(deductions));
+        
+        return Money.toDouble(Money.subtract(Money.add(Money.of(getBasicSalary()), allowances), deductions));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        PayrollReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
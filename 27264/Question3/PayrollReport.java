@@ -0,0 +1,128 @@
+import java.util.List;
+
+class PayrollReport {
+    private static final String ID = Question3_EmployeePayroll.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== EMPLOYEE PAYROLL SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] COMPANY_DETAILS = ReportWriter.label("\n" + ID + " - --- Company Details ---");
+    private static final byte[] COMPANY_NAME = ReportWriter.label(ID + " - Company Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] DEPARTMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Department Details ---");
+    private static final byte[] DEPARTMENT = ReportWriter.label(ID + " - Department: ");
+    private static final byte[] DEPARTMENT_CODE = ReportWriter.label(ID + " - Department Code: ");
+    private static final byte[] MANAGER_DETAILS = ReportWriter.label("\n" + ID + " - --- Manager Details ---");
+    private static final byte[] MANAGER_NAME = ReportWriter.label(ID + " - Manager Name: ");
+    private static final byte[] MANAGER_EMAIL = ReportWriter.label(ID + " - Manager Email: ");
+    private static final byte[] MANAGER_PHONE = ReportWriter.label(ID + " - Manager Phone: ");
+    private static final byte[] YEARS_OF_EXPERIENCE = ReportWriter.label(ID + " - Years of Experience: ");
+    private static final byte[] EMPLOYEE_DETAILS = ReportWriter.label("\n" + ID + " - --- Employee Details ---");
+    private static final byte[] EMPLOYEE_NAME = ReportWriter.label(ID + " - Employee Name: ");
+    private static final byte[] DESIGNATION = ReportWriter.label(ID + " - Designation: ");
+    private static final byte[] EMPLOYEE_EMAIL = ReportWriter.label(ID + " - Employee Email: ");
+    private static final byte[] EMPLOYEE_PHONE = ReportWriter.label(ID + " - Employee Phone: ");
+    private static final byte[] ATTENDANCE_DETAILS = ReportWriter.label("\n" + ID + " - --- Attendance Details ---");
+    private static final byte[] TOTAL_DAYS = ReportWriter.label(ID + " - Total Days: ");
+    private static final byte[] PRESENT_DAYS = ReportWriter.label(ID + " - Present Days: ");
+    private static final byte[] ABSENT_DAYS = ReportWriter.label(ID + " - Absent Days: ");
+    private static final byte[] ALLOWANCE_DETAILS = ReportWriter.label("\n" + ID + " - --- Allowance Details ---");
+    private static final byte[] HOUSE_RENT_ALLOWANCE = ReportWriter.label(ID + " - House Rent Allowance: $");
+    private static final byte[] TRANSPORT_ALLOWANCE = ReportWriter.label(ID + " - Transport Allowance: $");
+    private static final byte[] TOTAL_ALLOWANCE = ReportWriter.label(ID + " - Total Allowance: $");
+    private static final byte[] DEDUCTION_DETAILS = ReportWriter.label("\n" + ID + " - --- Deduction Details ---");
+    private static final byte[] TAX = ReportWriter.label(ID + " - Tax: $");
+    private static final byte[] PROVIDENT_FUND = ReportWriter.label(ID + " - Provident Fund: $");
+    private static final byte[] TOTAL_DEDUCTION = ReportWriter.label(ID + " - Total Deduction: $");
+    private static final byte[] SALARY_DETAILS = ReportWriter.label("\n" + ID + " - --- Salary Details ---");
+    private static final byte[] BASIC_SALARY = ReportWriter.label(ID + " - Basic Salary: $");
+    private static final byte[] NET_SALARY = ReportWriter.label(ID + " - Net Salary: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ===============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(PayrollRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(COMPANY_DETAILS).newLine();
+        out.write(COMPANY_NAME).write(record.getCompanyName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(DEPARTMENT_DETAILS).newLine();
+        out.write(DEPARTMENT).write(record.getDepartmentName()).newLine();
+        out.write(DEPARTMENT_CODE).write(record.getDepartmentCode()).newLine();
+        out.write(MANAGER_DETAILS).newLine();
+        out.write(MANAGER_NAME).write(record.getManagerName()).newLine();
+        out.write(MANAGER_EMAIL).write(record.getManagerEmail()).newLine();
+        out.write(MANAGER_PHONE).write(record.getPhone()).newLine();
+        out.write(YEARS_OF_EXPERIENCE).write(record.getYearsOfExperience()).newLine();
+        out.write(EMPLOYEE_DETAILS).newLine();
+        out.write(EMPLOYEE_NAME).write(record.getEmployeeName()).newLine();
+        out.write(DESIGNATION).write(record.getDesignation()).newLine();
+        out.write(EMPLOYEE_EMAIL).write(record.getEmployeeEmail()).newLine();
+        out.write(EMPLOYEE_PHONE).write(record.getEmployeePhone()).newLine();
+        out.write(ATTENDANCE_DETAILS).newLine();
+        out.write(TOTAL_DAYS).write(record.getTotalDays()).newLine();
+        out.write(PRESENT_DAYS).write(record.getPresentDays()).newLine();
+        out.write(ABSENT_DAYS).write(record.getAbsentDays()).newLine();
+        out.write(ALLOWANCE_DETAILS).newLine();
+        out.write(HOUSE_RENT_ALLOWANCE).write(record.getHouseRentAllowance()).newLine();
+        out.write(TRANSPORT_ALLOWANCE).write(record.getTransportAllowance()).newLine();
+        out.write(TOTAL_ALLOWANCE).write(record.getTotalAllowance()).newLine();
+        out.write(DEDUCTION_DETAILS).newLine();
+        out.write(TAX).write(record.getTax()).newLine();
+        out.write(PROVIDENT_FUND).write(record.getProvidentFund()).newLine();
+        out.write(TOTAL_DEDUCTION).write(record.getTotalDeduction()).newLine();
+        out.write(SALARY_DETAILS).newLine();
+        out.write(BASIC_SALARY).write(record.getBasicSalary()).newLine();
+        out.write(NET_SALARY).write(record.getNetSalary()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(PayrollRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getCompanyName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getDepartmentName()).write(SEPARATOR);
+        out.write(record.getDepartmentCode()).write(SEPARATOR);
+        out.write(record.getManagerName()).write(SEPARATOR);
+        out.write(record.getManagerEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getYearsOfExperience()).write(SEPARATOR);
+        out.write(record.getEmployeeName()).write(SEPARATOR);
+        out.write(record.getDesignation()).write(SEPARATOR);
+        out.write(record.getEmployeeEmail()).write(SEPARATOR);
+        out.write(record.getEmployeePhone()).write(SEPARATOR);
+        out.write(record.getTotalDays()).write(SEPARATOR);
+        out.write(record.getPresentDays()).write(SEPARATOR);
+        out.write(record.getAbsentDays()).write(SEPARATOR);
+        out.write(record.getHouseRentAllowance()).write(SEPARATOR);
+        out.write(record.getTransportAllowance()).write(SEPARATOR);
+        out.write(record.getTotalAllowance()).write(SEPARATOR);
+        out.write(record.getTax()).write(SEPARATOR);
+        out.write(record.getProvidentFund()).write(SEPARATOR);
+        out.write(record.getTotalDeduction()).write(SEPARATOR);
+        out.write(record.getBasicSalary()).write(SEPARATOR);
+        out.write(record.getNetSalary()).newLine();
+    }
+
+    static void writeAll(List<PayrollRecord> records, ReportWriter out, boolean compact) {
+        for (PayrollRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
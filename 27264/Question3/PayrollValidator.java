@@ -0,0 +1,56 @@
+class PayrollValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String companyName,
+            String address, String phoneNumber, String email, String departmentName,
+            String departmentCode, String managerName, String managerEmail, String phone,
+            int yearsOfExperience, String employeeName, String designation, String employeeEmail,
+            String employeePhone, int totalDays, int presentDays, int absentDays,
+            double houseRentAllowance, double transportAllowance, double tax, double providentFund,
+            double basicSalary, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("Entity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("Entity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("Company.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("Company.email", "Invalid email format");
+        if (!FieldRules.isCode(departmentCode))
+            result.add("Department.departmentCode", "Department code must be alphanumeric and at least 3 characters");
+        if (!FieldRules.isEmail(managerEmail))
+            result.add("Manager.managerEmail", "Invalid manager email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("Manager.phone", "Manager phone must be exactly 10 digits");
+        if (yearsOfExperience < 0)
+            result.add("Manager.yearsOfExperience", "Years of experience must be >= 0");
+        if (designation == null || designation.trim().isEmpty())
+            result.add("Employee.designation", "Designation cannot be empty");
+        if (!FieldRules.isEmail(employeeEmail))
+            result.add("Employee.employeeEmail", "Invalid employee email format");
+        if (!FieldRules.isPhone(employeePhone))
+            result.add("Employee.employeePhone", "Employee phone must be exactly 10 digits");
+        if (totalDays <= 0)
+            result.add("Attendance.totalDays", "Total days must be > 0");
+        if (presentDays < 0)
+            result.add("Attendance.presentDays", "Present days must be >= 0");
+        if (absentDays < 0)
+            result.add("Attendance.absentDays", "Absent days must be >= 0");
+        if (presentDays + absentDays != totalDays)
+            result.add("Attendance.presentDays", "Present + Absent days must equal Total days");
+        if (houseRentAllowance < 0)
+            result.add("Allowance.houseRentAllowance", "HRA must be >= 0");
+        if (transportAllowance < 0)
+            result.add("Allowance.transportAllowance", "Transport allowance must be >= 0");
+        if (tax < 0)
+            result.add("Deduction.tax", "Tax must be >= 0");
+        if (providentFund < 0)
+            result.add("Deduction.providentFund", "Provident fund must be >= 0");
+        if (basicSalary <= 0)
+            result.add("Salary.basicSalary", "Basic salary must be > 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Payroll", result);
+        return false;
+    }
+}
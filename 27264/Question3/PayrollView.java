@@ -0,0 +1,57 @@
+final class PayrollView {
+    private final RowSource source;
+    private int row;
+
+    PayrollView(RowSource source) {
+        this.source = source;
+    }
+
+    public PayrollView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, PayrollColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, PayrollColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, PayrollColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, PayrollColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, PayrollColumns.UPDATED_DATE); }
+    public String getCompanyName() { return source.getString(row, PayrollColumns.COMPANY_NAME); }
+    public String getAddress() { return source.getString(row, PayrollColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, PayrollColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, PayrollColumns.EMAIL); }
+    public String getDepartmentName() { return source.getString(row, PayrollColumns.DEPARTMENT_NAME); }
+    public String getDepartmentCode() { return source.getString(row, PayrollColumns.DEPARTMENT_CODE); }
+    public String getManagerName() { return source.getString(row, PayrollColumns.MANAGER_NAME); }
+    public String getManagerEmail() { return source.getString(row, PayrollColumns.MANAGER_EMAIL); }
+    public String getPhone() { return source.getString(row, PayrollColumns.PHONE); }
+    public int getYearsOfExperience() { return source.getInt(row, PayrollColumns.YEARS_OF_EXPERIENCE); }
+    public String getEmployeeName() { return source.getString(row, PayrollColumns.EMPLOYEE_NAME); }
+    public String getDesignation() { return source.getString(row, PayrollColumns.DESIGNATION); }
+    public String getEmployeeEmail() { return source.getString(row, PayrollColumns.EMPLOYEE_EMAIL); }
+    public String getEmployeePhone() { return source.getString(row, PayrollColumns.EMPLOYEE_PHONE); }
+    public int getTotalDays() { return source.getInt(row, PayrollColumns.TOTAL_DAYS); }
+    public int getPresentDays() { return source.getInt(row, PayrollColumns.PRESENT_DAYS); }
+    public int getAbsentDays() { return source.getInt(row, PayrollColumns.ABSENT_DAYS); }
+    public double getHouseRentAllowance() { return source.getDouble(row, PayrollColumns.HOUSE_RENT_ALLOWANCE); }
+    public double getTransportAllowance() { return source.getDouble(row, PayrollColumns.TRANSPORT_ALLOWANCE); }
+    public double getTotalAllowance() { return source.getDouble(row, PayrollColumns.TOTAL_ALLOWANCE); }
+    public double getTax() { return source.getDouble(row, PayrollColumns.TAX); }
+    public double getProvidentFund() { return source.getDouble(row, PayrollColumns.PROVIDENT_FUND); }
+    public double getTotalDeduction() { return source.getDouble(row, PayrollColumns.TOTAL_DEDUCTION); }
+    public double getBasicSalary() { return source.getDouble(row, PayrollColumns.BASIC_SALARY); }
+    public double getNetSalary() { return source.getDouble(row, PayrollColumns.NET_SALARY); }
+
+    public double calculateNetSalary() {
+        long allowances = Money.add(cents(PayrollColumns.HOUSE_RENT_ALLOWANCE),
+            cents(PayrollColumns.TRANSPORT_ALLOWANCE));
+        long deductions = Money.add(cents(PayrollColumns.TAX), cents(PayrollColumns.PROVIDENT_FUND));
+        return Money.toDouble(Money.subtract(Money.add(cents(PayrollColumns.BASIC_SALARY), allowances), deductions));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,43 @@
+class Salary extends Deduction {
+    private double basicSalary;
+    private double netSalary;
+
+    public Salary(int id, String createdDate, String updatedDate, String companyName,
+                 String address, String phoneNumber, String email, String departmentName,
+                 String departmentCode, String managerName, String managerEmail,
+                 String phone, int yearsOfExperience, String employeeName,
+                 String designation, String employeeEmail, String employeePhone,
+                 int totalDays, int presentDays, int absentDays, double houseRentAllowance,
+                 double transportAllowance, double tax, double providentFund,
+                 double basicSalary) throws EmployeeDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              departmentName, departmentCode, managerName, managerEmail, phone,
+              yearsOfExperience, employeeName, designation, employeeEmail, employeePhone,
+              totalDays, presentDays, absentDays, houseRentAllowance, transportAllowance,
+              tax, providentFund);
+        
+        if (basicSalary <= 0) throw new EmployeeDataException("Salary.basicSalary", "Basic salary must be > 0");
+        
+        this.basicSalary = basicSalary;
+        this.netSalary = 0;
+    }
+
+    Salary(RowSource source, int row) {
+        super(source, row);
+        this.basicSalary = source.getDouble(row, PayrollColumns.BASIC_SALARY);
+        this.netSalary = source.getDouble(row, PayrollColumns.NET_SALARY);
+    }
+
+    public double getBasicSalary() { return basicSalary; }
+    public void setBasicSalary(double basicSalary) {
+        changing(PayrollColumns.BASIC_SALARY);
+        this.basicSalary = basicSalary;
+        changed(PayrollColumns.BASIC_SALARY);
+    }
+    public double getNetSalary() { return netSalary; }
+    public void setNetSalary(double netSalary) {
+        changing(PayrollColumns.NET_SALARY);
+        this.netSalary = netSalary;
+        changed(PayrollColumns.NET_SALARY);
+    }
+}
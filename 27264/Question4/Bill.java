@@ -0,0 +1,41 @@
+class Bill extends Payment {
+    private double roomCharge;
+    private double totalBill;
+
+    public Bill(int id, String createdDate, String updatedDate, String hotelName,
+               String address, String phoneNumber, String email, int roomNumber,
+               String roomType, double roomPrice, String customerName, String customerEmail,
+               String phone, String idProof, String checkInDate, String checkOutDate,
+               int numberOfDays, String serviceName, double serviceCharge,
+               String serviceDate, String paymentMethod, String paymentDate,
+               double amountPaid, double roomCharge) throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
+              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
+              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate,
+              paymentMethod, paymentDate, amountPaid);
+        
+        if (roomCharge <= 0) throw new HotelDataException("Bill.roomCharge", "Room charge must be > 0");
+        
+        this.roomCharge = roomCharge;
+        this.totalBill = 0;
+    }
+
+    Bill(RowSource source, int row) {
+        super(source, row);
+        this.roomCharge = source.getDouble(row, ReservationColumns.ROOM_CHARGE);
+        this.totalBill = source.getDouble(row, ReservationColumns.TOTAL_BILL);
+    }
+
+    public double getRoomCharge() { return roomCharge; }
+    public void setRoomCharge(double roomCharge) {
+        changing(ReservationColumns.ROOM_CHARGE);
+        this.roomCharge = roomCharge;
+        changed(ReservationColumns.ROOM_CHARGE);
+    }
+    public double getTotalBill() { return totalBill; }
+    public void setTotalBill(double totalBill) {
+        changing(ReservationColumns.TOTAL_BILL);
+        this.totalBill = totalBill;
+        changed(ReservationColumns.TOTAL_BILL);
+    }
+}
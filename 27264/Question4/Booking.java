@@ -0,0 +1,63 @@
+class Booking extends Customer {
+    private int checkInDay;
+    private String checkInDateText;
+    private int checkOutDay;
+    private String checkOutDateText;
+    private int numberOfDays;
+
+    public Booking(int id, String createdDate, String updatedDate, String hotelName,
+                   String address, String phoneNumber, String email, int roomNumber,
+                   String roomType, double roomPrice, String customerName, String customerEmail,
+                   String phone, String idProof, String checkInDate, String checkOutDate,
+                   int numberOfDays) throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
+              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof);
+        
+        if (checkInDate == null || checkInDate.trim().isEmpty()) 
+            throw new HotelDataException("Booking.checkInDate", "Check-in date cannot be empty");
+        if (checkOutDate == null || checkOutDate.trim().isEmpty()) 
+            throw new HotelDataException("Booking.checkOutDate", "Check-out date cannot be empty");
+        if (numberOfDays <= 0) 
+            throw new HotelDataException("Booking.numberOfDays", "Number of days must be > 0");
+        
+        this.checkInDay = Dates.parse(checkInDate);
+        this.checkInDateText = Dates.unparsed(checkInDate, checkInDay);
+        this.checkOutDay = Dates.parse(checkOutDate);
+        this.checkOutDateText = Dates.unparsed(checkOutDate, checkOutDay);
+        this.numberOfDays = numberOfDays;
+    }
+
+    Booking(RowSource source, int row) {
+        super(source, row);
+        String checkInDate = source.getString(row, ReservationColumns.CHECK_IN_DATE);
+        String checkOutDate = source.getString(row, ReservationColumns.CHECK_OUT_DATE);
+        this.checkInDay = Dates.parse(checkInDate);
+        this.checkInDateText = Dates.unparsed(checkInDate, checkInDay);
+        this.checkOutDay = Dates.parse(checkOutDate);
+        this.checkOutDateText = Dates.unparsed(checkOutDate, checkOutDay);
+        this.numberOfDays = source.getInt(row, ReservationColumns.NUMBER_OF_DAYS);
+    }
+
+    public String getCheckInDate() { return Dates.text(checkInDay, checkInDateText); }
+    public int getCheckInDay() { return checkInDay; }
+    public void setCheckInDate(String checkInDate) {
+        changing(ReservationColumns.CHECK_IN_DATE);
+        this.checkInDay = Dates.parse(checkInDate);
+        this.checkInDateText = Dates.unparsed(checkInDate, checkInDay);
+        changed(ReservationColumns.CHECK_IN_DATE);
+    }
+    public String getCheckOutDate() { return Dates.text(checkOutDay, checkOutDateText); }
+    public int getCheckOutDay() { return checkOutDay; }
+    public void setCheckOutDate(String checkOutDate) {
+        changing(ReservationColumns.CHECK_OUT_DATE);
+        this.checkOutDay = Dates.parse(checkOutDate);
+        this.checkOutDateText = Dates.unparsed(checkOutDate, checkOutDay);
+        changed(ReservationColumns.CHECK_OUT_DATE);
+    }
+    public int getNumberOfDays() { return numberOfDays; }
+    public void setNumberOfDays(int numberOfDays) {
+        changing(ReservationColumns.NUMBER_OF_DAYS);
+        this.numberOfDays = numberOfDays;
+        changed(ReservationColumns.NUMBER_OF_DAYS);
+    }
+}
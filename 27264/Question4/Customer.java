@@ -0,0 +1,59 @@
+class Customer extends Room {
+    private String customerName;
+    private String customerEmail;
+    private String phone;
+    private String idProof;
+
+    public Customer(int id, String createdDate, String updatedDate, String hotelName,
+                  String address, String phoneNumber, String email, int roomNumber,
+                  String roomType, double roomPrice, String customerName, String customerEmail,
+                  String phone, String idProof) throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
+              roomNumber, roomType, roomPrice);
+        
+        if (!FieldRules.isEmail(customerEmail)) 
+            throw new HotelDataException("Customer.customerEmail", "Invalid customer email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new HotelDataException("Customer.phone", "Customer phone must be exactly 10 digits");
+        if (idProof == null || idProof.trim().isEmpty()) 
+            throw new HotelDataException("Customer.idProof", "ID proof cannot be empty");
+        
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.phone = phone;
+        this.idProof = idProof;
+    }
+
+    Customer(RowSource source, int row) {
+        super(source, row);
+        this.customerName = source.getString(row, ReservationColumns.CUSTOMER_NAME);
+        this.customerEmail = source.getString(row, ReservationColumns.CUSTOMER_EMAIL);
+        this.phone = source.getString(row, ReservationColumns.PHONE);
+        this.idProof = source.getString(row, ReservationColumns.ID_PROOF);
+    }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) {
+        changing(ReservationColumns.CUSTOMER_NAME);
+        this.customerName = customerName;
+        changed(ReservationColumns.CUSTOMER_NAME);
+    }
+    public String getCustomerEmail() { return customerEmail; }
+    public void setCustomerEmail(String customerEmail) {
+        changing(ReservationColumns.CUSTOMER_EMAIL);
+        this.customerEmail = customerEmail;
+        changed(ReservationColumns.CUSTOMER_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(ReservationColumns.PHONE);
+        this.phone = phone;
+        changed(ReservationColumns.PHONE);
+    }
+    public String getIdProof() { return idProof; }
+    public void setIdProof(String idProof) {
+        changing(ReservationColumns.ID_PROOF);
+        this.idProof = idProof;
+        changed(ReservationColumns.ID_PROOF);
+    }
+}
@@ -0,0 +1,43 @@
+class Feedback extends Bill {
+    private int rating;
+    private String comments;
+
+    public Feedback(int id, String createdDate, String updatedDate, String hotelName,
+                   String address, String phoneNumber, String email, int roomNumber,
+                   String roomType, double roomPrice, String customerName, String customerEmail,
+                   String phone, String idProof, String checkInDate, String checkOutDate,
+                   int numberOfDays, String serviceName, double serviceCharge,
+                   String serviceDate, String paymentMethod, String paymentDate,
+                   double amountPaid, double roomCharge, int rating, String comments) 
+                   throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
+              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
+              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate,
+              paymentMethod, paymentDate, amountPaid, roomCharge);
+        
+        if (rating < 1 || rating > 5) 
+            throw new HotelDataException("Feedback.rating", "Rating must be between 1 and 5");
+        
+        this.rating = rating;
+        this.comments = comments;
+    }
+
+    Feedback(RowSource source, int row) {
+        super(source, row);
+        this.rating = source.getInt(row, ReservationColumns.RATING);
+        this.comments = source.getString(row, ReservationColumns.COMMENTS);
+    }
+
+    public int getRating() { return rating; }
+    public void setRating(int rating) {
+        changing(ReservationColumns.RATING);
+        this.rating = rating;
+        changed(ReservationColumns.RATING);
+    }
+    public String getComments() { return comments; }
+    public void setComments(String comments) {
+        changing(ReservationColumns.COMMENTS);
+        this.comments = comments;
+        changed(ReservationColumns.COMMENTS);
+    }
+}
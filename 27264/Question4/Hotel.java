@@ -0,0 +1,44 @@
+class Hotel extends Entity {
+    private HotelProfile profile;
+
+    public Hotel(int id, String createdDate, String updatedDate, String hotelName, 
+                   String address, String phoneNumber, String email) throws HotelDataException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = HotelProfile.of(hotelName, address, phoneNumber, email);
+    }
+
+    Hotel(RowSource source, int row) {
+        super(source, row);
+        String hotelName = source.getString(row, ReservationColumns.HOTEL_NAME);
+        String address = source.getString(row, ReservationColumns.ADDRESS);
+        String phoneNumber = source.getString(row, ReservationColumns.PHONE_NUMBER);
+        String email = source.getString(row, ReservationColumns.EMAIL);
+        this.profile = HotelProfile.restore(hotelName, address, phoneNumber, email);
+    }
+
+    public String getHotelName() { return profile.getHotelName(); }
+    public void setHotelName(String hotelName) {
+        changing(ReservationColumns.HOTEL_NAME);
+        profile = profile.withHotelName(hotelName);
+        changed(ReservationColumns.HOTEL_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(ReservationColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(ReservationColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(ReservationColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(ReservationColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(ReservationColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(ReservationColumns.EMAIL);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class HotelProfile {
+    private static final Interner<HotelProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<HotelProfile> RESTORED = new Interner<>();
+
+    private final String hotelName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private HotelProfile(String hotelName, String address, String phoneNumber, String email) {
+        this.hotelName = hotelName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(hotelName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static HotelProfile of(String hotelName, String address, String phoneNumber, String email)
+            throws HotelDataException {
+        HotelProfile candidate = new HotelProfile(hotelName, address, phoneNumber, email);
+        HotelProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new HotelDataException("Hotel.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new HotelDataException("Hotel.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static HotelProfile restore(String hotelName, String address, String phoneNumber, String email) {
+        HotelProfile candidate = new HotelProfile(hotelName, address, phoneNumber, email);
+        HotelProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getHotelName() { return hotelName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    HotelProfile withHotelName(String hotelName) {
+        return new HotelProfile(hotelName, address, phoneNumber, email);
+    }
+
+    HotelProfile withAddress(String address) {
+        return new HotelProfile(hotelName, address, phoneNumber, email);
+    }
+
+    HotelProfile withPhoneNumber(String phoneNumber) {
+        return new HotelProfile(hotelName, address, phoneNumber, email);
+    }
+
+    HotelProfile withEmail(String email) {
+        return new HotelProfile(hotelName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof HotelProfile)) return false;
+        HotelProfile that = (HotelProfile) other;
+        return hash == that.hash
+            && Objects.equals(hotelName, that.hotelName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,58 @@
+class Payment extends Service {
+    private String paymentMethod;
+    private int paymentDay;
+    private String paymentDateText;
+    private double amountPaid;
+
+    public Payment(int id, String createdDate, String updatedDate, String hotelName,
+                   String address, String phoneNumber, String email, int roomNumber,
+                   String roomType, double roomPrice, String customerName, String customerEmail,
+                   String phone, String idProof, String checkInDate, String checkOutDate,
+                   int numberOfDays, String serviceName, double serviceCharge,
+                   String serviceDate, String paymentMethod, String paymentDate,
+                   double amountPaid) throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
+              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
+              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate);
+        
+        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
+            throw new HotelDataException("Payment.paymentMethod", "Payment method cannot be empty");
+        if (amountPaid < 0) 
+            throw new HotelDataException("Payment.amountPaid", "Amount paid must be >= 0");
+        
+        this.paymentMethod = paymentMethod;
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+        this.amountPaid = amountPaid;
+    }
+
+    Payment(RowSource source, int row) {
+        super(source, row);
+        String paymentDate = source.getString(row, ReservationColumns.PAYMENT_DATE);
+        this.paymentMethod = source.getString(row, ReservationColumns.PAYMENT_METHOD);
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+        this.amountPaid = source.getDouble(row, ReservationColumns.AMOUNT_PAID);
+    }
+
+    public String getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(String paymentMethod) {
+        changing(ReservationColumns.PAYMENT_METHOD);
+        this.paymentMethod = paymentMethod;
+        changed(ReservationColumns.PAYMENT_METHOD);
+    }
+    public String getPaymentDate() { return Dates.text(paymentDay, paymentDateText); }
+    public int getPaymentDay() { return paymentDay; }
+    public void setPaymentDate(String paymentDate) {
+        changing(ReservationColumns.PAYMENT_DATE);
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+        changed(ReservationColumns.PAYMENT_DATE);
+    }
+    public double getAmountPaid() { return amountPaid; }
+    public void setAmountPaid(double amountPaid) {
+        changing(ReservationColumns.AMOUNT_PAID);
+        this.amountPaid = amountPaid;
+        changed(ReservationColumns.AMOUNT_PAID);
+    }
+}
@@ -1,355 +1,36 @@
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
-class HotelDataException extends Exception {
-    public HotelDataException(String message) {
-        super(message);
-    }
-}
-
-class Entity {
-    private int id;
-    private String createdDate;
-    private String updatedDate;
-
-    public Entity(int id, String createdDate, String updatedDate) throws HotelDataException {
-        if (id <= 0) throw new HotelDataException("ID must be greater than 0");
-        if (createdDate == null || createdDate.trim().isEmpty()) 
-            throw new HotelDataException("Created date cannot be null or empty");
-        if (updatedDate == null || updatedDate.trim().isEmpty()) 
-            throw new HotelDataException("Updated date cannot be null or empty");
-        
-        this.id = id;
-        this.createdDate = createdDate;
-        this.updatedDate = updatedDate;
-    }
-
-    public int getId() { return id; }
-    public void setId(int id) { this.id = id; }
-    public String getCreatedDate() { return createdDate; }
-    public void setCreatedDate(String createdDate) { this.createdDate = createdDate; }
-    public String getUpdatedDate() { return updatedDate; }
-    public void setUpdatedDate(String updatedDate) { this.updatedDate = updatedDate; }
-}
-
-class Hotel extends Entity {
-    private String hotelName;
-    private String address;
-    private String phoneNumber;
-    private String email;
-
-    public Hotel(int id, String createdDate, String updatedDate, String hotelName, 
-                   String address, String phoneNumber, String email) throws HotelDataException {
-        super(id, createdDate, updatedDate);
-        
-        if (!phoneNumber.matches("\\d{10}")) 
-            throw new HotelDataException("Phone number must be exactly 10 digits");
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new HotelDataException("Invalid email format");
-        
-        this.hotelName = hotelName;
-        this.address = address;
-        this.phoneNumber = phoneNumber;
-        this.email = email;
-    }
-
-    public String getHotelName() { return hotelName; }
-    public void setHotelName(String hotelName) { this.hotelName = hotelName; }
-    public String getAddress() { return address; }
-    public void setAddress(String address) { this.address = address; }
-    public String getPhoneNumber() { return phoneNumber; }
-    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
-    public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
-}
-
-class Room extends Hotel {
-    private int roomNumber;
-    private String roomType;
-    private double roomPrice;
-
-    public Room(int id, String createdDate, String updatedDate, String hotelName,
-                     String address, String phoneNumber, String email, int roomNumber,
-                     String roomType, double roomPrice) throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email);
-        
-        if (roomNumber <= 0) 
-            throw new HotelDataException("Room number must be > 0");
-        if (roomPrice <= 0) 
-            throw new HotelDataException("Room price must be > 0");
-        
-        this.roomNumber = roomNumber;
-        this.roomType = roomType;
-        this.roomPrice = roomPrice;
-    }
-
-    public int getRoomNumber() { return roomNumber; }
-    public void setRoomNumber(int roomNumber) { this.roomNumber = roomNumber; }
-    public String getRoomType() { return roomType; }
-    public void setRoomType(String roomType) { this.roomType = roomType; }
-    public double getRoomPrice() { return roomPrice; }
-    public void setRoomPrice(double roomPrice) { this.roomPrice = roomPrice; }
-}
-
-class Customer extends Room {
-    private String customerName;
-    private String customerEmail;
-    private String phone;
-    private String idProof;
-
-    public Customer(int id, String createdDate, String updatedDate, String hotelName,
-                  String address, String phoneNumber, String email, int roomNumber,
-                  String roomType, double roomPrice, String customerName, String customerEmail,
-                  String phone, String idProof) throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
-              roomNumber, roomType, roomPrice);
-        
-        if (!customerEmail.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new HotelDataException("Invalid customer email format");
-        if (!phone.matches("\\d{10}")) 
-            throw new HotelDataException("Customer phone must be exactly 10 digits");
-        if (idProof == null || idProof.trim().isEmpty()) 
-            throw new HotelDataException("ID proof cannot be empty");
-        
-        this.customerName = customerName;
-        this.customerEmail = customerEmail;
-        this.phone = phone;
-        this.idProof = idProof;
-    }
-
-    public String getCustomerName() { return customerName; }
-    public void setCustomerName(String customerName) { this.customerName = customerName; }
-    public String getCustomerEmail() { return customerEmail; }
-    public void setCustomerEmail(String customerEmail) { this.customerEmail = customerEmail; }
-    public String getPhone() { return phone; }
-    public void setPhone(String phone) { this.phone = phone; }
-    public String getIdProof() { return idProof; }
-    public void setIdProof(String idProof) { this.idProof = idProof; }
-}
-
-class Booking extends Customer {
-    private String checkInDate;
-    private String checkOutDate;
-    private int numberOfDays;
-
-    public Booking(int id, String createdDate, String updatedDate, String hotelName,
-                   String address, String phoneNumber, String email, int roomNumber,
-                   String roomType, double roomPrice, String customerName, String customerEmail,
-                   String phone, String idProof, String checkInDate, String checkOutDate,
-                   int numberOfDays) throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
-              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof);
-        
-        if (checkInDate == null || checkInDate.trim().isEmpty()) 
-            throw new HotelDataException("Check-in date cannot be empty");
-        if (checkOutDate == null || checkOutDate.trim().isEmpty()) 
-            throw new HotelDataException("Check-out date cannot be empty");
-        if (numberOfDays <= 0) 
-            throw new HotelDataException("Number of days must be > 0");
-        
-        this.checkInDate = checkInDate;
-        this.checkOutDate = checkOutDate;
-        this.numberOfDays = numberOfDays;
-    }
-
-    public String getCheckInDate() { return checkInDate; }
-    public void setCheckInDate(String checkInDate) { this.checkInDate = checkInDate; }
-    public String getCheckOutDate() { return checkOutDate; }
-    public void setCheckOutDate(String checkOutDate) { this.checkOutDate = checkOutDate; }
-    public int getNumberOfDays() { return numberOfDays; }
-    public void setNumberOfDays(int numberOfDays) { this.numberOfDays = numberOfDays; }
-}
-
-class Service extends Booking {
-    private String serviceName;
-    private double serviceCharge;
-    private String serviceDate;
-
-    public Service(int id, String createdDate, String updatedDate, String hotelName,
-                   String address, String phoneNumber, String email, int roomNumber,
-                   String roomType, double roomPrice, String customerName, String customerEmail,
-                   String phone, String idProof, String checkInDate, String checkOutDate,
-                   int numberOfDays, String serviceName, double serviceCharge,
-                   String serviceDate) throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
-              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
-              checkInDate, checkOutDate, numberOfDays);
-        
-        if (serviceName == null || serviceName.trim().isEmpty()) 
-            throw new HotelDataException("Service name cannot be empty");
-        if (serviceCharge < 0) 
-            throw new HotelDataException("Service charge must be >= 0");
-        
-        this.serviceName = serviceName;
-        this.serviceCharge = serviceCharge;
-        this.serviceDate = serviceDate;
-    }
-
-    public String getServiceName() { return serviceName; }
-    public void setServiceName(String serviceName) { this.serviceName = serviceName; }
-    public double getServiceCharge() { return serviceCharge; }
-    public void setServiceCharge(double serviceCharge) { this.serviceCharge = serviceCharge; }
-    public String getServiceDate() { return serviceDate; }
-    public void setServiceDate(String serviceDate) { this.serviceDate = serviceDate; }
-}
-
-class Payment extends Service {
-    private String paymentMethod;
-    private String paymentDate;
-    private double amountPaid;
-
-    public Payment(int id, String createdDate, String updatedDate, String hotelName,
-                   String address, String phoneNumber, String email, int roomNumber,
-                   String roomType, double roomPrice, String customerName, String customerEmail,
-                   String phone, String idProof, String checkInDate, String checkOutDate,
-                   int numberOfDays, String serviceName, double serviceCharge,
-                   String serviceDate, String paymentMethod, String paymentDate,
-                   double amountPaid) throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
-              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
-              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate);
-        
-        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
-            throw new HotelDataException("Payment method cannot be empty");
-        if (amountPaid < 0) 
-            throw new HotelDataException("Amount paid must be >= 0");
-        
-        this.paymentMethod = paymentMethod;
-        this.paymentDate = paymentDate;
-        this.amountPaid = amountPaid;
-    }
-
-    public String getPaymentMethod() { return paymentMethod; }
-    public void setPaymentMethod(String paymentMethod) { this.paymentMethod = paymentMethod; }
-    public String getPaymentDate() { return paymentDate; }
-    public void setPaymentDate(String paymentDate) { this.paymentDate = paymentDate; }
-    public double getAmountPaid() { return amountPaid; }
-    public void setAmountPaid(double amountPaid) { this.amountPaid = amountPaid; }
-}
-
-class Bill extends Payment {
-    private double roomCharge;
-    private double totalBill;
-
-    public Bill(int id, String createdDate, String updatedDate, String hotelName,
-               String address, String phoneNumber, String email, int roomNumber,
-               String roomType, double roomPrice, String customerName, String customerEmail,
-               String phone, String idProof, String checkInDate, String checkOutDate,
-               int numberOfDays, String serviceName, double serviceCharge,
-               String serviceDate, String paymentMethod, String paymentDate,
-               double amountPaid, double roomCharge) throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
-              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
-              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate,
-              paymentMethod, paymentDate, amountPaid);
-        
-        if (roomCharge <= 0) throw new HotelDataException("Room charge must be > 0");
-        
-        this.roomCharge = roomCharge;
-        this.totalBill = 0;
-    }
-
-    public double getRoomCharge() { return roomCharge; }
-    public void setRoomCharge(double roomCharge) { this.roomCharge = roomCharge; }
-    public double getTotalBill() { return totalBill; }
-    public void setTotalBill(double totalBill) { this.totalBill = totalBill; }
-}
-
-class Feedback extends Bill {
-    private int rating;
-    private String comments;
-
-    public Feedback(int id, String createdDate, String updatedDate, String hotelName,
-                   String address, String phoneNumber, String email, int roomNumber,
-                   String roomType, double roomPrice, String customerName, String customerEmail,
-                   String phone, String idProof, String checkInDate, String checkOutDate,
-                   int numberOfDays, String serviceName, double serviceCharge,
-                   String serviceDate, String paymentMethod, String paymentDate,
-                   double amountPaid, double roomCharge, int rating, String comments) 
-                   throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
-              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
-              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate,
-              paymentMethod, paymentDate, amountPaid, roomCharge);
-        
-        if (rating < 1 || rating > 5) 
-            throw new HotelDataException("Rating must be between 1 and 5");
-        
-        this.rating = rating;
-        this.comments = comments;
-    }
-
-    public int getRating() { return rating; }
-    public void setRating(int rating) { this.rating = rating; }
-    public String getComments() { return comments; }
-    public void setComments(String comments) { this.comments = comments; }
-}
-
-final class ReservationRecord extends Feedback {
-    public ReservationRecord(int id, String createdDate, String updatedDate, String hotelName,
-                            String address, String phoneNumber, String email, int roomNumber,
-                            String roomType, double roomPrice, String customerName, String customerEmail,
-                            String phone, String idProof, String checkInDate, String checkOutDate,
-                            int numberOfDays, String serviceName, double serviceCharge,
-                            String serviceDate, String paymentMethod, String paymentDate,
-                            double amountPaid, double roomCharge, int rating, String comments) 
-                            throws HotelDataException {
-        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
-              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
-              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate,
-              paymentMethod, paymentDate, amountPaid, roomCharge, rating, comments);
-    }
-
-    public double generateBill() {
-        double total = getRoomCharge() + getServiceCharge();
-        setTotalBill(total);
-        return total;
-    }
-
-    public void displayRecord() {
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - ========== HOTEL RESERVATION SYSTEM ==========");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Record ID: " + getId());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Created Date: " + getCreatedDate());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Updated Date: " + getUpdatedDate());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Hotel Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Hotel Name: " + getHotelName());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Address: " + getAddress());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Phone: " + getPhoneNumber());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Email: " + getEmail());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Room Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Room Number: " + getRoomNumber());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Room Type: " + getRoomType());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Room Price: $" + getRoomPrice());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Customer Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Customer Name: " + getCustomerName());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Customer Email: " + getCustomerEmail());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Customer Phone: " + getPhone());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - ID Proof: " + getIdProof());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Booking Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Check-In Date: " + getCheckInDate());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Check-Out Date: " + getCheckOutDate());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Number of Days: " + getNumberOfDays());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Service Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Service Name: " + getServiceName());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Service Charge: $" + getServiceCharge());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Service Date: " + getServiceDate());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Payment Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Payment Method: " + getPaymentMethod());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Payment Date: " + getPaymentDate());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Amount Paid: $" + getAmountPaid());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Bill Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Room Charge: $" + getRoomCharge());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Total Bill: $" + getTotalBill());
-        System.out.println("\n" + Question4_HotelReservation.STUDENT_ID + " - --- Feedback Details ---");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Rating: " + getRating() + "/5");
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Comments: " + getComments());
-        System.out.println(Question4_HotelReservation.STUDENT_ID + " - ===============================================\n");
-    }
-}
-
 public class Question4_HotelReservation {
     public static final String STUDENT_ID = "27264";
     
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--generate")) {
+            runGenerate(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replay")) {
+            runReplay(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--snapshot")) {
+            runSnapshot(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--restore")) {
+            runRestore(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--reconcile")) {
+            runReconcile(args);
+            return;
+        }
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         
         try {
@@ -456,4 +137,108 @@ public class Question4_HotelReservation {
             scanner.close();
         }
     }
+
+    private static void runBatch(String[] args) {
+        if ((args.length != 3 && args.length != 4) || !args[0].equals("--batch")) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Usage: java Question4_HotelReservation --batch <input file> <output file> [threads]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        ParallelBatch.DuplicateIds duplicateIds;
+        try {
+            duplicateIds = ParallelBatch.duplicateIdsProperty();
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - " + e.getMessage());
+            return;
+        }
+        try {
+            ParallelBatch batch = args.length == 4
+                ? new ParallelBatch(Integer.parseInt(args[3]), ParallelBatch.DEFAULT_CHUNK_BYTES)
+                : new ParallelBatch();
+            batch.duplicateIds(duplicateIds);
+            ReservationBatchLoader.run(Paths.get(args[1]), Paths.get(args[2]), batch);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Threads must be a positive number");
+        } catch (IOException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runGenerate(String[] args) {
+        if (args.length != 3 && args.length != 4) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Usage: java Question4_HotelReservation --generate <output file or -> <rows> [seed]");
+            return;
+        }
+
+        try {
+            int rows = Integer.parseInt(args[2]);
+            long seed = args.length == 4 ? Long.parseLong(args[3]) : 1;
+            ReservationGenerator.run(args[1], rows, new SyntheticData(seed));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Rows, seed and generator settings must be valid numbers");
+        } catch (IOException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReplay(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Usage: java Question4_HotelReservation --replay <batch file> <journal file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            ReservationBatchLoader.replay(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runSnapshot(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Usage: java Question4_HotelReservation --snapshot <batch file> <snapshot file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            ReservationBatchLoader.snapshot(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runRestore(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Usage: java Question4_HotelReservation --restore <snapshot file> [journal file]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            ReservationBatchLoader.restore(Paths.get(args[1]), args.length == 3 ? Paths.get(args[2]) : null);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReconcile(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Usage: java Question4_HotelReservation --reconcile <batch file> <batch file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            ReservationBatchLoader.reconcile(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,234 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class ReservationBatchLoader implements ParallelBatch.Row {
+    public static final char DELIMITER = '|';
+    public static final int FIELD_COUNT = 26;
+
+    // The constructor's parameter names, in the order of the fields on a line
+    static final String[] FIELDS = {
+        "id", "createdDate", "updatedDate", "hotelName", "address", "phoneNumber", "email",
+        "roomNumber", "roomType", "roomPrice", "customerName", "customerEmail", "phone",
+        "idProof", "checkInDate", "checkOutDate", "numberOfDays", "serviceName",
+        "serviceCharge", "serviceDate", "paymentMethod", "paymentDate", "amountPaid",
+        "roomCharge", "rating", "comments"
+    };
+
+    private static final LatencyHistogram PARSE = Metrics.histogram("Reservation.parse");
+    private static final LatencyHistogram VALIDATE = Metrics.histogram("Reservation.validate");
+    private static final LatencyHistogram CONSTRUCT = Metrics.histogram("Reservation.construct");
+    private static final LatencyHistogram COMPUTE = Metrics.histogram("Reservation.compute");
+    private static final LatencyHistogram RENDER = Metrics.histogram("Reservation.render");
+
+    private final String[] fields = new String[FIELD_COUNT];
+    private final ValidationResult result = new ValidationResult();
+    private long time;
+    private int id;
+
+    public static ParallelBatch.Summary run(Path input, Path output, ParallelBatch batch) throws IOException {
+        Path rejects = Paths.get(output.toString() + ".rejects");
+        ParallelBatch.Summary summary = batch.run(input, output, rejects, ReservationBatchLoader::new);
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Batch complete: " + summary.getTotal()
+            + " rows (" + summary.getAccepted() + " accepted, " + summary.getRejected() + " rejected) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + batch.getParallelism() + " threads");
+        if (summary.getDuplicates() > 0)
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Duplicate ids: "
+                + summary.getDuplicates() + " rows repeated an earlier id (" + summary.getDuplicateIds() + ")");
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Throughput: "
+            + summary.rowsPerSecond() + " rows/s");
+        Metrics.dumpIfRequested();
+        return summary;
+    }
+
+    // The batch file's valid records by id, in file order; rows a batch run would reject are left out.
+    static Map<Integer, ReservationRecord> load(Path input) throws IOException {
+        Map<Integer, ReservationRecord> records = new LinkedHashMap<>();
+        read(input, record -> records.put(record.getId(), record));
+        return records;
+    }
+
+    // Every valid row of the batch file as columns, in file order, with the computed column filled
+    // in; the source for a Query.
+    static ColumnTable loadTable(Path input) throws IOException {
+        ColumnTable table = new ColumnTable(ReservationColumns.SCHEMA);
+        read(input, record -> ReservationColumns.append(table, record));
+        ReservationColumns.generateBill(table);
+        return table;
+    }
+
+    // Passes each valid record of the batch file to action, in file order. A row with the id of an
+    // earlier record is left out, as a batch run rejects it.
+    static void read(Path input, Consumer<ReservationRecord> action) throws IOException {
+        ReservationBatchLoader loader = new ReservationBatchLoader();
+        IdBitmap ids = new IdBitmap();
+        try (BufferedReader lines = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                if (line.isEmpty() || line.charAt(0) == '#') continue;
+                loader.time = Metrics.now();
+                try {
+                    ReservationRecord record = loader.toRecord(line);
+                    if (record != null && ids.add(record.getId())) action.accept(record);
+                } catch (HotelDataException | NumberFormatException e) {
+                    // rejected, as in a batch run
+                }
+            }
+        }
+    }
+
+    // Rebuilds the records as they were when the journal was last written: the batch file's
+    // records with every journaled change applied on top.
+    public static Map<Integer, ReservationRecord> replay(Path input, Path journal) throws IOException {
+        Map<Integer, ReservationRecord> records = load(input);
+        ChangeJournal.Summary summary = ChangeJournal.replay(journal, ReservationColumns.ACCESSORS, records);
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Replayed " + summary.getEntries()
+            + " changes onto " + records.size() + " records in " + (summary.getElapsedNanos() / 1_000_000) + " ms ("
+            + summary.getMissing() + " for unknown records, " + summary.getMismatched() + " not matching)");
+        return records;
+    }
+
+    // Writes the batch file's valid records to a snapshot for restore to start from.
+    public static RecordSnapshot.Summary snapshot(Path input, Path snapshot) throws IOException {
+        Map<Integer, ReservationRecord> records = load(input);
+        RecordSnapshot.Summary summary = RecordSnapshot.write(snapshot, ReservationColumns.SCHEMA, records.values(),
+            ReservationColumns::append);
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Snapshot of " + summary.getRows() + " records written in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms (" + (summary.getBytes() / 1024) + " KB)");
+        return summary;
+    }
+
+    // Rebuilds the records from a snapshot, reading the mapped rows without parsing or validating
+    // them again, then applies the changes journaled since the snapshot was started. The journal
+    // may be null.
+    public static Map<Integer, ReservationRecord> restore(Path snapshot, Path journal) throws IOException {
+        long start = System.nanoTime();
+        Map<Integer, ReservationRecord> records = new LinkedHashMap<>();
+        try (RecordSnapshot rows = RecordSnapshot.open(snapshot, ReservationColumns.SCHEMA)) {
+            if (rows == null)
+                throw new IOException("No complete snapshot at " + snapshot);
+            for (ReservationRecord record : rows.records(ReservationColumns::record)) {
+                records.put(record.getId(), record);
+            }
+            System.out.println(Question4_HotelReservation.STUDENT_ID + " - Restored " + records.size()
+                + " records from the snapshot in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+            if (journal != null) {
+                ChangeJournal.Summary summary = rows.replay(journal, ReservationColumns.ACCESSORS, records);
+                System.out.println(Question4_HotelReservation.STUDENT_ID + " - Replayed " + summary.getApplied()
+                    + " changes onto " + records.size() + " records in " + (summary.getElapsedNanos() / 1_000_000)
+                    + " ms (" + summary.getMissing() + " for unknown records, " + summary.getMismatched()
+                    + " not matching)");
+            }
+        }
+        return records;
+    }
+
+    // The ids of the batch file's valid records.
+    static IdBitmap ids(Path input) throws IOException {
+        IdBitmap ids = new IdBitmap();
+        read(input, record -> ids.add(record.getId()));
+        return ids;
+    }
+
+    // Compares the ids of two batch files' valid records, such as two loads to reconcile.
+    public static void reconcile(Path first, Path second) throws IOException {
+        long start = System.nanoTime();
+        IdBitmap firstIds = ids(first);
+        IdBitmap secondIds = ids(second);
+        IdBitmap both = IdBitmap.and(firstIds, secondIds);
+        IdBitmap onlyFirst = IdBitmap.andNot(firstIds, secondIds);
+        IdBitmap onlySecond = IdBitmap.andNot(secondIds, firstIds);
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - " + first + ": " + firstIds.size() + " ids, " + second + ": "
+            + secondIds.size() + " ids, compared in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - In both: " + both.size());
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Only in " + first + ": " + onlyFirst.size()
+            + (onlyFirst.isEmpty() ? "" : " (" + onlyFirst + ")"));
+        System.out.println(Question4_HotelReservation.STUDENT_ID + " - Only in " + second + ": " + onlySecond.size()
+            + (onlySecond.isEmpty() ? "" : " (" + onlySecond + ")"));
+    }
+
+    @Override
+    public int id() { return id; }
+
+    @Override
+    public String process(String line, StringBuilder out) {
+        time = Metrics.now();
+        try {
+            ReservationRecord record = toRecord(line);
+            if (record == null) {
+                Metrics.countRules(result);
+                return result.toString();
+            }
+            id = record.getId();
+            double total = record.generateBill();
+            time = COMPUTE.recordSince(time);
+            out.append(record.getId()).append(DELIMITER).append(record.getCustomerName()).append(DELIMITER)
+                .append(total);
+            RENDER.recordSince(time);
+            return null;
+        } catch (HotelDataException e) {
+            Metrics.countException(e);
+            return e.getMessage();
+        } catch (NumberFormatException e) {
+            Metrics.countException(e);
+            // The one rule this loader checks itself, while parsing
+            ValidationFailureEvent.emit("Reservation", "Row.number", "Invalid number format");
+            return "Invalid number format";
+        }
+    }
+
+    // Returns null when the row breaks any rule; every violation is left in result.
+    private ReservationRecord toRecord(String line) throws HotelDataException {
+        int count = split(line);
+        if (count != FIELD_COUNT)
+            throw new HotelDataException("Row.fieldCount", "Expected " + FIELD_COUNT + " fields but found " + count);
+
+        int id = Integer.parseInt(fields[0]);
+        int roomNumber = Integer.parseInt(fields[7]);
+        double roomPrice = Double.parseDouble(fields[9]);
+        int numberOfDays = Integer.parseInt(fields[16]);
+        double serviceCharge = Double.parseDouble(fields[18]);
+        double amountPaid = Double.parseDouble(fields[22]);
+        double roomCharge = Double.parseDouble(fields[23]);
+        int rating = Integer.parseInt(fields[24]);
+        time = PARSE.recordSince(time);
+
+        boolean valid = ReservationValidator.validate(id, fields[1], fields[2], fields[3],
+            fields[4], fields[5], fields[6], roomNumber, fields[8], roomPrice, fields[10],
+            fields[11], fields[12], fields[13], fields[14], fields[15], numberOfDays, fields[17],
+            serviceCharge, fields[19], fields[20], fields[21], amountPaid, roomCharge, rating,
+            fields[25], result);
+        time = VALIDATE.recordSince(time);
+        if (!valid) return null;
+
+        RecordConstructionEvent construction = new RecordConstructionEvent();
+        construction.begin();
+        ReservationRecord record = new ReservationRecord(id, fields[1], fields[2], fields[3],
+            fields[4], fields[5], fields[6], roomNumber, fields[8], roomPrice, fields[10],
+            fields[11], fields[12], fields[13], fields[14], fields[15], numberOfDays, fields[17],
+            serviceCharge, fields[19], fields[20], fields[21], amountPaid, roomCharge, rating,
+            fields[25]);
+        construction.finish("Reservation", record, id);
+        time = CONSTRUCT.recordSince(time);
+        return record;
+    }
+
+    private int split(String line) {
+        int count = 0;
+        int from = 0;
+        int length = line.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line.charAt(i) == DELIMITER) {
+                if (count < FIELD_COUNT) fields[count] = line.substring(from, i).trim();
+                count++;
+                from = i + 1;
+            }
+        }
+        return count;
+    }
+}
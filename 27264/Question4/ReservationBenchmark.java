@@ -0,0 +1,149 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class ReservationBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        ReservationRecord record = newRecord(1);
+
+        bench.header("ReservationRecord");
+        bench.run("new Entity", i -> new Entity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new ReservationRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("generateBill", i -> record.generateBill());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            ReservationReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            ReservationReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("ReservationRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by ReservationValidator", i -> ReservationValidator.validate(-1,
+            "2024-01-01", "2024-01-02", "Serena Hotel", "KN 3 Ave", "0781234567", "info@serena.rw",
+            204, "Deluxe", 120.0, "Alex Mutesi", "alex@mail.com", "0789876543", "PASS123",
+            "2024-05-01", "2024-05-04", 3, "Spa", 45.0, "2024-05-02", "Card", "2024-05-04", 405.0,
+            360.0, 5, "Great stay", result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("ReservationRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        ReservationRecord[] records = new ReservationRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(ReservationColumns.SCHEMA, rows);
+        for (ReservationRecord r : records) ReservationColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        ReservationView view = new ReservationView(table);
+        bench.runDouble("generateBill over records", i -> {
+            double sum = 0;
+            for (ReservationRecord r : records) sum += r.generateBill();
+            return sum;
+        });
+        bench.runDouble("generateBill over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).generateBill();
+            return sum;
+        });
+        bench.run("generateBill column kernel", i -> {
+            ReservationColumns.generateBill(table);
+            return table;
+        });
+        Path file = Files.createTempFile("ReservationRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, ReservationColumns.SCHEMA)) {
+            for (ReservationRecord r : records) ReservationColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, ReservationColumns.SCHEMA)) {
+            ReservationView mapped = new ReservationView(reader);
+            bench.runDouble("generateBill over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).generateBill();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<ReservationRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            ReservationReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            ReservationReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws HotelDataException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        ReservationRecord[] records = new ReservationRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (HotelDataException e) {
+            return e;
+        }
+    }
+
+    static ReservationRecord newRecord(int id) throws HotelDataException {
+        return new ReservationRecord(id, "2024-01-01", "2024-01-02", "Serena Hotel", "KN 3 Ave",
+            "0781234567", "info@serena.rw", 204, "Deluxe", 120.0, "Alex Mutesi", "alex@mail.com",
+            "0789876543", "PASS123", "2024-05-01", "2024-05-04", 3, "Spa", 45.0, "2024-05-02",
+            "Card", "2024-05-04", 405.0, 360.0, 5, "Great stay");
+    }
+
+    static ReservationRecord newParsedRecord(int id, int organization) throws HotelDataException {
+        return new ReservationRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "Serena Hotel" + organization, fresh("KN 3 Ave"), fresh("0781234567"),
+            fresh("info@serena.rw"), 204, fresh("Deluxe"), 120.0, fresh("Alex Mutesi"),
+            fresh("alex@mail.com"), fresh("0789876543"), fresh("PASS123"), fresh("2024-05-01"),
+            fresh("2024-05-04"), 3, fresh("Spa"), 45.0, fresh("2024-05-02"), fresh("Card"),
+            fresh("2024-05-04"), 405.0, 360.0, 5, fresh("Great stay"));
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
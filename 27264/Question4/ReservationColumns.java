@@ -0,0 +1,129 @@
+import java.util.Collection;
+
+final class ReservationColumns {
+    static final Schema SCHEMA = new Schema("ReservationRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int HOTEL_NAME = SCHEMA.add("hotelName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int ROOM_NUMBER = SCHEMA.add("roomNumber", ColumnType.INT);
+    static final int ROOM_TYPE = SCHEMA.add("roomType", ColumnType.DICT);
+    static final int ROOM_PRICE = SCHEMA.add("roomPrice", ColumnType.MONEY);
+    static final int CUSTOMER_NAME = SCHEMA.add("customerName", ColumnType.TEXT);
+    static final int CUSTOMER_EMAIL = SCHEMA.add("customerEmail", ColumnType.TEXT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.TEXT);
+    static final int ID_PROOF = SCHEMA.add("idProof", ColumnType.TEXT);
+    static final int CHECK_IN_DATE = SCHEMA.add("checkInDate", ColumnType.DATE);
+    static final int CHECK_OUT_DATE = SCHEMA.add("checkOutDate", ColumnType.DATE);
+    static final int NUMBER_OF_DAYS = SCHEMA.add("numberOfDays", ColumnType.INT);
+    static final int SERVICE_NAME = SCHEMA.add("serviceName", ColumnType.DICT);
+    static final int SERVICE_CHARGE = SCHEMA.add("serviceCharge", ColumnType.MONEY);
+    static final int SERVICE_DATE = SCHEMA.add("serviceDate", ColumnType.DATE);
+    static final int PAYMENT_METHOD = SCHEMA.add("paymentMethod", ColumnType.DICT);
+    static final int PAYMENT_DATE = SCHEMA.add("paymentDate", ColumnType.DATE);
+    static final int AMOUNT_PAID = SCHEMA.add("amountPaid", ColumnType.MONEY);
+    static final int ROOM_CHARGE = SCHEMA.add("roomCharge", ColumnType.MONEY);
+    static final int TOTAL_BILL = SCHEMA.add("totalBill", ColumnType.MONEY);
+    static final int RATING = SCHEMA.add("rating", ColumnType.INT);
+    static final int COMMENTS = SCHEMA.add("comments", ColumnType.TEXT);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<ReservationRecord> ACCESSORS = new ColumnAccessors<ReservationRecord>(SCHEMA)
+        .addInt(ID, ReservationRecord::getId, ReservationRecord::setId)
+        .addString(CREATED_DATE, ReservationRecord::getCreatedDate, ReservationRecord::setCreatedDate)
+        .addString(UPDATED_DATE, ReservationRecord::getUpdatedDate, ReservationRecord::setUpdatedDate)
+        .addString(HOTEL_NAME, ReservationRecord::getHotelName, ReservationRecord::setHotelName)
+        .addString(ADDRESS, ReservationRecord::getAddress, ReservationRecord::setAddress)
+        .addString(PHONE_NUMBER, ReservationRecord::getPhoneNumber, ReservationRecord::setPhoneNumber)
+        .addString(EMAIL, ReservationRecord::getEmail, ReservationRecord::setEmail)
+        .addInt(ROOM_NUMBER, ReservationRecord::getRoomNumber, ReservationRecord::setRoomNumber)
+        .addString(ROOM_TYPE, ReservationRecord::getRoomType, ReservationRecord::setRoomType)
+        .addDouble(ROOM_PRICE, ReservationRecord::getRoomPrice, ReservationRecord::setRoomPrice)
+        .addString(CUSTOMER_NAME, ReservationRecord::getCustomerName, ReservationRecord::setCustomerName)
+        .addString(CUSTOMER_EMAIL, ReservationRecord::getCustomerEmail, ReservationRecord::setCustomerEmail)
+        .addString(PHONE, ReservationRecord::getPhone, ReservationRecord::setPhone)
+        .addString(ID_PROOF, ReservationRecord::getIdProof, ReservationRecord::setIdProof)
+        .addString(CHECK_IN_DATE, ReservationRecord::getCheckInDate, ReservationRecord::setCheckInDate)
+        .addString(CHECK_OUT_DATE, ReservationRecord::getCheckOutDate, ReservationRecord::setCheckOutDate)
+        .addInt(NUMBER_OF_DAYS, ReservationRecord::getNumberOfDays, ReservationRecord::setNumberOfDays)
+        .addString(SERVICE_NAME, ReservationRecord::getServiceName, ReservationRecord::setServiceName)
+        .addDouble(SERVICE_CHARGE, ReservationRecord::getServiceCharge, ReservationRecord::setServiceCharge)
+        .addString(SERVICE_DATE, ReservationRecord::getServiceDate, ReservationRecord::setServiceDate)
+        .addString(PAYMENT_METHOD, ReservationRecord::getPaymentMethod, ReservationRecord::setPaymentMethod)
+        .addString(PAYMENT_DATE, ReservationRecord::getPaymentDate, ReservationRecord::setPaymentDate)
+        .addDouble(AMOUNT_PAID, ReservationRecord::getAmountPaid, ReservationRecord::setAmountPaid)
+        .addDouble(ROOM_CHARGE, ReservationRecord::getRoomCharge, ReservationRecord::setRoomCharge)
+        .addDouble(TOTAL_BILL, ReservationRecord::getTotalBill, ReservationRecord::setTotalBill)
+        .addInt(RATING, ReservationRecord::getRating, ReservationRecord::setRating)
+        .addString(COMMENTS, ReservationRecord::getComments, ReservationRecord::setComments)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "customerEmail", "phone" };
+
+    static RecordIndexes<ReservationRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, ReservationRecord::indexedBy, expectedSize, columns);
+    }
+
+    private ReservationColumns() {
+    }
+
+    static int append(RowSink table, ReservationRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, HOTEL_NAME, record.getHotelName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setInt(row, ROOM_NUMBER, record.getRoomNumber());
+        table.setString(row, ROOM_TYPE, record.getRoomType());
+        table.setDouble(row, ROOM_PRICE, record.getRoomPrice());
+        table.setString(row, CUSTOMER_NAME, record.getCustomerName());
+        table.setString(row, CUSTOMER_EMAIL, record.getCustomerEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, ID_PROOF, record.getIdProof());
+        table.setString(row, CHECK_IN_DATE, record.getCheckInDate());
+        table.setString(row, CHECK_OUT_DATE, record.getCheckOutDate());
+        table.setInt(row, NUMBER_OF_DAYS, record.getNumberOfDays());
+        table.setString(row, SERVICE_NAME, record.getServiceName());
+        table.setDouble(row, SERVICE_CHARGE, record.getServiceCharge());
+        table.setString(row, SERVICE_DATE, record.getServiceDate());
+        table.setString(row, PAYMENT_METHOD, record.getPaymentMethod());
+        table.setString(row, PAYMENT_DATE, record.getPaymentDate());
+        table.setDouble(row, AMOUNT_PAID, record.getAmountPaid());
+        table.setDouble(row, ROOM_CHARGE, record.getRoomCharge());
+        table.setDouble(row, TOTAL_BILL, record.getTotalBill());
+        table.setInt(row, RATING, record.getRating());
+        table.setString(row, COMMENTS, record.getComments());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static ReservationRecord record(RowSource source, int row) {
+        return new ReservationRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<ReservationRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (ReservationRecord record : records) append(table, record);
+        generateBill(table);
+        return table;
+    }
+
+    static void generateBill(ColumnTable table) {
+        long[] roomCharge = table.cents(ROOM_CHARGE);
+        long[] serviceCharge = table.cents(SERVICE_CHARGE);
+        long[] totalBill = table.cents(TOTAL_BILL);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalBill[row] = roomCharge[row] + serviceCharge[row];
+        }
+    }
+}
@@ -0,0 +1,84 @@
+import java.io.IOException;
+
+class ReservationGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address; the first entries are the busiest
+    private static final String[][] HOTELS = {
+        { "Serena Hotel", "serena.rw", "KN 3 Ave" },
+        { "Marriott Kigali", "marriott.rw", "KN 3 Ave" },
+        { "Radisson Blu", "radissonblu.rw", "KG 2 Roundabout" },
+        { "Hotel des Mille Collines", "millecollines.rw", "KN 6 Ave" },
+        { "Lake Kivu Serena", "kivuserena.rw", "Avenue de la Cooperation" }
+    };
+    // room type, nightly price in cents
+    private static final Object[][] ROOMS = {
+        { "Standard", 8_000L }, { "Deluxe", 12_000L }, { "Suite", 25_000L }, { "Family", 15_000L }
+    };
+    private static final String[] SERVICES = { "Spa", "Laundry", "Airport Shuttle", "Room Service", "Minibar", "Tour" };
+    private static final String[] PAYMENT_METHODS = { "Card", "Cash", "Mobile Money", "Bank Transfer" };
+    private static final String[] COMMENTS = { "Great stay", "Clean rooms", "Friendly staff", "Noisy at night", "Will come back" };
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.notPositive(7), SyntheticData.notPositive(9),
+        SyntheticData.email(11), SyntheticData.phone(12), SyntheticData.empty(13), SyntheticData.empty(14),
+        SyntheticData.empty(15), SyntheticData.notPositive(16), SyntheticData.empty(17),
+        SyntheticData.negative(18), SyntheticData.empty(20), SyntheticData.negative(22),
+        SyntheticData.notPositive(23), SyntheticData.set(24, "0", "6", "10")
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new ReservationGenerator(), rows, output);
+        SyntheticData.log(output).println(Question4_HotelReservation.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return ReservationBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] hotel = source.pickSkewed(HOTELS);
+        Object[] room = source.pickSkewed(ROOMS);
+        String customer = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        int checkIn = created + source.nextInt(90);
+        int nights = source.between(1, 10);
+        long roomCharge = (Long) room[1] * nights;
+        long serviceCharge = source.cents(0, 10_000);
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = hotel[0];
+        fields[4] = hotel[2];
+        fields[5] = source.phone();
+        fields[6] = "info@" + hotel[1];
+        fields[7] = Integer.toString(100 * source.between(1, 8) + source.between(1, 30));
+        fields[8] = (String) room[0];
+        fields[9] = SyntheticData.money((Long) room[1]);
+        fields[10] = customer;
+        fields[11] = source.email(customer, "mail.com");
+        fields[12] = source.phone();
+        fields[13] = source.code("PASS", 6);
+        fields[14] = SyntheticData.date(checkIn);
+        fields[15] = SyntheticData.date(checkIn + nights);
+        fields[16] = Integer.toString(nights);
+        fields[17] = source.pick(SERVICES);
+        fields[18] = SyntheticData.money(serviceCharge);
+        fields[19] = SyntheticData.date(checkIn + source.nextInt(nights));
+        fields[20] = source.pick(PAYMENT_METHODS);
+        fields[21] = SyntheticData.date(checkIn + nights);
+        fields[22] = SyntheticData.money(roomCharge + serviceCharge);
+        fields[23] = SyntheticData.money(roomCharge);
+        fields[24] = Integer.toString(source.between(1, 5));
+        fields[25] = source.pick(COMMENTS);
+    }
+}
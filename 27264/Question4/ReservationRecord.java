@@ -0,0 +1,99 @@
+final class ReservationRecord extends Feedback {
+    // The columns the total bill is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS =
+        1L << ReservationColumns.ROOM_CHARGE | 1L << ReservationColumns.SERVICE_CHARGE;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<ReservationRecord> indexes;
+
+    public ReservationRecord(int id, String createdDate, String updatedDate, String hotelName,
+                            String address, String phoneNumber, String email, int roomNumber,
+                            String roomType, double roomPrice, String customerName, String customerEmail,
+                            String phone, String idProof, String checkInDate, String checkOutDate,
+                            int numberOfDays, String serviceName, double serviceCharge,
+                            String serviceDate, String paymentMethod, String paymentDate,
+                            double amountPaid, double roomCharge, int rating, String comments) 
+                            throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
+              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
+              checkInDate, checkOutDate, numberOfDays, serviceName, serviceCharge, serviceDate,
+              paymentMethod, paymentDate, amountPaid, roomCharge, rating, comments);
+    }
+
+    // Restores a record for ReservationColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    ReservationRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double generateBill() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double total = bill();
+        setTotalBill(total);
+        computed = true;
+        event.finish("Reservation", "generateBill", getId(), total);
+        return total;
+    }
+
+    // Counts this record's total bill in one group of totals and keeps the group's sum current as the
+    // record changes, computing the total bill first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) generateBill();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getTotalBill()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != ReservationColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of Reservation records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<ReservationRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = ReservationColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == ReservationColumns.ID ? (Integer) before : getId(), column, before,
+                ReservationColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == ReservationColumns.TOTAL_BILL) {
+            if (tracked != null) tracked.set(Money.of(getTotalBill()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setTotalBill(bill());
+        }
+    }
+
+    private double bill() {
+        return Money.toDouble(Money.add(Money.of(getRoomCharge()), Money.of(getServiceCharge())));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        ReservationReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
@@ -0,0 +1,126 @@
+import java.util.List;
+
+class ReservationReport {
+    private static final String ID = Question4_HotelReservation.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== HOTEL RESERVATION SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] HOTEL_DETAILS = ReportWriter.label("\n" + ID + " - --- Hotel Details ---");
+    private static final byte[] HOTEL_NAME = ReportWriter.label(ID + " - Hotel Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] ROOM_DETAILS = ReportWriter.label("\n" + ID + " - --- Room Details ---");
+    private static final byte[] ROOM_NUMBER = ReportWriter.label(ID + " - Room Number: ");
+    private static final byte[] ROOM_TYPE = ReportWriter.label(ID + " - Room Type: ");
+    private static final byte[] ROOM_PRICE = ReportWriter.label(ID + " - Room Price: $");
+    private static final byte[] CUSTOMER_DETAILS = ReportWriter.label("\n" + ID + " - --- Customer Details ---");
+    private static final byte[] CUSTOMER_NAME = ReportWriter.label(ID + " - Customer Name: ");
+    private static final byte[] CUSTOMER_EMAIL = ReportWriter.label(ID + " - Customer Email: ");
+    private static final byte[] CUSTOMER_PHONE = ReportWriter.label(ID + " - Customer Phone: ");
+    private static final byte[] ID_PROOF = ReportWriter.label(ID + " - ID Proof: ");
+    private static final byte[] BOOKING_DETAILS = ReportWriter.label("\n" + ID + " - --- Booking Details ---");
+    private static final byte[] CHECK_IN_DATE = ReportWriter.label(ID + " - Check-In Date: ");
+    private static final byte[] CHECK_OUT_DATE = ReportWriter.label(ID + " - Check-Out Date: ");
+    private static final byte[] NUMBER_OF_DAYS = ReportWriter.label(ID + " - Number of Days: ");
+    private static final byte[] SERVICE_DETAILS = ReportWriter.label("\n" + ID + " - --- Service Details ---");
+    private static final byte[] SERVICE_NAME = ReportWriter.label(ID + " - Service Name: ");
+    private static final byte[] SERVICE_CHARGE = ReportWriter.label(ID + " - Service Charge: $");
+    private static final byte[] SERVICE_DATE = ReportWriter.label(ID + " - Service Date: ");
+    private static final byte[] PAYMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Payment Details ---");
+    private static final byte[] PAYMENT_METHOD = ReportWriter.label(ID + " - Payment Method: ");
+    private static final byte[] PAYMENT_DATE = ReportWriter.label(ID + " - Payment Date: ");
+    private static final byte[] AMOUNT_PAID = ReportWriter.label(ID + " - Amount Paid: $");
+    private static final byte[] BILL_DETAILS = ReportWriter.label("\n" + ID + " - --- Bill Details ---");
+    private static final byte[] ROOM_CHARGE = ReportWriter.label(ID + " - Room Charge: $");
+    private static final byte[] TOTAL_BILL = ReportWriter.label(ID + " - Total Bill: $");
+    private static final byte[] FEEDBACK_DETAILS = ReportWriter.label("\n" + ID + " - --- Feedback Details ---");
+    private static final byte[] RATING = ReportWriter.label(ID + " - Rating: ");
+    private static final byte[] OUT_OF_FIVE = ReportWriter.label("/5");
+    private static final byte[] COMMENTS = ReportWriter.label(ID + " - Comments: ");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ===============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(ReservationRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(HOTEL_DETAILS).newLine();
+        out.write(HOTEL_NAME).write(record.getHotelName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(ROOM_DETAILS).newLine();
+        out.write(ROOM_NUMBER).write(record.getRoomNumber()).newLine();
+        out.write(ROOM_TYPE).write(record.getRoomType()).newLine();
+        out.write(ROOM_PRICE).write(record.getRoomPrice()).newLine();
+        out.write(CUSTOMER_DETAILS).newLine();
+        out.write(CUSTOMER_NAME).write(record.getCustomerName()).newLine();
+        out.write(CUSTOMER_EMAIL).write(record.getCustomerEmail()).newLine();
+        out.write(CUSTOMER_PHONE).write(record.getPhone()).newLine();
+        out.write(ID_PROOF).write(record.getIdProof()).newLine();
+        out.write(BOOKING_DETAILS).newLine();
+        out.write(CHECK_IN_DATE).write(record.getCheckInDate()).newLine();
+        out.write(CHECK_OUT_DATE).write(record.getCheckOutDate()).newLine();
+        out.write(NUMBER_OF_DAYS).write(record.getNumberOfDays()).newLine();
+        out.write(SERVICE_DETAILS).newLine();
+        out.write(SERVICE_NAME).write(record.getServiceName()).newLine();
+        out.write(SERVICE_CHARGE).write(record.getServiceCharge()).newLine();
+        out.write(SERVICE_DATE).write(record.getServiceDate()).newLine();
+        out.write(PAYMENT_DETAILS).newLine();
+        out.write(PAYMENT_METHOD).write(record.getPaymentMethod()).newLine();
+        out.write(PAYMENT_DATE).write(record.getPaymentDate()).newLine();
+        out.write(AMOUNT_PAID).write(record.getAmountPaid()).newLine();
+        out.write(BILL_DETAILS).newLine();
+        out.write(ROOM_CHARGE).write(record.getRoomCharge()).newLine();
+        out.write(TOTAL_BILL).write(record.getTotalBill()).newLine();
+        out.write(FEEDBACK_DETAILS).newLine();
+        out.write(RATING).write(record.getRating()).write(OUT_OF_FIVE).newLine();
+        out.write(COMMENTS).write(record.getComments()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(ReservationRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getHotelName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getRoomNumber()).write(SEPARATOR);
+        out.write(record.getRoomType()).write(SEPARATOR);
+        out.write(record.getRoomPrice()).write(SEPARATOR);
+        out.write(record.getCustomerName()).write(SEPARATOR);
+        out.write(record.getCustomerEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getIdProof()).write(SEPARATOR);
+        out.write(record.getCheckInDate()).write(SEPARATOR);
+        out.write(record.getCheckOutDate()).write(SEPARATOR);
+        out.write(record.getNumberOfDays()).write(SEPARATOR);
+        out.write(record.getServiceName()).write(SEPARATOR);
+        out.write(record.getServiceCharge()).write(SEPARATOR);
+        out.write(record.getServiceDate()).write(SEPARATOR);
+        out.write(record.getPaymentMethod()).write(SEPARATOR);
+        out.write(record.getPaymentDate()).write(SEPARATOR);
+        out.write(record.getAmountPaid()).write(SEPARATOR);
+        out.write(record.getRoomCharge()).write(SEPARATOR);
+        out.write(record.getTotalBill()).write(SEPARATOR);
+        out.write(record.getRating()).write(SEPARATOR);
+        out.write(record.getComments()).newLine();
+    }
+
+    static void writeAll(List<ReservationRecord> records, ReportWriter out, boolean compact) {
+        for (ReservationRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,52 @@
+class ReservationValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String hotelName,
+            String address, String phoneNumber, String email, int roomNumber, String roomType,
+            double roomPrice, String customerName, String customerEmail, String phone, String idProof,
+            String checkInDate, String checkOutDate, int numberOfDays, String serviceName,
+            double serviceCharge, String serviceDate, String paymentMethod, String paymentDate,
+            double amountPaid, double roomCharge, int rating, String comments,
+            ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("Entity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("Entity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("Hotel.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("Hotel.email", "Invalid email format");
+        if (roomNumber <= 0)
+            result.add("Room.roomNumber", "Room number must be > 0");
+        if (roomPrice <= 0)
+            result.add("Room.roomPrice", "Room price must be > 0");
+        if (!FieldRules.isEmail(customerEmail))
+            result.add("Customer.customerEmail", "Invalid customer email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("Customer.phone", "Customer phone must be exactly 10 digits");
+        if (idProof == null || idProof.trim().isEmpty())
+            result.add("Customer.idProof", "ID proof cannot be empty");
+        if (checkInDate == null || checkInDate.trim().isEmpty())
+            result.add("Booking.checkInDate", "Check-in date cannot be empty");
+        if (checkOutDate == null || checkOutDate.trim().isEmpty())
+            result.add("Booking.checkOutDate", "Check-out date cannot be empty");
+        if (numberOfDays <= 0)
+            result.add("Booking.numberOfDays", "Number of days must be > 0");
+        if (serviceName == null || serviceName.trim().isEmpty())
+            result.add("Service.serviceName", "Service name cannot be empty");
+        if (serviceCharge < 0)
+            result.add("Service.serviceCharge", "Service charge must be >= 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty())
+            result.add("Payment.paymentMethod", "Payment method cannot be empty");
+        if (amountPaid < 0)
+            result.add("Payment.amountPaid", "Amount paid must be >= 0");
+        if (roomCharge <= 0)
+            result.add("Bill.roomCharge", "Room charge must be > 0");
+        if (rating < 1 || rating > 5)
+            result.add("Feedback.rating", "Rating must be between 1 and 5");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Reservation", result);
+        return false;
+    }
+}
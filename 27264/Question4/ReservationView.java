@@ -0,0 +1,58 @@
+final class ReservationView {
+    private final RowSource source;
+    private int row;
+
+    ReservationView(RowSource source) {
+        this.source = source;
+    }
+
+    public ReservationView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, ReservationColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, ReservationColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, ReservationColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, ReservationColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, ReservationColumns.UPDATED_DATE); }
+    public String getHotelName() { return source.getString(row, ReservationColumns.HOTEL_NAME); }
+    public String getAddress() { return source.getString(row, ReservationColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, ReservationColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, ReservationColumns.EMAIL); }
+    public int getRoomNumber() { return source.getInt(row, ReservationColumns.ROOM_NUMBER); }
+    public String getRoomType() { return source.getString(row, ReservationColumns.ROOM_TYPE); }
+    public double getRoomPrice() { return source.getDouble(row, ReservationColumns.ROOM_PRICE); }
+    public String getCustomerName() { return source.getString(row, ReservationColumns.CUSTOMER_NAME); }
+    public String getCustomerEmail() { return source.getString(row, ReservationColumns.CUSTOMER_EMAIL); }
+    public String getPhone() { return source.getString(row, ReservationColumns.PHONE); }
+    public String getIdProof() { return source.getString(row, ReservationColumns.ID_PROOF); }
+    public String getCheckInDate() { return source.getString(row, ReservationColumns.CHECK_IN_DATE); }
+    public int getCheckInDay() { return source.getInt(row, ReservationColumns.CHECK_IN_DATE); }
+    public String getCheckOutDate() { return source.getString(row, ReservationColumns.CHECK_OUT_DATE); }
+    public int getCheckOutDay() { return source.getInt(row, ReservationColumns.CHECK_OUT_DATE); }
+    public int getNumberOfDays() { return source.getInt(row, ReservationColumns.NUMBER_OF_DAYS); }
+    public String getServiceName() { return source.getString(row, ReservationColumns.SERVICE_NAME); }
+    public double getServiceCharge() { return source.getDouble(row, ReservationColumns.SERVICE_CHARGE); }
+    public String getServiceDate() { return source.getString(row, ReservationColumns.SERVICE_DATE); }
+    public int getServiceDay() { return source.getInt(row, ReservationColumns.SERVICE_DATE); }
+    public String getPaymentMethod() { return source.getString(row, ReservationColumns.PAYMENT_METHOD); }
+    public String getPaymentDate() { return source.getString(row, ReservationColumns.PAYMENT_DATE); }
+    public int getPaymentDay() { return source.getInt(row, ReservationColumns.PAYMENT_DATE); }
+    public double getAmountPaid() { return source.getDouble(row, ReservationColumns.AMOUNT_PAID); }
+    public double getRoomCharge() { return source.getDouble(row, ReservationColumns.ROOM_CHARGE); }
+    public double getTotalBill() { return source.getDouble(row, ReservationColumns.TOTAL_BILL); }
+    public int getRating() { return source.getInt(row, ReservationColumns.RATING); }
+    public String getComments() { return source.getString(row, ReservationColumns.COMMENTS); }
+
+    public double generateBill() {
+        return Money.toDouble(Money.add(cents(ReservationColumns.ROOM_CHARGE),
+            cents(ReservationColumns.SERVICE_CHARGE)));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,38 @@
+class Room extends Hotel {
+    private RoomProfile profile;
+
+    public Room(int id, String createdDate, String updatedDate, String hotelName,
+                     String address, String phoneNumber, String email, int roomNumber,
+                     String roomType, double roomPrice) throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email);
+        
+        this.profile = RoomProfile.of(roomNumber, roomType, roomPrice);
+    }
+
+    Room(RowSource source, int row) {
+        super(source, row);
+        int roomNumber = source.getInt(row, ReservationColumns.ROOM_NUMBER);
+        String roomType = source.getString(row, ReservationColumns.ROOM_TYPE);
+        double roomPrice = source.getDouble(row, ReservationColumns.ROOM_PRICE);
+        this.profile = RoomProfile.restore(roomNumber, roomType, roomPrice);
+    }
+
+    public int getRoomNumber() { return profile.getRoomNumber(); }
+    public void setRoomNumber(int roomNumber) {
+        changing(ReservationColumns.ROOM_NUMBER);
+        profile = profile.withRoomNumber(roomNumber);
+        changed(ReservationColumns.ROOM_NUMBER);
+    }
+    public String getRoomType() { return profile.getRoomType(); }
+    public void setRoomType(String roomType) {
+        changing(ReservationColumns.ROOM_TYPE);
+        profile = profile.withRoomType(roomType);
+        changed(ReservationColumns.ROOM_TYPE);
+    }
+    public double getRoomPrice() { return profile.getRoomPrice(); }
+    public void setRoomPrice(double roomPrice) {
+        changing(ReservationColumns.ROOM_PRICE);
+        profile = profile.withRoomPrice(roomPrice);
+        changed(ReservationColumns.ROOM_PRICE);
+    }
+}
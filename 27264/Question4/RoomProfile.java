@@ -0,0 +1,75 @@
+import java.util.Objects;
+
+final class RoomProfile {
+    private static final Interner<RoomProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<RoomProfile> RESTORED = new Interner<>();
+
+    private final int roomNumber;
+    private final String roomType;
+    private final double roomPrice;
+    private final int hash;
+
+    private RoomProfile(int roomNumber, String roomType, double roomPrice) {
+        this.roomNumber = roomNumber;
+        this.roomType = roomType;
+        this.roomPrice = roomPrice;
+        int hash = roomNumber;
+        hash = 31 * hash + Objects.hashCode(roomType);
+        hash = 31 * hash + Double.hashCode(roomPrice);
+        this.hash = hash;
+    }
+
+    static RoomProfile of(int roomNumber, String roomType, double roomPrice)
+            throws HotelDataException {
+        RoomProfile candidate = new RoomProfile(roomNumber, roomType, roomPrice);
+        RoomProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (roomNumber <= 0) 
+            throw new HotelDataException("Room.roomNumber", "Room number must be > 0");
+        if (roomPrice <= 0) 
+            throw new HotelDataException("Room.roomPrice", "Room price must be > 0");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static RoomProfile restore(int roomNumber, String roomType, double roomPrice) {
+        RoomProfile candidate = new RoomProfile(roomNumber, roomType, roomPrice);
+        RoomProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public int getRoomNumber() { return roomNumber; }
+    public String getRoomType() { return roomType; }
+    public double getRoomPrice() { return roomPrice; }
+
+    RoomProfile withRoomNumber(int roomNumber) {
+        return new RoomProfile(roomNumber, roomType, roomPrice);
+    }
+
+    RoomProfile withRoomType(String roomType) {
+        return new RoomProfile(roomNumber, roomType, roomPrice);
+    }
+
+    RoomProfile withRoomPrice(double roomPrice) {
+        return new RoomProfile(roomNumber, roomType, roomPrice);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof RoomProfile)) return false;
+        RoomProfile that = (RoomProfile) other;
+        return hash == that.hash
+            && roomNumber == that.roomNumber
+            && Objects.equals(roomType, that.roomType)
+            && Double.compare(roomPrice, that.roomPrice) == 0;
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
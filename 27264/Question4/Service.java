@@ -0,0 +1,57 @@
+class Service extends Booking {
+    private String serviceName;
+    private double serviceCharge;
+    private int serviceDay;
+    private String serviceDateText;
+
+    public Service(int id, String createdDate, String updatedDate, String hotelName,
+                   String address, String phoneNumber, String email, int roomNumber,
+                   String roomType, double roomPrice, String customerName, String customerEmail,
+                   String phone, String idProof, String checkInDate, String checkOutDate,
+                   int numberOfDays, String serviceName, double serviceCharge,
+                   String serviceDate) throws HotelDataException {
+        super(id, createdDate, updatedDate, hotelName, address, phoneNumber, email,
+              roomNumber, roomType, roomPrice, customerName, customerEmail, phone, idProof,
+              checkInDate, checkOutDate, numberOfDays);
+        
+        if (serviceName == null || serviceName.trim().isEmpty()) 
+            throw new HotelDataException("Service.serviceName", "Service name cannot be empty");
+        if (serviceCharge < 0) 
+            throw new HotelDataException("Service.serviceCharge", "Service charge must be >= 0");
+        
+        this.serviceName = serviceName;
+        this.serviceCharge = serviceCharge;
+        this.serviceDay = Dates.parse(serviceDate);
+        this.serviceDateText = Dates.unparsed(serviceDate, serviceDay);
+    }
+
+    Service(RowSource source, int row) {
+        super(source, row);
+        String serviceDate = source.getString(row, ReservationColumns.SERVICE_DATE);
+        this.serviceName = source.getString(row, ReservationColumns.SERVICE_NAME);
+        this.serviceCharge = source.getDouble(row, ReservationColumns.SERVICE_CHARGE);
+        this.serviceDay = Dates.parse(serviceDate);
+        this.serviceDateText = Dates.unparsed(serviceDate, serviceDay);
+    }
+
+    public String getServiceName() { return serviceName; }
+    public void setServiceName(String serviceName) {
+        changing(ReservationColumns.SERVICE_NAME);
+        this.serviceName = serviceName;
+        changed(ReservationColumns.SERVICE_NAME);
+    }
+    public double getServiceCharge() { return serviceCharge; }
+    public void setServiceCharge(double serviceCharge) {
+        changing(ReservationColumns.SERVICE_CHARGE);
+        this.serviceCharge = serviceCharge;
+        changed(ReservationColumns.SERVICE_CHARGE);
+    }
+    public String getServiceDate() { return Dates.text(serviceDay, serviceDateText); }
+    public int getServiceDay() { return serviceDay; }
+    public void setServiceDate(String serviceDate) {
+        changing(ReservationColumns.SERVICE_DATE);
+        this.serviceDay = Dates.parse(serviceDate);
+        this.serviceDateText = Dates.unparsed(serviceDate, serviceDay);
+        changed(ReservationColumns.SERVICE_DATE);
+    }
+}
@@ -1,374 +1,36 @@
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
-class RentalDataException extends Exception {
-    public RentalDataException(String message) {
-        super(message);
-    }
-}
-
-class RentalEntity {
-    private int id;
-    private String createdDate;
-    private String updatedDate;
-
-    public RentalEntity(int id, String createdDate, String updatedDate) throws RentalDataException {
-        if (id <= 0) throw new RentalDataException("ID must be greater than 0");
-        if (createdDate == null || createdDate.trim().isEmpty()) 
-            throw new RentalDataException("Created date cannot be null or empty");
-        if (updatedDate == null || updatedDate.trim().isEmpty()) 
-            throw new RentalDataException("Updated date cannot be null or empty");
-        
-        this.id = id;
-        this.createdDate = createdDate;
-        this.updatedDate = updatedDate;
-    }
-
-    public int getId() { return id; }
-    public void setId(int id) { this.id = id; }
-    public String getCreatedDate() { return createdDate; }
-    public void setCreatedDate(String createdDate) { this.createdDate = createdDate; }
-    public String getUpdatedDate() { return updatedDate; }
-    public void setUpdatedDate(String updatedDate) { this.updatedDate = updatedDate; }
-}
-
-class RentalCompany extends RentalEntity {
-    private String companyName;
-    private String address;
-    private String phoneNumber;
-    private String email;
-
-    public RentalCompany(int id, String createdDate, String updatedDate, String companyName, 
-                   String address, String phoneNumber, String email) throws RentalDataException {
-        super(id, createdDate, updatedDate);
-        
-        if (!phoneNumber.matches("\\d{10}")) 
-            throw new RentalDataException("Phone number must be exactly 10 digits");
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new RentalDataException("Invalid email format");
-        
-        this.companyName = companyName;
-        this.address = address;
-        this.phoneNumber = phoneNumber;
-        this.email = email;
-    }
-
-    public String getCompanyName() { return companyName; }
-    public void setCompanyName(String companyName) { this.companyName = companyName; }
-    public String getAddress() { return address; }
-    public void setAddress(String address) { this.address = address; }
-    public String getPhoneNumber() { return phoneNumber; }
-    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
-    public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
-}
-
-class RentalBranch extends RentalCompany {
-    private String branchName;
-    private String branchCode;
-
-    public RentalBranch(int id, String createdDate, String updatedDate, String companyName,
-                     String address, String phoneNumber, String email, String branchName,
-                     String branchCode) throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email);
-        
-        if (branchCode.length() < 3 || !branchCode.matches("^[a-zA-Z0-9]+$")) 
-            throw new RentalDataException("Branch code must be alphanumeric and at least 3 characters");
-        
-        this.branchName = branchName;
-        this.branchCode = branchCode;
-    }
-
-    public String getBranchName() { return branchName; }
-    public void setBranchName(String branchName) { this.branchName = branchName; }
-    public String getBranchCode() { return branchCode; }
-    public void setBranchCode(String branchCode) { this.branchCode = branchCode; }
-}
-
-class RentalVehicle extends RentalBranch {
-    private String vehicleModel;
-    private String vehicleNumber;
-    private String vehicleType;
-    private int yearOfManufacture;
-
-    public RentalVehicle(int id, String createdDate, String updatedDate, String companyName,
-                  String address, String phoneNumber, String email, String branchName,
-                  String branchCode, String vehicleModel, String vehicleNumber,
-                  String vehicleType, int yearOfManufacture) throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
-              branchName, branchCode);
-        
-        if (vehicleNumber == null || vehicleNumber.trim().isEmpty()) 
-            throw new RentalDataException("Vehicle number cannot be empty");
-        if (yearOfManufacture < 1900 || yearOfManufacture > 2025) 
-            throw new RentalDataException("Year of manufacture must be between 1900 and 2025");
-        
-        this.vehicleModel = vehicleModel;
-        this.vehicleNumber = vehicleNumber;
-        this.vehicleType = vehicleType;
-        this.yearOfManufacture = yearOfManufacture;
-    }
-
-    public String getVehicleModel() { return vehicleModel; }
-    public void setVehicleModel(String vehicleModel) { this.vehicleModel = vehicleModel; }
-    public String getVehicleNumber() { return vehicleNumber; }
-    public void setVehicleNumber(String vehicleNumber) { this.vehicleNumber = vehicleNumber; }
-    public String getVehicleType() { return vehicleType; }
-    public void setVehicleType(String vehicleType) { this.vehicleType = vehicleType; }
-    public int getYearOfManufacture() { return yearOfManufacture; }
-    public void setYearOfManufacture(int yearOfManufacture) { this.yearOfManufacture = yearOfManufacture; }
-}
-
-class RentalCustomer extends RentalVehicle {
-    private String customerName;
-    private String customerEmail;
-    private String phone;
-    private String licenseNumber;
-
-    public RentalCustomer(int id, String createdDate, String updatedDate, String companyName,
-                   String address, String phoneNumber, String email, String branchName,
-                   String branchCode, String vehicleModel, String vehicleNumber,
-                   String vehicleType, int yearOfManufacture, String customerName,
-                   String customerEmail, String phone, String licenseNumber) 
-                   throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
-              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
-              yearOfManufacture);
-        
-        if (!customerEmail.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new RentalDataException("Invalid customer email format");
-        if (!phone.matches("\\d{10}")) 
-            throw new RentalDataException("Customer phone must be exactly 10 digits");
-        if (licenseNumber == null || licenseNumber.trim().isEmpty()) 
-            throw new RentalDataException("License number cannot be empty");
-        
-        this.customerName = customerName;
-        this.customerEmail = customerEmail;
-        this.phone = phone;
-        this.licenseNumber = licenseNumber;
-    }
-
-    public String getCustomerName() { return customerName; }
-    public void setCustomerName(String customerName) { this.customerName = customerName; }
-    public String getCustomerEmail() { return customerEmail; }
-    public void setCustomerEmail(String customerEmail) { this.customerEmail = customerEmail; }
-    public String getPhone() { return phone; }
-    public void setPhone(String phone) { this.phone = phone; }
-    public String getLicenseNumber() { return licenseNumber; }
-    public void setLicenseNumber(String licenseNumber) { this.licenseNumber = licenseNumber; }
-}
-
-class Rental extends RentalCustomer {
-    private String rentalDate;
-    private String returnDate;
-    private int numberOfDays;
-
-    public Rental(int id, String createdDate, String updatedDate, String companyName,
-                 String address, String phoneNumber, String email, String branchName,
-                 String branchCode, String vehicleModel, String vehicleNumber,
-                 String vehicleType, int yearOfManufacture, String customerName,
-                 String customerEmail, String phone, String licenseNumber,
-                 String rentalDate, String returnDate, int numberOfDays) 
-                 throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
-              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
-              yearOfManufacture, customerName, customerEmail, phone, licenseNumber);
-        
-        if (rentalDate == null || rentalDate.trim().isEmpty()) 
-            throw new RentalDataException("Rental date cannot be empty");
-        if (returnDate == null || returnDate.trim().isEmpty()) 
-            throw new RentalDataException("Return date cannot be empty");
-        if (numberOfDays <= 0) 
-            throw new RentalDataException("Number of days must be > 0");
-        
-        this.rentalDate = rentalDate;
-        this.returnDate = returnDate;
-        this.numberOfDays = numberOfDays;
-    }
-
-    public String getRentalDate() { return rentalDate; }
-    public void setRentalDate(String rentalDate) { this.rentalDate = rentalDate; }
-    public String getReturnDate() { return returnDate; }
-    public void setReturnDate(String returnDate) { this.returnDate = returnDate; }
-    public int getNumberOfDays() { return numberOfDays; }
-    public void setNumberOfDays(int numberOfDays) { this.numberOfDays = numberOfDays; }
-}
-
-class RentalCharge extends Rental {
-    private double dailyRate;
-    private double rentalCharge;
-    private double penaltyCharge;
-
-    public RentalCharge(int id, String createdDate, String updatedDate, String companyName,
-                 String address, String phoneNumber, String email, String branchName,
-                 String branchCode, String vehicleModel, String vehicleNumber,
-                 String vehicleType, int yearOfManufacture, String customerName,
-                 String customerEmail, String phone, String licenseNumber,
-                 String rentalDate, String returnDate, int numberOfDays,
-                 double dailyRate, double rentalCharge, double penaltyCharge) 
-                 throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
-              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
-              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
-              rentalDate, returnDate, numberOfDays);
-        
-        if (dailyRate <= 0) 
-            throw new RentalDataException("Daily rate must be > 0");
-        if (rentalCharge < 0) 
-            throw new RentalDataException("Rental charge must be >= 0");
-        if (penaltyCharge < 0) 
-            throw new RentalDataException("Penalty charge must be >= 0");
-        
-        this.dailyRate = dailyRate;
-        this.rentalCharge = rentalCharge;
-        this.penaltyCharge = penaltyCharge;
-    }
-
-    public double getDailyRate() { return dailyRate; }
-    public void setDailyRate(double dailyRate) { this.dailyRate = dailyRate; }
-    public double getRentalCharge() { return rentalCharge; }
-    public void setRentalCharge(double rentalCharge) { this.rentalCharge = rentalCharge; }
-    public double getPenaltyCharge() { return penaltyCharge; }
-    public void setPenaltyCharge(double penaltyCharge) { this.penaltyCharge = penaltyCharge; }
-}
-
-class RentalPayment extends RentalCharge {
-    private String paymentMethod;
-    private String paymentDate;
-    private double amountPaid;
-
-    public RentalPayment(int id, String createdDate, String updatedDate, String companyName,
-                  String address, String phoneNumber, String email, String branchName,
-                  String branchCode, String vehicleModel, String vehicleNumber,
-                  String vehicleType, int yearOfManufacture, String customerName,
-                  String customerEmail, String phone, String licenseNumber,
-                  String rentalDate, String returnDate, int numberOfDays,
-                  double dailyRate, double rentalCharge, double penaltyCharge,
-                  String paymentMethod, String paymentDate, double amountPaid) 
-                  throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
-              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
-              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
-              rentalDate, returnDate, numberOfDays, dailyRate, rentalCharge, penaltyCharge);
-        
-        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
-            throw new RentalDataException("Payment method cannot be empty");
-        if (amountPaid < 0) 
-            throw new RentalDataException("Amount paid must be >= 0");
-        
-        this.paymentMethod = paymentMethod;
-        this.paymentDate = paymentDate;
-        this.amountPaid = amountPaid;
-    }
-
-    public String getPaymentMethod() { return paymentMethod; }
-    public void setPaymentMethod(String paymentMethod) { this.paymentMethod = paymentMethod; }
-    public String getPaymentDate() { return paymentDate; }
-    public void setPaymentDate(String paymentDate) { this.paymentDate = paymentDate; }
-    public double getAmountPaid() { return amountPaid; }
-    public void setAmountPaid(double amountPaid) { this.amountPaid = amountPaid; }
-}
-
-class RentalInvoice extends RentalPayment {
-    private String invoiceNumber;
-    private double totalCharge;
-
-    public RentalInvoice(int id, String createdDate, String updatedDate, String companyName,
-                  String address, String phoneNumber, String email, String branchName,
-                  String branchCode, String vehicleModel, String vehicleNumber,
-                  String vehicleType, int yearOfManufacture, String customerName,
-                  String customerEmail, String phone, String licenseNumber,
-                  String rentalDate, String returnDate, int numberOfDays,
-                  double dailyRate, double rentalCharge, double penaltyCharge,
-                  String paymentMethod, String paymentDate, double amountPaid,
-                  String invoiceNumber) throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
-              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
-              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
-              rentalDate, returnDate, numberOfDays, dailyRate, rentalCharge, penaltyCharge,
-              paymentMethod, paymentDate, amountPaid);
-        
-        if (invoiceNumber == null || invoiceNumber.trim().isEmpty()) 
-            throw new RentalDataException("Invoice number cannot be empty");
-        
-        this.invoiceNumber = invoiceNumber;
-        this.totalCharge = 0;
-    }
-
-    public String getInvoiceNumber() { return invoiceNumber; }
-    public void setInvoiceNumber(String invoiceNumber) { this.invoiceNumber = invoiceNumber; }
-    public double getTotalCharge() { return totalCharge; }
-    public void setTotalCharge(double totalCharge) { this.totalCharge = totalCharge; }
-}
-
-final class VehicleRentalRecord extends RentalInvoice {
-    public VehicleRentalRecord(int id, String createdDate, String updatedDate, String companyName,
-                       String address, String phoneNumber, String email, String branchName,
-                       String branchCode, String vehicleModel, String vehicleNumber,
-                       String vehicleType, int yearOfManufacture, String customerName,
-                       String customerEmail, String phone, String licenseNumber,
-                       String rentalDate, String returnDate, int numberOfDays,
-                       double dailyRate, double rentalCharge, double penaltyCharge,
-                       String paymentMethod, String paymentDate, double amountPaid,
-                       String invoiceNumber) throws RentalDataException {
-        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
-              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
-              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
-              rentalDate, returnDate, numberOfDays, dailyRate, rentalCharge, penaltyCharge,
-              paymentMethod, paymentDate, amountPaid, invoiceNumber);
-    }
-
-    public double calculateTotalCharge() {
-        double total = getRentalCharge() + getPenaltyCharge();
-        setTotalCharge(total);
-        return total;
-    }
-
-    public void displayRecord() {
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - ========== VEHICLE RENTAL SYSTEM ==========");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Record ID: " + getId());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Created Date: " + getCreatedDate());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Updated Date: " + getUpdatedDate());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Company Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Company Name: " + getCompanyName());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Address: " + getAddress());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Phone: " + getPhoneNumber());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Email: " + getEmail());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Branch Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Branch Name: " + getBranchName());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Branch Code: " + getBranchCode());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Vehicle Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Vehicle Model: " + getVehicleModel());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Vehicle Number: " + getVehicleNumber());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Vehicle Type: " + getVehicleType());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Year of Manufacture: " + getYearOfManufacture());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Customer Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Customer Name: " + getCustomerName());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Customer Email: " + getCustomerEmail());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Customer Phone: " + getPhone());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - License Number: " + getLicenseNumber());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Rental Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Rental Date: " + getRentalDate());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Return Date: " + getReturnDate());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Number of Days: " + getNumberOfDays());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Charge Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Daily Rate: $" + getDailyRate());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Rental Charge: $" + getRentalCharge());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Penalty Charge: $" + getPenaltyCharge());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Payment Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Payment Method: " + getPaymentMethod());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Payment Date: " + getPaymentDate());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Amount Paid: $" + getAmountPaid());
-        System.out.println("\n" + Question5_VehicleRental.STUDENT_ID + " - --- Invoice Details ---");
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Invoice Number: " + getInvoiceNumber());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - Total Charge: $" + getTotalCharge());
-        System.out.println(Question5_VehicleRental.STUDENT_ID + " - ===============================================\n");
-    }
-}
-
 public class Question5_VehicleRental {
     public static final String STUDENT_ID = "27264";
     
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--generate")) {
+            runGenerate(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replay")) {
+            runReplay(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--snapshot")) {
+            runSnapshot(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--restore")) {
+            runRestore(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--reconcile")) {
+            runReconcile(args);
+            return;
+        }
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         
         try {
@@ -476,4 +138,108 @@ public class Question5_VehicleRental {
             scanner.close();
         }
     }
+
+    private static void runBatch(String[] args) {
+        if ((args.length != 3 && args.length != 4) || !args[0].equals("--batch")) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Usage: java Question5_VehicleRental --batch <input file> <output file> [threads]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        ParallelBatch.DuplicateIds duplicateIds;
+        try {
+            duplicateIds = ParallelBatch.duplicateIdsProperty();
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - " + e.getMessage());
+            return;
+        }
+        try {
+            ParallelBatch batch = args.length == 4
+                ? new ParallelBatch(Integer.parseInt(args[3]), ParallelBatch.DEFAULT_CHUNK_BYTES)
+                : new ParallelBatch();
+            batch.duplicateIds(duplicateIds);
+            RentalBatchLoader.run(Paths.get(args[1]), Paths.get(args[2]), batch);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Threads must be a positive number");
+        } catch (IOException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runGenerate(String[] args) {
+        if (args.length != 3 && args.length != 4) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Usage: java Question5_VehicleRental --generate <output file or -> <rows> [seed]");
+            return;
+        }
+
+        try {
+            int rows = Integer.parseInt(args[2]);
+            long seed = args.length == 4 ? Long.parseLong(args[3]) : 1;
+            RentalGenerator.run(args[1], rows, new SyntheticData(seed));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Rows, seed and generator settings must be valid numbers");
+        } catch (IOException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReplay(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Usage: java Question5_VehicleRental --replay <batch file> <journal file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            RentalBatchLoader.replay(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runSnapshot(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Usage: java Question5_VehicleRental --snapshot <batch file> <snapshot file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            RentalBatchLoader.snapshot(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runRestore(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Usage: java Question5_VehicleRental --restore <snapshot file> [journal file]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            RentalBatchLoader.restore(Paths.get(args[1]), args.length == 3 ? Paths.get(args[2]) : null);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReconcile(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - Usage: java Question5_VehicleRental --reconcile <batch file> <batch file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            RentalBatchLoader.reconcile(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question5_VehicleRental.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
 }
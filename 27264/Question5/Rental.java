@@ -0,0 +1,66 @@
+class Rental extends RentalCustomer {
+    private int rentalDay;
+    private String rentalDateText;
+    private int returnDay;
+    private String returnDateText;
+    private int numberOfDays;
+
+    public Rental(int id, String createdDate, String updatedDate, String companyName,
+                 String address, String phoneNumber, String email, String branchName,
+                 String branchCode, String vehicleModel, String vehicleNumber,
+                 String vehicleType, int yearOfManufacture, String customerName,
+                 String customerEmail, String phone, String licenseNumber,
+                 String rentalDate, String returnDate, int numberOfDays) 
+                 throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
+              yearOfManufacture, customerName, customerEmail, phone, licenseNumber);
+        
+        if (rentalDate == null || rentalDate.trim().isEmpty()) 
+            throw new RentalDataException("Rental.rentalDate", "Rental date cannot be empty");
+        if (returnDate == null || returnDate.trim().isEmpty()) 
+            throw new RentalDataException("Rental.returnDate", "Return date cannot be empty");
+        if (numberOfDays <= 0) 
+            throw new RentalDataException("Rental.numberOfDays", "Number of days must be > 0");
+        
+        this.rentalDay = Dates.parse(rentalDate);
+        this.rentalDateText = Dates.unparsed(rentalDate, rentalDay);
+        this.returnDay = Dates.parse(returnDate);
+        this.returnDateText = Dates.unparsed(returnDate, returnDay);
+        this.numberOfDays = numberOfDays;
+    }
+
+    Rental(RowSource source, int row) {
+        super(source, row);
+        String rentalDate = source.getString(row, RentalColumns.RENTAL_DATE);
+        String returnDate = source.getString(row, RentalColumns.RETURN_DATE);
+        this.rentalDay = Dates.parse(rentalDate);
+        this.rentalDateText = Dates.unparsed(rentalDate, rentalDay);
+        this.returnDay = Dates.parse(returnDate);
+        this.returnDateText = Dates.unparsed(returnDate, returnDay);
+        this.numberOfDays = source.getInt(row, RentalColumns.NUMBER_OF_DAYS);
+    }
+
+    public String getRentalDate() { return Dates.text(rentalDay, rentalDateText); }
+    public int getRentalDay() { return rentalDay; }
+    public void setRentalDate(String rentalDate) {
+        changing(RentalColumns.RENTAL_DATE);
+        this.rentalDay = Dates.parse(rentalDate);
+        this.rentalDateText = Dates.unparsed(rentalDate, rentalDay);
+        changed(RentalColumns.RENTAL_DATE);
+    }
+    public String getReturnDate() { return Dates.text(returnDay, returnDateText); }
+    public int getReturnDay() { return returnDay; }
+    public void setReturnDate(String returnDate) {
+        changing(RentalColumns.RETURN_DATE);
+        this.returnDay = Dates.parse(returnDate);
+        this.returnDateText = Dates.unparsed(returnDate, returnDay);
+        changed(RentalColumns.RETURN_DATE);
+    }
+    public int getNumberOfDays() { return numberOfDays; }
+    public void setNumberOfDays(int numberOfDays) {
+        changing(RentalColumns.NUMBER_OF_DAYS);
+        this.numberOfDays = numberOfDays;
+        changed(RentalColumns.NUMBER_OF_DAYS);
+    }
+}
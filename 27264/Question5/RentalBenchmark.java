@@ -0,0 +1,149 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class RentalBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        VehicleRentalRecord record = newRecord(1);
+
+        bench.header("VehicleRentalRecord");
+        bench.run("new RentalEntity", i -> new RentalEntity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new VehicleRentalRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("calculateTotalCharge", i -> record.calculateTotalCharge());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            RentalReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            RentalReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("VehicleRentalRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by RentalValidator", i -> RentalValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "DriveNow", "KK 15 Rd", "0781234567", "info@drivenow.rw",
+            "Kigali Central", "KGL01", "Corolla", "RAD123A", "Sedan", 2020, "Sam Nkurunziza",
+            "sam@mail.com", "0789876543", "LIC12345", "2024-04-01", "2024-04-05", 4, 40.0, 160.0,
+            20.0, "Cash", "2024-04-05", 180.0, "INV-0001", result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("VehicleRentalRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        VehicleRentalRecord[] records = new VehicleRentalRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(RentalColumns.SCHEMA, rows);
+        for (VehicleRentalRecord r : records) RentalColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        RentalView view = new RentalView(table);
+        bench.runDouble("calculateTotalCharge over records", i -> {
+            double sum = 0;
+            for (VehicleRentalRecord r : records) sum += r.calculateTotalCharge();
+            return sum;
+        });
+        bench.runDouble("calculateTotalCharge over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateTotalCharge();
+            return sum;
+        });
+        bench.run("calculateTotalCharge column kernel", i -> {
+            RentalColumns.calculateTotalCharge(table);
+            return table;
+        });
+        Path file = Files.createTempFile("VehicleRentalRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, RentalColumns.SCHEMA)) {
+            for (VehicleRentalRecord r : records) RentalColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, RentalColumns.SCHEMA)) {
+            RentalView mapped = new RentalView(reader);
+            bench.runDouble("calculateTotalCharge over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).calculateTotalCharge();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<VehicleRentalRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            RentalReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            RentalReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws RentalDataException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        VehicleRentalRecord[] records = new VehicleRentalRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (RentalDataException e) {
+            return e;
+        }
+    }
+
+    static VehicleRentalRecord newRecord(int id) throws RentalDataException {
+        return new VehicleRentalRecord(id, "2024-01-01", "2024-01-02", "DriveNow", "KK 15 Rd",
+            "0781234567", "info@drivenow.rw", "Kigali Central", "KGL01", "Corolla", "RAD123A",
+            "Sedan", 2020, "Sam Nkurunziza", "sam@mail.com", "0789876543", "LIC12345", "2024-04-01",
+            "2024-04-05", 4, 40.0, 160.0, 20.0, "Cash", "2024-04-05", 180.0, "INV-0001");
+    }
+
+    static VehicleRentalRecord newParsedRecord(int id, int organization) throws RentalDataException {
+        return new VehicleRentalRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "DriveNow" + organization, fresh("KK 15 Rd"), fresh("0781234567"),
+            fresh("info@drivenow.rw"), fresh("Kigali Central"), fresh("KGL01"), fresh("Corolla"),
+            fresh("RAD123A"), fresh("Sedan"), 2020, fresh("Sam Nkurunziza"), fresh("sam@mail.com"),
+            fresh("0789876543"), fresh("LIC12345"), fresh("2024-04-01"), fresh("2024-04-05"), 4,
+            40.0, 160.0, 20.0, fresh("Cash"), fresh("2024-04-05"), 180.0, fresh("INV-0001"));
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
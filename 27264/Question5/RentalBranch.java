@@ -0,0 +1,31 @@
+class RentalBranch extends RentalCompany {
+    private RentalBranchProfile profile;
+
+    public RentalBranch(int id, String createdDate, String updatedDate, String companyName,
+                     String address, String phoneNumber, String email, String branchName,
+                     String branchCode) throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email);
+        
+        this.profile = RentalBranchProfile.of(branchName, branchCode);
+    }
+
+    RentalBranch(RowSource source, int row) {
+        super(source, row);
+        String branchName = source.getString(row, RentalColumns.BRANCH_NAME);
+        String branchCode = source.getString(row, RentalColumns.BRANCH_CODE);
+        this.profile = RentalBranchProfile.restore(branchName, branchCode);
+    }
+
+    public String getBranchName() { return profile.getBranchName(); }
+    public void setBranchName(String branchName) {
+        changing(RentalColumns.BRANCH_NAME);
+        profile = profile.withBranchName(branchName);
+        changed(RentalColumns.BRANCH_NAME);
+    }
+    public String getBranchCode() { return profile.getBranchCode(); }
+    public void setBranchCode(String branchCode) {
+        changing(RentalColumns.BRANCH_CODE);
+        profile = profile.withBranchCode(branchCode);
+        changed(RentalColumns.BRANCH_CODE);
+    }
+}
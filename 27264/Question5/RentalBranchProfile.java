@@ -0,0 +1,63 @@
+import java.util.Objects;
+
+final class RentalBranchProfile {
+    private static final Interner<RentalBranchProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<RentalBranchProfile> RESTORED = new Interner<>();
+
+    private final String branchName;
+    private final String branchCode;
+    private final int hash;
+
+    private RentalBranchProfile(String branchName, String branchCode) {
+        this.branchName = branchName;
+        this.branchCode = branchCode;
+        int hash = Objects.hashCode(branchName);
+        hash = 31 * hash + Objects.hashCode(branchCode);
+        this.hash = hash;
+    }
+
+    static RentalBranchProfile of(String branchName, String branchCode) throws RentalDataException {
+        RentalBranchProfile candidate = new RentalBranchProfile(branchName, branchCode);
+        RentalBranchProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isCode(branchCode)) 
+            throw new RentalDataException("RentalBranch.branchCode", "Branch code must be alphanumeric and at least 3 characters");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static RentalBranchProfile restore(String branchName, String branchCode) {
+        RentalBranchProfile candidate = new RentalBranchProfile(branchName, branchCode);
+        RentalBranchProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getBranchName() { return branchName; }
+    public String getBranchCode() { return branchCode; }
+
+    RentalBranchProfile withBranchName(String branchName) {
+        return new RentalBranchProfile(branchName, branchCode);
+    }
+
+    RentalBranchProfile withBranchCode(String branchCode) {
+        return new RentalBranchProfile(branchName, branchCode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof RentalBranchProfile)) return false;
+        RentalBranchProfile that = (RentalBranchProfile) other;
+        return hash == that.hash
+            && Objects.equals(branchName, that.branchName)
+            && Objects.equals(branchCode, that.branchCode);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,56 @@
+class RentalCharge extends Rental {
+    private double dailyRate;
+    private double rentalCharge;
+    private double penaltyCharge;
+
+    public RentalCharge(int id, String createdDate, String updatedDate, String companyName,
+                 String address, String phoneNumber, String email, String branchName,
+                 String branchCode, String vehicleModel, String vehicleNumber,
+                 String vehicleType, int yearOfManufacture, String customerName,
+                 String customerEmail, String phone, String licenseNumber,
+                 String rentalDate, String returnDate, int numberOfDays,
+                 double dailyRate, double rentalCharge, double penaltyCharge) 
+                 throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
+              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
+              rentalDate, returnDate, numberOfDays);
+        
+        if (dailyRate <= 0) 
+            throw new RentalDataException("RentalCharge.dailyRate", "Daily rate must be > 0");
+        if (rentalCharge < 0) 
+            throw new RentalDataException("RentalCharge.rentalCharge", "Rental charge must be >= 0");
+        if (penaltyCharge < 0) 
+            throw new RentalDataException("RentalCharge.penaltyCharge", "Penalty charge must be >= 0");
+        
+        this.dailyRate = dailyRate;
+        this.rentalCharge = rentalCharge;
+        this.penaltyCharge = penaltyCharge;
+    }
+
+    RentalCharge(RowSource source, int row) {
+        super(source, row);
+        this.dailyRate = source.getDouble(row, RentalColumns.DAILY_RATE);
+        this.rentalCharge = source.getDouble(row, RentalColumns.RENTAL_CHARGE);
+        this.penaltyCharge = source.getDouble(row, RentalColumns.PENALTY_CHARGE);
+    }
+
+    public double getDailyRate() { return dailyRate; }
+    public void setDailyRate(double dailyRate) {
+        changing(RentalColumns.DAILY_RATE);
+        this.dailyRate = dailyRate;
+        changed(RentalColumns.DAILY_RATE);
+    }
+    public double getRentalCharge() { return rentalCharge; }
+    public void setRentalCharge(double rentalCharge) {
+        changing(RentalColumns.RENTAL_CHARGE);
+        this.rentalCharge = rentalCharge;
+        changed(RentalColumns.RENTAL_CHARGE);
+    }
+    public double getPenaltyCharge() { return penaltyCharge; }
+    public void setPenaltyCharge(double penaltyCharge) {
+        changing(RentalColumns.PENALTY_CHARGE);
+        this.penaltyCharge = penaltyCharge;
+        changed(RentalColumns.PENALTY_CHARGE);
+    }
+}
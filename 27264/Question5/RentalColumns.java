@@ -0,0 +1,137 @@
+import java.util.Collection;
+
+final class RentalColumns {
+    static final Schema SCHEMA = new Schema("VehicleRentalRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int COMPANY_NAME = SCHEMA.add("companyName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int BRANCH_NAME = SCHEMA.add("branchName", ColumnType.DICT);
+    static final int BRANCH_CODE = SCHEMA.add("branchCode", ColumnType.DICT);
+    static final int VEHICLE_MODEL = SCHEMA.add("vehicleModel", ColumnType.DICT);
+    static final int VEHICLE_NUMBER = SCHEMA.add("vehicleNumber", ColumnType.TEXT);
+    static final int VEHICLE_TYPE = SCHEMA.add("vehicleType", ColumnType.DICT);
+    static final int YEAR_OF_MANUFACTURE = SCHEMA.add("yearOfManufacture", ColumnType.INT);
+    static final int CUSTOMER_NAME = SCHEMA.add("customerName", ColumnType.TEXT);
+    static final int CUSTOMER_EMAIL = SCHEMA.add("customerEmail", ColumnType.TEXT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.TEXT);
+    static final int LICENSE_NUMBER = SCHEMA.add("licenseNumber", ColumnType.TEXT);
+    static final int RENTAL_DATE = SCHEMA.add("rentalDate", ColumnType.DATE);
+    static final int RETURN_DATE = SCHEMA.add("returnDate", ColumnType.DATE);
+    static final int NUMBER_OF_DAYS = SCHEMA.add("numberOfDays", ColumnType.INT);
+    static final int DAILY_RATE = SCHEMA.add("dailyRate", ColumnType.MONEY);
+    static final int RENTAL_CHARGE = SCHEMA.add("rentalCharge", ColumnType.MONEY);
+    static final int PENALTY_CHARGE = SCHEMA.add("penaltyCharge", ColumnType.MONEY);
+    static final int PAYMENT_METHOD = SCHEMA.add("paymentMethod", ColumnType.DICT);
+    static final int PAYMENT_DATE = SCHEMA.add("paymentDate", ColumnType.DATE);
+    static final int AMOUNT_PAID = SCHEMA.add("amountPaid", ColumnType.MONEY);
+    static final int INVOICE_NUMBER = SCHEMA.add("invoiceNumber", ColumnType.TEXT);
+    static final int TOTAL_CHARGE = SCHEMA.add("totalCharge", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<VehicleRentalRecord> ACCESSORS = new ColumnAccessors<VehicleRentalRecord>(SCHEMA)
+        .addInt(ID, VehicleRentalRecord::getId, VehicleRentalRecord::setId)
+        .addString(CREATED_DATE, VehicleRentalRecord::getCreatedDate, VehicleRentalRecord::setCreatedDate)
+        .addString(UPDATED_DATE, VehicleRentalRecord::getUpdatedDate, VehicleRentalRecord::setUpdatedDate)
+        .addString(COMPANY_NAME, VehicleRentalRecord::getCompanyName, VehicleRentalRecord::setCompanyName)
+        .addString(ADDRESS, VehicleRentalRecord::getAddress, VehicleRentalRecord::setAddress)
+        .addString(PHONE_NUMBER, VehicleRentalRecord::getPhoneNumber, VehicleRentalRecord::setPhoneNumber)
+        .addString(EMAIL, VehicleRentalRecord::getEmail, VehicleRentalRecord::setEmail)
+        .addString(BRANCH_NAME, VehicleRentalRecord::getBranchName, VehicleRentalRecord::setBranchName)
+        .addString(BRANCH_CODE, VehicleRentalRecord::getBranchCode, VehicleRentalRecord::setBranchCode)
+        .addString(VEHICLE_MODEL, VehicleRentalRecord::getVehicleModel, VehicleRentalRecord::setVehicleModel)
+        .addString(VEHICLE_NUMBER, VehicleRentalRecord::getVehicleNumber, VehicleRentalRecord::setVehicleNumber)
+        .addString(VEHICLE_TYPE, VehicleRentalRecord::getVehicleType, VehicleRentalRecord::setVehicleType)
+        .addInt(YEAR_OF_MANUFACTURE, VehicleRentalRecord::getYearOfManufacture, VehicleRentalRecord::setYearOfManufacture)
+        .addString(CUSTOMER_NAME, VehicleRentalRecord::getCustomerName, VehicleRentalRecord::setCustomerName)
+        .addString(CUSTOMER_EMAIL, VehicleRentalRecord::getCustomerEmail, VehicleRentalRecord::setCustomerEmail)
+        .addString(PHONE, VehicleRentalRecord::getPhone, VehicleRentalRecord::setPhone)
+        .addString(LICENSE_NUMBER, VehicleRentalRecord::getLicenseNumber, VehicleRentalRecord::setLicenseNumber)
+        .addString(RENTAL_DATE, VehicleRentalRecord::getRentalDate, VehicleRentalRecord::setRentalDate)
+        .addString(RETURN_DATE, VehicleRentalRecord::getReturnDate, VehicleRentalRecord::setReturnDate)
+        .addInt(NUMBER_OF_DAYS, VehicleRentalRecord::getNumberOfDays, VehicleRentalRecord::setNumberOfDays)
+        .addDouble(DAILY_RATE, VehicleRentalRecord::getDailyRate, VehicleRentalRecord::setDailyRate)
+        .addDouble(RENTAL_CHARGE, VehicleRentalRecord::getRentalCharge, VehicleRentalRecord::setRentalCharge)
+        .addDouble(PENALTY_CHARGE, VehicleRentalRecord::getPenaltyCharge, VehicleRentalRecord::setPenaltyCharge)
+        .addString(PAYMENT_METHOD, VehicleRentalRecord::getPaymentMethod, VehicleRentalRecord::setPaymentMethod)
+        .addString(PAYMENT_DATE, VehicleRentalRecord::getPaymentDate, VehicleRentalRecord::setPaymentDate)
+        .addDouble(AMOUNT_PAID, VehicleRentalRecord::getAmountPaid, VehicleRentalRecord::setAmountPaid)
+        .addString(INVOICE_NUMBER, VehicleRentalRecord::getInvoiceNumber, VehicleRentalRecord::setInvoiceNumber)
+        .addDouble(TOTAL_CHARGE, VehicleRentalRecord::getTotalCharge, VehicleRentalRecord::setTotalCharge)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "customerEmail", "vehicleNumber", "invoiceNumber" };
+
+    static RecordIndexes<VehicleRentalRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, VehicleRentalRecord::indexedBy, expectedSize, columns);
+    }
+
+    private RentalColumns() {
+    }
+
+    static int append(RowSink table, VehicleRentalRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, COMPANY_NAME, record.getCompanyName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, BRANCH_NAME, record.getBranchName());
+        table.setString(row, BRANCH_CODE, record.getBranchCode());
+        table.setString(row, VEHICLE_MODEL, record.getVehicleModel());
+        table.setString(row, VEHICLE_NUMBER, record.getVehicleNumber());
+        table.setString(row, VEHICLE_TYPE, record.getVehicleType());
+        table.setInt(row, YEAR_OF_MANUFACTURE, record.getYearOfManufacture());
+        table.setString(row, CUSTOMER_NAME, record.getCustomerName());
+        table.setString(row, CUSTOMER_EMAIL, record.getCustomerEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, LICENSE_NUMBER, record.getLicenseNumber());
+        table.setString(row, RENTAL_DATE, record.getRentalDate());
+        table.setString(row, RETURN_DATE, record.getReturnDate());
+        table.setInt(row, NUMBER_OF_DAYS, record.getNumberOfDays());
+        table.setDouble(row, DAILY_RATE, record.getDailyRate());
+        table.setDouble(row, RENTAL_CHARGE, record.getRentalCharge());
+        table.setDouble(row, PENALTY_CHARGE, record.getPenaltyCharge());
+        table.setString(row, PAYMENT_METHOD, record.getPaymentMethod());
+        table.setString(row, PAYMENT_DATE, record.getPaymentDate());
+        table.setDouble(row, AMOUNT_PAID, record.getAmountPaid());
+        table.setString(row, INVOICE_NUMBER, record.getInvoiceNumber());
+        table.setDouble(row, TOTAL_CHARGE, record.getTotalCharge());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static VehicleRentalRecord record(RowSource source, int row) {
+        return new VehicleRentalRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<VehicleRentalRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (VehicleRentalRecord record : records) append(table, record);
+        calculateTotalCharge(table);
+        return table;
+    }
+
+    static void calculateTotalCharge(ColumnTable table) {
+        long[] rentalCharge = table.cents(RENTAL_CHARGE);
+        long[] penaltyCharge = table.cents(PENALTY_CHARGE);
+        long[] totalCharge = table.cents(TOTAL_CHARGE);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalCharge[row] = rentalCharge[row] + penaltyCharge[row];
+        }
+    }
+
+    // Rentals whose return date has passed as of the given day.
+    static int[] overdue(ColumnTable table, int today) {
+        return table.rowsBetween(RETURN_DATE, Integer.MIN_VALUE, today - 1);
+    }
+}
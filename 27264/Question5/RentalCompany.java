@@ -0,0 +1,44 @@
+class RentalCompany extends RentalEntity {
+    private RentalCompanyProfile profile;
+
+    public RentalCompany(int id, String createdDate, String updatedDate, String companyName, 
+                   String address, String phoneNumber, String email) throws RentalDataException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = RentalCompanyProfile.of(companyName, address, phoneNumber, email);
+    }
+
+    RentalCompany(RowSource source, int row) {
+        super(source, row);
+        String companyName = source.getString(row, RentalColumns.COMPANY_NAME);
+        String address = source.getString(row, RentalColumns.ADDRESS);
+        String phoneNumber = source.getString(row, RentalColumns.PHONE_NUMBER);
+        String email = source.getString(row, RentalColumns.EMAIL);
+        this.profile = RentalCompanyProfile.restore(companyName, address, phoneNumber, email);
+    }
+
+    public String getCompanyName() { return profile.getCompanyName(); }
+    public void setCompanyName(String companyName) {
+        changing(RentalColumns.COMPANY_NAME);
+        profile = profile.withCompanyName(companyName);
+        changed(RentalColumns.COMPANY_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(RentalColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(RentalColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(RentalColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(RentalColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(RentalColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(RentalColumns.EMAIL);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class RentalCompanyProfile {
+    private static final Interner<RentalCompanyProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<RentalCompanyProfile> RESTORED = new Interner<>();
+
+    private final String companyName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private RentalCompanyProfile(String companyName, String address, String phoneNumber, String email) {
+        this.companyName = companyName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(companyName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static RentalCompanyProfile of(String companyName, String address, String phoneNumber, String email)
+            throws RentalDataException {
+        RentalCompanyProfile candidate = new RentalCompanyProfile(companyName, address, phoneNumber, email);
+        RentalCompanyProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new RentalDataException("RentalCompany.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new RentalDataException("RentalCompany.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static RentalCompanyProfile restore(String companyName, String address, String phoneNumber, String email) {
+        RentalCompanyProfile candidate = new RentalCompanyProfile(companyName, address, phoneNumber, email);
+        RentalCompanyProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getCompanyName() { return companyName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    RentalCompanyProfile withCompanyName(String companyName) {
+        return new RentalCompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    RentalCompanyProfile withAddress(String address) {
+        return new RentalCompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    RentalCompanyProfile withPhoneNumber(String phoneNumber) {
+        return new RentalCompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    RentalCompanyProfile withEmail(String email) {
+        return new RentalCompanyProfile(companyName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof RentalCompanyProfile)) return false;
+        RentalCompanyProfile that = (RentalCompanyProfile) other;
+        return hash == that.hash
+            && Objects.equals(companyName, that.companyName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
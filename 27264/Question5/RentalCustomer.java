@@ -0,0 +1,62 @@
+class RentalCustomer extends RentalVehicle {
+    private String customerName;
+    private String customerEmail;
+    private String phone;
+    private String licenseNumber;
+
+    public RentalCustomer(int id, String createdDate, String updatedDate, String companyName,
+                   String address, String phoneNumber, String email, String branchName,
+                   String branchCode, String vehicleModel, String vehicleNumber,
+                   String vehicleType, int yearOfManufacture, String customerName,
+                   String customerEmail, String phone, String licenseNumber) 
+                   throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
+              yearOfManufacture);
+        
+        if (!FieldRules.isEmail(customerEmail)) 
+            throw new RentalDataException("RentalCustomer.customerEmail", "Invalid customer email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new RentalDataException("RentalCustomer.phone", "Customer phone must be exactly 10 digits");
+        if (licenseNumber == null || licenseNumber.trim().isEmpty()) 
+            throw new RentalDataException("RentalCustomer.licenseNumber", "License number cannot be empty");
+        
+        this.customerName = customerName;
+        this.customerEmail = customerEmail;
+        this.phone = phone;
+        this.licenseNumber = licenseNumber;
+    }
+
+    RentalCustomer(RowSource source, int row) {
+        super(source, row);
+        this.customerName = source.getString(row, RentalColumns.CUSTOMER_NAME);
+        this.customerEmail = source.getString(row, RentalColumns.CUSTOMER_EMAIL);
+        this.phone = source.getString(row, RentalColumns.PHONE);
+        this.licenseNumber = source.getString(row, RentalColumns.LICENSE_NUMBER);
+    }
+
+    public String getCustomerName() { return customerName; }
+    public void setCustomerName(String customerName) {
+        changing(RentalColumns.CUSTOMER_NAME);
+        this.customerName = customerName;
+        changed(RentalColumns.CUSTOMER_NAME);
+    }
+    public String getCustomerEmail() { return customerEmail; }
+    public void setCustomerEmail(String customerEmail) {
+        changing(RentalColumns.CUSTOMER_EMAIL);
+        this.customerEmail = customerEmail;
+        changed(RentalColumns.CUSTOMER_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(RentalColumns.PHONE);
+        this.phone = phone;
+        changed(RentalColumns.PHONE);
+    }
+    public String getLicenseNumber() { return licenseNumber; }
+    public void setLicenseNumber(String licenseNumber) {
+        changing(RentalColumns.LICENSE_NUMBER);
+        this.licenseNumber = licenseNumber;
+        changed(RentalColumns.LICENSE_NUMBER);
+    }
+}
@@ -0,0 +1,12 @@
+class RentalDataException extends Exception {
+    private final String rule;
+
+    // rule names the failed check as the validator does, such as "Entity.id".
+    public RentalDataException(String rule, String message) {
+        super(message, null, true, DomainExceptions.stackTraces());
+        this.rule = rule;
+        ValidationFailureEvent.emit("Rental", rule, message);
+    }
+
+    public String getRule() { return rule; }
+}
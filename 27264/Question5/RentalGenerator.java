@@ -0,0 +1,90 @@
+import java.io.IOException;
+
+class RentalGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address
+    private static final String[][] COMPANIES = {
+        { "DriveNow", "drivenow.rw", "KK 15 Rd" },
+        { "Kigali Car Hire", "kch.rw", "KN 5 Rd" },
+        { "Thousand Hills Rentals", "threntals.rw", "KG 17 Ave" }
+    };
+    // branch, code prefix; the first entries are the busiest
+    private static final String[][] BRANCHES = {
+        { "Kigali Central", "KGL" }, { "Airport", "AIR" }, { "Remera", "REM" }, { "Musanze", "MUS" },
+        { "Huye", "HUY" }, { "Rubavu", "RUB" }
+    };
+    // model, type, daily rate in cents; the first entries are the most rented
+    private static final Object[][] VEHICLES = {
+        { "Corolla", "Sedan", 4_000L }, { "RAV4", "SUV", 6_500L }, { "Hilux", "Pickup", 7_000L },
+        { "Land Cruiser", "SUV", 12_000L }, { "Vitz", "Hatchback", 3_000L }, { "Hiace", "Van", 9_000L }
+    };
+    private static final String[] PAYMENT_METHODS = { "Cash", "Card", "Mobile Money" };
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.empty(10),
+        SyntheticData.set(12, "1899", "2031", "0"), SyntheticData.email(14), SyntheticData.phone(15),
+        SyntheticData.empty(16), SyntheticData.empty(17), SyntheticData.empty(18), SyntheticData.notPositive(19),
+        SyntheticData.notPositive(20), SyntheticData.negative(21), SyntheticData.negative(22),
+        SyntheticData.empty(23), SyntheticData.negative(25), SyntheticData.empty(26)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new RentalGenerator(), rows, output);
+        SyntheticData.log(output).println(Question5_VehicleRental.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return RentalBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] company = source.pick(COMPANIES);
+        String[] branch = source.pickSkewed(BRANCHES);
+        Object[] vehicle = source.pickSkewed(VEHICLES);
+        String customer = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        int rentalDay = created + source.nextInt(60);
+        int days = source.between(1, 14);
+        int lateDays = source.chance(0.1) ? source.between(1, 3) : 0;
+        long dailyRate = (Long) vehicle[2];
+        long rentalCharge = dailyRate * days;
+        long penaltyCharge = dailyRate * lateDays * 3 / 2;
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = company[0];
+        fields[4] = company[2];
+        fields[5] = source.phone();
+        fields[6] = "info@" + company[1];
+        fields[7] = branch[0];
+        fields[8] = branch[1] + "0" + source.between(1, 9);
+        fields[9] = (String) vehicle[0];
+        fields[10] = "RA" + source.code("", 1) + source.between(100, 999) + source.code("", 1);
+        fields[11] = (String) vehicle[1];
+        fields[12] = Integer.toString(source.between(2010, 2025));
+        fields[13] = customer;
+        fields[14] = source.email(customer, "mail.com");
+        fields[15] = source.phone();
+        fields[16] = source.code("LIC", 8);
+        fields[17] = SyntheticData.date(rentalDay);
+        fields[18] = SyntheticData.date(rentalDay + days + lateDays);
+        fields[19] = Integer.toString(days);
+        fields[20] = SyntheticData.money(dailyRate);
+        fields[21] = SyntheticData.money(rentalCharge);
+        fields[22] = SyntheticData.money(penaltyCharge);
+        fields[23] = source.pick(PAYMENT_METHODS);
+        fields[24] = SyntheticData.date(rentalDay + days + lateDays);
+        fields[25] = SyntheticData.money(rentalCharge + penaltyCharge);
+        fields[26] = "INV-" + id;
+    }
+}
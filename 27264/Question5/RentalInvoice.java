@@ -0,0 +1,45 @@
+class RentalInvoice extends RentalPayment {
+    private String invoiceNumber;
+    private double totalCharge;
+
+    public RentalInvoice(int id, String createdDate, String updatedDate, String companyName,
+                  String address, String phoneNumber, String email, String branchName,
+                  String branchCode, String vehicleModel, String vehicleNumber,
+                  String vehicleType, int yearOfManufacture, String customerName,
+                  String customerEmail, String phone, String licenseNumber,
+                  String rentalDate, String returnDate, int numberOfDays,
+                  double dailyRate, double rentalCharge, double penaltyCharge,
+                  String paymentMethod, String paymentDate, double amountPaid,
+                  String invoiceNumber) throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
+              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
+              rentalDate, returnDate, numberOfDays, dailyRate, rentalCharge, penaltyCharge,
+              paymentMethod, paymentDate, amountPaid);
+        
+        if (invoiceNumber == null || invoiceNumber.trim().isEmpty()) 
+            throw new RentalDataException("RentalInvoice.invoiceNumber", "Invoice number cannot be empty");
+        
+        this.invoiceNumber = invoiceNumber;
+        this.totalCharge = 0;
+    }
+
+    RentalInvoice(RowSource source, int row) {
+        super(source, row);
+        this.invoiceNumber = source.getString(row, RentalColumns.INVOICE_NUMBER);
+        this.totalCharge = source.getDouble(row, RentalColumns.TOTAL_CHARGE);
+    }
+
+    public String getInvoiceNumber() { return invoiceNumber; }
+    public void setInvoiceNumber(String invoiceNumber) {
+        changing(RentalColumns.INVOICE_NUMBER);
+        this.invoiceNumber = invoiceNumber;
+        changed(RentalColumns.INVOICE_NUMBER);
+    }
+    public double getTotalCharge() { return totalCharge; }
+    public void setTotalCharge(double totalCharge) {
+        changing(RentalColumns.TOTAL_CHARGE);
+        this.totalCharge = totalCharge;
+        changed(RentalColumns.TOTAL_CHARGE);
+    }
+}
@@ -0,0 +1,61 @@
+class RentalPayment extends RentalCharge {
+    private String paymentMethod;
+    private int paymentDay;
+    private String paymentDateText;
+    private double amountPaid;
+
+    public RentalPayment(int id, String createdDate, String updatedDate, String companyName,
+                  String address, String phoneNumber, String email, String branchName,
+                  String branchCode, String vehicleModel, String vehicleNumber,
+                  String vehicleType, int yearOfManufacture, String customerName,
+                  String customerEmail, String phone, String licenseNumber,
+                  String rentalDate, String returnDate, int numberOfDays,
+                  double dailyRate, double rentalCharge, double penaltyCharge,
+                  String paymentMethod, String paymentDate, double amountPaid) 
+                  throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
+              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
+              rentalDate, returnDate, numberOfDays, dailyRate, rentalCharge, penaltyCharge);
+        
+        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
+            throw new RentalDataException("RentalPayment.paymentMethod", "Payment method cannot be empty");
+        if (amountPaid < 0) 
+            throw new RentalDataException("RentalPayment.amountPaid", "Amount paid must be >= 0");
+        
+        this.paymentMethod = paymentMethod;
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+        this.amountPaid = amountPaid;
+    }
+
+    RentalPayment(RowSource source, int row) {
+        super(source, row);
+        String paymentDate = source.getString(row, RentalColumns.PAYMENT_DATE);
+        this.paymentMethod = source.getString(row, RentalColumns.PAYMENT_METHOD);
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+        this.amountPaid = source.getDouble(row, RentalColumns.AMOUNT_PAID);
+    }
+
+    public String getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(String paymentMethod) {
+        changing(RentalColumns.PAYMENT_METHOD);
+        this.paymentMethod = paymentMethod;
+        changed(RentalColumns.PAYMENT_METHOD);
+    }
+    public String getPaymentDate() { return Dates.text(paymentDay, paymentDateText); }
+    public int getPaymentDay() { return paymentDay; }
+    public void setPaymentDate(String paymentDate) {
+        changing(RentalColumns.PAYMENT_DATE);
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+        changed(RentalColumns.PAYMENT_DATE);
+    }
+    public double getAmountPaid() { return amountPaid; }
+    public void setAmountPaid(double amountPaid) {
+        changing(RentalColumns.AMOUNT_PAID);
+        this.amountPaid = amountPaid;
+        changed(RentalColumns.AMOUNT_PAID);
+    }
+}
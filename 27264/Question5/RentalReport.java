@@ -0,0 +1,128 @@
+import java.util.List;
+
+class RentalReport {
+    private static final String ID = Question5_VehicleRental.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== VEHICLE RENTAL SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] COMPANY_DETAILS = ReportWriter.label("\n" + ID + " - --- Company Details ---");
+    private static final byte[] COMPANY_NAME = ReportWriter.label(ID + " - Company Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] BRANCH_DETAILS = ReportWriter.label("\n" + ID + " - --- Branch Details ---");
+    private static final byte[] BRANCH_NAME = ReportWriter.label(ID + " - Branch Name: ");
+    private static final byte[] BRANCH_CODE = ReportWriter.label(ID + " - Branch Code: ");
+    private static final byte[] VEHICLE_DETAILS = ReportWriter.label("\n" + ID + " - --- Vehicle Details ---");
+    private static final byte[] VEHICLE_MODEL = ReportWriter.label(ID + " - Vehicle Model: ");
+    private static final byte[] VEHICLE_NUMBER = ReportWriter.label(ID + " - Vehicle Number: ");
+    private static final byte[] VEHICLE_TYPE = ReportWriter.label(ID + " - Vehicle Type: ");
+    private static final byte[] YEAR_OF_MANUFACTURE = ReportWriter.label(ID + " - Year of Manufacture: ");
+    private static final byte[] CUSTOMER_DETAILS = ReportWriter.label("\n" + ID + " - --- Customer Details ---");
+    private static final byte[] CUSTOMER_NAME = ReportWriter.label(ID + " - Customer Name: ");
+    private static final byte[] CUSTOMER_EMAIL = ReportWriter.label(ID + " - Customer Email: ");
+    private static final byte[] CUSTOMER_PHONE = ReportWriter.label(ID + " - Customer Phone: ");
+    private static final byte[] LICENSE_NUMBER = ReportWriter.label(ID + " - License Number: ");
+    private static final byte[] RENTAL_DETAILS = ReportWriter.label("\n" + ID + " - --- Rental Details ---");
+    private static final byte[] RENTAL_DATE = ReportWriter.label(ID + " - Rental Date: ");
+    private static final byte[] RETURN_DATE = ReportWriter.label(ID + " - Return Date: ");
+    private static final byte[] NUMBER_OF_DAYS = ReportWriter.label(ID + " - Number of Days: ");
+    private static final byte[] CHARGE_DETAILS = ReportWriter.label("\n" + ID + " - --- Charge Details ---");
+    private static final byte[] DAILY_RATE = ReportWriter.label(ID + " - Daily Rate: $");
+    private static final byte[] RENTAL_CHARGE = ReportWriter.label(ID + " - Rental Charge: $");
+    private static final byte[] PENALTY_CHARGE = ReportWriter.label(ID + " - Penalty Charge: $");
+    private static final byte[] PAYMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Payment Details ---");
+    private static final byte[] PAYMENT_METHOD = ReportWriter.label(ID + " - Payment Method: ");
+    private static final byte[] PAYMENT_DATE = ReportWriter.label(ID + " - Payment Date: ");
+    private static final byte[] AMOUNT_PAID = ReportWriter.label(ID + " - Amount Paid: $");
+    private static final byte[] INVOICE_DETAILS = ReportWriter.label("\n" + ID + " - --- Invoice Details ---");
+    private static final byte[] INVOICE_NUMBER = ReportWriter.label(ID + " - Invoice Number: ");
+    private static final byte[] TOTAL_CHARGE = ReportWriter.label(ID + " - Total Charge: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ===============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(VehicleRentalRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(COMPANY_DETAILS).newLine();
+        out.write(COMPANY_NAME).write(record.getCompanyName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(BRANCH_DETAILS).newLine();
+        out.write(BRANCH_NAME).write(record.getBranchName()).newLine();
+        out.write(BRANCH_CODE).write(record.getBranchCode()).newLine();
+        out.write(VEHICLE_DETAILS).newLine();
+        out.write(VEHICLE_MODEL).write(record.getVehicleModel()).newLine();
+        out.write(VEHICLE_NUMBER).write(record.getVehicleNumber()).newLine();
+        out.write(VEHICLE_TYPE).write(record.getVehicleType()).newLine();
+        out.write(YEAR_OF_MANUFACTURE).write(record.getYearOfManufacture()).newLine();
+        out.write(CUSTOMER_DETAILS).newLine();
+        out.write(CUSTOMER_NAME).write(record.getCustomerName()).newLine();
+        out.write(CUSTOMER_EMAIL).write(record.getCustomerEmail()).newLine();
+        out.write(CUSTOMER_PHONE).write(record.getPhone()).newLine();
+        out.write(LICENSE_NUMBER).write(record.getLicenseNumber()).newLine();
+        out.write(RENTAL_DETAILS).newLine();
+        out.write(RENTAL_DATE).write(record.getRentalDate()).newLine();
+        out.write(RETURN_DATE).write(record.getReturnDate()).newLine();
+        out.write(NUMBER_OF_DAYS).write(record.getNumberOfDays()).newLine();
+        out.write(CHARGE_DETAILS).newLine();
+        out.write(DAILY_RATE).write(record.getDailyRate()).newLine();
+        out.write(RENTAL_CHARGE).write(record.getRentalCharge()).newLine();
+        out.write(PENALTY_CHARGE).write(record.getPenaltyCharge()).newLine();
+        out.write(PAYMENT_DETAILS).newLine();
+        out.write(PAYMENT_METHOD).write(record.getPaymentMethod()).newLine();
+        out.write(PAYMENT_DATE).write(record.getPaymentDate()).newLine();
+        out.write(AMOUNT_PAID).write(record.getAmountPaid()).newLine();
+        out.write(INVOICE_DETAILS).newLine();
+        out.write(INVOICE_NUMBER).write(record.getInvoiceNumber()).newLine();
+        out.write(TOTAL_CHARGE).write(record.getTotalCharge()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(VehicleRentalRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getCompanyName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getBranchName()).write(SEPARATOR);
+        out.write(record.getBranchCode()).write(SEPARATOR);
+        out.write(record.getVehicleModel()).write(SEPARATOR);
+        out.write(record.getVehicleNumber()).write(SEPARATOR);
+        out.write(record.getVehicleType()).write(SEPARATOR);
+        out.write(record.getYearOfManufacture()).write(SEPARATOR);
+        out.write(record.getCustomerName()).write(SEPARATOR);
+        out.write(record.getCustomerEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getLicenseNumber()).write(SEPARATOR);
+        out.write(record.getRentalDate()).write(SEPARATOR);
+        out.write(record.getReturnDate()).write(SEPARATOR);
+        out.write(record.getNumberOfDays()).write(SEPARATOR);
+        out.write(record.getDailyRate()).write(SEPARATOR);
+        out.write(record.getRentalCharge()).write(SEPARATOR);
+        out.write(record.getPenaltyCharge()).write(SEPARATOR);
+        out.write(record.getPaymentMethod()).write(SEPARATOR);
+        out.write(record.getPaymentDate()).write(SEPARATOR);
+        out.write(record.getAmountPaid()).write(SEPARATOR);
+        out.write(record.getInvoiceNumber()).write(SEPARATOR);
+        out.write(record.getTotalCharge()).newLine();
+    }
+
+    static void writeAll(List<VehicleRentalRecord> records, ReportWriter out, boolean compact) {
+        for (VehicleRentalRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
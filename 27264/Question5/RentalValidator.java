@@ -0,0 +1,54 @@
+class RentalValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String companyName,
+            String address, String phoneNumber, String email, String branchName, String branchCode,
+            String vehicleModel, String vehicleNumber, String vehicleType, int yearOfManufacture,
+            String customerName, String customerEmail, String phone, String licenseNumber,
+            String rentalDate, String returnDate, int numberOfDays, double dailyRate,
+            double rentalCharge, double penaltyCharge, String paymentMethod, String paymentDate,
+            double amountPaid, String invoiceNumber, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("RentalEntity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("RentalEntity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("RentalEntity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("RentalCompany.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("RentalCompany.email", "Invalid email format");
+        if (!FieldRules.isCode(branchCode))
+            result.add("RentalBranch.branchCode", "Branch code must be alphanumeric and at least 3 characters");
+        if (vehicleNumber == null || vehicleNumber.trim().isEmpty())
+            result.add("RentalVehicle.vehicleNumber", "Vehicle number cannot be empty");
+        if (yearOfManufacture < 1900 || yearOfManufacture > 2025)
+            result.add("RentalVehicle.yearOfManufacture", "Year of manufacture must be between 1900 and 2025");
+        if (!FieldRules.isEmail(customerEmail))
+            result.add("RentalCustomer.customerEmail", "Invalid customer email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("RentalCustomer.phone", "Customer phone must be exactly 10 digits");
+        if (licenseNumber == null || licenseNumber.trim().isEmpty())
+            result.add("RentalCustomer.licenseNumber", "License number cannot be empty");
+        if (rentalDate == null || rentalDate.trim().isEmpty())
+            result.add("Rental.rentalDate", "Rental date cannot be empty");
+        if (returnDate == null || returnDate.trim().isEmpty())
+            result.add("Rental.returnDate", "Return date cannot be empty");
+        if (numberOfDays <= 0)
+            result.add("Rental.numberOfDays", "Number of days must be > 0");
+        if (dailyRate <= 0)
+            result.add("RentalCharge.dailyRate", "Daily rate must be > 0");
+        if (rentalCharge < 0)
+            result.add("RentalCharge.rentalCharge", "Rental charge must be >= 0");
+        if (penaltyCharge < 0)
+            result.add("RentalCharge.penaltyCharge", "Penalty charge must be >= 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty())
+            result.add("RentalPayment.paymentMethod", "Payment method cannot be empty");
+        if (amountPaid < 0)
+            result.add("RentalPayment.amountPaid", "Amount paid must be >= 0");
+        if (invoiceNumber == null || invoiceNumber.trim().isEmpty())
+            result.add("RentalInvoice.invoiceNumber", "Invoice number cannot be empty");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Rental", result);
+        return false;
+    }
+}
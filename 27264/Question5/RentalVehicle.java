@@ -0,0 +1,57 @@
+class RentalVehicle extends RentalBranch {
+    private String vehicleModel;
+    private String vehicleNumber;
+    private String vehicleType;
+    private int yearOfManufacture;
+
+    public RentalVehicle(int id, String createdDate, String updatedDate, String companyName,
+                  String address, String phoneNumber, String email, String branchName,
+                  String branchCode, String vehicleModel, String vehicleNumber,
+                  String vehicleType, int yearOfManufacture) throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              branchName, branchCode);
+        
+        if (vehicleNumber == null || vehicleNumber.trim().isEmpty()) 
+            throw new RentalDataException("RentalVehicle.vehicleNumber", "Vehicle number cannot be empty");
+        if (yearOfManufacture < 1900 || yearOfManufacture > 2025) 
+            throw new RentalDataException("RentalVehicle.yearOfManufacture", "Year of manufacture must be between 1900 and 2025");
+        
+        this.vehicleModel = vehicleModel;
+        this.vehicleNumber = vehicleNumber;
+        this.vehicleType = vehicleType;
+        this.yearOfManufacture = yearOfManufacture;
+    }
+
+    RentalVehicle(RowSource source, int row) {
+        super(source, row);
+        this.vehicleModel = source.getString(row, RentalColumns.VEHICLE_MODEL);
+        this.vehicleNumber = source.getString(row, RentalColumns.VEHICLE_NUMBER);
+        this.vehicleType = source.getString(row, RentalColumns.VEHICLE_TYPE);
+        this.yearOfManufacture = source.getInt(row, RentalColumns.YEAR_OF_MANUFACTURE);
+    }
+
+    public String getVehicleModel() { return vehicleModel; }
+    public void setVehicleModel(String vehicleModel) {
+        changing(RentalColumns.VEHICLE_MODEL);
+        this.vehicleModel = vehicleModel;
+        changed(RentalColumns.VEHICLE_MODEL);
+    }
+    public String getVehicleNumber() { return vehicleNumber; }
+    public void setVehicleNumber(String vehicleNumber) {
+        changing(RentalColumns.VEHICLE_NUMBER);
+        this.vehicleNumber = vehicleNumber;
+        changed(RentalColumns.VEHICLE_NUMBER);
+    }
+    public String getVehicleType() { return vehicleType; }
+    public void setVehicleType(String vehicleType) {
+        changing(RentalColumns.VEHICLE_TYPE);
+        this.vehicleType = vehicleType;
+        changed(RentalColumns.VEHICLE_TYPE);
+    }
+    public int getYearOfManufacture() { return yearOfManufacture; }
+    public void setYearOfManufacture(int yearOfManufacture) {
+        changing(RentalColumns.YEAR_OF_MANUFACTURE);
+        this.yearOfManufacture = yearOfManufacture;
+        changed(RentalColumns.YEAR_OF_MANUFACTURE);
+    }
+}
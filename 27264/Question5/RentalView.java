@@ -0,0 +1,57 @@
+final class RentalView {
+    private final RowSource source;
+    private int row;
+
+    RentalView(RowSource source) {
+        this.source = source;
+    }
+
+    public RentalView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, RentalColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, RentalColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, RentalColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, RentalColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, RentalColumns.UPDATED_DATE); }
+    public String getCompanyName() { return source.getString(row, RentalColumns.COMPANY_NAME); }
+    public String getAddress() { return source.getString(row, RentalColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, RentalColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, RentalColumns.EMAIL); }
+    public String getBranchName() { return source.getString(row, RentalColumns.BRANCH_NAME); }
+    public String getBranchCode() { return source.getString(row, RentalColumns.BRANCH_CODE); }
+    public String getVehicleModel() { return source.getString(row, RentalColumns.VEHICLE_MODEL); }
+    public String getVehicleNumber() { return source.getString(row, RentalColumns.VEHICLE_NUMBER); }
+    public String getVehicleType() { return source.getString(row, RentalColumns.VEHICLE_TYPE); }
+    public int getYearOfManufacture() { return source.getInt(row, RentalColumns.YEAR_OF_MANUFACTURE); }
+    public String getCustomerName() { return source.getString(row, RentalColumns.CUSTOMER_NAME); }
+    public String getCustomerEmail() { return source.getString(row, RentalColumns.CUSTOMER_EMAIL); }
+    public String getPhone() { return source.getString(row, RentalColumns.PHONE); }
+    public String getLicenseNumber() { return source.getString(row, RentalColumns.LICENSE_NUMBER); }
+    public String getRentalDate() { return source.getString(row, RentalColumns.RENTAL_DATE); }
+    public int getRentalDay() { return source.getInt(row, RentalColumns.RENTAL_DATE); }
+    public String getReturnDate() { return source.getString(row, RentalColumns.RETURN_DATE); }
+    public int getReturnDay() { return source.getInt(row, RentalColumns.RETURN_DATE); }
+    public int getNumberOfDays() { return source.getInt(row, RentalColumns.NUMBER_OF_DAYS); }
+    public double getDailyRate() { return source.getDouble(row, RentalColumns.DAILY_RATE); }
+    public double getRentalCharge() { return source.getDouble(row, RentalColumns.RENTAL_CHARGE); }
+    public double getPenaltyCharge() { return source.getDouble(row, RentalColumns.PENALTY_CHARGE); }
+    public String getPaymentMethod() { return source.getString(row, RentalColumns.PAYMENT_METHOD); }
+    public String getPaymentDate() { return source.getString(row, RentalColumns.PAYMENT_DATE); }
+    public int getPaymentDay() { return source.getInt(row, RentalColumns.PAYMENT_DATE); }
+    public double getAmountPaid() { return source.getDouble(row, RentalColumns.AMOUNT_PAID); }
+    public String getInvoiceNumber() { return source.getString(row, RentalColumns.INVOICE_NUMBER); }
+    public double getTotalCharge() { return source.getDouble(row, RentalColumns.TOTAL_CHARGE); }
+
+    public double calculateTotalCharge() {
+        return Money.toDouble(Money.add(cents(RentalColumns.RENTAL_CHARGE), cents(RentalColumns.PENALTY_CHARGE)));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,101 @@
+final class VehicleRentalRecord extends RentalInvoice {
+    // The columns the total charge is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS =
+        1L << RentalColumns.RENTAL_CHARGE | 1L << RentalColumns.PENALTY_CHARGE;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<VehicleRentalRecord> indexes;
+
+    public VehicleRentalRecord(int id, String createdDate, String updatedDate, String companyName,
+                       String address, String phoneNumber, String email, String branchName,
+                       String branchCode, String vehicleModel, String vehicleNumber,
+                       String vehicleType, int yearOfManufacture, String customerName,
+                       String customerEmail, String phone, String licenseNumber,
+                       String rentalDate, String returnDate, int numberOfDays,
+                       double dailyRate, double rentalCharge, double penaltyCharge,
+                       String paymentMethod, String paymentDate, double amountPaid,
+                       String invoiceNumber) throws RentalDataException {
+        super(id, createdDate, updatedDate, companyName, address, phoneNumber, email,
+              branchName, branchCode, vehicleModel, vehicleNumber, vehicleType,
+              yearOfManufacture, customerName, customerEmail, phone, licenseNumber,
+              rentalDate, returnDate, numberOfDays, dailyRate, rentalCharge, penaltyCharge,
+              paymentMethod, paymentDate, amountPaid, invoiceNumber);
+    }
+
+    // Restores a record for RentalColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    VehicleRentalRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double calculateTotalCharge() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double total = charge();
+        setTotalCharge(total);
+        computed = true;
+        event.finish("Rental", "calculateTotalCharge", getId(), total);
+        return total;
+    }
+
+    // Counts this record's total charge in one group of totals and keeps the group's sum current as the
+    // record changes, computing the total charge first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) calculateTotalCharge();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getTotalCharge()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != RentalColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of Rental records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<VehicleRentalRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = RentalColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == RentalColumns.ID ? (Integer) before : getId(), column, before,
+                RentalColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == RentalColumns.TOTAL_CHARGE) {
+            if (tracked != null) tracked.set(Money.of(getTotalCharge()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setTotalCharge(charge());
+        }
+    }
+
+    private double charge() {
+        return Money.toDouble(Money.add(Money.of(getRentalCharge()), Money.of(getPenaltyCharge())));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        RentalReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
@@ -0,0 +1,29 @@
+class Account extends Bank {
+    private String accountNumber;
+    private String accountType;
+    private double balance;
+
+    public Account(int id, String createdDate, String updatedDate, String bankName,
+                  String branchCode, String address, String accountNumber,
+                  String accountType, double balance) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address);
+        
+        if (balance < 0) throw new BankingException("Account.balance", "Balance must be >= 0");
+        
+        this.accountNumber = accountNumber;
+        this.accountType = accountType;
+        this.balance = balance;
+    }
+
+    Account(RowSource source, int row) {
+        super(source, row);
+        this.accountNumber = source.getString(row, BankingColumns.ACCOUNT_NUMBER);
+        this.accountType = source.getString(row, BankingColumns.ACCOUNT_TYPE);
+        this.balance = source.getDouble(row, BankingColumns.BALANCE);
+    }
+
+    public String getAccountNumber() { return accountNumber; }
+    public String getAccountType() { return accountType; }
+    public double getBalance() { return balance; }
+    public void setBalance(double balance) { this.balance = balance; }
+}
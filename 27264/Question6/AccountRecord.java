@@ -0,0 +1,56 @@
+final class AccountRecord extends Payment {
+    private double calculatedInterest;
+    private boolean computed;
+    private TrackedTotal tracked;
+
+    public AccountRecord(int id, String createdDate, String updatedDate, String bankName,
+                        String branchCode, String address, String accountNumber,
+                        String accountType, double balance, String customerName,
+                        String email, String phoneNumber, String transactionId,
+                        String transactionType, double amount, double depositAmount,
+                        String depositDate, double withdrawalAmount, String withdrawalDate,
+                        double loanAmount, double interestRate, int duration,
+                        double paymentAmount, String paymentDate) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address,
+              accountNumber, accountType, balance, customerName, email, phoneNumber,
+              transactionId, transactionType, amount, depositAmount, depositDate,
+              withdrawalAmount, withdrawalDate, loanAmount, interestRate, duration,
+              paymentAmount, paymentDate);
+        this.calculatedInterest = 0;
+    }
+
+    // Restores a record for BankingColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    AccountRecord(RowSource source, int row) {
+        super(source, row);
+        this.calculatedInterest = source.getDouble(row, BankingColumns.CALCULATED_INTEREST);
+    }
+
+    public double calculateInterest() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        calculatedInterest = Money.toDouble(Money.percent(Money.multiply(Money.of(getLoanAmount()), getDuration()),
+            getInterestRate()));
+        computed = true;
+        event.finish("Banking", "calculateInterest", getId(), calculatedInterest);
+        return calculatedInterest;
+    }
+
+    public double getCalculatedInterest() { return calculatedInterest; }
+
+    // Counts this record's interest in one group of totals, computing it first if that has not been
+    // done. The loan amount, rate and duration have no setters, so the interest never changes after.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) calculateInterest();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(calculatedInterest));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        BankingReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
@@ -0,0 +1,22 @@
+class Bank extends Entity {
+    private BankProfile profile;
+
+    public Bank(int id, String createdDate, String updatedDate, String bankName,
+               String branchCode, String address) throws BankingException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = BankProfile.of(bankName, branchCode, address);
+    }
+
+    Bank(RowSource source, int row) {
+        super(source, row);
+        String bankName = source.getString(row, BankingColumns.BANK_NAME);
+        String branchCode = source.getString(row, BankingColumns.BRANCH_CODE);
+        String address = source.getString(row, BankingColumns.ADDRESS);
+        this.profile = BankProfile.restore(bankName, branchCode, address);
+    }
+
+    public String getBankName() { return profile.getBankName(); }
+    public String getBranchCode() { return profile.getBranchCode(); }
+    public String getAddress() { return profile.getAddress(); }
+}
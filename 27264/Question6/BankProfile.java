@@ -0,0 +1,61 @@
+import java.util.Objects;
+
+final class BankProfile {
+    private static final Interner<BankProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<BankProfile> RESTORED = new Interner<>();
+
+    private final String bankName;
+    private final String branchCode;
+    private final String address;
+    private final int hash;
+
+    private BankProfile(String bankName, String branchCode, String address) {
+        this.bankName = bankName;
+        this.branchCode = branchCode;
+        this.address = address;
+        int hash = Objects.hashCode(bankName);
+        hash = 31 * hash + Objects.hashCode(branchCode);
+        hash = 31 * hash + Objects.hashCode(address);
+        this.hash = hash;
+    }
+
+    static BankProfile of(String bankName, String branchCode, String address)
+            throws BankingException {
+        BankProfile candidate = new BankProfile(bankName, branchCode, address);
+        BankProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (branchCode.length() < 3) 
+            throw new BankingException("Bank.branchCode", "Branch code must be at least 3 characters");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static BankProfile restore(String bankName, String branchCode, String address) {
+        BankProfile candidate = new BankProfile(bankName, branchCode, address);
+        BankProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getBankName() { return bankName; }
+    public String getBranchCode() { return branchCode; }
+    public String getAddress() { return address; }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof BankProfile)) return false;
+        BankProfile that = (BankProfile) other;
+        return hash == that.hash
+            && Objects.equals(bankName, that.bankName)
+            && Objects.equals(branchCode, that.branchCode)
+            && Objects.equals(address, that.address);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,214 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+class BankingBatchLoader implements ParallelBatch.Row {
+    public static final char DELIMITER = '|';
+    public static final int FIELD_COUNT = 24;
+
+    // The constructor's parameter names, in the order of the fields on a line
+    static final String[] FIELDS = {
+        "id", "createdDate", "updatedDate", "bankName", "branchCode", "address", "accountNumber",
+        "accountType", "balance", "customerName", "email", "phoneNumber", "transactionId",
+        "transactionType", "amount", "depositAmount", "depositDate", "withdrawalAmount",
+        "withdrawalDate", "loanAmount", "interestRate", "duration", "paymentAmount",
+        "paymentDate"
+    };
+
+    private static final LatencyHistogram PARSE = Metrics.histogram("Banking.parse");
+    private static final LatencyHistogram VALIDATE = Metrics.histogram("Banking.validate");
+    private static final LatencyHistogram CONSTRUCT = Metrics.histogram("Banking.construct");
+    private static final LatencyHistogram COMPUTE = Metrics.histogram("Banking.compute");
+    private static final LatencyHistogram RENDER = Metrics.histogram("Banking.render");
+
+    private final String[] fields = new String[FIELD_COUNT];
+    private final ValidationResult result = new ValidationResult();
+    private long time;
+    private int id;
+
+    public static ParallelBatch.Summary run(Path input, Path output, ParallelBatch batch) throws IOException {
+        Path rejects = Paths.get(output.toString() + ".rejects");
+        ParallelBatch.Summary summary = batch.run(input, output, rejects, BankingBatchLoader::new);
+        System.out.println(Question6_BankingSystem.STUDENT_ID + " - Batch complete: " + summary.getTotal()
+            + " rows (" + summary.getAccepted() + " accepted, " + summary.getRejected() + " rejected) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + batch.getParallelism() + " threads");
+        if (summary.getDuplicates() > 0)
+            System.out.println(Question6_BankingSystem.STUDENT_ID + " - Duplicate ids: "
+                + summary.getDuplicates() + " rows repeated an earlier id (" + summary.getDuplicateIds() + ")");
+        System.out.println(Question6_BankingSystem.STUDENT_ID + " - Throughput: "
+            + summary.rowsPerSecond() + " rows/s");
+        Metrics.dumpIfRequested();
+        return summary;
+    }
+
+    // The batch file's valid records by id, in file order; rows a batch run would reject are left out.
+    static Map<Integer, AccountRecord> load(Path input) throws IOException {
+        Map<Integer, AccountRecord> records = new LinkedHashMap<>();
+        read(input, record -> records.put(record.getId(), record));
+        return records;
+    }
+
+    // Every valid row of the batch file as columns, in file order, with the computed column filled
+    // in; the source for a Query.
+    static ColumnTable loadTable(Path input) throws IOException {
+        ColumnTable table = new ColumnTable(BankingColumns.SCHEMA);
+        read(input, record -> BankingColumns.append(table, record));
+        BankingColumns.calculateInterest(table);
+        return table;
+    }
+
+    // Passes each valid record of the batch file to action, in file order. A row with the id of an
+    // earlier record is left out, as a batch run rejects it.
+    static void read(Path input, Consumer<AccountRecord> action) throws IOException {
+        BankingBatchLoader loader = new BankingBatchLoader();
+        IdBitmap ids = new IdBitmap();
+        try (BufferedReader lines = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                if (line.isEmpty() || line.charAt(0) == '#') continue;
+                loader.time = Metrics.now();
+                try {
+                    AccountRecord record = loader.toRecord(line);
+                    if (record != null && ids.add(record.getId())) action.accept(record);
+                } catch (BankingException | NumberFormatException e) {
+                    // rejected, as in a batch run
+                }
+            }
+        }
+    }
+
+    // Writes the batch file's valid records to a snapshot for restore to start from.
+    public static RecordSnapshot.Summary snapshot(Path input, Path snapshot) throws IOException {
+        Map<Integer, AccountRecord> records = load(input);
+        RecordSnapshot.Summary summary = RecordSnapshot.write(snapshot, BankingColumns.SCHEMA, records.values(),
+            BankingColumns::append);
+        System.out.println(Question6_BankingSystem.STUDENT_ID + " - Snapshot of " + summary.getRows() + " records written in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms (" + (summary.getBytes() / 1024) + " KB)");
+        return summary;
+    }
+
+    // Rebuilds the records from a snapshot, reading the mapped rows without parsing or validating
+    // them again.
+    public static Map<Integer, AccountRecord> restore(Path snapshot) throws IOException {
+        long start = System.nanoTime();
+        Map<Integer, AccountRecord> records = new LinkedHashMap<>();
+        try (RecordSnapshot rows = RecordSnapshot.open(snapshot, BankingColumns.SCHEMA)) {
+            if (rows == null)
+                throw new IOException("No complete snapshot at " + snapshot);
+            for (AccountRecord record : rows.records(BankingColumns::record)) {
+                records.put(record.getId(), record);
+            }
+            System.out.println(Question6_BankingSystem.STUDENT_ID + " - Restored " + records.size()
+                + " records from the snapshot in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+        }
+        return records;
+    }
+
+    // The ids of the batch file's valid records.
+    static IdBitmap ids(Path input) throws IOException {
+        IdBitmap ids = new IdBitmap();
+        read(input, record -> ids.add(record.getId()));
+        return ids;
+    }
+
+    // Compares the ids of two batch files' valid records, such as two loads to reconcile.
+    public static void reconcile(Path first, Path second) throws IOException {
+        long start = System.nanoTime();
+        IdBitmap firstIds = ids(first);
+        IdBitmap secondIds = ids(second);
+        IdBitmap both = IdBitmap.and(firstIds, secondIds);
+        IdBitmap onlyFirst = IdBitmap.andNot(firstIds, secondIds);
+        IdBitmap onlySecond = IdBitmap.andNot(secondIds, firstIds);
+        System.out.println(Question6_BankingSystem.STUDENT_ID + " - " + first + ": " + firstIds.size() + " ids, " + second + ": "
+            + secondIds.size() + " ids, compared in " + ((System.nanoTime() - start) / 1_000_000) + " ms");
+        System.out.println(Question6_BankingSystem.STUDENT_ID + " - In both: " + both.size());
+        System.out.println(Question6_BankingSystem.STUDENT_ID + " - Only in " + first + ": " + onlyFirst.size()
+            + (onlyFirst.isEmpty() ? "" : " (" + onlyFirst + ")"));
+        System.out.println(Question6_BankingSystem.STUDENT_ID + " - Only in " + second + ": " + onlySecond.size()
+            + (onlySecond.isEmpty() ? "" : " (" + onlySecond + ")"));
+    }
+
+    @Override
+    public int id() { return id; }
+
+    @Override
+    public String process(String line, StringBuilder out) {
+        time = Metrics.now();
+        try {
+            AccountRecord record = toRecord(line);
+            if (record == null) {
+                Metrics.countRules(result);
+                return result.toString();
+            }
+            id = record.getId();
+            double total = record.calculateInterest();
+            time = COMPUTE.recordSince(time);
+            out.append(record.getId()).append(DELIMITER).append(record.getCustomerName()).append(DELIMITER)
+                .append(total);
+            RENDER.recordSince(time);
+            return null;
+        } catch (BankingException e) {
+            Metrics.countException(e);
+            return e.getMessage();
+        } catch (NumberFormatException e) {
+            Metrics.countException(e);
+            // The one rule this loader checks itself, while parsing
+            ValidationFailureEvent.emit("Banking", "Row.number", "Invalid number format");
+            return "Invalid number format";
+        }
+    }
+
+    // Returns null when the row breaks any rule; every violation is left in result.
+    private AccountRecord toRecord(String line) throws BankingException {
+        int count = split(line);
+        if (count != FIELD_COUNT)
+            throw new BankingException("Row.fieldCount", "Expected " + FIELD_COUNT + " fields but found " + count);
+
+        int id = Integer.parseInt(fields[0]);
+        double balance = Double.parseDouble(fields[8]);
+        double amount = Double.parseDouble(fields[14]);
+        double depositAmount = Double.parseDouble(fields[15]);
+        double withdrawalAmount = Double.parseDouble(fields[17]);
+        double loanAmount = Double.parseDouble(fields[19]);
+        double interestRate = Double.parseDouble(fields[20]);
+        int duration = Integer.parseInt(fields[21]);
+        double paymentAmount = Double.parseDouble(fields[22]);
+        time = PARSE.recordSince(time);
+
+        boolean valid = BankingValidator.validate(id, fields[1], fields[2], fields[3], fields[4],
+            fields[5], fields[6], fields[7], balance, fields[9], fields[10], fields[11], fields[12],
+            fields[13], amount, depositAmount, fields[16], withdrawalAmount, fields[18], loanAmount,
+            interestRate, duration, paymentAmount, fields[23], result);
+        time = VALIDATE.recordSince(time);
+        if (!valid) return null;
+
+        RecordConstructionEvent construction = new RecordConstructionEvent();
+        construction.begin();
+        AccountRecord record = new AccountRecord(id, fields[1], fields[2], fields[3], fields[4],
+            fields[5], fields[6], fields[7], balance, fields[9], fields[10], fields[11], fields[12],
+            fields[13], amount, depositAmount, fields[16], withdrawalAmount, fields[18], loanAmount,
+            interestRate, duration, paymentAmount, fields[23]);
+        construction.finish("Banking", record, id);
+        time = CONSTRUCT.recordSince(time);
+        return record;
+    }
+
+    private int split(String line) {
+        int count = 0;
+        int from = 0;
+        int length = line.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line.charAt(i) == DELIMITER) {
+                if (count < FIELD_COUNT) fields[count] = line.substring(from, i).trim();
+                count++;
+                from = i + 1;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,148 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class BankingBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        AccountRecord record = newRecord(1);
+
+        bench.header("AccountRecord");
+        bench.run("new Entity", i -> new Entity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new AccountRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("calculateInterest", i -> record.calculateInterest());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            BankingReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            BankingReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("AccountRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by BankingValidator", i -> BankingValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "Bank of Kigali", "BK001", "KN 4 Ave", "ACC1000001", "Savings", 5000.0,
+            "Diane Umutoni", "diane@mail.com", "0781234567", "TX0001", "Deposit", 250.0, 250.0,
+            "2024-02-01", 100.0, "2024-02-05", 10000.0, 12.5, 3, 500.0, "2024-03-01", result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("AccountRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        AccountRecord[] records = new AccountRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(BankingColumns.SCHEMA, rows);
+        for (AccountRecord r : records) BankingColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        BankingView view = new BankingView(table);
+        bench.runDouble("calculateInterest over records", i -> {
+            double sum = 0;
+            for (AccountRecord r : records) sum += r.calculateInterest();
+            return sum;
+        });
+        bench.runDouble("calculateInterest over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateInterest();
+            return sum;
+        });
+        bench.run("calculateInterest column kernel", i -> {
+            BankingColumns.calculateInterest(table);
+            return table;
+        });
+        Path file = Files.createTempFile("AccountRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, BankingColumns.SCHEMA)) {
+            for (AccountRecord r : records) BankingColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, BankingColumns.SCHEMA)) {
+            BankingView mapped = new BankingView(reader);
+            bench.runDouble("calculateInterest over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).calculateInterest();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<AccountRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            BankingReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            BankingReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws BankingException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        AccountRecord[] records = new AccountRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (BankingException e) {
+            return e;
+        }
+    }
+
+    static AccountRecord newRecord(int id) throws BankingException {
+        return new AccountRecord(id, "2024-01-01", "2024-01-02", "Bank of Kigali", "BK001",
+            "KN 4 Ave", "ACC1000001", "Savings", 5000.0, "Diane Umutoni", "diane@mail.com",
+            "0781234567", "TX0001", "Deposit", 250.0, 250.0, "2024-02-01", 100.0, "2024-02-05",
+            10000.0, 12.5, 3, 500.0, "2024-03-01");
+    }
+
+    static AccountRecord newParsedRecord(int id, int organization) throws BankingException {
+        return new AccountRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "Bank of Kigali" + organization, fresh("BK001"), fresh("KN 4 Ave"), fresh("ACC1000001"),
+            fresh("Savings"), 5000.0, fresh("Diane Umutoni"), fresh("diane@mail.com"),
+            fresh("0781234567"), fresh("TX0001"), fresh("Deposit"), 250.0, 250.0,
+            fresh("2024-02-01"), 100.0, fresh("2024-02-05"), 10000.0, 12.5, 3, 500.0,
+            fresh("2024-03-01"));
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,124 @@
+import java.util.Collection;
+
+final class BankingColumns {
+    static final Schema SCHEMA = new Schema("AccountRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int BANK_NAME = SCHEMA.add("bankName", ColumnType.DICT);
+    static final int BRANCH_CODE = SCHEMA.add("branchCode", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int ACCOUNT_NUMBER = SCHEMA.add("accountNumber", ColumnType.TEXT);
+    static final int ACCOUNT_TYPE = SCHEMA.add("accountType", ColumnType.DICT);
+    static final int BALANCE = SCHEMA.add("balance", ColumnType.MONEY);
+    static final int CUSTOMER_NAME = SCHEMA.add("customerName", ColumnType.TEXT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.TEXT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.TEXT);
+    static final int TRANSACTION_ID = SCHEMA.add("transactionId", ColumnType.TEXT);
+    static final int TRANSACTION_TYPE = SCHEMA.add("transactionType", ColumnType.DICT);
+    static final int AMOUNT = SCHEMA.add("amount", ColumnType.MONEY);
+    static final int DEPOSIT_AMOUNT = SCHEMA.add("depositAmount", ColumnType.MONEY);
+    static final int DEPOSIT_DATE = SCHEMA.add("depositDate", ColumnType.DATE);
+    static final int WITHDRAWAL_AMOUNT = SCHEMA.add("withdrawalAmount", ColumnType.MONEY);
+    static final int WITHDRAWAL_DATE = SCHEMA.add("withdrawalDate", ColumnType.DATE);
+    static final int LOAN_AMOUNT = SCHEMA.add("loanAmount", ColumnType.MONEY);
+    static final int INTEREST_RATE = SCHEMA.add("interestRate", ColumnType.DOUBLE);
+    static final int DURATION = SCHEMA.add("duration", ColumnType.INT);
+    static final int PAYMENT_AMOUNT = SCHEMA.add("paymentAmount", ColumnType.MONEY);
+    static final int PAYMENT_DATE = SCHEMA.add("paymentDate", ColumnType.DATE);
+    static final int CALCULATED_INTEREST = SCHEMA.add("calculatedInterest", ColumnType.MONEY);
+
+    // Every column's getter; an account changes only through its balance
+    static final ColumnAccessors<AccountRecord> ACCESSORS = new ColumnAccessors<AccountRecord>(SCHEMA)
+        .addInt(ID, AccountRecord::getId)
+        .addString(CREATED_DATE, AccountRecord::getCreatedDate)
+        .addString(UPDATED_DATE, AccountRecord::getUpdatedDate)
+        .addString(BANK_NAME, AccountRecord::getBankName)
+        .addString(BRANCH_CODE, AccountRecord::getBranchCode)
+        .addString(ADDRESS, AccountRecord::getAddress)
+        .addString(ACCOUNT_NUMBER, AccountRecord::getAccountNumber)
+        .addString(ACCOUNT_TYPE, AccountRecord::getAccountType)
+        .addDouble(BALANCE, AccountRecord::getBalance, AccountRecord::setBalance)
+        .addString(CUSTOMER_NAME, AccountRecord::getCustomerName)
+        .addString(EMAIL, AccountRecord::getEmail)
+        .addString(PHONE_NUMBER, AccountRecord::getPhoneNumber)
+        .addString(TRANSACTION_ID, AccountRecord::getTransactionId)
+        .addString(TRANSACTION_TYPE, AccountRecord::getTransactionType)
+        .addDouble(AMOUNT, AccountRecord::getAmount)
+        .addDouble(DEPOSIT_AMOUNT, AccountRecord::getDepositAmount)
+        .addString(DEPOSIT_DATE, AccountRecord::getDepositDate)
+        .addDouble(WITHDRAWAL_AMOUNT, AccountRecord::getWithdrawalAmount)
+        .addString(WITHDRAWAL_DATE, AccountRecord::getWithdrawalDate)
+        .addDouble(LOAN_AMOUNT, AccountRecord::getLoanAmount)
+        .addDouble(INTEREST_RATE, AccountRecord::getInterestRate)
+        .addInt(DURATION, AccountRecord::getDuration)
+        .addDouble(PAYMENT_AMOUNT, AccountRecord::getPaymentAmount)
+        .addString(PAYMENT_DATE, AccountRecord::getPaymentDate)
+        .addDouble(CALCULATED_INTEREST, AccountRecord::getCalculatedInterest)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "accountNumber", "email", "transactionId" };
+
+    static RecordIndexes<AccountRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, null, expectedSize, columns);
+    }
+
+    private BankingColumns() {
+    }
+
+    static int append(RowSink table, AccountRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, BANK_NAME, record.getBankName());
+        table.setString(row, BRANCH_CODE, record.getBranchCode());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, ACCOUNT_NUMBER, record.getAccountNumber());
+        table.setString(row, ACCOUNT_TYPE, record.getAccountType());
+        table.setDouble(row, BALANCE, record.getBalance());
+        table.setString(row, CUSTOMER_NAME, record.getCustomerName());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, TRANSACTION_ID, record.getTransactionId());
+        table.setString(row, TRANSACTION_TYPE, record.getTransactionType());
+        table.setDouble(row, AMOUNT, record.getAmount());
+        table.setDouble(row, DEPOSIT_AMOUNT, record.getDepositAmount());
+        table.setString(row, DEPOSIT_DATE, record.getDepositDate());
+        table.setDouble(row, WITHDRAWAL_AMOUNT, record.getWithdrawalAmount());
+        table.setString(row, WITHDRAWAL_DATE, record.getWithdrawalDate());
+        table.setDouble(row, LOAN_AMOUNT, record.getLoanAmount());
+        table.setDouble(row, INTEREST_RATE, record.getInterestRate());
+        table.setInt(row, DURATION, record.getDuration());
+        table.setDouble(row, PAYMENT_AMOUNT, record.getPaymentAmount());
+        table.setString(row, PAYMENT_DATE, record.getPaymentDate());
+        table.setDouble(row, CALCULATED_INTEREST, record.getCalculatedInterest());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static AccountRecord record(RowSource source, int row) {
+        return new AccountRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<AccountRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (AccountRecord record : records) append(table, record);
+        calculateInterest(table);
+        return table;
+    }
+
+    static void calculateInterest(ColumnTable table) {
+        long[] loanAmount = table.cents(LOAN_AMOUNT);
+        double[] interestRate = table.doubles(INTEREST_RATE);
+        int[] duration = table.ints(DURATION);
+        long[] calculatedInterest = table.cents(CALCULATED_INTEREST);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            calculatedInterest[row] = Money.percent(loanAmount[row] * duration[row], interestRate[row]);
+        }
+    }
+}
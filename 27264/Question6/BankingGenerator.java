@@ -0,0 +1,76 @@
+import java.io.IOException;
+
+class BankingGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+    private static final int ACCOUNTS = 100_000;
+
+    // name, branch code prefix, address; the first entries are the busiest
+    private static final String[][] BANKS = {
+        { "Bank of Kigali", "BK", "KN 4 Ave" },
+        { "Equity Bank", "EQ", "KN 2 St" },
+        { "I&M Bank", "IM", "KN 3 Ave" },
+        { "Access Bank", "AC", "KN 67 St" },
+        { "Cogebanque", "CG", "KN 63 St" }
+    };
+    private static final String[] ACCOUNT_TYPES = { "Savings", "Current", "Fixed Deposit" };
+    private static final String[] TRANSACTION_TYPES = { "Deposit", "Withdrawal", "Transfer", "Payment" };
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2),
+        SyntheticData.set(4, "", "B1", "BK"), SyntheticData.negative(8), SyntheticData.email(10),
+        SyntheticData.phone(11), SyntheticData.notPositive(14), SyntheticData.notPositive(15),
+        SyntheticData.notPositive(17), SyntheticData.notPositive(19), SyntheticData.notPositive(20),
+        SyntheticData.notPositive(21), SyntheticData.notPositive(22)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new BankingGenerator(), rows, output);
+        SyntheticData.log(output).println(Question6_BankingSystem.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return BankingBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    // Busy accounts come up more often, with the same type and owner each time.
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] bank = source.pickSkewed(BANKS);
+        int account = source.skewed(ACCOUNTS);
+        String customer = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        long loanAmount = 100_000L * source.between(5, 500);
+        int months = 6 * source.between(1, 10);
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = bank[0];
+        fields[4] = bank[1] + "0" + source.between(10, 40);
+        fields[5] = bank[2];
+        fields[6] = "ACC" + (1_000_000 + account);
+        fields[7] = ACCOUNT_TYPES[account % ACCOUNT_TYPES.length];
+        fields[8] = source.money(0, 5_000_000);
+        fields[9] = customer;
+        fields[10] = source.email(customer, "mail.com");
+        fields[11] = source.phone();
+        fields[12] = source.code("TX", 8);
+        fields[13] = source.pick(TRANSACTION_TYPES);
+        fields[14] = source.money(100, 500_000);
+        fields[15] = source.money(1_000, 500_000);
+        fields[16] = SyntheticData.date(created + source.nextInt(30));
+        fields[17] = source.money(1_000, 200_000);
+        fields[18] = SyntheticData.date(created + source.nextInt(30));
+        fields[19] = SyntheticData.money(loanAmount);
+        fields[20] = SyntheticData.money(source.between(500, 2_000));
+        fields[21] = Integer.toString(months);
+        fields[22] = SyntheticData.money(loanAmount / months);
+        fields[23] = SyntheticData.date(created + source.nextInt(60));
+    }
+}
@@ -0,0 +1,121 @@
+import java.util.List;
+
+class BankingReport {
+    private static final String ID = Question6_BankingSystem.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== BANKING SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED = ReportWriter.label(ID + " - Created: ");
+    private static final byte[] UPDATED = ReportWriter.label(ID + " - Updated: ");
+    private static final byte[] BANK_DETAILS = ReportWriter.label("\n" + ID + " - --- Bank Details ---");
+    private static final byte[] BANK = ReportWriter.label(ID + " - Bank: ");
+    private static final byte[] BRANCH_CODE = ReportWriter.label(ID + " - Branch Code: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] ACCOUNT_DETAILS = ReportWriter.label("\n" + ID + " - --- Account Details ---");
+    private static final byte[] ACCOUNT_NUMBER = ReportWriter.label(ID + " - Account Number: ");
+    private static final byte[] ACCOUNT_TYPE = ReportWriter.label(ID + " - Account Type: ");
+    private static final byte[] BALANCE = ReportWriter.label(ID + " - Balance: $");
+    private static final byte[] CUSTOMER_DETAILS = ReportWriter.label("\n" + ID + " - --- Customer Details ---");
+    private static final byte[] NAME = ReportWriter.label(ID + " - Name: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] TRANSACTION_DETAILS = ReportWriter.label("\n" + ID + " - --- Transaction Details ---");
+    private static final byte[] TRANSACTION_ID = ReportWriter.label(ID + " - Transaction ID: ");
+    private static final byte[] TYPE = ReportWriter.label(ID + " - Type: ");
+    private static final byte[] AMOUNT = ReportWriter.label(ID + " - Amount: $");
+    private static final byte[] DEPOSIT_DETAILS = ReportWriter.label("\n" + ID + " - --- Deposit Details ---");
+    private static final byte[] DEPOSIT_AMOUNT = ReportWriter.label(ID + " - Deposit Amount: $");
+    private static final byte[] DEPOSIT_DATE = ReportWriter.label(ID + " - Deposit Date: ");
+    private static final byte[] WITHDRAWAL_DETAILS = ReportWriter.label("\n" + ID + " - --- Withdrawal Details ---");
+    private static final byte[] WITHDRAWAL_AMOUNT = ReportWriter.label(ID + " - Withdrawal Amount: $");
+    private static final byte[] WITHDRAWAL_DATE = ReportWriter.label(ID + " - Withdrawal Date: ");
+    private static final byte[] LOAN_DETAILS = ReportWriter.label("\n" + ID + " - --- Loan Details ---");
+    private static final byte[] LOAN_AMOUNT = ReportWriter.label(ID + " - Loan Amount: $");
+    private static final byte[] INTEREST_RATE = ReportWriter.label(ID + " - Interest Rate: ");
+    private static final byte[] PERCENT = ReportWriter.label("%");
+    private static final byte[] DURATION = ReportWriter.label(ID + " - Duration: ");
+    private static final byte[] MONTHS = ReportWriter.label(" months");
+    private static final byte[] CALCULATED_INTEREST = ReportWriter.label(ID + " - Calculated Interest: $");
+    private static final byte[] PAYMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Payment Details ---");
+    private static final byte[] PAYMENT_AMOUNT = ReportWriter.label(ID + " - Payment Amount: $");
+    private static final byte[] PAYMENT_DATE = ReportWriter.label(ID + " - Payment Date: ");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - =====================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(AccountRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED).write(record.getUpdatedDate()).newLine();
+        out.write(BANK_DETAILS).newLine();
+        out.write(BANK).write(record.getBankName()).newLine();
+        out.write(BRANCH_CODE).write(record.getBranchCode()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(ACCOUNT_DETAILS).newLine();
+        out.write(ACCOUNT_NUMBER).write(record.getAccountNumber()).newLine();
+        out.write(ACCOUNT_TYPE).write(record.getAccountType()).newLine();
+        out.write(BALANCE).write(record.getBalance()).newLine();
+        out.write(CUSTOMER_DETAILS).newLine();
+        out.write(NAME).write(record.getCustomerName()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(TRANSACTION_DETAILS).newLine();
+        out.write(TRANSACTION_ID).write(record.getTransactionId()).newLine();
+        out.write(TYPE).write(record.getTransactionType()).newLine();
+        out.write(AMOUNT).write(record.getAmount()).newLine();
+        out.write(DEPOSIT_DETAILS).newLine();
+        out.write(DEPOSIT_AMOUNT).write(record.getDepositAmount()).newLine();
+        out.write(DEPOSIT_DATE).write(record.getDepositDate()).newLine();
+        out.write(WITHDRAWAL_DETAILS).newLine();
+        out.write(WITHDRAWAL_AMOUNT).write(record.getWithdrawalAmount()).newLine();
+        out.write(WITHDRAWAL_DATE).write(record.getWithdrawalDate()).newLine();
+        out.write(LOAN_DETAILS).newLine();
+        out.write(LOAN_AMOUNT).write(record.getLoanAmount()).newLine();
+        out.write(INTEREST_RATE).write(record.getInterestRate()).write(PERCENT).newLine();
+        out.write(DURATION).write(record.getDuration()).write(MONTHS).newLine();
+        out.write(CALCULATED_INTEREST).write(record.getCalculatedInterest()).newLine();
+        out.write(PAYMENT_DETAILS).newLine();
+        out.write(PAYMENT_AMOUNT).write(record.getPaymentAmount()).newLine();
+        out.write(PAYMENT_DATE).write(record.getPaymentDate()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(AccountRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getBankName()).write(SEPARATOR);
+        out.write(record.getBranchCode()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getAccountNumber()).write(SEPARATOR);
+        out.write(record.getAccountType()).write(SEPARATOR);
+        out.write(record.getBalance()).write(SEPARATOR);
+        out.write(record.getCustomerName()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getTransactionId()).write(SEPARATOR);
+        out.write(record.getTransactionType()).write(SEPARATOR);
+        out.write(record.getAmount()).write(SEPARATOR);
+        out.write(record.getDepositAmount()).write(SEPARATOR);
+        out.write(record.getDepositDate()).write(SEPARATOR);
+        out.write(record.getWithdrawalAmount()).write(SEPARATOR);
+        out.write(record.getWithdrawalDate()).write(SEPARATOR);
+        out.write(record.getLoanAmount()).write(SEPARATOR);
+        out.write(record.getInterestRate()).write(SEPARATOR);
+        out.write(record.getDuration()).write(SEPARATOR);
+        out.write(record.getCalculatedInterest()).write(SEPARATOR);
+        out.write(record.getPaymentAmount()).write(SEPARATOR);
+        out.write(record.getPaymentDate()).newLine();
+    }
+
+    static void writeAll(List<AccountRecord> records, ReportWriter out, boolean compact) {
+        for (AccountRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,41 @@
+class BankingValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String bankName,
+            String branchCode, String address, String accountNumber, String accountType, double balance,
+            String customerName, String email, String phoneNumber, String transactionId,
+            String transactionType, double amount, double depositAmount, String depositDate,
+            double withdrawalAmount, String withdrawalDate, double loanAmount, double interestRate,
+            int duration, double paymentAmount, String paymentDate, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("Entity.createdDate", "Created date cannot be null");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("Entity.updatedDate", "Updated date cannot be null");
+        if (branchCode == null || branchCode.length() < 3)
+            result.add("Bank.branchCode", "Branch code must be at least 3 characters");
+        if (balance < 0)
+            result.add("Account.balance", "Balance must be >= 0");
+        if (!FieldRules.isEmail(email))
+            result.add("Customer.email", "Invalid email format");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("Customer.phoneNumber", "Phone must be 10 digits");
+        if (amount <= 0)
+            result.add("Transaction.amount", "Amount must be > 0");
+        if (depositAmount <= 0)
+            result.add("Deposit.depositAmount", "Deposit amount must be > 0");
+        if (withdrawalAmount <= 0)
+            result.add("Withdrawal.withdrawalAmount", "Withdrawal amount must be > 0");
+        if (loanAmount <= 0)
+            result.add("Loan.loanAmount", "Loan amount must be > 0");
+        if (interestRate <= 0)
+            result.add("Loan.interestRate", "Interest rate must be > 0");
+        if (duration <= 0)
+            result.add("Loan.duration", "Duration must be > 0");
+        if (paymentAmount <= 0)
+            result.add("Payment.paymentAmount", "Payment amount must be > 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Banking", result);
+        return false;
+    }
+}
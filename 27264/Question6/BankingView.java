@@ -0,0 +1,55 @@
+final class BankingView {
+    private final RowSource source;
+    private int row;
+
+    BankingView(RowSource source) {
+        this.source = source;
+    }
+
+    public BankingView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, BankingColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, BankingColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, BankingColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, BankingColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, BankingColumns.UPDATED_DATE); }
+    public String getBankName() { return source.getString(row, BankingColumns.BANK_NAME); }
+    public String getBranchCode() { return source.getString(row, BankingColumns.BRANCH_CODE); }
+    public String getAddress() { return source.getString(row, BankingColumns.ADDRESS); }
+    public String getAccountNumber() { return source.getString(row, BankingColumns.ACCOUNT_NUMBER); }
+    public String getAccountType() { return source.getString(row, BankingColumns.ACCOUNT_TYPE); }
+    public double getBalance() { return source.getDouble(row, BankingColumns.BALANCE); }
+    public String getCustomerName() { return source.getString(row, BankingColumns.CUSTOMER_NAME); }
+    public String getEmail() { return source.getString(row, BankingColumns.EMAIL); }
+    public String getPhoneNumber() { return source.getString(row, BankingColumns.PHONE_NUMBER); }
+    public String getTransactionId() { return source.getString(row, BankingColumns.TRANSACTION_ID); }
+    public String getTransactionType() { return source.getString(row, BankingColumns.TRANSACTION_TYPE); }
+    public double getAmount() { return source.getDouble(row, BankingColumns.AMOUNT); }
+    public double getDepositAmount() { return source.getDouble(row, BankingColumns.DEPOSIT_AMOUNT); }
+    public String getDepositDate() { return source.getString(row, BankingColumns.DEPOSIT_DATE); }
+    public int getDepositDay() { return source.getInt(row, BankingColumns.DEPOSIT_DATE); }
+    public double getWithdrawalAmount() { return source.getDouble(row, BankingColumns.WITHDRAWAL_AMOUNT); }
+    public String getWithdrawalDate() { return source.getString(row, BankingColumns.WITHDRAWAL_DATE); }
+    public int getWithdrawalDay() { return source.getInt(row, BankingColumns.WITHDRAWAL_DATE); }
+    public double getLoanAmount() { return source.getDouble(row, BankingColumns.LOAN_AMOUNT); }
+    public double getInterestRate() { return source.getDouble(row, BankingColumns.INTEREST_RATE); }
+    public int getDuration() { return source.getInt(row, BankingColumns.DURATION); }
+    public double getPaymentAmount() { return source.getDouble(row, BankingColumns.PAYMENT_AMOUNT); }
+    public String getPaymentDate() { return source.getString(row, BankingColumns.PAYMENT_DATE); }
+    public int getPaymentDay() { return source.getInt(row, BankingColumns.PAYMENT_DATE); }
+    public double getCalculatedInterest() { return source.getDouble(row, BankingColumns.CALCULATED_INTEREST); }
+
+    public double calculateInterest() {
+        return Money.toDouble(Money.percent(Money.multiply(cents(BankingColumns.LOAN_AMOUNT), getDuration()),
+            getInterestRate()));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,33 @@
+class Customer extends Account {
+    private String customerName;
+    private String email;
+    private String phoneNumber;
+
+    public Customer(int id, String createdDate, String updatedDate, String bankName,
+                   String branchCode, String address, String accountNumber,
+                   String accountType, double balance, String customerName,
+                   String email, String phoneNumber) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address,
+              accountNumber, accountType, balance);
+        
+        if (!FieldRules.isEmail(email)) 
+            throw new BankingException("Customer.email", "Invalid email format");
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new BankingException("Customer.phoneNumber", "Phone must be 10 digits");
+        
+        this.customerName = customerName;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+    }
+
+    Customer(RowSource source, int row) {
+        super(source, row);
+        this.customerName = source.getString(row, BankingColumns.CUSTOMER_NAME);
+        this.email = source.getString(row, BankingColumns.EMAIL);
+        this.phoneNumber = source.getString(row, BankingColumns.PHONE_NUMBER);
+    }
+
+    public String getCustomerName() { return customerName; }
+    public String getEmail() { return email; }
+    public String getPhoneNumber() { return phoneNumber; }
+}
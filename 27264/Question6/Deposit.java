@@ -0,0 +1,34 @@
+class Deposit extends Transaction {
+    private double depositAmount;
+    private int depositDay;
+    private String depositDateText;
+
+    public Deposit(int id, String createdDate, String updatedDate, String bankName,
+                  String branchCode, String address, String accountNumber,
+                  String accountType, double balance, String customerName,
+                  String email, String phoneNumber, String transactionId,
+                  String transactionType, double amount, double depositAmount,
+                  String depositDate) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address,
+              accountNumber, accountType, balance, customerName, email, phoneNumber,
+              transactionId, transactionType, amount);
+        
+        if (depositAmount <= 0) throw new BankingException("Deposit.depositAmount", "Deposit amount must be > 0");
+        
+        this.depositAmount = depositAmount;
+        this.depositDay = Dates.parse(depositDate);
+        this.depositDateText = Dates.unparsed(depositDate, depositDay);
+    }
+
+    Deposit(RowSource source, int row) {
+        super(source, row);
+        String depositDate = source.getString(row, BankingColumns.DEPOSIT_DATE);
+        this.depositAmount = source.getDouble(row, BankingColumns.DEPOSIT_AMOUNT);
+        this.depositDay = Dates.parse(depositDate);
+        this.depositDateText = Dates.unparsed(depositDate, depositDay);
+    }
+
+    public double getDepositAmount() { return depositAmount; }
+    public String getDepositDate() { return Dates.text(depositDay, depositDateText); }
+    public int getDepositDay() { return depositDay; }
+}
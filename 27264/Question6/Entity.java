@@ -0,0 +1,38 @@
+class Entity {
+    private int id;
+    private int createdDay;
+    private String createdDateText;
+    private int updatedDay;
+    private String updatedDateText;
+
+    public Entity(int id, String createdDate, String updatedDate) throws BankingException {
+        if (id <= 0) throw new BankingException("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty()) 
+            throw new BankingException("Entity.createdDate", "Created date cannot be null");
+        if (updatedDate == null || updatedDate.trim().isEmpty()) 
+            throw new BankingException("Entity.updatedDate", "Updated date cannot be null");
+        
+        this.id = id;
+        this.createdDay = Dates.parse(createdDate);
+        this.createdDateText = Dates.unparsed(createdDate, createdDay);
+        this.updatedDay = Dates.parse(updatedDate);
+        this.updatedDateText = Dates.unparsed(updatedDate, updatedDay);
+    }
+
+    // Reads a snapshot row as BankingColumns.append stored it, without validating it again.
+    Entity(RowSource source, int row) {
+        String createdDate = source.getString(row, BankingColumns.CREATED_DATE);
+        String updatedDate = source.getString(row, BankingColumns.UPDATED_DATE);
+        this.id = source.getInt(row, BankingColumns.ID);
+        this.createdDay = Dates.parse(createdDate);
+        this.createdDateText = Dates.unparsed(createdDate, createdDay);
+        this.updatedDay = Dates.parse(updatedDate);
+        this.updatedDateText = Dates.unparsed(updatedDate, updatedDay);
+    }
+
+    public int getId() { return id; }
+    public String getCreatedDate() { return Dates.text(createdDay, createdDateText); }
+    public int getCreatedDay() { return createdDay; }
+    public String getUpdatedDate() { return Dates.text(updatedDay, updatedDateText); }
+    public int getUpdatedDay() { return updatedDay; }
+}
@@ -0,0 +1,37 @@
+class Loan extends Withdrawal {
+    private double loanAmount;
+    private double interestRate;
+    private int duration;
+
+    public Loan(int id, String createdDate, String updatedDate, String bankName,
+               String branchCode, String address, String accountNumber,
+               String accountType, double balance, String customerName,
+               String email, String phoneNumber, String transactionId,
+               String transactionType, double amount, double depositAmount,
+               String depositDate, double withdrawalAmount, String withdrawalDate,
+               double loanAmount, double interestRate, int duration) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address,
+              accountNumber, accountType, balance, customerName, email, phoneNumber,
+              transactionId, transactionType, amount, depositAmount, depositDate,
+              withdrawalAmount, withdrawalDate);
+        
+        if (loanAmount <= 0) throw new BankingException("Loan.loanAmount", "Loan amount must be > 0");
+        if (interestRate <= 0) throw new BankingException("Loan.interestRate", "Interest rate must be > 0");
+        if (duration <= 0) throw new BankingException("Loan.duration", "Duration must be > 0");
+        
+        this.loanAmount = loanAmount;
+        this.interestRate = interestRate;
+        this.duration = duration;
+    }
+
+    Loan(RowSource source, int row) {
+        super(source, row);
+        this.loanAmount = source.getDouble(row, BankingColumns.LOAN_AMOUNT);
+        this.interestRate = source.getDouble(row, BankingColumns.INTEREST_RATE);
+        this.duration = source.getInt(row, BankingColumns.DURATION);
+    }
+
+    public double getLoanAmount() { return loanAmount; }
+    public double getInterestRate() { return interestRate; }
+    public int getDuration() { return duration; }
+}
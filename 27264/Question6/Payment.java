@@ -0,0 +1,37 @@
+class Payment extends Loan {
+    private double paymentAmount;
+    private int paymentDay;
+    private String paymentDateText;
+
+    public Payment(int id, String createdDate, String updatedDate, String bankName,
+                  String branchCode, String address, String accountNumber,
+                  String accountType, double balance, String customerName,
+                  String email, String phoneNumber, String transactionId,
+                  String transactionType, double amount, double depositAmount,
+                  String depositDate, double withdrawalAmount, String withdrawalDate,
+                  double loanAmount, double interestRate, int duration,
+                  double paymentAmount, String paymentDate) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address,
+              accountNumber, accountType, balance, customerName, email, phoneNumber,
+              transactionId, transactionType, amount, depositAmount, depositDate,
+              withdrawalAmount, withdrawalDate, loanAmount, interestRate, duration);
+        
+        if (paymentAmount <= 0) throw new BankingException("Payment.paymentAmount", "Payment amount must be > 0");
+        
+        this.paymentAmount = paymentAmount;
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+    }
+
+    Payment(RowSource source, int row) {
+        super(source, row);
+        String paymentDate = source.getString(row, BankingColumns.PAYMENT_DATE);
+        this.paymentAmount = source.getDouble(row, BankingColumns.PAYMENT_AMOUNT);
+        this.paymentDay = Dates.parse(paymentDate);
+        this.paymentDateText = Dates.unparsed(paymentDate, paymentDay);
+    }
+
+    public double getPaymentAmount() { return paymentAmount; }
+    public String getPaymentDate() { return Dates.text(paymentDay, paymentDateText); }
+    public int getPaymentDay() { return paymentDay; }
+}
@@ -0,0 +1,31 @@
+class Transaction extends Customer {
+    private String transactionId;
+    private String transactionType;
+    private double amount;
+
+    public Transaction(int id, String createdDate, String updatedDate, String bankName,
+                      String branchCode, String address, String accountNumber,
+                      String accountType, double balance, String customerName,
+                      String email, String phoneNumber, String transactionId,
+                      String transactionType, double amount) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address,
+              accountNumber, accountType, balance, customerName, email, phoneNumber);
+        
+        if (amount <= 0) throw new BankingException("Transaction.amount", "Amount must be > 0");
+        
+        this.transactionId = transactionId;
+        this.transactionType = transactionType;
+        this.amount = amount;
+    }
+
+    Transaction(RowSource source, int row) {
+        super(source, row);
+        this.transactionId = source.getString(row, BankingColumns.TRANSACTION_ID);
+        this.transactionType = source.getString(row, BankingColumns.TRANSACTION_TYPE);
+        this.amount = source.getDouble(row, BankingColumns.AMOUNT);
+    }
+
+    public String getTransactionId() { return transactionId; }
+    public String getTransactionType() { return transactionType; }
+    public double getAmount() { return amount; }
+}
@@ -0,0 +1,35 @@
+class Withdrawal extends Deposit {
+    private double withdrawalAmount;
+    private int withdrawalDay;
+    private String withdrawalDateText;
+
+    public Withdrawal(int id, String createdDate, String updatedDate, String bankName,
+                     String branchCode, String address, String accountNumber,
+                     String accountType, double balance, String customerName,
+                     String email, String phoneNumber, String transactionId,
+                     String transactionType, double amount, double depositAmount,
+                     String depositDate, double withdrawalAmount,
+                     String withdrawalDate) throws BankingException {
+        super(id, createdDate, updatedDate, bankName, branchCode, address,
+              accountNumber, accountType, balance, customerName, email, phoneNumber,
+              transactionId, transactionType, amount, depositAmount, depositDate);
+        
+        if (withdrawalAmount <= 0) throw new BankingException("Withdrawal.withdrawalAmount", "Withdrawal amount must be > 0");
+        
+        this.withdrawalAmount = withdrawalAmount;
+        this.withdrawalDay = Dates.parse(withdrawalDate);
+        this.withdrawalDateText = Dates.unparsed(withdrawalDate, withdrawalDay);
+    }
+
+    Withdrawal(RowSource source, int row) {
+        super(source, row);
+        String withdrawalDate = source.getString(row, BankingColumns.WITHDRAWAL_DATE);
+        this.withdrawalAmount = source.getDouble(row, BankingColumns.WITHDRAWAL_AMOUNT);
+        this.withdrawalDay = Dates.parse(withdrawalDate);
+        this.withdrawalDateText = Dates.unparsed(withdrawalDate, withdrawalDay);
+    }
+
+    public double getWithdrawalAmount() { return withdrawalAmount; }
+    public String getWithdrawalDate() { return Dates.text(withdrawalDay, withdrawalDateText); }
+    public int getWithdrawalDay() { return withdrawalDay; }
+}
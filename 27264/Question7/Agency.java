@@ -0,0 +1,44 @@
+class Agency extends Entity {
+    private AgencyProfile profile;
+
+    public Agency(int id, String createdDate, String updatedDate, String agencyName, 
+                   String address, String phoneNumber, String email) throws RealEstateException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = AgencyProfile.of(agencyName, address, phoneNumber, email);
+    }
+
+    Agency(RowSource source, int row) {
+        super(source, row);
+        String agencyName = source.getString(row, RealEstateColumns.AGENCY_NAME);
+        String address = source.getString(row, RealEstateColumns.ADDRESS);
+        String phoneNumber = source.getString(row, RealEstateColumns.PHONE_NUMBER);
+        String email = source.getString(row, RealEstateColumns.EMAIL);
+        this.profile = AgencyProfile.restore(agencyName, address, phoneNumber, email);
+    }
+
+    public String getAgencyName() { return profile.getAgencyName(); }
+    public void setAgencyName(String agencyName) {
+        changing(RealEstateColumns.AGENCY_NAME);
+        profile = profile.withAgencyName(agencyName);
+        changed(RealEstateColumns.AGENCY_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(RealEstateColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(RealEstateColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(RealEstateColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(RealEstateColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(RealEstateColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(RealEstateColumns.EMAIL);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class AgencyProfile {
+    private static final Interner<AgencyProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<AgencyProfile> RESTORED = new Interner<>();
+
+    private final String agencyName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private AgencyProfile(String agencyName, String address, String phoneNumber, String email) {
+        this.agencyName = agencyName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(agencyName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static AgencyProfile of(String agencyName, String address, String phoneNumber, String email)
+            throws RealEstateException {
+        AgencyProfile candidate = new AgencyProfile(agencyName, address, phoneNumber, email);
+        AgencyProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new RealEstateException("Agency.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new RealEstateException("Agency.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static AgencyProfile restore(String agencyName, String address, String phoneNumber, String email) {
+        AgencyProfile candidate = new AgencyProfile(agencyName, address, phoneNumber, email);
+        AgencyProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getAgencyName() { return agencyName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    AgencyProfile withAgencyName(String agencyName) {
+        return new AgencyProfile(agencyName, address, phoneNumber, email);
+    }
+
+    AgencyProfile withAddress(String address) {
+        return new AgencyProfile(agencyName, address, phoneNumber, email);
+    }
+
+    AgencyProfile withPhoneNumber(String phoneNumber) {
+        return new AgencyProfile(agencyName, address, phoneNumber, email);
+    }
+
+    AgencyProfile withEmail(String email) {
+        return new AgencyProfile(agencyName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof AgencyProfile)) return false;
+        AgencyProfile that = (AgencyProfile) other;
+        return hash == that.hash
+            && Objects.equals(agencyName, that.agencyName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
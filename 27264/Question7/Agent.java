@@ -0,0 +1,31 @@
+class Agent extends Agency {
+    private AgentProfile profile;
+
+    public Agent(int id, String createdDate, String updatedDate, String agencyName,
+                  String address, String phoneNumber, String email, String agentName,
+                  String agentCode) throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email);
+        
+        this.profile = AgentProfile.of(agentName, agentCode);
+    }
+
+    Agent(RowSource source, int row) {
+        super(source, row);
+        String agentName = source.getString(row, RealEstateColumns.AGENT_NAME);
+        String agentCode = source.getString(row, RealEstateColumns.AGENT_CODE);
+        this.profile = AgentProfile.restore(agentName, agentCode);
+    }
+
+    public String getAgentName() { return profile.getAgentName(); }
+    public void setAgentName(String agentName) {
+        changing(RealEstateColumns.AGENT_NAME);
+        profile = profile.withAgentName(agentName);
+        changed(RealEstateColumns.AGENT_NAME);
+    }
+    public String getAgentCode() { return profile.getAgentCode(); }
+    public void setAgentCode(String agentCode) {
+        changing(RealEstateColumns.AGENT_CODE);
+        profile = profile.withAgentCode(agentCode);
+        changed(RealEstateColumns.AGENT_CODE);
+    }
+}
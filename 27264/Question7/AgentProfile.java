@@ -0,0 +1,63 @@
+import java.util.Objects;
+
+final class AgentProfile {
+    private static final Interner<AgentProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<AgentProfile> RESTORED = new Interner<>();
+
+    private final String agentName;
+    private final String agentCode;
+    private final int hash;
+
+    private AgentProfile(String agentName, String agentCode) {
+        this.agentName = agentName;
+        this.agentCode = agentCode;
+        int hash = Objects.hashCode(agentName);
+        hash = 31 * hash + Objects.hashCode(agentCode);
+        this.hash = hash;
+    }
+
+    static AgentProfile of(String agentName, String agentCode) throws RealEstateException {
+        AgentProfile candidate = new AgentProfile(agentName, agentCode);
+        AgentProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isCode(agentCode)) 
+            throw new RealEstateException("Agent.agentCode", "Agent code must be alphanumeric and at least 3 characters");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static AgentProfile restore(String agentName, String agentCode) {
+        AgentProfile candidate = new AgentProfile(agentName, agentCode);
+        AgentProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getAgentName() { return agentName; }
+    public String getAgentCode() { return agentCode; }
+
+    AgentProfile withAgentName(String agentName) {
+        return new AgentProfile(agentName, agentCode);
+    }
+
+    AgentProfile withAgentCode(String agentCode) {
+        return new AgentProfile(agentName, agentCode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof AgentProfile)) return false;
+        AgentProfile that = (AgentProfile) other;
+        return hash == that.hash
+            && Objects.equals(agentName, that.agentName)
+            && Objects.equals(agentCode, that.agentCode);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,58 @@
+class Agreement extends Buyer {
+    private int agreementDay;
+    private String agreementDateText;
+    private int agreementNumber;
+    private double agreementFee;
+
+    public Agreement(int id, String createdDate, String updatedDate, String agencyName,
+                    String address, String phoneNumber, String email, String agentName,
+                    String agentCode, String propertyType, String location,
+                    String propertyEmail, String phone, String sellerName, String sellerType,
+                    int yearsOwned, String buyerName, int age, String buyerType,
+                    String contactNumber, String agreementDate, int agreementNumber,
+                    double agreementFee) throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email,
+              agentName, agentCode, propertyType, location, propertyEmail, phone,
+              sellerName, sellerType, yearsOwned, buyerName, age, buyerType, contactNumber);
+        
+        if (agreementDate == null || agreementDate.trim().isEmpty()) 
+            throw new RealEstateException("Agreement.agreementDate", "Agreement date cannot be null");
+        if (agreementFee <= 0) 
+            throw new RealEstateException("Agreement.agreementFee", "Agreement fee must be > 0");
+        
+        this.agreementDay = Dates.parse(agreementDate);
+        this.agreementDateText = Dates.unparsed(agreementDate, agreementDay);
+        this.agreementNumber = agreementNumber;
+        this.agreementFee = agreementFee;
+    }
+
+    Agreement(RowSource source, int row) {
+        super(source, row);
+        String agreementDate = source.getString(row, RealEstateColumns.AGREEMENT_DATE);
+        this.agreementDay = Dates.parse(agreementDate);
+        this.agreementDateText = Dates.unparsed(agreementDate, agreementDay);
+        this.agreementNumber = source.getInt(row, RealEstateColumns.AGREEMENT_NUMBER);
+        this.agreementFee = source.getDouble(row, RealEstateColumns.AGREEMENT_FEE);
+    }
+
+    public String getAgreementDate() { return Dates.text(agreementDay, agreementDateText); }
+    public int getAgreementDay() { return agreementDay; }
+    public void setAgreementDate(String agreementDate) {
+        changing(RealEstateColumns.AGREEMENT_DATE);
+        this.agreementDay = Dates.parse(agreementDate);
+        this.agreementDateText = Dates.unparsed(agreementDate, agreementDay);
+        changed(RealEstateColumns.AGREEMENT_DATE);
+    }
+    public int getAgreementNumber() { return agreementNumber; }
+    public void setAgreementNumber(int agreementNumber) {
+        changing(RealEstateColumns.AGREEMENT_NUMBER);
+        this.agreementNumber = agreementNumber;
+        changed(RealEstateColumns.AGREEMENT_NUMBER);
+    }
+    public double getAgreementFee() { return agreementFee; }
+    public void setAgreementFee(double agreementFee) {
+        changing(RealEstateColumns.AGREEMENT_FEE);
+        this.agreementFee = agreementFee;
+        changed(RealEstateColumns.AGREEMENT_FEE);
+    }
+}
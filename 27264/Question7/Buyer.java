@@ -0,0 +1,64 @@
+class Buyer extends Seller {
+    private String buyerName;
+    private int age;
+    private byte buyerType;
+    private String buyerTypeText;
+    private String contactNumber;
+
+    public Buyer(int id, String createdDate, String updatedDate, String agencyName,
+                  String address, String phoneNumber, String email, String agentName,
+                  String agentCode, String propertyType, String location,
+                  String propertyEmail, String phone, String sellerName, String sellerType,
+                  int yearsOwned, String buyerName, int age, String buyerType,
+                  String contactNumber) throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email,
+              agentName, agentCode, propertyType, location, propertyEmail, phone,
+              sellerName, sellerType, yearsOwned);
+        
+        if (age <= 0) throw new RealEstateException("Buyer.age", "Age must be > 0");
+        if (!BuyerType.CODES.contains(buyerType)) 
+            throw new RealEstateException("Buyer.buyerType", "Buyer type must be 'FirstTime', 'Investor', or 'Corporate'");
+        
+        this.buyerName = buyerName;
+        this.age = age;
+        this.buyerType = BuyerType.CODES.parse(buyerType);
+        this.contactNumber = contactNumber;
+    }
+
+    Buyer(RowSource source, int row) {
+        super(source, row);
+        String buyerType = source.getString(row, RealEstateColumns.BUYER_TYPE);
+        this.buyerName = source.getString(row, RealEstateColumns.BUYER_NAME);
+        this.age = source.getInt(row, RealEstateColumns.AGE);
+        this.buyerType = BuyerType.CODES.parse(buyerType);
+        this.buyerTypeText = BuyerType.CODES.unparsed(buyerType, this.buyerType);
+        this.contactNumber = source.getString(row, RealEstateColumns.CONTACT_NUMBER);
+    }
+
+    public String getBuyerName() { return buyerName; }
+    public void setBuyerName(String buyerName) {
+        changing(RealEstateColumns.BUYER_NAME);
+        this.buyerName = buyerName;
+        changed(RealEstateColumns.BUYER_NAME);
+    }
+    public int getAge() { return age; }
+    public void setAge(int age) {
+        changing(RealEstateColumns.AGE);
+        this.age = age;
+        changed(RealEstateColumns.AGE);
+    }
+    public String getBuyerType() { return BuyerType.CODES.text(buyerType, buyerTypeText); }
+    public byte getBuyerTypeCode() { return buyerType; }
+    public void setBuyerType(String buyerType) {
+        changing(RealEstateColumns.BUYER_TYPE);
+        this.buyerType = BuyerType.CODES.parse(buyerType);
+        this.buyerTypeText = BuyerType.CODES.unparsed(buyerType, this.buyerType);
+        changed(RealEstateColumns.BUYER_TYPE);
+    }
+    public String getContactNumber() { return contactNumber; }
+    public void setContactNumber(String contactNumber) {
+        changing(RealEstateColumns.CONTACT_NUMBER);
+        this.contactNumber = contactNumber;
+        changed(RealEstateColumns.CONTACT_NUMBER);
+    }
+}
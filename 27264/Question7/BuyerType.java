@@ -0,0 +1,18 @@
+enum BuyerType {
+    FIRST_TIME("FirstTime"),
+    INVESTOR("Investor"),
+    CORPORATE("Corporate");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    BuyerType(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
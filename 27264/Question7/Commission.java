@@ -0,0 +1,53 @@
+class Commission extends Payment {
+    private double commissionRate;
+    private double taxRate;
+    private double totalCommission;
+
+    public Commission(int id, String createdDate, String updatedDate, String agencyName,
+               String address, String phoneNumber, String email, String agentName,
+               String agentCode, String propertyType, String location,
+               String propertyEmail, String phone, String sellerName, String sellerType,
+               int yearsOwned, String buyerName, int age, String buyerType,
+               String contactNumber, String agreementDate, int agreementNumber,
+               double agreementFee, String paymentMethod, String transactionId,
+               double price, double commissionRate, double taxRate) 
+               throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email,
+              agentName, agentCode, propertyType, location, propertyEmail, phone,
+              sellerName, sellerType, yearsOwned, buyerName, age, buyerType, contactNumber,
+              agreementDate, agreementNumber, agreementFee, paymentMethod, transactionId, price);
+        
+        if (commissionRate <= 0) throw new RealEstateException("Commission.commissionRate", "Commission rate must be > 0");
+        if (taxRate < 0) throw new RealEstateException("Commission.taxRate", "Tax rate must be >= 0");
+        
+        this.commissionRate = commissionRate;
+        this.taxRate = taxRate;
+        this.totalCommission = 0;
+    }
+
+    Commission(RowSource source, int row) {
+        super(source, row);
+        this.commissionRate = source.getDouble(row, RealEstateColumns.COMMISSION_RATE);
+        this.taxRate = source.getDouble(row, RealEstateColumns.TAX_RATE);
+        this.totalCommission = source.getDouble(row, RealEstateColumns.TOTAL_COMMISSION);
+    }
+
+    public double getCommissionRate() { return commissionRate; }
+    public void setCommissionRate(double commissionRate) {
+        changing(RealEstateColumns.COMMISSION_RATE);
+        this.commissionRate = commissionRate;
+        changed(RealEstateColumns.COMMISSION_RATE);
+    }
+    public double getTaxRate() { return taxRate; }
+    public void setTaxRate(double taxRate) {
+        changing(RealEstateColumns.TAX_RATE);
+        this.taxRate = taxRate;
+        changed(RealEstateColumns.TAX_RATE);
+    }
+    public double getTotalCommission() { return totalCommission; }
+    public void setTotalCommission(double totalCommission) {
+        changing(RealEstateColumns.TOTAL_COMMISSION);
+        this.totalCommission = totalCommission;
+        changed(RealEstateColumns.TOTAL_COMMISSION);
+    }
+}
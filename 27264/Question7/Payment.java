@@ -0,0 +1,56 @@
+class Payment extends Agreement {
+    private String paymentMethod;
+    private String transactionId;
+    private double price;
+
+    public Payment(int id, String createdDate, String updatedDate, String agencyName,
+                    String address, String phoneNumber, String email, String agentName,
+                    String agentCode, String propertyType, String location,
+                    String propertyEmail, String phone, String sellerName, String sellerType,
+                    int yearsOwned, String buyerName, int age, String buyerType,
+                    String contactNumber, String agreementDate, int agreementNumber,
+                    double agreementFee, String paymentMethod, String transactionId,
+                    double price) throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email,
+              agentName, agentCode, propertyType, location, propertyEmail, phone,
+              sellerName, sellerType, yearsOwned, buyerName, age, buyerType, contactNumber,
+              agreementDate, agreementNumber, agreementFee);
+        
+        if (price <= 0) 
+            throw new RealEstateException("Payment.price", "Price must be > 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
+            throw new RealEstateException("Payment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty()) 
+            throw new RealEstateException("Payment.transactionId", "Transaction ID cannot be empty");
+        
+        this.paymentMethod = paymentMethod;
+        this.transactionId = transactionId;
+        this.price = price;
+    }
+
+    Payment(RowSource source, int row) {
+        super(source, row);
+        this.paymentMethod = source.getString(row, RealEstateColumns.PAYMENT_METHOD);
+        this.transactionId = source.getString(row, RealEstateColumns.TRANSACTION_ID);
+        this.price = source.getDouble(row, RealEstateColumns.PRICE);
+    }
+
+    public String getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(String paymentMethod) {
+        changing(RealEstateColumns.PAYMENT_METHOD);
+        this.paymentMethod = paymentMethod;
+        changed(RealEstateColumns.PAYMENT_METHOD);
+    }
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) {
+        changing(RealEstateColumns.TRANSACTION_ID);
+        this.transactionId = transactionId;
+        changed(RealEstateColumns.TRANSACTION_ID);
+    }
+    public double getPrice() { return price; }
+    public void setPrice(double price) {
+        changing(RealEstateColumns.PRICE);
+        this.price = price;
+        changed(RealEstateColumns.PRICE);
+    }
+}
@@ -0,0 +1,59 @@
+class Property extends Agent {
+    private String propertyType;
+    private String location;
+    private String propertyEmail;
+    private String phone;
+
+    public Property(int id, String createdDate, String updatedDate, String agencyName,
+                  String address, String phoneNumber, String email, String agentName,
+                  String agentCode, String propertyType, String location,
+                  String propertyEmail, String phone) throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email,
+              agentName, agentCode);
+        
+        if (propertyType == null || propertyType.trim().isEmpty()) 
+            throw new RealEstateException("Property.propertyType", "Property type cannot be empty");
+        if (!FieldRules.isEmail(propertyEmail)) 
+            throw new RealEstateException("Property.propertyEmail", "Invalid property email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new RealEstateException("Property.phone", "Property phone must be exactly 10 digits");
+        
+        this.propertyType = propertyType;
+        this.location = location;
+        this.propertyEmail = propertyEmail;
+        this.phone = phone;
+    }
+
+    Property(RowSource source, int row) {
+        super(source, row);
+        this.propertyType = source.getString(row, RealEstateColumns.PROPERTY_TYPE);
+        this.location = source.getString(row, RealEstateColumns.LOCATION);
+        this.propertyEmail = source.getString(row, RealEstateColumns.PROPERTY_EMAIL);
+        this.phone = source.getString(row, RealEstateColumns.PHONE);
+    }
+
+    public String getPropertyType() { return propertyType; }
+    public void setPropertyType(String propertyType) {
+        changing(RealEstateColumns.PROPERTY_TYPE);
+        this.propertyType = propertyType;
+        changed(RealEstateColumns.PROPERTY_TYPE);
+    }
+    public String getLocation() { return location; }
+    public void setLocation(String location) {
+        changing(RealEstateColumns.LOCATION);
+        this.location = location;
+        changed(RealEstateColumns.LOCATION);
+    }
+    public String getPropertyEmail() { return propertyEmail; }
+    public void setPropertyEmail(String propertyEmail) {
+        changing(RealEstateColumns.PROPERTY_EMAIL);
+        this.propertyEmail = propertyEmail;
+        changed(RealEstateColumns.PROPERTY_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(RealEstateColumns.PHONE);
+        this.phone = phone;
+        changed(RealEstateColumns.PHONE);
+    }
+}
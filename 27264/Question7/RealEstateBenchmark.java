@@ -0,0 +1,153 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class RealEstateBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        RealEstateRecord record = newRecord(1);
+
+        bench.header("RealEstateRecord");
+        bench.run("new Entity", i -> new Entity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new RealEstateRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("calculateCommission", i -> record.calculateCommission());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            RealEstateReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            RealEstateReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("RealEstateRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by RealEstateValidator", i -> RealEstateValidator.validate(-1,
+            "2024-01-01", "2024-01-02", "Prime Homes", "KG 11 Ave", "0781234567",
+            "info@primehomes.rw", "Kevin Habimana", "AGT01", "Apartment", "Kacyiru",
+            "listing@primehomes.rw", "0789876543", "Olivier Ndayisaba", "Individual", 4,
+            "Claire Mukamana", 31, "FirstTime", "0781112223", "2024-07-01", 1001, 500.0, "Transfer",
+            "TX7788", 150000.0, 3.0, 18.0, result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("RealEstateRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        RealEstateRecord[] records = new RealEstateRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(RealEstateColumns.SCHEMA, rows);
+        for (RealEstateRecord r : records) RealEstateColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        RealEstateView view = new RealEstateView(table);
+        bench.runDouble("calculateCommission over records", i -> {
+            double sum = 0;
+            for (RealEstateRecord r : records) sum += r.calculateCommission();
+            return sum;
+        });
+        bench.runDouble("calculateCommission over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateCommission();
+            return sum;
+        });
+        bench.run("calculateCommission column kernel", i -> {
+            RealEstateColumns.calculateCommission(table);
+            return table;
+        });
+        Path file = Files.createTempFile("RealEstateRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, RealEstateColumns.SCHEMA)) {
+            for (RealEstateRecord r : records) RealEstateColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, RealEstateColumns.SCHEMA)) {
+            RealEstateView mapped = new RealEstateView(reader);
+            bench.runDouble("calculateCommission over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).calculateCommission();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<RealEstateRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            RealEstateReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            RealEstateReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws RealEstateException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        RealEstateRecord[] records = new RealEstateRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (RealEstateException e) {
+            return e;
+        }
+    }
+
+    static RealEstateRecord newRecord(int id) throws RealEstateException {
+        return new RealEstateRecord(id, "2024-01-01", "2024-01-02", "Prime Homes", "KG 11 Ave",
+            "0781234567", "info@primehomes.rw", "Kevin Habimana", "AGT01", "Apartment", "Kacyiru",
+            "listing@primehomes.rw", "0789876543", "Olivier Ndayisaba", "Individual", 4,
+            "Claire Mukamana", 31, "FirstTime", "0781112223", "2024-07-01", 1001, 500.0, "Transfer",
+            "TX7788", 150000.0, 3.0, 18.0);
+    }
+
+    static RealEstateRecord newParsedRecord(int id, int organization) throws RealEstateException {
+        return new RealEstateRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "Prime Homes" + organization, fresh("KG 11 Ave"), fresh("0781234567"),
+            fresh("info@primehomes.rw"), fresh("Kevin Habimana"), fresh("AGT01"),
+            fresh("Apartment"), fresh("Kacyiru"), fresh("listing@primehomes.rw"),
+            fresh("0789876543"), fresh("Olivier Ndayisaba"), fresh("Individual"), 4,
+            fresh("Claire Mukamana"), 31, fresh("FirstTime"), fresh("0781112223"),
+            fresh("2024-07-01"), 1001, 500.0, fresh("Transfer"), fresh("TX7788"), 150000.0, 3.0,
+            18.0);
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
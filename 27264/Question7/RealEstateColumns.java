@@ -0,0 +1,140 @@
+import java.util.Collection;
+
+final class RealEstateColumns {
+    static final Schema SCHEMA = new Schema("RealEstateRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int AGENCY_NAME = SCHEMA.add("agencyName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int AGENT_NAME = SCHEMA.add("agentName", ColumnType.DICT);
+    static final int AGENT_CODE = SCHEMA.add("agentCode", ColumnType.DICT);
+    static final int PROPERTY_TYPE = SCHEMA.add("propertyType", ColumnType.DICT);
+    static final int LOCATION = SCHEMA.add("location", ColumnType.DICT);
+    static final int PROPERTY_EMAIL = SCHEMA.add("propertyEmail", ColumnType.DICT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.DICT);
+    static final int SELLER_NAME = SCHEMA.add("sellerName", ColumnType.DICT);
+    static final int SELLER_TYPE = SCHEMA.add("sellerType", SellerType.CODES);
+    static final int YEARS_OWNED = SCHEMA.add("yearsOwned", ColumnType.INT);
+    static final int BUYER_NAME = SCHEMA.add("buyerName", ColumnType.TEXT);
+    static final int AGE = SCHEMA.add("age", ColumnType.INT);
+    static final int BUYER_TYPE = SCHEMA.add("buyerType", BuyerType.CODES);
+    static final int CONTACT_NUMBER = SCHEMA.add("contactNumber", ColumnType.TEXT);
+    static final int AGREEMENT_DATE = SCHEMA.add("agreementDate", ColumnType.DATE);
+    static final int AGREEMENT_NUMBER = SCHEMA.add("agreementNumber", ColumnType.INT);
+    static final int AGREEMENT_FEE = SCHEMA.add("agreementFee", ColumnType.MONEY);
+    static final int PAYMENT_METHOD = SCHEMA.add("paymentMethod", ColumnType.DICT);
+    static final int TRANSACTION_ID = SCHEMA.add("transactionId", ColumnType.TEXT);
+    static final int PRICE = SCHEMA.add("price", ColumnType.MONEY);
+    static final int COMMISSION_RATE = SCHEMA.add("commissionRate", ColumnType.DOUBLE);
+    static final int TAX_RATE = SCHEMA.add("taxRate", ColumnType.DOUBLE);
+    static final int TOTAL_COMMISSION = SCHEMA.add("totalCommission", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<RealEstateRecord> ACCESSORS = new ColumnAccessors<RealEstateRecord>(SCHEMA)
+        .addInt(ID, RealEstateRecord::getId, RealEstateRecord::setId)
+        .addString(CREATED_DATE, RealEstateRecord::getCreatedDate, RealEstateRecord::setCreatedDate)
+        .addString(UPDATED_DATE, RealEstateRecord::getUpdatedDate, RealEstateRecord::setUpdatedDate)
+        .addString(AGENCY_NAME, RealEstateRecord::getAgencyName, RealEstateRecord::setAgencyName)
+        .addString(ADDRESS, RealEstateRecord::getAddress, RealEstateRecord::setAddress)
+        .addString(PHONE_NUMBER, RealEstateRecord::getPhoneNumber, RealEstateRecord::setPhoneNumber)
+        .addString(EMAIL, RealEstateRecord::getEmail, RealEstateRecord::setEmail)
+        .addString(AGENT_NAME, RealEstateRecord::getAgentName, RealEstateRecord::setAgentName)
+        .addString(AGENT_CODE, RealEstateRecord::getAgentCode, RealEstateRecord::setAgentCode)
+        .addString(PROPERTY_TYPE, RealEstateRecord::getPropertyType, RealEstateRecord::setPropertyType)
+        .addString(LOCATION, RealEstateRecord::getLocation, RealEstateRecord::setLocation)
+        .addString(PROPERTY_EMAIL, RealEstateRecord::getPropertyEmail, RealEstateRecord::setPropertyEmail)
+        .addString(PHONE, RealEstateRecord::getPhone, RealEstateRecord::setPhone)
+        .addString(SELLER_NAME, RealEstateRecord::getSellerName, RealEstateRecord::setSellerName)
+        .addString(SELLER_TYPE, RealEstateRecord::getSellerType, RealEstateRecord::setSellerType)
+        .addInt(YEARS_OWNED, RealEstateRecord::getYearsOwned, RealEstateRecord::setYearsOwned)
+        .addString(BUYER_NAME, RealEstateRecord::getBuyerName, RealEstateRecord::setBuyerName)
+        .addInt(AGE, RealEstateRecord::getAge, RealEstateRecord::setAge)
+        .addString(BUYER_TYPE, RealEstateRecord::getBuyerType, RealEstateRecord::setBuyerType)
+        .addString(CONTACT_NUMBER, RealEstateRecord::getContactNumber, RealEstateRecord::setContactNumber)
+        .addString(AGREEMENT_DATE, RealEstateRecord::getAgreementDate, RealEstateRecord::setAgreementDate)
+        .addInt(AGREEMENT_NUMBER, RealEstateRecord::getAgreementNumber, RealEstateRecord::setAgreementNumber)
+        .addDouble(AGREEMENT_FEE, RealEstateRecord::getAgreementFee, RealEstateRecord::setAgreementFee)
+        .addString(PAYMENT_METHOD, RealEstateRecord::getPaymentMethod, RealEstateRecord::setPaymentMethod)
+        .addString(TRANSACTION_ID, RealEstateRecord::getTransactionId, RealEstateRecord::setTransactionId)
+        .addDouble(PRICE, RealEstateRecord::getPrice, RealEstateRecord::setPrice)
+        .addDouble(COMMISSION_RATE, RealEstateRecord::getCommissionRate, RealEstateRecord::setCommissionRate)
+        .addDouble(TAX_RATE, RealEstateRecord::getTaxRate, RealEstateRecord::setTaxRate)
+        .addDouble(TOTAL_COMMISSION, RealEstateRecord::getTotalCommission, RealEstateRecord::setTotalCommission)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "contactNumber", "transactionId" };
+
+    static RecordIndexes<RealEstateRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, RealEstateRecord::indexedBy, expectedSize, columns);
+    }
+
+    private RealEstateColumns() {
+    }
+
+    static int append(RowSink table, RealEstateRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, AGENCY_NAME, record.getAgencyName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, AGENT_NAME, record.getAgentName());
+        table.setString(row, AGENT_CODE, record.getAgentCode());
+        table.setString(row, PROPERTY_TYPE, record.getPropertyType());
+        table.setString(row, LOCATION, record.getLocation());
+        table.setString(row, PROPERTY_EMAIL, record.getPropertyEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, SELLER_NAME, record.getSellerName());
+        table.setString(row, SELLER_TYPE, record.getSellerType());
+        table.setInt(row, YEARS_OWNED, record.getYearsOwned());
+        table.setString(row, BUYER_NAME, record.getBuyerName());
+        table.setInt(row, AGE, record.getAge());
+        table.setString(row, BUYER_TYPE, record.getBuyerType());
+        table.setString(row, CONTACT_NUMBER, record.getContactNumber());
+        table.setString(row, AGREEMENT_DATE, record.getAgreementDate());
+        table.setInt(row, AGREEMENT_NUMBER, record.getAgreementNumber());
+        table.setDouble(row, AGREEMENT_FEE, record.getAgreementFee());
+        table.setString(row, PAYMENT_METHOD, record.getPaymentMethod());
+        table.setString(row, TRANSACTION_ID, record.getTransactionId());
+        table.setDouble(row, PRICE, record.getPrice());
+        table.setDouble(row, COMMISSION_RATE, record.getCommissionRate());
+        table.setDouble(row, TAX_RATE, record.getTaxRate());
+        table.setDouble(row, TOTAL_COMMISSION, record.getTotalCommission());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static RealEstateRecord record(RowSource source, int row) {
+        return new RealEstateRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<RealEstateRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (RealEstateRecord record : records) append(table, record);
+        calculateCommission(table);
+        return table;
+    }
+
+    static void calculateCommission(ColumnTable table) {
+        long[] price = table.cents(PRICE);
+        double[] commissionRate = table.doubles(COMMISSION_RATE);
+        long[] totalCommission = table.cents(TOTAL_COMMISSION);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalCommission[row] = Money.percent(price[row], commissionRate[row]);
+        }
+    }
+
+    // Total commission per buyer type, indexed by BuyerType.code().
+    static long[] commissionByBuyerType(ColumnTable table) {
+        return BuyerType.CODES.sum(table.bytes(BUYER_TYPE), table.cents(TOTAL_COMMISSION), table.size());
+    }
+}
@@ -0,0 +1,85 @@
+import java.io.IOException;
+
+class RealEstateGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address
+    private static final String[][] AGENCIES = {
+        { "Prime Homes", "primehomes.rw", "KG 11 Ave" },
+        { "Kigali Realty", "kigalirealty.rw", "KN 5 Rd" },
+        { "Hilltop Estates", "hilltop.rw", "KG 9 Ave" },
+        { "Urban Nest", "urbannest.rw", "KK 31 Ave" }
+    };
+    // location, price range in cents; the first entries are the most sought after
+    private static final Object[][] LOCATIONS = {
+        { "Kacyiru", 8_000_000L, 40_000_000L }, { "Nyarutarama", 15_000_000L, 90_000_000L },
+        { "Kimihurura", 10_000_000L, 60_000_000L }, { "Remera", 5_000_000L, 25_000_000L },
+        { "Kicukiro", 4_000_000L, 20_000_000L }, { "Gisozi", 3_000_000L, 15_000_000L }
+    };
+    private static final String[] PROPERTY_TYPES = { "Apartment", "House", "Villa", "Land", "Office" };
+    private static final String[] PAYMENT_METHODS = { "Transfer", "Mortgage", "Cash", "Cheque" };
+    private static final SellerType[] SELLER_TYPES = SellerType.values();
+    private static final BuyerType[] BUYER_TYPES = BuyerType.values();
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.empty(9), SyntheticData.email(11),
+        SyntheticData.phone(12), SyntheticData.unknown(14), SyntheticData.negative(15),
+        SyntheticData.notPositive(17), SyntheticData.unknown(18), SyntheticData.empty(20),
+        SyntheticData.notPositive(22), SyntheticData.empty(23), SyntheticData.empty(24),
+        SyntheticData.notPositive(25), SyntheticData.notPositive(26), SyntheticData.negative(27)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new RealEstateGenerator(), rows, output);
+        SyntheticData.log(output).println(Question7_RealEstateManagement.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return RealEstateBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] agency = source.pick(AGENCIES);
+        Object[] location = source.pickSkewed(LOCATIONS);
+        String agent = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        long price = source.cents((Long) location[1], (Long) location[2]);
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = agency[0];
+        fields[4] = agency[2];
+        fields[5] = source.phone();
+        fields[6] = "info@" + agency[1];
+        fields[7] = agent;
+        fields[8] = source.code("AGT", 3);
+        fields[9] = source.pick(PROPERTY_TYPES);
+        fields[10] = (String) location[0];
+        fields[11] = "listing@" + agency[1];
+        fields[12] = source.phone();
+        fields[13] = source.name();
+        fields[14] = source.pick(SELLER_TYPES).toString();
+        fields[15] = Integer.toString(source.nextInt(25));
+        fields[16] = source.name();
+        fields[17] = Integer.toString(source.between(21, 75));
+        fields[18] = source.pick(BUYER_TYPES).toString();
+        fields[19] = source.phone();
+        fields[20] = SyntheticData.date(created + source.nextInt(60));
+        fields[21] = Integer.toString(1000 + id % 9000);
+        fields[22] = source.money(10_000, 100_000);
+        fields[23] = source.pick(PAYMENT_METHODS);
+        fields[24] = source.code("TX", 6);
+        fields[25] = SyntheticData.money(price);
+        fields[26] = SyntheticData.money(source.between(100, 600));
+        fields[27] = SyntheticData.money(source.between(0, 3_000));
+    }
+}
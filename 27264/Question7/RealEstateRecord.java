@@ -0,0 +1,101 @@
+final class RealEstateRecord extends Commission {
+    // The columns the commission is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS =
+        1L << RealEstateColumns.PRICE | 1L << RealEstateColumns.COMMISSION_RATE;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<RealEstateRecord> indexes;
+
+    public RealEstateRecord(int id, String createdDate, String updatedDate, String agencyName,
+                         String address, String phoneNumber, String email, String agentName,
+                         String agentCode, String propertyType, String location,
+                         String propertyEmail, String phone, String sellerName, String sellerType,
+                         int yearsOwned, String buyerName, int age, String buyerType,
+                         String contactNumber, String agreementDate, int agreementNumber,
+                         double agreementFee, String paymentMethod, String transactionId,
+                         double price, double commissionRate, double taxRate) 
+                         throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email,
+              agentName, agentCode, propertyType, location, propertyEmail, phone,
+              sellerName, sellerType, yearsOwned, buyerName, age, buyerType, contactNumber,
+              agreementDate, agreementNumber, agreementFee, paymentMethod, transactionId, price,
+              commissionRate, taxRate);
+    }
+
+    // Restores a record for RealEstateColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    RealEstateRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double calculateCommission() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double commission = commission();
+        setTotalCommission(commission);
+        computed = true;
+        event.finish("RealEstate", "calculateCommission", getId(), commission);
+        return commission;
+    }
+
+    // Counts this record's commission in one group of totals and keeps the group's sum current as the
+    // record changes, computing the commission first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) calculateCommission();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getTotalCommission()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != RealEstateColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of RealEstate records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<RealEstateRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = RealEstateColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == RealEstateColumns.ID ? (Integer) before : getId(), column, before,
+                RealEstateColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == RealEstateColumns.TOTAL_COMMISSION) {
+            if (tracked != null) tracked.set(Money.of(getTotalCommission()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setTotalCommission(commission());
+        }
+    }
+
+    private double commission() {
+        return Money.toDouble(Money.percent(Money.of(getPrice()), getCommissionRate()));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        RealEstateReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
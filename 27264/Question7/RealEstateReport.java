@@ -0,0 +1,132 @@
+import java.util.List;
+
+class RealEstateReport {
+    private static final String ID = Question7_RealEstateManagement.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== REAL ESTATE MANAGEMENT SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] AGENCY_DETAILS = ReportWriter.label("\n" + ID + " - --- Agency Details ---");
+    private static final byte[] AGENCY_NAME = ReportWriter.label(ID + " - Agency Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] AGENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Agent Details ---");
+    private static final byte[] AGENT_NAME = ReportWriter.label(ID + " - Agent Name: ");
+    private static final byte[] AGENT_CODE = ReportWriter.label(ID + " - Agent Code: ");
+    private static final byte[] PROPERTY_DETAILS = ReportWriter.label("\n" + ID + " - --- Property Details ---");
+    private static final byte[] PROPERTY_TYPE = ReportWriter.label(ID + " - Property Type: ");
+    private static final byte[] LOCATION = ReportWriter.label(ID + " - Location: ");
+    private static final byte[] PROPERTY_EMAIL = ReportWriter.label(ID + " - Property Email: ");
+    private static final byte[] PROPERTY_PHONE = ReportWriter.label(ID + " - Property Phone: ");
+    private static final byte[] SELLER_DETAILS = ReportWriter.label("\n" + ID + " - --- Seller Details ---");
+    private static final byte[] SELLER_NAME = ReportWriter.label(ID + " - Seller Name: ");
+    private static final byte[] SELLER_TYPE = ReportWriter.label(ID + " - Seller Type: ");
+    private static final byte[] YEARS_OWNED = ReportWriter.label(ID + " - Years Owned: ");
+    private static final byte[] BUYER_DETAILS = ReportWriter.label("\n" + ID + " - --- Buyer Details ---");
+    private static final byte[] BUYER_NAME = ReportWriter.label(ID + " - Buyer Name: ");
+    private static final byte[] AGE = ReportWriter.label(ID + " - Age: ");
+    private static final byte[] BUYER_TYPE = ReportWriter.label(ID + " - Buyer Type: ");
+    private static final byte[] CONTACT_NUMBER = ReportWriter.label(ID + " - Contact Number: ");
+    private static final byte[] AGREEMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Agreement Details ---");
+    private static final byte[] AGREEMENT_DATE = ReportWriter.label(ID + " - Agreement Date: ");
+    private static final byte[] AGREEMENT_NUMBER = ReportWriter.label(ID + " - Agreement Number: ");
+    private static final byte[] AGREEMENT_FEE = ReportWriter.label(ID + " - Agreement Fee: $");
+    private static final byte[] PAYMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Payment Details ---");
+    private static final byte[] PAYMENT_METHOD = ReportWriter.label(ID + " - Payment Method: ");
+    private static final byte[] TRANSACTION_ID = ReportWriter.label(ID + " - Transaction ID: ");
+    private static final byte[] PRICE = ReportWriter.label(ID + " - Price: $");
+    private static final byte[] COMMISSION_DETAILS = ReportWriter.label("\n" + ID + " - --- Commission Details ---");
+    private static final byte[] COMMISSION_RATE = ReportWriter.label(ID + " - Commission Rate: ");
+    private static final byte[] PERCENT = ReportWriter.label("%");
+    private static final byte[] TAX_RATE = ReportWriter.label(ID + " - Tax Rate: ");
+    private static final byte[] TOTAL_COMMISSION = ReportWriter.label(ID + " - Total Commission: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ===================================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(RealEstateRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(AGENCY_DETAILS).newLine();
+        out.write(AGENCY_NAME).write(record.getAgencyName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(AGENT_DETAILS).newLine();
+        out.write(AGENT_NAME).write(record.getAgentName()).newLine();
+        out.write(AGENT_CODE).write(record.getAgentCode()).newLine();
+        out.write(PROPERTY_DETAILS).newLine();
+        out.write(PROPERTY_TYPE).write(record.getPropertyType()).newLine();
+        out.write(LOCATION).write(record.getLocation()).newLine();
+        out.write(PROPERTY_EMAIL).write(record.getPropertyEmail()).newLine();
+        out.write(PROPERTY_PHONE).write(record.getPhone()).newLine();
+        out.write(SELLER_DETAILS).newLine();
+        out.write(SELLER_NAME).write(record.getSellerName()).newLine();
+        out.write(SELLER_TYPE).write(record.getSellerType()).newLine();
+        out.write(YEARS_OWNED).write(record.getYearsOwned()).newLine();
+        out.write(BUYER_DETAILS).newLine();
+        out.write(BUYER_NAME).write(record.getBuyerName()).newLine();
+        out.write(AGE).write(record.getAge()).newLine();
+        out.write(BUYER_TYPE).write(record.getBuyerType()).newLine();
+        out.write(CONTACT_NUMBER).write(record.getContactNumber()).newLine();
+        out.write(AGREEMENT_DETAILS).newLine();
+        out.write(AGREEMENT_DATE).write(record.getAgreementDate()).newLine();
+        out.write(AGREEMENT_NUMBER).write(record.getAgreementNumber()).newLine();
+        out.write(AGREEMENT_FEE).write(record.getAgreementFee()).newLine();
+        out.write(PAYMENT_DETAILS).newLine();
+        out.write(PAYMENT_METHOD).write(record.getPaymentMethod()).newLine();
+        out.write(TRANSACTION_ID).write(record.getTransactionId()).newLine();
+        out.write(PRICE).write(record.getPrice()).newLine();
+        out.write(COMMISSION_DETAILS).newLine();
+        out.write(COMMISSION_RATE).write(record.getCommissionRate()).write(PERCENT).newLine();
+        out.write(TAX_RATE).write(record.getTaxRate()).write(PERCENT).newLine();
+        out.write(TOTAL_COMMISSION).write(record.getTotalCommission()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(RealEstateRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getAgencyName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getAgentName()).write(SEPARATOR);
+        out.write(record.getAgentCode()).write(SEPARATOR);
+        out.write(record.getPropertyType()).write(SEPARATOR);
+        out.write(record.getLocation()).write(SEPARATOR);
+        out.write(record.getPropertyEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getSellerName()).write(SEPARATOR);
+        out.write(record.getSellerType()).write(SEPARATOR);
+        out.write(record.getYearsOwned()).write(SEPARATOR);
+        out.write(record.getBuyerName()).write(SEPARATOR);
+        out.write(record.getAge()).write(SEPARATOR);
+        out.write(record.getBuyerType()).write(SEPARATOR);
+        out.write(record.getContactNumber()).write(SEPARATOR);
+        out.write(record.getAgreementDate()).write(SEPARATOR);
+        out.write(record.getAgreementNumber()).write(SEPARATOR);
+        out.write(record.getAgreementFee()).write(SEPARATOR);
+        out.write(record.getPaymentMethod()).write(SEPARATOR);
+        out.write(record.getTransactionId()).write(SEPARATOR);
+        out.write(record.getPrice()).write(SEPARATOR);
+        out.write(record.getCommissionRate()).write(SEPARATOR);
+        out.write(record.getTaxRate()).write(SEPARATOR);
+        out.write(record.getTotalCommission()).newLine();
+    }
+
+    static void writeAll(List<RealEstateRecord> records, ReportWriter out, boolean compact) {
+        for (RealEstateRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,54 @@
+class RealEstateValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String agencyName,
+            String address, String phoneNumber, String email, String agentName, String agentCode,
+            String propertyType, String location, String propertyEmail, String phone, String sellerName,
+            String sellerType, int yearsOwned, String buyerName, int age, String buyerType,
+            String contactNumber, String agreementDate, int agreementNumber, double agreementFee,
+            String paymentMethod, String transactionId, double price, double commissionRate,
+            double taxRate, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("Entity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("Entity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("Agency.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("Agency.email", "Invalid email format");
+        if (!FieldRules.isCode(agentCode))
+            result.add("Agent.agentCode", "Agent code must be alphanumeric and at least 3 characters");
+        if (propertyType == null || propertyType.trim().isEmpty())
+            result.add("Property.propertyType", "Property type cannot be empty");
+        if (!FieldRules.isEmail(propertyEmail))
+            result.add("Property.propertyEmail", "Invalid property email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("Property.phone", "Property phone must be exactly 10 digits");
+        if (!SellerType.CODES.contains(sellerType))
+            result.add("Seller.sellerType", "Seller type must be 'Individual' or 'Corporate'");
+        if (yearsOwned < 0)
+            result.add("Seller.yearsOwned", "Years owned must be >= 0");
+        if (age <= 0)
+            result.add("Buyer.age", "Age must be > 0");
+        if (!BuyerType.CODES.contains(buyerType))
+            result.add("Buyer.buyerType", "Buyer type must be 'FirstTime', 'Investor', or 'Corporate'");
+        if (agreementDate == null || agreementDate.trim().isEmpty())
+            result.add("Agreement.agreementDate", "Agreement date cannot be null");
+        if (agreementFee <= 0)
+            result.add("Agreement.agreementFee", "Agreement fee must be > 0");
+        if (price <= 0)
+            result.add("Payment.price", "Price must be > 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty())
+            result.add("Payment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty())
+            result.add("Payment.transactionId", "Transaction ID cannot be empty");
+        if (commissionRate <= 0)
+            result.add("Commission.commissionRate", "Commission rate must be > 0");
+        if (taxRate < 0)
+            result.add("Commission.taxRate", "Tax rate must be >= 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("RealEstate", result);
+        return false;
+    }
+}
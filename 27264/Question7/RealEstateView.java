@@ -0,0 +1,58 @@
+final class RealEstateView {
+    private final RowSource source;
+    private int row;
+
+    RealEstateView(RowSource source) {
+        this.source = source;
+    }
+
+    public RealEstateView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, RealEstateColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, RealEstateColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, RealEstateColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, RealEstateColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, RealEstateColumns.UPDATED_DATE); }
+    public String getAgencyName() { return source.getString(row, RealEstateColumns.AGENCY_NAME); }
+    public String getAddress() { return source.getString(row, RealEstateColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, RealEstateColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, RealEstateColumns.EMAIL); }
+    public String getAgentName() { return source.getString(row, RealEstateColumns.AGENT_NAME); }
+    public String getAgentCode() { return source.getString(row, RealEstateColumns.AGENT_CODE); }
+    public String getPropertyType() { return source.getString(row, RealEstateColumns.PROPERTY_TYPE); }
+    public String getLocation() { return source.getString(row, RealEstateColumns.LOCATION); }
+    public String getPropertyEmail() { return source.getString(row, RealEstateColumns.PROPERTY_EMAIL); }
+    public String getPhone() { return source.getString(row, RealEstateColumns.PHONE); }
+    public String getSellerName() { return source.getString(row, RealEstateColumns.SELLER_NAME); }
+    public String getSellerType() { return source.getString(row, RealEstateColumns.SELLER_TYPE); }
+    public byte getSellerTypeCode() { return (byte) source.getInt(row, RealEstateColumns.SELLER_TYPE); }
+    public int getYearsOwned() { return source.getInt(row, RealEstateColumns.YEARS_OWNED); }
+    public String getBuyerName() { return source.getString(row, RealEstateColumns.BUYER_NAME); }
+    public int getAge() { return source.getInt(row, RealEstateColumns.AGE); }
+    public String getBuyerType() { return source.getString(row, RealEstateColumns.BUYER_TYPE); }
+    public byte getBuyerTypeCode() { return (byte) source.getInt(row, RealEstateColumns.BUYER_TYPE); }
+    public String getContactNumber() { return source.getString(row, RealEstateColumns.CONTACT_NUMBER); }
+    public String getAgreementDate() { return source.getString(row, RealEstateColumns.AGREEMENT_DATE); }
+    public int getAgreementDay() { return source.getInt(row, RealEstateColumns.AGREEMENT_DATE); }
+    public int getAgreementNumber() { return source.getInt(row, RealEstateColumns.AGREEMENT_NUMBER); }
+    public double getAgreementFee() { return source.getDouble(row, RealEstateColumns.AGREEMENT_FEE); }
+    public String getPaymentMethod() { return source.getString(row, RealEstateColumns.PAYMENT_METHOD); }
+    public String getTransactionId() { return source.getString(row, RealEstateColumns.TRANSACTION_ID); }
+    public double getPrice() { return source.getDouble(row, RealEstateColumns.PRICE); }
+    public double getCommissionRate() { return source.getDouble(row, RealEstateColumns.COMMISSION_RATE); }
+    public double getTaxRate() { return source.getDouble(row, RealEstateColumns.TAX_RATE); }
+    public double getTotalCommission() { return source.getDouble(row, RealEstateColumns.TOTAL_COMMISSION); }
+
+    public double calculateCommission() {
+        return Money.toDouble(Money.percent(cents(RealEstateColumns.PRICE), getCommissionRate()));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,54 @@
+class Seller extends Property {
+    private String sellerName;
+    private byte sellerType;
+    private String sellerTypeText;
+    private int yearsOwned;
+
+    public Seller(int id, String createdDate, String updatedDate, String agencyName,
+                String address, String phoneNumber, String email, String agentName,
+                String agentCode, String propertyType, String location,
+                String propertyEmail, String phone, String sellerName, String sellerType,
+                int yearsOwned) throws RealEstateException {
+        super(id, createdDate, updatedDate, agencyName, address, phoneNumber, email,
+              agentName, agentCode, propertyType, location, propertyEmail, phone);
+        
+        if (!SellerType.CODES.contains(sellerType)) 
+            throw new RealEstateException("Seller.sellerType", "Seller type must be 'Individual' or 'Corporate'");
+        if (yearsOwned < 0) 
+            throw new RealEstateException("Seller.yearsOwned", "Years owned must be >= 0");
+        
+        this.sellerName = sellerName;
+        this.sellerType = SellerType.CODES.parse(sellerType);
+        this.yearsOwned = yearsOwned;
+    }
+
+    Seller(RowSource source, int row) {
+        super(source, row);
+        String sellerType = source.getString(row, RealEstateColumns.SELLER_TYPE);
+        this.sellerName = source.getString(row, RealEstateColumns.SELLER_NAME);
+        this.sellerType = SellerType.CODES.parse(sellerType);
+        this.sellerTypeText = SellerType.CODES.unparsed(sellerType, this.sellerType);
+        this.yearsOwned = source.getInt(row, RealEstateColumns.YEARS_OWNED);
+    }
+
+    public String getSellerName() { return sellerName; }
+    public void setSellerName(String sellerName) {
+        changing(RealEstateColumns.SELLER_NAME);
+        this.sellerName = sellerName;
+        changed(RealEstateColumns.SELLER_NAME);
+    }
+    public String getSellerType() { return SellerType.CODES.text(sellerType, sellerTypeText); }
+    public byte getSellerTypeCode() { return sellerType; }
+    public void setSellerType(String sellerType) {
+        changing(RealEstateColumns.SELLER_TYPE);
+        this.sellerType = SellerType.CODES.parse(sellerType);
+        this.sellerTypeText = SellerType.CODES.unparsed(sellerType, this.sellerType);
+        changed(RealEstateColumns.SELLER_TYPE);
+    }
+    public int getYearsOwned() { return yearsOwned; }
+    public void setYearsOwned(int yearsOwned) {
+        changing(RealEstateColumns.YEARS_OWNED);
+        this.yearsOwned = yearsOwned;
+        changed(RealEstateColumns.YEARS_OWNED);
+    }
+}
@@ -0,0 +1,17 @@
+enum SellerType {
+    INDIVIDUAL("Individual"),
+    CORPORATE("Corporate");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    SellerType(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
@@ -0,0 +1,151 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class LibraryBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        LibraryManagementRecord record = newRecord(1);
+
+        bench.header("LibraryManagementRecord");
+        bench.run("new LibraryEntity", i -> new LibraryEntity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new LibraryManagementRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("calculateFine", i -> record.calculateFine());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            LibraryReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            LibraryReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("LibraryManagementRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by LibraryValidator", i -> LibraryValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "Kigali Public Library", "KN 5 Rd", "0781234567", "info@kpl.rw",
+            "Fiction", "FIC01", "Things Fall Apart", "Chinua Achebe", "books@kpl.rw", "0789876543",
+            "Brian Mugabo", "Regular", 2, "2024-03-01", 14, "Returned", "0781112223", "Late return",
+            3, 0.5, "Cash", "TX1234", 1.5, 2.0, 10.0, result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("LibraryManagementRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        LibraryManagementRecord[] records = new LibraryManagementRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(LibraryColumns.SCHEMA, rows);
+        for (LibraryManagementRecord r : records) LibraryColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        LibraryView view = new LibraryView(table);
+        bench.runDouble("calculateFine over records", i -> {
+            double sum = 0;
+            for (LibraryManagementRecord r : records) sum += r.calculateFine();
+            return sum;
+        });
+        bench.runDouble("calculateFine over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).calculateFine();
+            return sum;
+        });
+        bench.run("calculateFine column kernel", i -> {
+            LibraryColumns.calculateFine(table);
+            return table;
+        });
+        Path file = Files.createTempFile("LibraryManagementRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, LibraryColumns.SCHEMA)) {
+            for (LibraryManagementRecord r : records) LibraryColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, LibraryColumns.SCHEMA)) {
+            LibraryView mapped = new LibraryView(reader);
+            bench.runDouble("calculateFine over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).calculateFine();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<LibraryManagementRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            LibraryReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            LibraryReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws LibraryException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        LibraryManagementRecord[] records = new LibraryManagementRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (LibraryException e) {
+            return e;
+        }
+    }
+
+    static LibraryManagementRecord newRecord(int id) throws LibraryException {
+        return new LibraryManagementRecord(id, "2024-01-01", "2024-01-02", "Kigali Public Library",
+            "KN 5 Rd", "0781234567", "info@kpl.rw", "Fiction", "FIC01", "Things Fall Apart",
+            "Chinua Achebe", "books@kpl.rw", "0789876543", "Brian Mugabo", "Regular", 2,
+            "2024-03-01", 14, "Returned", "0781112223", "Late return", 3, 0.5, "Cash", "TX1234",
+            1.5, 2.0, 10.0);
+    }
+
+    static LibraryManagementRecord newParsedRecord(int id, int organization) throws LibraryException {
+        return new LibraryManagementRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "Kigali Public Library" + organization, fresh("KN 5 Rd"), fresh("0781234567"),
+            fresh("info@kpl.rw"), fresh("Fiction"), fresh("FIC01"), fresh("Things Fall Apart"),
+            fresh("Chinua Achebe"), fresh("books@kpl.rw"), fresh("0789876543"),
+            fresh("Brian Mugabo"), fresh("Regular"), 2, fresh("2024-03-01"), 14, fresh("Returned"),
+            fresh("0781112223"), fresh("Late return"), 3, 0.5, fresh("Cash"), fresh("TX1234"), 1.5,
+            2.0, 10.0);
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
@@ -0,0 +1,59 @@
+class LibraryBook extends LibrarySection {
+    private String bookTitle;
+    private String author;
+    private String bookEmail;
+    private String phone;
+
+    public LibraryBook(int id, String createdDate, String updatedDate, String libraryName,
+                  String address, String phoneNumber, String email, String sectionName,
+                  String sectionCode, String bookTitle, String author,
+                  String bookEmail, String phone) throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
+              sectionName, sectionCode);
+        
+        if (author == null || author.trim().isEmpty()) 
+            throw new LibraryException("LibraryBook.author", "Author cannot be empty");
+        if (!FieldRules.isEmail(bookEmail)) 
+            throw new LibraryException("LibraryBook.bookEmail", "Invalid book email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new LibraryException("LibraryBook.phone", "Book phone must be exactly 10 digits");
+        
+        this.bookTitle = bookTitle;
+        this.author = author;
+        this.bookEmail = bookEmail;
+        this.phone = phone;
+    }
+
+    LibraryBook(RowSource source, int row) {
+        super(source, row);
+        this.bookTitle = source.getString(row, LibraryColumns.BOOK_TITLE);
+        this.author = source.getString(row, LibraryColumns.AUTHOR);
+        this.bookEmail = source.getString(row, LibraryColumns.BOOK_EMAIL);
+        this.phone = source.getString(row, LibraryColumns.PHONE);
+    }
+
+    public String getBookTitle() { return bookTitle; }
+    public void setBookTitle(String bookTitle) {
+        changing(LibraryColumns.BOOK_TITLE);
+        this.bookTitle = bookTitle;
+        changed(LibraryColumns.BOOK_TITLE);
+    }
+    public String getAuthor() { return author; }
+    public void setAuthor(String author) {
+        changing(LibraryColumns.AUTHOR);
+        this.author = author;
+        changed(LibraryColumns.AUTHOR);
+    }
+    public String getBookEmail() { return bookEmail; }
+    public void setBookEmail(String bookEmail) {
+        changing(LibraryColumns.BOOK_EMAIL);
+        this.bookEmail = bookEmail;
+        changed(LibraryColumns.BOOK_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(LibraryColumns.PHONE);
+        this.phone = phone;
+        changed(LibraryColumns.PHONE);
+    }
+}
@@ -0,0 +1,70 @@
+class LibraryBorrow extends LibraryMember {
+    private int borrowDay;
+    private String borrowDateText;
+    private int borrowDays;
+    private byte returnStatus;
+    private String returnStatusText;
+    private String contactNumber;
+
+    public LibraryBorrow(int id, String createdDate, String updatedDate, String libraryName,
+                  String address, String phoneNumber, String email, String sectionName,
+                  String sectionCode, String bookTitle, String author,
+                  String bookEmail, String phone, String memberName, String membershipType,
+                  int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
+                  String contactNumber) throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
+              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
+              memberName, membershipType, yearsOfMembership);
+        
+        if (borrowDays <= 0) throw new LibraryException("LibraryBorrow.borrowDays", "Borrow days must be > 0");
+        if (!ReturnStatus.CODES.contains(returnStatus)) 
+            throw new LibraryException("LibraryBorrow.returnStatus", "Return status must be 'Returned', 'NotReturned', or 'Lost'");
+        
+        this.borrowDay = Dates.parse(borrowDate);
+        this.borrowDateText = Dates.unparsed(borrowDate, borrowDay);
+        this.borrowDays = borrowDays;
+        this.returnStatus = ReturnStatus.CODES.parse(returnStatus);
+        this.contactNumber = contactNumber;
+    }
+
+    LibraryBorrow(RowSource source, int row) {
+        super(source, row);
+        String borrowDate = source.getString(row, LibraryColumns.BORROW_DATE);
+        String returnStatus = source.getString(row, LibraryColumns.RETURN_STATUS);
+        this.borrowDay = Dates.parse(borrowDate);
+        this.borrowDateText = Dates.unparsed(borrowDate, borrowDay);
+        this.borrowDays = source.getInt(row, LibraryColumns.BORROW_DAYS);
+        this.returnStatus = ReturnStatus.CODES.parse(returnStatus);
+        this.returnStatusText = ReturnStatus.CODES.unparsed(returnStatus, this.returnStatus);
+        this.contactNumber = source.getString(row, LibraryColumns.CONTACT_NUMBER);
+    }
+
+    public String getBorrowDate() { return Dates.text(borrowDay, borrowDateText); }
+    public int getBorrowDay() { return borrowDay; }
+    public void setBorrowDate(String borrowDate) {
+        changing(LibraryColumns.BORROW_DATE);
+        this.borrowDay = Dates.parse(borrowDate);
+        this.borrowDateText = Dates.unparsed(borrowDate, borrowDay);
+        changed(LibraryColumns.BORROW_DATE);
+    }
+    public int getBorrowDays() { return borrowDays; }
+    public void setBorrowDays(int borrowDays) {
+        changing(LibraryColumns.BORROW_DAYS);
+        this.borrowDays = borrowDays;
+        changed(LibraryColumns.BORROW_DAYS);
+    }
+    public String getReturnStatus() { return ReturnStatus.CODES.text(returnStatus, returnStatusText); }
+    public byte getReturnStatusCode() { return returnStatus; }
+    public void setReturnStatus(String returnStatus) {
+        changing(LibraryColumns.RETURN_STATUS);
+        this.returnStatus = ReturnStatus.CODES.parse(returnStatus);
+        this.returnStatusText = ReturnStatus.CODES.unparsed(returnStatus, this.returnStatus);
+        changed(LibraryColumns.RETURN_STATUS);
+    }
+    public String getContactNumber() { return contactNumber; }
+    public void setContactNumber(String contactNumber) {
+        changing(LibraryColumns.CONTACT_NUMBER);
+        this.contactNumber = contactNumber;
+        changed(LibraryColumns.CONTACT_NUMBER);
+    }
+}
@@ -0,0 +1,159 @@
+import java.util.Arrays;
+import java.util.Collection;
+
+final class LibraryColumns {
+    static final Schema SCHEMA = new Schema("LibraryManagementRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int LIBRARY_NAME = SCHEMA.add("libraryName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int SECTION_NAME = SCHEMA.add("sectionName", ColumnType.DICT);
+    static final int SECTION_CODE = SCHEMA.add("sectionCode", ColumnType.DICT);
+    static final int BOOK_TITLE = SCHEMA.add("bookTitle", ColumnType.DICT);
+    static final int AUTHOR = SCHEMA.add("author", ColumnType.DICT);
+    static final int BOOK_EMAIL = SCHEMA.add("bookEmail", ColumnType.DICT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.DICT);
+    static final int MEMBER_NAME = SCHEMA.add("memberName", ColumnType.TEXT);
+    static final int MEMBERSHIP_TYPE = SCHEMA.add("membershipType", MembershipType.CODES);
+    static final int YEARS_OF_MEMBERSHIP = SCHEMA.add("yearsOfMembership", ColumnType.INT);
+    static final int BORROW_DATE = SCHEMA.add("borrowDate", ColumnType.DATE);
+    static final int BORROW_DAYS = SCHEMA.add("borrowDays", ColumnType.INT);
+    static final int RETURN_STATUS = SCHEMA.add("returnStatus", ReturnStatus.CODES);
+    static final int CONTACT_NUMBER = SCHEMA.add("contactNumber", ColumnType.TEXT);
+    static final int FINE_REASON = SCHEMA.add("fineReason", ColumnType.DICT);
+    static final int DAYS_LATE = SCHEMA.add("daysLate", ColumnType.INT);
+    static final int FINE_AMOUNT = SCHEMA.add("fineAmount", ColumnType.MONEY);
+    static final int PAYMENT_METHOD = SCHEMA.add("paymentMethod", ColumnType.DICT);
+    static final int TRANSACTION_ID = SCHEMA.add("transactionId", ColumnType.TEXT);
+    static final int PAYMENT_AMOUNT = SCHEMA.add("paymentAmount", ColumnType.MONEY);
+    static final int PROCESSING_FEE = SCHEMA.add("processingFee", ColumnType.MONEY);
+    static final int MEMBERSHIP_FEE = SCHEMA.add("membershipFee", ColumnType.MONEY);
+    static final int TOTAL_FINE = SCHEMA.add("totalFine", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<LibraryManagementRecord> ACCESSORS = new ColumnAccessors<LibraryManagementRecord>(SCHEMA)
+        .addInt(ID, LibraryManagementRecord::getId, LibraryManagementRecord::setId)
+        .addString(CREATED_DATE, LibraryManagementRecord::getCreatedDate, LibraryManagementRecord::setCreatedDate)
+        .addString(UPDATED_DATE, LibraryManagementRecord::getUpdatedDate, LibraryManagementRecord::setUpdatedDate)
+        .addString(LIBRARY_NAME, LibraryManagementRecord::getLibraryName, LibraryManagementRecord::setLibraryName)
+        .addString(ADDRESS, LibraryManagementRecord::getAddress, LibraryManagementRecord::setAddress)
+        .addString(PHONE_NUMBER, LibraryManagementRecord::getPhoneNumber, LibraryManagementRecord::setPhoneNumber)
+        .addString(EMAIL, LibraryManagementRecord::getEmail, LibraryManagementRecord::setEmail)
+        .addString(SECTION_NAME, LibraryManagementRecord::getSectionName, LibraryManagementRecord::setSectionName)
+        .addString(SECTION_CODE, LibraryManagementRecord::getSectionCode, LibraryManagementRecord::setSectionCode)
+        .addString(BOOK_TITLE, LibraryManagementRecord::getBookTitle, LibraryManagementRecord::setBookTitle)
+        .addString(AUTHOR, LibraryManagementRecord::getAuthor, LibraryManagementRecord::setAuthor)
+        .addString(BOOK_EMAIL, LibraryManagementRecord::getBookEmail, LibraryManagementRecord::setBookEmail)
+        .addString(PHONE, LibraryManagementRecord::getPhone, LibraryManagementRecord::setPhone)
+        .addString(MEMBER_NAME, LibraryManagementRecord::getMemberName, LibraryManagementRecord::setMemberName)
+        .addString(MEMBERSHIP_TYPE, LibraryManagementRecord::getMembershipType, LibraryManagementRecord::setMembershipType)
+        .addInt(YEARS_OF_MEMBERSHIP, LibraryManagementRecord::getYearsOfMembership, LibraryManagementRecord::setYearsOfMembership)
+        .addString(BORROW_DATE, LibraryManagementRecord::getBorrowDate, LibraryManagementRecord::setBorrowDate)
+        .addInt(BORROW_DAYS, LibraryManagementRecord::getBorrowDays, LibraryManagementRecord::setBorrowDays)
+        .addString(RETURN_STATUS, LibraryManagementRecord::getReturnStatus, LibraryManagementRecord::setReturnStatus)
+        .addString(CONTACT_NUMBER, LibraryManagementRecord::getContactNumber, LibraryManagementRecord::setContactNumber)
+        .addString(FINE_REASON, LibraryManagementRecord::getFineReason, LibraryManagementRecord::setFineReason)
+        .addInt(DAYS_LATE, LibraryManagementRecord::getDaysLate, LibraryManagementRecord::setDaysLate)
+        .addDouble(FINE_AMOUNT, LibraryManagementRecord::getFineAmount, LibraryManagementRecord::setFineAmount)
+        .addString(PAYMENT_METHOD, LibraryManagementRecord::getPaymentMethod, LibraryManagementRecord::setPaymentMethod)
+        .addString(TRANSACTION_ID, LibraryManagementRecord::getTransactionId, LibraryManagementRecord::setTransactionId)
+        .addDouble(PAYMENT_AMOUNT, LibraryManagementRecord::getPaymentAmount, LibraryManagementRecord::setPaymentAmount)
+        .addDouble(PROCESSING_FEE, LibraryManagementRecord::getProcessingFee, LibraryManagementRecord::setProcessingFee)
+        .addDouble(MEMBERSHIP_FEE, LibraryManagementRecord::getMembershipFee, LibraryManagementRecord::setMembershipFee)
+        .addDouble(TOTAL_FINE, LibraryManagementRecord::getTotalFine, LibraryManagementRecord::setTotalFine)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "contactNumber", "transactionId" };
+
+    static RecordIndexes<LibraryManagementRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, LibraryManagementRecord::indexedBy, expectedSize, columns);
+    }
+
+    private LibraryColumns() {
+    }
+
+    static int append(RowSink table, LibraryManagementRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, LIBRARY_NAME, record.getLibraryName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, SECTION_NAME, record.getSectionName());
+        table.setString(row, SECTION_CODE, record.getSectionCode());
+        table.setString(row, BOOK_TITLE, record.getBookTitle());
+        table.setString(row, AUTHOR, record.getAuthor());
+        table.setString(row, BOOK_EMAIL, record.getBookEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, MEMBER_NAME, record.getMemberName());
+        table.setString(row, MEMBERSHIP_TYPE, record.getMembershipType());
+        table.setInt(row, YEARS_OF_MEMBERSHIP, record.getYearsOfMembership());
+        table.setString(row, BORROW_DATE, record.getBorrowDate());
+        table.setInt(row, BORROW_DAYS, record.getBorrowDays());
+        table.setString(row, RETURN_STATUS, record.getReturnStatus());
+        table.setString(row, CONTACT_NUMBER, record.getContactNumber());
+        table.setString(row, FINE_REASON, record.getFineReason());
+        table.setInt(row, DAYS_LATE, record.getDaysLate());
+        table.setDouble(row, FINE_AMOUNT, record.getFineAmount());
+        table.setString(row, PAYMENT_METHOD, record.getPaymentMethod());
+        table.setString(row, TRANSACTION_ID, record.getTransactionId());
+        table.setDouble(row, PAYMENT_AMOUNT, record.getPaymentAmount());
+        table.setDouble(row, PROCESSING_FEE, record.getProcessingFee());
+        table.setDouble(row, MEMBERSHIP_FEE, record.getMembershipFee());
+        table.setDouble(row, TOTAL_FINE, record.getTotalFine());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static LibraryManagementRecord record(RowSource source, int row) {
+        return new LibraryManagementRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<LibraryManagementRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (LibraryManagementRecord record : records) append(table, record);
+        calculateFine(table);
+        return table;
+    }
+
+    static void calculateFine(ColumnTable table) {
+        long[] fineAmount = table.cents(FINE_AMOUNT);
+        int[] daysLate = table.ints(DAYS_LATE);
+        long[] totalFine = table.cents(TOTAL_FINE);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalFine[row] = fineAmount[row] * daysLate[row];
+        }
+    }
+
+    // Borrows past borrowDate + borrowDays as of the given day that are still marked NotReturned.
+    static int[] overdue(ColumnTable table, int today) {
+        int[] borrowDay = table.days(BORROW_DATE);
+        int[] borrowDays = table.ints(BORROW_DAYS);
+        byte[] returnStatus = table.bytes(RETURN_STATUS);
+        byte notReturned = ReturnStatus.NOT_RETURNED.code();
+        int[] rows = new int[16];
+        int count = 0;
+        for (int row = 0, n = table.size(); row < n; row++) {
+            if (returnStatus[row] == notReturned && borrowDay[row] != Dates.INVALID
+                    && borrowDay[row] + borrowDays[row] < today) {
+                if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    // Total fine per return status, indexed by ReturnStatus.code().
+    static long[] finesByReturnStatus(ColumnTable table) {
+        return ReturnStatus.CODES.sum(table.bytes(RETURN_STATUS), table.cents(TOTAL_FINE), table.size());
+    }
+}
@@ -0,0 +1,12 @@
+class LibraryException extends Exception {
+    private final String rule;
+
+    // rule names the failed check as the validator does, such as "Entity.id".
+    public LibraryException(String rule, String message) {
+        super(message, null, true, DomainExceptions.stackTraces());
+        this.rule = rule;
+        ValidationFailureEvent.emit("Library", rule, message);
+    }
+
+    public String getRule() { return rule; }
+}
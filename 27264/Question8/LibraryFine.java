@@ -0,0 +1,52 @@
+class LibraryFine extends LibraryBorrow {
+    private String fineReason;
+    private int daysLate;
+    private double fineAmount;
+
+    public LibraryFine(int id, String createdDate, String updatedDate, String libraryName,
+                    String address, String phoneNumber, String email, String sectionName,
+                    String sectionCode, String bookTitle, String author,
+                    String bookEmail, String phone, String memberName, String membershipType,
+                    int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
+                    String contactNumber, String fineReason, int daysLate,
+                    double fineAmount) throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
+              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
+              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber);
+        
+        if (fineReason == null || fineReason.trim().isEmpty()) 
+            throw new LibraryException("LibraryFine.fineReason", "Fine reason cannot be null");
+        if (fineAmount < 0) 
+            throw new LibraryException("LibraryFine.fineAmount", "Fine amount must be >= 0");
+        
+        this.fineReason = fineReason;
+        this.daysLate = daysLate;
+        this.fineAmount = fineAmount;
+    }
+
+    LibraryFine(RowSource source, int row) {
+        super(source, row);
+        this.fineReason = source.getString(row, LibraryColumns.FINE_REASON);
+        this.daysLate = source.getInt(row, LibraryColumns.DAYS_LATE);
+        this.fineAmount = source.getDouble(row, LibraryColumns.FINE_AMOUNT);
+    }
+
+    public String getFineReason() { return fineReason; }
+    public void setFineReason(String fineReason) {
+        changing(LibraryColumns.FINE_REASON);
+        this.fineReason = fineReason;
+        changed(LibraryColumns.FINE_REASON);
+    }
+    public int getDaysLate() { return daysLate; }
+    public void setDaysLate(int daysLate) {
+        changing(LibraryColumns.DAYS_LATE);
+        this.daysLate = daysLate;
+        changed(LibraryColumns.DAYS_LATE);
+    }
+    public double getFineAmount() { return fineAmount; }
+    public void setFineAmount(double fineAmount) {
+        changing(LibraryColumns.FINE_AMOUNT);
+        this.fineAmount = fineAmount;
+        changed(LibraryColumns.FINE_AMOUNT);
+    }
+}
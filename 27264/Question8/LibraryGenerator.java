@@ -0,0 +1,92 @@
+import java.io.IOException;
+
+class LibraryGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+
+    // name, mail domain, address
+    private static final String[][] LIBRARIES = {
+        { "Kigali Public Library", "kpl.rw", "KN 5 Rd" },
+        { "University Library", "library.ur.ac.rw", "KN 67 St" },
+        { "Huye Community Library", "huyelibrary.rw", "NR 1 Rd" }
+    };
+    // section, code prefix, title, author; the first entries are the most borrowed
+    private static final String[][] BOOKS = {
+        { "Fiction", "FIC", "Things Fall Apart", "Chinua Achebe" },
+        { "Fiction", "FIC", "Half of a Yellow Sun", "Chimamanda Ngozi Adichie" },
+        { "History", "HIS", "A Sunday at the Pool in Kigali", "Gil Courtemanche" },
+        { "Science", "SCI", "A Brief History of Time", "Stephen Hawking" },
+        { "Fiction", "FIC", "Petals of Blood", "Ngugi wa Thiong'o" },
+        { "Biography", "BIO", "Long Walk to Freedom", "Nelson Mandela" },
+        { "Science", "SCI", "The Selfish Gene", "Richard Dawkins" },
+        { "Computing", "COM", "Clean Code", "Robert C. Martin" }
+    };
+    private static final String[] FINE_REASONS = { "Late return", "Damaged book", "Lost book", "None" };
+    private static final String[] PAYMENT_METHODS = { "Cash", "Mobile Money", "Card" };
+    private static final MembershipType[] MEMBERSHIP_TYPES = MembershipType.values();
+    private static final ReturnStatus[] RETURN_STATUSES = ReturnStatus.values();
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.empty(10), SyntheticData.email(11),
+        SyntheticData.phone(12), SyntheticData.unknown(14), SyntheticData.negative(15),
+        SyntheticData.notPositive(17), SyntheticData.unknown(18), SyntheticData.empty(20),
+        SyntheticData.negative(22), SyntheticData.empty(23), SyntheticData.empty(24),
+        SyntheticData.negative(25), SyntheticData.negative(26), SyntheticData.negative(27)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new LibraryGenerator(), rows, output);
+        SyntheticData.log(output).println(Question8_LibraryManagement.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return LibraryBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        String[] library = source.pick(LIBRARIES);
+        String[] book = source.pickSkewed(BOOKS);
+        String member = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        ReturnStatus status = source.pick(RETURN_STATUSES);
+        int daysLate = status == ReturnStatus.RETURNED && source.chance(0.7) ? 0 : source.between(1, 30);
+        long fineAmount = daysLate == 0 ? 0 : 50L * source.between(1, 4);
+        long processingFee = source.cents(0, 300);
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = library[0];
+        fields[4] = library[2];
+        fields[5] = source.phone();
+        fields[6] = "info@" + library[1];
+        fields[7] = book[0];
+        fields[8] = book[1] + "0" + source.between(1, 9);
+        fields[9] = book[2];
+        fields[10] = book[3];
+        fields[11] = "books@" + library[1];
+        fields[12] = source.phone();
+        fields[13] = member;
+        fields[14] = source.pick(MEMBERSHIP_TYPES).toString();
+        fields[15] = Integer.toString(source.nextInt(15));
+        fields[16] = SyntheticData.date(created + source.nextInt(60));
+        fields[17] = Integer.toString(7 * source.between(1, 4));
+        fields[18] = status.toString();
+        fields[19] = source.phone();
+        fields[20] = daysLate == 0 ? "None" : source.pick(FINE_REASONS);
+        fields[21] = Integer.toString(daysLate);
+        fields[22] = SyntheticData.money(fineAmount);
+        fields[23] = source.pick(PAYMENT_METHODS);
+        fields[24] = source.code("TX", 6);
+        fields[25] = SyntheticData.money(fineAmount * daysLate + processingFee);
+        fields[26] = SyntheticData.money(processingFee);
+        fields[27] = source.money(0, 2_000);
+    }
+}
@@ -0,0 +1,100 @@
+final class LibraryManagementRecord extends LibraryRecordData {
+    // The columns the total fine is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS = 1L << LibraryColumns.FINE_AMOUNT | 1L << LibraryColumns.DAYS_LATE;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<LibraryManagementRecord> indexes;
+
+    public LibraryManagementRecord(int id, String createdDate, String updatedDate, String libraryName,
+                         String address, String phoneNumber, String email, String sectionName,
+                         String sectionCode, String bookTitle, String author,
+                         String bookEmail, String phone, String memberName, String membershipType,
+                         int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
+                         String contactNumber, String fineReason, int daysLate,
+                         double fineAmount, String paymentMethod, String transactionId,
+                         double paymentAmount, double processingFee, double membershipFee) 
+                         throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
+              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
+              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber,
+              fineReason, daysLate, fineAmount, paymentMethod, transactionId, paymentAmount,
+              processingFee, membershipFee);
+    }
+
+    // Restores a record for LibraryColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    LibraryManagementRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double calculateFine() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double total = fine();
+        setTotalFine(total);
+        computed = true;
+        event.finish("Library", "calculateFine", getId(), total);
+        return total;
+    }
+
+    // Counts this record's total fine in one group of totals and keeps the group's sum current as the
+    // record changes, computing the total fine first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) calculateFine();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getTotalFine()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != LibraryColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of Library records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<LibraryManagementRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = LibraryColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == LibraryColumns.ID ? (Integer) before : getId(), column, before,
+                LibraryColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == LibraryColumns.TOTAL_FINE) {
+            if (tracked != null) tracked.set(Money.of(getTotalFine()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setTotalFine(fine());
+        }
+    }
+
+    private double fine() {
+        return Money.toDouble(Money.multiply(Money.of(getFineAmount()), getDaysLate()));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        LibraryReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
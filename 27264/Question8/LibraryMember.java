@@ -0,0 +1,54 @@
+class LibraryMember extends LibraryBook {
+    private String memberName;
+    private byte membershipType;
+    private String membershipTypeText;
+    private int yearsOfMembership;
+
+    public LibraryMember(int id, String createdDate, String updatedDate, String libraryName,
+                String address, String phoneNumber, String email, String sectionName,
+                String sectionCode, String bookTitle, String author,
+                String bookEmail, String phone, String memberName, String membershipType,
+                int yearsOfMembership) throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
+              sectionName, sectionCode, bookTitle, author, bookEmail, phone);
+        
+        if (!MembershipType.CODES.contains(membershipType)) 
+            throw new LibraryException("LibraryMember.membershipType", "Membership type must be 'Regular' or 'Premium'");
+        if (yearsOfMembership < 0) 
+            throw new LibraryException("LibraryMember.yearsOfMembership", "Years of membership must be >= 0");
+        
+        this.memberName = memberName;
+        this.membershipType = MembershipType.CODES.parse(membershipType);
+        this.yearsOfMembership = yearsOfMembership;
+    }
+
+    LibraryMember(RowSource source, int row) {
+        super(source, row);
+        String membershipType = source.getString(row, LibraryColumns.MEMBERSHIP_TYPE);
+        this.memberName = source.getString(row, LibraryColumns.MEMBER_NAME);
+        this.membershipType = MembershipType.CODES.parse(membershipType);
+        this.membershipTypeText = MembershipType.CODES.unparsed(membershipType, this.membershipType);
+        this.yearsOfMembership = source.getInt(row, LibraryColumns.YEARS_OF_MEMBERSHIP);
+    }
+
+    public String getMemberName() { return memberName; }
+    public void setMemberName(String memberName) {
+        changing(LibraryColumns.MEMBER_NAME);
+        this.memberName = memberName;
+        changed(LibraryColumns.MEMBER_NAME);
+    }
+    public String getMembershipType() { return MembershipType.CODES.text(membershipType, membershipTypeText); }
+    public byte getMembershipTypeCode() { return membershipType; }
+    public void setMembershipType(String membershipType) {
+        changing(LibraryColumns.MEMBERSHIP_TYPE);
+        this.membershipType = MembershipType.CODES.parse(membershipType);
+        this.membershipTypeText = MembershipType.CODES.unparsed(membershipType, this.membershipType);
+        changed(LibraryColumns.MEMBERSHIP_TYPE);
+    }
+    public int getYearsOfMembership() { return yearsOfMembership; }
+    public void setYearsOfMembership(int yearsOfMembership) {
+        changing(LibraryColumns.YEARS_OF_MEMBERSHIP);
+        this.yearsOfMembership = yearsOfMembership;
+        changed(LibraryColumns.YEARS_OF_MEMBERSHIP);
+    }
+}
@@ -0,0 +1,56 @@
+class LibraryPayment extends LibraryFine {
+    private String paymentMethod;
+    private String transactionId;
+    private double paymentAmount;
+
+    public LibraryPayment(int id, String createdDate, String updatedDate, String libraryName,
+                    String address, String phoneNumber, String email, String sectionName,
+                    String sectionCode, String bookTitle, String author,
+                    String bookEmail, String phone, String memberName, String membershipType,
+                    int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
+                    String contactNumber, String fineReason, int daysLate,
+                    double fineAmount, String paymentMethod, String transactionId,
+                    double paymentAmount) throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
+              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
+              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber,
+              fineReason, daysLate, fineAmount);
+        
+        if (paymentAmount < 0) 
+            throw new LibraryException("LibraryPayment.paymentAmount", "Payment amount must be >= 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
+            throw new LibraryException("LibraryPayment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty()) 
+            throw new LibraryException("LibraryPayment.transactionId", "Transaction ID cannot be empty");
+        
+        this.paymentMethod = paymentMethod;
+        this.transactionId = transactionId;
+        this.paymentAmount = paymentAmount;
+    }
+
+    LibraryPayment(RowSource source, int row) {
+        super(source, row);
+        this.paymentMethod = source.getString(row, LibraryColumns.PAYMENT_METHOD);
+        this.transactionId = source.getString(row, LibraryColumns.TRANSACTION_ID);
+        this.paymentAmount = source.getDouble(row, LibraryColumns.PAYMENT_AMOUNT);
+    }
+
+    public String getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(String paymentMethod) {
+        changing(LibraryColumns.PAYMENT_METHOD);
+        this.paymentMethod = paymentMethod;
+        changed(LibraryColumns.PAYMENT_METHOD);
+    }
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) {
+        changing(LibraryColumns.TRANSACTION_ID);
+        this.transactionId = transactionId;
+        changed(LibraryColumns.TRANSACTION_ID);
+    }
+    public double getPaymentAmount() { return paymentAmount; }
+    public void setPaymentAmount(double paymentAmount) {
+        changing(LibraryColumns.PAYMENT_AMOUNT);
+        this.paymentAmount = paymentAmount;
+        changed(LibraryColumns.PAYMENT_AMOUNT);
+    }
+}
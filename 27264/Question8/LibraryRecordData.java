@@ -0,0 +1,53 @@
+class LibraryRecordData extends LibraryPayment {
+    private double processingFee;
+    private double membershipFee;
+    private double totalFine;
+
+    public LibraryRecordData(int id, String createdDate, String updatedDate, String libraryName,
+               String address, String phoneNumber, String email, String sectionName,
+               String sectionCode, String bookTitle, String author,
+               String bookEmail, String phone, String memberName, String membershipType,
+               int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
+               String contactNumber, String fineReason, int daysLate,
+               double fineAmount, String paymentMethod, String transactionId,
+               double paymentAmount, double processingFee, double membershipFee) 
+               throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
+              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
+              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber,
+              fineReason, daysLate, fineAmount, paymentMethod, transactionId, paymentAmount);
+        
+        if (processingFee < 0) throw new LibraryException("LibraryRecordData.processingFee", "Processing fee must be >= 0");
+        if (membershipFee < 0) throw new LibraryException("LibraryRecordData.membershipFee", "Membership fee must be >= 0");
+        
+        this.processingFee = processingFee;
+        this.membershipFee = membershipFee;
+        this.totalFine = 0;
+    }
+
+    LibraryRecordData(RowSource source, int row) {
+        super(source, row);
+        this.processingFee = source.getDouble(row, LibraryColumns.PROCESSING_FEE);
+        this.membershipFee = source.getDouble(row, LibraryColumns.MEMBERSHIP_FEE);
+        this.totalFine = source.getDouble(row, LibraryColumns.TOTAL_FINE);
+    }
+
+    public double getProcessingFee() { return processingFee; }
+    public void setProcessingFee(double processingFee) {
+        changing(LibraryColumns.PROCESSING_FEE);
+        this.processingFee = processingFee;
+        changed(LibraryColumns.PROCESSING_FEE);
+    }
+    public double getMembershipFee() { return membershipFee; }
+    public void setMembershipFee(double membershipFee) {
+        changing(LibraryColumns.MEMBERSHIP_FEE);
+        this.membershipFee = membershipFee;
+        changed(LibraryColumns.MEMBERSHIP_FEE);
+    }
+    public double getTotalFine() { return totalFine; }
+    public void setTotalFine(double totalFine) {
+        changing(LibraryColumns.TOTAL_FINE);
+        this.totalFine = totalFine;
+        changed(LibraryColumns.TOTAL_FINE);
+    }
+}
@@ -0,0 +1,131 @@
+import java.util.List;
+
+class LibraryReport {
+    private static final String ID = Question8_LibraryManagement.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== LIBRARY MANAGEMENT SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] LIBRARY_DETAILS = ReportWriter.label("\n" + ID + " - --- Library Details ---");
+    private static final byte[] LIBRARY_NAME = ReportWriter.label(ID + " - Library Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] SECTION_DETAILS = ReportWriter.label("\n" + ID + " - --- Section Details ---");
+    private static final byte[] SECTION_NAME = ReportWriter.label(ID + " - Section Name: ");
+    private static final byte[] SECTION_CODE = ReportWriter.label(ID + " - Section Code: ");
+    private static final byte[] BOOK_DETAILS = ReportWriter.label("\n" + ID + " - --- Book Details ---");
+    private static final byte[] BOOK_TITLE = ReportWriter.label(ID + " - Book Title: ");
+    private static final byte[] AUTHOR = ReportWriter.label(ID + " - Author: ");
+    private static final byte[] BOOK_EMAIL = ReportWriter.label(ID + " - Book Email: ");
+    private static final byte[] BOOK_PHONE = ReportWriter.label(ID + " - Book Phone: ");
+    private static final byte[] MEMBER_DETAILS = ReportWriter.label("\n" + ID + " - --- Member Details ---");
+    private static final byte[] MEMBER_NAME = ReportWriter.label(ID + " - Member Name: ");
+    private static final byte[] MEMBERSHIP_TYPE = ReportWriter.label(ID + " - Membership Type: ");
+    private static final byte[] YEARS_OF_MEMBERSHIP = ReportWriter.label(ID + " - Years of Membership: ");
+    private static final byte[] BORROW_DETAILS = ReportWriter.label("\n" + ID + " - --- Borrow Details ---");
+    private static final byte[] BORROW_DATE = ReportWriter.label(ID + " - Borrow Date: ");
+    private static final byte[] BORROW_DAYS = ReportWriter.label(ID + " - Borrow Days: ");
+    private static final byte[] RETURN_STATUS = ReportWriter.label(ID + " - Return Status: ");
+    private static final byte[] CONTACT_NUMBER = ReportWriter.label(ID + " - Contact Number: ");
+    private static final byte[] FINE_DETAILS = ReportWriter.label("\n" + ID + " - --- Fine Details ---");
+    private static final byte[] FINE_REASON = ReportWriter.label(ID + " - Fine Reason: ");
+    private static final byte[] DAYS_LATE = ReportWriter.label(ID + " - Days Late: ");
+    private static final byte[] FINE_AMOUNT = ReportWriter.label(ID + " - Fine Amount: $");
+    private static final byte[] PAYMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Payment Details ---");
+    private static final byte[] PAYMENT_METHOD = ReportWriter.label(ID + " - Payment Method: ");
+    private static final byte[] TRANSACTION_ID = ReportWriter.label(ID + " - Transaction ID: ");
+    private static final byte[] PAYMENT_AMOUNT = ReportWriter.label(ID + " - Payment Amount: $");
+    private static final byte[] RECORD_DETAILS = ReportWriter.label("\n" + ID + " - --- Record Details ---");
+    private static final byte[] PROCESSING_FEE = ReportWriter.label(ID + " - Processing Fee: $");
+    private static final byte[] MEMBERSHIP_FEE = ReportWriter.label(ID + " - Membership Fee: $");
+    private static final byte[] TOTAL_FINE = ReportWriter.label(ID + " - Total Fine: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ===============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(LibraryManagementRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(LIBRARY_DETAILS).newLine();
+        out.write(LIBRARY_NAME).write(record.getLibraryName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(SECTION_DETAILS).newLine();
+        out.write(SECTION_NAME).write(record.getSectionName()).newLine();
+        out.write(SECTION_CODE).write(record.getSectionCode()).newLine();
+        out.write(BOOK_DETAILS).newLine();
+        out.write(BOOK_TITLE).write(record.getBookTitle()).newLine();
+        out.write(AUTHOR).write(record.getAuthor()).newLine();
+        out.write(BOOK_EMAIL).write(record.getBookEmail()).newLine();
+        out.write(BOOK_PHONE).write(record.getPhone()).newLine();
+        out.write(MEMBER_DETAILS).newLine();
+        out.write(MEMBER_NAME).write(record.getMemberName()).newLine();
+        out.write(MEMBERSHIP_TYPE).write(record.getMembershipType()).newLine();
+        out.write(YEARS_OF_MEMBERSHIP).write(record.getYearsOfMembership()).newLine();
+        out.write(BORROW_DETAILS).newLine();
+        out.write(BORROW_DATE).write(record.getBorrowDate()).newLine();
+        out.write(BORROW_DAYS).write(record.getBorrowDays()).newLine();
+        out.write(RETURN_STATUS).write(record.getReturnStatus()).newLine();
+        out.write(CONTACT_NUMBER).write(record.getContactNumber()).newLine();
+        out.write(FINE_DETAILS).newLine();
+        out.write(FINE_REASON).write(record.getFineReason()).newLine();
+        out.write(DAYS_LATE).write(record.getDaysLate()).newLine();
+        out.write(FINE_AMOUNT).write(record.getFineAmount()).newLine();
+        out.write(PAYMENT_DETAILS).newLine();
+        out.write(PAYMENT_METHOD).write(record.getPaymentMethod()).newLine();
+        out.write(TRANSACTION_ID).write(record.getTransactionId()).newLine();
+        out.write(PAYMENT_AMOUNT).write(record.getPaymentAmount()).newLine();
+        out.write(RECORD_DETAILS).newLine();
+        out.write(PROCESSING_FEE).write(record.getProcessingFee()).newLine();
+        out.write(MEMBERSHIP_FEE).write(record.getMembershipFee()).newLine();
+        out.write(TOTAL_FINE).write(record.getTotalFine()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(LibraryManagementRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getLibraryName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getSectionName()).write(SEPARATOR);
+        out.write(record.getSectionCode()).write(SEPARATOR);
+        out.write(record.getBookTitle()).write(SEPARATOR);
+        out.write(record.getAuthor()).write(SEPARATOR);
+        out.write(record.getBookEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getMemberName()).write(SEPARATOR);
+        out.write(record.getMembershipType()).write(SEPARATOR);
+        out.write(record.getYearsOfMembership()).write(SEPARATOR);
+        out.write(record.getBorrowDate()).write(SEPARATOR);
+        out.write(record.getBorrowDays()).write(SEPARATOR);
+        out.write(record.getReturnStatus()).write(SEPARATOR);
+        out.write(record.getContactNumber()).write(SEPARATOR);
+        out.write(record.getFineReason()).write(SEPARATOR);
+        out.write(record.getDaysLate()).write(SEPARATOR);
+        out.write(record.getFineAmount()).write(SEPARATOR);
+        out.write(record.getPaymentMethod()).write(SEPARATOR);
+        out.write(record.getTransactionId()).write(SEPARATOR);
+        out.write(record.getPaymentAmount()).write(SEPARATOR);
+        out.write(record.getProcessingFee()).write(SEPARATOR);
+        out.write(record.getMembershipFee()).write(SEPARATOR);
+        out.write(record.getTotalFine()).newLine();
+    }
+
+    static void writeAll(List<LibraryManagementRecord> records, ReportWriter out, boolean compact) {
+        for (LibraryManagementRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
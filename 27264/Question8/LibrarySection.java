@@ -0,0 +1,31 @@
+class LibrarySection extends LibrarySystem {
+    private LibrarySectionProfile profile;
+
+    public LibrarySection(int id, String createdDate, String updatedDate, String libraryName,
+                  String address, String phoneNumber, String email, String sectionName,
+                  String sectionCode) throws LibraryException {
+        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email);
+        
+        this.profile = LibrarySectionProfile.of(sectionName, sectionCode);
+    }
+
+    LibrarySection(RowSource source, int row) {
+        super(source, row);
+        String sectionName = source.getString(row, LibraryColumns.SECTION_NAME);
+        String sectionCode = source.getString(row, LibraryColumns.SECTION_CODE);
+        this.profile = LibrarySectionProfile.restore(sectionName, sectionCode);
+    }
+
+    public String getSectionName() { return profile.getSectionName(); }
+    public void setSectionName(String sectionName) {
+        changing(LibraryColumns.SECTION_NAME);
+        profile = profile.withSectionName(sectionName);
+        changed(LibraryColumns.SECTION_NAME);
+    }
+    public String getSectionCode() { return profile.getSectionCode(); }
+    public void setSectionCode(String sectionCode) {
+        changing(LibraryColumns.SECTION_CODE);
+        profile = profile.withSectionCode(sectionCode);
+        changed(LibraryColumns.SECTION_CODE);
+    }
+}
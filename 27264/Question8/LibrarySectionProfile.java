@@ -0,0 +1,64 @@
+import java.util.Objects;
+
+final class LibrarySectionProfile {
+    private static final Interner<LibrarySectionProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<LibrarySectionProfile> RESTORED = new Interner<>();
+
+    private final String sectionName;
+    private final String sectionCode;
+    private final int hash;
+
+    private LibrarySectionProfile(String sectionName, String sectionCode) {
+        this.sectionName = sectionName;
+        this.sectionCode = sectionCode;
+        int hash = Objects.hashCode(sectionName);
+        hash = 31 * hash + Objects.hashCode(sectionCode);
+        this.hash = hash;
+    }
+
+    static LibrarySectionProfile of(String sectionName, String sectionCode)
+            throws LibraryException {
+        LibrarySectionProfile candidate = new LibrarySectionProfile(sectionName, sectionCode);
+        LibrarySectionProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isCode(sectionCode)) 
+            throw new LibraryException("LibrarySection.sectionCode", "Section code must be alphanumeric and at least 3 characters");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static LibrarySectionProfile restore(String sectionName, String sectionCode) {
+        LibrarySectionProfile candidate = new LibrarySectionProfile(sectionName, sectionCode);
+        LibrarySectionProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getSectionName() { return sectionName; }
+    public String getSectionCode() { return sectionCode; }
+
+    LibrarySectionProfile withSectionName(String sectionName) {
+        return new LibrarySectionProfile(sectionName, sectionCode);
+    }
+
+    LibrarySectionProfile withSectionCode(String sectionCode) {
+        return new LibrarySectionProfile(sectionName, sectionCode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof LibrarySectionProfile)) return false;
+        LibrarySectionProfile that = (LibrarySectionProfile) other;
+        return hash == that.hash
+            && Objects.equals(sectionName, that.sectionName)
+            && Objects.equals(sectionCode, that.sectionCode);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
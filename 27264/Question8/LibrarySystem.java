@@ -0,0 +1,44 @@
+class LibrarySystem extends LibraryEntity {
+    private LibrarySystemProfile profile;
+
+    public LibrarySystem(int id, String createdDate, String updatedDate, String libraryName, 
+                   String address, String phoneNumber, String email) throws LibraryException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = LibrarySystemProfile.of(libraryName, address, phoneNumber, email);
+    }
+
+    LibrarySystem(RowSource source, int row) {
+        super(source, row);
+        String libraryName = source.getString(row, LibraryColumns.LIBRARY_NAME);
+        String address = source.getString(row, LibraryColumns.ADDRESS);
+        String phoneNumber = source.getString(row, LibraryColumns.PHONE_NUMBER);
+        String email = source.getString(row, LibraryColumns.EMAIL);
+        this.profile = LibrarySystemProfile.restore(libraryName, address, phoneNumber, email);
+    }
+
+    public String getLibraryName() { return profile.getLibraryName(); }
+    public void setLibraryName(String libraryName) {
+        changing(LibraryColumns.LIBRARY_NAME);
+        profile = profile.withLibraryName(libraryName);
+        changed(LibraryColumns.LIBRARY_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(LibraryColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(LibraryColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(LibraryColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(LibraryColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(LibraryColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(LibraryColumns.EMAIL);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class LibrarySystemProfile {
+    private static final Interner<LibrarySystemProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<LibrarySystemProfile> RESTORED = new Interner<>();
+
+    private final String libraryName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private LibrarySystemProfile(String libraryName, String address, String phoneNumber, String email) {
+        this.libraryName = libraryName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(libraryName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static LibrarySystemProfile of(String libraryName, String address, String phoneNumber, String email)
+            throws LibraryException {
+        LibrarySystemProfile candidate = new LibrarySystemProfile(libraryName, address, phoneNumber, email);
+        LibrarySystemProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new LibraryException("LibrarySystem.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new LibraryException("LibrarySystem.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static LibrarySystemProfile restore(String libraryName, String address, String phoneNumber, String email) {
+        LibrarySystemProfile candidate = new LibrarySystemProfile(libraryName, address, phoneNumber, email);
+        LibrarySystemProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getLibraryName() { return libraryName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    LibrarySystemProfile withLibraryName(String libraryName) {
+        return new LibrarySystemProfile(libraryName, address, phoneNumber, email);
+    }
+
+    LibrarySystemProfile withAddress(String address) {
+        return new LibrarySystemProfile(libraryName, address, phoneNumber, email);
+    }
+
+    LibrarySystemProfile withPhoneNumber(String phoneNumber) {
+        return new LibrarySystemProfile(libraryName, address, phoneNumber, email);
+    }
+
+    LibrarySystemProfile withEmail(String email) {
+        return new LibrarySystemProfile(libraryName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof LibrarySystemProfile)) return false;
+        LibrarySystemProfile that = (LibrarySystemProfile) other;
+        return hash == that.hash
+            && Objects.equals(libraryName, that.libraryName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
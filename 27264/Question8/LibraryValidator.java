@@ -0,0 +1,54 @@
+class LibraryValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String libraryName,
+            String address, String phoneNumber, String email, String sectionName, String sectionCode,
+            String bookTitle, String author, String bookEmail, String phone, String memberName,
+            String membershipType, int yearsOfMembership, String borrowDate, int borrowDays,
+            String returnStatus, String contactNumber, String fineReason, int daysLate,
+            double fineAmount, String paymentMethod, String transactionId, double paymentAmount,
+            double processingFee, double membershipFee, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("LibraryEntity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("LibraryEntity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("LibraryEntity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("LibrarySystem.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("LibrarySystem.email", "Invalid email format");
+        if (!FieldRules.isCode(sectionCode))
+            result.add("LibrarySection.sectionCode", "Section code must be alphanumeric and at least 3 characters");
+        if (author == null || author.trim().isEmpty())
+            result.add("LibraryBook.author", "Author cannot be empty");
+        if (!FieldRules.isEmail(bookEmail))
+            result.add("LibraryBook.bookEmail", "Invalid book email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("LibraryBook.phone", "Book phone must be exactly 10 digits");
+        if (!MembershipType.CODES.contains(membershipType))
+            result.add("LibraryMember.membershipType", "Membership type must be 'Regular' or 'Premium'");
+        if (yearsOfMembership < 0)
+            result.add("LibraryMember.yearsOfMembership", "Years of membership must be >= 0");
+        if (borrowDays <= 0)
+            result.add("LibraryBorrow.borrowDays", "Borrow days must be > 0");
+        if (!ReturnStatus.CODES.contains(returnStatus))
+            result.add("LibraryBorrow.returnStatus", "Return status must be 'Returned', 'NotReturned', or 'Lost'");
+        if (fineReason == null || fineReason.trim().isEmpty())
+            result.add("LibraryFine.fineReason", "Fine reason cannot be null");
+        if (fineAmount < 0)
+            result.add("LibraryFine.fineAmount", "Fine amount must be >= 0");
+        if (paymentAmount < 0)
+            result.add("LibraryPayment.paymentAmount", "Payment amount must be >= 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty())
+            result.add("LibraryPayment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty())
+            result.add("LibraryPayment.transactionId", "Transaction ID cannot be empty");
+        if (processingFee < 0)
+            result.add("LibraryRecordData.processingFee", "Processing fee must be >= 0");
+        if (membershipFee < 0)
+            result.add("LibraryRecordData.membershipFee", "Membership fee must be >= 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Library", result);
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+final class LibraryView {
+    private final RowSource source;
+    private int row;
+
+    LibraryView(RowSource source) {
+        this.source = source;
+    }
+
+    public LibraryView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, LibraryColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, LibraryColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, LibraryColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, LibraryColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, LibraryColumns.UPDATED_DATE); }
+    public String getLibraryName() { return source.getString(row, LibraryColumns.LIBRARY_NAME); }
+    public String getAddress() { return source.getString(row, LibraryColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, LibraryColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, LibraryColumns.EMAIL); }
+    public String getSectionName() { return source.getString(row, LibraryColumns.SECTION_NAME); }
+    public String getSectionCode() { return source.getString(row, LibraryColumns.SECTION_CODE); }
+    public String getBookTitle() { return source.getString(row, LibraryColumns.BOOK_TITLE); }
+    public String getAuthor() { return source.getString(row, LibraryColumns.AUTHOR); }
+    public String getBookEmail() { return source.getString(row, LibraryColumns.BOOK_EMAIL); }
+    public String getPhone() { return source.getString(row, LibraryColumns.PHONE); }
+    public String getMemberName() { return source.getString(row, LibraryColumns.MEMBER_NAME); }
+    public String getMembershipType() { return source.getString(row, LibraryColumns.MEMBERSHIP_TYPE); }
+    public byte getMembershipTypeCode() { return (byte) source.getInt(row, LibraryColumns.MEMBERSHIP_TYPE); }
+    public int getYearsOfMembership() { return source.getInt(row, LibraryColumns.YEARS_OF_MEMBERSHIP); }
+    public String getBorrowDate() { return source.getString(row, LibraryColumns.BORROW_DATE); }
+    public int getBorrowDay() { return source.getInt(row, LibraryColumns.BORROW_DATE); }
+    public int getBorrowDays() { return source.getInt(row, LibraryColumns.BORROW_DAYS); }
+    public String getReturnStatus() { return source.getString(row, LibraryColumns.RETURN_STATUS); }
+    public byte getReturnStatusCode() { return (byte) source.getInt(row, LibraryColumns.RETURN_STATUS); }
+    public String getContactNumber() { return source.getString(row, LibraryColumns.CONTACT_NUMBER); }
+    public String getFineReason() { return source.getString(row, LibraryColumns.FINE_REASON); }
+    public int getDaysLate() { return source.getInt(row, LibraryColumns.DAYS_LATE); }
+    public double getFineAmount() { return source.getDouble(row, LibraryColumns.FINE_AMOUNT); }
+    public String getPaymentMethod() { return source.getString(row, LibraryColumns.PAYMENT_METHOD); }
+    public String getTransactionId() { return source.getString(row, LibraryColumns.TRANSACTION_ID); }
+    public double getPaymentAmount() { return source.getDouble(row, LibraryColumns.PAYMENT_AMOUNT); }
+    public double getProcessingFee() { return source.getDouble(row, LibraryColumns.PROCESSING_FEE); }
+    public double getMembershipFee() { return source.getDouble(row, LibraryColumns.MEMBERSHIP_FEE); }
+    public double getTotalFine() { return source.getDouble(row, LibraryColumns.TOTAL_FINE); }
+
+    public double calculateFine() {
+        return Money.toDouble(Money.multiply(cents(LibraryColumns.FINE_AMOUNT), getDaysLate()));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,17 @@
+enum MembershipType {
+    REGULAR("Regular"),
+    PREMIUM("Premium");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    MembershipType(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
@@ -1,369 +1,36 @@
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
-class LibraryException extends Exception {
-    public LibraryException(String message) {
-        super(message);
-    }
-}
-
-class LibraryEntity {
-    private int id;
-    private String createdDate;
-    private String updatedDate;
-
-    public LibraryEntity(int id, String createdDate, String updatedDate) throws LibraryException {
-        if (id <= 0) throw new LibraryException("ID must be greater than 0");
-        if (createdDate == null || createdDate.trim().isEmpty()) 
-            throw new LibraryException("Created date cannot be null or empty");
-        if (updatedDate == null || updatedDate.trim().isEmpty()) 
-            throw new LibraryException("Updated date cannot be null or empty");
-        
-        this.id = id;
-        this.createdDate = createdDate;
-        this.updatedDate = updatedDate;
-    }
-
-    public int getId() { return id; }
-    public void setId(int id) { this.id = id; }
-    public String getCreatedDate() { return createdDate; }
-    public void setCreatedDate(String createdDate) { this.createdDate = createdDate; }
-    public String getUpdatedDate() { return updatedDate; }
-    public void setUpdatedDate(String updatedDate) { this.updatedDate = updatedDate; }
-}
-
-class LibrarySystem extends LibraryEntity {
-    private String libraryName;
-    private String address;
-    private String phoneNumber;
-    private String email;
-
-    public LibrarySystem(int id, String createdDate, String updatedDate, String libraryName, 
-                   String address, String phoneNumber, String email) throws LibraryException {
-        super(id, createdDate, updatedDate);
-        
-        if (!phoneNumber.matches("\\d{10}")) 
-            throw new LibraryException("Phone number must be exactly 10 digits");
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new LibraryException("Invalid email format");
-        
-        this.libraryName = libraryName;
-        this.address = address;
-        this.phoneNumber = phoneNumber;
-        this.email = email;
-    }
-
-    public String getLibraryName() { return libraryName; }
-    public void setLibraryName(String libraryName) { this.libraryName = libraryName; }
-    public String getAddress() { return address; }
-    public void setAddress(String address) { this.address = address; }
-    public String getPhoneNumber() { return phoneNumber; }
-    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
-    public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
-}
-
-class LibrarySection extends LibrarySystem {
-    private String sectionName;
-    private String sectionCode;
-
-    public LibrarySection(int id, String createdDate, String updatedDate, String libraryName,
-                  String address, String phoneNumber, String email, String sectionName,
-                  String sectionCode) throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email);
-        
-        if (sectionCode.length() < 3 || !sectionCode.matches("^[a-zA-Z0-9]+$")) 
-            throw new LibraryException("Section code must be alphanumeric and at least 3 characters");
-        
-        this.sectionName = sectionName;
-        this.sectionCode = sectionCode;
-    }
-
-    public String getSectionName() { return sectionName; }
-    public void setSectionName(String sectionName) { this.sectionName = sectionName; }
-    public String getSectionCode() { return sectionCode; }
-    public void setSectionCode(String sectionCode) { this.sectionCode = sectionCode; }
-}
-
-class LibraryBook extends LibrarySection {
-    private String bookTitle;
-    private String author;
-    private String bookEmail;
-    private String phone;
-
-    public LibraryBook(int id, String createdDate, String updatedDate, String libraryName,
-                  String address, String phoneNumber, String email, String sectionName,
-                  String sectionCode, String bookTitle, String author,
-                  String bookEmail, String phone) throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
-              sectionName, sectionCode);
-        
-        if (author == null || author.trim().isEmpty()) 
-            throw new LibraryException("Author cannot be empty");
-        if (!bookEmail.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new LibraryException("Invalid book email format");
-        if (!phone.matches("\\d{10}")) 
-            throw new LibraryException("Book phone must be exactly 10 digits");
-        
-        this.bookTitle = bookTitle;
-        this.author = author;
-        this.bookEmail = bookEmail;
-        this.phone = phone;
-    }
-
-    public String getBookTitle() { return bookTitle; }
-    public void setBookTitle(String bookTitle) { this.bookTitle = bookTitle; }
-    public String getAuthor() { return author; }
-    public void setAuthor(String author) { this.author = author; }
-    public String getBookEmail() { return bookEmail; }
-    public void setBookEmail(String bookEmail) { this.bookEmail = bookEmail; }
-    public String getPhone() { return phone; }
-    public void setPhone(String phone) { this.phone = phone; }
-}
-
-class LibraryMember extends LibraryBook {
-    private String memberName;
-    private String membershipType;
-    private int yearsOfMembership;
-
-    public LibraryMember(int id, String createdDate, String updatedDate, String libraryName,
-                String address, String phoneNumber, String email, String sectionName,
-                String sectionCode, String bookTitle, String author,
-                String bookEmail, String phone, String memberName, String membershipType,
-                int yearsOfMembership) throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
-              sectionName, sectionCode, bookTitle, author, bookEmail, phone);
-        
-        if (!membershipType.equals("Regular") && !membershipType.equals("Premium")) 
-            throw new LibraryException("Membership type must be 'Regular' or 'Premium'");
-        if (yearsOfMembership < 0) 
-            throw new LibraryException("Years of membership must be >= 0");
-        
-        this.memberName = memberName;
-        this.membershipType = membershipType;
-        this.yearsOfMembership = yearsOfMembership;
-    }
-
-    public String getMemberName() { return memberName; }
-    public void setMemberName(String memberName) { this.memberName = memberName; }
-    public String getMembershipType() { return membershipType; }
-    public void setMembershipType(String membershipType) { this.membershipType = membershipType; }
-    public int getYearsOfMembership() { return yearsOfMembership; }
-    public void setYearsOfMembership(int yearsOfMembership) { this.yearsOfMembership = yearsOfMembership; }
-}
-
-class LibraryBorrow extends LibraryMember {
-    private String borrowDate;
-    private int borrowDays;
-    private String returnStatus;
-    private String contactNumber;
-
-    public LibraryBorrow(int id, String createdDate, String updatedDate, String libraryName,
-                  String address, String phoneNumber, String email, String sectionName,
-                  String sectionCode, String bookTitle, String author,
-                  String bookEmail, String phone, String memberName, String membershipType,
-                  int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
-                  String contactNumber) throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
-              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
-              memberName, membershipType, yearsOfMembership);
-        
-        if (borrowDays <= 0) throw new LibraryException("Borrow days must be > 0");
-        if (!returnStatus.equals("Returned") && !returnStatus.equals("NotReturned") && !returnStatus.equals("Lost")) 
-            throw new LibraryException("Return status must be 'Returned', 'NotReturned', or 'Lost'");
-        
-        this.borrowDate = borrowDate;
-        this.borrowDays = borrowDays;
-        this.returnStatus = returnStatus;
-        this.contactNumber = contactNumber;
-    }
-
-    public String getBorrowDate() { return borrowDate; }
-    public void setBorrowDate(String borrowDate) { this.borrowDate = borrowDate; }
-    public int getBorrowDays() { return borrowDays; }
-    public void setBorrowDays(int borrowDays) { this.borrowDays = borrowDays; }
-    public String getReturnStatus() { return returnStatus; }
-    public void setReturnStatus(String returnStatus) { this.returnStatus = returnStatus; }
-    public String getContactNumber() { return contactNumber; }
-    public void setContactNumber(String contactNumber) { this.contactNumber = contactNumber; }
-}
-
-class LibraryFine extends LibraryBorrow {
-    private String fineReason;
-    private int daysLate;
-    private double fineAmount;
-
-    public LibraryFine(int id, String createdDate, String updatedDate, String libraryName,
-                    String address, String phoneNumber, String email, String sectionName,
-                    String sectionCode, String bookTitle, String author,
-                    String bookEmail, String phone, String memberName, String membershipType,
-                    int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
-                    String contactNumber, String fineReason, int daysLate,
-                    double fineAmount) throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
-              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
-              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber);
-        
-        if (fineReason == null || fineReason.trim().isEmpty()) 
-            throw new LibraryException("Fine reason cannot be null");
-        if (fineAmount < 0) 
-            throw new LibraryException("Fine amount must be >= 0");
-        
-        this.fineReason = fineReason;
-        this.daysLate = daysLate;
-        this.fineAmount = fineAmount;
-    }
-
-    public String getFineReason() { return fineReason; }
-    public void setFineReason(String fineReason) { this.fineReason = fineReason; }
-    public int getDaysLate() { return daysLate; }
-    public void setDaysLate(int daysLate) { this.daysLate = daysLate; }
-    public double getFineAmount() { return fineAmount; }
-    public void setFineAmount(double fineAmount) { this.fineAmount = fineAmount; }
-}
-
-class LibraryPayment extends LibraryFine {
-    private String paymentMethod;
-    private String transactionId;
-    private double paymentAmount;
-
-    public LibraryPayment(int id, String createdDate, String updatedDate, String libraryName,
-                    String address, String phoneNumber, String email, String sectionName,
-                    String sectionCode, String bookTitle, String author,
-                    String bookEmail, String phone, String memberName, String membershipType,
-                    int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
-                    String contactNumber, String fineReason, int daysLate,
-                    double fineAmount, String paymentMethod, String transactionId,
-                    double paymentAmount) throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
-              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
-              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber,
-              fineReason, daysLate, fineAmount);
-        
-        if (paymentAmount < 0) 
-            throw new LibraryException("Payment amount must be >= 0");
-        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
-            throw new LibraryException("Payment method cannot be empty");
-        if (transactionId == null || transactionId.trim().isEmpty()) 
-            throw new LibraryException("Transaction ID cannot be empty");
-        
-        this.paymentMethod = paymentMethod;
-        this.transactionId = transactionId;
-        this.paymentAmount = paymentAmount;
-    }
-
-    public String getPaymentMethod() { return paymentMethod; }
-    public void setPaymentMethod(String paymentMethod) { this.paymentMethod = paymentMethod; }
-    public String getTransactionId() { return transactionId; }
-    public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
-    public double getPaymentAmount() { return paymentAmount; }
-    public void setPaymentAmount(double paymentAmount) { this.paymentAmount = paymentAmount; }
-}
-
-class LibraryRecordData extends LibraryPayment {
-    private double processingFee;
-    private double membershipFee;
-    private double totalFine;
-
-    public LibraryRecordData(int id, String createdDate, String updatedDate, String libraryName,
-               String address, String phoneNumber, String email, String sectionName,
-               String sectionCode, String bookTitle, String author,
-               String bookEmail, String phone, String memberName, String membershipType,
-               int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
-               String contactNumber, String fineReason, int daysLate,
-               double fineAmount, String paymentMethod, String transactionId,
-               double paymentAmount, double processingFee, double membershipFee) 
-               throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
-              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
-              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber,
-              fineReason, daysLate, fineAmount, paymentMethod, transactionId, paymentAmount);
-        
-        if (processingFee < 0) throw new LibraryException("Processing fee must be >= 0");
-        if (membershipFee < 0) throw new LibraryException("Membership fee must be >= 0");
-        
-        this.processingFee = processingFee;
-        this.membershipFee = membershipFee;
-        this.totalFine = 0;
-    }
-
-    public double getProcessingFee() { return processingFee; }
-    public void setProcessingFee(double processingFee) { this.processingFee = processingFee; }
-    public double getMembershipFee() { return membershipFee; }
-    public void setMembershipFee(double membershipFee) { this.membershipFee = membershipFee; }
-    public double getTotalFine() { return totalFine; }
-    public void setTotalFine(double totalFine) { this.totalFine = totalFine; }
-}
-
-final class LibraryManagementRecord extends LibraryRecordData {
-    public LibraryManagementRecord(int id, String createdDate, String updatedDate, String libraryName,
-                         String address, String phoneNumber, String email, String sectionName,
-                         String sectionCode, String bookTitle, String author,
-                         String bookEmail, String phone, String memberName, String membershipType,
-                         int yearsOfMembership, String borrowDate, int borrowDays, String returnStatus,
-                         String contactNumber, String fineReason, int daysLate,
-                         double fineAmount, String paymentMethod, String transactionId,
-                         double paymentAmount, double processingFee, double membershipFee) 
-                         throws LibraryException {
-        super(id, createdDate, updatedDate, libraryName, address, phoneNumber, email,
-              sectionName, sectionCode, bookTitle, author, bookEmail, phone,
-              memberName, membershipType, yearsOfMembership, borrowDate, borrowDays, returnStatus, contactNumber,
-              fineReason, daysLate, fineAmount, paymentMethod, transactionId, paymentAmount,
-              processingFee, membershipFee);
-    }
-
-    public double calculateFine() {
-        double total = getFineAmount() * getDaysLate();
-        setTotalFine(total);
-        return total;
-    }
-
-    public void displayRecord() {
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - ========== LIBRARY MANAGEMENT SYSTEM ==========");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Record ID: " + getId());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Created Date: " + getCreatedDate());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Updated Date: " + getUpdatedDate());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Library Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Library Name: " + getLibraryName());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Address: " + getAddress());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Phone: " + getPhoneNumber());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Email: " + getEmail());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Section Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Section Name: " + getSectionName());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Section Code: " + getSectionCode());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Book Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Book Title: " + getBookTitle());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Author: " + getAuthor());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Book Email: " + getBookEmail());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Book Phone: " + getPhone());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Member Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Member Name: " + getMemberName());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Membership Type: " + getMembershipType());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Years of Membership: " + getYearsOfMembership());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Borrow Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Borrow Date: " + getBorrowDate());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Borrow Days: " + getBorrowDays());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Return Status: " + getReturnStatus());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Contact Number: " + getContactNumber());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Fine Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Fine Reason: " + getFineReason());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Days Late: " + getDaysLate());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Fine Amount: $" + getFineAmount());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Payment Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Payment Method: " + getPaymentMethod());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Transaction ID: " + getTransactionId());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Payment Amount: $" + getPaymentAmount());
-        System.out.println("\n" + Question8_LibraryManagement.STUDENT_ID + " - --- Record Details ---");
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Processing Fee: $" + getProcessingFee());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Membership Fee: $" + getMembershipFee());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Total Fine: $" + getTotalFine());
-        System.out.println(Question8_LibraryManagement.STUDENT_ID + " - ===============================================\n");
-    }
-}
-
 public class Question8_LibraryManagement {
     public static final String STUDENT_ID = "27264";
     
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--generate")) {
+            runGenerate(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replay")) {
+            runReplay(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--snapshot")) {
+            runSnapshot(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--restore")) {
+            runRestore(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--reconcile")) {
+            runReconcile(args);
+            return;
+        }
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         
         try {
@@ -474,4 +141,108 @@ public class Question8_LibraryManagement {
             scanner.close();
         }
     }
+
+    private static void runBatch(String[] args) {
+        if ((args.length != 3 && args.length != 4) || !args[0].equals("--batch")) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Usage: java Question8_LibraryManagement --batch <input file> <output file> [threads]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        ParallelBatch.DuplicateIds duplicateIds;
+        try {
+            duplicateIds = ParallelBatch.duplicateIdsProperty();
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - " + e.getMessage());
+            return;
+        }
+        try {
+            ParallelBatch batch = args.length == 4
+                ? new ParallelBatch(Integer.parseInt(args[3]), ParallelBatch.DEFAULT_CHUNK_BYTES)
+                : new ParallelBatch();
+            batch.duplicateIds(duplicateIds);
+            LibraryBatchLoader.run(Paths.get(args[1]), Paths.get(args[2]), batch);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Threads must be a positive number");
+        } catch (IOException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runGenerate(String[] args) {
+        if (args.length != 3 && args.length != 4) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Usage: java Question8_LibraryManagement --generate <output file or -> <rows> [seed]");
+            return;
+        }
+
+        try {
+            int rows = Integer.parseInt(args[2]);
+            long seed = args.length == 4 ? Long.parseLong(args[3]) : 1;
+            LibraryGenerator.run(args[1], rows, new SyntheticData(seed));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Rows, seed and generator settings must be valid numbers");
+        } catch (IOException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReplay(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Usage: java Question8_LibraryManagement --replay <batch file> <journal file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            LibraryBatchLoader.replay(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runSnapshot(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Usage: java Question8_LibraryManagement --snapshot <batch file> <snapshot file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            LibraryBatchLoader.snapshot(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runRestore(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Usage: java Question8_LibraryManagement --restore <snapshot file> [journal file]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            LibraryBatchLoader.restore(Paths.get(args[1]), args.length == 3 ? Paths.get(args[2]) : null);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReconcile(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - Usage: java Question8_LibraryManagement --reconcile <batch file> <batch file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            LibraryBatchLoader.reconcile(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question8_LibraryManagement.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,18 @@
+enum ReturnStatus {
+    RETURNED("Returned"),
+    NOT_RETURNED("NotReturned"),
+    LOST("Lost");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    ReturnStatus(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
@@ -0,0 +1,44 @@
+class Airline extends Entity {
+    private AirlineProfile profile;
+
+    public Airline(int id, String createdDate, String updatedDate, String airlineName, 
+                   String address, String phoneNumber, String email) throws AirlineException {
+        super(id, createdDate, updatedDate);
+        
+        this.profile = AirlineProfile.of(airlineName, address, phoneNumber, email);
+    }
+
+    Airline(RowSource source, int row) {
+        super(source, row);
+        String airlineName = source.getString(row, AirlineColumns.AIRLINE_NAME);
+        String address = source.getString(row, AirlineColumns.ADDRESS);
+        String phoneNumber = source.getString(row, AirlineColumns.PHONE_NUMBER);
+        String email = source.getString(row, AirlineColumns.EMAIL);
+        this.profile = AirlineProfile.restore(airlineName, address, phoneNumber, email);
+    }
+
+    public String getAirlineName() { return profile.getAirlineName(); }
+    public void setAirlineName(String airlineName) {
+        changing(AirlineColumns.AIRLINE_NAME);
+        profile = profile.withAirlineName(airlineName);
+        changed(AirlineColumns.AIRLINE_NAME);
+    }
+    public String getAddress() { return profile.getAddress(); }
+    public void setAddress(String address) {
+        changing(AirlineColumns.ADDRESS);
+        profile = profile.withAddress(address);
+        changed(AirlineColumns.ADDRESS);
+    }
+    public String getPhoneNumber() { return profile.getPhoneNumber(); }
+    public void setPhoneNumber(String phoneNumber) {
+        changing(AirlineColumns.PHONE_NUMBER);
+        profile = profile.withPhoneNumber(phoneNumber);
+        changed(AirlineColumns.PHONE_NUMBER);
+    }
+    public String getEmail() { return profile.getEmail(); }
+    public void setEmail(String email) {
+        changing(AirlineColumns.EMAIL);
+        profile = profile.withEmail(email);
+        changed(AirlineColumns.EMAIL);
+    }
+}
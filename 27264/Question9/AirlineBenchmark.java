@@ -0,0 +1,175 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+public class AirlineBenchmark {
+    public static void main(String[] args) throws Exception {
+        MicroBench bench = new MicroBench();
+        TicketRecord record = newRecord(1);
+
+        bench.header("TicketRecord");
+        bench.run("new Entity", i -> new Entity(i % 1_000_000 + 1, "2024-01-01", "2024-01-02"));
+        bench.run("new TicketRecord", i -> newRecord(i % 1_000_000 + 1));
+        bench.runDouble("generateInvoice", i -> record.generateInvoice());
+
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            bench.run("displayRecord", i -> {
+                record.displayRecord();
+                return record;
+            });
+        } finally {
+            System.setOut(console);
+        }
+        ReportWriter report = new ReportWriter(OutputStream.nullOutputStream());
+        bench.run("writeDetailed", i -> {
+            AirlineReport.writeDetailed(record, report);
+            return report;
+        });
+        bench.run("writeCompact", i -> {
+            AirlineReport.writeCompact(record, report);
+            return report;
+        });
+
+        bench.header("TicketRecord rejects");
+        bench.run("reject by exception", i -> reject(-1));
+        DomainExceptions.setStackTraces(false);
+        try {
+            bench.run("reject by stackless exception", i -> reject(-1));
+        } finally {
+            DomainExceptions.setStackTraces(true);
+        }
+        ValidationResult result = new ValidationResult();
+        bench.run("reject by AirlineValidator", i -> AirlineValidator.validate(-1, "2024-01-01",
+            "2024-01-02", "RwandAir", "KN 1 Rd", "0781234567", "info@rwandair.com", "WB101",
+            "WB101", "Aline Uwera", "PC123456", "aline@mail.com", "0789876543", "12A", "Economy",
+            40, "TK0001", 1, "Confirmed", "0781112223", "Checked", 23, 35.0, "Card", "TX5555",
+            450.0, 45.0, 15.0, result));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        bench.header("TicketRecord x " + rows + " rows");
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        TicketRecord[] records = new TicketRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newRecord(i + 1);
+        long heapRecords = MicroBench.usedHeapAfterGc();
+        ColumnTable table = new ColumnTable(AirlineColumns.SCHEMA, rows);
+        for (TicketRecord r : records) AirlineColumns.append(table, r);
+        long heapColumns = MicroBench.usedHeapAfterGc();
+        System.out.println("heap: records " + (heapRecords - heapBefore) / 1024 + " KB, columns "
+            + (heapColumns - heapRecords) / 1024 + " KB");
+
+        AirlineView view = new AirlineView(table);
+        bench.runDouble("generateInvoice over records", i -> {
+            double sum = 0;
+            for (TicketRecord r : records) sum += r.generateInvoice();
+            return sum;
+        });
+        bench.runDouble("generateInvoice over view", i -> {
+            double sum = 0;
+            for (int row = 0; row < rows; row++) sum += view.at(row).generateInvoice();
+            return sum;
+        });
+        bench.run("generateInvoice column kernel", i -> {
+            AirlineColumns.generateInvoice(table);
+            return table;
+        });
+        Path file = Files.createTempFile("TicketRecord", ".rec");
+        long writeStart = System.nanoTime();
+        try (RecordFileWriter writer = RecordFileWriter.open(file, AirlineColumns.SCHEMA)) {
+            for (TicketRecord r : records) AirlineColumns.append(writer, r);
+        }
+        System.out.println("record file: " + rows + " rows written in " + (System.nanoTime() - writeStart) / 1_000_000
+            + " ms, " + RecordFileWriter.fileSize(file) / 1024 + " KB");
+        try (RecordFileReader reader = RecordFileReader.open(file, AirlineColumns.SCHEMA)) {
+            AirlineView mapped = new AirlineView(reader);
+            bench.runDouble("generateInvoice over mapped file", i -> {
+                double sum = 0;
+                for (int row = 0; row < rows; row++) sum += mapped.at(row).generateInvoice();
+                return sum;
+            });
+        } finally {
+            RecordFileWriter.delete(file);
+        }
+        List<TicketRecord> recordList = Arrays.asList(records).subList(0, Math.min(rows, 1_000));
+        bench.run("writeAll detailed x " + recordList.size(), i -> {
+            AirlineReport.writeAll(recordList, report, false);
+            return report;
+        });
+        bench.run("writeAll compact x " + recordList.size(), i -> {
+            AirlineReport.writeAll(recordList, report, true);
+            return report;
+        });
+
+        sharedProfiles(Integer.getInteger("bench.parsedRows", 1_000_000), Integer.getInteger("bench.organizations", 50));
+        offHeap(Integer.getInteger("bench.arenaRows", 1_000_000));
+    }
+
+    // Builds records from freshly allocated strings, as a file loader would, to show what profile sharing saves.
+    static void sharedProfiles(int rows, int organizations) throws AirlineException {
+        long heapBefore = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        TicketRecord[] records = new TicketRecord[rows];
+        for (int i = 0; i < rows; i++) records[i] = newParsedRecord(i + 1, i % organizations);
+        long elapsed = System.nanoTime() - start;
+        long retained = MicroBench.usedHeapAfterGc() - heapBefore;
+        System.out.printf("%n%d parsed records, %d organizations, flyweight.enabled=%s: %.0f records/s, %d MB retained%n",
+            records.length, organizations, Interner.ENABLED, rows * 1_000_000_000.0 / elapsed, retained / (1024 * 1024));
+    }
+
+    // Fills an arena from records built one at a time, so the row count is not bounded by the heap,
+    // then scans it through a view and with the column kernel.
+    static void offHeap(int rows) throws Exception {
+        long start = System.nanoTime();
+        RecordArena arena = new RecordArena(AirlineColumns.SCHEMA);
+        for (int i = 0; i < rows; i++) AirlineColumns.append(arena, newRecord(i + 1));
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%n%d rows off-heap in %d ms: %d MB direct, %d MB heap in use%n", rows,
+            elapsed / 1_000_000, arena.offHeapBytes() >> 20, MicroBench.usedHeapAfterGc() >> 20);
+
+        AirlineView view = new AirlineView(arena);
+        double sum = 0;
+        for (int pass = 0; pass < 5; pass++) {
+            start = System.nanoTime();
+            for (int row = 0; row < rows; row++) sum += view.at(row).generateInvoice();
+            long viewNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            AirlineColumns.generateInvoice(arena);
+            long kernelNanos = System.nanoTime() - start;
+            System.out.printf("pass %d: generateInvoice over view %d ms, column kernel %d ms%n", pass + 1,
+                viewNanos / 1_000_000, kernelNanos / 1_000_000);
+        }
+        System.out.println("checksum " + sum);
+    }
+
+    static Object reject(int id) {
+        try {
+            return newRecord(id);
+        } catch (AirlineException e) {
+            return e;
+        }
+    }
+
+    static TicketRecord newRecord(int id) throws AirlineException {
+        return new TicketRecord(id, "2024-01-01", "2024-01-02", "RwandAir", "KN 1 Rd", "0781234567",
+            "info@rwandair.com", "WB101", "WB101", "Aline Uwera", "PC123456", "aline@mail.com",
+            "0789876543", "12A", "Economy", 40, "TK0001", 1, "Confirmed", "0781112223", "Checked",
+            23, 35.0, "Card", "TX5555", 450.0, 45.0, 15.0);
+    }
+
+    static TicketRecord newParsedRecord(int id, int organization) throws AirlineException {
+        return new TicketRecord(id, fresh("2024-01-01"), fresh("2024-01-02"),
+            "RwandAir" + organization, fresh("KN 1 Rd"), fresh("0781234567"),
+            fresh("info@rwandair.com"), fresh("WB101"), fresh("WB101"), fresh("Aline Uwera"),
+            fresh("PC123456"), fresh("aline@mail.com"), fresh("0789876543"), fresh("12A"),
+            fresh("Economy"), 40, fresh("TK0001"), 1, fresh("Confirmed"), fresh("0781112223"),
+            fresh("Checked"), 23, 35.0, fresh("Card"), fresh("TX5555"), 450.0, 45.0, 15.0);
+    }
+
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+}
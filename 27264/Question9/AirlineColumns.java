@@ -0,0 +1,151 @@
+import java.util.Collection;
+
+final class AirlineColumns {
+    static final Schema SCHEMA = new Schema("TicketRecord");
+
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int CREATED_DATE = SCHEMA.add("createdDate", ColumnType.DATE);
+    static final int UPDATED_DATE = SCHEMA.add("updatedDate", ColumnType.DATE);
+    static final int AIRLINE_NAME = SCHEMA.add("airlineName", ColumnType.DICT);
+    static final int ADDRESS = SCHEMA.add("address", ColumnType.DICT);
+    static final int PHONE_NUMBER = SCHEMA.add("phoneNumber", ColumnType.DICT);
+    static final int EMAIL = SCHEMA.add("email", ColumnType.DICT);
+    static final int FLIGHT_NUMBER = SCHEMA.add("flightNumber", ColumnType.DICT);
+    static final int FLIGHT_CODE = SCHEMA.add("flightCode", ColumnType.DICT);
+    static final int PASSENGER_NAME = SCHEMA.add("passengerName", ColumnType.TEXT);
+    static final int PASSPORT_NUMBER = SCHEMA.add("passportNumber", ColumnType.TEXT);
+    static final int PASSENGER_EMAIL = SCHEMA.add("passengerEmail", ColumnType.TEXT);
+    static final int PHONE = SCHEMA.add("phone", ColumnType.TEXT);
+    static final int SEAT_NUMBER = SCHEMA.add("seatNumber", ColumnType.TEXT);
+    static final int SEAT_CLASS = SCHEMA.add("seatClass", SeatClass.CODES);
+    static final int AVAILABLE_SEATS = SCHEMA.add("availableSeats", ColumnType.INT);
+    static final int TICKET_NUMBER = SCHEMA.add("ticketNumber", ColumnType.TEXT);
+    static final int TICKET_QUANTITY = SCHEMA.add("ticketQuantity", ColumnType.INT);
+    static final int BOOKING_STATUS = SCHEMA.add("bookingStatus", BookingStatus.CODES);
+    static final int CONTACT_NUMBER = SCHEMA.add("contactNumber", ColumnType.TEXT);
+    static final int BAGGAGE_TYPE = SCHEMA.add("baggageType", ColumnType.DICT);
+    static final int BAGGAGE_WEIGHT = SCHEMA.add("baggageWeight", ColumnType.INT);
+    static final int BAGGAGE_FEE = SCHEMA.add("baggageFee", ColumnType.MONEY);
+    static final int PAYMENT_METHOD = SCHEMA.add("paymentMethod", ColumnType.DICT);
+    static final int TRANSACTION_ID = SCHEMA.add("transactionId", ColumnType.TEXT);
+    static final int PRICE = SCHEMA.add("price", ColumnType.MONEY);
+    static final int TAX_AMOUNT = SCHEMA.add("taxAmount", ColumnType.MONEY);
+    static final int SERVICE_FEE = SCHEMA.add("serviceFee", ColumnType.MONEY);
+    static final int TOTAL_INVOICE = SCHEMA.add("totalInvoice", ColumnType.MONEY);
+
+    // Every column's getter and setter, for the change journal and the indexes
+    static final ColumnAccessors<TicketRecord> ACCESSORS = new ColumnAccessors<TicketRecord>(SCHEMA)
+        .addInt(ID, TicketRecord::getId, TicketRecord::setId)
+        .addString(CREATED_DATE, TicketRecord::getCreatedDate, TicketRecord::setCreatedDate)
+        .addString(UPDATED_DATE, TicketRecord::getUpdatedDate, TicketRecord::setUpdatedDate)
+        .addString(AIRLINE_NAME, TicketRecord::getAirlineName, TicketRecord::setAirlineName)
+        .addString(ADDRESS, TicketRecord::getAddress, TicketRecord::setAddress)
+        .addString(PHONE_NUMBER, TicketRecord::getPhoneNumber, TicketRecord::setPhoneNumber)
+        .addString(EMAIL, TicketRecord::getEmail, TicketRecord::setEmail)
+        .addString(FLIGHT_NUMBER, TicketRecord::getFlightNumber, TicketRecord::setFlightNumber)
+        .addString(FLIGHT_CODE, TicketRecord::getFlightCode, TicketRecord::setFlightCode)
+        .addString(PASSENGER_NAME, TicketRecord::getPassengerName, TicketRecord::setPassengerName)
+        .addString(PASSPORT_NUMBER, TicketRecord::getPassportNumber, TicketRecord::setPassportNumber)
+        .addString(PASSENGER_EMAIL, TicketRecord::getPassengerEmail, TicketRecord::setPassengerEmail)
+        .addString(PHONE, TicketRecord::getPhone, TicketRecord::setPhone)
+        .addString(SEAT_NUMBER, TicketRecord::getSeatNumber, TicketRecord::setSeatNumber)
+        .addString(SEAT_CLASS, TicketRecord::getSeatClass, TicketRecord::setSeatClass)
+        .addInt(AVAILABLE_SEATS, TicketRecord::getAvailableSeats, TicketRecord::setAvailableSeats)
+        .addString(TICKET_NUMBER, TicketRecord::getTicketNumber, TicketRecord::setTicketNumber)
+        .addInt(TICKET_QUANTITY, TicketRecord::getTicketQuantity, TicketRecord::setTicketQuantity)
+        .addString(BOOKING_STATUS, TicketRecord::getBookingStatus, TicketRecord::setBookingStatus)
+        .addString(CONTACT_NUMBER, TicketRecord::getContactNumber, TicketRecord::setContactNumber)
+        .addString(BAGGAGE_TYPE, TicketRecord::getBaggageType, TicketRecord::setBaggageType)
+        .addInt(BAGGAGE_WEIGHT, TicketRecord::getBaggageWeight, TicketRecord::setBaggageWeight)
+        .addDouble(BAGGAGE_FEE, TicketRecord::getBaggageFee, TicketRecord::setBaggageFee)
+        .addString(PAYMENT_METHOD, TicketRecord::getPaymentMethod, TicketRecord::setPaymentMethod)
+        .addString(TRANSACTION_ID, TicketRecord::getTransactionId, TicketRecord::setTransactionId)
+        .addDouble(PRICE, TicketRecord::getPrice, TicketRecord::setPrice)
+        .addDouble(TAX_AMOUNT, TicketRecord::getTaxAmount, TicketRecord::setTaxAmount)
+        .addDouble(SERVICE_FEE, TicketRecord::getServiceFee, TicketRecord::setServiceFee)
+        .addDouble(TOTAL_INVOICE, TicketRecord::getTotalInvoice, TicketRecord::setTotalInvoice)
+        .complete();
+
+    // Per-record keys worth a lookup index by default: contact details and reference numbers
+    static final String[] INDEXED = { "passengerEmail", "ticketNumber", "passportNumber" };
+
+    static RecordIndexes<TicketRecord> newIndexes(int expectedSize, String... columns) {
+        return new RecordIndexes<>(ACCESSORS, TicketRecord::indexedBy, expectedSize, columns);
+    }
+
+    private AirlineColumns() {
+    }
+
+    static int append(RowSink table, TicketRecord record) {
+        int row = table.addRow();
+        table.setInt(row, ID, record.getId());
+        table.setString(row, CREATED_DATE, record.getCreatedDate());
+        table.setString(row, UPDATED_DATE, record.getUpdatedDate());
+        table.setString(row, AIRLINE_NAME, record.getAirlineName());
+        table.setString(row, ADDRESS, record.getAddress());
+        table.setString(row, PHONE_NUMBER, record.getPhoneNumber());
+        table.setString(row, EMAIL, record.getEmail());
+        table.setString(row, FLIGHT_NUMBER, record.getFlightNumber());
+        table.setString(row, FLIGHT_CODE, record.getFlightCode());
+        table.setString(row, PASSENGER_NAME, record.getPassengerName());
+        table.setString(row, PASSPORT_NUMBER, record.getPassportNumber());
+        table.setString(row, PASSENGER_EMAIL, record.getPassengerEmail());
+        table.setString(row, PHONE, record.getPhone());
+        table.setString(row, SEAT_NUMBER, record.getSeatNumber());
+        table.setString(row, SEAT_CLASS, record.getSeatClass());
+        table.setInt(row, AVAILABLE_SEATS, record.getAvailableSeats());
+        table.setString(row, TICKET_NUMBER, record.getTicketNumber());
+        table.setInt(row, TICKET_QUANTITY, record.getTicketQuantity());
+        table.setString(row, BOOKING_STATUS, record.getBookingStatus());
+        table.setString(row, CONTACT_NUMBER, record.getContactNumber());
+        table.setString(row, BAGGAGE_TYPE, record.getBaggageType());
+        table.setInt(row, BAGGAGE_WEIGHT, record.getBaggageWeight());
+        table.setDouble(row, BAGGAGE_FEE, record.getBaggageFee());
+        table.setString(row, PAYMENT_METHOD, record.getPaymentMethod());
+        table.setString(row, TRANSACTION_ID, record.getTransactionId());
+        table.setDouble(row, PRICE, record.getPrice());
+        table.setDouble(row, TAX_AMOUNT, record.getTaxAmount());
+        table.setDouble(row, SERVICE_FEE, record.getServiceFee());
+        table.setDouble(row, TOTAL_INVOICE, record.getTotalInvoice());
+        return row;
+    }
+
+    // The inverse of append: a record holding a row's stored values, computed columns included,
+    // without parsing or validating them again.
+    static TicketRecord record(RowSource source, int row) {
+        return new TicketRecord(source, row);
+    }
+
+    // The records as columns, with the computed column filled in; the source for a Query.
+    static ColumnTable table(Collection<TicketRecord> records) {
+        ColumnTable table = new ColumnTable(SCHEMA, records.size());
+        for (TicketRecord record : records) append(table, record);
+        generateInvoice(table);
+        return table;
+    }
+
+    static void generateInvoice(ColumnTable table) {
+        long[] price = table.cents(PRICE);
+        long[] baggageFee = table.cents(BAGGAGE_FEE);
+        long[] totalInvoice = table.cents(TOTAL_INVOICE);
+        for (int row = 0, n = table.size(); row < n; row++) {
+            totalInvoice[row] = price[row] + baggageFee[row];
+        }
+    }
+
+    // The same over off-heap rows, reading and writing the cents in place.
+    static void generateInvoice(RecordArena arena) {
+        for (int row = 0, n = arena.size(); row < n; row++) {
+            arena.setLong(row, TOTAL_INVOICE, arena.getLong(row, PRICE) + arena.getLong(row, BAGGAGE_FEE));
+        }
+    }
+
+    // Total invoice per seat class, indexed by SeatClass.code().
+    static long[] invoicesBySeatClass(ColumnTable table) {
+        return SeatClass.CODES.sum(table.bytes(SEAT_CLASS), table.cents(TOTAL_INVOICE), table.size());
+    }
+
+    static int[] ticketsByBookingStatus(ColumnTable table) {
+        return BookingStatus.CODES.count(table.bytes(BOOKING_STATUS), table.size());
+    }
+}
@@ -0,0 +1,82 @@
+import java.io.IOException;
+
+class AirlineGenerator implements SyntheticData.Domain {
+    private static final int FIRST_DAY = Dates.of(2024, 1, 1);
+    private static final int FLIGHTS = 500;
+
+    // name, mail domain, address, flight number prefix
+    private static final String[][] AIRLINES = {
+        { "RwandAir", "rwandair.com", "KN 1 Rd", "WB" },
+        { "Kenya Airways", "kenya-airways.com", "KN 3 Rd", "KQ" },
+        { "Ethiopian Airlines", "ethiopianairlines.com", "KG 2 Ave", "ET" }
+    };
+    private static final String[] BAGGAGE_TYPES = { "Checked", "Carry-on", "Oversize" };
+    private static final String[] PAYMENT_METHODS = { "Card", "Mobile Money", "Bank Transfer", "Cash" };
+    private static final BookingStatus[] BOOKING_STATUSES = BookingStatus.values();
+
+    private static final SyntheticData.Breaker[] BREAKERS = {
+        SyntheticData.notPositive(0), SyntheticData.empty(1), SyntheticData.empty(2), SyntheticData.phone(5),
+        SyntheticData.email(6), SyntheticData.code(8), SyntheticData.empty(10), SyntheticData.email(11),
+        SyntheticData.phone(12), SyntheticData.unknown(14), SyntheticData.negative(15),
+        SyntheticData.notPositive(17), SyntheticData.unknown(18), SyntheticData.empty(20),
+        SyntheticData.negative(22), SyntheticData.empty(23), SyntheticData.empty(24),
+        SyntheticData.notPositive(25), SyntheticData.negative(26), SyntheticData.negative(27)
+    };
+
+    public static SyntheticData.Summary run(String output, int rows, SyntheticData data) throws IOException {
+        SyntheticData.Summary summary = data.generate(new AirlineGenerator(), rows, output);
+        SyntheticData.log(output).println(Question9_AirlineTicketing.STUDENT_ID + " - Generated "
+            + summary.getRows() + " rows (" + summary.getInvalid() + " invalid) in "
+            + (summary.getElapsedNanos() / 1_000_000) + " ms on " + data.getParallelism() + " threads, "
+            + summary.rowsPerSecond() + " rows/s");
+        return summary;
+    }
+
+    @Override
+    public int fieldCount() { return AirlineBatchLoader.FIELD_COUNT; }
+
+    @Override
+    public SyntheticData.Breaker[] breakers() { return BREAKERS; }
+
+    // Hot flights are the low flight numbers; each flight always belongs to the same airline.
+    @Override
+    public void fill(SyntheticData.Source source, int id, String[] fields) {
+        int flight = source.skewed(FLIGHTS);
+        String[] airline = AIRLINES[flight % AIRLINES.length];
+        String flightNumber = airline[3] + (100 + flight);
+        String passenger = source.name();
+        int created = source.day(FIRST_DAY, 366);
+        SeatClass seatClass = source.chance(0.85) ? SeatClass.ECONOMY : SeatClass.BUSINESS;
+        long price = seatClass == SeatClass.ECONOMY ? source.cents(15_000, 90_000) : source.cents(120_000, 400_000);
+        int baggageWeight = source.between(0, 32);
+
+        fields[0] = Integer.toString(id);
+        fields[1] = SyntheticData.date(created);
+        fields[2] = SyntheticData.date(created + source.nextInt(30));
+        fields[3] = airline[0];
+        fields[4] = airline[2];
+        fields[5] = source.phone();
+        fields[6] = "info@" + airline[1];
+        fields[7] = flightNumber;
+        fields[8] = flightNumber;
+        fields[9] = passenger;
+        fields[10] = source.code("PC", 6);
+        fields[11] = source.email(passenger, "mail.com");
+        fields[12] = source.phone();
+        fields[13] = Integer.toString(1 + source.nextInt(40)) + (char) ('A' + source.nextInt(6));
+        fields[14] = seatClass.toString();
+        fields[15] = Integer.toString(source.nextInt(180));
+        fields[16] = "TK" + id;
+        fields[17] = Integer.toString(source.chance(0.8) ? 1 : source.between(2, 5));
+        fields[18] = source.pick(BOOKING_STATUSES).toString();
+        fields[19] = source.phone();
+        fields[20] = baggageWeight > 23 ? "Oversize" : source.pick(BAGGAGE_TYPES);
+        fields[21] = Integer.toString(baggageWeight);
+        fields[22] = SyntheticData.money(baggageWeight > 23 ? 150L * baggageWeight : 0);
+        fields[23] = source.pick(PAYMENT_METHODS);
+        fields[24] = source.code("TX", 6);
+        fields[25] = SyntheticData.money(price);
+        fields[26] = SyntheticData.money(price / 10);
+        fields[27] = source.money(500, 2_500);
+    }
+}
@@ -0,0 +1,84 @@
+import java.util.Objects;
+
+final class AirlineProfile {
+    private static final Interner<AirlineProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<AirlineProfile> RESTORED = new Interner<>();
+
+    private final String airlineName;
+    private final String address;
+    private final String phoneNumber;
+    private final String email;
+    private final int hash;
+
+    private AirlineProfile(String airlineName, String address, String phoneNumber, String email) {
+        this.airlineName = airlineName;
+        this.address = address;
+        this.phoneNumber = phoneNumber;
+        this.email = email;
+        int hash = Objects.hashCode(airlineName);
+        hash = 31 * hash + Objects.hashCode(address);
+        hash = 31 * hash + Objects.hashCode(phoneNumber);
+        hash = 31 * hash + Objects.hashCode(email);
+        this.hash = hash;
+    }
+
+    static AirlineProfile of(String airlineName, String address, String phoneNumber, String email)
+            throws AirlineException {
+        AirlineProfile candidate = new AirlineProfile(airlineName, address, phoneNumber, email);
+        AirlineProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isPhone(phoneNumber)) 
+            throw new AirlineException("Airline.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email)) 
+            throw new AirlineException("Airline.email", "Invalid email format");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static AirlineProfile restore(String airlineName, String address, String phoneNumber, String email) {
+        AirlineProfile candidate = new AirlineProfile(airlineName, address, phoneNumber, email);
+        AirlineProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getAirlineName() { return airlineName; }
+    public String getAddress() { return address; }
+    public String getPhoneNumber() { return phoneNumber; }
+    public String getEmail() { return email; }
+
+    AirlineProfile withAirlineName(String airlineName) {
+        return new AirlineProfile(airlineName, address, phoneNumber, email);
+    }
+
+    AirlineProfile withAddress(String address) {
+        return new AirlineProfile(airlineName, address, phoneNumber, email);
+    }
+
+    AirlineProfile withPhoneNumber(String phoneNumber) {
+        return new AirlineProfile(airlineName, address, phoneNumber, email);
+    }
+
+    AirlineProfile withEmail(String email) {
+        return new AirlineProfile(airlineName, address, phoneNumber, email);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof AirlineProfile)) return false;
+        AirlineProfile that = (AirlineProfile) other;
+        return hash == that.hash
+            && Objects.equals(airlineName, that.airlineName)
+            && Objects.equals(address, that.address)
+            && Objects.equals(phoneNumber, that.phoneNumber)
+            && Objects.equals(email, that.email);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,132 @@
+import java.util.List;
+
+class AirlineReport {
+    private static final String ID = Question9_AirlineTicketing.STUDENT_ID;
+
+    private static final byte[] TITLE = ReportWriter.label("\n" + ID + " - ========== AIRLINE TICKETING SYSTEM ==========");
+    private static final byte[] RECORD_ID = ReportWriter.label(ID + " - Record ID: ");
+    private static final byte[] CREATED_DATE = ReportWriter.label(ID + " - Created Date: ");
+    private static final byte[] UPDATED_DATE = ReportWriter.label(ID + " - Updated Date: ");
+    private static final byte[] AIRLINE_DETAILS = ReportWriter.label("\n" + ID + " - --- Airline Details ---");
+    private static final byte[] AIRLINE_NAME = ReportWriter.label(ID + " - Airline Name: ");
+    private static final byte[] ADDRESS = ReportWriter.label(ID + " - Address: ");
+    private static final byte[] PHONE = ReportWriter.label(ID + " - Phone: ");
+    private static final byte[] EMAIL = ReportWriter.label(ID + " - Email: ");
+    private static final byte[] FLIGHT_DETAILS = ReportWriter.label("\n" + ID + " - --- Flight Details ---");
+    private static final byte[] FLIGHT_NUMBER = ReportWriter.label(ID + " - Flight Number: ");
+    private static final byte[] FLIGHT_CODE = ReportWriter.label(ID + " - Flight Code: ");
+    private static final byte[] PASSENGER_DETAILS = ReportWriter.label("\n" + ID + " - --- Passenger Details ---");
+    private static final byte[] PASSENGER_NAME = ReportWriter.label(ID + " - Passenger Name: ");
+    private static final byte[] PASSPORT_NUMBER = ReportWriter.label(ID + " - Passport Number: ");
+    private static final byte[] PASSENGER_EMAIL = ReportWriter.label(ID + " - Passenger Email: ");
+    private static final byte[] PASSENGER_PHONE = ReportWriter.label(ID + " - Passenger Phone: ");
+    private static final byte[] SEAT_DETAILS = ReportWriter.label("\n" + ID + " - --- Seat Details ---");
+    private static final byte[] SEAT_NUMBER = ReportWriter.label(ID + " - Seat Number: ");
+    private static final byte[] SEAT_CLASS = ReportWriter.label(ID + " - Seat Class: ");
+    private static final byte[] AVAILABLE_SEATS = ReportWriter.label(ID + " - Available Seats: ");
+    private static final byte[] TICKET_DETAILS = ReportWriter.label("\n" + ID + " - --- Ticket Details ---");
+    private static final byte[] TICKET_NUMBER = ReportWriter.label(ID + " - Ticket Number: ");
+    private static final byte[] TICKET_QUANTITY = ReportWriter.label(ID + " - Ticket Quantity: ");
+    private static final byte[] BOOKING_STATUS = ReportWriter.label(ID + " - Booking Status: ");
+    private static final byte[] CONTACT_NUMBER = ReportWriter.label(ID + " - Contact Number: ");
+    private static final byte[] BAGGAGE_DETAILS = ReportWriter.label("\n" + ID + " - --- Baggage Details ---");
+    private static final byte[] BAGGAGE_TYPE = ReportWriter.label(ID + " - Baggage Type: ");
+    private static final byte[] BAGGAGE_WEIGHT = ReportWriter.label(ID + " - Baggage Weight: ");
+    private static final byte[] KILOGRAMS = ReportWriter.label(" kg");
+    private static final byte[] BAGGAGE_FEE = ReportWriter.label(ID + " - Baggage Fee: $");
+    private static final byte[] PAYMENT_DETAILS = ReportWriter.label("\n" + ID + " - --- Payment Details ---");
+    private static final byte[] PAYMENT_METHOD = ReportWriter.label(ID + " - Payment Method: ");
+    private static final byte[] TRANSACTION_ID = ReportWriter.label(ID + " - Transaction ID: ");
+    private static final byte[] PRICE = ReportWriter.label(ID + " - Price: $");
+    private static final byte[] INVOICE_DETAILS = ReportWriter.label("\n" + ID + " - --- Invoice Details ---");
+    private static final byte[] TAX_AMOUNT = ReportWriter.label(ID + " - Tax Amount: $");
+    private static final byte[] SERVICE_FEE = ReportWriter.label(ID + " - Service Fee: $");
+    private static final byte[] TOTAL_INVOICE = ReportWriter.label(ID + " - Total Invoice: $");
+    private static final byte[] FOOTER = ReportWriter.label(ID + " - ==============================================\n");
+    private static final char SEPARATOR = '|';
+
+    static void writeDetailed(TicketRecord record, ReportWriter out) {
+        out.write(TITLE).newLine();
+        out.write(RECORD_ID).write(record.getId()).newLine();
+        out.write(CREATED_DATE).write(record.getCreatedDate()).newLine();
+        out.write(UPDATED_DATE).write(record.getUpdatedDate()).newLine();
+        out.write(AIRLINE_DETAILS).newLine();
+        out.write(AIRLINE_NAME).write(record.getAirlineName()).newLine();
+        out.write(ADDRESS).write(record.getAddress()).newLine();
+        out.write(PHONE).write(record.getPhoneNumber()).newLine();
+        out.write(EMAIL).write(record.getEmail()).newLine();
+        out.write(FLIGHT_DETAILS).newLine();
+        out.write(FLIGHT_NUMBER).write(record.getFlightNumber()).newLine();
+        out.write(FLIGHT_CODE).write(record.getFlightCode()).newLine();
+        out.write(PASSENGER_DETAILS).newLine();
+        out.write(PASSENGER_NAME).write(record.getPassengerName()).newLine();
+        out.write(PASSPORT_NUMBER).write(record.getPassportNumber()).newLine();
+        out.write(PASSENGER_EMAIL).write(record.getPassengerEmail()).newLine();
+        out.write(PASSENGER_PHONE).write(record.getPhone()).newLine();
+        out.write(SEAT_DETAILS).newLine();
+        out.write(SEAT_NUMBER).write(record.getSeatNumber()).newLine();
+        out.write(SEAT_CLASS).write(record.getSeatClass()).newLine();
+        out.write(AVAILABLE_SEATS).write(record.getAvailableSeats()).newLine();
+        out.write(TICKET_DETAILS).newLine();
+        out.write(TICKET_NUMBER).write(record.getTicketNumber()).newLine();
+        out.write(TICKET_QUANTITY).write(record.getTicketQuantity()).newLine();
+        out.write(BOOKING_STATUS).write(record.getBookingStatus()).newLine();
+        out.write(CONTACT_NUMBER).write(record.getContactNumber()).newLine();
+        out.write(BAGGAGE_DETAILS).newLine();
+        out.write(BAGGAGE_TYPE).write(record.getBaggageType()).newLine();
+        out.write(BAGGAGE_WEIGHT).write(record.getBaggageWeight()).write(KILOGRAMS).newLine();
+        out.write(BAGGAGE_FEE).write(record.getBaggageFee()).newLine();
+        out.write(PAYMENT_DETAILS).newLine();
+        out.write(PAYMENT_METHOD).write(record.getPaymentMethod()).newLine();
+        out.write(TRANSACTION_ID).write(record.getTransactionId()).newLine();
+        out.write(PRICE).write(record.getPrice()).newLine();
+        out.write(INVOICE_DETAILS).newLine();
+        out.write(TAX_AMOUNT).write(record.getTaxAmount()).newLine();
+        out.write(SERVICE_FEE).write(record.getServiceFee()).newLine();
+        out.write(TOTAL_INVOICE).write(record.getTotalInvoice()).newLine();
+        out.write(FOOTER).newLine();
+    }
+
+    static void writeCompact(TicketRecord record, ReportWriter out) {
+        out.write(record.getId()).write(SEPARATOR);
+        out.write(record.getCreatedDate()).write(SEPARATOR);
+        out.write(record.getUpdatedDate()).write(SEPARATOR);
+        out.write(record.getAirlineName()).write(SEPARATOR);
+        out.write(record.getAddress()).write(SEPARATOR);
+        out.write(record.getPhoneNumber()).write(SEPARATOR);
+        out.write(record.getEmail()).write(SEPARATOR);
+        out.write(record.getFlightNumber()).write(SEPARATOR);
+        out.write(record.getFlightCode()).write(SEPARATOR);
+        out.write(record.getPassengerName()).write(SEPARATOR);
+        out.write(record.getPassportNumber()).write(SEPARATOR);
+        out.write(record.getPassengerEmail()).write(SEPARATOR);
+        out.write(record.getPhone()).write(SEPARATOR);
+        out.write(record.getSeatNumber()).write(SEPARATOR);
+        out.write(record.getSeatClass()).write(SEPARATOR);
+        out.write(record.getAvailableSeats()).write(SEPARATOR);
+        out.write(record.getTicketNumber()).write(SEPARATOR);
+        out.write(record.getTicketQuantity()).write(SEPARATOR);
+        out.write(record.getBookingStatus()).write(SEPARATOR);
+        out.write(record.getContactNumber()).write(SEPARATOR);
+        out.write(record.getBaggageType()).write(SEPARATOR);
+        out.write(record.getBaggageWeight()).write(SEPARATOR);
+        out.write(record.getBaggageFee()).write(SEPARATOR);
+        out.write(record.getPaymentMethod()).write(SEPARATOR);
+        out.write(record.getTransactionId()).write(SEPARATOR);
+        out.write(record.getPrice()).write(SEPARATOR);
+        out.write(record.getTaxAmount()).write(SEPARATOR);
+        out.write(record.getServiceFee()).write(SEPARATOR);
+        out.write(record.getTotalInvoice()).newLine();
+    }
+
+    static void writeAll(List<TicketRecord> records, ReportWriter out, boolean compact) {
+        for (TicketRecord record : records) {
+            if (compact) {
+                writeCompact(record, out);
+            } else {
+                writeDetailed(record, out);
+            }
+        }
+        out.flush();
+    }
+}
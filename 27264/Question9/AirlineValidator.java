@@ -0,0 +1,54 @@
+class AirlineValidator {
+    static boolean validate(int id, String createdDate, String updatedDate, String airlineName,
+            String address, String phoneNumber, String email, String flightNumber, String flightCode,
+            String passengerName, String passportNumber, String passengerEmail, String phone,
+            String seatNumber, String seatClass, int availableSeats, String ticketNumber,
+            int ticketQuantity, String bookingStatus, String contactNumber, String baggageType,
+            int baggageWeight, double baggageFee, String paymentMethod, String transactionId,
+            double price, double taxAmount, double serviceFee, ValidationResult result) {
+        result.reset();
+        if (id <= 0)
+            result.add("Entity.id", "ID must be greater than 0");
+        if (createdDate == null || createdDate.trim().isEmpty())
+            result.add("Entity.createdDate", "Created date cannot be null or empty");
+        if (updatedDate == null || updatedDate.trim().isEmpty())
+            result.add("Entity.updatedDate", "Updated date cannot be null or empty");
+        if (!FieldRules.isPhone(phoneNumber))
+            result.add("Airline.phoneNumber", "Phone number must be exactly 10 digits");
+        if (!FieldRules.isEmail(email))
+            result.add("Airline.email", "Invalid email format");
+        if (!FieldRules.isCode(flightCode))
+            result.add("Flight.flightCode", "Flight code must be alphanumeric and at least 3 characters");
+        if (passportNumber == null || passportNumber.trim().isEmpty())
+            result.add("Passenger.passportNumber", "Passport number cannot be empty");
+        if (!FieldRules.isEmail(passengerEmail))
+            result.add("Passenger.passengerEmail", "Invalid passenger email format");
+        if (!FieldRules.isPhone(phone))
+            result.add("Passenger.phone", "Passenger phone must be exactly 10 digits");
+        if (!SeatClass.CODES.contains(seatClass))
+            result.add("Seat.seatClass", "Seat class must be 'Economy' or 'Business'");
+        if (availableSeats < 0)
+            result.add("Seat.availableSeats", "Available seats must be >= 0");
+        if (ticketQuantity <= 0)
+            result.add("Ticket.ticketQuantity", "Ticket quantity must be > 0");
+        if (!BookingStatus.CODES.contains(bookingStatus))
+            result.add("Ticket.bookingStatus", "Booking status must be 'Confirmed', 'Pending', or 'Cancelled'");
+        if (baggageType == null || baggageType.trim().isEmpty())
+            result.add("Baggage.baggageType", "Baggage type cannot be null");
+        if (baggageFee < 0)
+            result.add("Baggage.baggageFee", "Baggage fee must be >= 0");
+        if (price <= 0)
+            result.add("Payment.price", "Price must be > 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty())
+            result.add("Payment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty())
+            result.add("Payment.transactionId", "Transaction ID cannot be empty");
+        if (taxAmount < 0)
+            result.add("Invoice.taxAmount", "Tax amount must be >= 0");
+        if (serviceFee < 0)
+            result.add("Invoice.serviceFee", "Service fee must be >= 0");
+        if (result.isValid()) return true;
+        ValidationFailureEvent.emit("Airline", result);
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+final class AirlineView {
+    private final RowSource source;
+    private int row;
+
+    AirlineView(RowSource source) {
+        this.source = source;
+    }
+
+    public AirlineView at(int row) {
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() { return row; }
+
+    public int getId() { return source.getInt(row, AirlineColumns.ID); }
+    public String getCreatedDate() { return source.getString(row, AirlineColumns.CREATED_DATE); }
+    public int getCreatedDay() { return source.getInt(row, AirlineColumns.CREATED_DATE); }
+    public String getUpdatedDate() { return source.getString(row, AirlineColumns.UPDATED_DATE); }
+    public int getUpdatedDay() { return source.getInt(row, AirlineColumns.UPDATED_DATE); }
+    public String getAirlineName() { return source.getString(row, AirlineColumns.AIRLINE_NAME); }
+    public String getAddress() { return source.getString(row, AirlineColumns.ADDRESS); }
+    public String getPhoneNumber() { return source.getString(row, AirlineColumns.PHONE_NUMBER); }
+    public String getEmail() { return source.getString(row, AirlineColumns.EMAIL); }
+    public String getFlightNumber() { return source.getString(row, AirlineColumns.FLIGHT_NUMBER); }
+    public String getFlightCode() { return source.getString(row, AirlineColumns.FLIGHT_CODE); }
+    public String getPassengerName() { return source.getString(row, AirlineColumns.PASSENGER_NAME); }
+    public String getPassportNumber() { return source.getString(row, AirlineColumns.PASSPORT_NUMBER); }
+    public String getPassengerEmail() { return source.getString(row, AirlineColumns.PASSENGER_EMAIL); }
+    public String getPhone() { return source.getString(row, AirlineColumns.PHONE); }
+    public String getSeatNumber() { return source.getString(row, AirlineColumns.SEAT_NUMBER); }
+    public String getSeatClass() { return source.getString(row, AirlineColumns.SEAT_CLASS); }
+    public byte getSeatClassCode() { return (byte) source.getInt(row, AirlineColumns.SEAT_CLASS); }
+    public int getAvailableSeats() { return source.getInt(row, AirlineColumns.AVAILABLE_SEATS); }
+    public String getTicketNumber() { return source.getString(row, AirlineColumns.TICKET_NUMBER); }
+    public int getTicketQuantity() { return source.getInt(row, AirlineColumns.TICKET_QUANTITY); }
+    public String getBookingStatus() { return source.getString(row, AirlineColumns.BOOKING_STATUS); }
+    public byte getBookingStatusCode() { return (byte) source.getInt(row, AirlineColumns.BOOKING_STATUS); }
+    public String getContactNumber() { return source.getString(row, AirlineColumns.CONTACT_NUMBER); }
+    public String getBaggageType() { return source.getString(row, AirlineColumns.BAGGAGE_TYPE); }
+    public int getBaggageWeight() { return source.getInt(row, AirlineColumns.BAGGAGE_WEIGHT); }
+    public double getBaggageFee() { return source.getDouble(row, AirlineColumns.BAGGAGE_FEE); }
+    public String getPaymentMethod() { return source.getString(row, AirlineColumns.PAYMENT_METHOD); }
+    public String getTransactionId() { return source.getString(row, AirlineColumns.TRANSACTION_ID); }
+    public double getPrice() { return source.getDouble(row, AirlineColumns.PRICE); }
+    public double getTaxAmount() { return source.getDouble(row, AirlineColumns.TAX_AMOUNT); }
+    public double getServiceFee() { return source.getDouble(row, AirlineColumns.SERVICE_FEE); }
+    public double getTotalInvoice() { return source.getDouble(row, AirlineColumns.TOTAL_INVOICE); }
+
+    public double generateInvoice() {
+        return Money.toDouble(Money.add(cents(AirlineColumns.PRICE), cents(AirlineColumns.BAGGAGE_FEE)));
+    }
+
+    private long cents(int column) {
+        return source.getLong(row, column);
+    }
+}
@@ -0,0 +1,52 @@
+class Baggage extends Ticket {
+    private String baggageType;
+    private int baggageWeight;
+    private double baggageFee;
+
+    public Baggage(int id, String createdDate, String updatedDate, String airlineName,
+                    String address, String phoneNumber, String email, String flightNumber,
+                    String flightCode, String passengerName, String passportNumber,
+                    String passengerEmail, String phone, String seatNumber, String seatClass,
+                    int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
+                    String contactNumber, String baggageType, int baggageWeight,
+                    double baggageFee) throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
+              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
+              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber);
+        
+        if (baggageType == null || baggageType.trim().isEmpty()) 
+            throw new AirlineException("Baggage.baggageType", "Baggage type cannot be null");
+        if (baggageFee < 0) 
+            throw new AirlineException("Baggage.baggageFee", "Baggage fee must be >= 0");
+        
+        this.baggageType = baggageType;
+        this.baggageWeight = baggageWeight;
+        this.baggageFee = baggageFee;
+    }
+
+    Baggage(RowSource source, int row) {
+        super(source, row);
+        this.baggageType = source.getString(row, AirlineColumns.BAGGAGE_TYPE);
+        this.baggageWeight = source.getInt(row, AirlineColumns.BAGGAGE_WEIGHT);
+        this.baggageFee = source.getDouble(row, AirlineColumns.BAGGAGE_FEE);
+    }
+
+    public String getBaggageType() { return baggageType; }
+    public void setBaggageType(String baggageType) {
+        changing(AirlineColumns.BAGGAGE_TYPE);
+        this.baggageType = baggageType;
+        changed(AirlineColumns.BAGGAGE_TYPE);
+    }
+    public int getBaggageWeight() { return baggageWeight; }
+    public void setBaggageWeight(int baggageWeight) {
+        changing(AirlineColumns.BAGGAGE_WEIGHT);
+        this.baggageWeight = baggageWeight;
+        changed(AirlineColumns.BAGGAGE_WEIGHT);
+    }
+    public double getBaggageFee() { return baggageFee; }
+    public void setBaggageFee(double baggageFee) {
+        changing(AirlineColumns.BAGGAGE_FEE);
+        this.baggageFee = baggageFee;
+        changed(AirlineColumns.BAGGAGE_FEE);
+    }
+}
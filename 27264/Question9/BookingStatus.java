@@ -0,0 +1,18 @@
+enum BookingStatus {
+    CONFIRMED("Confirmed"),
+    PENDING("Pending"),
+    CANCELLED("Cancelled");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    BookingStatus(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
@@ -0,0 +1,31 @@
+class Flight extends Airline {
+    private FlightProfile profile;
+
+    public Flight(int id, String createdDate, String updatedDate, String airlineName,
+                  String address, String phoneNumber, String email, String flightNumber,
+                  String flightCode) throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email);
+        
+        this.profile = FlightProfile.of(flightNumber, flightCode);
+    }
+
+    Flight(RowSource source, int row) {
+        super(source, row);
+        String flightNumber = source.getString(row, AirlineColumns.FLIGHT_NUMBER);
+        String flightCode = source.getString(row, AirlineColumns.FLIGHT_CODE);
+        this.profile = FlightProfile.restore(flightNumber, flightCode);
+    }
+
+    public String getFlightNumber() { return profile.getFlightNumber(); }
+    public void setFlightNumber(String flightNumber) {
+        changing(AirlineColumns.FLIGHT_NUMBER);
+        profile = profile.withFlightNumber(flightNumber);
+        changed(AirlineColumns.FLIGHT_NUMBER);
+    }
+    public String getFlightCode() { return profile.getFlightCode(); }
+    public void setFlightCode(String flightCode) {
+        changing(AirlineColumns.FLIGHT_CODE);
+        profile = profile.withFlightCode(flightCode);
+        changed(AirlineColumns.FLIGHT_CODE);
+    }
+}
@@ -0,0 +1,63 @@
+import java.util.Objects;
+
+final class FlightProfile {
+    private static final Interner<FlightProfile> SHARED = new Interner<>();
+    // Profiles restored from a snapshot, kept apart because of() trusts every profile in SHARED
+    private static final Interner<FlightProfile> RESTORED = new Interner<>();
+
+    private final String flightNumber;
+    private final String flightCode;
+    private final int hash;
+
+    private FlightProfile(String flightNumber, String flightCode) {
+        this.flightNumber = flightNumber;
+        this.flightCode = flightCode;
+        int hash = Objects.hashCode(flightNumber);
+        hash = 31 * hash + Objects.hashCode(flightCode);
+        this.hash = hash;
+    }
+
+    static FlightProfile of(String flightNumber, String flightCode) throws AirlineException {
+        FlightProfile candidate = new FlightProfile(flightNumber, flightCode);
+        FlightProfile shared = SHARED.find(candidate);
+        if (shared != null) return shared;
+
+        if (!FieldRules.isCode(flightCode)) 
+            throw new AirlineException("Flight.flightCode", "Flight code must be alphanumeric and at least 3 characters");
+
+        return SHARED.intern(candidate);
+    }
+
+    // Shares a profile without checking its values, for a record restored as it was stored. An
+    // equal profile that of() validated is reused; otherwise it goes to RESTORED, so a constructor
+    // given the same values still checks them.
+    static FlightProfile restore(String flightNumber, String flightCode) {
+        FlightProfile candidate = new FlightProfile(flightNumber, flightCode);
+        FlightProfile shared = SHARED.find(candidate);
+        return shared != null ? shared : RESTORED.intern(candidate);
+    }
+
+    public String getFlightNumber() { return flightNumber; }
+    public String getFlightCode() { return flightCode; }
+
+    FlightProfile withFlightNumber(String flightNumber) {
+        return new FlightProfile(flightNumber, flightCode);
+    }
+
+    FlightProfile withFlightCode(String flightCode) {
+        return new FlightProfile(flightNumber, flightCode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof FlightProfile)) return false;
+        FlightProfile that = (FlightProfile) other;
+        return hash == that.hash
+            && Objects.equals(flightNumber, that.flightNumber)
+            && Objects.equals(flightCode, that.flightCode);
+    }
+
+    @Override
+    public int hashCode() { return hash; }
+}
@@ -0,0 +1,53 @@
+class Invoice extends Payment {
+    private double taxAmount;
+    private double serviceFee;
+    private double totalInvoice;
+
+    public Invoice(int id, String createdDate, String updatedDate, String airlineName,
+               String address, String phoneNumber, String email, String flightNumber,
+               String flightCode, String passengerName, String passportNumber,
+               String passengerEmail, String phone, String seatNumber, String seatClass,
+               int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
+               String contactNumber, String baggageType, int baggageWeight,
+               double baggageFee, String paymentMethod, String transactionId,
+               double price, double taxAmount, double serviceFee) 
+               throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
+              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
+              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber,
+              baggageType, baggageWeight, baggageFee, paymentMethod, transactionId, price);
+        
+        if (taxAmount < 0) throw new AirlineException("Invoice.taxAmount", "Tax amount must be >= 0");
+        if (serviceFee < 0) throw new AirlineException("Invoice.serviceFee", "Service fee must be >= 0");
+        
+        this.taxAmount = taxAmount;
+        this.serviceFee = serviceFee;
+        this.totalInvoice = 0;
+    }
+
+    Invoice(RowSource source, int row) {
+        super(source, row);
+        this.taxAmount = source.getDouble(row, AirlineColumns.TAX_AMOUNT);
+        this.serviceFee = source.getDouble(row, AirlineColumns.SERVICE_FEE);
+        this.totalInvoice = source.getDouble(row, AirlineColumns.TOTAL_INVOICE);
+    }
+
+    public double getTaxAmount() { return taxAmount; }
+    public void setTaxAmount(double taxAmount) {
+        changing(AirlineColumns.TAX_AMOUNT);
+        this.taxAmount = taxAmount;
+        changed(AirlineColumns.TAX_AMOUNT);
+    }
+    public double getServiceFee() { return serviceFee; }
+    public void setServiceFee(double serviceFee) {
+        changing(AirlineColumns.SERVICE_FEE);
+        this.serviceFee = serviceFee;
+        changed(AirlineColumns.SERVICE_FEE);
+    }
+    public double getTotalInvoice() { return totalInvoice; }
+    public void setTotalInvoice(double totalInvoice) {
+        changing(AirlineColumns.TOTAL_INVOICE);
+        this.totalInvoice = totalInvoice;
+        changed(AirlineColumns.TOTAL_INVOICE);
+    }
+}
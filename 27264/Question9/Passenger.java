@@ -0,0 +1,59 @@
+class Passenger extends Flight {
+    private String passengerName;
+    private String passportNumber;
+    private String passengerEmail;
+    private String phone;
+
+    public Passenger(int id, String createdDate, String updatedDate, String airlineName,
+                  String address, String phoneNumber, String email, String flightNumber,
+                  String flightCode, String passengerName, String passportNumber,
+                  String passengerEmail, String phone) throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
+              flightNumber, flightCode);
+        
+        if (passportNumber == null || passportNumber.trim().isEmpty()) 
+            throw new AirlineException("Passenger.passportNumber", "Passport number cannot be empty");
+        if (!FieldRules.isEmail(passengerEmail)) 
+            throw new AirlineException("Passenger.passengerEmail", "Invalid passenger email format");
+        if (!FieldRules.isPhone(phone)) 
+            throw new AirlineException("Passenger.phone", "Passenger phone must be exactly 10 digits");
+        
+        this.passengerName = passengerName;
+        this.passportNumber = passportNumber;
+        this.passengerEmail = passengerEmail;
+        this.phone = phone;
+    }
+
+    Passenger(RowSource source, int row) {
+        super(source, row);
+        this.passengerName = source.getString(row, AirlineColumns.PASSENGER_NAME);
+        this.passportNumber = source.getString(row, AirlineColumns.PASSPORT_NUMBER);
+        this.passengerEmail = source.getString(row, AirlineColumns.PASSENGER_EMAIL);
+        this.phone = source.getString(row, AirlineColumns.PHONE);
+    }
+
+    public String getPassengerName() { return passengerName; }
+    public void setPassengerName(String passengerName) {
+        changing(AirlineColumns.PASSENGER_NAME);
+        this.passengerName = passengerName;
+        changed(AirlineColumns.PASSENGER_NAME);
+    }
+    public String getPassportNumber() { return passportNumber; }
+    public void setPassportNumber(String passportNumber) {
+        changing(AirlineColumns.PASSPORT_NUMBER);
+        this.passportNumber = passportNumber;
+        changed(AirlineColumns.PASSPORT_NUMBER);
+    }
+    public String getPassengerEmail() { return passengerEmail; }
+    public void setPassengerEmail(String passengerEmail) {
+        changing(AirlineColumns.PASSENGER_EMAIL);
+        this.passengerEmail = passengerEmail;
+        changed(AirlineColumns.PASSENGER_EMAIL);
+    }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) {
+        changing(AirlineColumns.PHONE);
+        this.phone = phone;
+        changed(AirlineColumns.PHONE);
+    }
+}
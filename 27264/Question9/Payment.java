@@ -0,0 +1,56 @@
+class Payment extends Baggage {
+    private String paymentMethod;
+    private String transactionId;
+    private double price;
+
+    public Payment(int id, String createdDate, String updatedDate, String airlineName,
+                    String address, String phoneNumber, String email, String flightNumber,
+                    String flightCode, String passengerName, String passportNumber,
+                    String passengerEmail, String phone, String seatNumber, String seatClass,
+                    int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
+                    String contactNumber, String baggageType, int baggageWeight,
+                    double baggageFee, String paymentMethod, String transactionId,
+                    double price) throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
+              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
+              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber,
+              baggageType, baggageWeight, baggageFee);
+        
+        if (price <= 0) 
+            throw new AirlineException("Payment.price", "Price must be > 0");
+        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
+            throw new AirlineException("Payment.paymentMethod", "Payment method cannot be empty");
+        if (transactionId == null || transactionId.trim().isEmpty()) 
+            throw new AirlineException("Payment.transactionId", "Transaction ID cannot be empty");
+        
+        this.paymentMethod = paymentMethod;
+        this.transactionId = transactionId;
+        this.price = price;
+    }
+
+    Payment(RowSource source, int row) {
+        super(source, row);
+        this.paymentMethod = source.getString(row, AirlineColumns.PAYMENT_METHOD);
+        this.transactionId = source.getString(row, AirlineColumns.TRANSACTION_ID);
+        this.price = source.getDouble(row, AirlineColumns.PRICE);
+    }
+
+    public String getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(String paymentMethod) {
+        changing(AirlineColumns.PAYMENT_METHOD);
+        this.paymentMethod = paymentMethod;
+        changed(AirlineColumns.PAYMENT_METHOD);
+    }
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) {
+        changing(AirlineColumns.TRANSACTION_ID);
+        this.transactionId = transactionId;
+        changed(AirlineColumns.TRANSACTION_ID);
+    }
+    public double getPrice() { return price; }
+    public void setPrice(double price) {
+        changing(AirlineColumns.PRICE);
+        this.price = price;
+        changed(AirlineColumns.PRICE);
+    }
+}
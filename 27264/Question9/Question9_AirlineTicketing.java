@@ -1,369 +1,36 @@
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Scanner;
 
-class AirlineException extends Exception {
-    public AirlineException(String message) {
-        super(message);
-    }
-}
-
-class Entity {
-    private int id;
-    private String createdDate;
-    private String updatedDate;
-
-    public Entity(int id, String createdDate, String updatedDate) throws AirlineException {
-        if (id <= 0) throw new AirlineException("ID must be greater than 0");
-        if (createdDate == null || createdDate.trim().isEmpty()) 
-            throw new AirlineException("Created date cannot be null or empty");
-        if (updatedDate == null || updatedDate.trim().isEmpty()) 
-            throw new AirlineException("Updated date cannot be null or empty");
-        
-        this.id = id;
-        this.createdDate = createdDate;
-        this.updatedDate = updatedDate;
-    }
-
-    public int getId() { return id; }
-    public void setId(int id) { this.id = id; }
-    public String getCreatedDate() { return createdDate; }
-    public void setCreatedDate(String createdDate) { this.createdDate = createdDate; }
-    public String getUpdatedDate() { return updatedDate; }
-    public void setUpdatedDate(String updatedDate) { this.updatedDate = updatedDate; }
-}
-
-class Airline extends Entity {
-    private String airlineName;
-    private String address;
-    private String phoneNumber;
-    private String email;
-
-    public Airline(int id, String createdDate, String updatedDate, String airlineName, 
-                   String address, String phoneNumber, String email) throws AirlineException {
-        super(id, createdDate, updatedDate);
-        
-        if (!phoneNumber.matches("\\d{10}")) 
-            throw new AirlineException("Phone number must be exactly 10 digits");
-        if (!email.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new AirlineException("Invalid email format");
-        
-        this.airlineName = airlineName;
-        this.address = address;
-        this.phoneNumber = phoneNumber;
-        this.email = email;
-    }
-
-    public String getAirlineName() { return airlineName; }
-    public void setAirlineName(String airlineName) { this.airlineName = airlineName; }
-    public String getAddress() { return address; }
-    public void setAddress(String address) { this.address = address; }
-    public String getPhoneNumber() { return phoneNumber; }
-    public void setPhoneNumber(String phoneNumber) { this.phoneNumber = phoneNumber; }
-    public String getEmail() { return email; }
-    public void setEmail(String email) { this.email = email; }
-}
-
-class Flight extends Airline {
-    private String flightNumber;
-    private String flightCode;
-
-    public Flight(int id, String createdDate, String updatedDate, String airlineName,
-                  String address, String phoneNumber, String email, String flightNumber,
-                  String flightCode) throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email);
-        
-        if (flightCode.length() < 3 || !flightCode.matches("^[a-zA-Z0-9]+$")) 
-            throw new AirlineException("Flight code must be alphanumeric and at least 3 characters");
-        
-        this.flightNumber = flightNumber;
-        this.flightCode = flightCode;
-    }
-
-    public String getFlightNumber() { return flightNumber; }
-    public void setFlightNumber(String flightNumber) { this.flightNumber = flightNumber; }
-    public String getFlightCode() { return flightCode; }
-    public void setFlightCode(String flightCode) { this.flightCode = flightCode; }
-}
-
-class Passenger extends Flight {
-    private String passengerName;
-    private String passportNumber;
-    private String passengerEmail;
-    private String phone;
-
-    public Passenger(int id, String createdDate, String updatedDate, String airlineName,
-                  String address, String phoneNumber, String email, String flightNumber,
-                  String flightCode, String passengerName, String passportNumber,
-                  String passengerEmail, String phone) throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
-              flightNumber, flightCode);
-        
-        if (passportNumber == null || passportNumber.trim().isEmpty()) 
-            throw new AirlineException("Passport number cannot be empty");
-        if (!passengerEmail.matches("^[A-Za-z0-9+_.-]+@(.+)$")) 
-            throw new AirlineException("Invalid passenger email format");
-        if (!phone.matches("\\d{10}")) 
-            throw new AirlineException("Passenger phone must be exactly 10 digits");
-        
-        this.passengerName = passengerName;
-        this.passportNumber = passportNumber;
-        this.passengerEmail = passengerEmail;
-        this.phone = phone;
-    }
-
-    public String getPassengerName() { return passengerName; }
-    public void setPassengerName(String passengerName) { this.passengerName = passengerName; }
-    public String getPassportNumber() { return passportNumber; }
-    public void setPassportNumber(String passportNumber) { this.passportNumber = passportNumber; }
-    public String getPassengerEmail() { return passengerEmail; }
-    public void setPassengerEmail(String passengerEmail) { this.passengerEmail = passengerEmail; }
-    public String getPhone() { return phone; }
-    public void setPhone(String phone) { this.phone = phone; }
-}
-
-class Seat extends Passenger {
-    private String seatNumber;
-    private String seatClass;
-    private int availableSeats;
-
-    public Seat(int id, String createdDate, String updatedDate, String airlineName,
-                String address, String phoneNumber, String email, String flightNumber,
-                String flightCode, String passengerName, String passportNumber,
-                String passengerEmail, String phone, String seatNumber, String seatClass,
-                int availableSeats) throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
-              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone);
-        
-        if (!seatClass.equals("Economy") && !seatClass.equals("Business")) 
-            throw new AirlineException("Seat class must be 'Economy' or 'Business'");
-        if (availableSeats < 0) 
-            throw new AirlineException("Available seats must be >= 0");
-        
-        this.seatNumber = seatNumber;
-        this.seatClass = seatClass;
-        this.availableSeats = availableSeats;
-    }
-
-    public String getSeatNumber() { return seatNumber; }
-    public void setSeatNumber(String seatNumber) { this.seatNumber = seatNumber; }
-    public String getSeatClass() { return seatClass; }
-    public void setSeatClass(String seatClass) { this.seatClass = seatClass; }
-    public int getAvailableSeats() { return availableSeats; }
-    public void setAvailableSeats(int availableSeats) { this.availableSeats = availableSeats; }
-}
-
-class Ticket extends Seat {
-    private String ticketNumber;
-    private int ticketQuantity;
-    private String bookingStatus;
-    private String contactNumber;
-
-    public Ticket(int id, String createdDate, String updatedDate, String airlineName,
-                  String address, String phoneNumber, String email, String flightNumber,
-                  String flightCode, String passengerName, String passportNumber,
-                  String passengerEmail, String phone, String seatNumber, String seatClass,
-                  int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
-                  String contactNumber) throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
-              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
-              seatNumber, seatClass, availableSeats);
-        
-        if (ticketQuantity <= 0) throw new AirlineException("Ticket quantity must be > 0");
-        if (!bookingStatus.equals("Confirmed") && !bookingStatus.equals("Pending") && !bookingStatus.equals("Cancelled")) 
-            throw new AirlineException("Booking status must be 'Confirmed', 'Pending', or 'Cancelled'");
-        
-        this.ticketNumber = ticketNumber;
-        this.ticketQuantity = ticketQuantity;
-        this.bookingStatus = bookingStatus;
-        this.contactNumber = contactNumber;
-    }
-
-    public String getTicketNumber() { return ticketNumber; }
-    public void setTicketNumber(String ticketNumber) { this.ticketNumber = ticketNumber; }
-    public int getTicketQuantity() { return ticketQuantity; }
-    public void setTicketQuantity(int ticketQuantity) { this.ticketQuantity = ticketQuantity; }
-    public String getBookingStatus() { return bookingStatus; }
-    public void setBookingStatus(String bookingStatus) { this.bookingStatus = bookingStatus; }
-    public String getContactNumber() { return contactNumber; }
-    public void setContactNumber(String contactNumber) { this.contactNumber = contactNumber; }
-}
-
-class Baggage extends Ticket {
-    private String baggageType;
-    private int baggageWeight;
-    private double baggageFee;
-
-    public Baggage(int id, String createdDate, String updatedDate, String airlineName,
-                    String address, String phoneNumber, String email, String flightNumber,
-                    String flightCode, String passengerName, String passportNumber,
-                    String passengerEmail, String phone, String seatNumber, String seatClass,
-                    int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
-                    String contactNumber, String baggageType, int baggageWeight,
-                    double baggageFee) throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
-              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
-              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber);
-        
-        if (baggageType == null || baggageType.trim().isEmpty()) 
-            throw new AirlineException("Baggage type cannot be null");
-        if (baggageFee < 0) 
-            throw new AirlineException("Baggage fee must be >= 0");
-        
-        this.baggageType = baggageType;
-        this.baggageWeight = baggageWeight;
-        this.baggageFee = baggageFee;
-    }
-
-    public String getBaggageType() { return baggageType; }
-    public void setBaggageType(String baggageType) { this.baggageType = baggageType; }
-    public int getBaggageWeight() { return baggageWeight; }
-    public void setBaggageWeight(int baggageWeight) { this.baggageWeight = baggageWeight; }
-    public double getBaggageFee() { return baggageFee; }
-    public void setBaggageFee(double baggageFee) { this.baggageFee = baggageFee; }
-}
-
-class Payment extends Baggage {
-    private String paymentMethod;
-    private String transactionId;
-    private double price;
-
-    public Payment(int id, String createdDate, String updatedDate, String airlineName,
-                    String address, String phoneNumber, String email, String flightNumber,
-                    String flightCode, String passengerName, String passportNumber,
-                    String passengerEmail, String phone, String seatNumber, String seatClass,
-                    int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
-                    String contactNumber, String baggageType, int baggageWeight,
-                    double baggageFee, String paymentMethod, String transactionId,
-                    double price) throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
-              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
-              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber,
-              baggageType, baggageWeight, baggageFee);
-        
-        if (price <= 0) 
-            throw new AirlineException("Price must be > 0");
-        if (paymentMethod == null || paymentMethod.trim().isEmpty()) 
-            throw new AirlineException("Payment method cannot be empty");
-        if (transactionId == null || transactionId.trim().isEmpty()) 
-            throw new AirlineException("Transaction ID cannot be empty");
-        
-        this.paymentMethod = paymentMethod;
-        this.transactionId = transactionId;
-        this.price = price;
-    }
-
-    public String getPaymentMethod() { return paymentMethod; }
-    public void setPaymentMethod(String paymentMethod) { this.paymentMethod = paymentMethod; }
-    public String getTransactionId() { return transactionId; }
-    public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
-    public double getPrice() { return price; }
-    public void setPrice(double price) { this.price = price; }
-}
-
-class Invoice extends Payment {
-    private double taxAmount;
-    private double serviceFee;
-    private double totalInvoice;
-
-    public Invoice(int id, String createdDate, String updatedDate, String airlineName,
-               String address, String phoneNumber, String email, String flightNumber,
-               String flightCode, String passengerName, String passportNumber,
-               String passengerEmail, String phone, String seatNumber, String seatClass,
-               int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
-               String contactNumber, String baggageType, int baggageWeight,
-               double baggageFee, String paymentMethod, String transactionId,
-               double price, double taxAmount, double serviceFee) 
-               throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
-              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
-              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber,
-              baggageType, baggageWeight, baggageFee, paymentMethod, transactionId, price);
-        
-        if (taxAmount < 0) throw new AirlineException("Tax amount must be >= 0");
-        if (serviceFee < 0) throw new AirlineException("Service fee must be >= 0");
-        
-        this.taxAmount = taxAmount;
-        this.serviceFee = serviceFee;
-        this.totalInvoice = 0;
-    }
-
-    public double getTaxAmount() { return taxAmount; }
-    public void setTaxAmount(double taxAmount) { this.taxAmount = taxAmount; }
-    public double getServiceFee() { return serviceFee; }
-    public void setServiceFee(double serviceFee) { this.serviceFee = serviceFee; }
-    public double getTotalInvoice() { return totalInvoice; }
-    public void setTotalInvoice(double totalInvoice) { this.totalInvoice = totalInvoice; }
-}
-
-final class TicketRecord extends Invoice {
-    public TicketRecord(int id, String createdDate, String updatedDate, String airlineName,
-                         String address, String phoneNumber, String email, String flightNumber,
-                         String flightCode, String passengerName, String passportNumber,
-                         String passengerEmail, String phone, String seatNumber, String seatClass,
-                         int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
-                         String contactNumber, String baggageType, int baggageWeight,
-                         double baggageFee, String paymentMethod, String transactionId,
-                         double price, double taxAmount, double serviceFee) 
-                         throws AirlineException {
-        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
-              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
-              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber,
-              baggageType, baggageWeight, baggageFee, paymentMethod, transactionId, price,
-              taxAmount, serviceFee);
-    }
-
-    public double generateInvoice() {
-        double total = getPrice() + getBaggageFee();
-        setTotalInvoice(total);
-        return total;
-    }
-
-    public void displayRecord() {
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - ========== AIRLINE TICKETING SYSTEM ==========");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Record ID: " + getId());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Created Date: " + getCreatedDate());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Updated Date: " + getUpdatedDate());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Airline Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Airline Name: " + getAirlineName());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Address: " + getAddress());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Phone: " + getPhoneNumber());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Email: " + getEmail());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Flight Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Flight Number: " + getFlightNumber());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Flight Code: " + getFlightCode());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Passenger Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Passenger Name: " + getPassengerName());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Passport Number: " + getPassportNumber());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Passenger Email: " + getPassengerEmail());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Passenger Phone: " + getPhone());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Seat Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Seat Number: " + getSeatNumber());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Seat Class: " + getSeatClass());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Available Seats: " + getAvailableSeats());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Ticket Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Ticket Number: " + getTicketNumber());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Ticket Quantity: " + getTicketQuantity());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Booking Status: " + getBookingStatus());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Contact Number: " + getContactNumber());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Baggage Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Baggage Type: " + getBaggageType());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Baggage Weight: " + getBaggageWeight() + " kg");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Baggage Fee: $" + getBaggageFee());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Payment Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Payment Method: " + getPaymentMethod());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Transaction ID: " + getTransactionId());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Price: $" + getPrice());
-        System.out.println("\n" + Question9_AirlineTicketing.STUDENT_ID + " - --- Invoice Details ---");
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Tax Amount: $" + getTaxAmount());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Service Fee: $" + getServiceFee());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Total Invoice: $" + getTotalInvoice());
-        System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - ==============================================\n");
-    }
-}
-
 public class Question9_AirlineTicketing {
     public static final String STUDENT_ID = "27264";
     
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--generate")) {
+            runGenerate(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--replay")) {
+            runReplay(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--snapshot")) {
+            runSnapshot(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--restore")) {
+            runRestore(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--reconcile")) {
+            runReconcile(args);
+            return;
+        }
+        if (args.length > 0) {
+            runBatch(args);
+            return;
+        }
+
         Scanner scanner = new Scanner(System.in);
         
         try {
@@ -474,4 +141,108 @@ public class Question9_AirlineTicketing {
             scanner.close();
         }
     }
+
+    private static void runBatch(String[] args) {
+        if ((args.length != 3 && args.length != 4) || !args[0].equals("--batch")) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Usage: java Question9_AirlineTicketing --batch <input file> <output file> [threads]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        ParallelBatch.DuplicateIds duplicateIds;
+        try {
+            duplicateIds = ParallelBatch.duplicateIdsProperty();
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - " + e.getMessage());
+            return;
+        }
+        try {
+            ParallelBatch batch = args.length == 4
+                ? new ParallelBatch(Integer.parseInt(args[3]), ParallelBatch.DEFAULT_CHUNK_BYTES)
+                : new ParallelBatch();
+            batch.duplicateIds(duplicateIds);
+            AirlineBatchLoader.run(Paths.get(args[1]), Paths.get(args[2]), batch);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Threads must be a positive number");
+        } catch (IOException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runGenerate(String[] args) {
+        if (args.length != 3 && args.length != 4) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Usage: java Question9_AirlineTicketing --generate <output file or -> <rows> [seed]");
+            return;
+        }
+
+        try {
+            int rows = Integer.parseInt(args[2]);
+            long seed = args.length == 4 ? Long.parseLong(args[3]) : 1;
+            AirlineGenerator.run(args[1], rows, new SyntheticData(seed));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Rows, seed and generator settings must be valid numbers");
+        } catch (IOException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReplay(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Usage: java Question9_AirlineTicketing --replay <batch file> <journal file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            AirlineBatchLoader.replay(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runSnapshot(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Usage: java Question9_AirlineTicketing --snapshot <batch file> <snapshot file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            AirlineBatchLoader.snapshot(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runRestore(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Usage: java Question9_AirlineTicketing --restore <snapshot file> [journal file]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            AirlineBatchLoader.restore(Paths.get(args[1]), args.length == 3 ? Paths.get(args[2]) : null);
+        } catch (IllegalArgumentException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Journal Error: " + e.getMessage());
+        } catch (IOException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
+
+    private static void runReconcile(String[] args) {
+        if (args.length != 3) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - Usage: java Question9_AirlineTicketing --reconcile <batch file> <batch file>");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            AirlineBatchLoader.reconcile(Paths.get(args[1]), Paths.get(args[2]));
+        } catch (IOException e) {
+            System.out.println(Question9_AirlineTicketing.STUDENT_ID + " - File Error: " + e.getMessage());
+        }
+    }
 }
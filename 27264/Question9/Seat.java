@@ -0,0 +1,54 @@
+class Seat extends Passenger {
+    private String seatNumber;
+    private byte seatClass;
+    private String seatClassText;
+    private int availableSeats;
+
+    public Seat(int id, String createdDate, String updatedDate, String airlineName,
+                String address, String phoneNumber, String email, String flightNumber,
+                String flightCode, String passengerName, String passportNumber,
+                String passengerEmail, String phone, String seatNumber, String seatClass,
+                int availableSeats) throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
+              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone);
+        
+        if (!SeatClass.CODES.contains(seatClass)) 
+            throw new AirlineException("Seat.seatClass", "Seat class must be 'Economy' or 'Business'");
+        if (availableSeats < 0) 
+            throw new AirlineException("Seat.availableSeats", "Available seats must be >= 0");
+        
+        this.seatNumber = seatNumber;
+        this.seatClass = SeatClass.CODES.parse(seatClass);
+        this.availableSeats = availableSeats;
+    }
+
+    Seat(RowSource source, int row) {
+        super(source, row);
+        String seatClass = source.getString(row, AirlineColumns.SEAT_CLASS);
+        this.seatNumber = source.getString(row, AirlineColumns.SEAT_NUMBER);
+        this.seatClass = SeatClass.CODES.parse(seatClass);
+        this.seatClassText = SeatClass.CODES.unparsed(seatClass, this.seatClass);
+        this.availableSeats = source.getInt(row, AirlineColumns.AVAILABLE_SEATS);
+    }
+
+    public String getSeatNumber() { return seatNumber; }
+    public void setSeatNumber(String seatNumber) {
+        changing(AirlineColumns.SEAT_NUMBER);
+        this.seatNumber = seatNumber;
+        changed(AirlineColumns.SEAT_NUMBER);
+    }
+    public String getSeatClass() { return SeatClass.CODES.text(seatClass, seatClassText); }
+    public byte getSeatClassCode() { return seatClass; }
+    public void setSeatClass(String seatClass) {
+        changing(AirlineColumns.SEAT_CLASS);
+        this.seatClass = SeatClass.CODES.parse(seatClass);
+        this.seatClassText = SeatClass.CODES.unparsed(seatClass, this.seatClass);
+        changed(AirlineColumns.SEAT_CLASS);
+    }
+    public int getAvailableSeats() { return availableSeats; }
+    public void setAvailableSeats(int availableSeats) {
+        changing(AirlineColumns.AVAILABLE_SEATS);
+        this.availableSeats = availableSeats;
+        changed(AirlineColumns.AVAILABLE_SEATS);
+    }
+}
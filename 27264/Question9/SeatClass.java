@@ -0,0 +1,17 @@
+enum SeatClass {
+    ECONOMY("Economy"),
+    BUSINESS("Business");
+
+    static final CodeTable CODES = CodeTable.of(values());
+
+    private final String text;
+
+    SeatClass(String text) {
+        this.text = text;
+    }
+
+    byte code() { return (byte) ordinal(); }
+
+    @Override
+    public String toString() { return text; }
+}
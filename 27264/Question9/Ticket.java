@@ -0,0 +1,64 @@
+class Ticket extends Seat {
+    private String ticketNumber;
+    private int ticketQuantity;
+    private byte bookingStatus;
+    private String bookingStatusText;
+    private String contactNumber;
+
+    public Ticket(int id, String createdDate, String updatedDate, String airlineName,
+                  String address, String phoneNumber, String email, String flightNumber,
+                  String flightCode, String passengerName, String passportNumber,
+                  String passengerEmail, String phone, String seatNumber, String seatClass,
+                  int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
+                  String contactNumber) throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
+              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
+              seatNumber, seatClass, availableSeats);
+        
+        if (ticketQuantity <= 0) throw new AirlineException("Ticket.ticketQuantity", "Ticket quantity must be > 0");
+        if (!BookingStatus.CODES.contains(bookingStatus)) 
+            throw new AirlineException("Ticket.bookingStatus", "Booking status must be 'Confirmed', 'Pending', or 'Cancelled'");
+        
+        this.ticketNumber = ticketNumber;
+        this.ticketQuantity = ticketQuantity;
+        this.bookingStatus = BookingStatus.CODES.parse(bookingStatus);
+        this.contactNumber = contactNumber;
+    }
+
+    Ticket(RowSource source, int row) {
+        super(source, row);
+        String bookingStatus = source.getString(row, AirlineColumns.BOOKING_STATUS);
+        this.ticketNumber = source.getString(row, AirlineColumns.TICKET_NUMBER);
+        this.ticketQuantity = source.getInt(row, AirlineColumns.TICKET_QUANTITY);
+        this.bookingStatus = BookingStatus.CODES.parse(bookingStatus);
+        this.bookingStatusText = BookingStatus.CODES.unparsed(bookingStatus, this.bookingStatus);
+        this.contactNumber = source.getString(row, AirlineColumns.CONTACT_NUMBER);
+    }
+
+    public String getTicketNumber() { return ticketNumber; }
+    public void setTicketNumber(String ticketNumber) {
+        changing(AirlineColumns.TICKET_NUMBER);
+        this.ticketNumber = ticketNumber;
+        changed(AirlineColumns.TICKET_NUMBER);
+    }
+    public int getTicketQuantity() { return ticketQuantity; }
+    public void setTicketQuantity(int ticketQuantity) {
+        changing(AirlineColumns.TICKET_QUANTITY);
+        this.ticketQuantity = ticketQuantity;
+        changed(AirlineColumns.TICKET_QUANTITY);
+    }
+    public String getBookingStatus() { return BookingStatus.CODES.text(bookingStatus, bookingStatusText); }
+    public byte getBookingStatusCode() { return bookingStatus; }
+    public void setBookingStatus(String bookingStatus) {
+        changing(AirlineColumns.BOOKING_STATUS);
+        this.bookingStatus = BookingStatus.CODES.parse(bookingStatus);
+        this.bookingStatusText = BookingStatus.CODES.unparsed(bookingStatus, this.bookingStatus);
+        changed(AirlineColumns.BOOKING_STATUS);
+    }
+    public String getContactNumber() { return contactNumber; }
+    public void setContactNumber(String contactNumber) {
+        changing(AirlineColumns.CONTACT_NUMBER);
+        this.contactNumber = contactNumber;
+        changed(AirlineColumns.CONTACT_NUMBER);
+    }
+}
@@ -0,0 +1,100 @@
+final class TicketRecord extends Invoice {
+    // The columns the invoice total is computed from, one bit each as in getDirtyColumns()
+    private static final long INPUTS = 1L << AirlineColumns.PRICE | 1L << AirlineColumns.BAGGAGE_FEE;
+
+    // Set once the total has been computed; from then on a change to one of its inputs recomputes it
+    private boolean computed;
+    private TrackedTotal tracked;
+    private ChangeJournal journal;
+    // the column's value when a setter started, while a journal is attached
+    private Object before;
+    private RecordIndexes<TicketRecord> indexes;
+
+    public TicketRecord(int id, String createdDate, String updatedDate, String airlineName,
+                         String address, String phoneNumber, String email, String flightNumber,
+                         String flightCode, String passengerName, String passportNumber,
+                         String passengerEmail, String phone, String seatNumber, String seatClass,
+                         int availableSeats, String ticketNumber, int ticketQuantity, String bookingStatus,
+                         String contactNumber, String baggageType, int baggageWeight,
+                         double baggageFee, String paymentMethod, String transactionId,
+                         double price, double taxAmount, double serviceFee) 
+                         throws AirlineException {
+        super(id, createdDate, updatedDate, airlineName, address, phoneNumber, email,
+              flightNumber, flightCode, passengerName, passportNumber, passengerEmail, phone,
+              seatNumber, seatClass, availableSeats, ticketNumber, ticketQuantity, bookingStatus, contactNumber,
+              baggageType, baggageWeight, baggageFee, paymentMethod, transactionId, price,
+              taxAmount, serviceFee);
+    }
+
+    // Restores a record for AirlineColumns.record. The computed columns keep their stored values until
+    // they are computed again.
+    TicketRecord(RowSource source, int row) {
+        super(source, row);
+    }
+
+    public double generateInvoice() {
+        ComputeEvent event = new ComputeEvent();
+        event.begin();
+        double total = invoice();
+        setTotalInvoice(total);
+        computed = true;
+        event.finish("Airline", "generateInvoice", getId(), total);
+        return total;
+    }
+
+    // Counts this record's invoice total in one group of totals and keeps the group's sum current as the
+    // record changes, computing the invoice total first if that has not been done.
+    public void track(RunningTotals totals, String group) {
+        if (!computed) generateInvoice();
+        if (tracked == null) tracked = new TrackedTotal(Money.of(getTotalInvoice()));
+        tracked.track(totals, group);
+    }
+
+    public boolean untrack(RunningTotals totals) { return tracked != null && tracked.untrack(totals); }
+
+    // Appends every later change to this record to the journal; null stops journaling.
+    public void journalTo(ChangeJournal journal) {
+        if (journal != null && journal.getSchema() != AirlineColumns.SCHEMA)
+            throw new IllegalArgumentException("Not a journal of Airline records");
+        this.journal = journal;
+    }
+
+    // Set while the record is in a RecordIndexes, so its setters keep the indexed keys current.
+    void indexedBy(RecordIndexes<TicketRecord> indexes) { this.indexes = indexes; }
+
+    @Override
+    void changingId(int id) {
+        if (indexes != null) indexes.changingId(this, id);
+    }
+
+    @Override
+    void changing(int column) {
+        if (journal != null) before = AirlineColumns.ACCESSORS.get(this, column);
+        if (indexes != null) indexes.changing(this, column);
+    }
+
+    @Override
+    void changed(int column) {
+        super.changed(column);
+        if (journal != null) {
+            journal.append(column == AirlineColumns.ID ? (Integer) before : getId(), column, before,
+                AirlineColumns.ACCESSORS.get(this, column));
+        }
+        if (indexes != null) indexes.changed(this, column);
+        if (column == AirlineColumns.TOTAL_INVOICE) {
+            if (tracked != null) tracked.set(Money.of(getTotalInvoice()));
+        } else if (computed && (INPUTS & 1L << column) != 0) {
+            setTotalInvoice(invoice());
+        }
+    }
+
+    private double invoice() {
+        return Money.toDouble(Money.add(Money.of(getPrice()), Money.of(getBaggageFee())));
+    }
+
+    public void displayRecord() {
+        ReportWriter out = ReportWriter.stdout();
+        AirlineReport.writeDetailed(this, out);
+        out.flush();
+    }
+}
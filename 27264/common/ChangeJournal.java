@@ -0,0 +1,477 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+// Append-only log of setter calls on the records of one schema. An entry holds the time, the
+// record's id, the column number (the field id in the schema) and the values before and after.
+// Appends only copy the entry into a buffer; a writer thread writes whatever has gathered and
+// forces it to disk with one fsync, so changes made while a sync is running share the next one
+// (group commit). A synchronous journal makes each append wait for the sync that covers it;
+// otherwise sync() waits for everything appended so far.
+//
+// Little-endian. The header records the schema like RecordFormat's. Each entry is an int length,
+// the entry (long epoch millis, int record id, short column, two values) and a CRC32 of the entry.
+// A value is a tag byte (0 null, 1 int, 2 double, 3 string) and then an int, a double, or an int
+// byte length and UTF-8. A torn or corrupt tail, as a crash can leave, ends the journal: reading
+// stops there and reopening for appends cuts it off.
+public final class ChangeJournal implements Closeable {
+    static final int MAGIC = 0x4c4e524a;
+    static final int VERSION = 1;
+    private static final int ENTRY_OVERHEAD = 4 + 8 + 4 + 2 + 4;
+    private static final int MAX_PENDING_BYTES = 4 << 20;
+    private static final byte NULL = 0;
+    private static final byte INT = 1;
+    private static final byte DOUBLE = 2;
+    private static final byte STRING = 3;
+
+    public interface Change {
+        void apply(long time, int recordId, int column, Object before, Object after);
+    }
+
+    public static final class Summary {
+        private final long entries;
+        private final long applied;
+        private final long missing;
+        private final long mismatched;
+        private final long elapsedNanos;
+
+        Summary(long entries, long applied, long missing, long mismatched, long elapsedNanos) {
+            this.entries = entries;
+            this.applied = applied;
+            this.missing = missing;
+            this.mismatched = mismatched;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getEntries() { return entries; }
+        public long getApplied() { return applied; }
+        // entries for ids that are not among the records
+        public long getMissing() { return missing; }
+        // entries whose value before did not match the record's, which was overwritten anyway, and
+        // id changes to an id another record holds, which were skipped
+        public long getMismatched() { return mismatched; }
+        public long getElapsedNanos() { return elapsedNanos; }
+    }
+
+    private final Schema schema;
+    private final FileChannel channel;
+    private final boolean synchronous;
+    private final Thread writer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private final Condition waiting = lock.newCondition();
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer pending = order(ByteBuffer.allocate(64 * 1024));
+    private ByteBuffer writing = order(ByteBuffer.allocate(64 * 1024));
+    private long appended;
+    // The file offset just past the last appended entry
+    private long position;
+    private long durable;
+    private long commits;
+    private boolean closed;
+    private IOException failure;
+
+    private ChangeJournal(Schema schema, FileChannel channel, boolean synchronous) throws IOException {
+        this.schema = schema;
+        this.channel = channel;
+        this.synchronous = synchronous;
+        this.position = channel.size();
+        this.writer = new Thread(this::writeLoop, "journal-" + schema.getName());
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // Creates the journal or reopens it for appends after its last complete entry.
+    public static ChangeJournal open(Path path, Schema schema, boolean synchronous) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        try {
+            byte[] header = header(schema);
+            if (channel.size() == 0) {
+                channel.write(ByteBuffer.wrap(header), 0);
+                channel.force(true);
+            } else {
+                verify(channel, header, path, schema);
+                long end = scan(channel, header.length, null);
+                if (end < channel.size()) channel.truncate(end);
+            }
+            channel.position(channel.size());
+            return new ChangeJournal(schema, channel, synchronous);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Schema getSchema() { return schema; }
+    public boolean isSynchronous() { return synchronous; }
+
+    public long getAppended() {
+        lock.lock();
+        try {
+            return appended;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Where the next entry will start in the file. Entries from here on can be replayed with
+    // replay(path, columns, records, position), as a snapshot taken now does.
+    public long getPosition() {
+        lock.lock();
+        try {
+            return position;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDurable() {
+        lock.lock();
+        try {
+            return durable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The number of fsyncs so far; getDurable() / getCommits() is the average group size.
+    public long getCommits() {
+        lock.lock();
+        try {
+            return commits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns the entry's sequence number, for awaitDurable. Setters cannot throw IOException, so
+    // a failed write surfaces here as an UncheckedIOException.
+    public long append(int recordId, int column, Object before, Object after) {
+        if (column < 0 || column >= schema.size())
+            throw new IllegalArgumentException("No column " + column + " in " + schema.getName());
+        byte[] beforeText = text(before);
+        byte[] afterText = text(after);
+        int length = ENTRY_OVERHEAD + size(before, beforeText) + size(after, afterText);
+        if (length > MAX_PENDING_BYTES)
+            throw new IllegalArgumentException("Values too large to journal for column " + schema.columnName(column));
+        long sequence;
+        lock.lock();
+        try {
+            reserve(length);
+            int start = pending.position();
+            pending.putInt(length - 8).putLong(System.currentTimeMillis()).putInt(recordId).putShort((short) column);
+            put(before, beforeText);
+            put(after, afterText);
+            crc.reset();
+            crc.update(pending.duplicate().position(start + 4).limit(pending.position()));
+            pending.putInt((int) crc.getValue());
+            sequence = ++appended;
+            position += length;
+            waiting.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (synchronous) awaitDurable(sequence);
+        return sequence;
+    }
+
+    public void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durable < sequence) {
+                checkWritten();
+                written.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Waits until everything appended so far is on disk.
+    public void sync() {
+        awaitDurable(getAppended());
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            waiting.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (failure != null) throw failure;
+    }
+
+    private void writeLoop() {
+        while (true) {
+            long sequence;
+            lock.lock();
+            try {
+                while (pending.position() == 0 && !closed) waiting.awaitUninterruptibly();
+                if (pending.position() == 0) return;
+                ByteBuffer full = pending;
+                pending = writing;
+                writing = full;
+                sequence = appended;
+                written.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                writing.flip();
+                while (writing.hasRemaining()) channel.write(writing);
+                channel.force(false);
+                writing.clear();
+            } catch (IOException e) {
+                lock.lock();
+                try {
+                    failure = e;
+                    written.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+                return;
+            }
+            lock.lock();
+            try {
+                durable = sequence;
+                commits++;
+                written.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // Called with the lock held. Waits while the writer is behind by more than MAX_PENDING_BYTES.
+    private void reserve(int length) {
+        check();
+        while (pending.position() > 0 && pending.position() + length > MAX_PENDING_BYTES) {
+            written.awaitUninterruptibly();
+            check();
+        }
+        if (pending.remaining() < length) {
+            ByteBuffer larger = order(ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + length)));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+    }
+
+    private void check() {
+        checkWritten();
+        if (closed)
+            throw new IllegalStateException("The " + schema.getName() + " journal is closed");
+    }
+
+    private void checkWritten() {
+        if (failure != null)
+            throw new UncheckedIOException("The " + schema.getName() + " journal could not be written", failure);
+    }
+
+    private void put(Object value, byte[] text) {
+        if (value == null) {
+            pending.put(NULL);
+        } else if (value instanceof Integer) {
+            pending.put(INT).putInt((Integer) value);
+        } else if (value instanceof Double) {
+            pending.put(DOUBLE).putDouble((Double) value);
+        } else {
+            pending.put(STRING).putInt(text.length).put(text);
+        }
+    }
+
+    private static byte[] text(Object value) {
+        if (value == null || value instanceof Integer || value instanceof Double) return null;
+        if (!(value instanceof String))
+            throw new IllegalArgumentException("Cannot journal a " + value.getClass().getSimpleName());
+        return ((String) value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int size(Object value, byte[] text) {
+        if (value == null) return 1;
+        if (value instanceof Integer) return 1 + 4;
+        if (value instanceof Double) return 1 + 8;
+        return 1 + 4 + text.length;
+    }
+
+    // Calls change for every complete entry in order and returns the number of entries read.
+    public static long read(Path path, Schema schema, Change change) throws IOException {
+        return read(path, schema, 0, change);
+    }
+
+    // Reads the entries from a position given by getPosition(); 0 reads them all.
+    public static long read(Path path, Schema schema, long fromPosition, Change change) throws IOException {
+        long[] count = new long[1];
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            byte[] header = header(schema);
+            verify(channel, header, path, schema);
+            if (fromPosition > channel.size())
+                throw new IOException(path + " ends before position " + fromPosition);
+            scan(channel, Math.max(header.length, fromPosition), (time, recordId, column, before, after) -> {
+                change.apply(time, recordId, column, before, after);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    // Replays the journal onto records keyed by id through their setters, so totals, change
+    // tracking and running totals follow as they did the first time. A change to the id column
+    // moves the record to its new key, unless another record has that key; then the change is
+    // skipped and counted as mismatched.
+    public static <R> Summary replay(Path path, ColumnAccessors<R> columns, Map<Integer, R> records)
+            throws IOException {
+        return replay(path, columns, records, 0);
+    }
+
+    // Replays only the entries from a position given by getPosition(); earlier ones are not read.
+    public static <R> Summary replay(Path path, ColumnAccessors<R> columns, Map<Integer, R> records,
+            long fromPosition) throws IOException {
+        long start = System.nanoTime();
+        int idColumn = columns.getSchema().require("id");
+        long[] counts = new long[3];
+        long entries = read(path, columns.getSchema(), fromPosition, (time, recordId, column, before, after) -> {
+            R record = records.get(recordId);
+            if (record == null) {
+                counts[1]++;
+                return;
+            }
+            boolean moves = column == idColumn && !Objects.equals(before, after);
+            R other = moves ? records.get((Integer) after) : null;
+            if (other != null && other != record) {
+                counts[2]++;
+                return;
+            }
+            if (!Objects.equals(columns.get(record, column), before)) counts[2]++;
+            columns.set(record, column, after);
+            if (moves) {
+                records.remove(recordId);
+                records.put((Integer) after, record);
+            }
+            counts[0]++;
+        });
+        return new Summary(entries, counts[0], counts[1], counts[2], System.nanoTime() - start);
+    }
+
+    // Returns the file offset just past the last complete entry, passing each entry to change
+    // when it is not null.
+    private static long scan(FileChannel channel, long from, Change change) throws IOException {
+        ByteBuffer buffer = order(ByteBuffer.allocate(1 << 20));
+        CRC32 crc = new CRC32();
+        long position = from;
+        long end = from;
+        buffer.flip();
+        while (true) {
+            if (buffer.remaining() < 4 && !fill(channel, buffer, position + buffer.remaining(), 4)) return end;
+            int length = buffer.getInt(buffer.position());
+            if (length < ENTRY_OVERHEAD - 8 || length > MAX_PENDING_BYTES) return end;
+            if (buffer.capacity() < length + 8) buffer = grow(buffer, length + 8);
+            if (buffer.remaining() < length + 8 && !fill(channel, buffer, position + buffer.remaining(), length + 8))
+                return end;
+            ByteBuffer entry = buffer.duplicate().position(buffer.position() + 4).limit(buffer.position() + 4 + length);
+            crc.reset();
+            crc.update(entry.duplicate());
+            if (buffer.getInt(buffer.position() + 4 + length) != (int) crc.getValue()) return end;
+            if (change != null) {
+                entry.order(ByteOrder.LITTLE_ENDIAN);
+                long time = entry.getLong();
+                int recordId = entry.getInt();
+                int column = entry.getShort();
+                Object before = value(entry);
+                Object after = value(entry);
+                change.apply(time, recordId, column, before, after);
+            }
+            buffer.position(buffer.position() + length + 8);
+            position += length + 8;
+            end = position;
+        }
+    }
+
+    // Compacts the buffer and reads until it holds at least needed bytes; false at end of file.
+    private static boolean fill(FileChannel channel, ByteBuffer buffer, long filePosition, int needed)
+            throws IOException {
+        buffer.compact();
+        long next = filePosition;
+        while (buffer.position() < needed && buffer.hasRemaining()) {
+            int read = channel.read(buffer, next);
+            if (read < 0) break;
+            next += read;
+        }
+        buffer.flip();
+        return buffer.remaining() >= needed;
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+        ByteBuffer larger = order(ByteBuffer.allocate(capacity));
+        larger.put(buffer);
+        larger.flip();
+        return larger;
+    }
+
+    private static Object value(ByteBuffer entry) {
+        byte tag = entry.get();
+        switch (tag) {
+            case NULL:
+                return null;
+            case INT:
+                return entry.getInt();
+            case DOUBLE:
+                return entry.getDouble();
+            case STRING:
+                byte[] text = new byte[entry.getInt()];
+                entry.get(text);
+                return new String(text, StandardCharsets.UTF_8);
+            default:
+                throw new IllegalArgumentException("Unknown value tag " + tag);
+        }
+    }
+
+    private static void verify(FileChannel channel, byte[] header, Path path, Schema schema) throws IOException {
+        ByteBuffer stored = ByteBuffer.allocate(header.length);
+        while (stored.hasRemaining() && channel.read(stored, stored.position()) > 0) {
+        }
+        if (stored.hasRemaining() || !Arrays.equals(stored.array(), header))
+            throw new IOException(path + " is not a journal of " + schema.getName() + " records in this layout");
+    }
+
+    private static byte[] header(Schema schema) {
+        byte[] name = schema.getName().getBytes(StandardCharsets.UTF_8);
+        int length = 20 + name.length;
+        byte[][] columnNames = new byte[schema.size()][];
+        for (int column = 0; column < schema.size(); column++) {
+            columnNames[column] = schema.columnName(column).getBytes(StandardCharsets.UTF_8);
+            length += 4 + columnNames[column].length;
+        }
+        ByteBuffer header = order(ByteBuffer.allocate(length));
+        header.putInt(MAGIC).putInt(VERSION).putInt(length).putInt(schema.size()).putInt(name.length).put(name);
+        for (byte[] columnName : columnNames) header.putInt(columnName.length).put(columnName);
+        return header.array();
+    }
+
+    private static ByteBuffer order(ByteBuffer buffer) {
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,230 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Checks that ChangeJournal reads back what was appended, stops at a torn or corrupt tail, and
+// replays from a position onto records. Run with java ChangeJournalTest from common/; it throws at
+// the first failure and prints a summary when everything passes.
+public class ChangeJournalTest {
+    static final Schema SCHEMA = new Schema("Item");
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int PRICE = SCHEMA.add("price", ColumnType.DOUBLE);
+    static final int NAME = SCHEMA.add("name", ColumnType.TEXT);
+    static final ColumnAccessors<Item> ACCESSORS = new ColumnAccessors<Item>(SCHEMA)
+        .addInt(ID, Item::getId, Item::setId)
+        .addDouble(PRICE, Item::getPrice, Item::setPrice)
+        .addString(NAME, Item::getName, Item::setName)
+        .complete();
+
+    // A record whose setters journal each change, as the programs' records do.
+    static final class Item {
+        private int id;
+        private double price;
+        private String name;
+        private ChangeJournal journal;
+
+        Item(int id, double price, String name) {
+            this.id = id;
+            this.price = price;
+            this.name = name;
+        }
+
+        Item(Item other) {
+            this(other.id, other.price, other.name);
+        }
+
+        int getId() { return id; }
+        double getPrice() { return price; }
+        String getName() { return name; }
+
+        void setId(int id) {
+            if (journal != null) journal.append(this.id, ID, this.id, id);
+            this.id = id;
+        }
+
+        void setPrice(double price) {
+            if (journal != null) journal.append(id, PRICE, this.price, price);
+            this.price = price;
+        }
+
+        void setName(String name) {
+            if (journal != null) journal.append(id, NAME, this.name, name);
+            this.name = name;
+        }
+    }
+
+    private static int checks;
+
+    public static void main(String[] args) throws IOException {
+        Path path = Files.createTempFile("Item", ".journal");
+        try {
+            checkRoundTrip(path);
+            checkTornTail(path);
+            checkCorruptEntry(path);
+            checkReplay(path);
+        } finally {
+            Files.deleteIfExists(path);
+        }
+        System.out.println("ChangeJournalTest: " + checks + " checks passed");
+    }
+
+    private static final Object[][] VALUES = {
+        { 1, null, 7 },
+        { 2, 0.1, -2.5e300 },
+        { 3, "", "Zo\u00eb \u65e5\u672c \ud83d\ude00" },
+        { 4, Integer.MIN_VALUE, null },
+        { 5, Double.NaN, "x|y\nz" },
+    };
+
+    private static void checkRoundTrip(Path path) throws IOException {
+        Files.write(path, new byte[0]);
+        try (ChangeJournal journal = ChangeJournal.open(path, SCHEMA, true)) {
+            check(journal.getPosition() == Files.size(path), "a new journal starts after its header");
+            for (Object[] value : VALUES) journal.append((Integer) value[0], NAME, value[1], value[2]);
+            check(journal.getDurable() == VALUES.length, "a synchronous journal is durable after each append");
+            check(journal.getPosition() == Files.size(path), "the position is the end of the file");
+        }
+        List<Object[]> read = readAll(path, 0);
+        check(read.size() == VALUES.length, "every entry is read back");
+        for (int i = 0; i < VALUES.length; i++) {
+            check(Objects.equals(read.get(i)[0], VALUES[i][0]) && Objects.equals(read.get(i)[1], NAME)
+                && Objects.equals(read.get(i)[2], VALUES[i][1]) && Objects.equals(read.get(i)[3], VALUES[i][2]),
+                "entry " + i + " reads back as " + Arrays.toString(VALUES[i]));
+        }
+        try {
+            ChangeJournal.read(path, new Schema("Other"), (time, recordId, column, before, after) -> { });
+            check(false, "a journal of another schema is refused");
+        } catch (IOException e) {
+            check(true, "a journal of another schema is refused");
+        }
+        try {
+            readAll(path, Files.size(path) + 1);
+            check(false, "a position past the end is refused");
+        } catch (IOException e) {
+            check(true, "a position past the end is refused");
+        }
+        check(readAll(path, Files.size(path)).isEmpty(), "nothing is read from the end");
+    }
+
+    // A crash can leave half an entry; reading stops before it and reopening cuts it off.
+    private static void checkTornTail(Path path) throws IOException {
+        Files.write(path, new byte[0]);
+        write(path);
+        long size = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 3);
+        }
+        check(readAll(path, 0).size() == VALUES.length - 1, "reading stops at a torn entry");
+        try (ChangeJournal journal = ChangeJournal.open(path, SCHEMA, true)) {
+            check(journal.getPosition() == Files.size(path) && Files.size(path) < size - 3,
+                "reopening cuts the torn entry off");
+            journal.append(6, PRICE, 1.0, 2.0);
+        }
+        List<Object[]> read = readAll(path, 0);
+        check(read.size() == VALUES.length && Objects.equals(read.get(VALUES.length - 1)[0], 6),
+            "entries appended after reopening follow the complete ones");
+    }
+
+    // A changed byte fails the entry's CRC, which ends the journal there.
+    private static void checkCorruptEntry(Path path) throws IOException {
+        Files.write(path, new byte[0]);
+        long third;
+        try (ChangeJournal journal = ChangeJournal.open(path, SCHEMA, true)) {
+            for (int i = 0; i < 2; i++) journal.append((Integer) VALUES[i][0], NAME, VALUES[i][1], VALUES[i][2]);
+            third = journal.getPosition();
+            for (int i = 2; i < VALUES.length; i++) journal.append((Integer) VALUES[i][0], NAME, VALUES[i][1], VALUES[i][2]);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer recordId = ByteBuffer.allocate(1);
+            channel.read(recordId, third + 12);
+            recordId.put(0, (byte) (recordId.get(0) ^ 1)).rewind();
+            channel.write(recordId, third + 12);
+        }
+        check(readAll(path, 0).size() == 2, "reading stops at an entry with a bad CRC");
+        try (ChangeJournal journal = ChangeJournal.open(path, SCHEMA, false)) {
+            check(journal.getPosition() == third, "reopening cuts the journal off at the bad entry");
+        }
+    }
+
+    // Replaying from a position onto copies taken at that position gives the live records.
+    private static void checkReplay(Path path) throws IOException {
+        Files.write(path, new byte[0]);
+        Map<Integer, Item> live = new LinkedHashMap<>();
+        for (int id = 1; id <= 5; id++) live.put(id, new Item(id, id * 1.5, "item " + id));
+        Map<Integer, Item> copies = new LinkedHashMap<>();
+        long position;
+        try (ChangeJournal journal = ChangeJournal.open(path, SCHEMA, false)) {
+            for (Item item : live.values()) item.journal = journal;
+            live.get(1).setPrice(10.25);
+            live.get(2).setName("before the copy");
+            position = journal.getPosition();
+            for (Item item : live.values()) copies.put(item.getId(), new Item(item));
+            live.get(2).setName("after the copy");
+            live.get(3).setPrice(-4.0);
+            live.get(3).setName(null);
+            Item moved = live.remove(4);
+            moved.setId(40);
+            live.put(40, moved);
+            live.get(40).setPrice(99.5);
+            journal.append(77, PRICE, 0.0, 1.0);
+            journal.sync();
+        }
+        ChangeJournal.Summary summary = ChangeJournal.replay(path, ACCESSORS, copies, position);
+        check(summary.getEntries() == 6, "only the entries after the position are read");
+        check(summary.getApplied() == 5 && summary.getMissing() == 1 && summary.getMismatched() == 0,
+            "five entries apply and the one for an unknown id is counted missing");
+        check(copies.keySet().equals(live.keySet()), "an id change moves the record to its new key");
+        for (Item item : live.values()) {
+            Item copy = copies.get(item.getId());
+            for (int column = 0; column < SCHEMA.size(); column++) {
+                check(Objects.equals(ACCESSORS.get(item, column), ACCESSORS.get(copy, column)),
+                    "replayed " + SCHEMA.columnName(column) + " of " + item.getId() + " matches");
+            }
+        }
+
+        Map<Integer, Item> fresh = new LinkedHashMap<>();
+        for (int id = 1; id <= 5; id++) fresh.put(id, new Item(id, 0, "stale"));
+        summary = ChangeJournal.replay(path, ACCESSORS, fresh);
+        check(summary.getEntries() == 8 && summary.getMismatched() > 0,
+            "a full replay counts values before that do not match");
+        check(fresh.get(1).getPrice() == 10.25 && fresh.get(40).getPrice() == 99.5, "a full replay applies every entry");
+
+        Map<Integer, Item> taken = new LinkedHashMap<>();
+        for (int id = 1; id <= 5; id++) taken.put(id, new Item(id, id * 1.5, "item " + id));
+        taken.get(2).name = "before the copy";
+        Item holder = new Item(40, 6.0, "holder");
+        taken.put(40, holder);
+        summary = ChangeJournal.replay(path, ACCESSORS, taken, position);
+        check(taken.get(40) == holder && taken.get(4).getId() == 4 && taken.size() == 6,
+            "an id change to an id another record has is skipped");
+        check(summary.getApplied() == 4 && summary.getMismatched() == 1, "the skipped id change is counted mismatched");
+    }
+
+    private static void write(Path path) throws IOException {
+        try (ChangeJournal journal = ChangeJournal.open(path, SCHEMA, true)) {
+            for (Object[] value : VALUES) journal.append((Integer) value[0], NAME, value[1], value[2]);
+        }
+    }
+
+    private static List<Object[]> readAll(Path path, long from) throws IOException {
+        List<Object[]> entries = new ArrayList<>();
+        ChangeJournal.read(path, SCHEMA, from,
+            (time, recordId, column, before, after) -> entries.add(new Object[] { recordId, column, before, after }));
+        return entries;
+    }
+
+    private static void check(boolean passed, String what) {
+        if (!passed)
+            throw new IllegalStateException("Failed: " + what);
+        checks++;
+    }
+}
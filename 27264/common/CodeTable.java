@@ -0,0 +1,110 @@
+import java.util.Arrays;
+
+// A fixed set of names coded as bytes 0..size-1, looked up through a hash table that is
+// collision-free whenever the names' hash codes allow it.
+public final class CodeTable {
+    public static final byte UNKNOWN = -1;
+    public static final int MAX_SIZE = 127;
+
+    private final String[] names;
+    private final String[] slots;
+    private final byte[] slotCodes;
+    private final int mask;
+    private final int shift;
+
+    public CodeTable(String... names) {
+        if (names.length == 0 || names.length > MAX_SIZE)
+            throw new IllegalArgumentException("A code table holds 1 to " + MAX_SIZE + " names");
+        this.names = names.clone();
+        int length = Integer.highestOneBit(names.length * 2 - 1) * 2;
+        int shift = perfectShift(length);
+        if (shift < 0 && (shift = perfectShift(length * 4)) >= 0) length *= 4;
+        this.slots = new String[length];
+        this.slotCodes = new byte[length];
+        this.mask = length - 1;
+        this.shift = Math.max(shift, 0);
+        for (int code = 0; code < names.length; code++) {
+            int slot = slot(names[code]);
+            while (slots[slot] != null) {
+                if (slots[slot].equals(names[code]))
+                    throw new IllegalArgumentException("Duplicate name: " + names[code]);
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = names[code];
+            slotCodes[slot] = (byte) code;
+        }
+    }
+
+    // Codes follow the declaration order and the names are the constants' toString().
+    public static CodeTable of(Enum<?>[] values) {
+        String[] names = new String[values.length];
+        for (int i = 0; i < values.length; i++) names[i] = values[i].toString();
+        return new CodeTable(names);
+    }
+
+    public int size() { return names.length; }
+    public String name(byte code) { return code == UNKNOWN ? null : names[code]; }
+
+    // Exact, case-sensitive match like String.equals; null and anything else is UNKNOWN.
+    public byte parse(String text) {
+        if (text == null) return UNKNOWN;
+        int slot = slot(text);
+        String name;
+        while ((name = slots[slot]) != null) {
+            if (name.equals(text)) return slotCodes[slot];
+            slot = (slot + 1) & mask;
+        }
+        return UNKNOWN;
+    }
+
+    public boolean contains(String text) {
+        return parse(text) != UNKNOWN;
+    }
+
+    // The original text when it is not one of the names, so nothing the user typed is lost.
+    public String unparsed(String text, byte code) {
+        return code == UNKNOWN ? text : null;
+    }
+
+    public String text(byte code, String unparsed) {
+        return code == UNKNOWN ? unparsed : names[code];
+    }
+
+    // Rows per code; UNKNOWN rows are left out.
+    public int[] count(byte[] codes, int size) {
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) counts[codes[i] & 0xFF]++;
+        return Arrays.copyOf(counts, names.length);
+    }
+
+    // Sum of cents per code; UNKNOWN rows are left out.
+    public long[] sum(byte[] codes, long[] cents, int size) {
+        long[] totals = new long[256];
+        for (int i = 0; i < size; i++) totals[codes[i] & 0xFF] += cents[i];
+        return Arrays.copyOf(totals, names.length);
+    }
+
+    // A shift under which every name gets its own slot, so lookups probe once; -1 if there is none.
+    private int perfectShift(int length) {
+        for (int shift = 0; shift < 32; shift++) {
+            boolean[] used = new boolean[length];
+            boolean perfect = true;
+            for (String name : names) {
+                int hash = name.hashCode();
+                int slot = (hash ^ (hash >>> shift)) & (length - 1);
+                if (used[slot]) {
+                    perfect = false;
+                    break;
+                }
+                used[slot] = true;
+            }
+            if (perfect) return shift;
+        }
+        return -1;
+    }
+
+    private int slot(String text) {
+        int hash = text.hashCode();
+        return (hash ^ (hash >>> shift)) & mask;
+    }
+}
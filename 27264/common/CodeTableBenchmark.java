@@ -0,0 +1,55 @@
+import java.util.HashMap;
+import java.util.Map;
+
+public class CodeTableBenchmark {
+    private static final String[] STATUSES = { "Processing", "Shipped", "Delivered" };
+    private static final CodeTable CODES = new CodeTable(STATUSES);
+
+    public static void main(String[] args) throws Exception {
+        String[] inputs = { "Processing", "Shipped", "Delivered", "shipped", "Lost", "Delivered" };
+        checkEquivalence(inputs);
+
+        Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < STATUSES.length; i++) map.put(STATUSES[i], i);
+
+        MicroBench bench = new MicroBench();
+
+        bench.header("parse one of " + STATUSES.length + " names");
+        bench.run("equals chain", i -> equalsChain(inputs[i % inputs.length]));
+        bench.run("HashMap.get", i -> map.getOrDefault(inputs[i % inputs.length], -1));
+        bench.run("CodeTable.parse", i -> CODES.parse(inputs[i % inputs.length]));
+
+        int rows = Integer.getInteger("bench.rows", 1_000_000);
+        String[] names = new String[rows];
+        byte[] codes = new byte[rows];
+        long[] cents = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            names[i] = STATUSES[(i * 7) % STATUSES.length];
+            codes[i] = CODES.parse(names[i]);
+            cents[i] = 1_000 + i % 5_000;
+        }
+
+        bench.header("sum per status over " + rows + " rows");
+        bench.run("HashMap<String, Long>", i -> {
+            Map<String, Long> totals = new HashMap<>();
+            for (int row = 0; row < rows; row++) totals.merge(names[row], cents[row], Long::sum);
+            return totals;
+        });
+        bench.run("CodeTable.sum(byte[])", i -> CODES.sum(codes, cents, rows));
+        bench.run("CodeTable.count(byte[])", i -> CODES.count(codes, rows));
+    }
+
+    private static int equalsChain(String text) {
+        if (text.equals("Processing")) return 0;
+        if (text.equals("Shipped")) return 1;
+        if (text.equals("Delivered")) return 2;
+        return -1;
+    }
+
+    private static void checkEquivalence(String[] inputs) {
+        for (String text : inputs) {
+            if (CODES.parse(text) != equalsChain(text))
+                throw new IllegalStateException("CodeTable differs from equals for " + text);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+// Reads and writes a record's columns by number through its getters and setters, boxing the
+// values: Integer for int fields, Double for double fields and String for the rest, as the
+// setters take them. The change journal uses it to capture values and to replay setter calls.
+// Columns of a program without setters are added read-only, and setting one fails.
+public final class ColumnAccessors<R> {
+    private final Schema schema;
+    private final Function<R, Object>[] getters;
+    private final BiConsumer<R, Object>[] setters;
+    private final ToIntFunction<R>[] intGetters;
+
+    @SuppressWarnings("unchecked")
+    public ColumnAccessors(Schema schema) {
+        this.schema = schema;
+        this.getters = (Function<R, Object>[]) new Function<?, ?>[schema.size()];
+        this.setters = (BiConsumer<R, Object>[]) new BiConsumer<?, ?>[schema.size()];
+        this.intGetters = (ToIntFunction<R>[]) new ToIntFunction<?>[schema.size()];
+    }
+
+    public ColumnAccessors<R> addInt(int column, ToIntFunction<R> getter, ObjIntConsumer<R> setter) {
+        add(column, record -> getter.applyAsInt(record),
+            setter == null ? null : (record, value) -> setter.accept(record, (Integer) value));
+        intGetters[column] = getter;
+        return this;
+    }
+
+    public ColumnAccessors<R> addInt(int column, ToIntFunction<R> getter) {
+        return addInt(column, getter, null);
+    }
+
+    public ColumnAccessors<R> addDouble(int column, ToDoubleFunction<R> getter) {
+        return addDouble(column, getter, null);
+    }
+
+    public ColumnAccessors<R> addString(int column, Function<R, String> getter) {
+        return addString(column, getter, null);
+    }
+
+    public ColumnAccessors<R> addDouble(int column, ToDoubleFunction<R> getter, ObjDoubleConsumer<R> setter) {
+        return add(column, record -> getter.applyAsDouble(record),
+            setter == null ? null : (record, value) -> setter.accept(record, (Double) value));
+    }
+
+    public ColumnAccessors<R> addString(int column, Function<R, String> getter, BiConsumer<R, String> setter) {
+        return add(column, getter::apply,
+            setter == null ? null : (record, value) -> setter.accept(record, (String) value));
+    }
+
+    // Fails unless every column of the schema has an accessor.
+    public ColumnAccessors<R> complete() {
+        for (int column = 0; column < getters.length; column++) {
+            if (getters[column] == null)
+                throw new IllegalStateException("No accessor for column " + schema.columnName(column)
+                    + " of " + schema.getName());
+        }
+        return this;
+    }
+
+    public Schema getSchema() { return schema; }
+
+    public Object get(R record, int column) {
+        return getters[column].apply(record);
+    }
+
+    // Reads an int column without boxing.
+    public int getInt(R record, int column) {
+        if (intGetters[column] == null)
+            throw new IllegalArgumentException("Column " + schema.columnName(column) + " is not an int column");
+        return intGetters[column].applyAsInt(record);
+    }
+
+    public void set(R record, int column, Object value) {
+        if (setters[column] == null)
+            throw new UnsupportedOperationException("Column " + schema.columnName(column) + " is read-only");
+        try {
+            setters[column].accept(record, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Wrong value for column " + schema.columnName(column) + ": " + value);
+        }
+    }
+
+    private ColumnAccessors<R> add(int column, Function<R, Object> getter, BiConsumer<R, Object> setter) {
+        if (getters[column] != null)
+            throw new IllegalArgumentException("Column " + schema.columnName(column) + " already has an accessor");
+        getters[column] = getter;
+        setters[column] = setter;
+        return this;
+    }
+}
@@ -0,0 +1,216 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class ColumnTable implements RowSource, RowSink {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Schema schema;
+    private final Object[] columns;
+    private final StringDictionary[] dictionaries;
+    private final CodeTable[] codeTables;
+    private final Map<Integer, String>[] unparsed;
+    private int size;
+    private int capacity;
+
+    public ColumnTable(Schema schema) {
+        this(schema, DEFAULT_CAPACITY);
+    }
+
+    public ColumnTable(Schema schema, int initialCapacity) {
+        this.schema = schema;
+        this.capacity = Math.max(1, initialCapacity);
+        this.columns = new Object[schema.size()];
+        this.dictionaries = new StringDictionary[schema.size()];
+        this.codeTables = new CodeTable[schema.size()];
+        this.unparsed = newUnparsed(schema.size());
+        for (int column = 0; column < schema.size(); column++) {
+            switch (schema.columnType(column)) {
+                case INT:
+                    columns[column] = new int[capacity];
+                    break;
+                case DOUBLE:
+                    columns[column] = new double[capacity];
+                    break;
+                case DICT:
+                    columns[column] = new int[capacity];
+                    dictionaries[column] = new StringDictionary();
+                    break;
+                case TEXT:
+                    columns[column] = new String[capacity];
+                    break;
+                case DATE:
+                    columns[column] = new int[capacity];
+                    unparsed[column] = new HashMap<>();
+                    break;
+                case MONEY:
+                    columns[column] = new long[capacity];
+                    break;
+                case CODE:
+                    columns[column] = new byte[capacity];
+                    codeTables[column] = schema.codeTable(column);
+                    unparsed[column] = new HashMap<>();
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public int addRow() {
+        if (size == capacity) grow(capacity * 2);
+        return size++;
+    }
+
+    public void clear() {
+        size = 0;
+        for (Map<Integer, String> unparsed : unparsed) {
+            if (unparsed != null) unparsed.clear();
+        }
+    }
+
+    @Override
+    public Schema schema() { return schema; }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public int getInt(int row, int column) {
+        Object data = columns[column];
+        if (data instanceof byte[]) return ((byte[]) data)[row];
+        return ((int[]) data)[row];
+    }
+
+    @Override
+    public double getDouble(int row, int column) {
+        Object data = columns[column];
+        if (data instanceof long[]) return Money.toDouble(((long[]) data)[row]);
+        return ((double[]) data)[row];
+    }
+
+    @Override
+    public long getLong(int row, int column) {
+        Object data = columns[column];
+        if (data instanceof long[]) return ((long[]) data)[row];
+        if (data instanceof double[]) return Money.of(((double[]) data)[row]);
+        return ((int[]) data)[row];
+    }
+
+    @Override
+    public String getString(int row, int column) {
+        if (dictionaries[column] != null) return dictionaries[column].decode(((int[]) columns[column])[row]);
+        if (codeTables[column] != null) {
+            byte code = ((byte[]) columns[column])[row];
+            return codeTables[column].text(code, code == CodeTable.UNKNOWN ? unparsed[column].get(row) : null);
+        }
+        if (unparsed[column] != null) {
+            int day = ((int[]) columns[column])[row];
+            return Dates.text(day, day == Dates.INVALID ? unparsed[column].get(row) : null);
+        }
+        return ((String[]) columns[column])[row];
+    }
+
+    @Override
+    public void setInt(int row, int column, int value) {
+        ((int[]) columns[column])[row] = value;
+    }
+
+    @Override
+    public void setDouble(int row, int column, double value) {
+        Object data = columns[column];
+        if (data instanceof long[]) {
+            ((long[]) data)[row] = Money.of(value);
+        } else {
+            ((double[]) data)[row] = value;
+        }
+    }
+
+    @Override
+    public void setLong(int row, int column, long value) {
+        ((long[]) columns[column])[row] = value;
+    }
+
+    @Override
+    public void setString(int row, int column, String value) {
+        if (dictionaries[column] != null) {
+            ((int[]) columns[column])[row] = dictionaries[column].encode(value);
+        } else if (codeTables[column] != null) {
+            byte code = codeTables[column].parse(value);
+            ((byte[]) columns[column])[row] = code;
+            if (code == CodeTable.UNKNOWN) {
+                unparsed[column].put(row, value);
+            } else if (!unparsed[column].isEmpty()) {
+                unparsed[column].remove(row);
+            }
+        } else if (unparsed[column] != null) {
+            int day = Dates.parse(value);
+            ((int[]) columns[column])[row] = day;
+            if (day == Dates.INVALID) {
+                unparsed[column].put(row, value);
+            } else if (!unparsed[column].isEmpty()) {
+                unparsed[column].remove(row);
+            }
+        } else {
+            ((String[]) columns[column])[row] = value;
+        }
+    }
+
+    // Direct column access for scans; arrays are replaced when the table grows.
+    public int[] ints(int column) { return (int[]) columns[column]; }
+    public double[] doubles(int column) { return (double[]) columns[column]; }
+    public String[] texts(int column) { return (String[]) columns[column]; }
+    public int[] codes(int column) { return (int[]) columns[column]; }
+    public int[] days(int column) { return (int[]) columns[column]; }
+    public long[] cents(int column) { return (long[]) columns[column]; }
+    public byte[] bytes(int column) { return (byte[]) columns[column]; }
+    public CodeTable codeTable(int column) { return codeTables[column]; }
+    public StringDictionary dictionary(int column) { return dictionaries[column]; }
+
+    // Rows whose INT or DATE value lies in [from, to]; a date that did not parse never matches.
+    public int[] rowsBetween(int column, int from, int to) {
+        int[] values = (int[]) columns[column];
+        int[] rows = new int[16];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            int value = values[row];
+            if (value >= from && value <= to && value != Dates.INVALID) {
+                if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    public int countBetween(int column, int from, int to) {
+        int[] values = (int[]) columns[column];
+        int count = 0;
+        for (int row = 0; row < size; row++) {
+            int value = values[row];
+            if (value >= from && value <= to && value != Dates.INVALID) count++;
+        }
+        return count;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Map<Integer, String>[] newUnparsed(int columns) {
+        return new Map[columns];
+    }
+
+    private void grow(int newCapacity) {
+        for (int column = 0; column < columns.length; column++) {
+            Object data = columns[column];
+            if (data instanceof int[]) {
+                columns[column] = Arrays.copyOf((int[]) data, newCapacity);
+            } else if (data instanceof double[]) {
+                columns[column] = Arrays.copyOf((double[]) data, newCapacity);
+            } else if (data instanceof long[]) {
+                columns[column] = Arrays.copyOf((long[]) data, newCapacity);
+            } else if (data instanceof byte[]) {
+                columns[column] = Arrays.copyOf((byte[]) data, newCapacity);
+            } else {
+                columns[column] = Arrays.copyOf((String[]) data, newCapacity);
+            }
+        }
+        capacity = newCapacity;
+    }
+}
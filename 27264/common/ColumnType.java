@@ -0,0 +1,9 @@
+public enum ColumnType {
+    INT,
+    DOUBLE,
+    DICT,
+    TEXT,
+    DATE,
+    MONEY,
+    CODE
+}
@@ -0,0 +1,34 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("records.Compute")
+@Label("Compute")
+@Category({ "Records", "Compute" })
+@Description("One call of a record's calculation method, such as generateBill or calculateFine")
+@StackTrace(false)
+public final class ComputeEvent extends Event {
+    @Label("Domain")
+    String domain;
+
+    @Label("Method")
+    String method;
+
+    @Label("Record ID")
+    int recordId;
+
+    @Label("Result")
+    double result;
+
+    public void finish(String domain, String method, int recordId, double result) {
+        if (!shouldCommit()) return;
+        this.domain = domain;
+        this.method = method;
+        this.recordId = recordId;
+        this.result = result;
+        commit();
+    }
+}
@@ -0,0 +1,310 @@
+import java.util.Arrays;
+
+// A filter on a query's rows by column name. Numbers, money and dates compare by value: dates are
+// given as YYYY-MM-DD and money in currency units. Strings compare for equality only. A date that
+// did not parse matches no comparison. Bound to a ColumnTable, a condition reads the stored arrays
+// (days, cents, dictionary codes) directly, so no value is decoded and no record is built.
+public abstract class Condition {
+    // One condition bound to one source; called from several threads at once.
+    interface Matcher {
+        boolean matches(int row);
+    }
+
+    private static final Matcher NEVER = row -> false;
+
+    Condition() {
+    }
+
+    abstract Matcher bind(RowSource source);
+
+    public static Condition eq(String column, Object value) { return new In(column, new Object[] { value }); }
+
+    public static Condition in(String column, Object... values) { return new In(column, values.clone()); }
+
+    public static Condition ne(String column, Object value) { return not(eq(column, value)); }
+
+    public static Condition lt(String column, Object value) { return new Range(column, null, false, value, false); }
+
+    public static Condition le(String column, Object value) { return new Range(column, null, false, value, true); }
+
+    public static Condition gt(String column, Object value) { return new Range(column, value, false, null, false); }
+
+    public static Condition ge(String column, Object value) { return new Range(column, value, true, null, false); }
+
+    // Both ends included.
+    public static Condition between(String column, Object low, Object high) {
+        return new Range(column, low, true, high, true);
+    }
+
+    public static Condition and(Condition... conditions) { return new And(conditions.clone()); }
+
+    public static Condition or(Condition... conditions) { return new Or(conditions.clone()); }
+
+    public static Condition not(Condition condition) { return new Not(condition); }
+
+    // Reads an INT, DATE, MONEY or CODE column as a long: the value, the day, the cents or the code.
+    interface LongColumn {
+        long get(int row);
+    }
+
+    interface DoubleColumn {
+        double get(int row);
+    }
+
+    static LongColumn longs(RowSource source, int column) {
+        ColumnType type = source.schema().columnType(column);
+        if (source instanceof ColumnTable) {
+            ColumnTable table = (ColumnTable) source;
+            switch (type) {
+                case MONEY:
+                    long[] cents = table.cents(column);
+                    return row -> cents[row];
+                case CODE:
+                    byte[] codes = table.bytes(column);
+                    return row -> codes[row];
+                default:
+                    int[] values = table.ints(column);
+                    return row -> values[row];
+            }
+        }
+        if (type == ColumnType.MONEY) return row -> source.getLong(row, column);
+        return row -> source.getInt(row, column);
+    }
+
+    static DoubleColumn doubles(RowSource source, int column) {
+        if (source instanceof ColumnTable) {
+            double[] values = ((ColumnTable) source).doubles(column);
+            return row -> values[row];
+        }
+        return row -> source.getDouble(row, column);
+    }
+
+    static final class Range extends Condition {
+        private final String column;
+        private final Object low;
+        private final boolean lowIncluded;
+        private final Object high;
+        private final boolean highIncluded;
+
+        Range(String column, Object low, boolean lowIncluded, Object high, boolean highIncluded) {
+            this.column = column;
+            this.low = low;
+            this.lowIncluded = lowIncluded;
+            this.high = high;
+            this.highIncluded = highIncluded;
+        }
+
+        @Override
+        Matcher bind(RowSource source) {
+            int number = source.schema().require(column);
+            ColumnType type = source.schema().columnType(number);
+            if (type == ColumnType.DOUBLE) {
+                double from = low == null ? Double.NEGATIVE_INFINITY : number(low).doubleValue();
+                double to = high == null ? Double.POSITIVE_INFINITY : number(high).doubleValue();
+                if (!lowIncluded) from = Math.nextUp(from);
+                if (!highIncluded) to = Math.nextDown(to);
+                DoubleColumn values = doubles(source, number);
+                double min = from;
+                double max = to;
+                return row -> {
+                    double value = values.get(row);
+                    return value >= min && value <= max;
+                };
+            }
+            if (type != ColumnType.INT && type != ColumnType.DATE && type != ColumnType.MONEY)
+                throw new IllegalArgumentException("Column " + column + " can only be compared for equality");
+            long from = low == null ? Long.MIN_VALUE : value(low, type);
+            long to = high == null ? Long.MAX_VALUE : value(high, type);
+            if (!lowIncluded && from != Long.MAX_VALUE) from++;
+            if (!highIncluded && to != Long.MIN_VALUE) to--;
+            if (type == ColumnType.DATE && from <= Dates.INVALID) from = Dates.INVALID + 1L;
+            if (from > to) return NEVER;
+            LongColumn values = longs(source, number);
+            long min = from;
+            long max = to;
+            return row -> {
+                long value = values.get(row);
+                return value >= min && value <= max;
+            };
+        }
+
+        private long value(Object value, ColumnType type) {
+            switch (type) {
+                case DATE:
+                    int day = value instanceof String ? Dates.parse((String) value) : Dates.INVALID;
+                    if (day == Dates.INVALID)
+                        throw new IllegalArgumentException("Not a YYYY-MM-DD date for " + column + ": " + value);
+                    return day;
+                case MONEY:
+                    return Money.of(number(value).doubleValue());
+                default:
+                    Number number = number(value);
+                    if (number.doubleValue() != number.longValue())
+                        throw new IllegalArgumentException("Not a whole number for " + column + ": " + value);
+                    return number.longValue();
+            }
+        }
+
+        private Number number(Object value) {
+            if (!(value instanceof Number))
+                throw new IllegalArgumentException("Not a number for " + column + ": " + value);
+            return (Number) value;
+        }
+    }
+
+    static final class In extends Condition {
+        private final String column;
+        private final Object[] values;
+
+        In(String column, Object[] values) {
+            this.column = column;
+            this.values = values;
+        }
+
+        @Override
+        Matcher bind(RowSource source) {
+            int number = source.schema().require(column);
+            ColumnType type = source.schema().columnType(number);
+            if (values.length == 0) return NEVER;
+            if (type == ColumnType.INT || type == ColumnType.DOUBLE || type == ColumnType.MONEY || type == ColumnType.DATE) {
+                Condition[] equal = new Condition[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    if (values[i] == null)
+                        throw new IllegalArgumentException("Column " + column + " holds no nulls");
+                    equal[i] = between(column, values[i], values[i]);
+                }
+                return new Or(equal).bind(source);
+            }
+            String[] texts = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && !(values[i] instanceof String))
+                    throw new IllegalArgumentException("Not a string for " + column + ": " + values[i]);
+                texts[i] = (String) values[i];
+            }
+            if (source instanceof ColumnTable && type == ColumnType.DICT) {
+                StringDictionary dictionary = ((ColumnTable) source).dictionary(number);
+                int[] codes = new int[texts.length];
+                int count = 0;
+                for (String text : texts) {
+                    int code = text == null ? StringDictionary.NULL_CODE : dictionary.find(text);
+                    if (text == null || code != StringDictionary.NULL_CODE) codes[count++] = code;
+                }
+                return anyOf(longs(source, number), Arrays.copyOf(codes, count));
+            }
+            if (source instanceof ColumnTable && type == ColumnType.CODE) {
+                // Names outside the code table are stored as UNKNOWN with their text, so only those
+                // rows need their text compared.
+                CodeTable table = source.schema().codeTable(number);
+                int[] codes = new int[texts.length];
+                int count = 0;
+                boolean unknown = false;
+                for (String text : texts) {
+                    byte code = table.parse(text);
+                    if (code == CodeTable.UNKNOWN) {
+                        unknown = true;
+                    } else {
+                        codes[count++] = code;
+                    }
+                }
+                Matcher known = anyOf(longs(source, number), Arrays.copyOf(codes, count));
+                if (!unknown) return known;
+                byte[] stored = ((ColumnTable) source).bytes(number);
+                Matcher other = equalTo(source, number, texts);
+                return row -> stored[row] == CodeTable.UNKNOWN ? other.matches(row) : known.matches(row);
+            }
+            return equalTo(source, number, texts);
+        }
+
+        private static Matcher anyOf(LongColumn column, int[] codes) {
+            if (codes.length == 0) return NEVER;
+            if (codes.length == 1) {
+                int code = codes[0];
+                return row -> column.get(row) == code;
+            }
+            return row -> {
+                long value = column.get(row);
+                for (int code : codes) {
+                    if (value == code) return true;
+                }
+                return false;
+            };
+        }
+
+        private static Matcher equalTo(RowSource source, int column, String[] texts) {
+            return row -> {
+                String value = source.getString(row, column);
+                for (String text : texts) {
+                    if (value == null ? text == null : value.equals(text)) return true;
+                }
+                return false;
+            };
+        }
+    }
+
+    static final class And extends Condition {
+        private final Condition[] conditions;
+
+        And(Condition[] conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        Matcher bind(RowSource source) {
+            Matcher[] matchers = bindAll(conditions, source);
+            if (matchers.length == 1) return matchers[0];
+            if (matchers.length == 2) {
+                Matcher first = matchers[0];
+                Matcher second = matchers[1];
+                return row -> first.matches(row) && second.matches(row);
+            }
+            return row -> {
+                for (Matcher matcher : matchers) {
+                    if (!matcher.matches(row)) return false;
+                }
+                return true;
+            };
+        }
+    }
+
+    static final class Or extends Condition {
+        private final Condition[] conditions;
+
+        Or(Condition[] conditions) {
+            this.conditions = conditions;
+        }
+
+        @Override
+        Matcher bind(RowSource source) {
+            Matcher[] matchers = bindAll(conditions, source);
+            if (matchers.length == 1) return matchers[0];
+            return row -> {
+                for (Matcher matcher : matchers) {
+                    if (matcher.matches(row)) return true;
+                }
+                return false;
+            };
+        }
+    }
+
+    static final class Not extends Condition {
+        private final Condition condition;
+
+        Not(Condition condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        Matcher bind(RowSource source) {
+            Matcher matcher = condition.bind(source);
+            return row -> !matcher.matches(row);
+        }
+    }
+
+    private static Matcher[] bindAll(Condition[] conditions, RowSource source) {
+        if (conditions.length == 0)
+            throw new IllegalArgumentException("No conditions to combine");
+        Matcher[] matchers = new Matcher[conditions.length];
+        for (int i = 0; i < conditions.length; i++) matchers[i] = conditions[i].bind(source);
+        return matchers;
+    }
+}
@@ -0,0 +1,129 @@
+import java.time.LocalDate;
+
+// Dates as int days since 1970-01-01, parsed from and formatted to YYYY-MM-DD.
+public final class Dates {
+    public static final int INVALID = Integer.MIN_VALUE;
+    public static final int TEXT_LENGTH = 10;
+
+    private static final int CACHE_FIRST_DAY = of(1900, 1, 1);
+    private static final int CACHE_LAST_DAY = of(2099, 12, 31);
+    private static final String[] FORMATTED = new String[CACHE_LAST_DAY - CACHE_FIRST_DAY + 1];
+
+    private Dates() {
+    }
+
+    // Accepts exactly YYYY-MM-DD with a real month and day; anything else is INVALID.
+    public static int parse(CharSequence text) {
+        if (text == null || text.length() != TEXT_LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-')
+            return INVALID;
+        int year = digits(text, 0, 4);
+        int month = digits(text, 5, 7);
+        int day = digits(text, 8, 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month))
+            return INVALID;
+        return of(year, month, day);
+    }
+
+    public static boolean isDate(CharSequence text) {
+        return parse(text) != INVALID;
+    }
+
+    public static int of(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    public static int year(int epochDay) { return civil(epochDay) >> 9; }
+    public static int month(int epochDay) { return (civil(epochDay) >> 5) & 15; }
+    public static int dayOfMonth(int epochDay) { return civil(epochDay) & 31; }
+
+    public static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int today() {
+        return (int) LocalDate.now().toEpochDay();
+    }
+
+    // Days from 1900 to 2099 share one String each, so getters do not allocate.
+    public static String format(int epochDay) {
+        if (epochDay == INVALID) return null;
+        if (epochDay < CACHE_FIRST_DAY || epochDay > CACHE_LAST_DAY) return newText(epochDay);
+        String text = FORMATTED[epochDay - CACHE_FIRST_DAY];
+        if (text == null) {
+            text = newText(epochDay);
+            FORMATTED[epochDay - CACHE_FIRST_DAY] = text;
+        }
+        return text;
+    }
+
+    // The original text when it is not a YYYY-MM-DD date, so nothing the user typed is lost.
+    public static String unparsed(String text, int epochDay) {
+        return epochDay == INVALID ? text : null;
+    }
+
+    public static String text(int epochDay, String unparsed) {
+        return unparsed != null ? unparsed : format(epochDay);
+    }
+
+    private static String newText(int epochDay) {
+        char[] text = new char[TEXT_LENGTH];
+        int civil = civil(epochDay);
+        int year = civil >> 9;
+        int month = (civil >> 5) & 15;
+        int day = civil & 31;
+        text[0] = (char) ('0' + year / 1000 % 10);
+        text[1] = (char) ('0' + year / 100 % 10);
+        text[2] = (char) ('0' + year / 10 % 10);
+        text[3] = (char) ('0' + year % 10);
+        text[4] = '-';
+        text[5] = (char) ('0' + month / 10);
+        text[6] = (char) ('0' + month % 10);
+        text[7] = '-';
+        text[8] = (char) ('0' + day / 10);
+        text[9] = (char) ('0' + day % 10);
+        return new String(text);
+    }
+
+    // Year, month and day packed as year << 9 | month << 5 | day.
+    private static int civil(int epochDay) {
+        int shifted = epochDay + 719468;
+        int era = (shifted >= 0 ? shifted : shifted - 146096) / 146097;
+        int dayOfEra = shifted - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return year << 9 | month << 5 | day;
+    }
+
+    private static int digits(CharSequence text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return -1;
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,71 @@
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+public class DatesBenchmark {
+    private static final String[] DATES = { "2024-01-01", "2024-02-29", "1999-12-31", "2031-07-15", "2024-06-30" };
+    private static final String[] NOT_DATES = { "2023-02-29", "2024-13-01", "2024-1-01", "01/02/2024", "" };
+
+    public static void main(String[] args) throws Exception {
+        checkEquivalence();
+
+        MicroBench bench = new MicroBench();
+
+        bench.header("parse YYYY-MM-DD");
+        bench.run("LocalDate.parse", i -> LocalDate.parse(DATES[i % 5]).toEpochDay());
+        bench.run("Dates.parse", i -> Dates.parse(DATES[i % 5]));
+        bench.run("LocalDate.parse (invalid)", i -> parseOrInvalid(NOT_DATES[i % 5]));
+        bench.run("Dates.parse (invalid)", i -> Dates.parse(NOT_DATES[i % 5]));
+
+        bench.header("format");
+        bench.run("LocalDate.toString", i -> LocalDate.ofEpochDay(19_000 + i % 3_650).toString());
+        bench.run("Dates.format", i -> Dates.format(19_000 + i % 3_650));
+
+        int rows = Integer.getInteger("bench.rows", 100_000);
+        Schema schema = new Schema("dates");
+        int day = schema.add("day", ColumnType.DATE);
+        int text = schema.add("text", ColumnType.TEXT);
+        ColumnTable table = new ColumnTable(schema, rows);
+        int first = Dates.of(2020, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            int row = table.addRow();
+            table.setInt(row, day, first + i % 1_826);
+            table.setString(row, text, Dates.format(first + i % 1_826));
+        }
+        int weekStart = Dates.of(2023, 3, 6);
+        int weekEnd = weekStart + 6;
+        String from = Dates.format(weekStart);
+        String to = Dates.format(weekEnd);
+
+        bench.header("one week out of " + rows + " rows");
+        bench.run("compare strings", i -> {
+            String[] values = table.texts(text);
+            int count = 0;
+            for (int row = 0; row < rows; row++) {
+                if (values[row].compareTo(from) >= 0 && values[row].compareTo(to) <= 0) count++;
+            }
+            return count;
+        });
+        bench.run("countBetween on days", i -> table.countBetween(day, weekStart, weekEnd));
+        bench.run("rowsBetween on days", i -> table.rowsBetween(day, weekStart, weekEnd));
+    }
+
+    private static long parseOrInvalid(String text) {
+        try {
+            return LocalDate.parse(text).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return Dates.INVALID;
+        }
+    }
+
+    private static void checkEquivalence() {
+        for (long day = LocalDate.of(1900, 1, 1).toEpochDay(); day <= LocalDate.of(2099, 12, 31).toEpochDay(); day++) {
+            String text = LocalDate.ofEpochDay(day).toString();
+            if (Dates.parse(text) != day || !Dates.format((int) day).equals(text))
+                throw new IllegalStateException("Dates differ from LocalDate for " + text);
+        }
+        for (String text : NOT_DATES) {
+            if (Dates.isDate(text))
+                throw new IllegalStateException("Dates accepted " + text);
+        }
+    }
+}
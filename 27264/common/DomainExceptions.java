@@ -0,0 +1,10 @@
+public final class DomainExceptions {
+    private static volatile boolean stackTraces = !Boolean.getBoolean("exceptions.stackless");
+
+    private DomainExceptions() {
+    }
+
+    // Checked by every domain exception constructor; when off, no stack trace is captured.
+    public static boolean stackTraces() { return stackTraces; }
+    public static void setStackTraces(boolean enabled) { stackTraces = enabled; }
+}
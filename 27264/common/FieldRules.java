@@ -0,0 +1,102 @@
+public final class FieldRules {
+    public static final int PHONE_LENGTH = 10;
+    public static final int MIN_CODE_LENGTH = 3;
+
+    // Rule numbers for ValidationCache
+    static final int PHONE = 0;
+    static final int EMAIL = 1;
+    static final int CODE = 2;
+    static final int ALPHANUMERIC = 3;
+
+    // Off unless -Dvalidation.cacheSize is set or useCache is called.
+    private static volatile ValidationCache cache = ValidationCache.fromProperty();
+
+    private FieldRules() {
+    }
+
+    // Memoizes every rule's outcome by value from now on, or stops when cache is null.
+    public static void useCache(ValidationCache cache) {
+        FieldRules.cache = cache;
+    }
+
+    public static ValidationCache getCache() { return cache; }
+
+    // Same as value.matches("\\d{10}")
+    public static boolean isPhone(String value) {
+        ValidationCache cache = FieldRules.cache;
+        return cache != null && value != null ? cache.test(PHONE, value) : checkPhone(value);
+    }
+
+    // Same as value.matches("^[A-Za-z0-9+_.-]+@(.+)$")
+    public static boolean isEmail(String value) {
+        ValidationCache cache = FieldRules.cache;
+        return cache != null && value != null ? cache.test(EMAIL, value) : checkEmail(value);
+    }
+
+    // Same as value.length() >= 3 && value.matches("^[a-zA-Z0-9]+$")
+    public static boolean isCode(String value) {
+        ValidationCache cache = FieldRules.cache;
+        return cache != null && value != null ? cache.test(CODE, value) : checkCode(value);
+    }
+
+    public static boolean isAlphanumeric(String value) {
+        ValidationCache cache = FieldRules.cache;
+        return cache != null && value != null ? cache.test(ALPHANUMERIC, value) : checkAlphanumeric(value);
+    }
+
+    static boolean check(int rule, String value) {
+        switch (rule) {
+            case PHONE: return checkPhone(value);
+            case EMAIL: return checkEmail(value);
+            case CODE: return checkCode(value);
+            case ALPHANUMERIC: return checkAlphanumeric(value);
+            default: throw new IllegalArgumentException("No rule " + rule);
+        }
+    }
+
+    private static boolean checkPhone(String value) {
+        if (value == null || value.length() != PHONE_LENGTH) return false;
+        for (int i = 0; i < PHONE_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    private static boolean checkEmail(String value) {
+        if (value == null) return false;
+        int length = value.length();
+        int at = 0;
+        while (at < length && isEmailLocalChar(value.charAt(at))) at++;
+        if (at == 0 || at >= length - 1 || value.charAt(at) != '@') return false;
+        for (int i = at + 1; i < length; i++) {
+            if (isLineTerminator(value.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean checkCode(String value) {
+        return value != null && value.length() >= MIN_CODE_LENGTH && checkAlphanumeric(value);
+    }
+
+    private static boolean checkAlphanumeric(String value) {
+        if (value == null || value.isEmpty()) return false;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            if (!isAsciiLetterOrDigit(value.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetterOrDigit(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isEmailLocalChar(char c) {
+        return isAsciiLetterOrDigit(c) || c == '+' || c == '_' || c == '.' || c == '-';
+    }
+
+    // Characters that '.' does not match in java.util.regex without DOTALL
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
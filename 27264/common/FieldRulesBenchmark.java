@@ -0,0 +1,78 @@
+import java.util.regex.Pattern;
+
+public class FieldRulesBenchmark {
+    private static final String PHONE_REGEX = "\\d{10}";
+    private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@(.+)$";
+    private static final String CODE_REGEX = "^[a-zA-Z0-9]+$";
+
+    private static final Pattern PHONE_PATTERN = Pattern.compile(PHONE_REGEX);
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+    private static final Pattern CODE_PATTERN = Pattern.compile(CODE_REGEX);
+
+    private static final String[] PHONES = { "0781234567", "0722000111", "07812", "07812345ab", "12345678901" };
+    private static final String[] EMAILS = { "info@city.org", "first.last+tag@mail.example.com", "no-at-sign", "@missing.local", "user@" };
+    private static final String[] CODES = { "CAR01", "abc", "AB", "CAR-01", "Z9Z9Z9Z9" };
+    private static final String[] EDGE_EMAILS = { "a@b", "a@@", "a@b\n", "a@\u2028", "a.b@c@d", "a b@c", "" };
+
+    public static void main(String[] args) throws Exception {
+        checkEquivalence();
+
+        MicroBench bench = new MicroBench();
+
+        bench.header("phone (10 digits)");
+        bench.run("String.matches", i -> PHONES[i % 5].matches(PHONE_REGEX));
+        bench.run("precompiled Pattern", i -> PHONE_PATTERN.matcher(PHONES[i % 5]).matches());
+        bench.run("FieldRules.isPhone", i -> FieldRules.isPhone(PHONES[i % 5]));
+
+        bench.header("email");
+        bench.run("String.matches", i -> EMAILS[i % 5].matches(EMAIL_REGEX));
+        bench.run("precompiled Pattern", i -> EMAIL_PATTERN.matcher(EMAILS[i % 5]).matches());
+        bench.run("FieldRules.isEmail", i -> FieldRules.isEmail(EMAILS[i % 5]));
+
+        bench.header("code (alphanumeric, min 3)");
+        bench.run("String.matches", i -> CODES[i % 5].length() >= 3 && CODES[i % 5].matches(CODE_REGEX));
+        bench.run("precompiled Pattern", i -> CODES[i % 5].length() >= 3 && CODE_PATTERN.matcher(CODES[i % 5]).matches());
+        bench.run("FieldRules.isCode", i -> FieldRules.isCode(CODES[i % 5]));
+
+        // Parsed rows hold a new String for each value, whose hash is not computed yet.
+        String[] copies = new String[1 << 16];
+        for (int i = 0; i < copies.length; i++) copies[i] = new String(EMAILS[i % 5].toCharArray());
+        bench.header("email, a new copy of one of 5 values per row");
+        bench.run("FieldRules.isEmail", i -> FieldRules.isEmail(new String(copies[i & 0xFFFF].toCharArray())));
+        ValidationCache cache = new ValidationCache();
+        FieldRules.useCache(cache);
+        bench.run("FieldRules.isEmail cached", i -> FieldRules.isEmail(new String(copies[i & 0xFFFF].toCharArray())));
+        FieldRules.useCache(null);
+        System.out.println("cache: " + cache);
+    }
+
+    private static void checkEquivalence() {
+        checkRules();
+        FieldRules.useCache(new ValidationCache());
+        checkRules();
+        checkRules();
+        FieldRules.useCache(null);
+    }
+
+    private static void checkRules() {
+        for (String phone : PHONES) {
+            if (phone.matches(PHONE_REGEX) != FieldRules.isPhone(phone))
+                throw new IllegalStateException("Phone rule differs for " + phone);
+        }
+        for (String email : concat(EMAILS, EDGE_EMAILS)) {
+            if (email.matches(EMAIL_REGEX) != FieldRules.isEmail(email))
+                throw new IllegalStateException("Email rule differs for " + email);
+        }
+        for (String code : CODES) {
+            if ((code.length() >= 3 && code.matches(CODE_REGEX)) != FieldRules.isCode(code))
+                throw new IllegalStateException("Code rule differs for " + code);
+        }
+    }
+
+    private static String[] concat(String[] first, String[] second) {
+        String[] all = new String[first.length + second.length];
+        System.arraycopy(first, 0, all, 0, first.length);
+        System.arraycopy(second, 0, all, first.length, second.length);
+        return all;
+    }
+}
@@ -0,0 +1,222 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-loop load test for RecordHttpServer: requests are queued on a fixed schedule whether or not
+// earlier ones have finished, and each latency is measured from the time the request was due, so
+// a stalled server shows up in the percentiles instead of quietly lowering the request rate.
+// Requests go over a few keep-alive connections with a bare-bones HTTP/1.1 client, because
+// java.net.http.HttpClient costs more CPU per request than the server it would be measuring.
+// Records come from a batch file, such as one written with --generate.
+public final class HttpLoadTest {
+    public static final int DEFAULT_RATE = 10_000;
+    public static final int DEFAULT_CONNECTIONS = 16;
+    private static final long STOP = -1;
+
+    private final URI uri;
+    private final List<byte[]> requests = new ArrayList<>();
+    private final int connections;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private LatencyHistogram latency;
+    private long elapsedNanos;
+
+    public HttpLoadTest(URI uri, List<String> bodies, int connections) {
+        if (bodies.isEmpty())
+            throw new IllegalArgumentException("No records to send");
+        if (connections < 1)
+            throw new IllegalArgumentException("Connections must be >= 1");
+        this.uri = uri;
+        this.connections = connections;
+        for (String body : bodies) {
+            byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            byte[] head = ("POST " + uri.getRawPath() + " HTTP/1.1\r\nHost: " + uri.getHost() + ":" + uri.getPort()
+                + "\r\nContent-Type: application/json\r\nContent-Length: " + content.length + "\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+            byte[] request = new byte[head.length + content.length];
+            System.arraycopy(head, 0, request, 0, head.length);
+            System.arraycopy(content, 0, request, head.length, content.length);
+            requests.add(request);
+        }
+    }
+
+    // Sends rate requests per second for the given time and waits for the replies.
+    public LatencyHistogram.Snapshot run(int rate, int seconds) throws IOException, InterruptedException {
+        latency = new LatencyHistogram("http");
+        accepted.reset();
+        rejected.reset();
+        failed.reset();
+        long interval = 1_000_000_000L / rate;
+        long count = (long) rate * seconds;
+        LinkedBlockingQueue<Long> due = new LinkedBlockingQueue<>();
+        List<Thread> workers = new ArrayList<>();
+        List<Socket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < connections; i++) {
+                Socket socket = new Socket(uri.getHost(), uri.getPort());
+                socket.setTcpNoDelay(true);
+                sockets.add(socket);
+                int first = (int) ((long) i * requests.size() / connections);
+                Thread worker = new Thread(() -> connection(socket, due, first), "load-" + i);
+                worker.start();
+                workers.add(worker);
+            }
+            long start = System.nanoTime();
+            for (long i = 0; i < count; i++) {
+                long time = start + i * interval;
+                long wait = time - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                due.add(time);
+            }
+            for (int i = 0; i < connections; i++) due.add(STOP);
+            for (Thread worker : workers) worker.join();
+            elapsedNanos = System.nanoTime() - start;
+        } finally {
+            for (Socket socket : sockets) socket.close();
+        }
+        return latency.snapshot();
+    }
+
+    public long getAccepted() { return accepted.sum(); }
+    public long getRejected() { return rejected.sum(); }
+    public long getFailed() { return failed.sum(); }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    // Each connection walks the bodies from its own starting point.
+    private void connection(Socket socket, LinkedBlockingQueue<Long> due, int first) {
+        try {
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            int next = first;
+            while (true) {
+                long time = due.take();
+                if (time == STOP) return;
+                out.write(requests.get(next));
+                out.flush();
+                next = next + 1 == requests.size() ? 0 : next + 1;
+                int status = readResponse(in);
+                latency.record(System.nanoTime() - time);
+                if (status == 200) {
+                    accepted.increment();
+                } else if (status == 422) {
+                    rejected.increment();
+                } else {
+                    failed.increment();
+                }
+            }
+        } catch (IOException e) {
+            failed.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Reads one response with a Content-Length body and returns its status code.
+    private static int readResponse(InputStream in) throws IOException {
+        String status = readLine(in);
+        int length = 0;
+        for (String header = readLine(in); !header.isEmpty(); header = readLine(in)) {
+            if (header.regionMatches(true, 0, "Content-Length:", 0, 15)) length = Integer.parseInt(header.substring(15).trim());
+        }
+        in.skipNBytes(length);
+        return Integer.parseInt(status.substring(9, 12));
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int c = in.read(); c != '\n'; c = in.read()) {
+            if (c < 0) throw new IOException("Connection closed");
+            if (c != '\r') line.append((char) c);
+        }
+        return line.toString();
+    }
+
+    // The batch file's lines as JSON bodies, batchSize records per body (an array when above 1).
+    static List<String> bodies(List<String> lines, String[] fields, int batchSize) {
+        List<String> bodies = new ArrayList<>();
+        StringBuilder body = new StringBuilder();
+        int records = 0;
+        for (String line : lines) {
+            if (line.isEmpty() || line.charAt(0) == '#') continue;
+            if (records > 0) body.append(',');
+            appendRecord(body, line, fields);
+            if (++records == batchSize) {
+                bodies.add(batchSize == 1 ? body.toString() : "[" + body + "]");
+                body.setLength(0);
+                records = 0;
+            }
+        }
+        // The records after the last full batch, sent as one shorter batch
+        if (records > 0) bodies.add("[" + body + "]");
+        return bodies;
+    }
+
+    private static void appendRecord(StringBuilder json, String line, String[] fields) {
+        String[] values = line.split("\\|", -1);
+        json.append('{');
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) json.append(',');
+            Json.appendString(json, fields[i]);
+            json.append(':');
+            Json.appendString(json, i < values.length ? values[i].trim() : "");
+        }
+        json.append('}');
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String[] fields(URI uri) throws IOException {
+        try (Socket socket = new Socket(uri.getHost(), uri.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + uri.getRawPath() + " HTTP/1.1\r\nHost: " + uri.getHost() + "\r\nConnection: close\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String response = new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            int body = response.indexOf("\r\n\r\n");
+            if (!response.startsWith("HTTP/1.1 200") || body < 0)
+                throw new IOException(uri + " answered " + response.lines().findFirst().orElse("nothing"));
+            Map<String, Object> reply = (Map<String, Object>) Json.parse(response.substring(body + 4));
+            return ((List<Object>) reply.get("fields")).toArray(new String[0]);
+        }
+    }
+
+    // java -cp common HttpLoadTest <program> <batch file> [rate] [seconds] [records per request]
+    // -Dload.url (http://127.0.0.1:27265), -Dload.connections (16), -Dload.warmupSeconds (5)
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2 || args.length > 5) {
+            System.out.println("HttpLoadTest - Usage: java HttpLoadTest <program> <batch file> [rate] [seconds] [records per request]");
+            return;
+        }
+        int rate = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_RATE;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        int batchSize = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+        int connections = Integer.getInteger("load.connections", DEFAULT_CONNECTIONS);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+        URI uri = URI.create(System.getProperty("load.url", "http://127.0.0.1:" + RecordHttpServer.DEFAULT_PORT) + "/" + args[0]);
+
+        List<String> lines = Files.readAllLines(Paths.get(args[1]), StandardCharsets.UTF_8);
+        HttpLoadTest test = new HttpLoadTest(uri, bodies(lines, fields(uri), batchSize), connections);
+        if (warmupSeconds > 0) test.run(rate, warmupSeconds);
+        LatencyHistogram.Snapshot s = test.run(rate, seconds);
+        System.out.printf("HttpLoadTest - %s: %d requests (%d records each) at %d/s for %d s on %d connections: "
+            + "%d accepted, %d rejected, %d failed%n", args[0], s.getCount(), batchSize, rate, seconds, connections,
+            test.getAccepted(), test.getRejected(), test.getFailed());
+        System.out.printf("HttpLoadTest - latency us: p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f  "
+            + "(%.0f requests/s achieved)%n", s.percentile(50) / 1_000.0, s.percentile(90) / 1_000.0,
+            s.percentile(99) / 1_000.0, s.percentile(99.9) / 1_000.0, s.getMax() / 1_000.0,
+            s.getCount() * 1e9 / test.getElapsedNanos());
+    }
+}
@@ -0,0 +1,322 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+// A set of non-negative ints, such as record ids, stored as in Roaring bitmaps: the high 16 bits
+// pick a container for the low 16 bits, which keeps them as a sorted char array while it holds at
+// most 4096 and as a 65,536-bit bitmap once it holds more. Dense ids then cost about one bit each
+// and sparse ones about two bytes, against about 50 bytes per id in a HashSet<Integer>. Containers
+// are found by their high bits directly, so add and contains take constant time apart from the
+// shift inside an array container. Not thread-safe.
+public final class IdBitmap {
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private static final class Container {
+        // One of the two is set: the sorted low bits, or a bitmap of them
+        char[] values;
+        long[] words;
+        int size;
+
+        static Container array(char[] values, int size) {
+            Container container = new Container();
+            container.values = values;
+            container.size = size;
+            return container;
+        }
+
+        static Container bitmap(long[] words) {
+            Container container = new Container();
+            container.words = words;
+            for (long word : words) container.size += Long.bitCount(word);
+            return container;
+        }
+
+        boolean contains(char low) {
+            if (words != null) return (words[low >>> 6] & (1L << low)) != 0;
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        boolean add(char low) {
+            if (words != null) {
+                long bit = 1L << low;
+                if ((words[low >>> 6] & bit) != 0) return false;
+                words[low >>> 6] |= bit;
+                size++;
+                return true;
+            }
+            // Ids mostly arrive in increasing order, so check the end first.
+            int index = size > 0 && values[size - 1] < low ? -size - 1 : Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) return false;
+            if (size == ARRAY_MAX) {
+                toBitmap();
+                return add(low);
+            }
+            index = -index - 1;
+            if (size == values.length) values = Arrays.copyOf(values, Math.min(ARRAY_MAX, size * 2));
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = low;
+            size++;
+            return true;
+        }
+
+        private void toBitmap() {
+            words = toWords();
+            values = null;
+        }
+
+        long[] toWords() {
+            if (words != null) return words.clone();
+            long[] bits = new long[WORDS];
+            for (int i = 0; i < size; i++) bits[values[i] >>> 6] |= 1L << values[i];
+            return bits;
+        }
+
+        // The container for a bitmap's set bits, or null when there are none.
+        static Container of(long[] words) {
+            Container container = bitmap(words);
+            if (container.size == 0) return null;
+            if (container.size > ARRAY_MAX) return container;
+            char[] values = new char[container.size];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                for (long word = words[w]; word != 0; word &= word - 1) {
+                    values[count++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return array(values, count);
+        }
+
+        // Keeps this container's values that other holds (keep true) or does not hold (keep false).
+        Container filter(Container other, boolean keep) {
+            if (words != null && other.words != null) {
+                long[] bits = new long[WORDS];
+                for (int w = 0; w < WORDS; w++) bits[w] = keep ? words[w] & other.words[w] : words[w] & ~other.words[w];
+                return of(bits);
+            }
+            if (words != null) {
+                if (keep) return other.filter(this, true);
+                long[] bits = words.clone();
+                for (int i = 0; i < other.size; i++) bits[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+                return of(bits);
+            }
+            char[] kept = new char[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i]) == keep) kept[count++] = values[i];
+            }
+            return count == 0 ? null : array(kept, count);
+        }
+
+        Container union(Container other) {
+            if (words == null && other.words == null && size + other.size <= ARRAY_MAX) {
+                char[] merged = new char[size + other.size];
+                int count = 0;
+                int i = 0;
+                int j = 0;
+                while (i < size || j < other.size) {
+                    char next;
+                    if (j == other.size || (i < size && values[i] < other.values[j])) {
+                        next = values[i++];
+                    } else if (i == size || other.values[j] < values[i]) {
+                        next = other.values[j++];
+                    } else {
+                        next = values[i++];
+                        j++;
+                    }
+                    merged[count++] = next;
+                }
+                return array(merged, count);
+            }
+            long[] bits = toWords();
+            if (other.words != null) {
+                for (int w = 0; w < WORDS; w++) bits[w] |= other.words[w];
+            } else {
+                for (int i = 0; i < other.size; i++) bits[other.values[i] >>> 6] |= 1L << other.values[i];
+            }
+            return of(bits);
+        }
+
+        Container copy() {
+            return words != null ? bitmap(words.clone()) : array(Arrays.copyOf(values, size), size);
+        }
+
+        long bytes() {
+            return 24 + 16 + (words != null ? 8L * words.length : 2L * values.length);
+        }
+    }
+
+    // Indexed by an id's high 16 bits; null where no id has them
+    private Container[] containers = new Container[0];
+    private long size;
+
+    public IdBitmap() {
+    }
+
+    // Returns false when the set already held id.
+    public boolean add(int id) {
+        int high = high(id);
+        if (high >= containers.length)
+            containers = Arrays.copyOf(containers, Math.min(1 << 15, Math.max(high + 1, containers.length * 2)));
+        Container container = containers[high];
+        if (container == null) {
+            containers[high] = Container.array(new char[] { (char) id }, 1);
+            size++;
+            return true;
+        }
+        if (!container.add((char) id)) return false;
+        size++;
+        return true;
+    }
+
+    public boolean contains(int id) {
+        if (id < 0) return false;
+        int high = id >>> 16;
+        return high < containers.length && containers[high] != null && containers[high].contains((char) id);
+    }
+
+    public long size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+
+    // The ids in both sets.
+    public static IdBitmap and(IdBitmap first, IdBitmap second) {
+        IdBitmap result = new IdBitmap();
+        int length = Math.min(first.containers.length, second.containers.length);
+        result.containers = new Container[length];
+        for (int high = 0; high < length; high++) {
+            if (first.containers[high] != null && second.containers[high] != null)
+                result.set(high, first.containers[high].filter(second.containers[high], true));
+        }
+        return result;
+    }
+
+    // The ids in first that are not in second.
+    public static IdBitmap andNot(IdBitmap first, IdBitmap second) {
+        IdBitmap result = new IdBitmap();
+        result.containers = new Container[first.containers.length];
+        for (int high = 0; high < first.containers.length; high++) {
+            Container container = first.containers[high];
+            if (container == null) continue;
+            Container other = high < second.containers.length ? second.containers[high] : null;
+            result.set(high, other == null ? container.copy() : container.filter(other, false));
+        }
+        return result;
+    }
+
+    // The ids in either set.
+    public static IdBitmap or(IdBitmap first, IdBitmap second) {
+        IdBitmap result = new IdBitmap();
+        result.containers = new Container[Math.max(first.containers.length, second.containers.length)];
+        for (int high = 0; high < result.containers.length; high++) {
+            Container a = high < first.containers.length ? first.containers[high] : null;
+            Container b = high < second.containers.length ? second.containers[high] : null;
+            if (a == null && b == null) continue;
+            result.set(high, a == null ? b.copy() : b == null ? a.copy() : a.union(b));
+        }
+        return result;
+    }
+
+    private void set(int high, Container container) {
+        containers[high] = container;
+        if (container != null) size += container.size;
+    }
+
+    // Passes every id to action in increasing order.
+    public void forEach(IntConsumer action) {
+        for (int high = 0; high < containers.length; high++) {
+            Container container = containers[high];
+            if (container == null) continue;
+            int base = high << 16;
+            if (container.words != null) {
+                for (int w = 0; w < WORDS; w++) {
+                    for (long word = container.words[w]; word != 0; word &= word - 1) {
+                        action.accept(base + (w << 6) + Long.numberOfTrailingZeros(word));
+                    }
+                }
+            } else {
+                for (int i = 0; i < container.size; i++) action.accept(base + container.values[i]);
+            }
+        }
+    }
+
+    // The ids in increasing order.
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int high = -1;
+            private Container container;
+            private int index;
+            private int word;
+            private long bits;
+            private int next = advance();
+
+            private int advance() {
+                while (true) {
+                    if (container != null && container.words == null && index < container.size)
+                        return (high << 16) + container.values[index++];
+                    if (container != null && container.words != null) {
+                        while (bits == 0 && ++word < WORDS) bits = container.words[word];
+                        if (bits != 0) {
+                            int id = (high << 16) + (word << 6) + Long.numberOfTrailingZeros(bits);
+                            bits &= bits - 1;
+                            return id;
+                        }
+                    }
+                    do {
+                        if (++high >= containers.length) return -1;
+                        container = containers[high];
+                    } while (container == null);
+                    index = 0;
+                    word = 0;
+                    bits = container.words != null ? container.words[0] : 0;
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (next < 0)
+                    throw new NoSuchElementException();
+                int id = next;
+                next = advance();
+                return id;
+            }
+        };
+    }
+
+    // An estimate of the heap the set takes.
+    public long getSizeInBytes() {
+        long bytes = 16 + 16 + 4L * containers.length;
+        for (Container container : containers) {
+            if (container != null) bytes += container.bytes();
+        }
+        return bytes;
+    }
+
+    // At most count ids from the start of the set, for a report.
+    public String toString(int count) {
+        StringBuilder text = new StringBuilder();
+        PrimitiveIterator.OfInt ids = iterator();
+        for (int i = 0; i < count && ids.hasNext(); i++) {
+            if (i > 0) text.append(", ");
+            text.append(ids.nextInt());
+        }
+        if (ids.hasNext()) text.append(", ...");
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toString(10);
+    }
+
+    private static int high(int id) {
+        if (id < 0)
+            throw new IllegalArgumentException("Ids must not be negative: " + id);
+        return id >>> 16;
+    }
+}
@@ -0,0 +1,69 @@
+import java.lang.ref.Reference;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class IdBitmapBenchmark {
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("bench.rows", 50_000_000);
+        int setRows = Integer.getInteger("bench.hashSetRows", 5_000_000);
+        Random random = new Random(27264);
+
+        // Mostly increasing ids with a few gaps, as a generated or exported load has them
+        int[] dense = new int[rows];
+        for (int i = 0, id = 100_000; i < rows; i++, id += random.nextInt(20) == 0 ? 2 : 1) dense[i] = id;
+        // Ids spread over the whole int range
+        int[] sparse = new int[rows];
+        for (int i = 0; i < rows; i++) sparse[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+
+        IdBitmap denseIds = benchAdd("dense", dense);
+        benchAdd("sparse", sparse);
+        benchHashSet(dense, setRows);
+
+        // A second load that drops the first tenth of the ids and adds as many new ones at the end
+        IdBitmap next = new IdBitmap();
+        for (int i = rows / 10; i < rows; i++) next.add(dense[i]);
+        for (int i = 0, id = dense[rows - 1] + 1; i < rows / 10; i++) next.add(id + i);
+        long start = System.nanoTime();
+        IdBitmap both = IdBitmap.and(denseIds, next);
+        long andNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        IdBitmap dropped = IdBitmap.andNot(denseIds, next);
+        IdBitmap added = IdBitmap.andNot(next, denseIds);
+        long andNotNanos = System.nanoTime() - start;
+        System.out.printf("%-40s %,14d ids in %,d ms%n", "and (in both loads)", both.size(), andNanos / 1_000_000);
+        System.out.printf("%-40s %,14d + %,d ids in %,d ms%n", "andNot both ways (dropped + added)", dropped.size(),
+            added.size(), andNotNanos / 1_000_000);
+    }
+
+    private static IdBitmap benchAdd(String name, int[] ids) {
+        long heap = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        IdBitmap bitmap = new IdBitmap();
+        int repeated = 0;
+        for (int id : ids) {
+            if (!bitmap.add(id)) repeated++;
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = MicroBench.usedHeapAfterGc() - heap;
+        System.out.printf("%-40s %,14d ids, %,d repeated, %.1f ns/id, %,d bytes (%.2f per id, %,d estimated)%n",
+            "IdBitmap " + name, ids.length, repeated, (double) nanos / ids.length, bytes, (double) bytes / ids.length,
+            bitmap.getSizeInBytes());
+        return bitmap;
+    }
+
+    private static void benchHashSet(int[] ids, int rows) {
+        long heap = MicroBench.usedHeapAfterGc();
+        long start = System.nanoTime();
+        Set<Integer> set = new HashSet<>();
+        int repeated = 0;
+        for (int i = 0; i < rows; i++) {
+            if (!set.add(ids[i])) repeated++;
+        }
+        long nanos = System.nanoTime() - start;
+        long bytes = MicroBench.usedHeapAfterGc() - heap;
+        Reference.reachabilityFence(set);
+        System.out.printf("%-40s %,14d ids, %,d repeated, %.1f ns/id, %,d bytes (%.2f per id)%n",
+            "HashSet<Integer> dense", rows, repeated, (double) nanos / rows, bytes, (double) bytes / rows);
+    }
+}
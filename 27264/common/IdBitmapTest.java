@@ -0,0 +1,110 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+// Checks IdBitmap against TreeSet. Run with java IdBitmapTest from common/; it throws at the first
+// difference and prints a summary when everything matches.
+public class IdBitmapTest {
+    private static int checks;
+
+    public static void main(String[] args) {
+        checkEdges();
+        checkContainerLimit();
+        checkEquivalence();
+        System.out.println("IdBitmapTest: " + checks + " checks passed");
+    }
+
+    private static void checkEdges() {
+        IdBitmap empty = new IdBitmap();
+        check(empty.isEmpty() && empty.size() == 0, "a new bitmap is empty");
+        check(!empty.iterator().hasNext(), "a new bitmap has no ids");
+        check(!empty.contains(-1) && !empty.contains(0), "a new bitmap contains nothing");
+        check(empty.toString().isEmpty(), "an empty bitmap prints nothing");
+
+        IdBitmap ids = new IdBitmap();
+        check(ids.add(0) && ids.add(Integer.MAX_VALUE) && ids.add(65_535) && ids.add(65_536), "add new ids");
+        check(!ids.add(65_536), "add returns false for an id already held");
+        check(ids.size() == 4, "size counts each id once");
+        check(ids.contains(Integer.MAX_VALUE) && !ids.contains(Integer.MAX_VALUE - 1), "contains the largest id");
+        check(ids.toString(2).equals("0, 65535, ..."), "toString(count) stops after count ids");
+        try {
+            ids.add(-1);
+            check(false, "a negative id is rejected");
+        } catch (IllegalArgumentException e) {
+            check(true, "a negative id is rejected");
+        }
+        check(IdBitmap.and(ids, empty).isEmpty(), "and with an empty bitmap");
+        check(IdBitmap.andNot(empty, ids).isEmpty(), "andNot of an empty bitmap");
+        check(IdBitmap.or(empty, ids).size() == ids.size(), "or with an empty bitmap");
+    }
+
+    // An array container turns into a bitmap above 4096 ids and back when a set operation leaves fewer.
+    private static void checkContainerLimit() {
+        IdBitmap ids = new IdBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int id = 0; id <= 4096; id++) {
+            ids.add(id * 3);
+            expected.add(id * 3);
+        }
+        check("add past 4096 ids", expected, ids);
+        IdBitmap odd = new IdBitmap();
+        for (int id = 1; id < 3 * 4097; id += 2) odd.add(id);
+        TreeSet<Integer> even = new TreeSet<>();
+        for (int id : expected) {
+            if (id % 2 == 0) even.add(id);
+        }
+        check("andNot down to an array", even, IdBitmap.andNot(ids, odd));
+        expected.removeAll(even);
+        check("and of two bitmaps", expected, IdBitmap.and(ids, odd));
+    }
+
+    // Random ids over ranges that give array containers, bitmap containers and both mixed.
+    private static void checkEquivalence() {
+        Random random = new Random(1);
+        int[] ranges = { 50_000, 3_000_000, Integer.MAX_VALUE };
+        for (int round = 0; round < 12; round++) {
+            int range = ranges[round % ranges.length];
+            TreeSet<Integer> first = new TreeSet<>();
+            TreeSet<Integer> second = new TreeSet<>();
+            IdBitmap firstIds = new IdBitmap();
+            IdBitmap secondIds = new IdBitmap();
+            int count = random.nextInt(200_000);
+            for (int i = 0; i < count; i++) {
+                int id = round % 4 == 0 ? i * (1 + random.nextInt(3)) : random.nextInt(range);
+                check(first.add(id) == firstIds.add(id), "IdBitmap.add matches for " + id);
+                id = random.nextInt(range);
+                check(second.add(id) == secondIds.add(id), "IdBitmap.add matches for " + id);
+            }
+            for (int i = 0; i < 1000; i++) {
+                int id = random.nextInt(range);
+                check(first.contains(id) == firstIds.contains(id), "IdBitmap.contains matches for " + id);
+            }
+            TreeSet<Integer> both = new TreeSet<>(first);
+            both.retainAll(second);
+            TreeSet<Integer> onlyFirst = new TreeSet<>(first);
+            onlyFirst.removeAll(second);
+            TreeSet<Integer> either = new TreeSet<>(first);
+            either.addAll(second);
+            check("and", both, IdBitmap.and(firstIds, secondIds));
+            check("andNot", onlyFirst, IdBitmap.andNot(firstIds, secondIds));
+            check("or", either, IdBitmap.or(firstIds, secondIds));
+        }
+    }
+
+    private static void check(String operation, TreeSet<Integer> expected, IdBitmap actual) {
+        check(expected.size() == actual.size(), operation + " has " + expected.size() + " ids, not " + actual.size());
+        PrimitiveIterator.OfInt ids = actual.iterator();
+        for (int id : expected) check(ids.nextInt() == id, operation + " iterates to " + id);
+        List<Integer> each = new ArrayList<>();
+        actual.forEach((int id) -> each.add(id));
+        check(each.equals(new ArrayList<>(expected)), "forEach matches the iterator after " + operation);
+    }
+
+    private static void check(boolean passed, String what) {
+        if (!passed)
+            throw new IllegalStateException("Failed: " + what);
+        checks++;
+    }
+}
@@ -0,0 +1,108 @@
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+public class IndexBenchmark {
+    public static void main(String[] args) throws Exception {
+        checkEquivalence();
+
+        int rows = Integer.getInteger("bench.rows", 10_000_000);
+        Object[] records = new Object[rows];
+        int[] ids = new int[rows];
+        String[] keys = new String[rows];
+        Random random = new Random(27264);
+        for (int i = 0; i < rows; i++) {
+            records[i] = new Object();
+            ids[i] = 100_000 + i;
+            keys[i] = "C" + (1_000_000_000L + random.nextInt(1_000_000_000)) + "@mail.com";
+        }
+        // Lookups in random order, so neither side gets cache-friendly runs of ids
+        int[] order = new int[rows];
+        for (int i = 0; i < rows; i++) order[i] = i;
+        for (int i = rows - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+
+        MicroBench bench = new MicroBench();
+        benchIds(bench, records, ids, order);
+        benchKeys(bench, records, keys, order);
+    }
+
+    private static void benchIds(MicroBench bench, Object[] records, int[] ids, int[] order) throws Exception {
+        int rows = ids.length;
+        long heap = MicroBench.usedHeapAfterGc();
+        IntIndex<Object> index = new IntIndex<>(rows);
+        for (int i = 0; i < rows; i++) index.put(ids[i], records[i]);
+        long indexBytes = MicroBench.usedHeapAfterGc() - heap;
+        Map<Integer, Object> map = new HashMap<>(rows * 4 / 3 + 1);
+        for (int i = 0; i < rows; i++) map.put(ids[i], records[i]);
+        long mapBytes = MicroBench.usedHeapAfterGc() - heap - indexBytes;
+        Reference.reachabilityFence(index);
+
+        bench.header("id lookup over " + rows + " records");
+        bench.run("HashMap<Integer, R>.get", i -> map.get(ids[order[i % rows]]));
+        bench.run("IntIndex.get", i -> index.get(ids[order[i % rows]]));
+        System.out.printf("%-40s %,14d bytes%n", "HashMap<Integer, R> heap", mapBytes);
+        System.out.printf("%-40s %,14d bytes%n", "IntIndex heap", indexBytes);
+    }
+
+    private static void benchKeys(MicroBench bench, Object[] records, String[] keys, int[] order) throws Exception {
+        int rows = keys.length;
+        long heap = MicroBench.usedHeapAfterGc();
+        StringIndex<Object> index = new StringIndex<>("email", rows);
+        for (int i = 0; i < rows; i++) index.add(keys[i], records[i]);
+        long indexBytes = MicroBench.usedHeapAfterGc() - heap;
+        Map<String, List<Object>> map = new HashMap<>(rows * 4 / 3 + 1);
+        for (int i = 0; i < rows; i++) map.computeIfAbsent(keys[i], key -> new ArrayList<>(1)).add(records[i]);
+        long mapBytes = MicroBench.usedHeapAfterGc() - heap - indexBytes;
+        Reference.reachabilityFence(index);
+
+        bench.header("string key lookup over " + rows + " records");
+        bench.run("HashMap<String, List<R>>.get", i -> map.get(keys[order[i % rows]]).get(0));
+        bench.run("StringIndex.first", i -> index.first(keys[order[i % rows]]));
+        System.out.printf("%-40s %,14d bytes%n", "HashMap<String, List<R>> heap", mapBytes);
+        System.out.printf("%-40s %,14d bytes%n", "StringIndex heap", indexBytes);
+    }
+
+    // Random puts and removes over a small key range, so probe runs collide and get shifted back.
+    private static void checkEquivalence() {
+        Random random = new Random(1);
+        IntIndex<Integer> intIndex = new IntIndex<>();
+        Map<Integer, Integer> intMap = new HashMap<>();
+        StringIndex<Integer> stringIndex = new StringIndex<>("key");
+        Map<String, List<Integer>> stringMap = new HashMap<>();
+        for (int step = 0; step < 1_000_000; step++) {
+            int key = random.nextInt(5_000) - 2_500;
+            Integer value = step;
+            if (random.nextInt(3) == 0) {
+                if (!Objects.equals(intIndex.remove(key), intMap.remove(key)))
+                    throw new IllegalStateException("IntIndex.remove differs from HashMap for " + key);
+                List<Integer> values = stringMap.get("k" + key);
+                Integer removed = values == null || values.isEmpty() ? null : values.remove(0);
+                if (removed != null && !stringIndex.remove("k" + key, removed))
+                    throw new IllegalStateException("StringIndex lost " + removed + " under k" + key);
+            } else {
+                if (!Objects.equals(intIndex.put(key, value), intMap.put(key, value)))
+                    throw new IllegalStateException("IntIndex.put differs from HashMap for " + key);
+                stringIndex.add("k" + key, value);
+                stringMap.computeIfAbsent("k" + key, k -> new ArrayList<>()).add(value);
+            }
+        }
+        if (intIndex.size() != intMap.size())
+            throw new IllegalStateException("IntIndex has " + intIndex.size() + " keys, HashMap " + intMap.size());
+        for (int key = -2_500; key < 2_500; key++) {
+            if (!Objects.equals(intIndex.get(key), intMap.get(key)))
+                throw new IllegalStateException("IntIndex.get differs from HashMap for " + key);
+            List<Integer> values = stringMap.getOrDefault("k" + key, List.of());
+            if (!stringIndex.all("k" + key).equals(values))
+                throw new IllegalStateException("StringIndex differs from HashMap for k" + key);
+        }
+    }
+}
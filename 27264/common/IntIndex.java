@@ -0,0 +1,125 @@
+import java.util.function.ObjIntConsumer;
+
+// int -> value map with open addressing (linear probing) over parallel arrays, so neither keys nor
+// lookups are boxed and a lookup allocates nothing. Removal shifts later entries of the probe run
+// back instead of leaving tombstones. Values cannot be null. Not thread-safe.
+public final class IntIndex<V> {
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public IntIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    public IntIndex(int expectedSize) {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Expected size must be >= 0");
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() { return size; }
+
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            Object value = values[slot];
+            if (value == null) return null;
+            if (keys[slot] == key) return (V) value;
+        }
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    // Returns the value the key had before, or null.
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (value == null)
+            throw new IllegalArgumentException("Value cannot be null");
+        int slot = slot(key, mask);
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) resize(keys.length * 2);
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            Object value = values[slot];
+            if (value == null) return null;
+            if (keys[slot] == key) {
+                shiftBack(slot);
+                size--;
+                return (V) value;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjIntConsumer<V> action) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) action.accept((V) values[slot], keys[slot]);
+        }
+    }
+
+    // Empties the slot and moves up any later entry of the run that could not reach its home
+    // slot past the gap.
+    private void shiftBack(int gap) {
+        for (int slot = (gap + 1) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            int home = slot(keys[slot], mask);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+            int slot = slot(oldKeys[i], mask);
+            while (values[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * 0.75);
+    }
+
+    static int capacityFor(int expectedSize) {
+        long wanted = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / 0.75) + 1);
+        if (wanted > 1 << 30)
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        return Integer.highestOneBit((int) wanted - 1) << 1;
+    }
+
+    // Ids are often sequential; the multiply spreads them so runs stay short.
+    private static int slot(int key, int mask) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
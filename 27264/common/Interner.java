@@ -0,0 +1,34 @@
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class Interner<T> {
+    public static final int DEFAULT_MAX_SIZE = 1 << 16;
+    public static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("flyweight.enabled", "true"));
+
+    private final ConcurrentHashMap<T, T> pool = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public Interner() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public Interner(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public T find(T candidate) {
+        return ENABLED ? pool.get(candidate) : null;
+    }
+
+    // Returns the shared instance equal to candidate, adding candidate if there is none yet.
+    public T intern(T candidate) {
+        if (!ENABLED || pool.size() >= maxSize) return candidate;
+        T existing = pool.putIfAbsent(candidate, candidate);
+        return existing != null ? existing : candidate;
+    }
+
+    public int size() { return pool.size(); }
+
+    public void clear() {
+        pool.clear();
+    }
+}
@@ -0,0 +1,160 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Just enough JSON for request bodies and replies. Objects parse to LinkedHashMaps, arrays to
+// Lists, strings to Strings, true and false to Booleans and null to null. Numbers are kept as
+// their text, so "5" and 5 both reach a parser as "5" and no precision is lost on the way.
+public final class Json {
+    private final String text;
+    private int position;
+
+    private Json(String text) {
+        this.text = text;
+    }
+
+    public static Object parse(String text) {
+        Json json = new Json(text);
+        json.skipSpace();
+        Object value = json.value();
+        json.skipSpace();
+        if (json.position < text.length())
+            throw json.error("Unexpected text after the value");
+        return value;
+    }
+
+    public static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    private Object value() {
+        if (position >= text.length()) throw error("Unexpected end of input");
+        char c = text.charAt(position);
+        switch (c) {
+            case '{':
+                return object();
+            case '[':
+                return array();
+            case '"':
+                return string();
+            case 't':
+                return literal("true", Boolean.TRUE);
+            case 'f':
+                return literal("false", Boolean.FALSE);
+            case 'n':
+                return literal("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) return number();
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> object() {
+        Map<String, Object> object = new LinkedHashMap<>();
+        position++;
+        skipSpace();
+        if (consume('}')) return object;
+        do {
+            skipSpace();
+            if (position >= text.length() || text.charAt(position) != '"') throw error("Expected a field name");
+            String name = string();
+            skipSpace();
+            if (!consume(':')) throw error("Expected ':'");
+            skipSpace();
+            object.put(name, value());
+            skipSpace();
+        } while (consume(','));
+        if (!consume('}')) throw error("Expected ',' or '}'");
+        return object;
+    }
+
+    private List<Object> array() {
+        List<Object> array = new ArrayList<>();
+        position++;
+        skipSpace();
+        if (consume(']')) return array;
+        do {
+            skipSpace();
+            array.add(value());
+            skipSpace();
+        } while (consume(','));
+        if (!consume(']')) throw error("Expected ',' or ']'");
+        return array;
+    }
+
+    private String string() {
+        StringBuilder value = new StringBuilder();
+        position++;
+        while (position < text.length()) {
+            char c = text.charAt(position++);
+            if (c == '"') return value.toString();
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (position >= text.length()) break;
+            char escaped = text.charAt(position++);
+            switch (escaped) {
+                case 'b': value.append('\b'); break;
+                case 'f': value.append('\f'); break;
+                case 'n': value.append('\n'); break;
+                case 'r': value.append('\r'); break;
+                case 't': value.append('\t'); break;
+                case 'u':
+                    if (position + 4 > text.length()) throw error("Bad \\u escape");
+                    try {
+                        value.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw error("Bad \\u escape");
+                    }
+                    position += 4;
+                    break;
+                default:
+                    value.append(escaped);
+                    break;
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private String number() {
+        int start = position;
+        if (text.charAt(position) == '-') position++;
+        while (position < text.length() && "0123456789.eE+-".indexOf(text.charAt(position)) >= 0) position++;
+        return text.substring(start, position);
+    }
+
+    private Object literal(String word, Object value) {
+        if (!text.startsWith(word, position)) throw error("Unexpected character '" + text.charAt(position) + "'");
+        position += word.length();
+        return value;
+    }
+
+    private boolean consume(char c) {
+        if (position < text.length() && text.charAt(position) == c) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipSpace() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) position++;
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position);
+    }
+}
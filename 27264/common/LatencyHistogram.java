@@ -0,0 +1,109 @@
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear histogram of nanosecond durations in the style of HdrHistogram: values below 32 are
+// exact and larger values fall into one of 16 buckets per power of two, so any recorded value is
+// reported within 1/16 of itself. Counts are striped by thread so concurrent recording does not
+// contend on one cache line.
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final int STRIPES = Math.min(64,
+        Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) * 2));
+
+    private final String name;
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram(String name) {
+        this.name = name;
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new AtomicLongArray(BUCKETS);
+    }
+
+    public String getName() { return name; }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        stripes[(int) Thread.currentThread().getId() & (STRIPES - 1)].getAndIncrement(index(value));
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    // Records the time since start and returns the current time, so consecutive stages chain:
+    // time = PARSE.recordSince(time). Does nothing and returns 0 when metrics are off.
+    public long recordSince(long start) {
+        if (!Metrics.ENABLED) return 0;
+        long now = System.nanoTime();
+        record(now - start);
+        return now;
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) counts[i] += stripe.get(i);
+        }
+        return new Snapshot(name, counts, total.sum(), max.get());
+    }
+
+    public void reset() {
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) stripe.set(i, 0);
+        }
+        total.reset();
+        max.reset();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS * 2) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    // The largest value that falls into the bucket.
+    static long highestValue(int index) {
+        if (index < SUB_BUCKETS * 2) return index;
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    public static final class Snapshot {
+        private final String name;
+        private final long[] counts;
+        private final long count;
+        private final long total;
+        private final long max;
+
+        Snapshot(String name, long[] counts, long total, long max) {
+            this.name = name;
+            this.counts = counts;
+            long count = 0;
+            for (long c : counts) count += c;
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        public String getName() { return name; }
+        public long getCount() { return count; }
+        public long getMax() { return max; }
+        public long getTotalNanos() { return total; }
+        public double getMean() { return count == 0 ? 0 : (double) total / count; }
+
+        // The value at the given percentile (0 to 100), never above the recorded maximum.
+        public long percentile(double percentile) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) return Math.min(highestValue(i), max);
+            }
+            return max;
+        }
+    }
+}
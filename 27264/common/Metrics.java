@@ -0,0 +1,176 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide counters and stage latencies. Rejections are counted per validation rule (with the
+// rule's message) and per exception type in LongAdders; stage times go to LatencyHistograms.
+// Turn everything off with -Dmetrics.enabled=false.
+public final class Metrics {
+    public static final boolean ENABLED = !"false".equals(System.getProperty("metrics.enabled"));
+
+    private static final class Counter {
+        final LongAdder count = new LongAdder();
+        final String message;
+
+        Counter(String message) {
+            this.message = message;
+        }
+    }
+
+    private static final ConcurrentHashMap<String, Counter> RULES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Counter> EXCEPTIONS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private Metrics() {
+    }
+
+    // The start time for LatencyHistogram.recordSince, or 0 when metrics are off.
+    public static long now() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    public static LatencyHistogram histogram(String name) {
+        return HISTOGRAMS.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    public static void countRule(String rule, String message) {
+        if (!ENABLED) return;
+        Counter counter = RULES.get(rule);
+        if (counter == null) counter = RULES.computeIfAbsent(rule, key -> new Counter(message));
+        counter.count.increment();
+    }
+
+    public static void countRules(ValidationResult result) {
+        for (int i = 0; i < result.size(); i++) countRule(result.rule(i), result.message(i));
+    }
+
+    public static void countException(Throwable exception) {
+        if (!ENABLED) return;
+        String type = exception.getClass().getSimpleName();
+        Counter counter = EXCEPTIONS.get(type);
+        if (counter == null) counter = EXCEPTIONS.computeIfAbsent(type, key -> new Counter(null));
+        counter.count.increment();
+    }
+
+    public static long ruleCount(String rule) {
+        Counter counter = RULES.get(rule);
+        return counter == null ? 0 : counter.count.sum();
+    }
+
+    public static long exceptionCount(String type) {
+        Counter counter = EXCEPTIONS.get(type);
+        return counter == null ? 0 : counter.count.sum();
+    }
+
+    public static void reset() {
+        RULES.clear();
+        EXCEPTIONS.clear();
+        for (LatencyHistogram histogram : HISTOGRAMS.values()) histogram.reset();
+    }
+
+    // A readable table of stage latencies in microseconds, then rule and exception counts.
+    public static String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%-28s %10s %10s %10s %10s %10s %10s%n",
+            "stage (us)", "count", "mean", "p50", "p99", "p99.9", "max"));
+        for (LatencyHistogram histogram : sorted(HISTOGRAMS).values()) {
+            LatencyHistogram.Snapshot s = histogram.snapshot();
+            if (s.getCount() == 0) continue;
+            text.append(String.format("%-28s %10d %10.1f %10.1f %10.1f %10.1f %10.1f%n", s.getName(), s.getCount(),
+                s.getMean() / 1_000, s.percentile(50) / 1_000.0, s.percentile(99) / 1_000.0,
+                s.percentile(99.9) / 1_000.0, s.getMax() / 1_000.0));
+        }
+        appendCounters(text, "rule", RULES);
+        appendCounters(text, "exception", EXCEPTIONS);
+        ValidationCache cache = FieldRules.getCache();
+        if (cache != null) text.append("validation cache: ").append(cache).append(System.lineSeparator());
+        return text.toString();
+    }
+
+    // The same snapshot as JSON, with times in nanoseconds.
+    public static String toJson() {
+        StringBuilder json = new StringBuilder("{\"stages\":{");
+        boolean first = true;
+        for (LatencyHistogram histogram : sorted(HISTOGRAMS).values()) {
+            LatencyHistogram.Snapshot s = histogram.snapshot();
+            if (s.getCount() == 0) continue;
+            if (!first) json.append(',');
+            first = false;
+            Json.appendString(json, s.getName());
+            json.append(":{\"count\":").append(s.getCount())
+                .append(",\"meanNanos\":").append(Math.round(s.getMean()))
+                .append(",\"p50Nanos\":").append(s.percentile(50))
+                .append(",\"p90Nanos\":").append(s.percentile(90))
+                .append(",\"p99Nanos\":").append(s.percentile(99))
+                .append(",\"p999Nanos\":").append(s.percentile(99.9))
+                .append(",\"maxNanos\":").append(s.getMax()).append('}');
+        }
+        json.append("},\"rules\":");
+        appendCountersJson(json, RULES);
+        json.append(",\"exceptions\":");
+        appendCountersJson(json, EXCEPTIONS);
+        ValidationCache cache = FieldRules.getCache();
+        if (cache != null) {
+            json.append(",\"validationCache\":{\"size\":").append(cache.size())
+                .append(",\"maxSize\":").append(cache.getMaxSize())
+                .append(",\"hits\":").append(cache.getHits())
+                .append(",\"misses\":").append(cache.getMisses())
+                .append(",\"evictions\":").append(cache.getEvictions())
+                .append(",\"estimatedBytes\":").append(cache.getEstimatedBytes()).append('}');
+        }
+        return json.append('}').toString();
+    }
+
+    // Writes a snapshot to the file named by -Dmetrics.dump, as JSON when it ends in ".json";
+    // "-" prints the text form. Does nothing when the property is not set.
+    public static void dumpIfRequested() {
+        String target = System.getProperty("metrics.dump");
+        if (target == null || target.isEmpty()) return;
+        if (target.equals("-")) {
+            System.out.print(toText());
+            return;
+        }
+        String snapshot = target.endsWith(".json") ? toJson() : toText();
+        try {
+            Files.write(Paths.get(target), snapshot.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <V> TreeMap<String, V> sorted(Map<String, V> map) {
+        return new TreeMap<>(map);
+    }
+
+    private static void appendCounters(StringBuilder text, String kind, Map<String, Counter> counters) {
+        for (Map.Entry<String, Counter> entry : sorted(counters).entrySet()) {
+            Counter counter = entry.getValue();
+            text.append(String.format("%-10s %-36s %10d", kind, entry.getKey(), counter.count.sum()));
+            if (counter.message != null) text.append("  ").append(counter.message);
+            text.append(System.lineSeparator());
+        }
+    }
+
+    private static void appendCountersJson(StringBuilder json, Map<String, Counter> counters) {
+        json.append('{');
+        boolean first = true;
+        for (Map.Entry<String, Counter> entry : sorted(counters).entrySet()) {
+            if (!first) json.append(',');
+            first = false;
+            Json.appendString(json, entry.getKey());
+            json.append(":{\"count\":").append(entry.getValue().count.sum());
+            if (entry.getValue().message != null) {
+                json.append(",\"message\":");
+                Json.appendString(json, entry.getValue().message);
+            }
+            json.append('}');
+        }
+        json.append('}');
+    }
+}
@@ -0,0 +1,142 @@
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+public final class MicroBench {
+    public interface Task {
+        Object run(int iteration) throws Exception;
+    }
+
+    public interface DoubleTask {
+        double run(int iteration) throws Exception;
+    }
+
+    private interface Loop {
+        long run(long millis) throws Exception;
+    }
+
+    public static final long DEFAULT_WARMUP_MILLIS = 1_000;
+    public static final long DEFAULT_MEASURE_MILLIS = 2_000;
+
+    private static volatile Object sink;
+    private static volatile double doubleSink;
+
+    private final long warmupMillis;
+    private final long measureMillis;
+    private final PrintStream report;
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    public MicroBench() {
+        this(Long.getLong("bench.warmup", DEFAULT_WARMUP_MILLIS), Long.getLong("bench.measure", DEFAULT_MEASURE_MILLIS));
+    }
+
+    public MicroBench(long warmupMillis, long measureMillis) {
+        this.warmupMillis = warmupMillis;
+        this.measureMillis = measureMillis;
+        this.report = System.out;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            this.allocationBean = (com.sun.management.ThreadMXBean) threads;
+            this.allocationBean.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.allocationBean = null;
+        }
+    }
+
+    public void header(String title) {
+        report.println();
+        report.println("--- " + title + " ---");
+        report.printf("%-40s %14s %10s %10s %10s %6s %8s%n", "benchmark", "ops/s", "ns/op", "B/op", "MB/s", "gc", "gc ms");
+    }
+
+    public double run(String name, Task task) throws Exception {
+        return measure(name, millis -> loop(task, millis));
+    }
+
+    public double runDouble(String name, DoubleTask task) throws Exception {
+        return measure(name, millis -> loopDouble(task, millis));
+    }
+
+    private double measure(String name, Loop loop) throws Exception {
+        loop.run(warmupMillis);
+
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = allocatedBytes(threadId);
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        long start = System.nanoTime();
+
+        long operations = loop.run(measureMillis);
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocatedBytes(threadId) - allocatedBefore;
+        long gcCount = gcCount() - gcCountBefore;
+        long gcTime = gcTime() - gcTimeBefore;
+
+        double seconds = elapsed / 1_000_000_000.0;
+        double opsPerSecond = operations / seconds;
+        if (allocationBean == null) {
+            report.printf("%-40s %14.0f %10.1f %10s %10s %6d %8d%n", name, opsPerSecond,
+                (double) elapsed / operations, "n/a", "n/a", gcCount, gcTime);
+        } else {
+            report.printf("%-40s %14.0f %10.1f %10.1f %10.1f %6d %8d%n", name, opsPerSecond,
+                (double) elapsed / operations, (double) allocated / operations,
+                allocated / seconds / (1024 * 1024), gcCount, gcTime);
+        }
+        return opsPerSecond;
+    }
+
+    public static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private long allocatedBytes(long threadId) {
+        return allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+    }
+
+    private long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) total += Math.max(0, collector.getCollectionCount());
+        return total;
+    }
+
+    private long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) total += Math.max(0, collector.getCollectionTime());
+        return total;
+    }
+
+    private static long loop(Task task, long millis) throws Exception {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long operations = 0;
+        Object last = null;
+        do {
+            for (int i = 0; i < 1024; i++) {
+                last = task.run((int) (operations + i) & Integer.MAX_VALUE);
+            }
+            operations += 1024;
+        } while (System.nanoTime() < deadline);
+        sink = last;
+        return operations;
+    }
+
+    private static long loopDouble(DoubleTask task, long millis) throws Exception {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        long operations = 0;
+        double sum = 0;
+        do {
+            for (int i = 0; i < 1024; i++) {
+                sum += task.run((int) (operations + i) & Integer.MAX_VALUE);
+            }
+            operations += 1024;
+        } while (System.nanoTime() < deadline);
+        doubleSink = sum;
+        return operations;
+    }
+}
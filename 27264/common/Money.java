@@ -0,0 +1,218 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Amounts as long cents. Single values use exact arithmetic; the array kernels
+// use plain long adds and stay exact below 92 quadrillion cents in total.
+public final class Money {
+    public static final int SCALE = 2;
+    public static final long CENTS_PER_UNIT = 100;
+    public static final RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_UP;
+
+    private static final long FACTOR_SCALE = 1_000_000;
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+        100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    private Money() {
+    }
+
+    public static long of(double amount) {
+        return of(amount, DEFAULT_ROUNDING);
+    }
+
+    // Rounds the shortest decimal form of amount, so 0.285 is treated as 0.285 rather than 0.28499...
+    public static long of(double amount, RoundingMode mode) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount))
+            throw new ArithmeticException("Not a finite amount: " + amount);
+        double scaled = amount * CENTS_PER_UNIT;
+        double whole = Math.rint(scaled);
+        if (Math.abs(scaled) < 1e15) {
+            // Whole cents round to themselves in every mode.
+            if (whole / CENTS_PER_UNIT == amount) return (long) whole;
+            // Within a millionth of a cent, the half-way modes round to the nearest cent whatever the
+            // digits further on; the other modes must see them.
+            if (Math.abs(scaled - whole) < 1e-6 && isHalfWay(mode)) return (long) whole;
+        }
+        return BigDecimal.valueOf(amount).setScale(SCALE, mode).unscaledValue().longValueExact();
+    }
+
+    public static double toDouble(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
+    }
+
+    // Parses an optionally signed decimal such as "1250", "-3.5" or "19.999" without allocating.
+    public static long parse(CharSequence text, RoundingMode mode) {
+        int length = text == null ? 0 : text.length();
+        int i = 0;
+        boolean negative = false;
+        if (length > 0 && (text.charAt(0) == '-' || text.charAt(0) == '+')) {
+            negative = text.charAt(0) == '-';
+            i++;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int decimals = -1;
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && decimals < 0) {
+                decimals = 0;
+                continue;
+            }
+            if (c < '0' || c > '9' || digits == 18)
+                throw new NumberFormatException("Invalid amount: " + text);
+            unscaled = unscaled * 10 + (c - '0');
+            digits++;
+            if (decimals >= 0) decimals++;
+        }
+        if (digits == 0)
+            throw new NumberFormatException("Invalid amount: " + text);
+        if (negative) unscaled = -unscaled;
+        if (decimals <= 0) return Math.multiplyExact(unscaled, CENTS_PER_UNIT);
+        if (decimals <= SCALE) return Math.multiplyExact(unscaled, POWERS_OF_TEN[SCALE - decimals]);
+        return divide(unscaled, POWERS_OF_TEN[decimals - SCALE], mode);
+    }
+
+    public static long parse(CharSequence text) {
+        return parse(text, DEFAULT_ROUNDING);
+    }
+
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    public static long add(long a, long b, long c) {
+        return Math.addExact(Math.addExact(a, b), c);
+    }
+
+    public static long add(long a, long b, long c, long d) {
+        return Math.addExact(Math.addExact(a, b), Math.addExact(c, d));
+    }
+
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    public static long multiply(long cents, long quantity) {
+        return Math.multiplyExact(cents, quantity);
+    }
+
+    public static long multiply(long cents, double factor, RoundingMode mode) {
+        return scaleBy(cents, factor, FACTOR_SCALE, mode);
+    }
+
+    // cents * rate / 100, e.g. a 12.5 % commission.
+    public static long percent(long cents, double rate, RoundingMode mode) {
+        return scaleBy(cents, rate, FACTOR_SCALE * 100, mode);
+    }
+
+    public static long percent(long cents, double rate) {
+        return percent(cents, rate, DEFAULT_ROUNDING);
+    }
+
+    // Integer division rounded with the given mode.
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) return quotient;
+        int sign = (dividend < 0) == (divisor < 0) ? 1 : -1;
+        long twice = Math.abs(remainder) * 2;
+        long absDivisor = Math.abs(divisor);
+        boolean up;
+        switch (mode) {
+            case UP:
+                up = true;
+                break;
+            case DOWN:
+                up = false;
+                break;
+            case CEILING:
+                up = sign > 0;
+                break;
+            case FLOOR:
+                up = sign < 0;
+                break;
+            case HALF_UP:
+                up = twice >= absDivisor;
+                break;
+            case HALF_DOWN:
+                up = twice > absDivisor;
+                break;
+            case HALF_EVEN:
+                up = twice > absDivisor || (twice == absDivisor && (quotient & 1) != 0);
+                break;
+            default:
+                throw new ArithmeticException("Rounding necessary");
+        }
+        return up ? quotient + sign : quotient;
+    }
+
+    public static String toString(long cents) {
+        long units = cents / CENTS_PER_UNIT;
+        long rest = Math.abs(cents % CENTS_PER_UNIT);
+        String sign = cents < 0 && units == 0 ? "-" : "";
+        return sign + units + (rest < 10 ? ".0" : ".") + rest;
+    }
+
+    public static long sum(long[] cents, int size) {
+        long total = 0;
+        for (int i = 0; i < size; i++) total += cents[i];
+        return total;
+    }
+
+    public static long sum(long[] cents, int[] rows, int count) {
+        long total = 0;
+        for (int i = 0; i < count; i++) total += cents[rows[i]];
+        return total;
+    }
+
+    // Adds each row into totals[group[row]], e.g. grouped by a dictionary-coded column.
+    public static void sumByGroup(long[] cents, int[] groups, int size, long[] totals) {
+        for (int i = 0; i < size; i++) totals[groups[i]] += cents[i];
+    }
+
+    public static long min(long[] cents, int size) {
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) min = Math.min(min, cents[i]);
+        return min;
+    }
+
+    public static long max(long[] cents, int size) {
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < size; i++) max = Math.max(max, cents[i]);
+        return max;
+    }
+
+    public static long average(long[] cents, int size, RoundingMode mode) {
+        return size == 0 ? 0 : divide(sum(cents, size), size, mode);
+    }
+
+    public static void add(long[] a, long[] b, long[] out, int size) {
+        for (int i = 0; i < size; i++) out[i] = a[i] + b[i];
+    }
+
+    public static void subtract(long[] a, long[] b, long[] out, int size) {
+        for (int i = 0; i < size; i++) out[i] = a[i] - b[i];
+    }
+
+    private static boolean isHalfWay(RoundingMode mode) {
+        return mode == RoundingMode.HALF_UP || mode == RoundingMode.HALF_DOWN || mode == RoundingMode.HALF_EVEN;
+    }
+
+    private static long scaleBy(long cents, double factor, long divisor, RoundingMode mode) {
+        double scaledFactor = factor * FACTOR_SCALE;
+        double whole = Math.rint(scaledFactor);
+        // Only a factor with at most six decimals is multiplied as a long; any digit beyond that can
+        // change the result in a directed mode or at a tie.
+        if (Math.abs(scaledFactor) < 1e12 && whole / FACTOR_SCALE == factor) {
+            long numerator = (long) whole;
+            long high = Math.multiplyHigh(cents, numerator);
+            long product = cents * numerator;
+            if ((high == 0 && product >= 0) || (high == -1 && product < 0)) return divide(product, divisor, mode);
+        }
+        return new BigDecimal(cents).multiply(BigDecimal.valueOf(factor))
+            .divide(BigDecimal.valueOf(divisor / FACTOR_SCALE), 0, mode).longValueExact();
+    }
+}
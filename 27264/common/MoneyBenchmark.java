@@ -0,0 +1,62 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public class MoneyBenchmark {
+    private static final double[] AMOUNTS = { 1250.75, 0.1, 19.99, 300, 45.5 };
+    private static final String[] TEXTS = { "1250.75", "0.1", "19.99", "300", "45.5" };
+
+    public static void main(String[] args) throws Exception {
+        showDrift();
+
+        MicroBench bench = new MicroBench();
+
+        bench.header("single amounts");
+        bench.run("double a + b", i -> AMOUNTS[i % 5] + AMOUNTS[(i + 1) % 5]);
+        bench.run("Money.add(Money.of(a), Money.of(b))",
+            i -> Money.add(Money.of(AMOUNTS[i % 5]), Money.of(AMOUNTS[(i + 1) % 5])));
+        bench.run("BigDecimal a.add(b)",
+            i -> BigDecimal.valueOf(AMOUNTS[i % 5]).add(BigDecimal.valueOf(AMOUNTS[(i + 1) % 5])));
+        bench.run("double a * 12.5 / 100", i -> AMOUNTS[i % 5] * 12.5 / 100);
+        bench.run("Money.percent(a, 12.5)", i -> Money.percent(Money.of(AMOUNTS[i % 5]), 12.5));
+        bench.run("BigDecimal a * 12.5 / 100", i -> BigDecimal.valueOf(AMOUNTS[i % 5])
+            .multiply(BigDecimal.valueOf(12.5)).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP));
+        bench.run("Double.parseDouble", i -> Double.parseDouble(TEXTS[i % 5]));
+        bench.run("Money.parse", i -> Money.parse(TEXTS[i % 5]));
+        bench.run("new BigDecimal(text)", i -> new BigDecimal(TEXTS[i % 5]));
+
+        int rows = Integer.getInteger("bench.rows", 1_000_000);
+        double[] doubles = new double[rows];
+        long[] cents = new long[rows];
+        BigDecimal[] decimals = new BigDecimal[rows];
+        for (int i = 0; i < rows; i++) {
+            doubles[i] = AMOUNTS[i % 5] + i % 100;
+            cents[i] = Money.of(doubles[i]);
+            decimals[i] = BigDecimal.valueOf(cents[i], Money.SCALE);
+        }
+
+        bench.header("sum of " + rows + " amounts");
+        bench.run("double[] loop", i -> {
+            double total = 0;
+            for (int row = 0; row < rows; row++) total += doubles[row];
+            return total;
+        });
+        bench.run("Money.sum(long[])", i -> Money.sum(cents, rows));
+        bench.run("BigDecimal[] loop", i -> {
+            BigDecimal total = BigDecimal.ZERO;
+            for (int row = 0; row < rows; row++) total = total.add(decimals[row]);
+            return total;
+        });
+    }
+
+    private static void showDrift() {
+        int count = Integer.getInteger("bench.driftCount", 1_000_000);
+        double total = 0;
+        long cents = 0;
+        for (int i = 0; i < count; i++) {
+            total += 0.1;
+            cents = Money.add(cents, Money.of(0.1));
+        }
+        System.out.println(count + " x 0.1 as double: " + total);
+        System.out.println(count + " x 0.1 as Money:  " + Money.toString(cents));
+    }
+}
@@ -0,0 +1,148 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+// Checks Money's rounding against BigDecimal in every rounding mode, including negative amounts.
+// Run with java MoneyTest from common/; it throws at the first difference and prints a summary
+// when everything matches.
+public class MoneyTest {
+    private static final RoundingMode[] MODES = {
+        RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+        RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN
+    };
+    private static int checks;
+
+    public static void main(String[] args) {
+        checkOf();
+        checkParse();
+        checkPercent();
+        checkDivide();
+        checkToString();
+        System.out.println("MoneyTest: " + checks + " checks passed");
+    }
+
+    private static void checkOf() {
+        check(Money.of(0.285) == 29, "0.285 rounds half up to 29 cents, not down from 0.28499...");
+        check(Money.of(-0.285) == -29, "-0.285 rounds half up away from zero");
+        check(Money.of(0.285, RoundingMode.HALF_EVEN) == 28, "0.285 rounds half even to 28 cents");
+        check(Money.of(1e-7) == 0 && Money.of(-0.004) == 0, "amounts below half a cent round to zero");
+        check(Money.toDouble(Money.of(1234.56)) == 1234.56, "toDouble gives back a whole-cent amount");
+        try {
+            Money.of(Double.NaN);
+            check(false, "NaN is not an amount");
+        } catch (ArithmeticException e) {
+            check(true, "NaN is not an amount");
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 100_000; i++) {
+            double amount = (random.nextLong() % 100_000_000_000L) / 1000.0;
+            for (RoundingMode mode : MODES) {
+                long expected = BigDecimal.valueOf(amount).setScale(Money.SCALE, mode).unscaledValue().longValueExact();
+                check(Money.of(amount, mode) == expected, "of(" + amount + ", " + mode + ")");
+            }
+        }
+        // Amounts a few billionths of a unit off a whole cent, which only the directed modes round away
+        check(Money.of(0.0100000001, RoundingMode.CEILING) == 2, "0.0100000001 rounds up to 2 cents with CEILING");
+        check(Money.of(5.0000000001, RoundingMode.UP) == 501, "5.0000000001 rounds up to 501 cents with UP");
+        check(Money.of(-5.0000000001, RoundingMode.FLOOR) == -501, "-5.0000000001 rounds down to -501 cents with FLOOR");
+        check(Money.of(5.0000000001, RoundingMode.HALF_UP) == 500, "5.0000000001 rounds half up to 500 cents");
+        for (int i = 0; i < 100_000; i++) {
+            double amount = (random.nextLong() % 10_000_000_000L) / 100.0 + (random.nextInt(2001) - 1000) / 1e10;
+            for (RoundingMode mode : MODES) {
+                long expected = BigDecimal.valueOf(amount).setScale(Money.SCALE, mode).unscaledValue().longValueExact();
+                check(Money.of(amount, mode) == expected, "of(" + amount + ", " + mode + ")");
+            }
+        }
+    }
+
+    private static void checkParse() {
+        check(Money.parse("1250") == 125_000 && Money.parse("-3.5") == -350 && Money.parse("+.5") == 50,
+            "parse reads whole, signed and leading-point amounts");
+        check(Money.parse("19.995") == 2000 && Money.parse("19.995", RoundingMode.HALF_EVEN) == 2000
+            && Money.parse("19.985", RoundingMode.HALF_EVEN) == 1998, "parse rounds extra decimals");
+        for (String invalid : new String[] { "", "-", ".", "1.2.3", "12a", " 1", "1e5", "1234567890123456789" }) {
+            try {
+                Money.parse(invalid);
+                check(false, "\"" + invalid + "\" is not an amount");
+            } catch (NumberFormatException e) {
+                check(true, "\"" + invalid + "\" is not an amount");
+            }
+        }
+        try {
+            Money.parse((CharSequence) null);
+            check(false, "null is not an amount");
+        } catch (NumberFormatException e) {
+            check(true, "null is not an amount");
+        }
+        Random random = new Random(2);
+        for (int i = 0; i < 100_000; i++) {
+            String text = (random.nextBoolean() ? "-" : "") + random.nextInt(1_000_000) + "." + random.nextInt(100_000);
+            for (RoundingMode mode : MODES) {
+                long expected = new BigDecimal(text).setScale(Money.SCALE, mode).unscaledValue().longValueExact();
+                check(Money.parse(text, mode) == expected, "parse(" + text + ", " + mode + ")");
+            }
+        }
+    }
+
+    private static void checkPercent() {
+        check(Money.percent(Money.of(63877.15), 12.5) == 798_464, "a 12.5 % commission of 63877.15 is 7984.64");
+        check(Money.percent(-1, 50, RoundingMode.HALF_UP) == -1 && Money.percent(-1, 50, RoundingMode.HALF_DOWN) == 0,
+            "half a negative cent rounds by mode");
+        Random random = new Random(3);
+        for (int i = 0; i < 200_000; i++) {
+            long cents = random.nextLong() % 10_000_000_000L;
+            double rate = random.nextInt(100_000_000) / 1_000_000.0;
+            // Half the rates have digits beyond the sixth decimal, which the long path cannot take
+            if (i % 2 == 1) rate += (random.nextInt(2001) - 1000) / 1e12;
+            for (RoundingMode mode : MODES) {
+                long expected = BigDecimal.valueOf(cents).multiply(BigDecimal.valueOf(rate))
+                    .divide(BigDecimal.valueOf(100), 0, mode).longValueExact();
+                check(Money.percent(cents, rate, mode) == expected, "percent(" + cents + ", " + rate + ", " + mode + ")");
+                expected = BigDecimal.valueOf(cents).multiply(BigDecimal.valueOf(rate)).setScale(0, mode).longValueExact();
+                check(Money.multiply(cents, rate, mode) == expected, "multiply(" + cents + ", " + rate + ", " + mode + ")");
+            }
+        }
+    }
+
+    private static void checkDivide() {
+        long[] dividends = { 5, -5, 7, -7, 15, -15, 1, -1, 0, Long.MAX_VALUE, Long.MIN_VALUE + 1 };
+        long[] divisors = { 2, -2, 3, -3, 10, -10, 4 };
+        for (long dividend : dividends) {
+            for (long divisor : divisors) {
+                for (RoundingMode mode : MODES) {
+                    long expected = BigDecimal.valueOf(dividend).divide(BigDecimal.valueOf(divisor), 0, mode)
+                        .longValueExact();
+                    check(Money.divide(dividend, divisor, mode) == expected,
+                        "divide(" + dividend + ", " + divisor + ", " + mode + ")");
+                }
+            }
+        }
+        try {
+            Money.divide(1, 2, RoundingMode.UNNECESSARY);
+            check(false, "an inexact division with UNNECESSARY fails");
+        } catch (ArithmeticException e) {
+            check(true, "an inexact division with UNNECESSARY fails");
+        }
+        check(Money.average(new long[] { 1, 2 }, 2, RoundingMode.HALF_EVEN) == 2
+            && Money.average(new long[0], 0, RoundingMode.HALF_UP) == 0, "average rounds and is 0 for no values");
+        try {
+            Money.add(Long.MAX_VALUE, 1);
+            check(false, "an overflowing add fails");
+        } catch (ArithmeticException e) {
+            check(true, "an overflowing add fails");
+        }
+    }
+
+    private static void checkToString() {
+        check(Money.toString(0).equals("0.00"), "toString(0)");
+        check(Money.toString(5).equals("0.05") && Money.toString(-5).equals("-0.05"), "toString below one unit");
+        check(Money.toString(123_450).equals("1234.50") && Money.toString(-123_456).equals("-1234.56"),
+            "toString above one unit");
+    }
+
+    private static void check(boolean passed, String what) {
+        if (!passed)
+            throw new IllegalStateException("Failed: " + what);
+        checks++;
+    }
+}
@@ -0,0 +1,306 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+// Splits a line-oriented input file into chunks at line boundaries and processes the chunks on a
+// ForkJoinPool. Outputs and rejects are written in input order, and at most two chunks per thread
+// are held in memory. Empty lines and lines starting with '#' are skipped but still counted.
+// Ids of accepted rows are checked in input order as the chunks are written, so of the rows
+// sharing an id, the first one in the file is the one that counts.
+public final class ParallelBatch {
+    public static final int DEFAULT_CHUNK_BYTES = 1 << 20;
+
+    // Handles one line. Returns null after appending the output line (without a line separator)
+    // to out, or the reason the line was rejected. Each chunk gets its own Row.
+    public interface Row {
+        String process(String line, StringBuilder out);
+
+        // The id of the record on the line process last accepted, or -1 when rows have no ids.
+        default int id() { return -1; }
+    }
+
+    // What run does with an accepted row whose id an earlier accepted row already had.
+    public enum DuplicateIds {
+        // The row is rejected with "Duplicate id <id>".
+        REJECT,
+        // The row is kept, and counted in the summary with its id.
+        FLAG,
+        OFF
+    }
+
+    public static final class Summary {
+        private final long accepted;
+        private final long rejected;
+        private final long duplicates;
+        private final IdBitmap duplicateIds;
+        private final long elapsedNanos;
+
+        Summary(long accepted, long rejected, long duplicates, IdBitmap duplicateIds, long elapsedNanos) {
+            this.accepted = accepted;
+            this.rejected = rejected;
+            this.duplicates = duplicates;
+            this.duplicateIds = duplicateIds;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getAccepted() { return accepted; }
+        public long getRejected() { return rejected; }
+        // Rows whose id an earlier row had, whether rejected or flagged
+        public long getDuplicates() { return duplicates; }
+        public IdBitmap getDuplicateIds() { return duplicateIds; }
+        public long getTotal() { return accepted + rejected; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public long rowsPerSecond() {
+            return elapsedNanos > 0 ? (long) (getTotal() * 1_000_000_000.0 / elapsedNanos) : getTotal();
+        }
+    }
+
+    private static final class Chunk {
+        final StringBuilder output = new StringBuilder();
+        int[] rejectLines = new int[8];
+        String[] rejectMessages = new String[8];
+        int rejected;
+        // The line, id and end in output of each accepted row
+        int[] acceptLines = new int[64];
+        int[] acceptIds = new int[64];
+        int[] acceptEnds = new int[64];
+        int accepted;
+        int[] duplicates = new int[8];
+        int duplicated;
+        int lines;
+
+        void accept(int line, int id) {
+            if (accepted == acceptLines.length) {
+                acceptLines = Arrays.copyOf(acceptLines, accepted * 2);
+                acceptIds = Arrays.copyOf(acceptIds, accepted * 2);
+                acceptEnds = Arrays.copyOf(acceptEnds, accepted * 2);
+            }
+            acceptLines[accepted] = line;
+            acceptIds[accepted] = id;
+            acceptEnds[accepted] = output.length();
+            accepted++;
+        }
+
+        // Adds the ids of the accepted rows to seen in order, and keeps the rows whose id was
+        // already there in duplicates.
+        void findDuplicates(IdBitmap seen, IdBitmap repeated) {
+            for (int i = 0; i < accepted; i++) {
+                int id = acceptIds[i];
+                if (id < 0 || seen.add(id)) continue;
+                repeated.add(id);
+                if (duplicated == duplicates.length) duplicates = Arrays.copyOf(duplicates, duplicated * 2);
+                duplicates[duplicated++] = i;
+            }
+        }
+
+        void reject(int line, String message) {
+            if (rejected == rejectLines.length) {
+                rejectLines = Arrays.copyOf(rejectLines, rejected * 2);
+                rejectMessages = Arrays.copyOf(rejectMessages, rejected * 2);
+            }
+            rejectLines[rejected] = line;
+            rejectMessages[rejected] = message;
+            rejected++;
+        }
+    }
+
+    private final int parallelism;
+    private final int chunkBytes;
+    private DuplicateIds duplicateIds = duplicateIdsProperty();
+
+    // Uses -Dbatch.parallelism (default: all processors), -Dbatch.chunkBytes and -Dbatch.duplicateIds
+    // (reject, flag or off; default reject).
+    public ParallelBatch() {
+        this(Integer.getInteger("batch.parallelism", Runtime.getRuntime().availableProcessors()),
+            Integer.getInteger("batch.chunkBytes", DEFAULT_CHUNK_BYTES));
+    }
+
+    public ParallelBatch(int parallelism, int chunkBytes) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be >= 1");
+        if (chunkBytes < 1)
+            throw new IllegalArgumentException("Chunk size must be >= 1");
+        this.parallelism = parallelism;
+        this.chunkBytes = chunkBytes;
+    }
+
+    public int getParallelism() { return parallelism; }
+
+    // -Dbatch.duplicateIds in any case, default reject. Throws IllegalArgumentException naming the
+    // property for any other value, so a caller can tell it apart from a bad parallelism.
+    public static DuplicateIds duplicateIdsProperty() {
+        String value = System.getProperty("batch.duplicateIds", "reject");
+        for (DuplicateIds mode : DuplicateIds.values()) {
+            if (mode.name().equalsIgnoreCase(value)) return mode;
+        }
+        throw new IllegalArgumentException("batch.duplicateIds must be reject, flag or off, not \"" + value + "\"");
+    }
+
+    public ParallelBatch duplicateIds(DuplicateIds duplicateIds) {
+        this.duplicateIds = duplicateIds;
+        return this;
+    }
+
+    // Rejects are written to the rejects file as "line <number>: <message>".
+    public Summary run(Path input, Path output, Path rejects, Supplier<? extends Row> rows) throws IOException {
+        long start = System.nanoTime();
+        long accepted = 0;
+        long rejected = 0;
+        long duplicates = 0;
+        IdBitmap seen = new IdBitmap();
+        IdBitmap repeated = new IdBitmap();
+        String separator = System.lineSeparator();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+             BufferedWriter rejectWriter = Files.newBufferedWriter(rejects, StandardCharsets.UTF_8)) {
+            List<long[]> ranges = split(channel);
+            ArrayDeque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>();
+            int next = 0;
+            long lineBase = 0;
+            while (next < ranges.size() || !pending.isEmpty()) {
+                while (next < ranges.size() && pending.size() < parallelism * 2) {
+                    long[] range = ranges.get(next++);
+                    pending.add(pool.submit(() -> process(channel, range[0], range[1], rows.get(), separator)));
+                }
+                Chunk chunk = join(pending.poll());
+                if (duplicateIds != DuplicateIds.OFF) chunk.findDuplicates(seen, repeated);
+                if (duplicateIds == DuplicateIds.REJECT && chunk.duplicated > 0) {
+                    writeDroppingDuplicates(chunk, writer, rejectWriter, lineBase);
+                    accepted += chunk.accepted - chunk.duplicated;
+                    rejected += chunk.rejected + chunk.duplicated;
+                } else {
+                    writer.append(chunk.output);
+                    for (int i = 0; i < chunk.rejected; i++) writeReject(rejectWriter, lineBase, chunk, i);
+                    accepted += chunk.accepted;
+                    rejected += chunk.rejected;
+                }
+                lineBase += chunk.lines;
+                duplicates += chunk.duplicated;
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return new Summary(accepted, rejected, duplicates, repeated, System.nanoTime() - start);
+    }
+
+    // Writes the chunk without its duplicate rows, which join its rejects in line order.
+    private static void writeDroppingDuplicates(Chunk chunk, BufferedWriter writer, BufferedWriter rejectWriter,
+            long lineBase) throws IOException {
+        int from = 0;
+        for (int d = 0; d < chunk.duplicated; d++) {
+            int row = chunk.duplicates[d];
+            writer.append(chunk.output, from, row == 0 ? 0 : chunk.acceptEnds[row - 1]);
+            from = chunk.acceptEnds[row];
+        }
+        writer.append(chunk.output, from, chunk.output.length());
+        int r = 0;
+        int d = 0;
+        while (r < chunk.rejected || d < chunk.duplicated) {
+            int row = d < chunk.duplicated ? chunk.duplicates[d] : -1;
+            if (row < 0 || (r < chunk.rejected && chunk.rejectLines[r] < chunk.acceptLines[row])) {
+                writeReject(rejectWriter, lineBase, chunk, r++);
+            } else {
+                rejectWriter.write("line " + (lineBase + chunk.acceptLines[row]) + ": Duplicate id " + chunk.acceptIds[row]);
+                rejectWriter.newLine();
+                d++;
+            }
+        }
+    }
+
+    private static void writeReject(BufferedWriter rejectWriter, long lineBase, Chunk chunk, int reject)
+            throws IOException {
+        rejectWriter.write("line " + (lineBase + chunk.rejectLines[reject]) + ": " + chunk.rejectMessages[reject]);
+        rejectWriter.newLine();
+    }
+
+    // Chunk ranges [from, to) of about chunkBytes, each ending just after a '\n' or at the end of the file.
+    private List<long[]> split(FileChannel channel) throws IOException {
+        List<long[]> ranges = new ArrayList<>();
+        long size = channel.size();
+        ByteBuffer scan = ByteBuffer.allocate(8 * 1024);
+        long from = 0;
+        while (from < size) {
+            long to = Math.min(size, from + chunkBytes);
+            while (to < size) {
+                scan.clear();
+                int read = channel.read(scan, to);
+                if (read <= 0) {
+                    to = size;
+                    break;
+                }
+                int newline = -1;
+                for (int i = 0; i < read && newline < 0; i++) {
+                    if (scan.get(i) == '\n') newline = i;
+                }
+                if (newline >= 0) {
+                    to += newline + 1;
+                    break;
+                }
+                to += read;
+            }
+            ranges.add(new long[] { from, to });
+            from = to;
+        }
+        return ranges;
+    }
+
+    // Line breaks are '\n', '\r' or "\r\n", as for BufferedReader.readLine.
+    private static Chunk process(FileChannel channel, long from, long to, Row row, String separator) {
+        byte[] bytes = new byte[(int) (to - from)];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, from + buffer.position()) < 0)
+                    throw new IOException("Input file shrank while it was read");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String text = new String(bytes, StandardCharsets.UTF_8);
+        Chunk chunk = new Chunk();
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length && text.charAt(end) != '\n' && text.charAt(end) != '\r') end++;
+            chunk.lines++;
+            if (end > start && text.charAt(start) != '#') {
+                int mark = chunk.output.length();
+                String message = row.process(text.substring(start, end), chunk.output);
+                if (message == null) {
+                    chunk.output.append(separator);
+                    chunk.accept(chunk.lines, row.id());
+                } else {
+                    chunk.output.setLength(mark);
+                    chunk.reject(chunk.lines, message);
+                }
+            }
+            if (end < length && text.charAt(end) == '\r' && end + 1 < length && text.charAt(end + 1) == '\n') end++;
+            start = end + 1;
+        }
+        return chunk;
+    }
+
+    private static Chunk join(ForkJoinTask<Chunk> task) throws IOException {
+        try {
+            return task.join();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,422 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// Filters, groups and aggregates the rows of a RowSource by column name, for example
+//   Query.from(table).where(Condition.between("admissionDate", "2024-03-01", "2024-03-31"))
+//       .groupBy("departmentCode").sum("totalBill").run()
+// The rows are split into one range per thread, and each range is scanned into its own partial
+// groups, which are merged at the end. Only a ColumnTable is split; other sources, such as a
+// RecordArena, are not safe to read from several threads and run on the calling thread. Without
+// aggregates or groups, run() returns the selected columns of the matching rows in row order. The
+// source must not change while a query runs.
+public final class Query {
+    private enum Function { COUNT, SUM, AVG, MIN, MAX }
+
+    // Below this many rows per thread a query runs on the calling thread.
+    private static final int MIN_ROWS_PER_THREAD = 65_536;
+
+    private final RowSource source;
+    private final Schema schema;
+    private final List<Condition> conditions = new ArrayList<>();
+    private int[] groupColumns = {};
+    private int[] selectColumns;
+    private final List<Function> functions = new ArrayList<>();
+    private final List<Integer> aggregateColumns = new ArrayList<>();
+    private int limit = Integer.MAX_VALUE;
+    private int parallelism = Integer.getInteger("query.parallelism", Runtime.getRuntime().availableProcessors());
+
+    private Query(RowSource source) {
+        this.source = source;
+        this.schema = source.schema();
+    }
+
+    public static Query from(RowSource source) {
+        return new Query(source);
+    }
+
+    // Conditions given in several calls must all hold.
+    public Query where(Condition condition) {
+        conditions.add(condition);
+        return this;
+    }
+
+    public Query select(String... columns) {
+        selectColumns = columns(columns);
+        return this;
+    }
+
+    public Query groupBy(String... columns) {
+        groupColumns = columns(columns);
+        return this;
+    }
+
+    public Query count() { return aggregate(Function.COUNT, -1); }
+
+    public Query sum(String column) { return aggregate(Function.SUM, numeric(column, false)); }
+
+    public Query avg(String column) { return aggregate(Function.AVG, numeric(column, false)); }
+
+    // MIN and MAX also take DATE columns; a date that did not parse is skipped.
+    public Query min(String column) { return aggregate(Function.MIN, numeric(column, true)); }
+
+    public Query max(String column) { return aggregate(Function.MAX, numeric(column, true)); }
+
+    // At most this many rows from a select.
+    public Query limit(int limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("Limit must be >= 0");
+        this.limit = limit;
+        return this;
+    }
+
+    public Query parallelism(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be >= 1");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public QueryResult run() {
+        if (selectColumns != null && (!functions.isEmpty() || groupColumns.length > 0))
+            throw new IllegalStateException("select cannot be combined with groupBy or aggregates");
+        long start = System.nanoTime();
+        Condition.Matcher matcher = conditions.isEmpty() ? null
+            : Condition.and(conditions.toArray(new Condition[0])).bind(source);
+        int size = source.size();
+        int threads = !(source instanceof ColumnTable) ? 1
+            : (int) Math.max(1, Math.min(parallelism, (long) size / MIN_ROWS_PER_THREAD));
+        if (functions.isEmpty() && groupColumns.length == 0) return select(matcher, size, threads, start);
+
+        Aggregation aggregation = new Aggregation(matcher);
+        Partial[] partials = new Partial[threads];
+        forEachRange(size, threads, (range, from, to) -> partials[range] = aggregation.scan(from, to));
+        Partial total = partials[0];
+        for (int i = 1; i < partials.length; i++) total.merge(partials[i]);
+        return aggregation.result(total, System.nanoTime() - start);
+    }
+
+    private QueryResult select(Condition.Matcher matcher, int size, int threads, long start) {
+        int[] columns = selectColumns != null ? selectColumns : allColumns();
+        int[][] matches = new int[threads][];
+        int[] counts = new int[threads];
+        forEachRange(size, threads, (range, from, to) -> {
+            int[] rows = new int[16];
+            int count = 0;
+            for (int row = from; row < to && count < limit; row++) {
+                if (matcher != null && !matcher.matches(row)) continue;
+                if (count == rows.length) rows = Arrays.copyOf(rows, count * 2);
+                rows[count++] = row;
+            }
+            matches[range] = rows;
+            counts[range] = count;
+        });
+        List<Object[]> rows = new ArrayList<>();
+        for (int range = 0; range < threads; range++) {
+            for (int i = 0; i < counts[range] && rows.size() < limit; i++) {
+                Object[] values = new Object[columns.length];
+                for (int c = 0; c < columns.length; c++) values[c] = value(matches[range][i], columns[c]);
+                rows.add(values);
+            }
+        }
+        List<String> names = new ArrayList<>();
+        for (int column : columns) names.add(schema.columnName(column));
+        return new QueryResult(names, rows, System.nanoTime() - start);
+    }
+
+    private interface RangeTask {
+        void run(int range, int from, int to);
+    }
+
+    private void forEachRange(int size, int threads, RangeTask task) {
+        if (threads == 1) {
+            task.run(0, 0, size);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (int range = 0; range < threads; range++) {
+                int index = range;
+                int from = (int) ((long) size * range / threads);
+                int to = (int) ((long) size * (range + 1) / threads);
+                tasks.add(pool.submit(() -> task.run(index, from, to)));
+            }
+            for (ForkJoinTask<?> t : tasks) t.join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Query plan bound to the source: the matcher, how to read each aggregated column, and how
+    // rows map to groups.
+    private final class Aggregation {
+        private final Condition.Matcher matcher;
+        private final Function[] functions = Query.this.functions.toArray(new Function[0]);
+        private final int[] columns = new int[functions.length];
+        private final Condition.LongColumn[] longs = new Condition.LongColumn[functions.length];
+        private final Condition.DoubleColumn[] doubles = new Condition.DoubleColumn[functions.length];
+        private final boolean[] dates = new boolean[functions.length];
+        // A single DICT or INT group column of a ColumnTable groups by its stored int.
+        private final Condition.LongColumn codes;
+
+        Aggregation(Condition.Matcher matcher) {
+            this.matcher = matcher;
+            for (int i = 0; i < functions.length; i++) {
+                int column = aggregateColumns.get(i);
+                columns[i] = column;
+                if (column < 0) continue;
+                ColumnType type = schema.columnType(column);
+                if (type == ColumnType.DOUBLE) {
+                    doubles[i] = Condition.doubles(source, column);
+                } else {
+                    longs[i] = Condition.longs(source, column);
+                    dates[i] = type == ColumnType.DATE;
+                }
+            }
+            boolean stored = groupColumns.length == 1 && source instanceof ColumnTable
+                && (schema.columnType(groupColumns[0]) == ColumnType.DICT
+                    || schema.columnType(groupColumns[0]) == ColumnType.INT);
+            this.codes = stored ? Condition.longs(source, groupColumns[0]) : null;
+        }
+
+        Partial scan(int from, int to) {
+            Partial partial = new Partial(functions.length, codes != null);
+            for (int row = from; row < to; row++) {
+                if (matcher != null && !matcher.matches(row)) continue;
+                Group group = codes != null ? partial.group((int) codes.get(row))
+                    : partial.group(groupColumns.length == 0 ? null : key(row));
+                group.count++;
+                for (int i = 0; i < functions.length; i++) {
+                    if (longs[i] != null) {
+                        long value = longs[i].get(row);
+                        if (!dates[i] || value != Dates.INVALID) group.add(i, value);
+                    } else if (doubles[i] != null) {
+                        group.add(i, doubles[i].get(row));
+                    }
+                }
+            }
+            return partial;
+        }
+
+        private Object key(int row) {
+            if (groupColumns.length == 1) return value(row, groupColumns[0]);
+            Object[] values = new Object[groupColumns.length];
+            for (int c = 0; c < values.length; c++) values[c] = value(row, groupColumns[c]);
+            return Arrays.asList(values);
+        }
+
+        QueryResult result(Partial total, long elapsedNanos) {
+            List<String> names = new ArrayList<>();
+            for (int column : groupColumns) names.add(schema.columnName(column));
+            for (int i = 0; i < functions.length; i++) {
+                names.add(functions[i] == Function.COUNT ? "count"
+                    : functions[i].name().toLowerCase() + "(" + schema.columnName(columns[i]) + ")");
+            }
+            List<Object[]> rows = new ArrayList<>();
+            if (total.groups.isEmpty() && groupColumns.length == 0) total.group(null);
+            for (Group group : total.groups) {
+                Object[] values = new Object[groupColumns.length + functions.length];
+                Object key = codes == null ? group.key : decode(group.code);
+                if (groupColumns.length == 1) {
+                    values[0] = key;
+                } else if (groupColumns.length > 1) {
+                    List<?> keys = (List<?>) key;
+                    for (int c = 0; c < groupColumns.length; c++) values[c] = keys.get(c);
+                }
+                for (int i = 0; i < functions.length; i++) {
+                    values[groupColumns.length + i] = aggregate(group, i);
+                }
+                rows.add(values);
+            }
+            rows.sort((a, b) -> {
+                for (int c = 0; c < groupColumns.length; c++) {
+                    int order = compare(a[c], b[c]);
+                    if (order != 0) return order;
+                }
+                return 0;
+            });
+            return new QueryResult(names, rows, elapsedNanos);
+        }
+
+        private Object decode(int code) {
+            if (schema.columnType(groupColumns[0]) == ColumnType.INT) return code;
+            return ((ColumnTable) source).dictionary(groupColumns[0]).decode(code);
+        }
+
+        private Object aggregate(Group group, int i) {
+            if (functions[i] == Function.COUNT) return group.count;
+            ColumnType type = schema.columnType(columns[i]);
+            long count = group.counts[i];
+            if (count == 0) {
+                if (functions[i] != Function.SUM) return null;
+                return type == ColumnType.INT ? (Object) 0L : (Object) 0.0;
+            }
+            if (type == ColumnType.DOUBLE) {
+                switch (functions[i]) {
+                    case SUM: return group.doubles[3 * i];
+                    case AVG: return group.doubles[3 * i] / count;
+                    case MIN: return group.doubles[3 * i + 1];
+                    default: return group.doubles[3 * i + 2];
+                }
+            }
+            long value;
+            switch (functions[i]) {
+                case SUM:
+                    value = group.longs[3 * i];
+                    break;
+                case AVG:
+                    if (type == ColumnType.INT) return (double) group.longs[3 * i] / count;
+                    value = Money.divide(group.longs[3 * i], count, Money.DEFAULT_ROUNDING);
+                    break;
+                case MIN:
+                    value = group.longs[3 * i + 1];
+                    break;
+                default:
+                    value = group.longs[3 * i + 2];
+                    break;
+            }
+            switch (type) {
+                case MONEY: return Money.toDouble(value);
+                case DATE: return Dates.format((int) value);
+                default: return value;
+            }
+        }
+    }
+
+    // One range's groups, in the order first seen.
+    private static final class Partial {
+        private final int aggregates;
+        private final boolean coded;
+        private final List<Group> groups = new ArrayList<>();
+        private final IntIndex<Group> byCode = new IntIndex<>();
+        private final Map<Object, Group> byKey = new HashMap<>();
+
+        Partial(int aggregates, boolean coded) {
+            this.aggregates = aggregates;
+            this.coded = coded;
+        }
+
+        Group group(int code) {
+            Group group = byCode.get(code);
+            if (group == null) {
+                group = new Group(code, null, aggregates);
+                byCode.put(code, group);
+                groups.add(group);
+            }
+            return group;
+        }
+
+        Group group(Object key) {
+            Group group = byKey.get(key);
+            if (group == null) {
+                group = new Group(0, key, aggregates);
+                byKey.put(key, group);
+                groups.add(group);
+            }
+            return group;
+        }
+
+        void merge(Partial other) {
+            for (Group group : other.groups) {
+                Group into = coded ? group(group.code) : group(group.key);
+                into.merge(group);
+            }
+        }
+    }
+
+    // Per aggregate i: the rows counted, and sum, min and max at 3 * i in longs or doubles.
+    private static final class Group {
+        final int code;
+        final Object key;
+        long count;
+        final long[] counts;
+        final long[] longs;
+        final double[] doubles;
+
+        Group(int code, Object key, int aggregates) {
+            this.code = code;
+            this.key = key;
+            this.counts = new long[aggregates];
+            this.longs = new long[3 * aggregates];
+            this.doubles = new double[3 * aggregates];
+        }
+
+        void add(int i, long value) {
+            longs[3 * i] += value;
+            if (counts[i]++ == 0 || value < longs[3 * i + 1]) longs[3 * i + 1] = value;
+            if (counts[i] == 1 || value > longs[3 * i + 2]) longs[3 * i + 2] = value;
+        }
+
+        void add(int i, double value) {
+            doubles[3 * i] += value;
+            if (counts[i]++ == 0 || value < doubles[3 * i + 1]) doubles[3 * i + 1] = value;
+            if (counts[i] == 1 || value > doubles[3 * i + 2]) doubles[3 * i + 2] = value;
+        }
+
+        void merge(Group other) {
+            count += other.count;
+            for (int i = 0; i < counts.length; i++) {
+                if (other.counts[i] == 0) continue;
+                boolean first = counts[i] == 0;
+                counts[i] += other.counts[i];
+                longs[3 * i] += other.longs[3 * i];
+                doubles[3 * i] += other.doubles[3 * i];
+                if (first || other.longs[3 * i + 1] < longs[3 * i + 1]) longs[3 * i + 1] = other.longs[3 * i + 1];
+                if (first || other.longs[3 * i + 2] > longs[3 * i + 2]) longs[3 * i + 2] = other.longs[3 * i + 2];
+                if (first || other.doubles[3 * i + 1] < doubles[3 * i + 1]) doubles[3 * i + 1] = other.doubles[3 * i + 1];
+                if (first || other.doubles[3 * i + 2] > doubles[3 * i + 2]) doubles[3 * i + 2] = other.doubles[3 * i + 2];
+            }
+        }
+    }
+
+    private Query aggregate(Function function, int column) {
+        functions.add(function);
+        aggregateColumns.add(column);
+        return this;
+    }
+
+    private int numeric(String column, boolean dates) {
+        int number = schema.require(column);
+        ColumnType type = schema.columnType(number);
+        if (type != ColumnType.INT && type != ColumnType.DOUBLE && type != ColumnType.MONEY
+                && !(dates && type == ColumnType.DATE))
+            throw new IllegalArgumentException("Column " + column + " is not a number");
+        return number;
+    }
+
+    private int[] columns(String[] names) {
+        int[] columns = new int[names.length];
+        for (int i = 0; i < names.length; i++) columns[i] = schema.require(names[i]);
+        return columns;
+    }
+
+    private int[] allColumns() {
+        int[] columns = new int[schema.size()];
+        for (int i = 0; i < columns.length; i++) columns[i] = i;
+        return columns;
+    }
+
+    // A column's value as its getter returns it: Integer, Double or String.
+    private Object value(int row, int column) {
+        switch (schema.columnType(column)) {
+            case INT:
+                return source.getInt(row, column);
+            case DOUBLE:
+            case MONEY:
+                return source.getDouble(row, column);
+            default:
+                return source.getString(row, column);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object a, Object b) {
+        if (a == null || b == null) return a == null ? (b == null ? 0 : -1) : 1;
+        return ((Comparable) a).compareTo(b);
+    }
+}
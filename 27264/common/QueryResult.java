@@ -0,0 +1,63 @@
+import java.util.Collections;
+import java.util.List;
+
+// The rows a Query returned: group keys then aggregates, or the selected columns. Values are
+// Integer, Long, Double or String; money is in currency units and dates are YYYY-MM-DD.
+public final class QueryResult {
+    private final List<String> columns;
+    private final List<Object[]> rows;
+    private final long elapsedNanos;
+
+    QueryResult(List<String> columns, List<Object[]> rows, long elapsedNanos) {
+        this.columns = Collections.unmodifiableList(columns);
+        this.rows = rows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<String> getColumns() { return columns; }
+    public int size() { return rows.size(); }
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public Object get(int row, int column) {
+        return rows.get(row)[column];
+    }
+
+    public Object get(int row, String column) {
+        int index = columns.indexOf(column);
+        if (index < 0)
+            throw new IllegalArgumentException("No column " + column + " in " + columns);
+        return get(row, index);
+    }
+
+    public Object[] row(int row) {
+        return rows.get(row).clone();
+    }
+
+    // A text table with a header line and one aligned line per row.
+    @Override
+    public String toString() {
+        int[] widths = new int[columns.size()];
+        for (int c = 0; c < widths.length; c++) widths[c] = columns.get(c).length();
+        for (Object[] row : rows) {
+            for (int c = 0; c < widths.length; c++) widths[c] = Math.max(widths[c], text(row[c]).length());
+        }
+        StringBuilder out = new StringBuilder();
+        for (int c = 0; c < widths.length; c++) pad(out, columns.get(c), widths[c], c == widths.length - 1);
+        for (Object[] row : rows) {
+            out.append('\n');
+            for (int c = 0; c < widths.length; c++) pad(out, text(row[c]), widths[c], c == widths.length - 1);
+        }
+        return out.toString();
+    }
+
+    private static String text(Object value) {
+        if (value instanceof Double) return String.format("%.2f", (Double) value);
+        return String.valueOf(value);
+    }
+
+    private static void pad(StringBuilder out, String text, int width, boolean last) {
+        out.append(text);
+        if (last) return;
+        for (int i = text.length(); i < width + 2; i++) out.append(' ');
+    }
+}
@@ -0,0 +1,234 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Rows kept off the Java heap, in RecordFormat's fixed-width layout, in direct buffers of up to
+// 64 MB. Strings go to an off-heap pool as an int byte length followed by UTF-8, and rows hold an
+// int reference to them in 4-byte units, so the pool can reach 8 GB. A *View reads and computes over
+// the rows without building records. Only the dictionary of repeated DICT strings stays on the heap.
+// A replaced string keeps its pool space, and the buffers are freed once the arena is unreachable.
+// Not thread-safe.
+public final class RecordArena implements RowSource, RowSink {
+    private static final int CHUNK_BYTES = 1 << 26;
+    private static final int UNITS_PER_CHUNK = CHUNK_BYTES >>> 2;
+    private static final int MAX_STRING_CHUNKS = Integer.MAX_VALUE / UNITS_PER_CHUNK + 1;
+    private static final int STRING_CACHE_SIZE = 1024;
+
+    private final RecordFormat format;
+    private final int rowShift;
+    private final int rowMask;
+    private ByteBuffer[] rows = new ByteBuffer[0];
+    private ByteBuffer[] strings = new ByteBuffer[0];
+    // next free byte in the last string chunk
+    private int stringPosition = CHUNK_BYTES;
+    private long stringBytes;
+    private final Map<String, Integer> shared = new HashMap<>();
+    private final int[] cachedRefs = new int[STRING_CACHE_SIZE];
+    private final String[] cachedStrings = new String[STRING_CACHE_SIZE];
+    private int size;
+
+    public RecordArena(Schema schema) {
+        this.format = new RecordFormat(schema);
+        int rowsPerChunk = Integer.highestOneBit(Math.max(1, CHUNK_BYTES / format.recordSize));
+        this.rowShift = Integer.numberOfTrailingZeros(rowsPerChunk);
+        this.rowMask = rowsPerChunk - 1;
+        Arrays.fill(cachedRefs, RecordFormat.NO_STRING);
+    }
+
+    @Override
+    public Schema schema() { return format.schema; }
+
+    @Override
+    public int size() { return size; }
+
+    public int recordSize() { return format.recordSize; }
+
+    // Direct memory taken by rows and strings, including the unused end of the last chunks.
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (ByteBuffer chunk : rows) bytes += chunk.capacity();
+        return bytes + (long) strings.length * CHUNK_BYTES;
+    }
+
+    public long stringBytes() { return stringBytes; }
+
+    @Override
+    public int addRow() {
+        if (size == Integer.MAX_VALUE)
+            throw new IllegalStateException("Arena is full");
+        if ((size >>> rowShift) == rows.length) {
+            rows = Arrays.copyOf(rows, rows.length + 1);
+            rows[rows.length - 1] = RecordFormat.order(ByteBuffer.allocateDirect((rowMask + 1) * format.recordSize));
+        }
+        ByteBuffer chunk = rows[size >>> rowShift];
+        int start = (size & rowMask) * format.recordSize;
+        for (int column = 0; column < format.types.length; column++) {
+            switch (format.types[column]) {
+                case DICT:
+                case TEXT:
+                    chunk.putInt(start + format.offsets[column], RecordFormat.NO_STRING);
+                    break;
+                case DATE:
+                    chunk.putInt(start + format.offsets[column] + 4, RecordFormat.NO_STRING);
+                    break;
+                case CODE:
+                    chunk.putInt(start + format.offsets[column] + 1, RecordFormat.NO_STRING);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return size++;
+    }
+
+    @Override
+    public int getInt(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer chunk = rows[row >>> rowShift];
+        if (format.types[column] == ColumnType.CODE) return chunk.get(position);
+        return chunk.getInt(position);
+    }
+
+    @Override
+    public double getDouble(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer chunk = rows[row >>> rowShift];
+        if (format.types[column] == ColumnType.MONEY) return Money.toDouble(chunk.getLong(position));
+        return chunk.getDouble(position);
+    }
+
+    @Override
+    public long getLong(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer chunk = rows[row >>> rowShift];
+        switch (format.types[column]) {
+            case MONEY:
+                return chunk.getLong(position);
+            case DOUBLE:
+                return Money.of(chunk.getDouble(position));
+            case CODE:
+                return chunk.get(position);
+            default:
+                return chunk.getInt(position);
+        }
+    }
+
+    @Override
+    public String getString(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer chunk = rows[row >>> rowShift];
+        switch (format.types[column]) {
+            case DATE:
+                int day = chunk.getInt(position);
+                return Dates.text(day, day == Dates.INVALID ? string(chunk.getInt(position + 4), false) : null);
+            case CODE:
+                byte code = chunk.get(position);
+                String unparsed = code == CodeTable.UNKNOWN ? string(chunk.getInt(position + 1), false) : null;
+                return format.schema.codeTable(column).text(code, unparsed);
+            case DICT:
+                return string(chunk.getInt(position), true);
+            default:
+                return string(chunk.getInt(position), false);
+        }
+    }
+
+    @Override
+    public void setInt(int row, int column, int value) {
+        int position = position(row, column);
+        if (format.types[column] == ColumnType.CODE) {
+            rows[row >>> rowShift].put(position, (byte) value);
+        } else {
+            rows[row >>> rowShift].putInt(position, value);
+        }
+    }
+
+    @Override
+    public void setDouble(int row, int column, double value) {
+        int position = position(row, column);
+        if (format.types[column] == ColumnType.MONEY) {
+            rows[row >>> rowShift].putLong(position, Money.of(value));
+        } else {
+            rows[row >>> rowShift].putDouble(position, value);
+        }
+    }
+
+    @Override
+    public void setLong(int row, int column, long value) {
+        rows[row >>> rowShift].putLong(position(row, column), value);
+    }
+
+    @Override
+    public void setString(int row, int column, String value) {
+        int position = position(row, column);
+        ByteBuffer chunk = rows[row >>> rowShift];
+        switch (format.types[column]) {
+            case DATE:
+                int day = Dates.parse(value);
+                chunk.putInt(position, day);
+                chunk.putInt(position + 4, day == Dates.INVALID ? store(value) : RecordFormat.NO_STRING);
+                break;
+            case CODE:
+                byte code = format.schema.codeTable(column).parse(value);
+                chunk.put(position, code);
+                chunk.putInt(position + 1, code == CodeTable.UNKNOWN ? store(value) : RecordFormat.NO_STRING);
+                break;
+            case DICT:
+                Integer ref = value == null ? null : shared.get(value);
+                if (ref == null) {
+                    ref = store(value);
+                    if (value != null) shared.put(value, ref);
+                }
+                chunk.putInt(position, ref);
+                break;
+            default:
+                chunk.putInt(position, store(value));
+                break;
+        }
+    }
+
+    private int position(int row, int column) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        return (row & rowMask) * format.recordSize + format.offsets[column];
+    }
+
+    private int store(String value) {
+        if (value == null) return RecordFormat.NO_STRING;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = (4 + bytes.length + 3) & ~3;
+        if (length > CHUNK_BYTES)
+            throw new IllegalArgumentException("String of " + bytes.length + " bytes is too long for the arena");
+        if (stringPosition + length > CHUNK_BYTES) {
+            if (strings.length == MAX_STRING_CHUNKS)
+                throw new IllegalStateException("String pool is full");
+            strings = Arrays.copyOf(strings, strings.length + 1);
+            strings[strings.length - 1] = RecordFormat.order(ByteBuffer.allocateDirect(CHUNK_BYTES));
+            stringPosition = 0;
+        }
+        ByteBuffer chunk = strings[strings.length - 1];
+        chunk.putInt(stringPosition, bytes.length).put(stringPosition + 4, bytes);
+        int ref = (strings.length - 1) * UNITS_PER_CHUNK + (stringPosition >>> 2);
+        stringPosition += length;
+        stringBytes += length;
+        return ref;
+    }
+
+    // DICT strings are shared in the pool, so the last decoded string per slot is kept.
+    private String string(int ref, boolean cached) {
+        if (ref == RecordFormat.NO_STRING) return null;
+        int slot = (ref ^ (ref >>> 10)) & (STRING_CACHE_SIZE - 1);
+        if (cached && cachedRefs[slot] == ref) return cachedStrings[slot];
+        ByteBuffer chunk = strings[ref / UNITS_PER_CHUNK];
+        int offset = (ref % UNITS_PER_CHUNK) << 2;
+        byte[] bytes = new byte[chunk.getInt(offset)];
+        chunk.get(offset + 4, bytes);
+        String value = new String(bytes, StandardCharsets.UTF_8);
+        if (cached) {
+            cachedRefs[slot] = ref;
+            cachedStrings[slot] = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,31 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("records.RecordConstruction")
+@Label("Record Construction")
+@Category({ "Records", "Construction" })
+@Description("Building one final record through its constructor chain")
+@StackTrace(false)
+public final class RecordConstructionEvent extends Event {
+    @Label("Domain")
+    String domain;
+
+    @Label("Record Type")
+    String recordType;
+
+    @Label("Record ID")
+    int recordId;
+
+    // Call after begin() once the record is built; costs nothing unless a recording wants the event.
+    public void finish(String domain, Object record, int recordId) {
+        if (!shouldCommit()) return;
+        this.domain = domain;
+        this.recordType = record.getClass().getSimpleName();
+        this.recordId = recordId;
+        commit();
+    }
+}
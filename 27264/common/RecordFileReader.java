@@ -0,0 +1,172 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// Maps a record file read-only and reads each value straight from the mapped bytes, so a *View
+// over it scans records without deserializing them. Rows are mapped in segments of up to 1 GB.
+// The row count is fixed when the file is opened.
+public final class RecordFileReader implements RowSource, Closeable {
+    private static final long SEGMENT_BYTES = 1L << 30;
+    private static final int STRING_CACHE_SIZE = 1024;
+
+    private final RecordFormat format;
+    private final FileChannel records;
+    private final FileChannel heapChannel;
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final ByteBuffer heap;
+    private final int size;
+    private final int[] cachedOffsets = new int[STRING_CACHE_SIZE];
+    private final String[] cachedStrings = new String[STRING_CACHE_SIZE];
+    // every DICT string decoded so far by heap offset, once shareStrings() is called
+    private IntIndex<String> shared;
+
+    private RecordFileReader(Path path, RecordFormat format, FileChannel records, FileChannel heapChannel)
+            throws IOException {
+        this.format = format;
+        this.records = records;
+        this.heapChannel = heapChannel;
+        format.verify(records, path);
+        long rows = (records.size() - format.headerLength()) / format.recordSize;
+        if (rows > Integer.MAX_VALUE)
+            throw new IOException(path + " holds more than " + Integer.MAX_VALUE + " rows");
+        this.size = (int) rows;
+        int rowsPerSegment = Integer.highestOneBit((int) Math.max(1, SEGMENT_BYTES / format.recordSize));
+        this.segmentShift = Integer.numberOfTrailingZeros(rowsPerSegment);
+        this.segmentMask = rowsPerSegment - 1;
+        this.segments = new ByteBuffer[(size + rowsPerSegment - 1) / rowsPerSegment];
+        for (int segment = 0; segment < segments.length; segment++) {
+            long first = (long) segment * rowsPerSegment;
+            long count = Math.min(rowsPerSegment, size - first);
+            segments[segment] = RecordFormat.order(records.map(FileChannel.MapMode.READ_ONLY,
+                format.headerLength() + first * format.recordSize, count * format.recordSize));
+        }
+        this.heap = RecordFormat.order(heapChannel.map(FileChannel.MapMode.READ_ONLY, 0, heapChannel.size()));
+        Arrays.fill(cachedOffsets, RecordFormat.NO_STRING);
+    }
+
+    // Checks that the file was written with the same schema, column for column.
+    public static RecordFileReader open(Path path, Schema schema) throws IOException {
+        FileChannel records = FileChannel.open(path, StandardOpenOption.READ);
+        FileChannel heap = null;
+        try {
+            heap = FileChannel.open(RecordFormat.heapPath(path), StandardOpenOption.READ);
+            return new RecordFileReader(path, new RecordFormat(schema), records, heap);
+        } catch (IOException | RuntimeException e) {
+            records.close();
+            if (heap != null) heap.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public Schema schema() { return format.schema; }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public int getInt(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer segment = segments[row >>> segmentShift];
+        if (format.types[column] == ColumnType.CODE) return segment.get(position);
+        return segment.getInt(position);
+    }
+
+    @Override
+    public double getDouble(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer segment = segments[row >>> segmentShift];
+        if (format.types[column] == ColumnType.MONEY) return Money.toDouble(segment.getLong(position));
+        return segment.getDouble(position);
+    }
+
+    @Override
+    public long getLong(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer segment = segments[row >>> segmentShift];
+        switch (format.types[column]) {
+            case MONEY:
+                return segment.getLong(position);
+            case DOUBLE:
+                return Money.of(segment.getDouble(position));
+            case CODE:
+                return segment.get(position);
+            default:
+                return segment.getInt(position);
+        }
+    }
+
+    @Override
+    public String getString(int row, int column) {
+        int position = position(row, column);
+        ByteBuffer segment = segments[row >>> segmentShift];
+        switch (format.types[column]) {
+            case DATE:
+                int day = segment.getInt(position);
+                return Dates.text(day, day == Dates.INVALID ? string(segment.getInt(position + 4), false) : null);
+            case CODE:
+                byte code = segment.get(position);
+                String unparsed = code == CodeTable.UNKNOWN ? string(segment.getInt(position + 1), false) : null;
+                return format.schema.codeTable(column).text(code, unparsed);
+            case DICT:
+                return string(segment.getInt(position), true);
+            default:
+                return string(segment.getInt(position), false);
+        }
+    }
+
+    // Decodes each distinct DICT string once and returns that same String from then on, for a
+    // reader whose strings are kept, such as records restored from a snapshot.
+    void shareStrings() {
+        if (shared == null) shared = new IntIndex<>();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            heapChannel.close();
+        } finally {
+            records.close();
+        }
+    }
+
+    private int position(int row, int column) {
+        if (row < 0 || row >= size)
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        return (row & segmentMask) * format.recordSize + format.offsets[column];
+    }
+
+    // DICT strings are shared in the heap, so the last decoded string per slot is kept.
+    private String string(int offset, boolean cached) {
+        if (offset == RecordFormat.NO_STRING) return null;
+        if (cached && shared != null) {
+            String value = shared.get(offset);
+            if (value == null) {
+                value = decode(offset);
+                shared.put(offset, value);
+            }
+            return value;
+        }
+        int slot = (offset ^ (offset >>> 10)) & (STRING_CACHE_SIZE - 1);
+        if (cached && cachedOffsets[slot] == offset) return cachedStrings[slot];
+        String value = decode(offset);
+        if (cached) {
+            cachedOffsets[slot] = offset;
+            cachedStrings[slot] = value;
+        }
+        return value;
+    }
+
+    private String decode(int offset) {
+        byte[] bytes = new byte[heap.getInt(offset)];
+        heap.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
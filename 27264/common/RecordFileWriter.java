@@ -0,0 +1,227 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Appends rows to a record file in RecordFormat. Rows are buffered and only the rows added since
+// the last flush can still be set. Repeated DICT strings are stored in the heap once.
+public final class RecordFileWriter implements RowSink, Closeable {
+    public static final int DEFAULT_BUFFER_ROWS = 1024;
+
+    private final RecordFormat format;
+    private final FileChannel records;
+    private final FileChannel heap;
+    private final ByteBuffer rows;
+    private ByteBuffer strings;
+    private final Map<String, Integer> shared = new HashMap<>();
+    private long heapSize;
+    private int size;
+    private int flushed;
+
+    private RecordFileWriter(Path path, RecordFormat format, FileChannel records, FileChannel heap, int bufferRows)
+            throws IOException {
+        this.format = format;
+        this.records = records;
+        this.heap = heap;
+        this.rows = RecordFormat.order(ByteBuffer.allocate(format.recordSize * bufferRows));
+        this.strings = RecordFormat.order(ByteBuffer.allocate(64 * 1024));
+        if (records.size() == 0) {
+            records.write(ByteBuffer.wrap(format.header), 0);
+        } else {
+            format.verify(records, path);
+        }
+        long complete = (records.size() - format.headerLength()) / format.recordSize;
+        if (complete > Integer.MAX_VALUE)
+            throw new IOException("Record file holds more than " + Integer.MAX_VALUE + " rows");
+        this.size = (int) complete;
+        this.flushed = size;
+        records.truncate(format.headerLength() + complete * format.recordSize);
+        records.position(records.size());
+        this.heapSize = heap.size();
+        heap.position(heapSize);
+    }
+
+    // Creates the file, or appends to it after checking that it was written with the same schema.
+    // A partly written last row, for example after a crash, is dropped.
+    public static RecordFileWriter open(Path path, Schema schema) throws IOException {
+        return open(path, schema, DEFAULT_BUFFER_ROWS);
+    }
+
+    public static RecordFileWriter open(Path path, Schema schema, int bufferRows) throws IOException {
+        FileChannel records = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        FileChannel heap = null;
+        try {
+            heap = FileChannel.open(RecordFormat.heapPath(path), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            return new RecordFileWriter(path, new RecordFormat(schema), records, heap, Math.max(1, bufferRows));
+        } catch (IOException | RuntimeException e) {
+            records.close();
+            if (heap != null) heap.close();
+            throw e;
+        }
+    }
+
+    // Deletes a record file and its string heap.
+    public static void delete(Path path) throws IOException {
+        Files.deleteIfExists(path);
+        Files.deleteIfExists(RecordFormat.heapPath(path));
+    }
+
+    public static long fileSize(Path path) throws IOException {
+        return Files.size(path) + Files.size(RecordFormat.heapPath(path));
+    }
+
+    @Override
+    public Schema schema() { return format.schema; }
+
+    public int size() { return size; }
+
+    @Override
+    public int addRow() {
+        if (rows.position() == rows.capacity()) flush();
+        int start = rows.position();
+        Arrays.fill(rows.array(), start, start + format.recordSize, (byte) 0);
+        rows.position(start + format.recordSize);
+        for (int column = 0; column < format.types.length; column++) {
+            switch (format.types[column]) {
+                case DICT:
+                case TEXT:
+                    rows.putInt(start + format.offsets[column], RecordFormat.NO_STRING);
+                    break;
+                case DATE:
+                    rows.putInt(start + format.offsets[column] + 4, RecordFormat.NO_STRING);
+                    break;
+                case CODE:
+                    rows.putInt(start + format.offsets[column] + 1, RecordFormat.NO_STRING);
+                    break;
+                default:
+                    break;
+            }
+        }
+        return size++;
+    }
+
+    @Override
+    public void setInt(int row, int column, int value) {
+        if (format.types[column] == ColumnType.CODE) {
+            rows.put(position(row, column), (byte) value);
+        } else {
+            rows.putInt(position(row, column), value);
+        }
+    }
+
+    @Override
+    public void setDouble(int row, int column, double value) {
+        if (format.types[column] == ColumnType.MONEY) {
+            rows.putLong(position(row, column), Money.of(value));
+        } else {
+            rows.putDouble(position(row, column), value);
+        }
+    }
+
+    @Override
+    public void setLong(int row, int column, long value) {
+        rows.putLong(position(row, column), value);
+    }
+
+    @Override
+    public void setString(int row, int column, String value) {
+        int position = position(row, column);
+        switch (format.types[column]) {
+            case DATE:
+                int day = Dates.parse(value);
+                rows.putInt(position, day);
+                rows.putInt(position + 4, day == Dates.INVALID ? store(value) : RecordFormat.NO_STRING);
+                break;
+            case CODE:
+                byte code = format.schema.codeTable(column).parse(value);
+                rows.put(position, code);
+                rows.putInt(position + 1, code == CodeTable.UNKNOWN ? store(value) : RecordFormat.NO_STRING);
+                break;
+            case DICT:
+                Integer offset = value == null ? null : shared.get(value);
+                if (offset == null) {
+                    offset = store(value);
+                    if (value != null) shared.put(value, offset);
+                }
+                rows.putInt(position, offset);
+                break;
+            default:
+                rows.putInt(position, store(value));
+                break;
+        }
+    }
+
+    // Writes buffered strings before the rows that refer to them.
+    public void flush() {
+        flushStrings();
+        try {
+            rows.flip();
+            while (rows.hasRemaining()) records.write(rows);
+            rows.clear();
+            flushed = size;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Flushes and forces both files to the storage device.
+    public void sync() throws IOException {
+        flush();
+        heap.force(false);
+        records.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            try {
+                heap.close();
+            } finally {
+                records.close();
+            }
+        }
+    }
+
+    private int position(int row, int column) {
+        if (row < flushed || row >= size)
+            throw new IllegalStateException("Row " + row + " is not in the write buffer");
+        return (row - flushed) * format.recordSize + format.offsets[column];
+    }
+
+    private int store(String value) {
+        if (value == null) return RecordFormat.NO_STRING;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (heapSize + 4 + bytes.length > Integer.MAX_VALUE)
+            throw new IllegalStateException("String heap is full");
+        if (strings.remaining() < 4 + bytes.length) {
+            flushStrings();
+            if (strings.capacity() < 4 + bytes.length)
+                strings = RecordFormat.order(ByteBuffer.allocate(4 + bytes.length));
+        }
+        int offset = (int) heapSize;
+        strings.putInt(bytes.length).put(bytes);
+        heapSize += 4 + bytes.length;
+        return offset;
+    }
+
+    private void flushStrings() {
+        try {
+            strings.flip();
+            while (strings.hasRemaining()) heap.write(strings);
+            strings.clear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
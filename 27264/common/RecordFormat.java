@@ -0,0 +1,88 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// Fixed-width little-endian rows after a header that records the schema. Strings live in a
+// separate heap file as an int byte length followed by UTF-8, and rows hold their int offset
+// (NO_STRING for null). Column widths: INT 4, DOUBLE 8, MONEY 8 (cents), DICT and TEXT 4
+// (offset), DATE 8 (day, offset of unparsed text), CODE 5 (code, offset of unparsed text).
+final class RecordFormat {
+    static final int MAGIC = 0x31434552;
+    static final int VERSION = 1;
+    static final int NO_STRING = -1;
+    static final String HEAP_SUFFIX = ".heap";
+
+    final Schema schema;
+    final ColumnType[] types;
+    final int[] offsets;
+    final int recordSize;
+    final byte[] header;
+
+    RecordFormat(Schema schema) {
+        this.schema = schema;
+        this.types = new ColumnType[schema.size()];
+        this.offsets = new int[schema.size()];
+        int offset = 0;
+        for (int column = 0; column < schema.size(); column++) {
+            types[column] = schema.columnType(column);
+            offsets[column] = offset;
+            offset += width(types[column]);
+        }
+        this.recordSize = offset;
+        this.header = header(schema, recordSize);
+    }
+
+    static Path heapPath(Path path) {
+        return path.resolveSibling(path.getFileName() + HEAP_SUFFIX);
+    }
+
+    static ByteBuffer order(ByteBuffer buffer) {
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    int headerLength() { return header.length; }
+
+    void verify(FileChannel channel, Path path) throws IOException {
+        ByteBuffer stored = ByteBuffer.allocate(header.length);
+        while (stored.hasRemaining() && channel.read(stored, stored.position()) > 0) {
+        }
+        if (stored.hasRemaining() || !Arrays.equals(stored.array(), header))
+            throw new IOException(path + " does not hold " + schema.getName() + " records in this layout");
+    }
+
+    private static int width(ColumnType type) {
+        switch (type) {
+            case DOUBLE:
+            case MONEY:
+            case DATE:
+                return 8;
+            case CODE:
+                return 5;
+            default:
+                return 4;
+        }
+    }
+
+    private static byte[] header(Schema schema, int recordSize) {
+        byte[] name = schema.getName().getBytes(StandardCharsets.UTF_8);
+        int length = 24 + name.length;
+        byte[][] columnNames = new byte[schema.size()][];
+        for (int column = 0; column < schema.size(); column++) {
+            columnNames[column] = schema.columnName(column).getBytes(StandardCharsets.UTF_8);
+            length += 5 + columnNames[column].length;
+        }
+        length = (length + 7) & ~7;
+        ByteBuffer header = order(ByteBuffer.allocate(length));
+        header.putInt(MAGIC).putInt(VERSION).putInt(length).putInt(recordSize).putInt(schema.size());
+        header.putInt(name.length).put(name);
+        for (int column = 0; column < schema.size(); column++) {
+            header.put((byte) schema.columnType(column).ordinal());
+            header.putInt(columnNames[column].length).put(columnNames[column]);
+        }
+        return header.array();
+    }
+}
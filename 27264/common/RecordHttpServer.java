@@ -0,0 +1,270 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// HTTP front end for the programs loaded by a RecordServer, on the JDK's built-in server.
+// POST /<program> takes one record as a JSON object or a form body keyed by the constructor's
+// parameter names (GET /<program> lists them), or a JSON array of records. One record answers
+// {"id":..,"name":..,"result":..} with 200, or {"error":..} with 422 when it is rejected; an
+// array answers 200 with every record's outcome in order.
+public final class RecordHttpServer {
+    public static final int DEFAULT_PORT = 27265;
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String FORM = "application/x-www-form-urlencoded";
+
+    static {
+        // The server writes headers and body separately; with Nagle's algorithm on, every keep-alive
+        // reply waits out the client's delayed ACK (about 40 ms).
+        if (System.getProperty("sun.net.httpserver.nodelay") == null)
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    public RecordHttpServer(RecordServer programs, int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        ExecutorService virtual = RecordServer.virtualThreadExecutor();
+        this.virtualThreads = virtual != null;
+        this.executor = virtual != null ? virtual
+            : Executors.newFixedThreadPool(Math.max(8, Runtime.getRuntime().availableProcessors() * 4));
+        for (String name : programs.programNames()) {
+            RecordServer.Program program = programs.program(name);
+            server.createContext("/" + name, exchange -> handle(program, exchange));
+        }
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                reply(exchange, 404, error("Unknown program; try one of " + String.join(", ", programs.programNames())));
+            }
+        });
+        server.setExecutor(executor);
+    }
+
+    public void start() { server.start(); }
+
+    public int getPort() { return server.getAddress().getPort(); }
+
+    public boolean usesVirtualThreads() { return virtualThreads; }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(RecordServer.Program program, HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().equals("/" + program.name)) {
+                reply(exchange, 404, error("Unknown path " + exchange.getRequestURI().getPath()));
+            } else if (exchange.getRequestMethod().equals("GET")) {
+                reply(exchange, 200, fields(program));
+            } else if (!exchange.getRequestMethod().equals("POST")) {
+                exchange.getResponseHeaders().set("Allow", "GET, POST");
+                reply(exchange, 405, error("Use POST to send records"));
+            } else {
+                post(program, exchange);
+            }
+        } catch (RuntimeException e) {
+            reply(exchange, 500, error(e.getClass().getSimpleName() + ": " + e.getMessage()));
+        }
+    }
+
+    private void post(RecordServer.Program program, HttpExchange exchange) throws IOException {
+        String body = read(exchange.getRequestBody());
+        String type = exchange.getRequestHeaders().getFirst("Content-Type");
+        Object records;
+        try {
+            records = isForm(type, body) ? form(body) : Json.parse(body);
+        } catch (IllegalArgumentException e) {
+            reply(exchange, 400, error("Malformed body: " + e.getMessage()));
+            return;
+        }
+
+        StringBuilder json = new StringBuilder();
+        ParallelBatch.Row row = program.borrow();
+        try {
+            if (records instanceof Map) {
+                boolean accepted = process(program, row, (Map<?, ?>) records, json);
+                reply(exchange, accepted ? 200 : 422, json.toString());
+            } else if (records instanceof List) {
+                int accepted = 0;
+                List<?> list = (List<?>) records;
+                json.append("{\"results\":[");
+                for (int i = 0; i < list.size(); i++) {
+                    if (i > 0) json.append(',');
+                    Object record = list.get(i);
+                    if (!(record instanceof Map)) {
+                        json.append(error("Record " + i + " is not an object"));
+                    } else if (process(program, row, (Map<?, ?>) record, json)) {
+                        accepted++;
+                    }
+                }
+                json.append("],\"accepted\":").append(accepted)
+                    .append(",\"rejected\":").append(list.size() - accepted).append('}');
+                reply(exchange, 200, json.toString());
+            } else {
+                reply(exchange, 400, error("Expected a record object or an array of records"));
+            }
+        } finally {
+            program.release(row);
+        }
+    }
+
+    // Appends the record's outcome as a JSON object and returns whether it was accepted.
+    private static boolean process(RecordServer.Program program, ParallelBatch.Row row, Map<?, ?> record,
+            StringBuilder json) {
+        long start = Metrics.now();
+        String line;
+        try {
+            line = line(program.fields, record);
+        } catch (IllegalArgumentException e) {
+            json.append(error(e.getMessage()));
+            return false;
+        }
+        StringBuilder out = new StringBuilder();
+        String rejected = row.process(line, out);
+        program.latency.recordSince(start);
+        if (rejected != null) {
+            json.append(error(rejected));
+            return false;
+        }
+        // The row wrote "id|name|result"; names cannot hold '|', as line() rejects it.
+        int first = out.indexOf("|");
+        int last = out.lastIndexOf("|");
+        json.append("{\"id\":").append(out, 0, first).append(",\"name\":");
+        Json.appendString(json, out.substring(first + 1, last));
+        json.append(",\"result\":").append(out, last + 1, out.length()).append('}');
+        return true;
+    }
+
+    // The record as a batch line, with the values in constructor order.
+    static String line(String[] fields, Map<?, ?> record) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (!record.containsKey(fields[i]))
+                throw new IllegalArgumentException("Missing field: " + fields[i]);
+            Object value = record.get(fields[i]);
+            if (value instanceof Map || value instanceof List)
+                throw new IllegalArgumentException("Field " + fields[i] + " must be a single value");
+            String text = value == null ? "" : value.toString();
+            for (int c = 0; c < text.length(); c++) {
+                char ch = text.charAt(c);
+                if (ch == '|' || ch == '\n' || ch == '\r')
+                    throw new IllegalArgumentException("Field " + fields[i] + " must not contain '|' or line breaks");
+            }
+            if (i > 0) line.append('|');
+            line.append(text);
+        }
+        // every field is present, so any extra key is an unknown one
+        if (record.size() > fields.length) {
+            for (Object key : record.keySet()) {
+                if (!contains(fields, key))
+                    throw new IllegalArgumentException("Unknown field: " + key);
+            }
+        }
+        return line.toString();
+    }
+
+    private static boolean contains(String[] fields, Object key) {
+        for (String field : fields) {
+            if (field.equals(key)) return true;
+        }
+        return false;
+    }
+
+    // Clients such as curl label every body as a form by default, so a body that starts like JSON
+    // is read as JSON whatever its Content-Type says.
+    private static boolean isForm(String type, String body) {
+        if (type == null || !type.startsWith(FORM)) return false;
+        String start = body.stripLeading();
+        return !start.startsWith("{") && !start.startsWith("[");
+    }
+
+    private static Map<String, Object> form(String body) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        if (body.isEmpty()) return record;
+        for (String pair : body.split("&")) {
+            int equals = pair.indexOf('=');
+            String name = equals < 0 ? pair : pair.substring(0, equals);
+            String value = equals < 0 ? "" : pair.substring(equals + 1);
+            record.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+
+    private static String fields(RecordServer.Program program) {
+        StringBuilder json = new StringBuilder("{\"program\":");
+        Json.appendString(json, program.name);
+        json.append(",\"fields\":[");
+        for (int i = 0; i < program.fields.length; i++) {
+            if (i > 0) json.append(',');
+            Json.appendString(json, program.fields[i]);
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder("{\"error\":");
+        Json.appendString(json, message);
+        return json.append('}').toString();
+    }
+
+    private static String read(InputStream in) throws IOException {
+        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    private static void reply(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // java -cp common RecordHttpServer [--port <port>] [--warmup <rows>] [folder with QuestionN]
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        int warmup = 0;
+        Path root = Paths.get(".");
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--port") && i + 1 < args.length) {
+                    port = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--warmup") && i + 1 < args.length) {
+                    warmup = Integer.parseInt(args[++i]);
+                } else {
+                    root = Paths.get(args[i]);
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("RecordHttpServer - Usage: java RecordHttpServer [--port <port>] [--warmup <rows>] [folder]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            RecordServer programs = new RecordServer(root);
+            if (warmup > 0) programs.warmUp(warmup);
+            RecordHttpServer server = new RecordHttpServer(programs, port);
+            server.start();
+            System.out.println("RecordHttpServer - Listening on http://127.0.0.1:" + server.getPort() + "/ on "
+                + (server.usesVirtualThreads() ? "virtual" : "platform") + " threads");
+        } catch (IOException e) {
+            System.out.println("RecordHttpServer - Error: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+import java.util.function.BiConsumer;
+
+// Lookup indexes over one program's records: ids in an IntIndex and each chosen string column in
+// a StringIndex. Added records are bound back to the indexes, and their setters move them from the
+// old key to the new one, so an index never holds a stale key. Like the records, not thread-safe.
+public final class RecordIndexes<R> {
+    private final ColumnAccessors<R> columns;
+    private final BiConsumer<R, RecordIndexes<R>> binder;
+    private final int idColumn;
+    private final IntIndex<R> ids;
+    // by column number, null for columns not indexed
+    private final StringIndex<R>[] strings;
+
+    // binder sets or clears a record's indexes; null for records that cannot change.
+    @SuppressWarnings("unchecked")
+    public RecordIndexes(ColumnAccessors<R> columns, BiConsumer<R, RecordIndexes<R>> binder,
+                         int expectedSize, String... indexed) {
+        Schema schema = columns.getSchema();
+        this.columns = columns;
+        this.binder = binder;
+        this.idColumn = schema.require("id");
+        this.ids = new IntIndex<>(expectedSize);
+        this.strings = (StringIndex<R>[]) new StringIndex<?>[schema.size()];
+        for (String name : indexed) {
+            int column = schema.require(name);
+            ColumnType type = schema.columnType(column);
+            if (type == ColumnType.INT || type == ColumnType.DOUBLE || type == ColumnType.MONEY)
+                throw new IllegalArgumentException("Column " + name + " is not a string column");
+            strings[column] = new StringIndex<>(name, expectedSize);
+        }
+    }
+
+    public int size() { return ids.size(); }
+
+    public R byId(int id) { return ids.get(id); }
+
+    public StringIndex<R> index(String column) {
+        int number = columns.getSchema().indexOf(column);
+        if (number < 0 || strings[number] == null)
+            throw new IllegalArgumentException("Column " + column + " is not indexed");
+        return strings[number];
+    }
+
+    public R first(String column, String key) { return index(column).first(key); }
+
+    // Fails on an id already indexed for another record; a record already indexed is left as is.
+    public void add(R record) {
+        int id = columns.getInt(record, idColumn);
+        R other = ids.get(id);
+        if (other == record) return;
+        if (other != null)
+            throw new IllegalArgumentException("Duplicate id " + id + " in " + columns.getSchema().getName());
+        ids.put(id, record);
+        for (int column = 0; column < strings.length; column++) {
+            if (strings[column] != null) strings[column].add(key(record, column), record);
+        }
+        if (binder != null) binder.accept(record, this);
+    }
+
+    public boolean remove(R record) {
+        int id = columns.getInt(record, idColumn);
+        if (ids.get(id) != record) return false;
+        ids.remove(id);
+        for (int column = 0; column < strings.length; column++) {
+            if (strings[column] != null) strings[column].remove(key(record, column), record);
+        }
+        if (binder != null) binder.accept(record, null);
+        return true;
+    }
+
+    // Called by a bound record's setId before the id changes. Fails on an id indexed for another
+    // record, before the record, its journal or the indexes are touched.
+    public void changingId(R record, int id) {
+        R other = ids.get(id);
+        if (other != null && other != record)
+            throw new IllegalArgumentException("Duplicate id " + id + " in " + columns.getSchema().getName());
+    }
+
+    // Called by a bound record's setter before the field changes.
+    public void changing(R record, int column) {
+        if (column == idColumn) {
+            int id = columns.getInt(record, idColumn);
+            if (ids.get(id) == record) ids.remove(id);
+        } else if (strings[column] != null) {
+            strings[column].remove(key(record, column), record);
+        }
+    }
+
+    // Called after it changed.
+    public void changed(R record, int column) {
+        if (column == idColumn) {
+            ids.put(columns.getInt(record, idColumn), record);
+        } else if (strings[column] != null) {
+            strings[column].add(key(record, column), record);
+        }
+    }
+
+    private String key(R record, int column) {
+        return (String) columns.get(record, column);
+    }
+}
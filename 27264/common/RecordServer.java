@@ -0,0 +1,289 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.net.InetAddress;
+import java.net.MalformedURLException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Keeps all ten programs loaded in one JVM and answers one record per line, so callers pay JVM
+// startup and JIT warm-up once rather than per record. A request is "<program> <record>", with
+// the record written as a line of the program's batch file; the reply is "OK <id>|<name>|<result>"
+// or "ERR <reasons>". PING, PROGRAMS, STATS and QUIT are also understood. The programs' classes
+// share names such as Entity, so each QuestionN folder gets its own URLClassLoader, with common/
+// (this class's loader) as the parent.
+public final class RecordServer {
+    public static final int DEFAULT_PORT = 27264;
+
+    // request name, folder, class name prefix
+    private static final String[][] PROGRAMS = {
+        { "hospital", "Question1", "Hospital" },
+        { "school", "Question2", "School" },
+        { "payroll", "Question3", "Payroll" },
+        { "reservation", "Question4", "Reservation" },
+        { "rental", "Question5", "Rental" },
+        { "banking", "Question6", "Banking" },
+        { "realestate", "Question7", "RealEstate" },
+        { "library", "Question8", "Library" },
+        { "airline", "Question9", "Airline" },
+        { "shopping", "Question10", "Shopping" }
+    };
+
+    static final class Program {
+        final String name;
+        final ClassLoader loader;
+        final String prefix;
+        final Constructor<?> rows;
+        final String[] fields;
+        final LatencyHistogram latency;
+        private final ConcurrentLinkedQueue<ParallelBatch.Row> idle = new ConcurrentLinkedQueue<>();
+
+        Program(String name, ClassLoader loader, String prefix) throws ReflectiveOperationException {
+            this.name = name;
+            this.loader = loader;
+            this.prefix = prefix;
+            this.rows = accessibleConstructor(prefix + "BatchLoader");
+            Field fields = rows.getDeclaringClass().getDeclaredField("FIELDS");
+            fields.setAccessible(true);
+            this.fields = ((String[]) fields.get(null)).clone();
+            this.latency = Metrics.histogram(prefix + ".request");
+        }
+
+        // Rows keep parsing state, so threads that do not own a session borrow one from a pool.
+        ParallelBatch.Row borrow() {
+            ParallelBatch.Row row = idle.poll();
+            return row != null ? row : newRow();
+        }
+
+        void release(ParallelBatch.Row row) {
+            idle.offer(row);
+        }
+
+        ParallelBatch.Row newRow() {
+            try {
+                return (ParallelBatch.Row) rows.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Cannot create a " + prefix + "BatchLoader", e);
+            }
+        }
+
+        SyntheticData.Domain newGenerator() throws ReflectiveOperationException {
+            return (SyntheticData.Domain) accessibleConstructor(prefix + "Generator").newInstance();
+        }
+
+        // The programs' classes are package-private, and each loader has its own default package.
+        private Constructor<?> accessibleConstructor(String className) throws ReflectiveOperationException {
+            Constructor<?> constructor = Class.forName(className, true, loader).getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        }
+    }
+
+    private final Map<String, Program> programs = new LinkedHashMap<>();
+
+    // root holds the compiled QuestionN folders; folders that are missing are left out.
+    public RecordServer(Path root) throws IOException {
+        ClassLoader parent = RecordServer.class.getClassLoader();
+        for (String[] program : PROGRAMS) {
+            Path folder = root.resolve(program[1]);
+            if (!Files.isRegularFile(folder.resolve(program[2] + "BatchLoader.class"))) continue;
+            try {
+                URLClassLoader loader = new URLClassLoader(program[1], new URL[] { folder.toUri().toURL() }, parent);
+                programs.put(program[0], new Program(program[0], loader, program[2]));
+            } catch (MalformedURLException e) {
+                throw new IOException("Cannot load " + folder, e);
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("Cannot load " + program[2] + "BatchLoader from " + folder, e);
+            }
+        }
+        if (programs.isEmpty())
+            throw new IOException("No compiled programs found under " + root.toAbsolutePath());
+    }
+
+    // null when the program is not loaded
+    Program program(String name) {
+        return programs.get(name);
+    }
+
+    Collection<String> programNames() {
+        return programs.keySet();
+    }
+
+    // Runs rowsPerProgram generated rows through every program so the JIT has compiled the
+    // validation and compute paths before the first real request.
+    public void warmUp(int rowsPerProgram) throws IOException {
+        SyntheticData data = new SyntheticData(1, 1, SyntheticData.DEFAULT_INVALID_RATE, SyntheticData.DEFAULT_SKEW);
+        StringBuilder out = new StringBuilder();
+        for (Program program : programs.values()) {
+            ByteArrayOutputStream rows = new ByteArrayOutputStream();
+            try {
+                data.generate(program.newGenerator(), rowsPerProgram, rows);
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("Cannot create a " + program.prefix + "Generator", e);
+            }
+            ParallelBatch.Row row = program.newRow();
+            BufferedReader lines = new BufferedReader(new StringReader(rows.toString(StandardCharsets.UTF_8)));
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                out.setLength(0);
+                row.process(line, out);
+            }
+        }
+        Metrics.reset();
+    }
+
+    // Answers requests until QUIT or the end of the input. Rows are per session, so a session
+    // must not be shared between threads. Replies are flushed once no more requests are waiting.
+    public void serve(BufferedReader in, Writer out) throws IOException {
+        Map<String, ParallelBatch.Row> rows = new HashMap<>();
+        StringBuilder reply = new StringBuilder();
+        for (String line = in.readLine(); line != null; line = in.readLine()) {
+            if (line.equals("QUIT")) break;
+            reply.setLength(0);
+            handle(line, rows, reply);
+            out.append(reply).append('\n');
+            if (!in.ready()) out.flush();
+        }
+        out.flush();
+    }
+
+    private void handle(String line, Map<String, ParallelBatch.Row> rows, StringBuilder reply) {
+        long start = Metrics.now();
+        int space = line.indexOf(' ');
+        String name = space < 0 ? line : line.substring(0, space);
+        Program program = programs.get(name);
+        if (program == null) {
+            command(name, space < 0, reply);
+            return;
+        }
+        ParallelBatch.Row row = rows.get(name);
+        if (row == null) {
+            row = program.newRow();
+            rows.put(name, row);
+        }
+        reply.append("OK ");
+        String rejected;
+        try {
+            rejected = row.process(space < 0 ? "" : line.substring(space + 1), reply);
+        } catch (RuntimeException e) {
+            rejected = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        if (rejected != null) {
+            reply.setLength(0);
+            reply.append("ERR ").append(rejected);
+        }
+        program.latency.recordSince(start);
+    }
+
+    private void command(String name, boolean alone, StringBuilder reply) {
+        if (alone && name.equals("PING")) {
+            reply.append("PONG");
+        } else if (alone && name.equals("PROGRAMS")) {
+            reply.append("OK ").append(String.join(" ", programs.keySet()));
+        } else if (alone && name.equals("STATS")) {
+            reply.append("OK ").append(Metrics.toJson());
+        } else {
+            reply.append("ERR Unknown program: ").append(name);
+        }
+    }
+
+    // Accepts connections on the loopback address until the process is stopped.
+    public void listen(int port) throws IOException {
+        ExecutorService virtual = virtualThreadExecutor();
+        ExecutorService connections = virtual != null ? virtual : Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "record-session");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocket server = new ServerSocket(port, 128, InetAddress.getLoopbackAddress())) {
+            System.out.println("RecordServer - Listening on " + server.getLocalSocketAddress() + " with "
+                + programs.size() + " programs on " + (virtual != null ? "virtual" : "platform")
+                + " threads");
+            while (true) {
+                Socket socket = server.accept();
+                socket.setTcpNoDelay(true);
+                connections.execute(() -> session(socket));
+            }
+        } finally {
+            connections.shutdownNow();
+        }
+    }
+
+    private void session(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            serve(in, out);
+        } catch (IOException e) {
+            // the client went away; nothing to answer
+        }
+    }
+
+    // One virtual thread per connection on Java 21 and later; null on older runtimes, which then
+    // get a cached pool of platform threads.
+    static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    // java -cp common RecordServer [--port <port> | --stdin] [--warmup <rows>] [folder with QuestionN]
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        boolean stdin = false;
+        int warmup = 0;
+        Path root = Paths.get(".");
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--stdin")) {
+                    stdin = true;
+                } else if (args[i].equals("--port") && i + 1 < args.length) {
+                    port = Integer.parseInt(args[++i]);
+                } else if (args[i].equals("--warmup") && i + 1 < args.length) {
+                    warmup = Integer.parseInt(args[++i]);
+                } else {
+                    root = Paths.get(args[i]);
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("RecordServer - Usage: java RecordServer [--port <port> | --stdin] [--warmup <rows>] [folder]");
+            return;
+        }
+
+        DomainExceptions.setStackTraces(false);
+        try {
+            RecordServer server = new RecordServer(root);
+            if (warmup > 0) server.warmUp(warmup);
+            if (stdin) {
+                server.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+                    new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+                Metrics.dumpIfRequested();
+            } else {
+                server.listen(port);
+            }
+        } catch (IOException e) {
+            System.out.println("RecordServer - Error: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,257 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// A point-in-time copy of one schema's records as a record file, for a fast restart.
+// writeInBackground() copies the list of records on the calling thread and writes their values
+// from a background thread while setters keep running. A record changed during the write may be
+// stored with the old or the new value, so a restart maps the rows and then replays the journal
+// from the position it had when the snapshot started, which sets every such column to its latest
+// value again. A snapshot taken without a journal replays a journal from its first entry.
+//
+// Next to the record file and its string heap, a small .meta file holds the start time, the
+// journal position and the sizes of both files. It is removed before the files are replaced and
+// moved into place last, once the journal is on disk up to that position, so a snapshot cut short
+// by a crash is never opened.
+public final class RecordSnapshot implements Closeable {
+    static final int MAGIC = 0x50414e53;
+    static final int VERSION = 2;
+    static final String META_SUFFIX = ".meta";
+    private static final int META_BYTES = 4 + 4 + 8 + 8 + 4 + 8 + 8;
+    private static final int WRITE_BUFFER_ROWS = 8192;
+    // Below this many rows per thread, records are built on the calling thread.
+    private static final int MIN_ROWS_PER_THREAD = 65_536;
+
+    public interface Appender<R> {
+        int append(RowSink sink, R record);
+    }
+
+    // Builds one record from a row, such as *Columns.record.
+    public interface RecordReader<R> {
+        R read(RowSource source, int row) throws Exception;
+    }
+
+    public static final class Summary {
+        private final int rows;
+        private final long bytes;
+        private final long startMillis;
+        private final long journalPosition;
+        private final long elapsedNanos;
+
+        Summary(int rows, long bytes, long startMillis, long journalPosition, long elapsedNanos) {
+            this.rows = rows;
+            this.bytes = bytes;
+            this.startMillis = startMillis;
+            this.journalPosition = journalPosition;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getRows() { return rows; }
+        // The record file and the string heap together
+        public long getBytes() { return bytes; }
+        public long getStartMillis() { return startMillis; }
+        public long getJournalPosition() { return journalPosition; }
+        public long getElapsedNanos() { return elapsedNanos; }
+    }
+
+    private final Path path;
+    private final RecordFileReader rows;
+    private final long startMillis;
+    private final long journalPosition;
+    private int parallelism = Integer.getInteger("snapshot.parallelism", Runtime.getRuntime().availableProcessors());
+
+    private RecordSnapshot(Path path, RecordFileReader rows, long startMillis, long journalPosition) {
+        this.path = path;
+        this.rows = rows;
+        this.startMillis = startMillis;
+        this.journalPosition = journalPosition;
+    }
+
+    // Starts writing the records to path and returns at once. Records must not be added to or
+    // removed from the collection during this call; their setters may run at any time. With a
+    // journal, its position is taken under the journal's lock, so every change journaled before
+    // that position is visible to the writing thread.
+    public static <R> CompletableFuture<Summary> writeInBackground(Path path, Schema schema,
+            Collection<R> records, Appender<R> appender, ChangeJournal journal) {
+        long startMillis = System.currentTimeMillis();
+        long journalPosition = journal != null ? journal.getPosition() : 0;
+        List<R> copy = new ArrayList<>(records);
+        CompletableFuture<Summary> done = new CompletableFuture<>();
+        Thread writer = new Thread(() -> {
+            try {
+                done.complete(write(path, schema, copy, appender, startMillis, journal, journalPosition));
+            } catch (Throwable e) {
+                done.completeExceptionally(e);
+            }
+        }, "snapshot-" + schema.getName());
+        writer.setDaemon(true);
+        writer.start();
+        return done;
+    }
+
+    // Writes the records to path on the calling thread, while nothing changes them.
+    public static <R> Summary write(Path path, Schema schema, Collection<R> records, Appender<R> appender)
+            throws IOException {
+        return write(path, schema, new ArrayList<>(records), appender, System.currentTimeMillis(), null, 0);
+    }
+
+    private static <R> Summary write(Path path, Schema schema, List<R> records, Appender<R> appender,
+            long startMillis, ChangeJournal journal, long journalPosition) throws IOException {
+        long start = System.nanoTime();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        RecordFileWriter.delete(temp);
+        try {
+            try (RecordFileWriter writer = RecordFileWriter.open(temp, schema, WRITE_BUFFER_ROWS)) {
+                for (R record : records) appender.append(writer, record);
+                writer.sync();
+            }
+            long recordBytes = Files.size(temp);
+            long heapBytes = Files.size(RecordFormat.heapPath(temp));
+            // A restore must find every entry before the position in the journal.
+            if (journal != null) journal.sync();
+            Path meta = metaPath(path);
+            Path tempMeta = metaPath(temp);
+            Files.deleteIfExists(meta);
+            Files.move(RecordFormat.heapPath(temp), RecordFormat.heapPath(path), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            ByteBuffer buffer = RecordFormat.order(ByteBuffer.allocate(META_BYTES));
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(startMillis).putLong(journalPosition).putInt(records.size())
+                .putLong(recordBytes).putLong(heapBytes).flip();
+            try (FileChannel channel = FileChannel.open(tempMeta, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) channel.write(buffer);
+                channel.force(false);
+            }
+            Files.move(tempMeta, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return new Summary(records.size(), recordBytes + heapBytes, startMillis, journalPosition,
+                System.nanoTime() - start);
+        } finally {
+            RecordFileWriter.delete(temp);
+            Files.deleteIfExists(metaPath(temp));
+        }
+    }
+
+    // Maps a complete snapshot of records of this schema, or returns null when there is none.
+    public static RecordSnapshot open(Path path, Schema schema) throws IOException {
+        Path meta = metaPath(path);
+        if (!Files.exists(meta)) return null;
+        ByteBuffer buffer = RecordFormat.order(ByteBuffer.wrap(Files.readAllBytes(meta)));
+        if (buffer.remaining() != META_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+            throw new IOException(meta + " does not describe a snapshot");
+        long startMillis = buffer.getLong();
+        long journalPosition = buffer.getLong();
+        int rows = buffer.getInt();
+        long recordBytes = buffer.getLong();
+        long heapBytes = buffer.getLong();
+        if (Files.size(path) != recordBytes || Files.size(RecordFormat.heapPath(path)) != heapBytes)
+            throw new IOException(path + " was changed after its snapshot was taken");
+        RecordFileReader reader = RecordFileReader.open(path, schema);
+        if (reader.size() != rows) {
+            reader.close();
+            throw new IOException(path + " holds " + reader.size() + " rows, not " + rows);
+        }
+        reader.shareStrings();
+        return new RecordSnapshot(path, reader, startMillis, journalPosition);
+    }
+
+    // Deletes a snapshot's files.
+    public static void delete(Path path) throws IOException {
+        Files.deleteIfExists(metaPath(path));
+        RecordFileWriter.delete(path);
+    }
+
+    // The mapped rows, read through a *View or *Columns.record without parsing anything. Each
+    // distinct DICT string is decoded once, and restored records share it.
+    public RowSource rows() { return rows; }
+    public int size() { return rows.size(); }
+    public long getStartMillis() { return startMillis; }
+    public long getJournalPosition() { return journalPosition; }
+
+    public RecordSnapshot parallelism(int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be >= 1");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    // Builds a record from every row, in row order. The rows are split into one range per thread,
+    // and each thread maps the file with its own reader. A row the reader rejects fails the restore.
+    @SuppressWarnings("unchecked")
+    public <R> List<R> records(RecordReader<R> reader) throws IOException {
+        int size = rows.size();
+        int threads = Math.max(1, Math.min(parallelism, size / MIN_ROWS_PER_THREAD));
+        Object[] records = new Object[size];
+        if (threads == 1) {
+            read(rows, reader, records, 0, size);
+            return (List<R>) Arrays.asList(records);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> ranges = new ArrayList<>();
+            for (int range = 0; range < threads; range++) {
+                int from = (int) ((long) size * range / threads);
+                int to = (int) ((long) size * (range + 1) / threads);
+                ranges.add(pool.submit(() -> {
+                    try (RecordFileReader own = RecordFileReader.open(path, rows.schema())) {
+                        own.shareStrings();
+                        read(own, reader, records, from, to);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> range : ranges) range.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while restoring " + path, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) throw (IOException) e.getCause();
+            throw new IOException("Cannot restore " + path, e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return (List<R>) Arrays.asList(records);
+    }
+
+    private <R> void read(RowSource source, RecordReader<R> reader, Object[] records, int from, int to)
+            throws IOException {
+        for (int row = from; row < to; row++) {
+            try {
+                records[row] = reader.read(source, row);
+            } catch (Exception e) {
+                throw new IOException("Row " + row + " of " + path + " is not a valid record: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    // Applies the journal's entries from the position it had when this snapshot was started to
+    // records restored from it.
+    public <R> ChangeJournal.Summary replay(Path journal, ColumnAccessors<R> columns, Map<Integer, R> records)
+            throws IOException {
+        return ChangeJournal.replay(journal, columns, records, journalPosition);
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+    static Path metaPath(Path path) {
+        return path.resolveSibling(path.getFileName() + META_SUFFIX);
+    }
+}
@@ -0,0 +1,231 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+// Checks that a RecordSnapshot restores the records it was written from, refuses files that do
+// not match their .meta, and with the journal replayed from its position gives the live records.
+// Run with java RecordSnapshotTest from common/; it throws at the first failure and prints a
+// summary when everything passes.
+public class RecordSnapshotTest {
+    static final Schema SCHEMA = new Schema("Account");
+    static final int ID = SCHEMA.add("id", ColumnType.INT);
+    static final int BALANCE = SCHEMA.add("balance", ColumnType.MONEY);
+    static final int RATE = SCHEMA.add("rate", ColumnType.DOUBLE);
+    static final int CITY = SCHEMA.add("city", ColumnType.DICT);
+    static final int NOTE = SCHEMA.add("note", ColumnType.TEXT);
+    static final int OPENED = SCHEMA.add("opened", ColumnType.DATE);
+    static final ColumnAccessors<Account> ACCESSORS = new ColumnAccessors<Account>(SCHEMA)
+        .addInt(ID, Account::getId)
+        .addDouble(BALANCE, Account::getBalance, Account::setBalance)
+        .addDouble(RATE, Account::getRate)
+        .addString(CITY, Account::getCity, Account::setCity)
+        .addString(NOTE, Account::getNote, Account::setNote)
+        .addString(OPENED, Account::getOpened)
+        .complete();
+    private static final String[] CITIES = { "Kigali", "Musanze", "Huye", "Rubavu" };
+    // Above RecordSnapshot's rows per thread, so a restore with two threads splits the rows.
+    private static final int ROWS = 140_000;
+
+    // A record whose setters journal each change, as the programs' records do.
+    static final class Account {
+        private final int id;
+        private double balance;
+        private final double rate;
+        private String city;
+        private String note;
+        private final String opened;
+        private ChangeJournal journal;
+
+        Account(int id, double balance, double rate, String city, String note, String opened) {
+            this.id = id;
+            this.balance = balance;
+            this.rate = rate;
+            this.city = city;
+            this.note = note;
+            this.opened = opened;
+        }
+
+        int getId() { return id; }
+        double getBalance() { return balance; }
+        double getRate() { return rate; }
+        String getCity() { return city; }
+        String getNote() { return note; }
+        String getOpened() { return opened; }
+
+        void setBalance(double balance) {
+            if (journal != null) journal.append(id, BALANCE, this.balance, balance);
+            this.balance = balance;
+        }
+
+        void setCity(String city) {
+            if (journal != null) journal.append(id, CITY, this.city, city);
+            this.city = city;
+        }
+
+        void setNote(String note) {
+            if (journal != null) journal.append(id, NOTE, this.note, note);
+            this.note = note;
+        }
+    }
+
+    static int append(RowSink sink, Account account) {
+        int row = sink.addRow();
+        sink.setInt(row, ID, account.id);
+        sink.setDouble(row, BALANCE, account.balance);
+        sink.setDouble(row, RATE, account.rate);
+        sink.setString(row, CITY, account.city);
+        sink.setString(row, NOTE, account.note);
+        sink.setString(row, OPENED, account.opened);
+        return row;
+    }
+
+    static Account record(RowSource source, int row) {
+        return new Account(source.getInt(row, ID), source.getDouble(row, BALANCE), source.getDouble(row, RATE),
+            source.getString(row, CITY), source.getString(row, NOTE), source.getString(row, OPENED));
+    }
+
+    private static int checks;
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        Path path = Files.createTempFile("Account", ".snap");
+        Path journalPath = Files.createTempFile("Account", ".journal");
+        try {
+            Map<Integer, Account> live = accounts();
+            checkRoundTrip(path, live);
+            checkChangedFiles(path, live);
+            checkReplay(path, journalPath, live);
+        } finally {
+            RecordSnapshot.delete(path);
+            Files.deleteIfExists(journalPath);
+        }
+        System.out.println("RecordSnapshotTest: " + checks + " checks passed");
+    }
+
+    // Balances are whole cents, as a MONEY column stores them.
+    private static Map<Integer, Account> accounts() {
+        Random random = new Random(1);
+        Map<Integer, Account> accounts = new LinkedHashMap<>();
+        for (int i = 0; i < ROWS; i++) {
+            int id = 1000 + i * 3;
+            String note = i % 7 == 0 ? null : i % 11 == 0 ? "" : "note " + random.nextInt(1_000_000);
+            String opened = i % 13 == 0 ? "unknown" : "2024-" + (1 + i % 12 < 10 ? "0" : "") + (1 + i % 12) + "-1" + i % 10;
+            accounts.put(id, new Account(id, (random.nextInt(100_000_000) - 1_000_000) / 100.0, random.nextDouble(),
+                CITIES[i % CITIES.length], note, opened));
+        }
+        return accounts;
+    }
+
+    private static void checkRoundTrip(Path path, Map<Integer, Account> live) throws IOException {
+        check(RecordSnapshot.open(path, SCHEMA) == null, "a path without a .meta file holds no snapshot");
+        RecordSnapshot.Summary summary = RecordSnapshot.write(path, SCHEMA, live.values(), RecordSnapshotTest::append);
+        check(summary.getRows() == ROWS, "the summary counts every row");
+        check(summary.getJournalPosition() == 0, "a snapshot without a journal replays from the start");
+        for (int threads = 1; threads <= 2; threads++) {
+            try (RecordSnapshot snapshot = RecordSnapshot.open(path, SCHEMA)) {
+                check(snapshot.size() == ROWS, "the snapshot maps every row");
+                List<Account> restored = snapshot.parallelism(threads).records(RecordSnapshotTest::record);
+                check(same(new ArrayList<>(live.values()), restored), "restored with " + threads + " threads in row order");
+            }
+        }
+        try (RecordSnapshot snapshot = RecordSnapshot.open(path, SCHEMA)) {
+            snapshot.records((source, row) -> {
+                if (row == ROWS / 2)
+                    throw new IllegalArgumentException("Rejected");
+                return record(source, row);
+            });
+            check(false, "a row the reader rejects fails the restore");
+        } catch (IOException e) {
+            check(e.getMessage().contains("Row " + ROWS / 2), "a row the reader rejects fails the restore");
+        }
+    }
+
+    private static void checkChangedFiles(Path path, Map<Integer, Account> live) throws IOException {
+        try (FileChannel heap = FileChannel.open(RecordFormat.heapPath(path), StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            heap.write(ByteBuffer.wrap(new byte[] { 0 }));
+        }
+        try {
+            RecordSnapshot.open(path, SCHEMA).close();
+            check(false, "a string heap changed after the snapshot is refused");
+        } catch (IOException e) {
+            check(true, "a string heap changed after the snapshot is refused");
+        }
+        RecordSnapshot.write(path, SCHEMA, live.values(), RecordSnapshotTest::append);
+        Files.delete(RecordSnapshot.metaPath(path));
+        check(RecordSnapshot.open(path, SCHEMA) == null, "a snapshot without its .meta file is not opened");
+    }
+
+    // Changes before, during and after a background snapshot; the restored records with the
+    // journal replayed from the snapshot's position must equal the live ones.
+    private static void checkReplay(Path path, Path journalPath, Map<Integer, Account> live)
+            throws IOException, InterruptedException, ExecutionException {
+        Files.write(journalPath, new byte[0]);
+        List<Account> accounts = new ArrayList<>(live.values());
+        Random random = new Random(2);
+        RecordSnapshot.Summary summary;
+        try (ChangeJournal journal = ChangeJournal.open(journalPath, SCHEMA, false)) {
+            for (Account account : accounts) account.journal = journal;
+            change(accounts, random, 1000);
+            long position = journal.getPosition();
+            CompletableFuture<RecordSnapshot.Summary> written = RecordSnapshot.writeInBackground(path, SCHEMA, live.values(), RecordSnapshotTest::append,
+                journal);
+            while (!written.isDone()) change(accounts, random, 100);
+            summary = written.get();
+            check(summary.getJournalPosition() == position, "the snapshot keeps the journal position it started at");
+            change(accounts, random, 1000);
+            for (Account account : accounts) account.journal = null;
+        }
+        try (RecordSnapshot snapshot = RecordSnapshot.open(path, SCHEMA)) {
+            check(snapshot.getJournalPosition() == summary.getJournalPosition(), "the .meta file holds the position");
+            Map<Integer, Account> restored = new LinkedHashMap<>();
+            for (Account account : snapshot.records(RecordSnapshotTest::record)) restored.put(account.getId(), account);
+            snapshot.replay(journalPath, ACCESSORS, restored);
+            check(same(accounts, new ArrayList<>(restored.values())), "restored and replayed equals live");
+        }
+    }
+
+    private static void change(List<Account> accounts, Random random, int count) {
+        for (int i = 0; i < count; i++) {
+            Account account = accounts.get(random.nextInt(accounts.size()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    account.setBalance(random.nextInt(1_000_000) / 100.0);
+                    break;
+                case 1:
+                    account.setCity(CITIES[random.nextInt(CITIES.length)]);
+                    break;
+                default:
+                    account.setNote(random.nextBoolean() ? null : "changed " + i);
+                    break;
+            }
+        }
+    }
+
+    private static boolean same(List<Account> expected, List<Account> actual) {
+        if (expected.size() != actual.size()) return false;
+        for (int i = 0; i < expected.size(); i++) {
+            for (int column = 0; column < SCHEMA.size(); column++) {
+                if (!Objects.equals(ACCESSORS.get(expected.get(i), column), ACCESSORS.get(actual.get(i), column)))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    private static void check(boolean passed, String what) {
+        if (!passed)
+            throw new IllegalStateException("Failed: " + what);
+        checks++;
+    }
+}
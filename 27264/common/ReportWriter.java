@@ -0,0 +1,228 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+public final class ReportWriter {
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte[] NEW_LINE = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    private static final ThreadLocal<ReportWriter> STDOUT = new ThreadLocal<>();
+
+    private final OutputStream stream;
+    private final WritableByteChannel channel;
+    private final byte[] buffer;
+    private final ByteBuffer channelView;
+    private final char decimalSeparator;
+    private int position;
+
+    public ReportWriter(OutputStream stream) {
+        this(stream, null, DEFAULT_BUFFER_SIZE);
+    }
+
+    public ReportWriter(WritableByteChannel channel) {
+        this(null, channel, DEFAULT_BUFFER_SIZE);
+    }
+
+    private ReportWriter(OutputStream stream, WritableByteChannel channel, int bufferSize) {
+        this.stream = stream;
+        this.channel = channel;
+        this.buffer = new byte[bufferSize];
+        this.channelView = channel == null ? null : ByteBuffer.wrap(buffer);
+        this.decimalSeparator = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+    }
+
+    // A per-thread writer over the current System.out, reused across displayRecord calls.
+    public static ReportWriter stdout() {
+        PrintStream out = System.out;
+        ReportWriter writer = STDOUT.get();
+        if (writer == null || writer.stream != out) {
+            writer = new ReportWriter(out);
+            STDOUT.set(writer);
+        }
+        return writer;
+    }
+
+    public static byte[] label(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public ReportWriter write(byte[] bytes) {
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                writeThrough(bytes);
+                return this;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+        return this;
+    }
+
+    public ReportWriter write(char c) {
+        if (c < 0x80) {
+            ensure(1);
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            ensure(2);
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isSurrogate(c)) {
+            ensure(1);
+            buffer[position++] = '?';
+        } else {
+            ensure(3);
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return this;
+    }
+
+    public ReportWriter write(String value) {
+        if (value == null) return write("null");
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                writeCodePoint(Character.toCodePoint(c, value.charAt(++i)));
+            } else {
+                write(c);
+            }
+        }
+        return this;
+    }
+
+    public ReportWriter write(int value) {
+        return write((long) value);
+    }
+
+    public ReportWriter write(long value) {
+        if (value == Long.MIN_VALUE) return write(Long.toString(value));
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) digits++;
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        position = end;
+        return this;
+    }
+
+    // Same text as String.valueOf(double); amounts with at most two decimals skip Double.toString.
+    public ReportWriter write(double value) {
+        if (Math.abs(value) < 1e7 && Double.doubleToRawLongBits(value) != Long.MIN_VALUE) {
+            long cents = Math.round(value * 100);
+            if (cents / 100.0 == value) {
+                if (cents < 0) {
+                    write('-');
+                    cents = -cents;
+                }
+                write(cents / 100);
+                ensure(3);
+                buffer[position++] = '.';
+                buffer[position++] = (byte) ('0' + cents / 10 % 10);
+                if (cents % 10 != 0) buffer[position++] = (byte) ('0' + cents % 10);
+                return this;
+            }
+        }
+        return write(Double.toString(value));
+    }
+
+    // Same text as String.format("%.<decimals>f", value), which rounds the shortest decimal form half up.
+    public ReportWriter writeFixed(double value, int decimals) {
+        long scale = decimals < POWERS_OF_TEN.length ? POWERS_OF_TEN[decimals] : 0;
+        double scaled = Math.abs(value) * scale;
+        if (scale == 0 || !(scaled < 1e9)) {
+            return write(String.format("%." + decimals + "f", value));
+        }
+        double floor = Math.floor(scaled);
+        long units;
+        if (Math.abs(scaled - floor - 0.5) > 1e-6) {
+            units = (long) (scaled - floor > 0.5 ? floor + 1 : floor);
+        } else {
+            units = BigDecimal.valueOf(Math.abs(value)).setScale(decimals, RoundingMode.HALF_UP).unscaledValue().longValue();
+        }
+        if (value < 0 || Double.doubleToRawLongBits(value) == Long.MIN_VALUE) write('-');
+        write(units / scale);
+        if (decimals > 0) {
+            write(decimalSeparator);
+            long fraction = units % scale;
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                ensure(1);
+                buffer[position++] = (byte) ('0' + (fraction / digit) % 10);
+            }
+        }
+        return this;
+    }
+
+    public ReportWriter newLine() {
+        return write(NEW_LINE);
+    }
+
+    public void flush() {
+        flushBuffer();
+        try {
+            if (stream != null) stream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCodePoint(int codePoint) {
+        ensure(4);
+        buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+        buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+        buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.length - position < bytes) flushBuffer();
+    }
+
+    private void flushBuffer() {
+        if (position == 0) return;
+        try {
+            if (channel != null) {
+                channelView.clear().limit(position);
+                while (channelView.hasRemaining()) channel.write(channelView);
+            } else {
+                stream.write(buffer, 0, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        position = 0;
+    }
+
+    private void writeThrough(byte[] bytes) {
+        try {
+            if (channel != null) {
+                ByteBuffer view = ByteBuffer.wrap(bytes);
+                while (view.hasRemaining()) channel.write(view);
+            } else {
+                stream.write(bytes);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+public interface RowSink {
+    Schema schema();
+
+    int addRow();
+
+    void setInt(int row, int column, int value);
+
+    void setDouble(int row, int column, double value);
+
+    void setLong(int row, int column, long value);
+
+    void setString(int row, int column, String value);
+}
@@ -0,0 +1,13 @@
+public interface RowSource {
+    Schema schema();
+
+    int size();
+
+    int getInt(int row, int column);
+
+    double getDouble(int row, int column);
+
+    long getLong(int row, int column);
+
+    String getString(int row, int column);
+}
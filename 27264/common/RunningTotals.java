@@ -0,0 +1,95 @@
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-group sums of a record total as whole units of 10^-scale: cents for money, or a finer unit
+// for a total that is not money, such as a percentage. Records are added once through TrackedTotal,
+// and each later change to a record's total reaches its groups as the difference, so a group's sum
+// stays current without going back over the records. Safe for concurrent updates.
+public final class RunningTotals {
+    // TrackedTotal keeps the groups it was added to, so a change costs no lookup.
+    static final class Group {
+        final RunningTotals owner;
+        final String name;
+        final LongAdder units = new LongAdder();
+        final LongAdder count = new LongAdder();
+
+        Group(RunningTotals owner, String name) {
+            this.owner = owner;
+            this.name = name;
+        }
+    }
+
+    private final String name;
+    private final int scale;
+    private final double unitsPerOne;
+    private final ConcurrentHashMap<String, Group> groups = new ConcurrentHashMap<>();
+
+    // Sums money in cents.
+    public RunningTotals(String name) {
+        this(name, Money.SCALE);
+    }
+
+    // Sums values kept to scale decimals, in units of 10^-scale.
+    public RunningTotals(String name, int scale) {
+        if (scale < 0 || scale > TrackedTotal.MAX_SCALE)
+            throw new IllegalArgumentException("Scale must be between 0 and " + TrackedTotal.MAX_SCALE);
+        this.name = name;
+        this.scale = scale;
+        this.unitsPerOne = Math.pow(10, scale);
+    }
+
+    public String getName() { return name; }
+    public int getScale() { return scale; }
+
+    Group add(String group, long units) {
+        Group g = groups.computeIfAbsent(group, key -> new Group(this, key));
+        g.units.add(units);
+        g.count.increment();
+        return g;
+    }
+
+    public Set<String> groups() { return groups.keySet(); }
+
+    public long totalUnits(String group) {
+        Group g = groups.get(group);
+        return g == null ? 0 : g.units.sum();
+    }
+
+    public double total(String group) { return totalUnits(group) / unitsPerOne; }
+
+    public long count(String group) {
+        Group g = groups.get(group);
+        return g == null ? 0 : g.count.sum();
+    }
+
+    public double average(String group) {
+        long count = count(group);
+        return count == 0 ? 0 : Money.divide(totalUnits(group), count, Money.DEFAULT_ROUNDING) / unitsPerOne;
+    }
+
+    public long grandTotalUnits() {
+        long total = 0;
+        for (Group g : groups.values()) total += g.units.sum();
+        return total;
+    }
+
+    public double grandTotal() { return grandTotalUnits() / unitsPerOne; }
+
+    public long grandCount() {
+        long count = 0;
+        for (Group g : groups.values()) count += g.count.sum();
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(name).append(':');
+        for (String group : groups.keySet()) {
+            out.append(' ').append(group).append('=').append(BigDecimal.valueOf(totalUnits(group), scale).toPlainString())
+                .append(" (").append(count(group)).append(')');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,45 @@
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Schema {
+    private final String name;
+    private final List<String> columnNames = new ArrayList<>();
+    private final List<ColumnType> columnTypes = new ArrayList<>();
+    private final List<CodeTable> codeTables = new ArrayList<>();
+
+    public Schema(String name) {
+        this.name = name;
+    }
+
+    public int add(String columnName, ColumnType type) {
+        if (indexOf(columnName) >= 0)
+            throw new IllegalArgumentException("Duplicate column: " + columnName);
+        columnNames.add(columnName);
+        columnTypes.add(type);
+        codeTables.add(null);
+        return columnNames.size() - 1;
+    }
+
+    public int add(String columnName, CodeTable codes) {
+        int column = add(columnName, ColumnType.CODE);
+        codeTables.set(column, codes);
+        return column;
+    }
+
+    public String getName() { return name; }
+    public int size() { return columnNames.size(); }
+    public String columnName(int column) { return columnNames.get(column); }
+    public ColumnType columnType(int column) { return columnTypes.get(column); }
+    public CodeTable codeTable(int column) { return codeTables.get(column); }
+
+    public int indexOf(String columnName) {
+        return columnNames.indexOf(columnName);
+    }
+
+    public int require(String columnName) {
+        int column = indexOf(columnName);
+        if (column < 0)
+            throw new IllegalArgumentException("Unknown column '" + columnName + "' in " + name);
+        return column;
+    }
+}
@@ -0,0 +1,63 @@
+import java.util.Arrays;
+
+public final class StringDictionary {
+    public static final int NULL_CODE = -1;
+
+    private String[] values = new String[16];
+    private int[] slots = new int[32];
+    private int size;
+
+    public int encode(String value) {
+        if (value == null) return NULL_CODE;
+        int mask = slots.length - 1;
+        int slot = mix(value.hashCode()) & mask;
+        while (true) {
+            int entry = slots[slot];
+            if (entry == 0) return insert(value, slot);
+            if (values[entry - 1].equals(value)) return entry - 1;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public int find(String value) {
+        if (value == null) return NULL_CODE;
+        int mask = slots.length - 1;
+        int slot = mix(value.hashCode()) & mask;
+        while (true) {
+            int entry = slots[slot];
+            if (entry == 0) return NULL_CODE;
+            if (values[entry - 1].equals(value)) return entry - 1;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    public String decode(int code) {
+        return code == NULL_CODE ? null : values[code];
+    }
+
+    public int size() { return size; }
+
+    private int insert(String value, int slot) {
+        int code = size++;
+        if (code == values.length) values = Arrays.copyOf(values, code * 2);
+        values[code] = value;
+        slots[slot] = code + 1;
+        if (size * 2 > slots.length) rehash();
+        return code;
+    }
+
+    private void rehash() {
+        int[] grown = new int[slots.length * 2];
+        int mask = grown.length - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = mix(values[code].hashCode()) & mask;
+            while (grown[slot] != 0) slot = (slot + 1) & mask;
+            grown[slot] = code + 1;
+        }
+        slots = grown;
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
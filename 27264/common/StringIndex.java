@@ -0,0 +1,190 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// String key -> records, with open addressing (linear probing) like IntIndex. A key held by one
+// record maps straight to it; a shared key maps to a small bucket array. count, first and get(key, n)
+// allocate nothing; all builds a list. Null keys are not indexed. Not thread-safe.
+public final class StringIndex<R> {
+    private static final int MIN_CAPACITY = 16;
+
+    // Records sharing one key. Records are never Buckets, so a slot tells which it holds.
+    private static final class Bucket {
+        Object[] items;
+        int size;
+
+        Bucket(Object first, Object second) {
+            items = new Object[] { first, second, null, null };
+            size = 2;
+        }
+    }
+
+    private final String column;
+    private String[] keys;
+    private int[] hashes;
+    private Object[] values;
+    private int mask;
+    private int keyCount;
+    private int size;
+    private int resizeAt;
+
+    public StringIndex(String column) {
+        this(column, MIN_CAPACITY);
+    }
+
+    public StringIndex(String column, int expectedKeys) {
+        if (expectedKeys < 0)
+            throw new IllegalArgumentException("Expected keys must be >= 0");
+        this.column = column;
+        allocate(IntIndex.capacityFor(expectedKeys));
+    }
+
+    public String getColumn() { return column; }
+
+    // Distinct keys indexed.
+    public int keyCount() { return keyCount; }
+
+    // Records indexed.
+    public int size() { return size; }
+
+    public int count(String key) {
+        int slot = find(key);
+        if (slot < 0) return 0;
+        Object value = values[slot];
+        return value instanceof Bucket ? ((Bucket) value).size : 1;
+    }
+
+    public R first(String key) {
+        return get(key, 0);
+    }
+
+    // The n-th record with the key, in the order added (until one is removed), or null.
+    @SuppressWarnings("unchecked")
+    public R get(String key, int n) {
+        int slot = find(key);
+        if (slot < 0 || n < 0) return null;
+        Object value = values[slot];
+        if (value instanceof Bucket) {
+            Bucket bucket = (Bucket) value;
+            return n < bucket.size ? (R) bucket.items[n] : null;
+        }
+        return n == 0 ? (R) value : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<R> all(String key) {
+        int slot = find(key);
+        if (slot < 0) return Collections.emptyList();
+        Object value = values[slot];
+        if (!(value instanceof Bucket)) return Collections.singletonList((R) value);
+        Bucket bucket = (Bucket) value;
+        List<R> records = new ArrayList<>(bucket.size);
+        for (int i = 0; i < bucket.size; i++) records.add((R) bucket.items[i]);
+        return records;
+    }
+
+    public void add(String key, R record) {
+        if (record == null)
+            throw new IllegalArgumentException("Record cannot be null");
+        if (key == null) return;
+        int hash = hash(key);
+        int slot = hash & mask;
+        for (; values[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] != hash || !keys[slot].equals(key)) continue;
+            Object value = values[slot];
+            if (value instanceof Bucket) {
+                Bucket bucket = (Bucket) value;
+                if (bucket.size == bucket.items.length)
+                    bucket.items = Arrays.copyOf(bucket.items, bucket.size * 2);
+                bucket.items[bucket.size++] = record;
+            } else {
+                values[slot] = new Bucket(value, record);
+            }
+            size++;
+            return;
+        }
+        keys[slot] = key;
+        hashes[slot] = hash;
+        values[slot] = record;
+        size++;
+        if (++keyCount > resizeAt) resize(keys.length * 2);
+    }
+
+    // Removes that record (by identity) from the key; false if it was not there.
+    public boolean remove(String key, R record) {
+        int slot = find(key);
+        if (slot < 0) return false;
+        Object value = values[slot];
+        if (value instanceof Bucket) {
+            Bucket bucket = (Bucket) value;
+            for (int i = 0; i < bucket.size; i++) {
+                if (bucket.items[i] != record) continue;
+                System.arraycopy(bucket.items, i + 1, bucket.items, i, bucket.size - i - 1);
+                bucket.items[--bucket.size] = null;
+                if (bucket.size == 1) values[slot] = bucket.items[0];
+                size--;
+                return true;
+            }
+            return false;
+        }
+        if (value != record) return false;
+        shiftBack(slot);
+        keyCount--;
+        size--;
+        return true;
+    }
+
+    private int find(String key) {
+        if (key == null) return -1;
+        int hash = hash(key);
+        for (int slot = hash & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && keys[slot].equals(key)) return slot;
+        }
+        return -1;
+    }
+
+    // Same backward shift as IntIndex, so removals leave no tombstones.
+    private void shiftBack(int gap) {
+        for (int slot = (gap + 1) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+            int home = hashes[slot] & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                hashes[gap] = hashes[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = null;
+        values[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        String[] oldKeys = keys;
+        int[] oldHashes = hashes;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+            int slot = oldHashes[i] & mask;
+            while (values[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            hashes[slot] = oldHashes[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        hashes = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * 0.75);
+    }
+
+    // String.hashCode is cached per string; the multiply mixes its low bits, which pick the slot.
+    private static int hash(String key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
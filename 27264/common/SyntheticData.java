@@ -0,0 +1,314 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// Writes seeded synthetic batch input. Rows are built in blocks of BLOCK_ROWS on a ForkJoinPool and
+// every block draws from its own random stream, split from the seed by block number, so the output
+// depends on the seed and settings but not on the number of threads. Lines end with '\n'.
+public final class SyntheticData {
+    public static final int BLOCK_ROWS = 8192;
+    public static final char DELIMITER = '|';
+    public static final double DEFAULT_INVALID_RATE = 0.05;
+    public static final double DEFAULT_SKEW = 1.0;
+
+    // One program's rows. fill writes a valid row for the id; each invalid row then has one of the
+    // breakers applied, so it fails exactly one rule of the program's validator.
+    public interface Domain {
+        int fieldCount();
+
+        void fill(Source source, int id, String[] fields);
+
+        Breaker[] breakers();
+    }
+
+    public interface Breaker {
+        void apply(Source source, String[] fields);
+    }
+
+    public static final class Summary {
+        private final long rows;
+        private final long invalid;
+        private final long bytes;
+        private final long elapsedNanos;
+
+        Summary(long rows, long invalid, long bytes, long elapsedNanos) {
+            this.rows = rows;
+            this.invalid = invalid;
+            this.bytes = bytes;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getRows() { return rows; }
+        public long getInvalid() { return invalid; }
+        public long getBytes() { return bytes; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public long rowsPerSecond() {
+            return elapsedNanos > 0 ? (long) (rows * 1_000_000_000.0 / elapsedNanos) : rows;
+        }
+    }
+
+    // Random values for one block. Skewed picks favour the start of a pool: with skew s the index
+    // is n * u^(1 + s) for uniform u, so 0 is uniform and every extra unit makes the head hotter.
+    public static final class Source {
+        private static final String[] FIRST_NAMES = {
+            "Alice", "Eric", "Grace", "Jean", "Aline", "Kevin", "Diane", "Olivier", "Claire", "Brian",
+            "Sandrine", "Patrick", "Ange", "Emmanuel", "Josiane", "David", "Esther", "Samuel", "Ruth", "Fabrice"
+        };
+        private static final String[] LAST_NAMES = {
+            "Uwase", "Mugisha", "Habimana", "Mukamana", "Niyonzima", "Uwimana", "Nshuti", "Ingabire",
+            "Ndayisaba", "Umutoni", "Kagame", "Mutesi", "Nkurunziza", "Mugabo", "Uwera", "Hakizimana"
+        };
+        private static final char[] ALPHANUMERIC = "ABCDEFGHJKLMNPQRSTUVWXYZ0123456789".toCharArray();
+
+        private final SplittableRandom random;
+        private final double exponent;
+
+        Source(SplittableRandom random, double skew) {
+            this.random = random;
+            this.exponent = 1 + skew;
+        }
+
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        // Uniform in [min, max].
+        public int between(int min, int max) {
+            return random.nextInt(min, max + 1);
+        }
+
+        public boolean chance(double probability) {
+            return random.nextDouble() < probability;
+        }
+
+        public int skewed(int size) {
+            return Math.min(size - 1, (int) (size * Math.pow(random.nextDouble(), exponent)));
+        }
+
+        public <T> T pick(T[] values) {
+            return values[random.nextInt(values.length)];
+        }
+
+        public <T> T pickSkewed(T[] values) {
+            return values[skewed(values.length)];
+        }
+
+        public String name() {
+            return pick(FIRST_NAMES) + " " + pick(LAST_NAMES);
+        }
+
+        // A 10-digit number starting with 07, as the programs' sample data uses.
+        public String phone() {
+            char[] text = new char[FieldRules.PHONE_LENGTH];
+            text[0] = '0';
+            text[1] = '7';
+            for (int i = 2; i < text.length; i++) text[i] = (char) ('0' + random.nextInt(10));
+            return new String(text);
+        }
+
+        // "firstname.lastname@domain" in lower case.
+        public String email(String name, String domain) {
+            StringBuilder text = new StringBuilder(name.length() + domain.length() + 1);
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (c == ' ') {
+                    text.append('.');
+                } else if (Character.isLetterOrDigit(c)) {
+                    text.append(Character.toLowerCase(c));
+                }
+            }
+            return text.append('@').append(domain).toString();
+        }
+
+        // Upper-case letters and digits.
+        public String code(String prefix, int length) {
+            char[] text = new char[prefix.length() + length];
+            prefix.getChars(0, prefix.length(), text, 0);
+            for (int i = prefix.length(); i < text.length; i++) {
+                text[i] = ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)];
+            }
+            return new String(text);
+        }
+
+        public long cents(long min, long max) {
+            return random.nextLong(min, max + 1);
+        }
+
+        public String money(long minCents, long maxCents) {
+            return SyntheticData.money(cents(minCents, maxCents));
+        }
+
+        // A day within days of the first day.
+        public int day(int firstDay, int days) {
+            return firstDay + random.nextInt(days);
+        }
+    }
+
+    private final long seed;
+    private final int parallelism;
+    private final double invalidRate;
+    private final double skew;
+
+    // Uses -Dgenerate.threads (default: all processors), -Dgenerate.invalidRate (0.05) and
+    // -Dgenerate.skew (1.0).
+    public SyntheticData(long seed) {
+        this(seed, Integer.getInteger("generate.threads", Runtime.getRuntime().availableProcessors()),
+            Double.parseDouble(System.getProperty("generate.invalidRate", String.valueOf(DEFAULT_INVALID_RATE))),
+            Double.parseDouble(System.getProperty("generate.skew", String.valueOf(DEFAULT_SKEW))));
+    }
+
+    public SyntheticData(long seed, int parallelism, double invalidRate, double skew) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be >= 1");
+        if (!(invalidRate >= 0 && invalidRate <= 1))
+            throw new IllegalArgumentException("Invalid rate must be between 0 and 1");
+        if (!(skew >= 0))
+            throw new IllegalArgumentException("Skew must be >= 0");
+        this.seed = seed;
+        this.parallelism = parallelism;
+        this.invalidRate = invalidRate;
+        this.skew = skew;
+    }
+
+    public int getParallelism() { return parallelism; }
+
+    // Writes to the named file, or to standard output when the name is "-".
+    public Summary generate(Domain domain, int rows, String output) throws IOException {
+        if (output.equals("-")) return generate(domain, rows, System.out);
+        try (OutputStream out = Files.newOutputStream(Paths.get(output))) {
+            return generate(domain, rows, out);
+        }
+    }
+
+    // Where to report progress: standard error when the rows go to standard output.
+    public static PrintStream log(String output) {
+        return output.equals("-") ? System.err : System.out;
+    }
+
+    // Writes rows with ids 1 to rows. The stream is flushed but not closed.
+    public Summary generate(Domain domain, int rows, OutputStream out) throws IOException {
+        if (rows < 0)
+            throw new IllegalArgumentException("Rows must be >= 0");
+        long start = System.nanoTime();
+        long invalid = 0;
+        long bytes = 0;
+        int blocks = (int) ((rows + (long) BLOCK_ROWS - 1) / BLOCK_ROWS);
+        SplittableRandom root = new SplittableRandom(seed);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ArrayDeque<ForkJoinTask<Block>> pending = new ArrayDeque<>();
+            int next = 0;
+            while (next < blocks || !pending.isEmpty()) {
+                while (next < blocks && pending.size() < parallelism * 2) {
+                    int first = next * BLOCK_ROWS + 1;
+                    int count = Math.min(BLOCK_ROWS, rows - (first - 1));
+                    SplittableRandom random = root.split();
+                    pending.add(pool.submit(() -> block(domain, new Source(random, skew), first, count)));
+                    next++;
+                }
+                Block block = pending.poll().join();
+                out.write(block.bytes);
+                bytes += block.bytes.length;
+                invalid += block.invalid;
+            }
+            out.flush();
+        } finally {
+            pool.shutdownNow();
+        }
+        return new Summary(rows, invalid, bytes, System.nanoTime() - start);
+    }
+
+    private static final class Block {
+        final byte[] bytes;
+        final int invalid;
+
+        Block(byte[] bytes, int invalid) {
+            this.bytes = bytes;
+            this.invalid = invalid;
+        }
+    }
+
+    // Besides the domain's own breakers, an invalid row can lose its last field or get an id that
+    // is not a number.
+    private Block block(Domain domain, Source source, int first, int count) {
+        int fieldCount = domain.fieldCount();
+        Breaker[] breakers = domain.breakers();
+        String[] fields = new String[fieldCount];
+        StringBuilder text = new StringBuilder(count * 256);
+        int invalid = 0;
+        for (int id = first; id < first + count; id++) {
+            domain.fill(source, id, fields);
+            int length = fieldCount;
+            if (invalidRate > 0 && source.chance(invalidRate)) {
+                invalid++;
+                int breaker = source.nextInt(breakers.length + 2);
+                if (breaker < breakers.length) {
+                    breakers[breaker].apply(source, fields);
+                } else if (breaker == breakers.length) {
+                    length--;
+                } else {
+                    fields[0] = "ID" + id;
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                if (i > 0) text.append(DELIMITER);
+                text.append(fields[i]);
+            }
+            text.append('\n');
+        }
+        return new Block(text.toString().getBytes(StandardCharsets.UTF_8), invalid);
+    }
+
+    public static String money(long cents) {
+        return Money.toString(cents);
+    }
+
+    public static String date(int epochDay) {
+        return Dates.format(epochDay);
+    }
+
+    // Common ways to break one field.
+
+    public static Breaker phone(int field) {
+        return (source, fields) -> fields[field] = fields[field].substring(1);
+    }
+
+    public static Breaker email(int field) {
+        return (source, fields) -> fields[field] = fields[field].replace('@', '.');
+    }
+
+    public static Breaker code(int field) {
+        return (source, fields) -> fields[field] = source.chance(0.5) ? "X1" : fields[field] + "-" + source.nextInt(10);
+    }
+
+    public static Breaker empty(int field) {
+        return (source, fields) -> fields[field] = "";
+    }
+
+    // Zero or a negative number, for fields that must be > 0.
+    public static Breaker notPositive(int field) {
+        return (source, fields) -> fields[field] = source.chance(0.5) ? "0" : "-" + (1 + source.nextInt(100));
+    }
+
+    // A negative number, for fields that must be >= 0.
+    public static Breaker negative(int field) {
+        return (source, fields) -> fields[field] = "-" + (1 + source.nextInt(100));
+    }
+
+    // A value outside a fixed set of choices, such as a shift or an order status.
+    public static Breaker unknown(int field) {
+        return (source, fields) -> fields[field] = source.chance(0.5) ? "Unknown" : fields[field].toUpperCase() + "X";
+    }
+
+    public static Breaker set(int field, String... values) {
+        return (source, fields) -> fields[field] = source.pick(values);
+    }
+}
@@ -0,0 +1,66 @@
+import java.util.Arrays;
+
+// One record's total as counted in RunningTotals: the groups it was added to and the amount last
+// added, so that a new total is passed on as the difference. A record is not thread-safe, and
+// neither is this; the RunningTotals it feeds are.
+public final class TrackedTotal {
+    static final int MAX_SCALE = 9;
+    private static final RunningTotals.Group[] NO_GROUPS = {};
+
+    private final int scale;
+    private long units;
+    private RunningTotals.Group[] groups = NO_GROUPS;
+
+    // A money total in cents.
+    public TrackedTotal(long cents) {
+        this(cents, Money.SCALE);
+    }
+
+    // A total in units of 10^-scale, counted only in RunningTotals of the same scale.
+    public TrackedTotal(long units, int scale) {
+        if (scale < 0 || scale > MAX_SCALE)
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE);
+        this.units = units;
+        this.scale = scale;
+    }
+
+    // value in units of 10^-scale, rounded half up; for totals that are not money.
+    public static long units(double value, int scale) {
+        return Math.round(value * Math.pow(10, scale));
+    }
+
+    public long getUnits() { return units; }
+    public int getScale() { return scale; }
+
+    // Counts the total in one group of totals; a record is in at most one group of each.
+    public void track(RunningTotals totals, String group) {
+        if (group == null)
+            throw new IllegalArgumentException("Group cannot be null");
+        if (totals.getScale() != scale)
+            throw new IllegalArgumentException(totals.getName() + " sums units of 10^-" + totals.getScale()
+                + ", not 10^-" + scale);
+        untrack(totals);
+        groups = Arrays.copyOf(groups, groups.length + 1);
+        groups[groups.length - 1] = totals.add(group, units);
+    }
+
+    public boolean untrack(RunningTotals totals) {
+        for (int i = 0; i < groups.length; i++) {
+            RunningTotals.Group group = groups[i];
+            if (group.owner != totals) continue;
+            group.units.add(-units);
+            group.count.decrement();
+            groups[i] = groups[groups.length - 1];
+            groups = Arrays.copyOf(groups, groups.length - 1);
+            return true;
+        }
+        return false;
+    }
+
+    public void set(long units) {
+        long delta = units - this.units;
+        if (delta == 0) return;
+        this.units = units;
+        for (RunningTotals.Group group : groups) group.units.add(delta);
+    }
+}
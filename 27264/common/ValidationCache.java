@@ -0,0 +1,220 @@
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// A bounded memo of FieldRules outcomes, shared by every program's constructors and validators once
+// passed to FieldRules.useCache. Each cached value keeps two bits per rule: whether the rule has run
+// on it and whether it passed, so one entry answers every rule for a value that appears on many rows.
+//
+// Eviction follows W-TinyLFU, with slots read and replaced without locks. A miss always goes into a
+// small window, one slot per 32 in the main table, so a value checked by a validator and then by a
+// constructor is found the second time. A value pushed out of the window takes a slot in its set of
+// four in the main table only when a frequency sketch has seen it more often than the least used
+// value there. Values that appear on one row each, like a patient's email, therefore do not push
+// out the hospital emails and phones that repeat on thousands of rows. The sketch's counters are
+// halved after every ten accesses per slot, so values that stop appearing fade out.
+public final class ValidationCache {
+    public static final int DEFAULT_MAX_SIZE = 1 << 16;
+    private static final int WAYS = 4;
+    private static final int WINDOW_SHARE = 32;
+    private static final int SAMPLE_FACTOR = 10;
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+        0xcbf29ce484222325L };
+    // Rough heap cost of one cached value besides its characters: the entry and the String with its array
+    static final int ENTRY_BYTES = 24 + 40;
+
+    private static final class Entry {
+        final String value;
+        final int hash;
+        final int bits;
+
+        Entry(String value, int hash, int bits) {
+            this.value = value;
+            this.hash = hash;
+            this.bits = bits;
+        }
+    }
+
+    // The main table's slots, then the window's
+    private final AtomicReferenceArray<Entry> slots;
+    private final int setMask;
+    private final int window;
+    private final int windowMask;
+    // 16 four-bit counters per long. Updated without locks: a lost count only makes an admission less exact.
+    private final long[] counters;
+    private final int counterMask;
+    private final int sampleSize;
+    private int additions;
+    // Counted without atomics too, since a CAS on every lookup costs more than most rules. Threads
+    // may lose a few counts, which leaves the hit rate about right.
+    private long hits;
+    private long misses;
+    private final LongAdder evictions = new LongAdder();
+
+    public ValidationCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    // Holds about maxSize values in its main table, rounded up to a power of two, and a window 1/32 that size.
+    public ValidationCache(int maxSize) {
+        if (maxSize < WAYS || maxSize > 1 << 28)
+            throw new IllegalArgumentException("Cache size must be between " + WAYS + " and " + (1 << 28));
+        int capacity = Integer.highestOneBit(maxSize - 1) << 1;
+        int windowSize = Math.max(1, capacity / WINDOW_SHARE);
+        slots = new AtomicReferenceArray<>(capacity + windowSize);
+        setMask = capacity / WAYS - 1;
+        window = capacity;
+        windowMask = windowSize - 1;
+        counters = new long[Math.max(1, capacity / 2)];
+        counterMask = counters.length * 16 - 1;
+        sampleSize = SAMPLE_FACTOR * capacity;
+    }
+
+    // The cache sized by -Dvalidation.cacheSize, or null when the property is not set.
+    static ValidationCache fromProperty() {
+        Integer size = Integer.getInteger("validation.cacheSize");
+        return size == null ? null : new ValidationCache(size);
+    }
+
+    // The outcome of FieldRules rule on a non-null value, computed once while the value stays cached.
+    boolean test(int rule, String value) {
+        int known = 1 << (2 * rule);
+        int passed = known << 1;
+        int hash = spread(value.hashCode());
+        int set = (hash & setMask) * WAYS;
+        count(hash);
+        for (int way = 0; way < WAYS; way++) {
+            Entry entry = slots.get(set + way);
+            if (entry != null && entry.hash == hash && entry.value.equals(value))
+                return test(rule, entry, set + way);
+        }
+        int slot = window + ((hash >>> 16) & windowMask);
+        Entry entry = slots.get(slot);
+        if (entry != null && entry.hash == hash && entry.value.equals(value)) return test(rule, entry, slot);
+        misses++;
+        boolean result = FieldRules.check(rule, value);
+        if (slots.compareAndSet(slot, entry, new Entry(value, hash, known | (result ? passed : 0))) && entry != null)
+            admit(entry, (entry.hash & setMask) * WAYS);
+        return result;
+    }
+
+    private boolean test(int rule, Entry entry, int slot) {
+        int known = 1 << (2 * rule);
+        int passed = known << 1;
+        if ((entry.bits & known) != 0) {
+            hits++;
+            return (entry.bits & passed) != 0;
+        }
+        misses++;
+        boolean result = FieldRules.check(rule, entry.value);
+        slots.compareAndSet(slot, entry, new Entry(entry.value, entry.hash, entry.bits | known | (result ? passed : 0)));
+        return result;
+    }
+
+    private void admit(Entry candidate, int set) {
+        Entry victim = null;
+        int victimSlot = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (int way = 0; way < WAYS; way++) {
+            Entry entry = slots.get(set + way);
+            if (entry == null) {
+                if (slots.compareAndSet(set + way, null, candidate)) return;
+                continue;
+            }
+            int frequency = frequency(entry.hash);
+            if (frequency < victimFrequency) {
+                victim = entry;
+                victimSlot = set + way;
+                victimFrequency = frequency;
+            }
+        }
+        if (victim != null && frequency(candidate.hash) > victimFrequency
+                && slots.compareAndSet(victimSlot, victim, candidate))
+            evictions.increment();
+    }
+
+    private void count(int hash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = counterIndex(hash, i);
+            int shift = (index & 15) << 2;
+            long word = counters[index >>> 4];
+            if (((word >>> shift) & 0xF) < 15) {
+                counters[index >>> 4] = word + (1L << shift);
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) halve();
+    }
+
+    private int frequency(int hash) {
+        int frequency = 15;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = counterIndex(hash, i);
+            frequency = Math.min(frequency, (int) ((counters[index >>> 4] >>> ((index & 15) << 2)) & 0xF));
+        }
+        return frequency;
+    }
+
+    private int counterIndex(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    private void halve() {
+        for (int i = 0; i < counters.length; i++) counters[i] = (counters[i] >>> 1) & 0x7777777777777777L;
+        additions = sampleSize / 2;
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions.sum(); }
+    // The main table and the window together
+    public int getMaxSize() { return slots.length(); }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) size++;
+        }
+        return size;
+    }
+
+    // An estimate of the heap the cache holds: its slots, its sketch and each cached value at one
+    // byte per character. Values that records still refer to are counted too.
+    public long getEstimatedBytes() {
+        long bytes = 16 + 4L * slots.length() + 16 + 8L * counters.length;
+        for (int i = 0; i < slots.length(); i++) {
+            Entry entry = slots.get(i);
+            if (entry != null) bytes += ENTRY_BYTES + ((entry.value.length() + 7) & ~7);
+        }
+        return bytes;
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) slots.set(i, null);
+        for (int i = 0; i < counters.length; i++) counters[i] = 0;
+        additions = 0;
+        hits = 0;
+        misses = 0;
+        evictions.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d values, %d hits, %d misses (%.1f%% hits), %d evictions, about %d KB",
+            size(), getMaxSize(), getHits(), getMisses(), getHitRate() * 100, getEvictions(),
+            getEstimatedBytes() / 1024);
+    }
+}
@@ -0,0 +1,147 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Checks that ValidationCache answers every FieldRules rule as the rule itself does, while values
+// are evicted and from several threads at once, and that repeated values stay cached. Run with
+// java ValidationCacheTest from common/; it throws at the first failure and prints a summary when
+// everything passes.
+public class ValidationCacheTest {
+    private static final int[] RULES = { FieldRules.PHONE, FieldRules.EMAIL, FieldRules.CODE, FieldRules.ALPHANUMERIC };
+    // Edge cases for each rule, including non-ASCII digits and letters and the line terminators
+    // that the email rule's '.' does not match
+    private static final String[] EDGES = {
+        "", " ", "0781234567", "078123456", "07812345678", "078123456a",
+        "\u0660\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668\u0669",
+        "a@b", "a@", "@b", "a b@c", "a+_.-@x", "a@\n", "a@b\r", "a@\u2028", "a@\u0085x",
+        "ab", "abc", "ABC123", "abc!", "\u00e9t\u00e9", "x", "123"
+    };
+    private static int checks;
+
+    public static void main(String[] args) throws InterruptedException {
+        List<String> values = values();
+        checkAnswers(new ValidationCache(1 << 16), values, "a cache holding every value");
+        checkAnswers(new ValidationCache(16), values, "a cache evicting values");
+        checkRepeats();
+        checkThreads(values);
+        checkBounds();
+        checkFieldRules(values);
+        System.out.println("ValidationCacheTest: " + checks + " checks passed");
+    }
+
+    private static List<String> values() {
+        List<String> values = new ArrayList<>();
+        Collections.addAll(values, EDGES);
+        Random random = new Random(1);
+        String characters = "0123456789abcXYZ@._-+ \n";
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder value = new StringBuilder();
+            int length = random.nextInt(14);
+            for (int c = 0; c < length; c++) value.append(characters.charAt(random.nextInt(characters.length())));
+            values.add(value.toString());
+        }
+        return values;
+    }
+
+    private static void checkAnswers(ValidationCache cache, List<String> values, String what) {
+        Random random = new Random(2);
+        for (int pass = 0; pass < 3; pass++) {
+            Collections.shuffle(values, random);
+            for (String value : values) {
+                for (int rule : RULES) {
+                    check(cache.test(rule, value) == FieldRules.check(rule, value),
+                        what + " answers rule " + rule + " for \"" + value + "\"");
+                }
+            }
+        }
+        check(cache.size() <= cache.getMaxSize(), what + " holds at most its size");
+        check(cache.getHits() > 0 && cache.getMisses() > 0, what + " counts hits and misses");
+    }
+
+    // A value checked on many rows stays cached while values seen once pass through.
+    private static void checkRepeats() {
+        ValidationCache cache = new ValidationCache(64);
+        String hot = "info@hospital.rw";
+        cache.test(FieldRules.EMAIL, hot);
+        long hits = cache.getHits();
+        check(cache.test(FieldRules.EMAIL, hot) && cache.getHits() == hits + 1, "a second lookup is a hit");
+        for (int i = 0; i < 2000; i++) {
+            cache.test(FieldRules.EMAIL, "patient" + i + "@mail.rw");
+            if (i % 10 == 0) cache.test(FieldRules.EMAIL, hot);
+        }
+        check(cache.getEvictions() > 0, "values seen more often push out others");
+        hits = cache.getHits();
+        cache.test(FieldRules.EMAIL, hot);
+        check(cache.getHits() == hits + 1, "a repeated value outlasts values seen once");
+
+        cache.clear();
+        check(cache.size() == 0 && cache.getHits() == 0 && cache.getMisses() == 0 && cache.getEvictions() == 0,
+            "clear empties the cache and its counts");
+        cache.test(FieldRules.EMAIL, hot);
+        check(cache.getMisses() == 1, "a cleared value is checked again");
+    }
+
+    private static void checkThreads(List<String> values) throws InterruptedException {
+        ValidationCache cache = new ValidationCache(256);
+        AtomicReference<String> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Random random = new Random(t);
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 200_000 && failure.get() == null; i++) {
+                    String value = values.get(random.nextInt(values.size()));
+                    int rule = RULES[random.nextInt(RULES.length)];
+                    if (cache.test(rule, value) != FieldRules.check(rule, value))
+                        failure.set("rule " + rule + " for \"" + value + "\"");
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) thread.join();
+        check(failure.get() == null, "a cache shared by four threads answers " + failure.get());
+        check(cache.size() <= cache.getMaxSize(), "a shared cache holds at most its size");
+    }
+
+    private static void checkBounds() {
+        for (int size : new int[] { 3, 0, -1, (1 << 28) + 1 }) {
+            try {
+                new ValidationCache(size);
+                check(false, "a cache of " + size + " values is refused");
+            } catch (IllegalArgumentException e) {
+                check(true, "a cache of " + size + " values is refused");
+            }
+        }
+        check(new ValidationCache(4).getMaxSize() >= 4, "the smallest cache can be made");
+        check(new ValidationCache(1000).getMaxSize() == 1024 + 32, "the size is rounded up to a power of two plus a window");
+    }
+
+    private static void checkFieldRules(List<String> values) {
+        ValidationCache cache = new ValidationCache(1024);
+        FieldRules.useCache(cache);
+        try {
+            check(FieldRules.getCache() == cache, "useCache sets the shared cache");
+            for (String value : values) {
+                check(FieldRules.isPhone(value) == FieldRules.check(FieldRules.PHONE, value)
+                    && FieldRules.isEmail(value) == FieldRules.check(FieldRules.EMAIL, value)
+                    && FieldRules.isCode(value) == FieldRules.check(FieldRules.CODE, value)
+                    && FieldRules.isAlphanumeric(value) == FieldRules.check(FieldRules.ALPHANUMERIC, value),
+                    "FieldRules with a cache answers for \"" + value + "\"");
+            }
+            check(!FieldRules.isPhone(null) && !FieldRules.isEmail(null) && !FieldRules.isCode(null)
+                && !FieldRules.isAlphanumeric(null), "null fails every rule without reaching the cache");
+            check(cache.getMisses() > 0, "FieldRules goes through the cache");
+        } finally {
+            FieldRules.useCache(null);
+        }
+        check(FieldRules.getCache() == null, "useCache(null) stops caching");
+    }
+
+    private static void check(boolean passed, String what) {
+        if (!passed)
+            throw new IllegalStateException("Failed: " + what);
+        checks++;
+    }
+}
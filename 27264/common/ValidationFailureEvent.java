@@ -0,0 +1,44 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("records.ValidationFailure")
+@Label("Validation Failure")
+@Category({ "Records", "Validation" })
+@Description("A rule that rejected a record, named as in the program's validator")
+@StackTrace(false)
+public final class ValidationFailureEvent extends Event {
+    @Label("Domain")
+    String domain;
+
+    @Label("Rule")
+    String rule;
+
+    @Label("Message")
+    String message;
+
+    // Called by each *Validator with the rules a row broke.
+    public static void emit(String domain, ValidationResult result) {
+        for (int i = 0; i < result.size(); i++) {
+            ValidationFailureEvent event = new ValidationFailureEvent();
+            if (!event.shouldCommit()) return;
+            event.domain = domain;
+            event.rule = result.rule(i);
+            event.message = result.message(i);
+            event.commit();
+        }
+    }
+
+    // Called by each domain exception's constructor, so a record rejected anywhere is reported once.
+    public static void emit(String domain, String rule, String message) {
+        ValidationFailureEvent event = new ValidationFailureEvent();
+        if (!event.shouldCommit()) return;
+        event.domain = domain;
+        event.rule = rule;
+        event.message = message;
+        event.commit();
+    }
+}
@@ -0,0 +1,38 @@
+import java.util.Arrays;
+
+public final class ValidationResult {
+    private String[] rules = new String[8];
+    private String[] messages = new String[8];
+    private int size;
+
+    public ValidationResult reset() {
+        size = 0;
+        return this;
+    }
+
+    public void add(String rule, String message) {
+        if (size == rules.length) {
+            rules = Arrays.copyOf(rules, size * 2);
+            messages = Arrays.copyOf(messages, size * 2);
+        }
+        rules[size] = rule;
+        messages[size] = message;
+        size++;
+    }
+
+    public boolean isValid() { return size == 0; }
+    public int size() { return size; }
+    public String rule(int index) { return rules[index]; }
+    public String message(int index) { return messages[index]; }
+    public String firstMessage() { return size == 0 ? null : messages[0]; }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) text.append("; ");
+            text.append(messages[i]);
+        }
+        return text.toString();
+    }
+}